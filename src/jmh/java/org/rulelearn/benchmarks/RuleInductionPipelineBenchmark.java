@@ -0,0 +1,226 @@
+/**
+ * Copyright (C) Jerzy Błaszczyński, Marcin Szeląg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.rulelearn.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.rulelearn.approximations.Union;
+import org.rulelearn.approximations.Union.UnionType;
+import org.rulelearn.approximations.UnionsWithSingleLimitingDecision;
+import org.rulelearn.approximations.VCDominanceBasedRoughSetCalculator;
+import org.rulelearn.classification.SimpleClassificationResult;
+import org.rulelearn.classification.SimpleRuleClassifier;
+import org.rulelearn.data.InformationTable;
+import org.rulelearn.data.InformationTableBuilder;
+import org.rulelearn.data.InformationTableWithDecisionDistributions;
+import org.rulelearn.data.SimpleDecision;
+import org.rulelearn.measures.dominance.EpsilonConsistencyMeasure;
+import org.rulelearn.rules.CertainRuleInducerComponents;
+import org.rulelearn.rules.EvaluationAndCoverageStoppingConditionChecker;
+import org.rulelearn.rules.RuleInducerComponents;
+import org.rulelearn.rules.RuleSet;
+import org.rulelearn.rules.UnionProvider;
+import org.rulelearn.rules.UnionWithSingleLimitingDecisionRuleDecisionsProvider;
+import org.rulelearn.rules.VCDomLEM;
+import org.rulelearn.rules.ruleml.RuleMLBuilder;
+import org.rulelearn.rules.ruleml.RuleParser;
+
+/**
+ * Benchmarks of the subsequent stages of the rule induction pipeline, performed on {@link SyntheticDataGenerator synthetic data sets}:
+ * <ul>
+ *   <li>building information table from CSV file,</li>
+ *   <li>construction of information table with decision distributions,</li>
+ *   <li>calculation of VC-DRSA approximations of unions of ordered decision classes,</li>
+ *   <li>induction of certain decision rules by VC-DomLEM algorithm,</li>
+ *   <li>classification of all objects from information table by a simple rule classifier,</li>
+ *   <li>parsing of decision rules stored in RuleML format.</li>
+ * </ul>
+ * Each stage is measured separately, using results of preceding stages calculated once per trial.
+ * All benchmarks are parameterized by the number of objects, number of condition attributes, and number of decision classes of the synthetic data set.
+ *
+ * @author Jerzy Błaszczyński (<a href="mailto:jurek.blaszczynski@cs.put.poznan.pl">jurek.blaszczynski@cs.put.poznan.pl</a>)
+ * @author Marcin Szeląg (<a href="mailto:marcin.szelag@cs.put.poznan.pl">marcin.szelag@cs.put.poznan.pl</a>)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+public class RuleInductionPipelineBenchmark {
+
+	/**
+	 * Seed used to generate synthetic data sets.
+	 */
+	static final long SEED = 20181024L;
+
+	/**
+	 * Consistency threshold used to calculate approximations and to induce decision rules.
+	 */
+	static final double CONSISTENCY_THRESHOLD = 0.1;
+
+	@Param({"500", "2000"})
+	int numberOfObjects;
+
+	@Param({"5", "10"})
+	int numberOfAttributes;
+
+	@Param({"3", "5"})
+	int numberOfClasses;
+
+	File metadataFile;
+	File dataFile;
+
+	InformationTable informationTable;
+	InformationTableWithDecisionDistributions informationTableWithDecisionDistributions;
+	UnionsWithSingleLimitingDecision unions;
+	RuleInducerComponents ruleInducerComponents;
+	RuleSet ruleSet;
+	SimpleRuleClassifier classifier;
+	byte[] ruleML;
+
+	/**
+	 * Generates synthetic data set and calculates results of all stages of the pipeline, used as input of subsequent stages.
+	 *
+	 * @throws IOException if it is not possible to write or read synthetic data set
+	 */
+	@Setup(Level.Trial)
+	public void setUp() throws IOException {
+		SyntheticDataGenerator generator = new SyntheticDataGenerator(SEED);
+		this.metadataFile = File.createTempFile("rulelearn-benchmark-", ".json");
+		this.dataFile = File.createTempFile("rulelearn-benchmark-", ".csv");
+		generator.writeMetadata(this.metadataFile, this.numberOfAttributes, this.numberOfClasses);
+		generator.writeData(this.dataFile, this.numberOfObjects, this.numberOfAttributes, this.numberOfClasses);
+
+		this.informationTable = buildInformationTable();
+		this.informationTableWithDecisionDistributions = new InformationTableWithDecisionDistributions(this.informationTable);
+		this.unions = new UnionsWithSingleLimitingDecision(this.informationTableWithDecisionDistributions,
+				new VCDominanceBasedRoughSetCalculator(EpsilonConsistencyMeasure.getInstance(), CONSISTENCY_THRESHOLD));
+		this.ruleInducerComponents = new CertainRuleInducerComponents.Builder().
+				ruleInductionStoppingConditionChecker(new EvaluationAndCoverageStoppingConditionChecker(
+						EpsilonConsistencyMeasure.getInstance(), EpsilonConsistencyMeasure.getInstance(), CONSISTENCY_THRESHOLD)).
+				build();
+		this.ruleSet = generateRules();
+		this.classifier = new SimpleRuleClassifier(this.ruleSet,
+				new SimpleClassificationResult((SimpleDecision)this.informationTable.getOrderedUniqueFullyDeterminedDecisions()[0]));
+		this.ruleML = new RuleMLBuilder().toRuleMLString(this.ruleSet, 1).getBytes(StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Deletes files with synthetic data set.
+	 */
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		this.metadataFile.delete();
+		this.dataFile.delete();
+	}
+
+	/**
+	 * Benchmark of {@link InformationTableBuilder#buildFromCSVFile(String, String, boolean, char)}.
+	 *
+	 * @return built information table
+	 * @throws IOException if it is not possible to read synthetic data set
+	 */
+	@Benchmark
+	public InformationTable buildInformationTable() throws IOException {
+		return InformationTableBuilder.buildFromCSVFile(this.metadataFile.getPath(), this.dataFile.getPath(), false, SyntheticDataGenerator.SEPARATOR);
+	}
+
+	/**
+	 * Benchmark of {@link InformationTableWithDecisionDistributions#InformationTableWithDecisionDistributions(InformationTable)}.
+	 *
+	 * @return constructed information table with decision distributions
+	 */
+	@Benchmark
+	public InformationTableWithDecisionDistributions constructInformationTableWithDecisionDistributions() {
+		return new InformationTableWithDecisionDistributions(this.informationTable);
+	}
+
+	/**
+	 * Benchmark of calculation of lower and upper approximations of all {@link UnionsWithSingleLimitingDecision unions}.
+	 *
+	 * @return total size of calculated lower and upper approximations
+	 */
+	@Benchmark
+	public int calculateApproximations() {
+		UnionsWithSingleLimitingDecision calculatedUnions = new UnionsWithSingleLimitingDecision(this.informationTableWithDecisionDistributions,
+				new VCDominanceBasedRoughSetCalculator(EpsilonConsistencyMeasure.getInstance(), CONSISTENCY_THRESHOLD));
+		int size = 0;
+
+		for (Union union : calculatedUnions.getUpwardUnions(true)) {
+			size += union.getLowerApproximation().size() + union.getUpperApproximation().size();
+		}
+		for (Union union : calculatedUnions.getDownwardUnions(true)) {
+			size += union.getLowerApproximation().size() + union.getUpperApproximation().size();
+		}
+
+		return size;
+	}
+
+	/**
+	 * Benchmark of {@link VCDomLEM#generateRules()}, for both upward and downward unions.
+	 *
+	 * @return generated certain decision rules
+	 */
+	@Benchmark
+	public RuleSet generateRules() {
+		UnionWithSingleLimitingDecisionRuleDecisionsProvider ruleDecisionsProvider = new UnionWithSingleLimitingDecisionRuleDecisionsProvider();
+
+		return RuleSet.join(
+				new VCDomLEM(this.ruleInducerComponents, new UnionProvider(UnionType.AT_LEAST, this.unions), ruleDecisionsProvider).generateRules(),
+				new VCDomLEM(this.ruleInducerComponents, new UnionProvider(UnionType.AT_MOST, this.unions), ruleDecisionsProvider).generateRules());
+	}
+
+	/**
+	 * Benchmark of {@link SimpleRuleClassifier#classifyAll(InformationTable)}.
+	 *
+	 * @return classification results
+	 */
+	@Benchmark
+	public SimpleClassificationResult[] classifyAll() {
+		return this.classifier.classifyAll(this.informationTable);
+	}
+
+	/**
+	 * Benchmark of {@link RuleParser#parseRules(java.io.InputStream)}.
+	 *
+	 * @return parsed rule sets
+	 */
+	@Benchmark
+	public Map<Integer, RuleSet> parseRules() {
+		return new RuleParser(this.informationTable.getAttributes()).parseRules(new ByteArrayInputStream(this.ruleML));
+	}
+
+}
@@ -0,0 +1,131 @@
+/**
+ * Copyright (C) Jerzy Błaszczyński, Marcin Szeląg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.rulelearn.benchmarks;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+/**
+ * Generator of synthetic, reproducible data sets used by benchmarks. Each data set consists of a JSON file with metadata (attributes)
+ * and a CSV file with objects, both readable by {@link org.rulelearn.data.InformationTableBuilder#buildFromCSVFile(String, String, boolean, char)}.<br>
+ * <br>
+ * All condition attributes are gain-type integer attributes with values from the range [0, {@link #MAX_EVALUATION}].
+ * The decision attribute is a gain-type enumeration attribute whose value is (roughly) monotonically dependent on the mean evaluation of an object.
+ * A fraction of objects, equal to {@link #NOISE_LEVEL}, is assigned a random class, so that the data contain inconsistencies
+ * with respect to the dominance principle.
+ *
+ * @author Jerzy Błaszczyński (<a href="mailto:jurek.blaszczynski@cs.put.poznan.pl">jurek.blaszczynski@cs.put.poznan.pl</a>)
+ * @author Marcin Szeląg (<a href="mailto:marcin.szelag@cs.put.poznan.pl">marcin.szelag@cs.put.poznan.pl</a>)
+ */
+public class SyntheticDataGenerator {
+
+	/**
+	 * Maximal evaluation of an object on a condition attribute.
+	 */
+	public static final int MAX_EVALUATION = 9;
+
+	/**
+	 * Fraction of objects that are assigned a random class.
+	 */
+	public static final double NOISE_LEVEL = 0.05;
+
+	/**
+	 * Separator of fields used in generated CSV files.
+	 */
+	public static final char SEPARATOR = ',';
+
+	/**
+	 * Seed of the random number generator, ensuring that the same data set is generated for the same parameters.
+	 */
+	final long seed;
+
+	/**
+	 * Constructs this generator.
+	 *
+	 * @param seed seed of the random number generator
+	 */
+	public SyntheticDataGenerator(long seed) {
+		this.seed = seed;
+	}
+
+	/**
+	 * Writes JSON file with metadata of a synthetic data set.
+	 *
+	 * @param metadataFile target file
+	 * @param numberOfAttributes number of condition attributes
+	 * @param numberOfClasses number of decision classes
+	 * @throws IOException if it is not possible to write given file
+	 */
+	public void writeMetadata(File metadataFile, int numberOfAttributes, int numberOfClasses) throws IOException {
+		try (PrintWriter writer = new PrintWriter(new OutputStreamWriter(new FileOutputStream(metadataFile), StandardCharsets.UTF_8))) {
+			writer.println("[");
+			for (int i = 0; i < numberOfAttributes; i++) {
+				writer.println("  {\"name\": \"a" + i + "\", \"active\": true, \"type\": \"condition\", \"valueType\": \"integer\", \"preferenceType\": \"gain\"},");
+			}
+			StringBuilder domain = new StringBuilder();
+			for (int i = 0; i < numberOfClasses; i++) {
+				domain.append(i > 0 ? ", " : "").append('"').append(i).append('"');
+			}
+			writer.println("  {\"name\": \"class\", \"active\": true, \"type\": \"decision\", \"valueType\": \"enumeration\", \"domain\": [" + domain + "], \"preferenceType\": \"gain\"}");
+			writer.println("]");
+		}
+	}
+
+	/**
+	 * Writes CSV file (without header) with objects of a synthetic data set.
+	 *
+	 * @param dataFile target file
+	 * @param numberOfObjects number of objects
+	 * @param numberOfAttributes number of condition attributes
+	 * @param numberOfClasses number of decision classes
+	 * @throws IOException if it is not possible to write given file
+	 */
+	public void writeData(File dataFile, int numberOfObjects, int numberOfAttributes, int numberOfClasses) throws IOException {
+		Random random = new Random(this.seed);
+		int[] evaluations = new int[numberOfAttributes];
+		int sum;
+		int decisionClass;
+
+		try (PrintWriter writer = new PrintWriter(new OutputStreamWriter(new FileOutputStream(dataFile), StandardCharsets.UTF_8))) {
+			for (int objectIndex = 0; objectIndex < numberOfObjects; objectIndex++) {
+				sum = 0;
+				for (int i = 0; i < numberOfAttributes; i++) {
+					evaluations[i] = random.nextInt(MAX_EVALUATION + 1);
+					sum += evaluations[i];
+				}
+
+				if (random.nextDouble() < NOISE_LEVEL) {
+					decisionClass = random.nextInt(numberOfClasses);
+				} else {
+					decisionClass = Math.min(numberOfClasses - 1, (sum * numberOfClasses) / (numberOfAttributes * MAX_EVALUATION + 1));
+				}
+
+				for (int i = 0; i < numberOfAttributes; i++) {
+					writer.print(evaluations[i]);
+					writer.print(SEPARATOR);
+				}
+				writer.println(decisionClass);
+			}
+		}
+	}
+
+}
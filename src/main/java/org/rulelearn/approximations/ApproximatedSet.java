@@ -18,20 +18,25 @@ package org.rulelearn.approximations;
 
 import static org.rulelearn.core.Precondition.notNull;
 
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import org.rulelearn.core.IntBitsetSortedSet;
 import org.rulelearn.core.TernaryLogicValue;
 import org.rulelearn.data.Decision;
 import org.rulelearn.data.InformationTable;
 
-import it.unimi.dsi.fastutil.ints.IntBidirectionalIterator;
-import it.unimi.dsi.fastutil.ints.IntLinkedOpenHashSet;
-import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
 import it.unimi.dsi.fastutil.ints.IntSet;
-import it.unimi.dsi.fastutil.ints.IntSets;
 import it.unimi.dsi.fastutil.ints.IntSortedSet;
-import it.unimi.dsi.fastutil.ints.IntSortedSets;
 
 /**
- * Top level class for all sets of objects that can be approximated using the rough set concept.
+ * Top level class for all sets of objects that can be approximated using the rough set concept.<br>
+ * <br>
+ * Approximations and regions of an approximated set are calculated lazily, upon first request, and then memoized as immutable {@link IntBitsetSortedSet bitset sorted sets}.
+ * Memoized sets are published safely, so an approximated set can be shared by threads (e.g., by parallel rule inducers) without external synchronization.
+ * If several threads request the same approximation or region for the first time simultaneously, it may be calculated more than once,
+ * but all threads get the same memoized instance. No lock is held during calculation, so interdependent approximated sets (like complementary unions)
+ * can be processed concurrently without a risk of a deadlock.
  *
  * @author Jerzy Błaszczyński (<a href="mailto:jurek.blaszczynski@cs.put.poznan.pl">jurek.blaszczynski@cs.put.poznan.pl</a>)
  * @author Marcin Szeląg (<a href="mailto:marcin.szelag@cs.put.poznan.pl">marcin.szelag@cs.put.poznan.pl</a>)
@@ -41,17 +46,17 @@ public abstract class ApproximatedSet {
 	/**
 	 * Set of indices of objects belonging to the lower approximation of this approximated set, calculated using the rough set calculator.
 	 */
-	protected IntSortedSet lowerApproximation = null;
+	protected volatile IntSortedSet lowerApproximation = null;
 	
 	/**
 	 * Set of indices of objects belonging to the upper approximation of this approximated set, calculated using the rough set calculator.
 	 */
-	protected IntSortedSet upperApproximation = null;
+	protected volatile IntSortedSet upperApproximation = null;
 	
 	/**
 	 * Set of indices of objects belonging to the boundary of this approximated set.
 	 */
-	protected IntSortedSet boundary = null;
+	protected volatile IntSortedSet boundary = null;
 	
 	/**
 	 * Information table containing, among other objects, the objects belonging to this approximated set.
@@ -66,20 +71,20 @@ public abstract class ApproximatedSet {
 	/**
 	 * Set of indices of objects belonging to the positive region of this approximated set.
 	 */
-	protected IntSet positiveRegion = null;
+	protected volatile IntSet positiveRegion = null;
 	/**
 	 * Set of indices of objects belonging to the negative region of this approximated set.
 	 */
-	protected IntSet negativeRegion = null;
+	protected volatile IntSet negativeRegion = null;
 	/**
 	 * Set of indices of objects belonging to the boundary region of this approximated set.
 	 */
-	protected IntSet boundaryRegion = null;
+	protected volatile IntSet boundaryRegion = null;
 	
 	/**
 	 * Set with indices of objects belonging to this approximated set (so-called positive objects).
 	 */
-	protected IntSortedSet objects = null;
+	protected volatile IntSortedSet objects = null;
 	
 	/**
 	 * Constructs this approximated set using given information table and rough set calculator.
@@ -124,20 +129,23 @@ public abstract class ApproximatedSet {
 	 * @throws NullPointerException if the set with indices of objects belonging to this approximated set cannot be determined
 	 */
 	public IntSortedSet getObjects() {
-		if (this.objects == null) {
+		IntSortedSet objects = this.objects;
+		
+		if (objects == null) {
 			this.findObjects();
+			objects = this.objects;
 			
-			if (this.objects == null) {
+			if (objects == null) {
 				throw new NullPointerException("Cannot determine objects belonging to an approximated set.");
 			}
 		}
 		
-		return this.objects;
+		return objects;
 	}
 	
 	/**
 	 * Calculates and stores in the field {@link #objects} the set with indices of objects belonging to this approximated set (so-called positive objects).
-	 * Stored set should be unmodifiable, as obtained by {@link IntSortedSets#unmodifiable(IntSortedSet)}.
+	 * Stored set should be immutable, like an {@link IntBitsetSortedSet}, and should be assigned to the field only when complete.
 	 */
 	protected abstract void findObjects();
 	
@@ -162,16 +170,38 @@ public abstract class ApproximatedSet {
 //	 */
 //	public abstract IntSortedSet getUncomparableObjects();
 
+	/**
+	 * Memoizes given calculated set, unless another set has already been memoized in the same field (e.g., by another thread).
+	 * 
+	 * @param memoized supplier of the set memoized so far, or {@code null} if no set has been memoized yet
+	 * @param memoizer consumer memoizing given set
+	 * @param calculated newly calculated set
+	 * @param <T> type of memoized set
+	 * @return the set memoized first, which should be returned to all callers
+	 */
+	private synchronized <T extends IntSet> T publishFirst(Supplier<T> memoized, Consumer<T> memoizer, T calculated) {
+		T first = memoized.get();
+		if (first == null) {
+			memoizer.accept(calculated);
+			first = calculated;
+		}
+		return first;
+	}
+	
 	/**
 	 * Gets unmodifiable set of indices of objects belonging to the lower approximation of this approximated set.
 	 * 
 	 * @return unmodifiable set of indices of objects belonging to the lower approximation of this approximated set
 	 */
 	public IntSortedSet getLowerApproximation() {
-		if (this.lowerApproximation == null) {
-			this.lowerApproximation = IntSortedSets.unmodifiable(this.calculateLowerApproximation());
+		IntSortedSet lowerApproximation = this.lowerApproximation;
+		
+		if (lowerApproximation == null) {
+			lowerApproximation = IntBitsetSortedSet.of(this.calculateLowerApproximation());
+			lowerApproximation = this.publishFirst(() -> this.lowerApproximation, set -> this.lowerApproximation = set, lowerApproximation);
 		}
-		return this.lowerApproximation;
+		
+		return lowerApproximation;
 	}
 	
 	/**
@@ -187,10 +217,14 @@ public abstract class ApproximatedSet {
 	 * @return unmodifiable set of indices of objects belonging to the upper approximation of this approximated set
 	 */
 	public IntSortedSet getUpperApproximation() {
-		if (this.upperApproximation == null) {
-			this.upperApproximation = IntSortedSets.unmodifiable(this.calculateUpperApproximation());
+		IntSortedSet upperApproximation = this.upperApproximation;
+		
+		if (upperApproximation == null) {
+			upperApproximation = IntBitsetSortedSet.of(this.calculateUpperApproximation());
+			upperApproximation = this.publishFirst(() -> this.upperApproximation, set -> this.upperApproximation = set, upperApproximation);
 		}
-		return this.upperApproximation;
+		
+		return upperApproximation;
 	}
 	
 	/**
@@ -206,27 +240,22 @@ public abstract class ApproximatedSet {
 	 * @return unmodifiable set of indices of objects belonging to the boundary of this approximated set
 	 */
 	public IntSortedSet getBoundary() {
-		if (this.boundary == null) {
-			IntSortedSet upperApproximation = this.getUpperApproximation();
-			IntSortedSet lowerApproximation = this.getLowerApproximation();
-			IntSortedSet boundary;
-			
-			boundary = new IntLinkedOpenHashSet(upperApproximation.size() - lowerApproximation.size());
-			
-			IntBidirectionalIterator iterator = upperApproximation.iterator();
-			int objectIndex;
+		IntSortedSet boundary = this.boundary;
+		
+		if (boundary == null) {
+			IntBitsetSortedSet upperApproximation = IntBitsetSortedSet.of(this.getUpperApproximation());
+			IntBitsetSortedSet lowerApproximation = IntBitsetSortedSet.of(this.getLowerApproximation());
+			long[] boundaryBitset = new long[upperApproximation.getBitset().length];
 			
-			while (iterator.hasNext()) {
-				objectIndex = iterator.nextInt();
-				if (!lowerApproximation.contains(objectIndex)) {
-					boundary.add(objectIndex);
-				}
+			for (int i = 0; i < boundaryBitset.length; i++) {
+				boundaryBitset[i] = upperApproximation.getWord(i) & ~lowerApproximation.getWord(i);
 			}
 			
-			this.boundary = IntSortedSets.unmodifiable(boundary);
+			boundary = IntBitsetSortedSet.fromBitset(boundaryBitset);
+			boundary = this.publishFirst(() -> this.boundary, set -> this.boundary = set, boundary);
 		}
 		
-		return this.boundary;
+		return boundary;
 	}
 	
 	/**
@@ -238,11 +267,14 @@ public abstract class ApproximatedSet {
 	 * @return unmodifiable set of indices of objects belonging to the positive region of this approximated set
 	 */
 	public IntSet getPositiveRegion() {
-		if (this.positiveRegion == null) { //positive region not calculated yet
-			this.positiveRegion = IntSets.unmodifiable(this.calculatePositiveRegion(this.getLowerApproximation()));
+		IntSet positiveRegion = this.positiveRegion;
+		
+		if (positiveRegion == null) { //positive region not calculated yet
+			positiveRegion = IntBitsetSortedSet.of(this.calculatePositiveRegion(this.getLowerApproximation()));
+			positiveRegion = this.publishFirst(() -> this.positiveRegion, set -> this.positiveRegion = set, positiveRegion);
 		}
 		
-		return this.positiveRegion;
+		return positiveRegion;
 	}
 	
 	/**
@@ -264,11 +296,14 @@ public abstract class ApproximatedSet {
 	 * @return unmodifiable set of indices of objects belonging to the negative region of this approximated set
 	 */
 	public IntSet getNegativeRegion() {
-		if (this.negativeRegion == null) { //negative region not calculated yet
-			this.negativeRegion = IntSets.unmodifiable(this.calculateNegativeRegion());
+		IntSet negativeRegion = this.negativeRegion;
+		
+		if (negativeRegion == null) { //negative region not calculated yet
+			negativeRegion = IntBitsetSortedSet.of(this.calculateNegativeRegion());
+			negativeRegion = this.publishFirst(() -> this.negativeRegion, set -> this.negativeRegion = set, negativeRegion);
 		}
 		
-		return this.negativeRegion;
+		return negativeRegion;
 	}
 	
 	/**
@@ -287,23 +322,27 @@ public abstract class ApproximatedSet {
 	 * @return unmodifiable set of indices of objects belonging to the boundary region of this approximated set
 	 */
 	public IntSet getBoundaryRegion() {
-		if (this.boundaryRegion == null) { //boundary region not calculated yet
-			IntSet positiveRegion = this.getPositiveRegion();
-			IntSet negativeRegion = this.getNegativeRegion();
+		IntSet boundaryRegion = this.boundaryRegion;
+		
+		if (boundaryRegion == null) { //boundary region not calculated yet
+			IntBitsetSortedSet positiveRegion = IntBitsetSortedSet.of(this.getPositiveRegion());
+			IntBitsetSortedSet negativeRegion = IntBitsetSortedSet.of(this.getNegativeRegion());
 			
 			int objectsCount = this.informationTable.getNumberOfObjects();
-			this.boundaryRegion = new IntOpenHashSet(objectsCount - positiveRegion.size() - negativeRegion.size());
+			long[] boundaryRegionBitset = new long[(objectsCount + 63) >>> 6];
 			
-			for (int i = 0; i < objectsCount; i++) {
-				if (!positiveRegion.contains(i) && !negativeRegion.contains(i)) {
-					this.boundaryRegion.add(i);
-				}
+			for (int i = 0; i < boundaryRegionBitset.length; i++) {
+				boundaryRegionBitset[i] = ~(positiveRegion.getWord(i) | negativeRegion.getWord(i));
+			}
+			if ((objectsCount & 63) != 0) { //clear bits not corresponding to any object
+				boundaryRegionBitset[boundaryRegionBitset.length - 1] &= (1L << objectsCount) - 1L;
 			}
 			
-			this.boundaryRegion = IntSets.unmodifiable(this.boundaryRegion);
+			boundaryRegion = IntBitsetSortedSet.fromBitset(boundaryRegionBitset);
+			boundaryRegion = this.publishFirst(() -> this.boundaryRegion, set -> this.boundaryRegion = set, boundaryRegion);
 		}
 		
-		return this.boundaryRegion;
+		return boundaryRegion;
 	}
 	
 	/**
@@ -0,0 +1,193 @@
+/**
+ * Copyright (C) Jerzy Błaszczyński, Marcin Szeląg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.rulelearn.approximations;
+
+import static org.rulelearn.core.Precondition.notNull;
+
+import java.util.Arrays;
+
+import org.rulelearn.core.IntBitsetSortedSet;
+import org.rulelearn.core.InvalidSizeException;
+import org.rulelearn.core.ReadOnlyArrayReference;
+import org.rulelearn.core.ReadOnlyArrayReferenceLocation;
+import org.rulelearn.measures.ConsistencyMeasure;
+import org.rulelearn.measures.Measure.MeasureType;
+
+import it.unimi.dsi.fastutil.ints.IntArrays;
+import it.unimi.dsi.fastutil.ints.IntIterator;
+import it.unimi.dsi.fastutil.ints.IntSortedSet;
+
+/**
+ * Consistency values of all (positive) objects of a union of decision classes, calculated once using a {@link ConsistencyMeasure consistency measure},
+ * and sorted from the most to the least consistent object. Profile allows to get the (variable consistency) lower approximation of the union
+ * for any consistency threshold, by finding a cutoff in the sorted sequence of consistency values, i.e., without recalculating consistency of any object.
+ * Therefore, it can be used to sweep many consistency thresholds concerning the same union.<br>
+ * <br>
+ * Objects whose consistency is not a number ({@link Double#NaN}) never reach any threshold, so they are not included in the profile.<br>
+ * <br>
+ * This class is immutable.
+ *
+ * @author Jerzy Błaszczyński (<a href="mailto:jurek.blaszczynski@cs.put.poznan.pl">jurek.blaszczynski@cs.put.poznan.pl</a>)
+ * @author Marcin Szeląg (<a href="mailto:marcin.szelag@cs.put.poznan.pl">marcin.szelag@cs.put.poznan.pl</a>)
+ */
+public class ConsistencyProfile {
+
+	/**
+	 * Type of the consistency measure used to calculate this profile.
+	 */
+	final MeasureType measureType;
+
+	/**
+	 * Indices of (positive) objects of the union, sorted from the most to the least consistent object.
+	 */
+	final int[] objectIndices;
+
+	/**
+	 * Consistency values of subsequent objects whose indices are stored in {@link #objectIndices}.
+	 */
+	final double[] consistencies;
+
+	/**
+	 * Constructs consistency profile of given union, calculating consistency of each (positive) object of that union using given consistency measure.
+	 *
+	 * @param union union of decision classes
+	 * @param consistencyMeasure consistency measure used to calculate consistency of each object
+	 * @throws NullPointerException if any of the parameters is {@code null}
+	 */
+	public ConsistencyProfile(Union union, ConsistencyMeasure<Union> consistencyMeasure) {
+		this(notNull(union, "Union for constructed consistency profile is null."),
+				notNull(consistencyMeasure, "Consistency measure for constructed consistency profile is null.").getType(),
+				consistencyMeasure.calculateConsistencies(union));
+	}
+
+	/**
+	 * Constructs consistency profile of given union, using already calculated consistencies of (positive) objects of that union.
+	 *
+	 * @param union union of decision classes
+	 * @param measureType type of the consistency measure used to calculate given consistencies
+	 * @param unionConsistencies consistencies of subsequent objects returned by the iterator of {@link Union#getObjects()},
+	 *        as calculated by {@link ConsistencyMeasure#calculateConsistencies(ApproximatedSet)}
+	 * @throws InvalidSizeException if the number of given consistencies is different than the number of objects of given union
+	 */
+	ConsistencyProfile(Union union, MeasureType measureType, double[] unionConsistencies) {
+		this.measureType = measureType;
+
+		IntSortedSet objects = union.getObjects();
+		if (unionConsistencies.length != objects.size()) {
+			throw new InvalidSizeException("Number of consistencies is different than the number of objects of a union.");
+		}
+		int[] objectIndices = new int[objects.size()];
+		double[] consistencies = new double[objects.size()];
+		int count = 0;
+		IntIterator iterator = objects.iterator();
+		int objectIndex;
+		double consistency;
+
+		for (int k = 0; k < unionConsistencies.length; k++) {
+			objectIndex = iterator.nextInt();
+			consistency = unionConsistencies[k];
+			if (!Double.isNaN(consistency)) {
+				objectIndices[count] = objectIndex;
+				consistencies[count] = consistency;
+				count++;
+			}
+		}
+
+		//sort positions, from the most to the least consistent object (stable, so ties keep ascending order of object indices)
+		int[] order = new int[count];
+		for (int i = 0; i < count; i++) {
+			order[i] = i;
+		}
+		final boolean gain = this.measureType == MeasureType.GAIN;
+		IntArrays.mergeSort(order, (i, j) -> gain ? Double.compare(consistencies[j], consistencies[i]) : Double.compare(consistencies[i], consistencies[j]));
+
+		this.objectIndices = new int[count];
+		this.consistencies = new double[count];
+		for (int i = 0; i < count; i++) {
+			this.objectIndices[i] = objectIndices[order[i]];
+			this.consistencies[i] = consistencies[order[i]];
+		}
+	}
+
+	/**
+	 * Gets type of the consistency measure used to calculate this profile.
+	 *
+	 * @return type of the consistency measure used to calculate this profile
+	 */
+	public MeasureType getMeasureType() {
+		return this.measureType;
+	}
+
+	/**
+	 * Gets indices of (positive) objects of the union, sorted from the most to the least consistent object.
+	 *
+	 * @return indices of (positive) objects of the union, sorted from the most to the least consistent object
+	 */
+	@ReadOnlyArrayReference(at = ReadOnlyArrayReferenceLocation.OUTPUT)
+	public int[] getObjectIndices() {
+		return this.objectIndices;
+	}
+
+	/**
+	 * Gets consistency values of objects whose indices are returned by {@link #getObjectIndices()}, in the same order.
+	 *
+	 * @return consistency values of objects whose indices are returned by {@link #getObjectIndices()}
+	 */
+	@ReadOnlyArrayReference(at = ReadOnlyArrayReferenceLocation.OUTPUT)
+	public double[] getConsistencies() {
+		return this.consistencies;
+	}
+
+	/**
+	 * Gets the number of objects whose consistency reaches given threshold, in the same sense as in
+	 * {@link ConsistencyMeasure#isConsistencyThresholdReached(int, org.rulelearn.approximations.ApproximatedSet, double)}.
+	 * These are the first objects returned by {@link #getObjectIndices()}.
+	 *
+	 * @param threshold threshold on consistency
+	 * @return the number of objects whose consistency reaches given threshold
+	 */
+	public int getNumberOfObjectsReachingThreshold(double threshold) {
+		if (this.measureType != MeasureType.GAIN && this.measureType != MeasureType.COST) {
+			return 0;
+		}
+		//find the first position at which the threshold is not reached (predicate is monotone along the array)
+		int low = 0;
+		int high = this.consistencies.length;
+		int middle;
+		while (low < high) {
+			middle = (low + high) >>> 1;
+			if (this.measureType == MeasureType.GAIN ? this.consistencies[middle] >= threshold : this.consistencies[middle] <= threshold) {
+				low = middle + 1;
+			} else {
+				high = middle;
+			}
+		}
+		return low;
+	}
+
+	/**
+	 * Gets indices of objects whose consistency reaches given threshold, i.e., the (variable consistency) lower approximation of the union
+	 * for given threshold.
+	 *
+	 * @param threshold threshold on consistency
+	 * @return immutable set of indices of objects whose consistency reaches given threshold
+	 */
+	public IntSortedSet getObjectsReachingThreshold(double threshold) {
+		return new IntBitsetSortedSet(Arrays.copyOf(this.objectIndices, getNumberOfObjectsReachingThreshold(threshold)));
+	}
+
+}
@@ -0,0 +1,189 @@
+/**
+ * Copyright (C) Jerzy Błaszczyński, Marcin Szeląg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.rulelearn.approximations;
+
+import static org.rulelearn.core.Precondition.notNull;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.rulelearn.approximations.Union.UnionType;
+import org.rulelearn.data.InformationTable;
+import org.rulelearn.measures.ConsistencyMeasure;
+
+import it.unimi.dsi.fastutil.ints.IntSortedSet;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import it.unimi.dsi.fastutil.objects.ObjectList;
+
+/**
+ * Thread-safe cache of {@link ConsistencyProfile consistency profiles} of unions of decision classes, calculated using a single consistency measure.
+ * Unions are identified by their information table (compared by reference), type, positive objects, and neutral objects, as these determine
+ * consistency of each positive object. Therefore, a profile calculated for a union can be reused for another union instance
+ * concerning the same information table and the same objects, e.g., when unions are rebuilt for subsequent consistency thresholds
+ * (see {@link VCDominanceBasedRoughSetCalculator#VCDominanceBasedRoughSetCalculator(ConsistencyProfileCache, double)}).
+ *
+ * @author Jerzy Błaszczyński (<a href="mailto:jurek.blaszczynski@cs.put.poznan.pl">jurek.blaszczynski@cs.put.poznan.pl</a>)
+ * @author Marcin Szeląg (<a href="mailto:marcin.szelag@cs.put.poznan.pl">marcin.szelag@cs.put.poznan.pl</a>)
+ */
+public class ConsistencyProfileCache {
+
+	/**
+	 * Consistency measure used to calculate cached profiles.
+	 */
+	final ConsistencyMeasure<Union> consistencyMeasure;
+
+	/**
+	 * Cached profiles.
+	 */
+	final ConcurrentHashMap<UnionKey, ConsistencyProfile> profiles;
+
+	/**
+	 * Constructs empty cache of consistency profiles calculated using given consistency measure.
+	 *
+	 * @param consistencyMeasure consistency measure used to calculate cached profiles
+	 * @throws NullPointerException if given consistency measure is {@code null}
+	 */
+	public ConsistencyProfileCache(ConsistencyMeasure<Union> consistencyMeasure) {
+		this.consistencyMeasure = notNull(consistencyMeasure, "Consistency measure for cache of consistency profiles is null.");
+		this.profiles = new ConcurrentHashMap<UnionKey, ConsistencyProfile>();
+	}
+
+	/**
+	 * Gets consistency measure used to calculate cached profiles.
+	 *
+	 * @return consistency measure used to calculate cached profiles
+	 */
+	public ConsistencyMeasure<Union> getConsistencyMeasure() {
+		return this.consistencyMeasure;
+	}
+
+	/**
+	 * Gets consistency profile of given union. Calculates that profile if it is not cached yet.
+	 *
+	 * @param union union of decision classes
+	 * @return consistency profile of given union
+	 * @throws NullPointerException if given union is {@code null}
+	 */
+	public ConsistencyProfile getProfile(Union union) {
+		notNull(union, "Union whose consistency profile should be returned is null.");
+		return this.profiles.computeIfAbsent(new UnionKey(union), key -> new ConsistencyProfile(union, this.consistencyMeasure));
+	}
+
+	/**
+	 * Gets consistency profiles of given unions. Profiles that are not cached yet are calculated together, using
+	 * {@link ConsistencyMeasure#calculateConsistencies(org.rulelearn.approximations.ApproximatedSet[])}, so the consistency measure
+	 * can share calculations among unions.
+	 *
+	 * @param unions unions of decision classes
+	 * @return array with consistency profiles of subsequent unions
+	 * @throws NullPointerException if given array or any of given unions is {@code null}
+	 */
+	public ConsistencyProfile[] getProfiles(Union[] unions) {
+		notNull(unions, "Array of unions whose consistency profiles should be returned is null.");
+		ConsistencyProfile[] consistencyProfiles = new ConsistencyProfile[unions.length];
+		ObjectList<Union> missingUnions = new ObjectArrayList<Union>();
+		
+		for (int i = 0; i < unions.length; i++) {
+			consistencyProfiles[i] = this.profiles.get(new UnionKey(notNull(unions[i], "Union whose consistency profile should be returned is null.")));
+			if (consistencyProfiles[i] == null) {
+				missingUnions.add(unions[i]);
+			}
+		}
+		
+		if (!missingUnions.isEmpty()) {
+			Union[] missingUnionsArray = missingUnions.toArray(new Union[missingUnions.size()]);
+			double[][] consistencies = this.consistencyMeasure.calculateConsistencies(missingUnionsArray);
+			for (int i = 0; i < missingUnionsArray.length; i++) {
+				this.profiles.putIfAbsent(new UnionKey(missingUnionsArray[i]),
+						new ConsistencyProfile(missingUnionsArray[i], this.consistencyMeasure.getType(), consistencies[i]));
+			}
+			for (int i = 0; i < unions.length; i++) {
+				if (consistencyProfiles[i] == null) {
+					consistencyProfiles[i] = this.profiles.get(new UnionKey(unions[i]));
+				}
+			}
+		}
+		
+		return consistencyProfiles;
+	}
+
+	/**
+	 * Gets the number of cached profiles.
+	 *
+	 * @return the number of cached profiles
+	 */
+	public int size() {
+		return this.profiles.size();
+	}
+
+	/**
+	 * Key identifying a union in the cache.
+	 */
+	static final class UnionKey {
+
+		/**
+		 * Information table of the union, compared by reference.
+		 */
+		final InformationTable informationTable;
+
+		/**
+		 * Type of the union.
+		 */
+		final UnionType unionType;
+
+		/**
+		 * Positive objects of the union.
+		 */
+		final IntSortedSet objects;
+
+		/**
+		 * Neutral objects of the union.
+		 */
+		final IntSortedSet neutralObjects;
+
+		/**
+		 * Constructs key of given union.
+		 *
+		 * @param union union of decision classes
+		 */
+		UnionKey(Union union) {
+			this.informationTable = union.getInformationTable();
+			this.unionType = union.getUnionType();
+			this.objects = union.getObjects();
+			this.neutralObjects = union.getNeutralObjects();
+		}
+
+		@Override
+		public boolean equals(Object object) {
+			if (this == object) {
+				return true;
+			}
+			if (!(object instanceof UnionKey)) {
+				return false;
+			}
+			UnionKey other = (UnionKey)object;
+			return this.informationTable == other.informationTable && this.unionType == other.unionType &&
+					this.objects.equals(other.objects) && this.neutralObjects.equals(other.neutralObjects);
+		}
+
+		@Override
+		public int hashCode() {
+			return ((System.identityHashCode(this.informationTable) * 31 + this.unionType.hashCode()) * 31 + this.objects.hashCode()) * 31 + this.neutralObjects.hashCode();
+		}
+
+	}
+
+}
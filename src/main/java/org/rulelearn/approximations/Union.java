@@ -18,19 +18,18 @@ package org.rulelearn.approximations;
 
 import static org.rulelearn.core.Precondition.notNull;
 
+import org.rulelearn.core.IntBitsetSortedSet;
 import org.rulelearn.core.InvalidValueException;
 import org.rulelearn.core.TernaryLogicValue;
 import org.rulelearn.data.Decision;
 import org.rulelearn.data.InformationTableWithDecisionDistributions;
 import org.rulelearn.dominance.DominanceConeCalculator;
+import org.rulelearn.dominance.DominanceIndex;
 
 import it.unimi.dsi.fastutil.ints.IntBidirectionalIterator;
 import it.unimi.dsi.fastutil.ints.IntIterator;
-import it.unimi.dsi.fastutil.ints.IntLinkedOpenHashSet;
-import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
 import it.unimi.dsi.fastutil.ints.IntSet;
 import it.unimi.dsi.fastutil.ints.IntSortedSet;
-import it.unimi.dsi.fastutil.ints.IntSortedSets;
 
 /**
  * Union (sum) of decision classes, concerning set of objects belonging to either of the considered decision classes (these objects are called positive objects).
@@ -78,7 +77,7 @@ public abstract class Union extends ApproximatedSet {
 	 * Reference to complementary union of decision classes that complements this union w.r.t. set of all objects U. This reference is useful, e.g., when calculating the upper approximation of this union using VC-DRSA
 	 * (by complementing the lower approximation of the complementary union). Initialized with {@code null}. Can be updated by {@link #setComplementaryUnion(Union)} method.
 	 */
-	protected Union complementaryUnion = null;
+	protected volatile Union complementaryUnion = null;
 	
 //	/**
 //	 * Set with indices of objects such that this union's limiting decision is uncomparable with their decision.
@@ -89,7 +88,7 @@ public abstract class Union extends ApproximatedSet {
 	/**
 	 * Set of objects from information table that are neither positive nor negative with respect to this union.  
 	 */
-	protected IntSortedSet neutralObjects;
+	protected volatile IntSortedSet neutralObjects;
 	
 	/**
 	 * Constructs union of given type (at least or at most). Stores given information table.<br>
@@ -129,23 +128,22 @@ public abstract class Union extends ApproximatedSet {
 	 */
 	@Override
 	protected void findObjects() {
-		IntSortedSet objects = new IntLinkedOpenHashSet(); //TODO: estimate hash set capacity using distribution of decisions?
-		IntSortedSet uncomparableObjects = new IntLinkedOpenHashSet(); //TODO: estimate hash set capacity using distribution of decisions?
-		
 		int objectsCount = this.informationTable.getNumberOfObjects();
+		long[] objectsBitset = new long[(objectsCount + 63) >>> 6];
+		long[] uncomparableObjectsBitset = new long[objectsBitset.length];
 		
 		for (int i = 0; i < objectsCount; i++) {
 			if (this.isDecisionPositive(this.informationTable.getDecision(i))) {
-				objects.add(i);
+				objectsBitset[i >>> 6] |= 1L << i;
 			} else {
 				if (this.isDecisionNeutral(this.informationTable.getDecision(i))) {
-					uncomparableObjects.add(i);
+					uncomparableObjectsBitset[i >>> 6] |= 1L << i;
 				}
 			}
 		}
 		
-		this.objects = IntSortedSets.unmodifiable(objects);
-		this.neutralObjects = IntSortedSets.unmodifiable(uncomparableObjects);
+		this.neutralObjects = IntBitsetSortedSet.fromBitset(uncomparableObjectsBitset);
+		this.objects = IntBitsetSortedSet.fromBitset(objectsBitset); //set as the last one, as non-null objects indicate that neutral objects are also set
 	}
 	
 	/**
@@ -168,7 +166,7 @@ public abstract class Union extends ApproximatedSet {
 	 * @return {@code true} if given union has been set as a complementary union,
 	 *         {@code false} otherwise 
 	 */
-	public boolean setComplementaryUnion(Union union) {
+	public synchronized boolean setComplementaryUnion(Union union) {
 		//accept change only if the complementary union has not been set nor calculated yet
 		if (this.complementaryUnion == null) {
 			this.complementaryUnion = union;
@@ -189,13 +187,15 @@ public abstract class Union extends ApproximatedSet {
 	 * Gets complementary union of decision classes that complements this union w.r.t. set of all objects U.
 	 * If complementary union has not been previously set
 	 * using {@link #setComplementaryUnion(Union)} method, it is first calculated.
+	 * If complementary union is calculated by several threads simultaneously, all of them get the one that has been set first.
 	 * 
 	 * @return complementary union of decision classes 
 	 */
 	public Union getComplementaryUnion() {
 		if (this.complementaryUnion == null) {
-			this.complementaryUnion = calculateComplementaryUnion();
-			this.complementaryUnion.setComplementaryUnion(this); //set this union as complementary to the returned one
+			Union complementaryUnion = calculateComplementaryUnion();
+			complementaryUnion.setComplementaryUnion(this); //set this union as complementary to the returned one
+			this.setComplementaryUnion(complementaryUnion); //has no effect if complementary union has already been set by another thread
 		}
 		
 		return this.complementaryUnion;
@@ -228,26 +228,18 @@ public abstract class Union extends ApproximatedSet {
 	 */
 	@Override
 	protected IntSet calculateNegativeRegion() {
-		IntSet complementaryUnionPositiveRegion = this.getComplementaryUnion().getPositiveRegion();
-		IntSet positiveRegion = this.getPositiveRegion();
-		
-		IntSet negativeRegion = new IntOpenHashSet();
+		IntBitsetSortedSet complementaryUnionPositiveRegion = IntBitsetSortedSet.of(this.getComplementaryUnion().getPositiveRegion());
+		IntBitsetSortedSet positiveRegion = IntBitsetSortedSet.of(this.getPositiveRegion());
 		
-		IntIterator iterator = complementaryUnionPositiveRegion.iterator();
-		int objectIndex;
+		long[] negativeRegionBitset = new long[complementaryUnionPositiveRegion.getBitset().length];
 		
-		while (iterator.hasNext()) {
-			objectIndex = iterator.nextInt();
-			if (!positiveRegion.contains(objectIndex)) {
-				negativeRegion.add(objectIndex);
-			}
+		for (int i = 0; i < negativeRegionBitset.length; i++) {
+			negativeRegionBitset[i] = complementaryUnionPositiveRegion.getWord(i) & ~positiveRegion.getWord(i);
 		}
 		
-		return negativeRegion;
+		return IntBitsetSortedSet.fromBitset(negativeRegionBitset);
 	}
 	
-
-	
 	/**
 	 * Tells if given decision is positive with respect to this union, i.e., if an object having given decision belongs to this union (is a positive object).
 	 * 
@@ -394,30 +386,55 @@ public abstract class Union extends ApproximatedSet {
 	@Override
 	protected IntSet calculatePositiveRegion(IntSortedSet lowerApproximation) {
 		notNull(lowerApproximation, "Lower approximation for calculation of positive region is null.");
-		IntSet positiveRegion = new IntOpenHashSet(lowerApproximation.size()); //use estimation of the size of calculated positive region
+		long[] positiveRegionBitset = new long[(this.informationTable.getNumberOfObjects() + 63) >>> 6];
 		
 		IntBidirectionalIterator iterator = lowerApproximation.iterator();
 		int objectIndex;
+		long[] dominanceConeBitset;
 		IntSortedSet dominanceCone;
+		IntIterator dominanceConeIterator;
+		int dominanceConeObjectIndex;
+		DominanceIndex dominanceIndex = this.getInformationTable().getDominanceIndex(); //null if dominance cones have to be calculated
 		
 		while (iterator.hasNext()) {
 			objectIndex = iterator.nextInt();
-		
-			switch (this.getUnionType()) {
-			case AT_LEAST:
-				dominanceCone = DominanceConeCalculator.INSTANCE.calculatePositiveInvDCone(objectIndex, this.informationTable); //SIC! hardcoded type of dominance cone
-				break;
-			case AT_MOST:
-				dominanceCone = DominanceConeCalculator.INSTANCE.calculateNegativeDCone(objectIndex, this.informationTable); //SIC! hardcoded type of dominance cone
-				break;
-			default:
-				throw new InvalidValueException("Unexpected union type."); //this should not happen
-			}
 			
-			positiveRegion.addAll(dominanceCone);
+			if (dominanceIndex != null) { //add dominance cone word by word
+				switch (this.getUnionType()) {
+				case AT_LEAST:
+					dominanceConeBitset = dominanceIndex.getInverseDominanceRow(objectIndex); //SIC! hardcoded type of dominance cone
+					break;
+				case AT_MOST:
+					dominanceConeBitset = dominanceIndex.getDominanceRow(objectIndex); //SIC! hardcoded type of dominance cone
+					break;
+				default:
+					throw new InvalidValueException("Unexpected union type."); //this should not happen
+				}
+				
+				for (int w = 0; w < positiveRegionBitset.length; w++) {
+					positiveRegionBitset[w] |= dominanceConeBitset[w];
+				}
+			} else {
+				switch (this.getUnionType()) {
+				case AT_LEAST:
+					dominanceCone = DominanceConeCalculator.INSTANCE.calculatePositiveInvDCone(objectIndex, this.informationTable); //SIC! hardcoded type of dominance cone
+					break;
+				case AT_MOST:
+					dominanceCone = DominanceConeCalculator.INSTANCE.calculateNegativeDCone(objectIndex, this.informationTable); //SIC! hardcoded type of dominance cone
+					break;
+				default:
+					throw new InvalidValueException("Unexpected union type."); //this should not happen
+				}
+				
+				dominanceConeIterator = dominanceCone.iterator();
+				while (dominanceConeIterator.hasNext()) {
+					dominanceConeObjectIndex = dominanceConeIterator.nextInt();
+					positiveRegionBitset[dominanceConeObjectIndex >>> 6] |= 1L << dominanceConeObjectIndex;
+				}
+			}
 		}
 		
-		return positiveRegion;
+		return IntBitsetSortedSet.fromBitset(positiveRegionBitset);
 	}
 	
 	/**
@@ -24,6 +24,7 @@ import org.rulelearn.core.TernaryLogicValue;
 import org.rulelearn.data.Attribute;
 import org.rulelearn.data.AttributePreferenceType;
 import org.rulelearn.data.AttributeType;
+import org.rulelearn.data.CumulativeDecisionDistribution;
 import org.rulelearn.data.Decision;
 import org.rulelearn.data.EvaluationAttribute;
 import org.rulelearn.data.InformationTableWithDecisionDistributions;
@@ -335,6 +336,35 @@ public class UnionWithSingleLimitingDecision extends Union {
 		return includeLimitingDecision;
 	}
 	
+	/**
+	 * Gets the number of objects counted by given distribution of totally ordered decisions, whose decisions are negative with respect to this union
+	 * (see {@link #isDecisionNegative(Decision)}). As all such decisions are either worse or better than limiting decision of this union,
+	 * this number is read from cumulative counts of given distribution in constant time.
+	 * 
+	 * @param decisionDistribution distribution of totally ordered decisions (e.g., of objects from a dominance cone)
+	 * @return the number of objects counted by given distribution, whose decisions are negative with respect to this union,
+	 *         or -1 if limiting decision of this union is not present among ordered decisions of given distribution
+	 * @throws NullPointerException if given distribution is {@code null}
+	 */
+	public int getNegativeCount(CumulativeDecisionDistribution decisionDistribution) {
+		notNull(decisionDistribution, "Decision distribution whose negative objects should be counted is null.");
+		int limitingDecisionIndex = decisionDistribution.getDecisionIndex(this.limitingDecision);
+		
+		if (limitingDecisionIndex < 0) {
+			return -1;
+		}
+		
+		switch (this.unionType) {
+		case AT_LEAST: //negative decisions are worse than limiting decision (or equal, for a strict union)
+			return decisionDistribution.getCumulativeCount(this.includeLimitingDecision ? limitingDecisionIndex : limitingDecisionIndex + 1);
+		case AT_MOST: //negative decisions are better than limiting decision (or equal, for a strict union)
+			return decisionDistribution.getTotalCount() -
+					decisionDistribution.getCumulativeCount(this.includeLimitingDecision ? limitingDecisionIndex + 1 : limitingDecisionIndex);
+		default:
+			throw new InvalidValueException("Unexpected union type."); //this should not happen
+		}
+	}
+	
 	/**
 	 * {@inheritDoc}
 	 * 
@@ -34,6 +34,11 @@ import it.unimi.dsi.fastutil.ints.IntSortedSet;
  * Rough Set Analysis of Classification Data with Missing Values. [In]:
  * L. Polkowski et al. (Eds.): Rough Sets, International Joint Conference, IJCRS 2017, Olsztyn, Poland, July 3–7, 2017, Proceedings, Part I.
  * Lecture Notes in Artificial Intelligence, vol. 10313, Springer, 2017, pp. 552–565. 
+ * 
+ * When many consistency thresholds are considered for the same unions, consistency of each object can be calculated only once per union,
+ * using a {@link ConsistencyProfile consistency profile} (see {@link #calculateLowerApproximations(Union, double[])}).
+ * Moreover, calculators constructed for subsequent thresholds can share a {@link ConsistencyProfileCache cache of consistency profiles},
+ * so unions rebuilt for each threshold reuse profiles calculated for the previous ones.
  *
  * @author Jerzy Błaszczyński (<a href="mailto:jurek.blaszczynski@cs.put.poznan.pl">jurek.blaszczynski@cs.put.poznan.pl</a>)
  * @author Marcin Szeląg (<a href="mailto:marcin.szelag@cs.put.poznan.pl">marcin.szelag@cs.put.poznan.pl</a>)
@@ -50,6 +55,11 @@ public class VCDominanceBasedRoughSetCalculator implements ExtendedDominanceBase
 	 */
 	protected double lowerApproximationConsistencyThreshold;
 	
+	/**
+	 * Cache of consistency profiles used to calculate lower approximations; {@code null} if consistency of objects is calculated directly.
+	 */
+	protected ConsistencyProfileCache consistencyProfileCache = null;
+	
 	/**
 	 * Constructs calculator for specified consistency measure and threshold value used to limit consistency of objects included in 
 	 * extended lower approximation of a union of decision classes. 
@@ -66,6 +76,21 @@ public class VCDominanceBasedRoughSetCalculator implements ExtendedDominanceBase
 		this.lowerApproximationConsistencyMeasure = lowerApproximationConsistencyMeasure;
 		this.lowerApproximationConsistencyThreshold = lowerApproximationConsistencyThreshold;
 	}
+	
+	/**
+	 * Constructs calculator using consistency measure of given cache of consistency profiles, and given threshold value used to limit consistency of objects included in 
+	 * extended lower approximation of a union of decision classes. Lower approximations are read from profiles stored in given cache,
+	 * which are calculated when a union is processed for the first time. Given cache can be shared by calculators using different thresholds.
+	 * 
+	 * @param consistencyProfileCache cache of consistency profiles, defining also consistency measure applied when calculating lower approximation
+	 * @param lowerApproximationConsistencyThreshold threshold for object consistency measures applied when calculating lower approximation
+	 * 
+	 * @throws NullPointerException if given cache is {@code null}
+	 */
+	public VCDominanceBasedRoughSetCalculator(ConsistencyProfileCache consistencyProfileCache, double lowerApproximationConsistencyThreshold) {
+		this(notNull(consistencyProfileCache, "Cache of consistency profiles is null.").getConsistencyMeasure(), lowerApproximationConsistencyThreshold);
+		this.consistencyProfileCache = consistencyProfileCache;
+	}
 		
 	/**
 	 * Gets consistency measure applied when calculating lower approximation.
@@ -84,6 +109,15 @@ public class VCDominanceBasedRoughSetCalculator implements ExtendedDominanceBase
 	public double getLowerApproximationConsistencyThreshold() {
 		return lowerApproximationConsistencyThreshold;
 	}
+	
+	/**
+	 * Gets cache of consistency profiles used to calculate lower approximations.
+	 * 
+	 * @return cache of consistency profiles used to calculate lower approximations, or {@code null} if consistency of objects is calculated directly
+	 */
+	public ConsistencyProfileCache getConsistencyProfileCache() {
+		return consistencyProfileCache;
+	}
 
 	/**
 	 * Calculates extended (variable consistency) lower approximation of a union of decision classes.
@@ -93,6 +127,10 @@ public class VCDominanceBasedRoughSetCalculator implements ExtendedDominanceBase
 	 */
 	@Override
 	public IntSortedSet calculateLowerApproximation(Union union) {
+		if (this.consistencyProfileCache != null) {
+			return this.consistencyProfileCache.getProfile(union).getObjectsReachingThreshold(this.lowerApproximationConsistencyThreshold);
+		}
+		
 		IntSortedSet lowerApproximationObjects = new IntLinkedOpenHashSet();
 		IntIterator unionObjectIndicesIterator  = union.getObjects().iterator();
 		
@@ -106,6 +144,62 @@ public class VCDominanceBasedRoughSetCalculator implements ExtendedDominanceBase
 		return lowerApproximationObjects;
 	}
 	
+	/**
+	 * Calculates consistency profile of a union of decision classes, using consistency measure of this calculator.
+	 * If this calculator uses a cache of consistency profiles, the profile is taken from that cache.
+	 * 
+	 * @param union union of interest
+	 * @return consistency profile of the given union
+	 * @throws NullPointerException if given union is {@code null}
+	 */
+	public ConsistencyProfile calculateConsistencyProfile(Union union) {
+		return this.consistencyProfileCache != null ? this.consistencyProfileCache.getProfile(union) :
+			new ConsistencyProfile(union, this.lowerApproximationConsistencyMeasure);
+	}
+	
+	/**
+	 * Calculates consistency profiles of given unions of decision classes, using consistency measure of this calculator.
+	 * Consistencies of objects of all given unions are calculated together, by {@link ConsistencyMeasure#calculateConsistencies(ApproximatedSet[])},
+	 * so the consistency measure can share calculations among unions. If this calculator uses a cache of consistency profiles,
+	 * calculated profiles are stored in that cache, so subsequent calculation of lower approximations of given unions just reads them.
+	 * 
+	 * @param unions unions of interest, concerning the same information table
+	 * @return array with consistency profiles of subsequent unions
+	 * @throws NullPointerException if given array or any of given unions is {@code null}
+	 */
+	public ConsistencyProfile[] calculateConsistencyProfiles(Union[] unions) {
+		if (this.consistencyProfileCache != null) {
+			return this.consistencyProfileCache.getProfiles(unions);
+		}
+		
+		double[][] consistencies = this.lowerApproximationConsistencyMeasure.calculateConsistencies(notNull(unions, "Array of unions is null."));
+		ConsistencyProfile[] consistencyProfiles = new ConsistencyProfile[unions.length];
+		for (int i = 0; i < unions.length; i++) {
+			consistencyProfiles[i] = new ConsistencyProfile(unions[i], this.lowerApproximationConsistencyMeasure.getType(), consistencies[i]);
+		}
+		return consistencyProfiles;
+	}
+	
+	/**
+	 * Calculates extended (variable consistency) lower approximations of a union of decision classes for each of given consistency thresholds
+	 * (instead of the threshold of this calculator). Consistency of each object of the union is calculated only once.
+	 * 
+	 * @param union union of interest
+	 * @param lowerApproximationConsistencyThresholds thresholds for object consistency measures applied when calculating lower approximations
+	 * @return array of sets of indices of objects belonging to the lower approximations of the given union, one for each given threshold
+	 * @throws NullPointerException if any of the parameters is {@code null}
+	 */
+	public IntSortedSet[] calculateLowerApproximations(Union union, double[] lowerApproximationConsistencyThresholds) {
+		notNull(lowerApproximationConsistencyThresholds, "Array of consistency thresholds is null.");
+		ConsistencyProfile consistencyProfile = calculateConsistencyProfile(union);
+		IntSortedSet[] lowerApproximations = new IntSortedSet[lowerApproximationConsistencyThresholds.length];
+		
+		for (int i = 0; i < lowerApproximationConsistencyThresholds.length; i++) {
+			lowerApproximations[i] = consistencyProfile.getObjectsReachingThreshold(lowerApproximationConsistencyThresholds[i]);
+		}
+		return lowerApproximations;
+	}
+	
 	/**
 	 * Calculates variable consistency upper approximation of a union of decision classes.
 	 *  
@@ -0,0 +1,36 @@
+/**
+ * Copyright (C) Jerzy Błaszczyński, Marcin Szeląg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.rulelearn.classification;
+
+/**
+ * Receiver of simple classification results calculated by a {@link StreamingSimpleClassifier}, as soon as they are available.
+ *
+ * @author Jerzy Błaszczyński (<a href="mailto:jurek.blaszczynski@cs.put.poznan.pl">jurek.blaszczynski@cs.put.poznan.pl</a>)
+ * @author Marcin Szeląg (<a href="mailto:marcin.szelag@cs.put.poznan.pl">marcin.szelag@cs.put.poznan.pl</a>)
+ */
+@FunctionalInterface
+public interface SimpleClassificationResultSink {
+
+	/**
+	 * Accepts classification result of a single object.
+	 *
+	 * @param objectIndex index of classified object in the classified content, counting from zero
+	 * @param classificationResult classification result of classified object
+	 */
+	public void accept(int objectIndex, SimpleClassificationResult classificationResult);
+
+}
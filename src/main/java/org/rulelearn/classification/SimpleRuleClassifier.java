@@ -16,6 +16,11 @@
 
 package org.rulelearn.classification;
 
+import static org.rulelearn.core.Precondition.notNull;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
 import org.rulelearn.core.MeanCalculator;
 import org.rulelearn.core.TernaryLogicValue;
 import org.rulelearn.core.UncomparableException;
@@ -24,11 +29,19 @@ import org.rulelearn.data.SimpleDecision;
 import org.rulelearn.rules.Condition;
 import org.rulelearn.rules.ConditionAtLeast;
 import org.rulelearn.rules.ConditionAtMost;
+import org.rulelearn.rules.CoveringRulesIndex;
 import org.rulelearn.rules.RuleSet;
 import org.rulelearn.types.EvaluationField;
 
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
+
 /**
- * Simple classifier using decision rules to classify each object from an information table to exactly one decision class.
+ * Simple classifier using decision rules to classify each object from an information table to exactly one decision class.<br>
+ * <br>
+ * When classifying all objects from an information table (see {@link #classifyAll(InformationTable)}), rules covering subsequent objects
+ * can be found using a {@link CoveringRulesIndex} built (once) for the rule set of this classifier, instead of checking each rule separately.
+ * Moreover, objects can be classified in parallel, using a fork-join pool. Classification results are the same in all cases.
  *
  * @author Jerzy Błaszczyński (<a href="mailto:jurek.blaszczynski@cs.put.poznan.pl">jurek.blaszczynski@cs.put.poznan.pl</a>)
  * @author Marcin Szeląg (<a href="mailto:marcin.szelag@cs.put.poznan.pl">marcin.szelag@cs.put.poznan.pl</a>)
@@ -41,7 +54,27 @@ public class SimpleRuleClassifier extends RuleClassifier implements SimpleClassi
 	MeanCalculator meanCalculator = null;
 	
 	/**
-	 * Constructs this classifier.
+	 * Maximum number of objects classified by a single task, when objects are classified in parallel.
+	 */
+	static final int OBJECTS_PER_TASK = 256;
+	
+	/**
+	 * Tells if {@link #classifyAll(InformationTable)} should find covering rules using {@link #coveringRulesIndex}.
+	 */
+	boolean useCoveringRulesIndex = true;
+	
+	/**
+	 * Index of rules from the rule set of this classifier. Built on first use.
+	 */
+	CoveringRulesIndex coveringRulesIndex = null;
+	
+	/**
+	 * Fork-join pool used to classify objects in parallel. Equals to {@code null} if objects are classified sequentially.
+	 */
+	ForkJoinPool forkJoinPool = null;
+	
+	/**
+	 * Constructs this classifier. Rules covering objects classified by {@link #classifyAll(InformationTable)} are found using a {@link CoveringRulesIndex}.
 	 * 
 	 * @param ruleSet set of decision rules to be used to classify objects from an information table
 	 * @param defaultClassificationResult default classification result, to be returned by this classifier
@@ -53,6 +86,48 @@ public class SimpleRuleClassifier extends RuleClassifier implements SimpleClassi
 		this.meanCalculator = new MeanCalculator();	
 	}
 	
+	/**
+	 * Constructs this classifier.
+	 * 
+	 * @param ruleSet set of decision rules to be used to classify objects from an information table
+	 * @param defaultClassificationResult default classification result, to be returned by this classifier
+	 *        if it is unable to calculate such result using stored decision rules
+	 * @param useCoveringRulesIndex tells if rules covering objects classified by {@link #classifyAll(InformationTable)} should be found
+	 *        using a {@link CoveringRulesIndex}; if {@code false}, each rule is checked separately
+	 * @throws NullPointerException if any of the parameters is {@code null} 
+	 */
+	public SimpleRuleClassifier(RuleSet ruleSet, SimpleClassificationResult defaultClassificationResult, boolean useCoveringRulesIndex) {
+		this(ruleSet, defaultClassificationResult);
+		this.useCoveringRulesIndex = useCoveringRulesIndex;
+	}
+	
+	/**
+	 * Constructs this classifier, classifying objects in parallel, using given fork-join pool, whenever all objects from an information table
+	 * are classified (see {@link #classifyAll(InformationTable)}). Rules covering classified objects are found using a {@link CoveringRulesIndex}.
+	 * 
+	 * @param ruleSet set of decision rules to be used to classify objects from an information table
+	 * @param defaultClassificationResult default classification result, to be returned by this classifier
+	 *        if it is unable to calculate such result using stored decision rules
+	 * @param forkJoinPool fork-join pool used to classify objects in parallel
+	 * @throws NullPointerException if any of the parameters is {@code null} 
+	 */
+	public SimpleRuleClassifier(RuleSet ruleSet, SimpleClassificationResult defaultClassificationResult, ForkJoinPool forkJoinPool) {
+		this(ruleSet, defaultClassificationResult);
+		this.forkJoinPool = notNull(forkJoinPool, "Fork-join pool used by simple rule classifier is null.");
+	}
+	
+	/**
+	 * Gets index of rules from the rule set of this classifier, building it if necessary.
+	 * 
+	 * @return index of rules from the rule set of this classifier
+	 */
+	public synchronized CoveringRulesIndex getCoveringRulesIndex() {
+		if (this.coveringRulesIndex == null) {
+			this.coveringRulesIndex = new CoveringRulesIndex(this.ruleSet);
+		}
+		return this.coveringRulesIndex;
+	}
+	
 	/**
 	 * Gets default classification result returned by this classifier if it is unable to calculate such a result.
 	 * 
@@ -75,47 +150,61 @@ public class SimpleRuleClassifier extends RuleClassifier implements SimpleClassi
 	 */
 	@Override
 	public SimpleClassificationResult classify(int objectIndex, InformationTable informationTable) {
+		IntList coveringRules = new IntArrayList();
+		for (int i = 0; i < this.ruleSet.size(); i++) {
+			if (this.ruleSet.getRule(i).covers(objectIndex, informationTable)) {
+				coveringRules.add(i);
+			}
+		}
+		return this.classify(coveringRules);
+	}
+	
+	/**
+	 * Calculates classification result using rules covering classified object.
+	 * 
+	 * @param coveringRules indices of rules covering classified object, in ascending order
+	 * @return classification result
+	 */
+	SimpleClassificationResult classify(IntList coveringRules) {
 		SimpleClassificationResult result = this.getDefaultClassificationResult();
 		int decisionAttributeIndex = -1;
 		
 		// calculate classification interval [downLimit, upLimit]
 		Condition<EvaluationField> decision = null;
 		EvaluationField upLimit = null, downLimit = null;
-		for (int i = 0; i < this.ruleSet.size(); i++) {
-			if (this.ruleSet.getRule(i).covers(objectIndex, informationTable)) {
-				decision = this.ruleSet.getRule(i).getDecision();
-				if (decisionAttributeIndex == -1) { // TODO what if decision attribute index changes (for now index from the first covering rule is assigned)
-					decisionAttributeIndex = decision.getAttributeWithContext().getAttributeIndex();
+		for (int j = 0; j < coveringRules.size(); j++) {
+			decision = this.ruleSet.getRule(coveringRules.getInt(j)).getDecision();
+			if (decisionAttributeIndex == -1) { // TODO what if decision attribute index changes (for now index from the first covering rule is assigned)
+				decisionAttributeIndex = decision.getAttributeWithContext().getAttributeIndex();
+			}
+			if (decision instanceof ConditionAtLeast<?>) {
+				if (upLimit == null) {
+					upLimit = decision.getLimitingEvaluation();
 				}
-				if (decision instanceof ConditionAtLeast<?>) {
-					if (upLimit == null) {
-						upLimit = decision.getLimitingEvaluation();
-					}
-					else {
-						try {
-							if (decision.getLimitingEvaluation().compareToEx(upLimit) > 0) {
-								upLimit = decision.getLimitingEvaluation();
-							}
-						}
-						catch (UncomparableException ex) {
-							System.out.println("Uncomparable decision values detected during comparison: " + ex.toString());
+				else {
+					try {
+						if (decision.getLimitingEvaluation().compareToEx(upLimit) > 0) {
+							upLimit = decision.getLimitingEvaluation();
 						}
 					}
-				}
-				else if (decision instanceof ConditionAtMost<?>) {
-					if (downLimit == null) {
-						downLimit = decision.getLimitingEvaluation();
+					catch (UncomparableException ex) {
+						System.out.println("Uncomparable decision values detected during comparison: " + ex.toString());
 					}
-					else {
-						try {
-							if (decision.getLimitingEvaluation().compareToEx(downLimit) < 0) {
-								downLimit = decision.getLimitingEvaluation();
-							}
-						}
-						catch (UncomparableException ex) {
-							System.out.println("Uncomparable decision values detected during comparison: " + ex.toString());
+				}
+			}
+			else if (decision instanceof ConditionAtMost<?>) {
+				if (downLimit == null) {
+					downLimit = decision.getLimitingEvaluation();
+				}
+				else {
+					try {
+						if (decision.getLimitingEvaluation().compareToEx(downLimit) < 0) {
+							downLimit = decision.getLimitingEvaluation();
 						}
 					}
+					catch (UncomparableException ex) {
+						System.out.println("Uncomparable decision values detected during comparison: " + ex.toString());
+					}
 				}
 			}
 		}
@@ -151,10 +240,90 @@ public class SimpleRuleClassifier extends RuleClassifier implements SimpleClassi
 	@Override
 	public SimpleClassificationResult[] classifyAll(InformationTable informationTable) {
 		SimpleClassificationResult[] classificationResults = new SimpleClassificationResult[informationTable.getNumberOfObjects()];
-		for (int i = 0; i < classificationResults.length; i++) {
-			classificationResults[i] = this.classify(i, informationTable);
+		if (!this.useCoveringRulesIndex) {
+			for (int i = 0; i < classificationResults.length; i++) {
+				classificationResults[i] = this.classify(i, informationTable);
+			}
+		} else if (this.forkJoinPool != null && classificationResults.length > OBJECTS_PER_TASK) {
+			this.forkJoinPool.invoke(new ClassificationTask(0, classificationResults.length, informationTable, this.getCoveringRulesIndex(), classificationResults));
+		} else {
+			this.classifyAll(0, classificationResults.length, informationTable, this.getCoveringRulesIndex(), classificationResults);
 		}
 		return classificationResults;
 	}
+	
+	/**
+	 * Classifies objects from given range, using given index to find covering rules.
+	 * 
+	 * @param fromObjectIndex index of the first classified object (inclusive)
+	 * @param toObjectIndex index of the last classified object (exclusive)
+	 * @param informationTable information table containing classified objects
+	 * @param coveringRulesIndex index of rules from the rule set of this classifier
+	 * @param classificationResults array where classification results are stored, at indices of classified objects
+	 */
+	void classifyAll(int fromObjectIndex, int toObjectIndex, InformationTable informationTable, CoveringRulesIndex coveringRulesIndex,
+			SimpleClassificationResult[] classificationResults) {
+		IntList coveringRules = new IntArrayList();
+		for (int i = fromObjectIndex; i < toObjectIndex; i++) {
+			coveringRulesIndex.getCoveringRules(i, informationTable, coveringRules);
+			classificationResults[i] = this.classify(coveringRules);
+		}
+	}
+	
+	/**
+	 * Task classifying a range of objects. Ranges longer than {@link SimpleRuleClassifier#OBJECTS_PER_TASK} are split into halves.
+	 */
+	@SuppressWarnings("serial")
+	private class ClassificationTask extends RecursiveAction {
+		/**
+		 * Index of the first object of the processed range (inclusive).
+		 */
+		final int fromObjectIndex;
+		/**
+		 * Index of the last object of the processed range (exclusive).
+		 */
+		final int toObjectIndex;
+		/**
+		 * Information table containing classified objects.
+		 */
+		final InformationTable informationTable;
+		/**
+		 * Index of rules from the rule set of this classifier.
+		 */
+		final CoveringRulesIndex coveringRulesIndex;
+		/**
+		 * Array where classification results are stored.
+		 */
+		final SimpleClassificationResult[] classificationResults;
+		
+		/**
+		 * Constructs this task.
+		 * 
+		 * @param fromObjectIndex index of the first object of the processed range (inclusive)
+		 * @param toObjectIndex index of the last object of the processed range (exclusive)
+		 * @param informationTable information table containing classified objects
+		 * @param coveringRulesIndex index of rules from the rule set of this classifier
+		 * @param classificationResults array where classification results are stored
+		 */
+		ClassificationTask(int fromObjectIndex, int toObjectIndex, InformationTable informationTable, CoveringRulesIndex coveringRulesIndex,
+				SimpleClassificationResult[] classificationResults) {
+			this.fromObjectIndex = fromObjectIndex;
+			this.toObjectIndex = toObjectIndex;
+			this.informationTable = informationTable;
+			this.coveringRulesIndex = coveringRulesIndex;
+			this.classificationResults = classificationResults;
+		}
+		
+		@Override
+		protected void compute() {
+			if (this.toObjectIndex - this.fromObjectIndex <= OBJECTS_PER_TASK) {
+				classifyAll(this.fromObjectIndex, this.toObjectIndex, this.informationTable, this.coveringRulesIndex, this.classificationResults);
+			} else {
+				int middleObjectIndex = (this.fromObjectIndex + this.toObjectIndex) >>> 1;
+				invokeAll(new ClassificationTask(this.fromObjectIndex, middleObjectIndex, this.informationTable, this.coveringRulesIndex, this.classificationResults),
+						new ClassificationTask(middleObjectIndex, this.toObjectIndex, this.informationTable, this.coveringRulesIndex, this.classificationResults));
+			}
+		}
+	}
 
 }
@@ -0,0 +1,152 @@
+/**
+ * Copyright (C) Jerzy Błaszczyński, Marcin Szeląg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.rulelearn.classification;
+
+import static org.rulelearn.core.Precondition.notNull;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.function.Consumer;
+
+import org.rulelearn.core.InvalidValueException;
+import org.rulelearn.data.InformationTable;
+import org.rulelearn.data.csv.ObjectParser;
+
+/**
+ * Classifier of objects read from a stream (in CSV or JSON format), employing a {@link SimpleClassifier}.
+ * Objects are parsed one by one, using attributes of an object parser, and classified in batches of bounded size,
+ * each batch being a separate {@link InformationTable}. Classification results are passed to a {@link SimpleClassificationResultSink}
+ * as soon as the whole batch is classified. Therefore, only one batch is stored in memory at the same time,
+ * so contents of arbitrary size can be classified.<br>
+ * <br>
+ * Attributes used to parse objects should be the same as the attributes of the information table from which the rules (or other model)
+ * of the employed classifier have been learned.
+ *
+ * @author Jerzy Błaszczyński (<a href="mailto:jurek.blaszczynski@cs.put.poznan.pl">jurek.blaszczynski@cs.put.poznan.pl</a>)
+ * @author Marcin Szeląg (<a href="mailto:marcin.szelag@cs.put.poznan.pl">marcin.szelag@cs.put.poznan.pl</a>)
+ */
+public class StreamingSimpleClassifier {
+
+	/**
+	 * Default maximal number of objects in one batch.
+	 */
+	public static final int DEFAULT_BATCH_SIZE = 1000;
+
+	/**
+	 * Classifier used to classify batches of objects.
+	 */
+	SimpleClassifier classifier;
+
+	/**
+	 * Maximal number of objects in one batch.
+	 */
+	int batchSize;
+
+	/**
+	 * Constructs this classifier, using {@link #DEFAULT_BATCH_SIZE default batch size}.
+	 *
+	 * @param classifier classifier used to classify batches of objects
+	 * @throws NullPointerException if given classifier is {@code null}
+	 */
+	public StreamingSimpleClassifier(SimpleClassifier classifier) {
+		this(classifier, DEFAULT_BATCH_SIZE);
+	}
+
+	/**
+	 * Constructs this classifier.
+	 *
+	 * @param classifier classifier used to classify batches of objects
+	 * @param batchSize maximal number of objects in one batch
+	 * @throws NullPointerException if given classifier is {@code null}
+	 * @throws InvalidValueException if given batch size is not positive
+	 */
+	public StreamingSimpleClassifier(SimpleClassifier classifier, int batchSize) {
+		this.classifier = notNull(classifier, "Classifier used to classify batches of objects is null.");
+		if (batchSize <= 0) {
+			throw new InvalidValueException("Size of a batch of classified objects must be positive.");
+		}
+		this.batchSize = batchSize;
+	}
+
+	/**
+	 * Gets classifier used to classify batches of objects.
+	 *
+	 * @return classifier used to classify batches of objects
+	 */
+	public SimpleClassifier getClassifier() {
+		return this.classifier;
+	}
+
+	/**
+	 * Gets maximal number of objects in one batch.
+	 *
+	 * @return maximal number of objects in one batch
+	 */
+	public int getBatchSize() {
+		return this.batchSize;
+	}
+
+	/**
+	 * Classifies all objects read from given reader of CSV content, and passes classification results to given sink.
+	 *
+	 * @param reader reader of CSV content
+	 * @param objectParser parser of objects stored in CSV format
+	 * @param sink receiver of classification results of subsequent objects
+	 * @return number of classified objects
+	 * @throws NullPointerException if any of the parameters is {@code null}
+	 */
+	public int classify(Reader reader, ObjectParser objectParser, SimpleClassificationResultSink sink) {
+		notNull(objectParser, "Parser of objects to be classified is null.");
+		return objectParser.parseObjects(reader, this.batchSize, getBatchConsumer(sink));
+	}
+
+	/**
+	 * Classifies all objects read from given reader of JSON content, and passes classification results to given sink.
+	 *
+	 * @param reader reader of JSON content
+	 * @param objectParser parser of objects stored in JSON format
+	 * @param sink receiver of classification results of subsequent objects
+	 * @return number of classified objects
+	 * @throws IOException when something goes wrong with given reader
+	 * @throws NullPointerException if any of the parameters is {@code null}
+	 */
+	public int classify(Reader reader, org.rulelearn.data.json.ObjectParser objectParser, SimpleClassificationResultSink sink) throws IOException {
+		notNull(objectParser, "Parser of objects to be classified is null.");
+		return objectParser.parseObjects(reader, this.batchSize, getBatchConsumer(sink));
+	}
+
+	/**
+	 * Gets consumer of batches of objects, classifying all objects from each batch and passing their classification results to given sink.
+	 *
+	 * @param sink receiver of classification results of subsequent objects
+	 * @return consumer of batches of objects
+	 * @throws NullPointerException if given sink is {@code null}
+	 */
+	Consumer<InformationTable> getBatchConsumer(SimpleClassificationResultSink sink) {
+		notNull(sink, "Receiver of classification results is null.");
+		int[] firstObjectIndex = {0}; // index of the first object of the next batch
+
+		return batch -> {
+			SimpleClassificationResult[] classificationResults = this.classifier.classifyAll(batch);
+			for (int i = 0; i < classificationResults.length; i++) {
+				sink.accept(firstObjectIndex[0] + i, classificationResults[i]);
+			}
+			firstObjectIndex[0] += classificationResults.length;
+		};
+	}
+
+}
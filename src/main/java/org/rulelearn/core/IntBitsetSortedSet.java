@@ -0,0 +1,499 @@
+/**
+ * Copyright (C) Jerzy Błaszczyński, Marcin Szeląg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.rulelearn.core;
+
+import static org.rulelearn.core.Precondition.notNull;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+import it.unimi.dsi.fastutil.ints.AbstractIntSortedSet;
+import it.unimi.dsi.fastutil.ints.IntBidirectionalIterator;
+import it.unimi.dsi.fastutil.ints.IntCollection;
+import it.unimi.dsi.fastutil.ints.IntComparator;
+
+/**
+ * Immutable sorted set of non-negative integers (e.g., indices of objects from an information table), stored both as a sorted array of distinct elements
+ * and as a bitset. Membership test is done in constant time, using the bitset, while iteration follows the sorted array.<br>
+ * <br>
+ * As instances of this class never change, they can be safely shared between threads, and their internal arrays can be used directly (without copying),
+ * e.g., to calculate intersections and unions of sets of objects word by word. Any attempt to modify this set results in an {@link UnsupportedOperationException}.
+ *
+ * @author Jerzy Błaszczyński (<a href="mailto:jurek.blaszczynski@cs.put.poznan.pl">jurek.blaszczynski@cs.put.poznan.pl</a>)
+ * @author Marcin Szeląg (<a href="mailto:marcin.szelag@cs.put.poznan.pl">marcin.szelag@cs.put.poznan.pl</a>)
+ */
+public class IntBitsetSortedSet extends AbstractIntSortedSet {
+
+	/**
+	 * Empty array of elements, shared by all empty sets.
+	 */
+	private static final int[] NO_ELEMENTS = new int[0];
+
+	/**
+	 * Distinct elements of this set, sorted in ascending order.
+	 */
+	final int[] elements;
+
+	/**
+	 * Bitset representing this set; bit {@code i % 64} of word {@code i / 64} is set iff {@code i} belongs to this set.
+	 * Contains as few words as needed to store the greatest element of this set.
+	 */
+	final long[] bitset;
+
+	/**
+	 * Constructs this set from given array of elements and given bitset, both already validated and owned by this set.
+	 *
+	 * @param elements distinct elements sorted in ascending order
+	 * @param bitset bitset corresponding to given elements
+	 */
+	private IntBitsetSortedSet(int[] elements, long[] bitset) {
+		this.elements = elements;
+		this.bitset = bitset;
+	}
+
+	/**
+	 * Constructs this set from given elements. Given array is not modified. Duplicate elements are ignored.
+	 *
+	 * @param elements elements of constructed set, in any order
+	 * @throws NullPointerException if given array is {@code null}
+	 * @throws InvalidValueException if any of given elements is negative
+	 */
+	public IntBitsetSortedSet(int[] elements) {
+		this(fromElements(notNull(elements, "Array of elements of a bitset sorted set is null.")));
+	}
+
+	/**
+	 * Constructs this set from given collection of elements.
+	 *
+	 * @param elements elements of constructed set
+	 * @throws NullPointerException if given collection is {@code null}
+	 * @throws InvalidValueException if any of given elements is negative
+	 */
+	public IntBitsetSortedSet(IntCollection elements) {
+		this(notNull(elements, "Collection of elements of a bitset sorted set is null.").toIntArray());
+	}
+
+	/**
+	 * Copy constructor used by the public constructors.
+	 *
+	 * @param other set whose arrays should be shared by this set
+	 */
+	private IntBitsetSortedSet(IntBitsetSortedSet other) {
+		this(other.elements, other.bitset);
+	}
+
+	/**
+	 * Creates a set from given elements.
+	 *
+	 * @param elements elements of created set, in any order
+	 * @return created set
+	 * @throws InvalidValueException if any of given elements is negative
+	 */
+	private static IntBitsetSortedSet fromElements(int[] elements) {
+		int maxElement = -1;
+		for (int element : elements) {
+			if (element < 0) {
+				throw new InvalidValueException("Elements of a bitset sorted set cannot be negative.");
+			}
+			if (element > maxElement) {
+				maxElement = element;
+			}
+		}
+		long[] bitset = new long[(maxElement >> 6) + 1];
+		for (int element : elements) {
+			bitset[element >> 6] |= 1L << element;
+		}
+		return fromBitset(bitset);
+	}
+
+	/**
+	 * Creates a set from given bitset. Given array is taken over by created set, so it must not be modified afterwards.
+	 *
+	 * @param bitset bitset whose set bits indicate elements of created set
+	 * @return created set
+	 * @throws NullPointerException if given bitset is {@code null}
+	 */
+	public static IntBitsetSortedSet fromBitset(long[] bitset) {
+		notNull(bitset, "Bitset of a bitset sorted set is null.");
+		int lastWordIndex = bitset.length - 1;
+		int size = 0;
+		while (lastWordIndex >= 0 && bitset[lastWordIndex] == 0L) {
+			lastWordIndex--;
+		}
+		for (int i = 0; i <= lastWordIndex; i++) {
+			size += Long.bitCount(bitset[i]);
+		}
+
+		if (size == 0) {
+			return new IntBitsetSortedSet(NO_ELEMENTS, new long[0]);
+		}
+		int[] elements = new int[size];
+		int index = 0;
+		long word;
+		for (int i = 0; i <= lastWordIndex; i++) {
+			word = bitset[i];
+			while (word != 0L) {
+				elements[index++] = (i << 6) + Long.numberOfTrailingZeros(word);
+				word &= word - 1;
+			}
+		}
+		return new IntBitsetSortedSet(elements, lastWordIndex == bitset.length - 1 ? bitset : Arrays.copyOf(bitset, lastWordIndex + 1));
+	}
+
+	/**
+	 * Gets given set as a bitset sorted set. If given set is already an instance of this class, it is returned as is. Otherwise, its elements are copied.
+	 *
+	 * @param elements collection of elements
+	 * @return bitset sorted set with given elements
+	 * @throws NullPointerException if given collection is {@code null}
+	 * @throws InvalidValueException if any of given elements is negative
+	 */
+	public static IntBitsetSortedSet of(IntCollection elements) {
+		return elements instanceof IntBitsetSortedSet ? (IntBitsetSortedSet)elements : new IntBitsetSortedSet(elements);
+	}
+
+	/**
+	 * Gets a set composed of all integers from given interval.
+	 *
+	 * @param fromElement first element of the interval (inclusive)
+	 * @param toElement last element of the interval (exclusive)
+	 * @return set composed of all integers from given interval
+	 * @throws InvalidValueException if given first element is negative
+	 */
+	public static IntBitsetSortedSet interval(int fromElement, int toElement) {
+		if (fromElement < 0) {
+			throw new InvalidValueException("Elements of a bitset sorted set cannot be negative.");
+		}
+		if (fromElement >= toElement) {
+			return new IntBitsetSortedSet(NO_ELEMENTS, new long[0]);
+		}
+		int[] elements = new int[toElement - fromElement];
+		long[] bitset = new long[((toElement - 1) >> 6) + 1];
+		for (int i = 0; i < elements.length; i++) {
+			elements[i] = fromElement + i;
+			bitset[elements[i] >> 6] |= 1L << elements[i];
+		}
+		return new IntBitsetSortedSet(elements, bitset);
+	}
+
+	/**
+	 * Gets the union of given collections of elements. Collections that are bitset sorted sets are processed word by word, without copying their elements.
+	 *
+	 * @param collections collections of elements
+	 * @return set composed of elements of all given collections
+	 * @throws NullPointerException if given array or any of given collections is {@code null}
+	 * @throws InvalidValueException if any of given elements is negative
+	 */
+	public static IntBitsetSortedSet union(IntCollection... collections) {
+		notNull(collections, "Array of collections to be summed is null.");
+		IntBitsetSortedSet[] sets = new IntBitsetSortedSet[collections.length];
+		int wordsCount = 0;
+		for (int i = 0; i < collections.length; i++) {
+			sets[i] = of(notNull(collections[i], "Collection to be summed is null."));
+			wordsCount = Math.max(wordsCount, sets[i].bitset.length);
+		}
+		long[] bitset = new long[wordsCount];
+		for (IntBitsetSortedSet set : sets) {
+			for (int i = 0; i < set.bitset.length; i++) {
+				bitset[i] |= set.bitset[i];
+			}
+		}
+		return fromBitset(bitset);
+	}
+
+	/**
+	 * Gets bitset representing this set. Bit {@code i % 64} of word {@code i / 64} is set iff {@code i} belongs to this set.
+	 * The length of returned array is the smallest one allowing to store the greatest element of this set.
+	 *
+	 * @return bitset representing this set
+	 */
+	@ReadOnlyArrayReference(at = ReadOnlyArrayReferenceLocation.OUTPUT)
+	public long[] getBitset() {
+		return this.bitset;
+	}
+
+	/**
+	 * Gets bitset representing this set, having exactly given number of 64-bit words. If the {@link #getBitset() bitset of this set} has requested length,
+	 * it is returned directly, without copying. Otherwise, a padded copy is returned.
+	 *
+	 * @param wordsCount number of 64-bit words of returned bitset
+	 * @return bitset representing this set, having exactly given number of words
+	 * @throws InvalidValueException if the greatest element of this set cannot be stored using given number of words
+	 */
+	@ReadOnlyArrayReference(at = ReadOnlyArrayReferenceLocation.OUTPUT)
+	public long[] getBitset(int wordsCount) {
+		if (this.bitset.length > wordsCount) {
+			throw new InvalidValueException("Bitset sorted set cannot be stored using " + wordsCount + " words.");
+		}
+		return this.bitset.length == wordsCount ? this.bitset : Arrays.copyOf(this.bitset, wordsCount);
+	}
+
+	/**
+	 * Gets word of the {@link #getBitset() bitset of this set} having given index, or zero if this bitset has less words.
+	 *
+	 * @param wordIndex index of a 64-bit word
+	 * @return word of the bitset of this set having given index
+	 */
+	public long getWord(int wordIndex) {
+		return wordIndex < this.bitset.length ? this.bitset[wordIndex] : 0L;
+	}
+
+	/**
+	 * Gets distinct elements of this set, sorted in ascending order.
+	 *
+	 * @return distinct elements of this set, sorted in ascending order
+	 */
+	@ReadOnlyArrayReference(at = ReadOnlyArrayReferenceLocation.OUTPUT)
+	public int[] getSortedElements() {
+		return this.elements;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean contains(int element) {
+		int wordIndex = element >> 6;
+		return element >= 0 && wordIndex < this.bitset.length && (this.bitset[wordIndex] & (1L << element)) != 0L;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int size() {
+		return this.elements.length;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean isEmpty() {
+		return this.elements.length == 0;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int[] toIntArray() {
+		return this.elements.clone();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public IntBidirectionalIterator iterator() {
+		return new ElementsIterator(0);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * Returned iterator is positioned so that the first call to {@link IntBidirectionalIterator#nextInt()} returns the least element greater than given one.
+	 */
+	@Override
+	public IntBidirectionalIterator iterator(int fromElement) {
+		return new ElementsIterator(position(fromElement + 1));
+	}
+
+	/**
+	 * Gets the number of elements of this set that are smaller than given value.
+	 *
+	 * @param value considered value
+	 * @return the number of elements of this set that are smaller than given value
+	 */
+	private int position(int value) {
+		int position = Arrays.binarySearch(this.elements, value);
+		return position >= 0 ? position : -position - 1;
+	}
+
+	/**
+	 * Gets a set composed of elements of this set whose positions are in given range.
+	 *
+	 * @param fromPosition first position (inclusive)
+	 * @param toPosition last position (exclusive)
+	 * @return set composed of elements from given range of positions
+	 */
+	private IntBitsetSortedSet positionsRange(int fromPosition, int toPosition) {
+		if (fromPosition == 0 && toPosition == this.elements.length) {
+			return this;
+		}
+		return new IntBitsetSortedSet(fromPosition < toPosition ? Arrays.copyOfRange(this.elements, fromPosition, toPosition) : NO_ELEMENTS);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * Returned set is immutable and does not reflect this set.
+	 */
+	@Override
+	public IntBitsetSortedSet subSet(int fromElement, int toElement) {
+		return positionsRange(position(fromElement), position(toElement));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * Returned set is immutable and does not reflect this set.
+	 */
+	@Override
+	public IntBitsetSortedSet headSet(int toElement) {
+		return positionsRange(0, position(toElement));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * Returned set is immutable and does not reflect this set.
+	 */
+	@Override
+	public IntBitsetSortedSet tailSet(int fromElement) {
+		return positionsRange(position(fromElement), this.elements.length);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * Elements of this set are sorted according to their natural order, so this method returns {@code null}.
+	 */
+	@Override
+	public IntComparator comparator() {
+		return null;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int firstInt() {
+		if (this.elements.length == 0) {
+			throw new NoSuchElementException();
+		}
+		return this.elements[0];
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int lastInt() {
+		if (this.elements.length == 0) {
+			throw new NoSuchElementException();
+		}
+		return this.elements[this.elements.length - 1];
+	}
+
+	/**
+	 * Throws {@link UnsupportedOperationException}, as this set is immutable.
+	 *
+	 * @throws UnsupportedOperationException always
+	 */
+	@Override
+	public boolean add(int element) {
+		throw new UnsupportedOperationException("Bitset sorted set cannot be modified.");
+	}
+
+	/**
+	 * Throws {@link UnsupportedOperationException}, as this set is immutable.
+	 *
+	 * @throws UnsupportedOperationException always
+	 */
+	@Override
+	public boolean remove(int element) {
+		throw new UnsupportedOperationException("Bitset sorted set cannot be modified.");
+	}
+
+	/**
+	 * Throws {@link UnsupportedOperationException}, as this set is immutable.
+	 *
+	 * @throws UnsupportedOperationException always
+	 */
+	@Override
+	public void clear() {
+		throw new UnsupportedOperationException("Bitset sorted set cannot be modified.");
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * Compares bitsets if given object is also a bitset sorted set.
+	 */
+	@Override
+	public boolean equals(Object object) {
+		if (object instanceof IntBitsetSortedSet) {
+			return Arrays.equals(this.bitset, ((IntBitsetSortedSet)object).bitset);
+		}
+		return super.equals(object);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int hashCode() {
+		int hashCode = 0;
+		for (int element : this.elements) {
+			hashCode += element;
+		}
+		return hashCode;
+	}
+
+	/**
+	 * Bidirectional iterator over sorted elements of this set, not supporting removal.
+	 */
+	private class ElementsIterator implements IntBidirectionalIterator {
+
+		/**
+		 * Position of the element to be returned by {@link #nextInt()}.
+		 */
+		private int position;
+
+		/**
+		 * Constructs this iterator.
+		 *
+		 * @param position position of the element to be returned by the first call to {@link #nextInt()}
+		 */
+		ElementsIterator(int position) {
+			this.position = position;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return this.position < elements.length;
+		}
+
+		@Override
+		public int nextInt() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			return elements[this.position++];
+		}
+
+		@Override
+		public boolean hasPrevious() {
+			return this.position > 0;
+		}
+
+		@Override
+		public int previousInt() {
+			if (!hasPrevious()) {
+				throw new NoSuchElementException();
+			}
+			return elements[--this.position];
+		}
+
+	}
+
+}
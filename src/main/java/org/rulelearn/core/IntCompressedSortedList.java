@@ -0,0 +1,675 @@
+/**
+ * Copyright (C) Jerzy Błaszczyński, Marcin Szeląg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.rulelearn.core;
+
+import static org.rulelearn.core.Precondition.notNull;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+import it.unimi.dsi.fastutil.ints.AbstractIntList;
+import it.unimi.dsi.fastutil.ints.IntIterator;
+import it.unimi.dsi.fastutil.ints.IntList;
+import it.unimi.dsi.fastutil.ints.IntListIterator;
+import it.unimi.dsi.fastutil.ints.IntSet;
+
+/**
+ * Immutable list of distinct non-negative integers (e.g., indices of objects from an information table), sorted in ascending order, and stored in a compressed form.
+ * Like in roaring bitmaps, elements are split into chunks of 2<sup>16</sup> consecutive integers, and each non-empty chunk is stored in a container
+ * whose type depends on the elements of that chunk - either as a sorted array of 16-bit values (sparse chunk), or as a bitset (dense chunk),
+ * or as a sequence of runs of consecutive values, whichever takes the least memory. Therefore, memory used by this list is proportional to the number
+ * of its elements, or to the number of runs of consecutive elements, rather than to the greatest element.<br>
+ * <br>
+ * The number of elements of this list present in {@link IntBitsetSortedSet bitset sorted sets} is counted word by word,
+ * see {@link #countElementsIn(IntSet...)}. Any attempt to modify this list results in an {@link UnsupportedOperationException}.
+ *
+ * @author Jerzy Błaszczyński (<a href="mailto:jurek.blaszczynski@cs.put.poznan.pl">jurek.blaszczynski@cs.put.poznan.pl</a>)
+ * @author Marcin Szeląg (<a href="mailto:marcin.szelag@cs.put.poznan.pl">marcin.szelag@cs.put.poznan.pl</a>)
+ */
+public class IntCompressedSortedList extends AbstractIntList {
+
+	/**
+	 * Number of bits of an element determining its position within a chunk.
+	 */
+	static final int CHUNK_BITS = 16;
+
+	/**
+	 * Number of 64-bit words of a bitset container.
+	 */
+	static final int BITSET_CONTAINER_WORDS = (1 << CHUNK_BITS) >> 6;
+
+	/**
+	 * Keys of subsequent non-empty chunks, i.e., elements of a chunk shifted right by {@link #CHUNK_BITS}, sorted in ascending order.
+	 */
+	final char[] keys;
+
+	/**
+	 * Containers storing elements of subsequent non-empty chunks.
+	 */
+	final Container[] containers;
+
+	/**
+	 * Cumulative sizes of containers, such that i-th entry is the position in this list of the first element stored in i-th container;
+	 * the last entry is the size of this list.
+	 */
+	final int[] offsets;
+
+	/**
+	 * Constructs this list from given list of distinct non-negative elements, sorted in ascending order.
+	 *
+	 * @param elements elements of constructed list
+	 * @throws NullPointerException if given list is {@code null}
+	 * @throws InvalidValueException if given list contains a negative element, or if its elements are not strictly increasing
+	 */
+	public IntCompressedSortedList(IntList elements) {
+		notNull(elements, "List of elements of a compressed sorted list is null.");
+		if (!isCompressible(elements)) {
+			throw new InvalidValueException("Elements of a compressed sorted list should be non-negative and strictly increasing.");
+		}
+
+		int chunksCount = 0;
+		int previousKey = -1;
+		IntIterator iterator = elements.iterator();
+		int key;
+		while (iterator.hasNext()) {
+			key = iterator.nextInt() >>> CHUNK_BITS;
+			if (key != previousKey) {
+				chunksCount++;
+				previousKey = key;
+			}
+		}
+
+		this.keys = new char[chunksCount];
+		this.containers = new Container[chunksCount];
+		this.offsets = new int[chunksCount + 1];
+
+		char[] values = new char[1 << CHUNK_BITS]; //values of the current chunk
+		int valuesCount = 0;
+		int chunkIndex = -1;
+		int element;
+		iterator = elements.iterator();
+		while (iterator.hasNext()) {
+			element = iterator.nextInt();
+			key = element >>> CHUNK_BITS;
+			if (chunkIndex < 0 || key != this.keys[chunkIndex]) {
+				if (chunkIndex >= 0) {
+					this.containers[chunkIndex] = createContainer(values, valuesCount);
+					this.offsets[chunkIndex + 1] = this.offsets[chunkIndex] + valuesCount;
+				}
+				chunkIndex++;
+				this.keys[chunkIndex] = (char)key;
+				valuesCount = 0;
+			}
+			values[valuesCount++] = (char)element;
+		}
+		if (chunkIndex >= 0) {
+			this.containers[chunkIndex] = createContainer(values, valuesCount);
+			this.offsets[chunkIndex + 1] = this.offsets[chunkIndex] + valuesCount;
+		}
+	}
+
+	/**
+	 * Tells if given list can be compressed, i.e., if all its elements are non-negative and strictly increasing.
+	 *
+	 * @param elements list of elements to check
+	 * @return {@code true} if given list can be compressed as an {@link IntCompressedSortedList}, {@code false} otherwise
+	 * @throws NullPointerException if given list is {@code null}
+	 */
+	public static boolean isCompressible(IntList elements) {
+		notNull(elements, "List of elements to check is null.");
+		int previousElement = -1;
+		int element;
+		IntIterator iterator = elements.iterator();
+
+		while (iterator.hasNext()) {
+			element = iterator.nextInt();
+			if (element <= previousElement) { //also catches negative first element
+				return false;
+			}
+			previousElement = element;
+		}
+		return true;
+	}
+
+	/**
+	 * Creates container taking the least memory, storing given values of a single chunk.
+	 *
+	 * @param values strictly increasing values of a chunk (lower 16 bits of elements); only the first {@code valuesCount} values are taken into account
+	 * @param valuesCount number of values of a chunk
+	 * @return created container
+	 */
+	static Container createContainer(char[] values, int valuesCount) {
+		int runsCount = 1;
+		for (int i = 1; i < valuesCount; i++) {
+			if (values[i] != values[i - 1] + 1) {
+				runsCount++;
+			}
+		}
+
+		if (runsCount * 2 <= valuesCount && runsCount * 2 <= BITSET_CONTAINER_WORDS * 4) { //4 bytes per run vs. 2 bytes per value or 8 bytes per word
+			char[] runs = new char[runsCount * 2];
+			int runIndex = 0;
+			runs[0] = values[0];
+			for (int i = 1; i < valuesCount; i++) {
+				if (values[i] != values[i - 1] + 1) {
+					runs[runIndex * 2 + 1] = (char)(values[i - 1] - runs[runIndex * 2]);
+					runIndex++;
+					runs[runIndex * 2] = values[i];
+				}
+			}
+			runs[runIndex * 2 + 1] = (char)(values[valuesCount - 1] - runs[runIndex * 2]);
+			return new RunContainer(runs, valuesCount);
+		} else if (valuesCount <= BITSET_CONTAINER_WORDS * 4) {
+			return new ArrayContainer(Arrays.copyOf(values, valuesCount));
+		} else {
+			long[] words = new long[BITSET_CONTAINER_WORDS];
+			for (int i = 0; i < valuesCount; i++) {
+				words[values[i] >> 6] |= 1L << values[i];
+			}
+			return new BitsetContainer(words, valuesCount);
+		}
+	}
+
+	/**
+	 * Gets index of the container storing element at given position in this list.
+	 *
+	 * @param index position of an element in this list
+	 * @return index of the container storing that element
+	 */
+	int getContainerIndex(int index) {
+		int containerIndex = Arrays.binarySearch(this.offsets, 0, this.containers.length, index);
+		return containerIndex >= 0 ? containerIndex : -containerIndex - 2; //offsets are strictly increasing, as containers are not empty
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param index {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws IndexOutOfBoundsException if given index is lower than zero or greater than or equal to the size of this list
+	 */
+	@Override
+	public int getInt(int index) {
+		if (index < 0 || index >= this.size()) {
+			throw new IndexOutOfBoundsException("Index of an element of a compressed sorted list is out of range: " + index + ".");
+		}
+		int containerIndex = this.getContainerIndex(index);
+		return (this.keys[containerIndex] << CHUNK_BITS) | this.containers[containerIndex].select(index - this.offsets[containerIndex]);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @return {@inheritDoc}
+	 */
+	@Override
+	public int size() {
+		return this.offsets[this.containers.length];
+	}
+
+	/**
+	 * Tells if this list contains given element. Takes logarithmic time.
+	 *
+	 * @param element element to check
+	 * @return {@code true} if this list contains given element, {@code false} otherwise
+	 */
+	@Override
+	public boolean contains(int element) {
+		if (element < 0) {
+			return false;
+		}
+		int containerIndex = Arrays.binarySearch(this.keys, (char)(element >>> CHUNK_BITS));
+		return containerIndex >= 0 && this.containers[containerIndex].contains((char)element);
+	}
+
+	/**
+	 * Gets the number of elements of this list present in at least one of given sets. If all given sets are {@link IntBitsetSortedSet bitset sorted sets},
+	 * elements stored in bitset containers are counted word by word.
+	 *
+	 * @param sets sets in which elements of this list are looked for
+	 * @return the number of elements of this list present in at least one of given sets
+	 * @throws NullPointerException if given array or any of given sets is {@code null}
+	 */
+	public int countElementsIn(IntSet... sets) {
+		notNull(sets, "Sets in which elements of a compressed sorted list are counted are null.");
+		long[][] bitsets = new long[sets.length][];
+		boolean allBitsets = true;
+
+		for (int i = 0; i < sets.length; i++) {
+			if (notNull(sets[i], "One of sets in which elements of a compressed sorted list are counted is null.") instanceof IntBitsetSortedSet) {
+				bitsets[i] = ((IntBitsetSortedSet)sets[i]).bitset;
+			} else {
+				allBitsets = false;
+			}
+		}
+
+		int count = 0;
+		if (allBitsets) {
+			for (int i = 0; i < this.containers.length; i++) {
+				count += this.containers[i].countElementsIn(bitsets, this.keys[i] * BITSET_CONTAINER_WORDS);
+			}
+		} else {
+			IntIterator iterator = this.iterator();
+			int element;
+			while (iterator.hasNext()) {
+				element = iterator.nextInt();
+				for (IntSet set : sets) {
+					if (set.contains(element)) {
+						count++;
+						break;
+					}
+				}
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * {@inheritDoc} Returned iterator decodes elements of subsequent containers, so iteration takes constant time per element.
+	 *
+	 * @param index {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws IndexOutOfBoundsException if given index is lower than zero or greater than the size of this list
+	 */
+	@Override
+	public IntListIterator listIterator(int index) {
+		if (index < 0 || index > this.size()) {
+			throw new IndexOutOfBoundsException("Index of an element of a compressed sorted list is out of range: " + index + ".");
+		}
+		return new ElementsIterator(index);
+	}
+
+	/**
+	 * Gets word of the union of given bitsets.
+	 *
+	 * @param bitsets bitsets of sets
+	 * @param wordIndex index of a 64-bit word
+	 * @return word of the union of given bitsets having given index, or zero if all bitsets have less words
+	 */
+	static long getWord(long[][] bitsets, int wordIndex) {
+		long word = 0L;
+		for (long[] bitset : bitsets) {
+			if (wordIndex < bitset.length) {
+				word |= bitset[wordIndex];
+			}
+		}
+		return word;
+	}
+
+	/**
+	 * Container of (lower 16 bits of) elements of a single chunk.
+	 */
+	static abstract class Container {
+
+		/**
+		 * Gets the number of values stored in this container.
+		 *
+		 * @return the number of values stored in this container
+		 */
+		abstract int size();
+
+		/**
+		 * Gets value having given rank, i.e., position among values stored in this container.
+		 *
+		 * @param rank position of a value in this container
+		 * @return value having given rank
+		 */
+		abstract int select(int rank);
+
+		/**
+		 * Tells if this container stores given value.
+		 *
+		 * @param value value to check
+		 * @return {@code true} if this container stores given value, {@code false} otherwise
+		 */
+		abstract boolean contains(char value);
+
+		/**
+		 * Writes all elements stored in this container to given buffer, starting from position zero.
+		 *
+		 * @param buffer buffer of size at least equal to the size of this container
+		 * @param base element corresponding to value zero, i.e., key of the chunk shifted left by {@link IntCompressedSortedList#CHUNK_BITS}
+		 */
+		abstract void decode(int[] buffer, int base);
+
+		/**
+		 * Gets the number of values stored in this container, whose corresponding elements belong to the union of given bitsets.
+		 *
+		 * @param bitsets bitsets of sets
+		 * @param baseWordIndex index of the word of a bitset corresponding to the first 64 values of the chunk
+		 * @return the number of values stored in this container, whose corresponding elements belong to the union of given bitsets
+		 */
+		abstract int countElementsIn(long[][] bitsets, int baseWordIndex);
+
+	}
+
+	/**
+	 * Container storing sorted array of values.
+	 */
+	static final class ArrayContainer extends Container {
+
+		/**
+		 * Values sorted in ascending order.
+		 */
+		final char[] values;
+
+		/**
+		 * Constructs this container.
+		 *
+		 * @param values values sorted in ascending order
+		 */
+		ArrayContainer(char[] values) {
+			this.values = values;
+		}
+
+		@Override
+		int size() {
+			return this.values.length;
+		}
+
+		@Override
+		int select(int rank) {
+			return this.values[rank];
+		}
+
+		@Override
+		boolean contains(char value) {
+			return Arrays.binarySearch(this.values, value) >= 0;
+		}
+
+		@Override
+		void decode(int[] buffer, int base) {
+			for (int i = 0; i < this.values.length; i++) {
+				buffer[i] = base | this.values[i];
+			}
+		}
+
+		@Override
+		int countElementsIn(long[][] bitsets, int baseWordIndex) {
+			int count = 0;
+			for (char value : this.values) {
+				if ((getWord(bitsets, baseWordIndex + (value >> 6)) & (1L << value)) != 0L) {
+					count++;
+				}
+			}
+			return count;
+		}
+
+	}
+
+	/**
+	 * Container storing bitset of values.
+	 */
+	static final class BitsetContainer extends Container {
+
+		/**
+		 * Bitset of values; bit {@code v % 64} of word {@code v / 64} is set iff value {@code v} is stored in this container.
+		 */
+		final long[] words;
+
+		/**
+		 * Number of values stored in this container.
+		 */
+		final int size;
+
+		/**
+		 * Constructs this container.
+		 *
+		 * @param words bitset of values
+		 * @param size number of set bits of given bitset
+		 */
+		BitsetContainer(long[] words, int size) {
+			this.words = words;
+			this.size = size;
+		}
+
+		@Override
+		int size() {
+			return this.size;
+		}
+
+		@Override
+		int select(int rank) {
+			int wordIndex = 0;
+			int wordBitCount;
+			while ((wordBitCount = Long.bitCount(this.words[wordIndex])) <= rank) {
+				rank -= wordBitCount;
+				wordIndex++;
+			}
+			long word = this.words[wordIndex];
+			for (int i = 0; i < rank; i++) {
+				word &= word - 1; //clear the lowest set bit
+			}
+			return (wordIndex << 6) | Long.numberOfTrailingZeros(word);
+		}
+
+		@Override
+		boolean contains(char value) {
+			return (this.words[value >> 6] & (1L << value)) != 0L;
+		}
+
+		@Override
+		void decode(int[] buffer, int base) {
+			int position = 0;
+			long word;
+			for (int wordIndex = 0; wordIndex < this.words.length; wordIndex++) {
+				word = this.words[wordIndex];
+				while (word != 0L) {
+					buffer[position++] = base | (wordIndex << 6) | Long.numberOfTrailingZeros(word);
+					word &= word - 1;
+				}
+			}
+		}
+
+		@Override
+		int countElementsIn(long[][] bitsets, int baseWordIndex) {
+			int count = 0;
+			for (int wordIndex = 0; wordIndex < this.words.length; wordIndex++) {
+				if (this.words[wordIndex] != 0L) {
+					count += Long.bitCount(this.words[wordIndex] & getWord(bitsets, baseWordIndex + wordIndex));
+				}
+			}
+			return count;
+		}
+
+	}
+
+	/**
+	 * Container storing runs of consecutive values.
+	 */
+	static final class RunContainer extends Container {
+
+		/**
+		 * Subsequent runs, each stored as two entries: the first value of the run, and the number of values of the run minus one.
+		 * Runs are sorted in ascending order, and do not overlap.
+		 */
+		final char[] runs;
+
+		/**
+		 * Number of values stored in this container.
+		 */
+		final int size;
+
+		/**
+		 * Constructs this container.
+		 *
+		 * @param runs subsequent runs, each stored as the first value and the length minus one
+		 * @param size total number of values of all runs
+		 */
+		RunContainer(char[] runs, int size) {
+			this.runs = runs;
+			this.size = size;
+		}
+
+		@Override
+		int size() {
+			return this.size;
+		}
+
+		@Override
+		int select(int rank) {
+			int runIndex = 0;
+			while (rank > this.runs[runIndex + 1]) {
+				rank -= this.runs[runIndex + 1] + 1;
+				runIndex += 2;
+			}
+			return this.runs[runIndex] + rank;
+		}
+
+		@Override
+		boolean contains(char value) {
+			int low = 0;
+			int high = (this.runs.length >> 1) - 1;
+			int middle;
+			while (low <= high) { //find the last run starting at most at given value
+				middle = (low + high) >>> 1;
+				if (this.runs[middle << 1] <= value) {
+					low = middle + 1;
+				} else {
+					high = middle - 1;
+				}
+			}
+			return high >= 0 && value - this.runs[high << 1] <= this.runs[(high << 1) + 1];
+		}
+
+		@Override
+		void decode(int[] buffer, int base) {
+			int position = 0;
+			int start;
+			int end;
+			for (int runIndex = 0; runIndex < this.runs.length; runIndex += 2) {
+				start = this.runs[runIndex];
+				end = start + this.runs[runIndex + 1];
+				for (int value = start; value <= end; value++) {
+					buffer[position++] = base | value;
+				}
+			}
+		}
+
+		@Override
+		int countElementsIn(long[][] bitsets, int baseWordIndex) {
+			int count = 0;
+			int start;
+			int end;
+			long mask;
+			for (int runIndex = 0; runIndex < this.runs.length; runIndex += 2) {
+				start = this.runs[runIndex];
+				end = start + this.runs[runIndex + 1];
+				for (int wordIndex = start >> 6; wordIndex <= end >> 6; wordIndex++) {
+					mask = -1L;
+					if (wordIndex == start >> 6) {
+						mask &= -1L << start; //clear bits below start
+					}
+					if (wordIndex == end >> 6) {
+						mask &= -1L >>> (63 - (end & 63)); //clear bits above end
+					}
+					count += Long.bitCount(mask & getWord(bitsets, baseWordIndex + wordIndex));
+				}
+			}
+			return count;
+		}
+
+	}
+
+	/**
+	 * List iterator over elements of this list, not supporting modification. Elements of the current container are decoded into a buffer.
+	 */
+	private class ElementsIterator implements IntListIterator {
+
+		/**
+		 * Position of the element to be returned by {@link #nextInt()}.
+		 */
+		private int index;
+
+		/**
+		 * Index of the container whose elements are stored in {@link #buffer}; -1 if no container has been decoded yet.
+		 */
+		private int decodedContainerIndex = -1;
+
+		/**
+		 * Elements of the decoded container.
+		 */
+		private int[] buffer = null;
+
+		/**
+		 * Constructs this iterator.
+		 *
+		 * @param index position of the element to be returned by the first call to {@link #nextInt()}
+		 */
+		ElementsIterator(int index) {
+			this.index = index;
+		}
+
+		/**
+		 * Gets element at given position in this list, decoding container storing that element, if necessary.
+		 *
+		 * @param index position of an element
+		 * @return element at given position
+		 */
+		private int getElement(int index) {
+			if (this.decodedContainerIndex < 0 || index < offsets[this.decodedContainerIndex] || index >= offsets[this.decodedContainerIndex + 1]) {
+				int containerIndex = (this.decodedContainerIndex >= 0 && index == offsets[this.decodedContainerIndex + 1]) ?
+						this.decodedContainerIndex + 1 : getContainerIndex(index);
+				Container container = containers[containerIndex];
+				if (this.buffer == null || this.buffer.length < container.size()) {
+					this.buffer = new int[container.size()];
+				}
+				container.decode(this.buffer, keys[containerIndex] << CHUNK_BITS);
+				this.decodedContainerIndex = containerIndex;
+			}
+			return this.buffer[index - offsets[this.decodedContainerIndex]];
+		}
+
+		@Override
+		public boolean hasNext() {
+			return this.index < size();
+		}
+
+		@Override
+		public int nextInt() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			return this.getElement(this.index++);
+		}
+
+		@Override
+		public boolean hasPrevious() {
+			return this.index > 0;
+		}
+
+		@Override
+		public int previousInt() {
+			if (!hasPrevious()) {
+				throw new NoSuchElementException();
+			}
+			return this.getElement(--this.index);
+		}
+
+		@Override
+		public int nextIndex() {
+			return this.index;
+		}
+
+		@Override
+		public int previousIndex() {
+			return this.index - 1;
+		}
+
+	}
+
+}
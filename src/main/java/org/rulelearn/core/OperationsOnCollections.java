@@ -22,7 +22,7 @@ import it.unimi.dsi.fastutil.ints.IntList;
 import it.unimi.dsi.fastutil.ints.IntSet;
 
 /**
- * Class used to perform operations on collections.
+ * Class used to perform operations on collections. Elements of an {@link IntCompressedSortedList} are counted using {@link IntCompressedSortedList#countElementsIn(IntSet...)}.
  *
  * @author Jerzy Błaszczyński (<a href="mailto:jurek.blaszczynski@cs.put.poznan.pl">jurek.blaszczynski@cs.put.poznan.pl</a>)
  * @author Marcin Szeląg (<a href="mailto:marcin.szelag@cs.put.poznan.pl">marcin.szelag@cs.put.poznan.pl</a>)
@@ -38,6 +38,9 @@ public class OperationsOnCollections {
 	public static int getNumberOfElementsFromListInSet (IntList list, IntSet set) {
 		notNull(list, "List provided to get number of elements which are present in the set is null.");
 		notNull(set, "Set on which number of elements from the list are counted is null.");
+		if (list instanceof IntCompressedSortedList) {
+			return ((IntCompressedSortedList)list).countElementsIn(set);
+		}
 		int count = 0;
 		for (int element : list) {
 			if (set.contains(element)) {
@@ -56,6 +59,9 @@ public class OperationsOnCollections {
 	public static int getNumberOfElementsFromListNotPresentInSet (IntList list, IntSet set) {
 		notNull(list, "List provided to get number of elements which are not present in the set is null.");
 		notNull(set, "Set on which number of elements from the list are checked is null.");
+		if (list instanceof IntCompressedSortedList) {
+			return list.size() - ((IntCompressedSortedList)list).countElementsIn(set);
+		}
 		int count = 0;
 		for (int element : list) {
 			if (!set.contains(element)) {
@@ -78,6 +84,10 @@ public class OperationsOnCollections {
 			notNull(set, "One of sets on which number of elements from the list are checked is null.");
 		}
 		
+		if (list instanceof IntCompressedSortedList) {
+			return list.size() - ((IntCompressedSortedList)list).countElementsIn(sets);
+		}
+		
 		int count = 0;
 		boolean present = false;
 		for (int element : list) {
@@ -0,0 +1,549 @@
+/**
+ * Copyright (C) Jerzy Błaszczyński, Marcin Szeląg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.rulelearn.data;
+
+import static org.rulelearn.core.Precondition.notNull;
+
+import java.util.function.Predicate;
+
+import org.rulelearn.core.InvalidTypeException;
+import org.rulelearn.core.TernaryLogicValue;
+import org.rulelearn.core.UnknownValueException;
+import org.rulelearn.types.EnumerationField;
+import org.rulelearn.types.EvaluationField;
+import org.rulelearn.types.IntegerField;
+import org.rulelearn.types.KnownSimpleField;
+import org.rulelearn.types.RealField;
+import org.rulelearn.types.UnknownSimpleField;
+
+/**
+ * Table storing evaluations column by column, in primitive form. Evaluations of all objects on an attribute are stored as an {@code int[]} column of codes,
+ * where each non-negative code is the rank of the evaluation among distinct known evaluations on that attribute, sorted from the lowest to the highest value,
+ * and each negative code identifies a missing evaluation. For each attribute, distinct evaluations are stored once, in dictionaries:<br>
+ * - of {@link EvaluationField} objects, used as flyweights returned by {@link #getField(int, int)} and {@link #getFields(int)},
+ *   so existing code working on fields does not need to change,<br>
+ * - of primitive values ({@code int} for {@link IntegerField} and {@link EnumerationField}, {@code double} for {@link RealField}),
+ *   returned by primitive accessors {@link #getIntValue(int, int)} and {@link #getRealValue(int, int)}.<br>
+ * <br>
+ * Primitive comparisons {@link #isAtLeastAsGoodAs(int, int, int)} and {@link #isAtMostAsGoodAs(int, int, int)} compare codes only,
+ * and give the same results as respective methods of {@link EvaluationField}.<br>
+ * <br>
+ * An attribute can be encoded only if all its known evaluations are instances of the same subclass of {@link KnownSimpleField}
+ * and all its missing evaluations are instances of {@link UnknownSimpleField} that are equal when compared to any evaluation.
+ * Evaluations on any other attribute are stored as they are.
+ *
+ * @author Jerzy Błaszczyński (<a href="mailto:jurek.blaszczynski@cs.put.poznan.pl">jurek.blaszczynski@cs.put.poznan.pl</a>)
+ * @author Marcin Szeląg (<a href="mailto:marcin.szelag@cs.put.poznan.pl">marcin.szelag@cs.put.poznan.pl</a>)
+ */
+public class ColumnarTable extends Table<EvaluationAttribute, EvaluationField> {
+
+	/**
+	 * Number of objects stored in this table.
+	 */
+	protected int numberOfObjects;
+
+	/**
+	 * Codes of evaluations, indexed by attribute's index and object's index. Equals to {@code null} for an attribute that could not be encoded.
+	 * Code {@code c >= 0} is an index in {@link #dictionaries}, and code {@code c < 0} is an index {@code -c-1} in {@link #missingDictionaries}.
+	 */
+	protected int[][] codes;
+	/**
+	 * Distinct known evaluations on each encoded attribute, sorted from the lowest to the highest value.
+	 */
+	protected EvaluationField[][] dictionaries;
+	/**
+	 * Distinct missing evaluations on each encoded attribute.
+	 */
+	protected UnknownSimpleField[][] missingDictionaries;
+	/**
+	 * Tells, for each distinct missing evaluation on each encoded attribute, if a known evaluation is in relation with it.
+	 */
+	protected boolean[][] symmetricMissingEvaluations;
+	/**
+	 * Integer values of distinct known evaluations on each encoded attribute with {@link IntegerField} or {@link EnumerationField} evaluations;
+	 * {@code null} for other attributes.
+	 */
+	protected int[][] intDictionaries;
+	/**
+	 * Real values of distinct known evaluations on each encoded attribute with {@link RealField} evaluations; {@code null} for other attributes.
+	 */
+	protected double[][] realDictionaries;
+	/**
+	 * Preference types of encoded attributes.
+	 */
+	protected AttributePreferenceType[] preferenceTypes;
+	/**
+	 * Evaluations on attributes that could not be encoded, indexed by attribute's index and object's index. Equals to {@code null} for an encoded attribute.
+	 */
+	protected EvaluationField[][] notEncodedEvaluations;
+
+	/**
+	 * Constructs this table by encoding all fields of the given table.
+	 *
+	 * @param table table whose fields should be stored in this table
+	 * @throws NullPointerException if given table is {@code null}
+	 */
+	public ColumnarTable(Table<EvaluationAttribute, EvaluationField> table) {
+		super(notNull(table, "Table to be stored in columns is null.").getAttributes(true), table.getIndex2IdMapper(), true);
+		this.numberOfObjects = table.getNumberOfObjects();
+
+		int numberOfAttributes = this.attributes.length;
+		this.codes = new int[numberOfAttributes][];
+		this.dictionaries = new EvaluationField[numberOfAttributes][];
+		this.missingDictionaries = new UnknownSimpleField[numberOfAttributes][];
+		this.symmetricMissingEvaluations = new boolean[numberOfAttributes][];
+		this.intDictionaries = new int[numberOfAttributes][];
+		this.realDictionaries = new double[numberOfAttributes][];
+		this.preferenceTypes = new AttributePreferenceType[numberOfAttributes];
+		this.notEncodedEvaluations = new EvaluationField[numberOfAttributes][];
+
+		EvaluationField[] column = new EvaluationField[this.numberOfObjects];
+		for (int j = 0; j < numberOfAttributes; j++) {
+			for (int i = 0; i < this.numberOfObjects; i++) {
+				column[i] = table.getField(i, j);
+			}
+			if (!encode(j, column)) {
+				this.notEncodedEvaluations[j] = column.clone();
+			}
+		}
+	}
+
+	/**
+	 * Constructs this table from already encoded columns. Used to select rows.
+	 *
+	 * @param table table whose dictionaries are shared by constructed table
+	 * @param codes codes of evaluations of selected objects
+	 * @param notEncodedEvaluations evaluations of selected objects on not encoded attributes
+	 * @param numberOfObjects number of selected objects
+	 * @param mapper translator of object's index to unique object's id
+	 */
+	protected ColumnarTable(ColumnarTable table, int[][] codes, EvaluationField[][] notEncodedEvaluations, int numberOfObjects, Index2IdMapper mapper) {
+		super(table.attributes, mapper, true);
+		this.numberOfObjects = numberOfObjects;
+		this.codes = codes;
+		this.dictionaries = table.dictionaries;
+		this.missingDictionaries = table.missingDictionaries;
+		this.symmetricMissingEvaluations = table.symmetricMissingEvaluations;
+		this.intDictionaries = table.intDictionaries;
+		this.realDictionaries = table.realDictionaries;
+		this.preferenceTypes = table.preferenceTypes;
+		this.notEncodedEvaluations = notEncodedEvaluations;
+	}
+
+	/**
+	 * Tries to encode given column of evaluations on the attribute with given index.
+	 *
+	 * @param attributeIndex index of an attribute
+	 * @param column evaluations of subsequent objects on the attribute
+	 * @return {@code true} if evaluations have been encoded, {@code false} otherwise
+	 */
+	private boolean encode(int attributeIndex, EvaluationField[] column) {
+		EncodedColumn encodedColumn = EncodedColumn.encode(column);
+		if (encodedColumn == null) {
+			return false;
+		}
+
+		EvaluationField[] dictionary = encodedColumn.getDictionary();
+		UnknownSimpleField[] missingDictionary = encodedColumn.getMissingDictionary();
+		Class<?> knownFieldClass = encodedColumn.getKnownFieldClass();
+
+		boolean[] symmetricMissing = new boolean[missingDictionary.length];
+		for (int k = 0; k < missingDictionary.length; k++) {
+			symmetricMissing[k] = missingDictionary[k].equalWhenReverseComparedToAnyEvaluation();
+		}
+
+		if (knownFieldClass != null && IntegerField.class.isAssignableFrom(knownFieldClass)) {
+			this.intDictionaries[attributeIndex] = new int[dictionary.length];
+			for (int c = 0; c < dictionary.length; c++) {
+				this.intDictionaries[attributeIndex][c] = ((IntegerField)dictionary[c]).getValue();
+			}
+		} else if (knownFieldClass != null && EnumerationField.class.isAssignableFrom(knownFieldClass)) {
+			this.intDictionaries[attributeIndex] = new int[dictionary.length];
+			for (int c = 0; c < dictionary.length; c++) {
+				this.intDictionaries[attributeIndex][c] = ((EnumerationField)dictionary[c]).getValue();
+			}
+		} else if (knownFieldClass != null && RealField.class.isAssignableFrom(knownFieldClass)) {
+			this.realDictionaries[attributeIndex] = new double[dictionary.length];
+			for (int c = 0; c < dictionary.length; c++) {
+				this.realDictionaries[attributeIndex][c] = ((RealField)dictionary[c]).getValue();
+			}
+		}
+
+		this.codes[attributeIndex] = encodedColumn.getCodes();
+		this.dictionaries[attributeIndex] = dictionary;
+		this.missingDictionaries[attributeIndex] = missingDictionary;
+		this.symmetricMissingEvaluations[attributeIndex] = symmetricMissing;
+		this.preferenceTypes[attributeIndex] = encodedColumn.getPreferenceType();
+		return true;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * Returned field is shared by all objects having the same evaluation on the attribute.
+	 *
+	 * @param objectIndex {@inheritDoc}
+	 * @param attributeIndex {@inheritDoc}
+	 * @return {@inheritDoc}
+	 *
+	 * @throws IndexOutOfBoundsException {@inheritDoc}
+	 */
+	@Override
+	public EvaluationField getField(int objectIndex, int attributeIndex) {
+		int[] columnCodes = this.codes[attributeIndex];
+
+		if (columnCodes == null) {
+			return this.notEncodedEvaluations[attributeIndex][objectIndex];
+		}
+
+		int code = columnCodes[objectIndex];
+		return code >= 0 ? this.dictionaries[attributeIndex][code] : this.missingDictionaries[attributeIndex][-code - 1];
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * Returned array is always created anew, so it can be safely modified.
+	 *
+	 * @param objectIndex {@inheritDoc}
+	 * @param accelerateByReadOnlyResult {@inheritDoc}
+	 * @return {@inheritDoc}
+	 *
+	 * @throws IndexOutOfBoundsException {@inheritDoc}
+	 */
+	@Override
+	public EvaluationField[] getFields(int objectIndex, boolean accelerateByReadOnlyResult) {
+		if (objectIndex < 0 || objectIndex >= this.numberOfObjects) {
+			throw new IndexOutOfBoundsException("Object index is out of table range.");
+		}
+
+		EvaluationField[] fields = new EvaluationField[this.attributes.length];
+		for (int j = 0; j < fields.length; j++) {
+			fields[j] = getField(objectIndex, j);
+		}
+		return fields;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * Returned table is also a columnar table, sharing dictionaries with this table.
+	 *
+	 * @param objectIndices {@inheritDoc}
+	 * @return {@inheritDoc}
+	 *
+	 * @throws NullPointerException {@inheritDoc}
+	 * @throws IndexOutOfBoundsException {@inheritDoc}
+	 */
+	@Override
+	public ColumnarTable select(int[] objectIndices) {
+		return select(objectIndices, false);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * Returned table is also a columnar table, sharing dictionaries with this table.
+	 *
+	 * @param objectIndices {@inheritDoc}
+	 * @param accelerateByReadOnlyResult {@inheritDoc}
+	 * @return {@inheritDoc}
+	 *
+	 * @throws NullPointerException {@inheritDoc}
+	 * @throws IndexOutOfBoundsException {@inheritDoc}
+	 */
+	@Override
+	public ColumnarTable select(int[] objectIndices, boolean accelerateByReadOnlyResult) {
+		int[] newObjectIndex2Id = new int[objectIndices.length]; //data for new mapper
+		for (int i = 0; i < objectIndices.length; i++) {
+			if (objectIndices[i] < 0 || objectIndices[i] >= this.numberOfObjects) {
+				throw new IndexOutOfBoundsException("Selected object's index is out of table range.");
+			}
+			newObjectIndex2Id[i] = this.mapper.getId(objectIndices[i]); //re-map object's id
+		}
+
+		int[][] newCodes = new int[this.attributes.length][];
+		EvaluationField[][] newNotEncodedEvaluations = new EvaluationField[this.attributes.length][];
+
+		for (int j = 0; j < this.attributes.length; j++) {
+			if (this.codes[j] != null) {
+				newCodes[j] = new int[objectIndices.length];
+				for (int i = 0; i < objectIndices.length; i++) {
+					newCodes[j][i] = this.codes[j][objectIndices[i]];
+				}
+			} else {
+				newNotEncodedEvaluations[j] = new EvaluationField[objectIndices.length];
+				for (int i = 0; i < objectIndices.length; i++) {
+					newNotEncodedEvaluations[j][i] = this.notEncodedEvaluations[j][objectIndices[i]];
+				}
+			}
+		}
+
+		return new ColumnarTable(this, newCodes, newNotEncodedEvaluations, objectIndices.length, new Index2IdMapper(newObjectIndex2Id));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @return {@inheritDoc}
+	 */
+	@Override
+	public int getNumberOfObjects() {
+		return this.numberOfObjects;
+	}
+
+	/**
+	 * Tells if evaluations on the attribute with given index are stored in primitive form.
+	 *
+	 * @param attributeIndex index of an attribute
+	 * @return {@code true} if evaluations on the attribute are stored in primitive form, {@code false} otherwise
+	 *
+	 * @throws IndexOutOfBoundsException if given attribute index does not correspond to any attribute for which this table stores fields
+	 */
+	public boolean isEncoded(int attributeIndex) {
+		return this.codes[attributeIndex] != null;
+	}
+
+	/**
+	 * Gets preference type of known evaluations on the encoded attribute with given index.
+	 *
+	 * @param attributeIndex index of an encoded attribute
+	 * @return preference type of known evaluations on the attribute, or {@code null} if the attribute is not encoded or all its evaluations are missing
+	 *
+	 * @throws IndexOutOfBoundsException if given attribute index does not correspond to any attribute for which this table stores fields
+	 */
+	public AttributePreferenceType getPreferenceType(int attributeIndex) {
+		return this.preferenceTypes[attributeIndex];
+	}
+
+	/**
+	 * Gets code of the evaluation of the object with given index on the encoded attribute with given index.
+	 * Non-negative code is the rank of the evaluation among distinct known evaluations on the attribute, sorted from the lowest to the highest value.
+	 * Negative code denotes missing evaluation.
+	 *
+	 * @param objectIndex index of an object
+	 * @param attributeIndex index of an encoded attribute
+	 * @return code of the evaluation
+	 *
+	 * @throws InvalidTypeException if the attribute is not encoded
+	 * @throws IndexOutOfBoundsException if given object index or attribute index is out of range
+	 */
+	public int getCode(int objectIndex, int attributeIndex) {
+		int[] columnCodes = this.codes[attributeIndex];
+		if (columnCodes == null) {
+			throw new InvalidTypeException("Evaluations on attribute " + attributeIndex + " are not stored in primitive form.");
+		}
+		return columnCodes[objectIndex];
+	}
+
+	/**
+	 * Gets number of distinct known evaluations on the encoded attribute with given index. All non-negative codes are lower than this number.
+	 *
+	 * @param attributeIndex index of an encoded attribute
+	 * @return number of distinct known evaluations on the attribute
+	 *
+	 * @throws InvalidTypeException if the attribute is not encoded
+	 * @throws IndexOutOfBoundsException if given attribute index is out of range
+	 */
+	public int getNumberOfDistinctKnownEvaluations(int attributeIndex) {
+		if (this.codes[attributeIndex] == null) {
+			throw new InvalidTypeException("Evaluations on attribute " + attributeIndex + " are not stored in primitive form.");
+		}
+		return this.dictionaries[attributeIndex].length;
+	}
+
+	/**
+	 * Tells if the evaluation of the object with given index on the attribute with given index is missing.
+	 *
+	 * @param objectIndex index of an object
+	 * @param attributeIndex index of an attribute
+	 * @return {@code true} if the evaluation is missing, {@code false} otherwise
+	 *
+	 * @throws IndexOutOfBoundsException if given object index or attribute index is out of range
+	 */
+	public boolean isMissing(int objectIndex, int attributeIndex) {
+		int[] columnCodes = this.codes[attributeIndex];
+		return columnCodes != null ? columnCodes[objectIndex] < 0 : this.notEncodedEvaluations[attributeIndex][objectIndex] instanceof UnknownSimpleField;
+	}
+
+	/**
+	 * Gets integer value of the evaluation of the object with given index on the attribute with given index,
+	 * whose evaluations are {@link IntegerField integer fields} or {@link EnumerationField enumeration fields}.
+	 * For an enumeration field, returned value is the index of the element in the element list.
+	 *
+	 * @param objectIndex index of an object
+	 * @param attributeIndex index of an attribute
+	 * @return integer value of the evaluation
+	 *
+	 * @throws InvalidTypeException if evaluations on the attribute are not stored as integer values
+	 * @throws UnknownValueException if the evaluation is missing
+	 * @throws IndexOutOfBoundsException if given object index or attribute index is out of range
+	 */
+	public int getIntValue(int objectIndex, int attributeIndex) {
+		int[] dictionary = this.intDictionaries[attributeIndex];
+		if (dictionary == null) {
+			throw new InvalidTypeException("Evaluations on attribute " + attributeIndex + " are not stored as integer values.");
+		}
+		int code = this.codes[attributeIndex][objectIndex];
+		if (code < 0) {
+			throw new UnknownValueException("Evaluation of object " + objectIndex + " on attribute " + attributeIndex + " is missing.");
+		}
+		return dictionary[code];
+	}
+
+	/**
+	 * Gets real value of the evaluation of the object with given index on the attribute with given index, whose evaluations are {@link RealField real fields}.
+	 *
+	 * @param objectIndex index of an object
+	 * @param attributeIndex index of an attribute
+	 * @return real value of the evaluation
+	 *
+	 * @throws InvalidTypeException if evaluations on the attribute are not stored as real values
+	 * @throws UnknownValueException if the evaluation is missing
+	 * @throws IndexOutOfBoundsException if given object index or attribute index is out of range
+	 */
+	public double getRealValue(int objectIndex, int attributeIndex) {
+		double[] dictionary = this.realDictionaries[attributeIndex];
+		if (dictionary == null) {
+			throw new InvalidTypeException("Evaluations on attribute " + attributeIndex + " are not stored as real values.");
+		}
+		int code = this.codes[attributeIndex][objectIndex];
+		if (code < 0) {
+			throw new UnknownValueException("Evaluation of object " + objectIndex + " on attribute " + attributeIndex + " is missing.");
+		}
+		return dictionary[code];
+	}
+
+	/**
+	 * Clears bits of these objects from given bitset, whose evaluations on the attribute with given index do not satisfy given predicate.
+	 * For an encoded attribute, the predicate is tested at most once for each distinct evaluation, and other objects having the same evaluation
+	 * are processed by comparing codes only.
+	 *
+	 * @param attributeIndex index of an attribute
+	 * @param predicate predicate tested on evaluations of objects
+	 * @param objectsBitset bitset of objects, stored as an array of {@code long} words (object with index {@code i} corresponds to bit {@code i % 64}
+	 *        of word {@code i / 64}); only objects whose bits are set are tested
+	 *
+	 * @throws IndexOutOfBoundsException if given attribute index is out of range, or if a bit set in given bitset does not correspond to any object
+	 */
+	public void retainObjectsSatisfying(int attributeIndex, Predicate<? super EvaluationField> predicate, long[] objectsBitset) {
+		int[] columnCodes = this.codes[attributeIndex];
+		EvaluationField[] notEncodedColumn = this.notEncodedEvaluations[attributeIndex];
+		//results of testing distinct known and missing evaluations: 0 - not tested yet, 1 - predicate satisfied, 2 - predicate not satisfied
+		byte[] knownResults = columnCodes != null ? new byte[this.dictionaries[attributeIndex].length] : null;
+		byte[] missingResults = columnCodes != null ? new byte[this.missingDictionaries[attributeIndex].length] : null;
+		long word;
+		long remainingBits;
+		int objectIndex;
+		boolean satisfied;
+
+		for (int wordIndex = 0; wordIndex < objectsBitset.length; wordIndex++) {
+			word = objectsBitset[wordIndex];
+			remainingBits = word;
+			while (remainingBits != 0L) {
+				objectIndex = (wordIndex << 6) + Long.numberOfTrailingZeros(remainingBits);
+				if (columnCodes == null) {
+					satisfied = predicate.test(notEncodedColumn[objectIndex]);
+				} else {
+					int code = columnCodes[objectIndex];
+					byte[] results = code >= 0 ? knownResults : missingResults;
+					int resultIndex = code >= 0 ? code : -code - 1;
+					if (results[resultIndex] == 0) {
+						results[resultIndex] = predicate.test(this.getField(objectIndex, attributeIndex)) ? (byte)1 : (byte)2;
+					}
+					satisfied = results[resultIndex] == 1;
+				}
+				if (!satisfied) {
+					word &= ~(1L << objectIndex);
+				}
+				remainingBits &= remainingBits - 1; //clear lowest set bit
+			}
+			objectsBitset[wordIndex] = word;
+		}
+	}
+
+	/**
+	 * Checks if evaluation of object {@code x} on the attribute with given index is at least as good as evaluation of object {@code y}.
+	 * Gives the same result as checking if {@code getField(x, attributeIndex).isAtLeastAsGoodAs(getField(y, attributeIndex)) == TernaryLogicValue.TRUE}.
+	 *
+	 * @param x index of the first object
+	 * @param y index of the second object
+	 * @param attributeIndex index of an attribute
+	 * @return {@code true} if evaluation of object {@code x} is at least as good as evaluation of object {@code y}, {@code false} otherwise
+	 *
+	 * @throws IndexOutOfBoundsException if any of the given indices is out of range
+	 */
+	public boolean isAtLeastAsGoodAs(int x, int y, int attributeIndex) {
+		int[] columnCodes = this.codes[attributeIndex];
+
+		if (columnCodes == null) {
+			return this.notEncodedEvaluations[attributeIndex][x].isAtLeastAsGoodAs(this.notEncodedEvaluations[attributeIndex][y]) == TernaryLogicValue.TRUE;
+		}
+
+		int xCode = columnCodes[x];
+		int yCode = columnCodes[y];
+
+		if (xCode < 0) {
+			return true;
+		} else if (yCode < 0) {
+			return this.symmetricMissingEvaluations[attributeIndex][-yCode - 1];
+		} else {
+			switch (this.preferenceTypes[attributeIndex]) {
+			case GAIN:
+				return xCode >= yCode;
+			case COST:
+				return xCode <= yCode;
+			default:
+				return xCode == yCode;
+			}
+		}
+	}
+
+	/**
+	 * Checks if evaluation of object {@code x} on the attribute with given index is at most as good as evaluation of object {@code y}.
+	 * Gives the same result as checking if {@code getField(x, attributeIndex).isAtMostAsGoodAs(getField(y, attributeIndex)) == TernaryLogicValue.TRUE}.
+	 *
+	 * @param x index of the first object
+	 * @param y index of the second object
+	 * @param attributeIndex index of an attribute
+	 * @return {@code true} if evaluation of object {@code x} is at most as good as evaluation of object {@code y}, {@code false} otherwise
+	 *
+	 * @throws IndexOutOfBoundsException if any of the given indices is out of range
+	 */
+	public boolean isAtMostAsGoodAs(int x, int y, int attributeIndex) {
+		int[] columnCodes = this.codes[attributeIndex];
+
+		if (columnCodes == null) {
+			return this.notEncodedEvaluations[attributeIndex][x].isAtMostAsGoodAs(this.notEncodedEvaluations[attributeIndex][y]) == TernaryLogicValue.TRUE;
+		}
+
+		int xCode = columnCodes[x];
+		int yCode = columnCodes[y];
+
+		if (xCode < 0) {
+			return true;
+		} else if (yCode < 0) {
+			return this.symmetricMissingEvaluations[attributeIndex][-yCode - 1];
+		} else {
+			switch (this.preferenceTypes[attributeIndex]) {
+			case GAIN:
+				return xCode <= yCode;
+			case COST:
+				return xCode >= yCode;
+			default:
+				return xCode == yCode;
+			}
+		}
+	}
+
+}
@@ -0,0 +1,274 @@
+/**
+ * Copyright (C) Jerzy Błaszczyński, Marcin Szeląg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.rulelearn.data;
+
+import static org.rulelearn.core.Precondition.notNull;
+
+import java.util.Set;
+
+import org.rulelearn.core.InvalidValueException;
+import org.rulelearn.core.ReadOnlyArrayReference;
+import org.rulelearn.core.ReadOnlyArrayReferenceLocation;
+import org.rulelearn.core.TernaryLogicValue;
+
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectArraySet;
+import it.unimi.dsi.fastutil.objects.ObjectSets;
+
+/**
+ * Distribution (histogram) of decisions that are totally ordered, from the worst to the best. Instead of a map, this distribution stores
+ * a dense array of counts, indexed by positions of decisions in the given order, and calculates (on first demand) cumulative counts.
+ * Therefore, the number of objects whose decision is at most (or at least) as good as a given decision is returned in constant time,
+ * see {@link #getCumulativeCount(int)}.<br>
+ * <br>
+ * This distribution can only count decisions present in the order given at construction time. It is used automatically,
+ * e.g., by {@link org.rulelearn.dominance.DominanceConesDecisionDistributions}, for information tables whose all decisions
+ * are fully-determined and totally ordered - see {@link #getTotallyOrderedDecisions(InformationTable)}.
+ *
+ * @author Jerzy Błaszczyński (<a href="mailto:jurek.blaszczynski@cs.put.poznan.pl">jurek.blaszczynski@cs.put.poznan.pl</a>)
+ * @author Marcin Szeląg (<a href="mailto:marcin.szelag@cs.put.poznan.pl">marcin.szelag@cs.put.poznan.pl</a>)
+ */
+public class CumulativeDecisionDistribution extends DecisionDistribution {
+
+	/**
+	 * Decisions ordered from the worst to the best. Shared by all distributions created by {@link #newDistribution()}.
+	 */
+	protected final Decision[] orderedDecisions;
+
+	/**
+	 * Maps decision to its position in {@link #orderedDecisions}; returns -1 for a decision not present in that array.
+	 * Shared by all distributions created by {@link #newDistribution()}.
+	 */
+	protected final Object2IntMap<Decision> decision2IndexMap;
+
+	/**
+	 * Numbers of objects having subsequent decisions from {@link #orderedDecisions}.
+	 */
+	protected final int[] counts;
+
+	/**
+	 * Cumulative counts, such that i-th entry is the number of objects having one of the first i decisions from {@link #orderedDecisions};
+	 * {@code null} if not calculated yet or if {@link #counts} changed since the last calculation.
+	 */
+	protected volatile int[] cumulativeCounts = null;
+
+	/**
+	 * Set of decisions present in this distribution; {@code null} if not calculated yet or if {@link #counts} changed since the last calculation.
+	 */
+	protected volatile Set<Decision> presentDecisions = null;
+
+	/**
+	 * Constructs empty distribution of given totally ordered decisions.
+	 *
+	 * @param orderedDecisions decisions ordered from the worst to the best; for any two decisions from this array, {@code decision1.equals(decision2)}
+	 *        should return {@code false}; this array is not copied, so it should not be modified after construction of this distribution
+	 * @throws NullPointerException if given array or any decision from that array is {@code null}
+	 * @throws InvalidValueException if given array contains the same decision more than once
+	 */
+	public CumulativeDecisionDistribution(Decision[] orderedDecisions) {
+		super(false);
+		this.orderedDecisions = notNull(orderedDecisions, "Array of ordered decisions for cumulative decision distribution is null.");
+		this.decision2IndexMap = new Object2IntOpenHashMap<Decision>(orderedDecisions.length);
+		this.decision2IndexMap.defaultReturnValue(-1);
+
+		for (int i = 0; i < orderedDecisions.length; i++) {
+			if (this.decision2IndexMap.put(notNull(orderedDecisions[i], "Ordered decision for cumulative decision distribution is null."), i) != -1) {
+				throw new InvalidValueException("Ordered decisions for cumulative decision distribution are not unique.");
+			}
+		}
+		this.counts = new int[orderedDecisions.length];
+	}
+
+	/**
+	 * Constructs distribution sharing order of decisions with another distribution, and using given array of counts.
+	 * Subclasses storing counts in a different way (e.g., in arrays shared by many distributions) may pass {@code null} array of counts,
+	 * and then should override all methods using that array.
+	 *
+	 * @param orderedDecisions decisions ordered from the worst to the best, as returned by {@link #getOrderedDecisions()} of another distribution
+	 * @param decision2IndexMap map from decision to its position in given array of ordered decisions, as used by another distribution
+	 * @param counts numbers of objects having subsequent ordered decisions; may be {@code null}
+	 */
+	protected CumulativeDecisionDistribution(Decision[] orderedDecisions, Object2IntMap<Decision> decision2IndexMap, int[] counts) {
+		super(false);
+		this.orderedDecisions = orderedDecisions;
+		this.decision2IndexMap = decision2IndexMap;
+		this.counts = counts;
+	}
+
+	/**
+	 * Constructs new, empty distribution concerning the same ordered decisions as this distribution. Order of decisions is shared
+	 * by both distributions, so this method is cheaper than {@link #CumulativeDecisionDistribution(Decision[])}.
+	 *
+	 * @return new, empty distribution concerning the same ordered decisions as this distribution
+	 */
+	public CumulativeDecisionDistribution newDistribution() {
+		return new CumulativeDecisionDistribution(this.orderedDecisions, this.decision2IndexMap, new int[this.orderedDecisions.length]);
+	}
+
+	/**
+	 * Gets decisions ordered from the worst to the best, which can be counted by this distribution.
+	 *
+	 * @return decisions ordered from the worst to the best, which can be counted by this distribution
+	 */
+	@ReadOnlyArrayReference(at = ReadOnlyArrayReferenceLocation.OUTPUT)
+	public Decision[] getOrderedDecisions() {
+		return this.orderedDecisions;
+	}
+
+	/**
+	 * Gets position of given decision in the array returned by {@link #getOrderedDecisions()}.
+	 *
+	 * @param decision decision of interest
+	 * @return position of given decision among ordered decisions, or -1 if given decision is not present among ordered decisions
+	 */
+	public int getDecisionIndex(Decision decision) {
+		return this.decision2IndexMap.getInt(decision);
+	}
+
+	/**
+	 * Gets the number of objects having one of the first {@code decisionIndex} decisions from the array returned by {@link #getOrderedDecisions()},
+	 * i.e., the number of objects whose decision is strictly worse than decision at position {@code decisionIndex}. Takes constant time,
+	 * except for the first call after change of this distribution.
+	 *
+	 * @param decisionIndex position of a decision among ordered decisions; it can also be equal to the number of ordered decisions,
+	 *        in which case the total number of objects is returned
+	 * @return the number of objects having one of the first {@code decisionIndex} decisions
+	 * @throws IndexOutOfBoundsException if given index is lower than zero or greater than the number of ordered decisions
+	 */
+	public int getCumulativeCount(int decisionIndex) {
+		int[] cumulativeCounts = this.cumulativeCounts;
+
+		if (cumulativeCounts == null) {
+			cumulativeCounts = new int[this.counts.length + 1];
+			for (int i = 0; i < this.counts.length; i++) {
+				cumulativeCounts[i + 1] = cumulativeCounts[i] + this.counts[i];
+			}
+			this.cumulativeCounts = cumulativeCounts;
+		}
+
+		return cumulativeCounts[decisionIndex];
+	}
+
+	/**
+	 * Gets the total number of objects counted by this distribution.
+	 *
+	 * @return the total number of objects counted by this distribution
+	 */
+	public int getTotalCount() {
+		return this.getCumulativeCount(this.counts.length);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param decision {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@Override
+	public boolean isPresent(Decision decision) {
+		return this.getCount(decision) > 0;
+	}
+
+	/**
+	 * Gets all decisions, which are present in the distribution. Returned set is unmodifiable, and iterates over decisions from the worst to the best.
+	 *
+	 * @return set {@link Set} of decisions
+	 */
+	@Override
+	public Set<Decision> getDecisions() {
+		Set<Decision> presentDecisions = this.presentDecisions;
+
+		if (presentDecisions == null) {
+			ObjectArraySet<Decision> decisions = new ObjectArraySet<Decision>(this.counts.length);
+			for (int i = 0; i < this.counts.length; i++) {
+				if (this.counts[i] > 0) {
+					decisions.add(this.orderedDecisions[i]);
+				}
+			}
+			presentDecisions = ObjectSets.unmodifiable(decisions);
+			this.presentDecisions = presentDecisions;
+		}
+
+		return presentDecisions;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param decision {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@Override
+	public int getCount(Decision decision) {
+		int decisionIndex = this.decision2IndexMap.getInt(decision);
+		return decisionIndex >= 0 ? this.counts[decisionIndex] : 0;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param decision {@inheritDoc}
+	 * @throws NullPointerException {@inheritDoc}
+	 * @throws InvalidValueException if given decision is not present among ordered decisions of this distribution
+	 */
+	@Override
+	public void increaseCount(Decision decision) {
+		notNull(decision, "Could not increase count of a null decision.");
+		int decisionIndex = this.decision2IndexMap.getInt(decision);
+		if (decisionIndex < 0) {
+			throw new InvalidValueException("Could not increase count of a decision not present among ordered decisions of cumulative decision distribution.");
+		}
+
+		this.counts[decisionIndex]++;
+		this.cumulativeCounts = null;
+		this.presentDecisions = null;
+	}
+
+	/**
+	 * Gets decisions of given information table ordered from the worst to the best, if all these decisions are fully-determined and totally ordered,
+	 * i.e., if a {@link CumulativeDecisionDistribution} can be used to count decisions of any subset of objects from given information table.
+	 *
+	 * @param informationTable information table whose decisions should be checked
+	 * @return unique decisions of given information table ordered from the worst to the best (see {@link InformationTable#getOrderedUniqueFullyDeterminedDecisions()}),
+	 *         or {@code null} if given information table does not store decisions, any of them is not fully-determined,
+	 *         or any two of them are incomparable
+	 * @throws NullPointerException if given information table is {@code null}
+	 */
+	public static Decision[] getTotallyOrderedDecisions(InformationTable informationTable) {
+		notNull(informationTable, "Information table whose decisions should be totally ordered is null.");
+		Decision[] decisions = informationTable.getDecisions(true);
+		Decision[] orderedDecisions = informationTable.getOrderedUniqueFullyDeterminedDecisions();
+
+		if (decisions == null || orderedDecisions == null || orderedDecisions.length == 0) {
+			return null;
+		}
+		for (Decision decision : decisions) {
+			if (decision == null || !decision.hasNoMissingEvaluation()) {
+				return null;
+			}
+		}
+		for (int i = 1; i < orderedDecisions.length; i++) { //chain of comparable decisions implies total order
+			if (orderedDecisions[i - 1].isAtMostAsGoodAs(orderedDecisions[i]) != TernaryLogicValue.TRUE) {
+				return null;
+			}
+		}
+
+		return orderedDecisions;
+	}
+
+}
@@ -49,6 +49,16 @@ public class DecisionDistribution {
 		this.decision2CountMap = new Object2IntOpenHashMap<Decision>();
 	}
 	
+	/**
+	 * Constructs empty distribution. Intended for subclasses that store counts of decisions in a different way than in {@link #decision2CountMap},
+	 * and thus override all methods using that map.
+	 * 
+	 * @param useMap tells if {@link #decision2CountMap} should be created; if {@code false}, that map is {@code null}
+	 */
+	protected DecisionDistribution(boolean useMap) {
+		this.decision2CountMap = useMap ? new Object2IntOpenHashMap<Decision>() : null;
+	}
+	
 	/**
 	 * Constructs this distribution based on the given information table.
 	 * 
@@ -114,24 +124,41 @@ public class DecisionDistribution {
 	 * @return calculated hash code of this decision distribution
 	 */
 	public int hashCode() {
-		return Objects.hash(this.getClass(), this.decision2CountMap);
+		int decisionsHashCode = 0;
+		for (Decision decision : this.getDecisions()) { //the same as hash code of decision2CountMap
+			decisionsHashCode += decision.hashCode() ^ this.getCount(decision);
+		}
+		return Objects.hash(DecisionDistribution.class, decisionsHashCode);
 	}
 	
 	/**
 	 * Tests if this decision distribution is equal to the given object. Returns {@code true} if the given object is also a decision distribution,
-	 * and the two distributions concern the same decisions with the same cardinalities.
+	 * and the two distributions concern the same decisions with the same cardinalities (irrespective of the way counts are stored by both distributions).
 	 * 
 	 * @param otherObject other object that this decision distribution should be compared with
 	 * @return {@code true} if this decision distribution is equal to the given objects,
 	 *         {@code false} otherwise
 	 */
 	public boolean equals(Object otherObject) {
-		if (otherObject instanceof DecisionDistribution &&
-			this.decision2CountMap.equals(((DecisionDistribution)otherObject).decision2CountMap)) {
-			return true;
-		} else {
+		if (!(otherObject instanceof DecisionDistribution)) {
 			return false;
 		}
+		DecisionDistribution otherDistribution = (DecisionDistribution)otherObject;
+		
+		if (this.decision2CountMap != null && otherDistribution.decision2CountMap != null) {
+			return this.decision2CountMap.equals(otherDistribution.decision2CountMap);
+		} else { //at least one distribution does not store its counts in a map
+			Set<Decision> decisions = this.getDecisions();
+			if (!decisions.equals(otherDistribution.getDecisions())) {
+				return false;
+			}
+			for (Decision decision : decisions) {
+				if (this.getCount(decision) != otherDistribution.getCount(decision)) {
+					return false;
+				}
+			}
+			return true;
+		}
 	}
 
 }
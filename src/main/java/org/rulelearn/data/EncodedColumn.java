@@ -0,0 +1,185 @@
+/**
+ * Copyright (C) Jerzy Błaszczyński, Marcin Szeląg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.rulelearn.data;
+
+import java.util.Arrays;
+
+import org.rulelearn.core.ReadOnlyArrayReference;
+import org.rulelearn.core.ReadOnlyArrayReferenceLocation;
+import org.rulelearn.types.EvaluationField;
+import org.rulelearn.types.KnownSimpleField;
+import org.rulelearn.types.UnknownSimpleField;
+
+import it.unimi.dsi.fastutil.ints.IntArrays;
+
+/**
+ * Column of evaluations of subsequent objects on a single attribute, encoded as primitive codes. Each non-negative code is the rank of the evaluation
+ * among distinct known evaluations, sorted from the lowest to the highest value, and each negative code {@code c} identifies the missing evaluation
+ * with index {@code -c-1} among distinct missing evaluations. This encoding is shared by {@link ColumnarTable} and {@link org.rulelearn.dominance.EvaluationRanks}.<br>
+ * <br>
+ * A column can be encoded only if all its known evaluations are instances of the same subclass of {@link KnownSimpleField}
+ * and all its missing evaluations are instances of {@link UnknownSimpleField} that are equal when compared to any evaluation.
+ *
+ * @author Jerzy Błaszczyński (<a href="mailto:jurek.blaszczynski@cs.put.poznan.pl">jurek.blaszczynski@cs.put.poznan.pl</a>)
+ * @author Marcin Szeląg (<a href="mailto:marcin.szelag@cs.put.poznan.pl">marcin.szelag@cs.put.poznan.pl</a>)
+ */
+public final class EncodedColumn {
+
+	/**
+	 * Codes of evaluations of subsequent objects.
+	 */
+	private final int[] codes;
+	/**
+	 * Distinct known evaluations, sorted from the lowest to the highest value.
+	 */
+	private final EvaluationField[] dictionary;
+	/**
+	 * Distinct missing evaluations.
+	 */
+	private final UnknownSimpleField[] missingDictionary;
+	/**
+	 * Class of known evaluations, or {@code null} if all evaluations are missing.
+	 */
+	private final Class<?> knownFieldClass;
+	/**
+	 * Preference type of known evaluations, or {@code null} if all evaluations are missing.
+	 */
+	private final AttributePreferenceType preferenceType;
+
+	/**
+	 * Constructs this column.
+	 *
+	 * @param codes codes of evaluations of subsequent objects
+	 * @param dictionary distinct known evaluations, sorted from the lowest to the highest value
+	 * @param missingDictionary distinct missing evaluations
+	 * @param knownFieldClass class of known evaluations
+	 * @param preferenceType preference type of known evaluations
+	 */
+	private EncodedColumn(int[] codes, EvaluationField[] dictionary, UnknownSimpleField[] missingDictionary, Class<?> knownFieldClass, AttributePreferenceType preferenceType) {
+		this.codes = codes;
+		this.dictionary = dictionary;
+		this.missingDictionary = missingDictionary;
+		this.knownFieldClass = knownFieldClass;
+		this.preferenceType = preferenceType;
+	}
+
+	/**
+	 * Tries to encode given column of evaluations.
+	 *
+	 * @param column evaluations of subsequent objects on an attribute
+	 * @return encoded column, or {@code null} if given evaluations cannot be encoded
+	 *
+	 * @throws NullPointerException if given column is {@code null}
+	 */
+	public static EncodedColumn encode(EvaluationField[] column) {
+		int[] codes = new int[column.length];
+		int[] knownObjectIndices = new int[column.length];
+		int knownCount = 0;
+		Class<?> knownFieldClass = null;
+		AttributePreferenceType preferenceType = null;
+		UnknownSimpleField[] missingDictionary = new UnknownSimpleField[0];
+
+		for (int i = 0; i < column.length; i++) {
+			if (column[i] instanceof KnownSimpleField) {
+				if (knownFieldClass == null) {
+					knownFieldClass = column[i].getClass();
+					preferenceType = ((KnownSimpleField)column[i]).getPreferenceType();
+				} else if (knownFieldClass != column[i].getClass()) {
+					return null;
+				}
+				knownObjectIndices[knownCount++] = i;
+			} else if (column[i] instanceof UnknownSimpleField && ((UnknownSimpleField)column[i]).equalWhenComparedToAnyEvaluation()) {
+				int missingIndex = 0;
+				while (missingIndex < missingDictionary.length && !missingDictionary[missingIndex].equals(column[i])) {
+					missingIndex++;
+				}
+				if (missingIndex == missingDictionary.length) {
+					missingDictionary = Arrays.copyOf(missingDictionary, missingIndex + 1);
+					missingDictionary[missingIndex] = (UnknownSimpleField)column[i];
+				}
+				codes[i] = -missingIndex - 1;
+			} else {
+				return null;
+			}
+		}
+
+		//sort objects with known evaluations from the lowest to the highest value, and assign dense ranks
+		int[] sortedKnownObjectIndices = IntArrays.copy(knownObjectIndices, 0, knownCount);
+		IntArrays.quickSort(sortedKnownObjectIndices, (i, k) -> ((KnownSimpleField)column[i]).compareTo((KnownSimpleField)column[k]));
+
+		EvaluationField[] dictionary = new EvaluationField[knownCount];
+		int code = -1;
+		for (int p = 0; p < knownCount; p++) {
+			int objectIndex = sortedKnownObjectIndices[p];
+			if (code < 0 || ((KnownSimpleField)column[objectIndex]).compareTo((KnownSimpleField)dictionary[code]) != 0) {
+				dictionary[++code] = column[objectIndex];
+			}
+			codes[objectIndex] = code;
+		}
+
+		return new EncodedColumn(codes, Arrays.copyOf(dictionary, code + 1), missingDictionary, knownFieldClass, preferenceType);
+	}
+
+	/**
+	 * Gets codes of evaluations of subsequent objects.
+	 *
+	 * @return codes of evaluations of subsequent objects
+	 */
+	@ReadOnlyArrayReference(at = ReadOnlyArrayReferenceLocation.OUTPUT)
+	public int[] getCodes() {
+		return this.codes;
+	}
+
+	/**
+	 * Gets distinct known evaluations, sorted from the lowest to the highest value. Each non-negative code is an index in this array.
+	 *
+	 * @return distinct known evaluations
+	 */
+	@ReadOnlyArrayReference(at = ReadOnlyArrayReferenceLocation.OUTPUT)
+	public EvaluationField[] getDictionary() {
+		return this.dictionary;
+	}
+
+	/**
+	 * Gets distinct missing evaluations. Each negative code {@code c} corresponds to index {@code -c-1} in this array.
+	 *
+	 * @return distinct missing evaluations
+	 */
+	@ReadOnlyArrayReference(at = ReadOnlyArrayReferenceLocation.OUTPUT)
+	public UnknownSimpleField[] getMissingDictionary() {
+		return this.missingDictionary;
+	}
+
+	/**
+	 * Gets class of known evaluations.
+	 *
+	 * @return class of known evaluations, or {@code null} if all evaluations are missing
+	 */
+	public Class<?> getKnownFieldClass() {
+		return this.knownFieldClass;
+	}
+
+	/**
+	 * Gets preference type of known evaluations.
+	 *
+	 * @return preference type of known evaluations, or {@code null} if all evaluations are missing
+	 */
+	public AttributePreferenceType getPreferenceType() {
+		return this.preferenceType;
+	}
+
+}
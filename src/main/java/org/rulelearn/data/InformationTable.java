@@ -844,6 +844,23 @@ public class InformationTable {
 				this.localActiveConditionAttributeIndex2GlobalAttributeIndexMap, accelerateByReadOnlyResult);
 	}
 	
+	/**
+	 * Gets information table with the same objects as this information table, whose evaluations on active condition attributes are stored
+	 * in a {@link ColumnarTable}. If these evaluations are already stored in a {@link ColumnarTable}, or there are no active condition attributes,
+	 * returns this information table.
+	 * 
+	 * @return information table storing evaluations on active condition attributes in primitive columns
+	 */
+	public InformationTable toColumnar() {
+		if (this.activeConditionAttributeFields == null || this.activeConditionAttributeFields instanceof ColumnarTable) {
+			return this;
+		}
+		
+		return new InformationTable(this.attributes, this.mapper, new ColumnarTable(this.activeConditionAttributeFields), this.notActiveOrDescriptionAttributeFields,
+				this.decisions, this.activeIdentificationAttributeFields, this.activeIdentificationAttributeIndex, this.attributeMap,
+				this.localActiveConditionAttributeIndex2GlobalAttributeIndexMap, true);
+	}
+	
 	/**
 	 * Discards rows of this information table that correspond to objects with given indices.
 	 * Returns new information table concerning subset of remaining objects (rows).
@@ -930,6 +947,20 @@ public class InformationTable {
 		return this.activeIdentificationAttributeIndex;
 	}
 	
+	/**
+	 * Takes given index of an attribute in the array returned by {@link #getAttributes()}, and translates it to the local index of this attribute
+	 * in the table returned by {@link #getActiveConditionAttributeFields()}. Inverse to {@link #translateLocalActiveConditionAttributeIndex2GlobalAttributeIndex(int)}.
+	 * 
+	 * @param globalAttributeIndex index of an attribute in the array of attributes returned by {@link #getAttributes()}
+	 * @return index of the considered attribute in the table returned by {@link #getActiveConditionAttributeFields()},
+	 *         or -1 if given attribute is not an active condition attribute
+	 * 
+	 * @throws IndexOutOfBoundsException if given attribute index does not correspond to any attribute of this information table
+	 */
+	public int translateGlobalAttributeIndex2LocalActiveConditionAttributeIndex(int globalAttributeIndex) {
+		return this.attributeMap[globalAttributeIndex] > 0 ? this.decodeActiveConditionAttributeIndex(this.attributeMap[globalAttributeIndex]) : -1;
+	}
+	
 	/**
 	 * Takes given local index of an active condition attribute (i.e., index of such attribute in the table returned by {@link #getActiveConditionAttributeFields()},
 	 * and translates it to the index that this attribute has in the array returned by {@link #getAttributes()}.<br>
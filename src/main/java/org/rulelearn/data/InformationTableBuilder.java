@@ -205,7 +205,24 @@ public class InformationTableBuilder {
 		
 		this.fields.add(object);
 	}
-	
+
+	/**
+	 * Adds all objects added so far to given builder to this builder, preserving their order. Fields of these objects are not copied.
+	 * Given builder is assumed to concern the same attributes as this builder, and not to be used afterwards.
+	 *
+	 * @param informationTableBuilder builder whose objects should be added to this builder
+	 *
+	 * @throws NullPointerException if given builder is {@code null}
+	 * @throws IndexOutOfBoundsException if objects added to given builder have different number of fields than the number of attributes of this builder
+	 */
+	public void addObjects(InformationTableBuilder informationTableBuilder) {
+		notNull(informationTableBuilder, "Information table builder with objects to add is null.");
+		if (informationTableBuilder.attributes.length != this.attributes.length)
+			throw new IndexOutOfBoundsException("Objects have different number of evaluations than the number of attributes declared.");
+
+		this.fields.addAll(informationTableBuilder.fields);
+	}
+
 	/**
 	 * Parses one object's evaluation and transforms it into an {@link EvaluationField evaluation field}.
 	 * 
@@ -494,10 +511,52 @@ public class InformationTableBuilder {
 		if (informationTableBuilder != null) {
 			informationTable = informationTableBuilder.build();
 		}
-		
+
 		return informationTable;
 	}
 
+	/**
+	 * Builds information table on the base of file with JSON specification of attributes {@link Attribute} and file with (possibly large number of) objects stored in CSV format.
+	 * Internally it uses attribute deserializer {@link AttributeDeserializer} to load attributes and fast object loader {@link org.rulelearn.data.csv.FastObjectLoader} to load objects.
+	 * Constructed information table is the same as the one constructed by {@link #safelyBuildFromCSVFile(String, String, boolean, char)}, but objects are loaded faster
+	 * and without storing their textual descriptions.
+	 *
+	 * @param pathToJSONAttributeFile a path to JSON file with attributes
+	 * @param pathToCSVObjectFile a path to the CSV file with objects
+	 * @param header indicates whether header is present in CSV file
+	 * @param separator representation of a separator of fields in CSV file
+	 *
+	 * @return constructed information table or {@code null} value provided that it was not possible to construct the table
+	 * @throws NullPointerException if path to JSON file and/or path to CSV file have not been set
+	 * @throws IOException when there is problem with handling JSON file and/or CSV file
+	 * @throws FileNotFoundException when JSON file and/or CSV file cannot be found
+	 * @throws FieldParseException if any evaluation in CSV file cannot be parsed as a value of the corresponding attribute
+	 * @throws IndexOutOfBoundsException if any object in CSV file has different number of evaluations than the number of attributes
+	 */
+	public static InformationTable fastBuildFromCSVFile(String pathToJSONAttributeFile, String pathToCSVObjectFile, boolean header, char separator) throws IOException, FileNotFoundException {
+		notNull(pathToJSONAttributeFile, "Path to JSON file with attributes is null.");
+		notNull(pathToCSVObjectFile, "Path to CSV file with objects is null.");
+
+		Attribute [] attributes = null;
+
+		// load attributes
+		GsonBuilder gsonBuilder = new GsonBuilder();
+		gsonBuilder.registerTypeAdapter(Attribute.class, new AttributeDeserializer());
+		Gson gson = gsonBuilder.setPrettyPrinting().create();
+
+		try (JsonReader jsonReader = new JsonReader(new FileReader(pathToJSONAttributeFile))) {
+			attributes = gson.fromJson(jsonReader, Attribute[].class);
+		}
+
+		// load objects and build information table
+		if (attributes != null) {
+			return new org.rulelearn.data.csv.FastObjectLoader.Builder(attributes).header(header).separator(separator).build().load(pathToCSVObjectFile);
+		}
+		else {
+			return null;
+		}
+	}
+
 	/**
 	 * Builds information table on the base of file with JSON specification of attributes {@link Attribute} and file with objects stored also in JSON format.
 	 * Internally it uses {@link InformationTableBuilder#safelyBuildFromJSONFile(String, String)}.
@@ -16,12 +16,19 @@
 
 package org.rulelearn.data;
 
+import static org.rulelearn.core.Precondition.notNull;
+
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 
 import org.rulelearn.core.InvalidValueException;
 import org.rulelearn.core.ReadOnlyArrayReference;
 import org.rulelearn.core.ReadOnlyArrayReferenceLocation;
+import org.rulelearn.dominance.CompactDominanceConesDecisionDistributions;
+import org.rulelearn.dominance.DominanceConesCalculationMode;
 import org.rulelearn.dominance.DominanceConesDecisionDistributions;
+import org.rulelearn.dominance.DominanceIndex;
+import org.rulelearn.dominance.OnDemandDominanceConesDecisionDistributions;
 import org.rulelearn.types.Field;
 
 /**
@@ -44,6 +51,12 @@ public class InformationTableWithDecisionDistributions extends InformationTable
 	 */
 	protected DecisionDistribution decisionDistribution;
 	
+	/**
+	 * Precomputed dominance relations among objects of this information table. Equals to {@code null} if this information table
+	 * has been constructed without dominance index.
+	 */
+	protected DominanceIndex dominanceIndex = null;
+	
 	/**
 	 * A wrapper-type constructor, passing arguments to {@link InformationTableWithDecisionDistributions#InformationTableWithDecisionDistributions(Attribute[], List, boolean)}
 	 * with the boolean flag set to {@code false}.
@@ -76,7 +89,7 @@ public class InformationTableWithDecisionDistributions extends InformationTable
 	@ReadOnlyArrayReference(at = ReadOnlyArrayReferenceLocation.INPUT)
 	public InformationTableWithDecisionDistributions(Attribute[] attributes, List<Field[]> listOfFields, boolean accelerateByReadOnlyParams) {
 		super(attributes, listOfFields, accelerateByReadOnlyParams);
-		initializeDistributions();
+		initializeDistributions(DominanceConesCalculationMode.SEQUENTIAL);
 	}
 	
 	/**
@@ -108,20 +121,118 @@ public class InformationTableWithDecisionDistributions extends InformationTable
 	 * @throws InvalidValueException if the given information table does not contain any active decision attribute
 	 */
 	public InformationTableWithDecisionDistributions(InformationTable informationTable, boolean accelerateByReadOnlyResult) {
+		this(informationTable, accelerateByReadOnlyResult, false);
+	}
+	
+	/**
+	 * A wrapper-type constructor, passing arguments to {@link InformationTableWithDecisionDistributions#InformationTableWithDecisionDistributions(InformationTable, boolean, DominanceConesCalculationMode)}
+	 * with {@link DominanceConesCalculationMode#DOMINANCE_INDEX} mode if {@code useDominanceIndex} is {@code true},
+	 * and with {@link DominanceConesCalculationMode#SEQUENTIAL} mode otherwise.
+	 * 
+	 * @param informationTable see {@link InformationTableWithDecisionDistributions#InformationTableWithDecisionDistributions(InformationTable, boolean, DominanceConesCalculationMode)}
+	 * @param accelerateByReadOnlyResult see {@link InformationTableWithDecisionDistributions#InformationTableWithDecisionDistributions(InformationTable, boolean, DominanceConesCalculationMode)}
+	 * @param useDominanceIndex tells if dominance relations should be precomputed and stored in a {@link DominanceIndex}
+	 * 
+	 * @throws NullPointerException see {@link InformationTableWithDecisionDistributions#InformationTableWithDecisionDistributions(InformationTable, boolean, DominanceConesCalculationMode)}
+	 * @throws InvalidValueException see {@link InformationTableWithDecisionDistributions#InformationTableWithDecisionDistributions(InformationTable, boolean, DominanceConesCalculationMode)}
+	 */
+	public InformationTableWithDecisionDistributions(InformationTable informationTable, boolean accelerateByReadOnlyResult, boolean useDominanceIndex) {
+		this(informationTable, accelerateByReadOnlyResult, useDominanceIndex ? DominanceConesCalculationMode.DOMINANCE_INDEX : DominanceConesCalculationMode.SEQUENTIAL);
+	}
+	
+	/**
+	 * Information table constructor. Invokes superclass constructor {@link InformationTable#InformationTable(InformationTable)} for basic construction.
+	 * Then, checks if there is at least one active decision attribute (throwing an {@link InvalidValueException} exception if this is not the case).
+	 * Finally, calculates:<br>
+	 * - distribution of decisions found in this information table among different dominance cones originating in objects from this information table,<br>
+	 * - distribution of decisions among objects of this information table.<br>
+	 * <br>
+	 * Decision distributions in dominance cones are calculated in the given mode:<br>
+	 * - {@link DominanceConesCalculationMode#SEQUENTIAL} - separately for each type of dominance cones, on a single thread,<br>
+	 * - {@link DominanceConesCalculationMode#DOMINANCE_INDEX} - by reading dominance cones from a {@link DominanceIndex}, which is then kept
+	 *   (also for unions defined for this information table), at the cost of approximately {@code n*n/4} bytes of memory, where {@code n} is the number of objects,<br>
+	 * - {@link DominanceConesCalculationMode#PARALLEL_SINGLE_PASS} - in a single pass over pairs of objects, in parallel on {@link ForkJoinPool#commonPool()},<br>
+	 * - {@link DominanceConesCalculationMode#COMPACT} - like in the previous mode, but storing all decision distributions of one type of dominance cones in a single array,<br>
+	 * - {@link DominanceConesCalculationMode#ON_DEMAND} - when requested for the first time, keeping only a bounded number of recently used decision distributions.
+	 * 
+	 * @param informationTable information table to be copied and then extended by decision distributions
+	 * @param accelerateByReadOnlyResult tells if this method should return the result faster,
+	 *        at the cost of returning a read-only information table, or should return a safe information table (that can be modified),
+	 *        at the cost of returning the result slower
+	 * @param dominanceConesCalculationMode mode of calculation of decision distributions in dominance cones
+	 * 
+	 * @throws NullPointerException if the given information table or calculation mode is {@code null}
+	 * @throws InvalidValueException if the given information table does not contain any active decision attribute
+	 */
+	public InformationTableWithDecisionDistributions(InformationTable informationTable, boolean accelerateByReadOnlyResult, DominanceConesCalculationMode dominanceConesCalculationMode) {
+		this(informationTable, accelerateByReadOnlyResult, dominanceConesCalculationMode, OnDemandDominanceConesDecisionDistributions.DEFAULT_CACHE_CAPACITY);
+	}
+	
+	/**
+	 * Information table constructor, like {@link InformationTableWithDecisionDistributions#InformationTableWithDecisionDistributions(InformationTable, boolean, DominanceConesCalculationMode)},
+	 * but additionally setting maximum number of decision distributions in dominance cones kept in memory in {@link DominanceConesCalculationMode#ON_DEMAND} mode.
+	 * 
+	 * @param informationTable information table to be copied and then extended by decision distributions
+	 * @param accelerateByReadOnlyResult tells if this method should return the result faster,
+	 *        at the cost of returning a read-only information table, or should return a safe information table (that can be modified),
+	 *        at the cost of returning the result slower
+	 * @param dominanceConesCalculationMode mode of calculation of decision distributions in dominance cones
+	 * @param onDemandCacheCapacity maximum number of decision distributions in dominance cones kept in the cache in {@link DominanceConesCalculationMode#ON_DEMAND} mode;
+	 *        see {@link OnDemandDominanceConesDecisionDistributions#OnDemandDominanceConesDecisionDistributions(InformationTable, int)}
+	 * 
+	 * @throws NullPointerException if the given information table or calculation mode is {@code null}
+	 * @throws InvalidValueException if the given information table does not contain any active decision attribute
+	 * @throws InvalidValueException if the given cache capacity is lower than one
+	 */
+	public InformationTableWithDecisionDistributions(InformationTable informationTable, boolean accelerateByReadOnlyResult, DominanceConesCalculationMode dominanceConesCalculationMode,
+			int onDemandCacheCapacity) {
 		super(informationTable, accelerateByReadOnlyResult);
-		initializeDistributions();
+		initializeDistributions(notNull(dominanceConesCalculationMode, "Dominance cones calculation mode is null."), onDemandCacheCapacity);
 	}
 	
 	/**
 	 * Initializes decision distributions, general one and within dominance cones.
 	 * 
+	 * @param dominanceConesCalculationMode mode of calculation of decision distributions in dominance cones
 	 * @throws InvalidValueException if this information table does not contain any active decision attribute
 	 */
-	void initializeDistributions() {
+	void initializeDistributions(DominanceConesCalculationMode dominanceConesCalculationMode) {
+		initializeDistributions(dominanceConesCalculationMode, OnDemandDominanceConesDecisionDistributions.DEFAULT_CACHE_CAPACITY);
+	}
+	
+	/**
+	 * Initializes decision distributions, general one and within dominance cones.
+	 * 
+	 * @param dominanceConesCalculationMode mode of calculation of decision distributions in dominance cones
+	 * @param onDemandCacheCapacity maximum number of decision distributions in dominance cones kept in the cache in {@link DominanceConesCalculationMode#ON_DEMAND} mode
+	 * @throws InvalidValueException if this information table does not contain any active decision attribute
+	 * @throws InvalidValueException if given cache capacity is lower than one
+	 */
+	void initializeDistributions(DominanceConesCalculationMode dominanceConesCalculationMode, int onDemandCacheCapacity) {
 		if (this.getDecisions(true) == null) {
 			throw new InvalidValueException("Information table for which decision distributions should be calculated does not have any active decision attribute.");
 		}
-		this.dominanceConesDecisionDistributions = new DominanceConesDecisionDistributions(this);
+		if (onDemandCacheCapacity < 1) {
+			throw new InvalidValueException("Capacity of the cache of decision distributions in dominance cones should be positive.");
+		}
+		
+		switch (dominanceConesCalculationMode) {
+		case DOMINANCE_INDEX:
+			this.dominanceIndex = new DominanceIndex(this);
+			this.dominanceConesDecisionDistributions = new DominanceConesDecisionDistributions(this, this.dominanceIndex);
+			break;
+		case PARALLEL_SINGLE_PASS:
+			this.dominanceConesDecisionDistributions = new DominanceConesDecisionDistributions(this, ForkJoinPool.commonPool());
+			break;
+		case COMPACT:
+			this.dominanceConesDecisionDistributions = new CompactDominanceConesDecisionDistributions(this, ForkJoinPool.commonPool());
+			break;
+		case ON_DEMAND:
+			this.dominanceConesDecisionDistributions = new OnDemandDominanceConesDecisionDistributions(this, onDemandCacheCapacity);
+			break;
+		default:
+			this.dominanceConesDecisionDistributions = new DominanceConesDecisionDistributions(this);
+		}
 		this.decisionDistribution = new DecisionDistribution(this);
 	}
 
@@ -134,6 +245,16 @@ public class InformationTableWithDecisionDistributions extends InformationTable
 		return this.dominanceConesDecisionDistributions;
 	}
 
+	/**
+	 * Gets precomputed dominance relations among objects of this information table.
+	 * 
+	 * @return precomputed dominance relations among objects of this information table,
+	 *         or {@code null} if this information table has been constructed without dominance index
+	 */
+	public DominanceIndex getDominanceIndex() {
+		return this.dominanceIndex;
+	}
+	
 	/**
 	 * Gets distribution of decisions associated with objects of this information table
 	 * 
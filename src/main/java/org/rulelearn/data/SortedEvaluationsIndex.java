@@ -0,0 +1,216 @@
+/**
+ * Copyright (C) Jerzy Błaszczyński, Marcin Szeląg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.rulelearn.data;
+
+import static org.rulelearn.core.Precondition.notNull;
+
+import org.rulelearn.types.EvaluationField;
+import org.rulelearn.types.KnownSimpleField;
+import org.rulelearn.types.SimpleField;
+import org.rulelearn.types.UnknownSimpleField;
+
+import it.unimi.dsi.fastutil.ints.IntArrays;
+
+/**
+ * Read-only index of ranks of evaluations of objects of an information table, on each active condition attribute having {@link SimpleField} evaluations.
+ * For each such an attribute, the index stores:
+ * <ul>
+ *   <li>distinct known evaluations of objects, sorted from the lowest to the highest value,</li>
+ *   <li>rank of each object's evaluation among these distinct evaluations ({@link #MISSING_EVALUATION_RANK} if the evaluation is missing).</li>
+ * </ul>
+ * Comparison of two evaluations on an indexed attribute reduces to comparison of two ranks, so the index can be used to enumerate, in sorted order,
+ * distinct candidate limiting evaluations of elementary conditions without comparing any {@link KnownSimpleField} objects.
+ * The index is built once, in the constructor, and can be shared by many threads.
+ *
+ * @author Jerzy Błaszczyński (<a href="mailto:jurek.blaszczynski@cs.put.poznan.pl">jurek.blaszczynski@cs.put.poznan.pl</a>)
+ * @author Marcin Szeląg (<a href="mailto:marcin.szelag@cs.put.poznan.pl">marcin.szelag@cs.put.poznan.pl</a>)
+ */
+public class SortedEvaluationsIndex {
+
+	/**
+	 * Rank of a missing evaluation.
+	 */
+	public static final int MISSING_EVALUATION_RANK = -1;
+
+	/**
+	 * Information table for which this index has been built.
+	 */
+	protected InformationTable informationTable;
+
+	/**
+	 * Ranks of evaluations, indexed by local index of an active condition attribute and object's index.
+	 * Equals to {@code null} for an attribute that is not indexed.
+	 */
+	protected int[][] ranks;
+
+	/**
+	 * Distinct known evaluations on each indexed attribute, sorted from the lowest to the highest value.
+	 */
+	protected KnownSimpleField[][] distinctEvaluations;
+
+	/**
+	 * Constructs this index for all active condition attributes of the given information table having {@link SimpleField} evaluations.
+	 *
+	 * @param informationTable information table whose objects should be indexed
+	 * @throws NullPointerException if given information table is {@code null}
+	 */
+	public SortedEvaluationsIndex(InformationTable informationTable) {
+		this.informationTable = notNull(informationTable, "Information table for calculation of sorted evaluations index is null.");
+
+		Table<EvaluationAttribute, EvaluationField> data = informationTable.getActiveConditionAttributeFields();
+		EvaluationAttribute[] attributes = data.getAttributes(true);
+
+		this.ranks = new int[attributes.length][];
+		this.distinctEvaluations = new KnownSimpleField[attributes.length][];
+
+		for (int attributeIndex = 0; attributeIndex < attributes.length; attributeIndex++) {
+			if (attributes[attributeIndex].getValueType() instanceof SimpleField) {
+				indexAttribute(data, attributeIndex);
+			}
+		}
+	}
+
+	/**
+	 * Indexes evaluations on the attribute with given index. Leaves the attribute not indexed if any of its evaluations is neither a {@link KnownSimpleField}
+	 * nor a missing value.
+	 *
+	 * @param data table with evaluations
+	 * @param attributeIndex index of the attribute in the given table
+	 */
+	private void indexAttribute(Table<EvaluationAttribute, EvaluationField> data, int attributeIndex) {
+		int numberOfObjects = data.getNumberOfObjects();
+		KnownSimpleField[] evaluations = new KnownSimpleField[numberOfObjects];
+		int[] objects = new int[numberOfObjects];
+		int knownEvaluationsCount = 0;
+		EvaluationField evaluation;
+
+		for (int objectIndex = 0; objectIndex < numberOfObjects; objectIndex++) {
+			evaluation = data.getField(objectIndex, attributeIndex);
+			if (evaluation instanceof KnownSimpleField) {
+				evaluations[objectIndex] = (KnownSimpleField)evaluation;
+				objects[knownEvaluationsCount++] = objectIndex;
+			} else if (!(evaluation instanceof UnknownSimpleField)) { //neither known nor missing simple field
+				return;
+			}
+		}
+
+		int[] sorted = new int[knownEvaluationsCount];
+		System.arraycopy(objects, 0, sorted, 0, knownEvaluationsCount);
+		if (data instanceof ColumnarTable && ((ColumnarTable)data).isEncoded(attributeIndex)) { //codes are already ranks of known evaluations
+			ColumnarTable columnarTable = (ColumnarTable)data;
+			IntArrays.mergeSort(sorted, (x, y) -> Integer.compare(columnarTable.getCode(x, attributeIndex), columnarTable.getCode(y, attributeIndex)));
+		} else {
+			IntArrays.mergeSort(sorted, (x, y) -> evaluations[x].compareTo(evaluations[y]));
+		}
+
+		int[] attributeRanks = new int[numberOfObjects];
+		for (int objectIndex = 0; objectIndex < numberOfObjects; objectIndex++) {
+			attributeRanks[objectIndex] = MISSING_EVALUATION_RANK;
+		}
+
+		KnownSimpleField[] attributeDistinctEvaluations = new KnownSimpleField[knownEvaluationsCount];
+		int rank = -1;
+
+		for (int position = 0; position < knownEvaluationsCount; position++) {
+			if (rank < 0 || evaluations[sorted[position]].compareTo(attributeDistinctEvaluations[rank]) != 0) { //next distinct evaluation
+				rank++;
+				attributeDistinctEvaluations[rank] = evaluations[sorted[position]];
+			}
+			attributeRanks[sorted[position]] = rank;
+		}
+
+		int distinctEvaluationsCount = rank + 1;
+
+		this.ranks[attributeIndex] = attributeRanks;
+		this.distinctEvaluations[attributeIndex] = new KnownSimpleField[distinctEvaluationsCount];
+		System.arraycopy(attributeDistinctEvaluations, 0, this.distinctEvaluations[attributeIndex], 0, distinctEvaluationsCount);
+	}
+
+	/**
+	 * Gets information table for which this index has been built.
+	 *
+	 * @return information table for which this index has been built
+	 */
+	public InformationTable getInformationTable() {
+		return this.informationTable;
+	}
+
+	/**
+	 * Gets number of active condition attributes of the information table for which this index has been built.
+	 *
+	 * @return number of active condition attributes
+	 */
+	public int getNumberOfAttributes() {
+		return this.ranks.length;
+	}
+
+	/**
+	 * Tells if active condition attribute with given local index is indexed.
+	 *
+	 * @param localActiveConditionAttributeIndex local index of an active condition attribute
+	 * @return {@code true} if evaluations on given attribute are indexed, {@code false} otherwise
+	 *
+	 * @throws IndexOutOfBoundsException if given index does not correspond to any active condition attribute
+	 */
+	public boolean isIndexed(int localActiveConditionAttributeIndex) {
+		return this.ranks[localActiveConditionAttributeIndex] != null;
+	}
+
+	/**
+	 * Gets rank of the evaluation of the object with given index on the indexed attribute with given local index,
+	 * among distinct known evaluations on that attribute, sorted from the lowest to the highest value.
+	 * For any two objects x and y, {@code getRank(x, a) - getRank(y, a)} has the same sign as the result of comparison of their known evaluations on attribute a.
+	 *
+	 * @param objectIndex index of an object
+	 * @param localActiveConditionAttributeIndex local index of an indexed active condition attribute
+	 * @return rank of object's evaluation, or {@link #MISSING_EVALUATION_RANK} if that evaluation is missing
+	 *
+	 * @throws NullPointerException if given attribute is not indexed
+	 * @throws IndexOutOfBoundsException if any of the given indices is out of range
+	 */
+	public int getRank(int objectIndex, int localActiveConditionAttributeIndex) {
+		return this.ranks[localActiveConditionAttributeIndex][objectIndex];
+	}
+
+	/**
+	 * Gets number of distinct known evaluations on the indexed attribute with given local index.
+	 *
+	 * @param localActiveConditionAttributeIndex local index of an indexed active condition attribute
+	 * @return number of distinct known evaluations on the attribute
+	 *
+	 * @throws NullPointerException if given attribute is not indexed
+	 * @throws IndexOutOfBoundsException if given index does not correspond to any active condition attribute
+	 */
+	public int getNumberOfDistinctEvaluations(int localActiveConditionAttributeIndex) {
+		return this.distinctEvaluations[localActiveConditionAttributeIndex].length;
+	}
+
+	/**
+	 * Gets distinct known evaluation with given rank, on the indexed attribute with given local index.
+	 *
+	 * @param localActiveConditionAttributeIndex local index of an indexed active condition attribute
+	 * @param rank rank of an evaluation
+	 * @return distinct known evaluation with given rank
+	 *
+	 * @throws NullPointerException if given attribute is not indexed
+	 * @throws IndexOutOfBoundsException if any of the given indices is out of range
+	 */
+	public KnownSimpleField getDistinctEvaluation(int localActiveConditionAttributeIndex, int rank) {
+		return this.distinctEvaluations[localActiveConditionAttributeIndex][rank];
+	}
+
+}
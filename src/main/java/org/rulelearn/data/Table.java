@@ -109,6 +109,32 @@ public class Table<S extends Attribute, T extends Field> {
 		this.mapper = mapper;
 	}
 	
+	/**
+	 * Constructs this table without setting its fields. This constructor is intended for subclasses that store fields in a different form,
+	 * and therefore override all methods accessing {@link #fields}.
+	 * 
+	 * @param attributes attributes corresponding to columns of this table
+	 * @param mapper translator of object's index, which is meaningful in this table only,
+	 *        to unique object's id, which is meaningful in general
+	 * @param accelerateByReadOnlyParams tells if construction of this object should be accelerated by assuming that the given reference
+	 *        to an array of attributes is not going to be used outside this class to modify that array
+	 * 
+	 * @throws NullPointerException if any of the parameters is {@code null}
+	 */
+	@ReadOnlyArrayReference(at = ReadOnlyArrayReferenceLocation.INPUT)
+	protected Table(S[] attributes, Index2IdMapper mapper, boolean accelerateByReadOnlyParams) {
+		if (attributes == null) {
+			throw new NullPointerException("Attributes are null.");
+		}
+		if (mapper == null) {
+			throw new NullPointerException("Mapper is null.");	
+		}
+		
+		this.attributes = accelerateByReadOnlyParams ? attributes : attributes.clone();
+		this.fields = null;
+		this.mapper = mapper;
+	}
+	
 	/**
 	 * Gets field of this table for the object and attribute identified by the given indices.
 	 * 
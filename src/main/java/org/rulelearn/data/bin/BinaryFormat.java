@@ -0,0 +1,111 @@
+/**
+ * Copyright (C) Jerzy Błaszczyński, Marcin Szeląg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.rulelearn.data.bin;
+
+/**
+ * Constants of the binary format of information tables, shared by {@link InformationTableBinaryWriter} and {@link InformationTableBinaryReader}.<br>
+ * <br>
+ * Binary representation of an information table (all numbers are big-endian) consists of:<br>
+ * - {@link #MAGIC_NUMBER} and {@link #VERSION} (two ints),<br>
+ * - the number of attributes (int), followed by subsequent attributes,<br>
+ * - the number of objects (int), followed by subsequent columns of fields, one for each attribute.<br>
+ * <br>
+ * An attribute is written as its kind ({@link #IDENTIFICATION_ATTRIBUTE} or {@link #EVALUATION_ATTRIBUTE}, byte), name (string), and activity (byte).
+ * Then, an identification attribute is followed by its value type ({@link #TEXT_IDENTIFICATION} or {@link #UUID_IDENTIFICATION}, byte),
+ * and an evaluation attribute is followed by its type and preference type (strings with names of enum constants),
+ * missing value type ({@link #MV15} or {@link #MV2}, byte), and value type. Value type is written as {@link #INTEGER_VALUE}, {@link #REAL_VALUE},
+ * or {@link #ENUMERATION_VALUE} (byte), optionally followed by the element list (hash algorithm and elements, as a string and an array of strings).
+ * Value type being a pair is written as {@link #PAIR_VALUE} (byte), followed by the value type of both elements of the pair.<br>
+ * <br>
+ * A column of identification fields contains subsequent strings or UUIDs (two longs). A column of simple evaluation fields
+ * starts with a byte telling if the column contains unknown evaluations. If so, a byte for each object follows, equal to {@link #KNOWN}, {@link #MV15}, or {@link #MV2}.
+ * Then, subsequent known evaluations are written (ints for integer and enumeration evaluations, doubles for real evaluations),
+ * with a zero in place of each unknown evaluation. A column of pair evaluation fields consists of two columns of simple evaluation fields, for the first and for the second
+ * element of each pair.<br>
+ * <br>
+ * A string is written as the number of its bytes in UTF-8 (int), followed by these bytes. An array of strings is written as its length (int), followed by subsequent strings.
+ *
+ * @author Jerzy Błaszczyński (<a href="mailto:jurek.blaszczynski@cs.put.poznan.pl">jurek.blaszczynski@cs.put.poznan.pl</a>)
+ * @author Marcin Szeląg (<a href="mailto:marcin.szelag@cs.put.poznan.pl">marcin.szelag@cs.put.poznan.pl</a>)
+ */
+final class BinaryFormat {
+
+	/**
+	 * Number starting binary representation of an information table (ASCII codes of "RLIT").
+	 */
+	static final int MAGIC_NUMBER = 0x524C4954;
+
+	/**
+	 * Current version of the binary format. Readers reject representations having greater version.
+	 */
+	static final int VERSION = 1;
+
+	/**
+	 * Kind of an identification attribute.
+	 */
+	static final byte IDENTIFICATION_ATTRIBUTE = 0;
+	/**
+	 * Kind of an evaluation attribute.
+	 */
+	static final byte EVALUATION_ATTRIBUTE = 1;
+
+	/**
+	 * Value type of an identification attribute with text identifiers.
+	 */
+	static final byte TEXT_IDENTIFICATION = 0;
+	/**
+	 * Value type of an identification attribute with UUID identifiers.
+	 */
+	static final byte UUID_IDENTIFICATION = 1;
+
+	/**
+	 * Integer value type of an evaluation attribute.
+	 */
+	static final byte INTEGER_VALUE = 0;
+	/**
+	 * Real value type of an evaluation attribute.
+	 */
+	static final byte REAL_VALUE = 1;
+	/**
+	 * Enumeration value type of an evaluation attribute.
+	 */
+	static final byte ENUMERATION_VALUE = 2;
+	/**
+	 * Pair value type of an evaluation attribute.
+	 */
+	static final byte PAIR_VALUE = 3;
+
+	/**
+	 * Marker of a known evaluation.
+	 */
+	static final byte KNOWN = 0;
+	/**
+	 * Marker of an unknown evaluation of type {@link org.rulelearn.types.UnknownSimpleFieldMV15}, also used as missing value type of an attribute.
+	 */
+	static final byte MV15 = 1;
+	/**
+	 * Marker of an unknown evaluation of type {@link org.rulelearn.types.UnknownSimpleFieldMV2}, also used as missing value type of an attribute.
+	 */
+	static final byte MV2 = 2;
+
+	/**
+	 * Prevents construction of this class.
+	 */
+	private BinaryFormat() {
+	}
+
+}
@@ -0,0 +1,495 @@
+/**
+ * Copyright (C) Jerzy Błaszczyński, Marcin Szeląg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.rulelearn.data.bin;
+
+import static org.rulelearn.core.Precondition.notNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.security.NoSuchAlgorithmException;
+import java.util.UUID;
+
+import org.rulelearn.core.InvalidValueException;
+import org.rulelearn.data.Attribute;
+import org.rulelearn.data.AttributePreferenceType;
+import org.rulelearn.data.AttributeType;
+import org.rulelearn.data.EvaluationAttribute;
+import org.rulelearn.data.IdentificationAttribute;
+import org.rulelearn.data.InformationTable;
+import org.rulelearn.types.ElementList;
+import org.rulelearn.types.EnumerationField;
+import org.rulelearn.types.EnumerationFieldCachingFactory;
+import org.rulelearn.types.EnumerationFieldFactory;
+import org.rulelearn.types.EvaluationField;
+import org.rulelearn.types.Field;
+import org.rulelearn.types.IntegerField;
+import org.rulelearn.types.IntegerFieldCachingFactory;
+import org.rulelearn.types.IntegerFieldFactory;
+import org.rulelearn.types.PairField;
+import org.rulelearn.types.RealField;
+import org.rulelearn.types.RealFieldCachingFactory;
+import org.rulelearn.types.RealFieldFactory;
+import org.rulelearn.types.SimpleField;
+import org.rulelearn.types.TextIdentificationField;
+import org.rulelearn.types.UUIDIdentificationField;
+import org.rulelearn.types.UnknownSimpleField;
+import org.rulelearn.types.UnknownSimpleFieldMV15;
+import org.rulelearn.types.UnknownSimpleFieldMV2;
+
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+
+/**
+ * Reader of information tables written in binary format, described in {@link BinaryFormat}, by {@link InformationTableBinaryWriter}.
+ * A file is memory-mapped, as a {@link SegmentedBuffer segmented buffer} addressed by {@code long} positions, so it can be larger than 2 GiB,
+ * and evaluations are read column by column directly from the mapped buffer, without parsing text.
+ * Equal evaluations of objects read at once are represented by the same field, taken from field caching factories.
+ * Read information table is equal to the written one, except for unique identifiers of objects, which are assigned anew.
+ * Alternatively, a file can be opened by {@link #map(String)}, without reading evaluations into memory at all.
+ *
+ * @author Jerzy Błaszczyński (<a href="mailto:jurek.blaszczynski@cs.put.poznan.pl">jurek.blaszczynski@cs.put.poznan.pl</a>)
+ * @author Marcin Szeląg (<a href="mailto:marcin.szelag@cs.put.poznan.pl">marcin.szelag@cs.put.poznan.pl</a>)
+ */
+public class InformationTableBinaryReader {
+
+	/**
+	 * Reads information table from file with given path, which is mapped into memory, in segments.
+	 * The file can be larger than 2 GiB, as long as the number of objects fits in an {@code int}.
+	 *
+	 * @param pathToFile path to the file
+	 * @return read information table
+	 * @throws NullPointerException if given path is {@code null}
+	 * @throws IOException when the file cannot be read or mapped, or it does not contain binary representation of an information table in supported version
+	 */
+	public InformationTable read(String pathToFile) throws IOException {
+		notNull(pathToFile, "Path to file with binary representation of information table is null.");
+		try (FileChannel channel = FileChannel.open(Paths.get(pathToFile), StandardOpenOption.READ)) {
+			return read(SegmentedBuffer.map(channel));
+		}
+	}
+
+	/**
+	 * Reads information table from given input stream. Given stream is read to the end, but not closed.
+	 *
+	 * @param inputStream input stream
+	 * @return read information table
+	 * @throws NullPointerException if given input stream is {@code null}
+	 * @throws IOException when something goes wrong with the input stream, or it does not contain binary representation of an information table in supported version
+	 */
+	public InformationTable read(InputStream inputStream) throws IOException {
+		notNull(inputStream, "Input stream with binary representation of information table is null.");
+		ByteArrayOutputStream content = new ByteArrayOutputStream();
+		byte[] buffer = new byte[1 << 16];
+		int length;
+		while ((length = inputStream.read(buffer)) >= 0) {
+			content.write(buffer, 0, length);
+		}
+		return read(ByteBuffer.wrap(content.toByteArray()));
+	}
+
+	/**
+	 * Reads information table from given buffer, starting at its current position. After reading, position of the buffer is just after read information table.
+	 *
+	 * @param buffer buffer with binary representation of an information table
+	 * @return read information table
+	 * @throws NullPointerException if given buffer is {@code null}
+	 * @throws IOException when the buffer does not contain binary representation of an information table in supported version
+	 */
+	public InformationTable read(ByteBuffer buffer) throws IOException {
+		notNull(buffer, "Buffer with binary representation of information table is null.");
+		SegmentedBuffer content = SegmentedBuffer.wrap(buffer);
+		InformationTable informationTable = read(content);
+		buffer.position(buffer.position() + (int)content.position());
+		return informationTable;
+	}
+
+	/**
+	 * Reads information table from given segmented buffer, starting at its current position. After reading, position of the buffer is just after read information table.
+	 *
+	 * @param buffer segmented buffer with binary representation of an information table
+	 * @return read information table
+	 * @throws IOException when the buffer does not contain binary representation of an information table in supported version
+	 */
+	InformationTable read(SegmentedBuffer buffer) throws IOException {
+		try {
+			Attribute[] attributes = readAttributes(buffer);
+			Field[][] fields = new Field[readObjectCount(attributes, buffer)][attributes.length];
+			for (int attributeIndex = 0; attributeIndex < attributes.length; attributeIndex++) {
+				if (attributes[attributeIndex] instanceof IdentificationAttribute) {
+					readIdentificationColumn((IdentificationAttribute)attributes[attributeIndex], attributeIndex, fields, buffer);
+				} else {
+					readEvaluationColumn((EvaluationAttribute)attributes[attributeIndex], attributeIndex, fields, buffer);
+				}
+			}
+
+			return new InformationTable(attributes, ObjectArrayList.wrap(fields), true);
+		}
+		catch (BufferUnderflowException exception) {
+			throw new IOException("Binary representation of an information table is truncated.");
+		}
+		catch (IllegalArgumentException | InvalidValueException exception) { //incorrect name of an enum constant, or incorrect element list
+			throw new IOException("Binary representation of an information table is corrupted: " + exception.getMessage());
+		}
+		finally {
+			//clear volatile caches of all used evaluation field caching factories
+			IntegerFieldCachingFactory.getInstance().clearVolatileCache();
+			RealFieldCachingFactory.getInstance().clearVolatileCache();
+			EnumerationFieldCachingFactory.getInstance().clearVolatileCache();
+		}
+	}
+
+	/**
+	 * Maps into memory file with given path, and gets information table whose evaluations are read from the mapped file on demand, when they are accessed.
+	 * Only decisions and identifiers of objects are read at once. Mapped information table is read-only, and can be larger than available heap.
+	 * Moreover, the file can be mapped by many processes at once, sharing its pages through the page cache of the operating system.
+	 * The file should not be modified as long as the information table (or any of its sub-tables) is used.
+	 * The file is mapped in segments addressed by {@code long} positions, so it can be larger than 2 GiB, as long as the number of objects fits in an {@code int}.
+	 *
+	 * @param pathToFile path to the file
+	 * @return information table storing evaluations on active condition attributes and on non-active/description attributes in {@link MappedTable mapped tables}
+	 * @throws NullPointerException if given path is {@code null}
+	 * @throws IOException when the file cannot be read or mapped, or it does not contain binary representation of an information table in supported version
+	 */
+	public InformationTable map(String pathToFile) throws IOException {
+		notNull(pathToFile, "Path to file with binary representation of information table is null.");
+		try (FileChannel channel = FileChannel.open(Paths.get(pathToFile), StandardOpenOption.READ)) {
+			return map(SegmentedBuffer.map(channel)); //mapping remains valid after closing the channel
+		}
+	}
+
+	/**
+	 * Gets information table whose evaluations are read from given buffer on demand, when they are accessed. Only decisions and identifiers of objects are read at once.
+	 * Position of the buffer is not changed. The buffer should not be modified as long as the information table (or any of its sub-tables) is used.
+	 *
+	 * @param buffer buffer with binary representation of an information table, starting at its current position
+	 * @return information table storing evaluations on active condition attributes and on non-active/description attributes in {@link MappedTable mapped tables}
+	 * @throws NullPointerException if given buffer is {@code null}
+	 * @throws IOException when the buffer does not contain binary representation of an information table in supported version
+	 */
+	public InformationTable map(ByteBuffer buffer) throws IOException {
+		notNull(buffer, "Buffer with binary representation of information table is null.");
+		return map(SegmentedBuffer.wrap(buffer));
+	}
+
+	/**
+	 * Gets information table whose evaluations are read from given segmented buffer on demand, when they are accessed.
+	 * Only decisions and identifiers of objects are read at once. After mapping, position of the buffer is just after mapped information table.
+	 *
+	 * @param buffer segmented buffer with binary representation of an information table, starting at its current position
+	 * @return information table storing evaluations on active condition attributes and on non-active/description attributes in {@link MappedTable mapped tables}
+	 * @throws IOException when the buffer does not contain binary representation of an information table in supported version
+	 */
+	InformationTable map(SegmentedBuffer buffer) throws IOException {
+		try {
+			Attribute[] attributes = readAttributes(buffer);
+			int numberOfObjects = readObjectCount(attributes, buffer);
+			MappedColumn[] columns = new MappedColumn[attributes.length];
+			for (int attributeIndex = 0; attributeIndex < attributes.length; attributeIndex++) {
+				columns[attributeIndex] = MappedColumn.map(attributes[attributeIndex], numberOfObjects, buffer);
+			}
+			return new MappedInformationTable(attributes, columns, numberOfObjects);
+		}
+		catch (BufferUnderflowException exception) {
+			throw new IOException("Binary representation of an information table is truncated.");
+		}
+		catch (IllegalArgumentException | InvalidValueException exception) { //incorrect name of an enum constant, or incorrect decision or identifier
+			throw new IOException("Binary representation of an information table is corrupted: " + exception.getMessage());
+		}
+	}
+
+	/**
+	 * Reads and verifies magic number and version of the binary format, followed by all attributes.
+	 *
+	 * @param buffer buffer with binary representation of an information table
+	 * @return read attributes
+	 * @throws IOException when the buffer does not contain binary representation of an information table in supported version
+	 */
+	Attribute[] readAttributes(SegmentedBuffer buffer) throws IOException {
+		if (buffer.remaining() < 8 || buffer.getInt() != BinaryFormat.MAGIC_NUMBER) {
+			throw new IOException("Given content is not a binary representation of an information table.");
+		}
+		int version = buffer.getInt();
+		if (version < 1 || version > BinaryFormat.VERSION) {
+			throw new IOException("Version " + version + " of binary representation of an information table is not supported.");
+		}
+
+		Attribute[] attributes = new Attribute[readCount(buffer)];
+		for (int i = 0; i < attributes.length; i++) {
+			attributes[i] = readAttribute(buffer);
+		}
+		return attributes;
+	}
+
+	/**
+	 * Reads number of objects, and verifies that the buffer is long enough to contain evaluations of that many objects on given attributes,
+	 * so no memory is allocated for objects that are not there.
+	 *
+	 * @param attributes all attributes
+	 * @param buffer buffer with binary representation of an information table
+	 * @return read number of objects
+	 * @throws IOException when read number is negative, or the buffer is too short to contain evaluations of that many objects
+	 */
+	int readObjectCount(Attribute[] attributes, SegmentedBuffer buffer) throws IOException {
+		int numberOfObjects = readCount(buffer);
+		long objectLength = 0L; //minimal number of bytes taken by evaluations of one object
+		for (Attribute attribute : attributes) {
+			if (attribute instanceof IdentificationAttribute) {
+				objectLength += ((IdentificationAttribute)attribute).getValueType() instanceof UUIDIdentificationField ? 16L : 4L;
+			} else if (((EvaluationAttribute)attribute).getValueType() instanceof PairField) {
+				PairField<?> valueType = (PairField<?>)((EvaluationAttribute)attribute).getValueType();
+				objectLength += (valueType.getFirstValue() instanceof RealField ? 8L : 4L) + (valueType.getSecondValue() instanceof RealField ? 8L : 4L);
+			} else {
+				objectLength += ((EvaluationAttribute)attribute).getValueType() instanceof RealField ? 8L : 4L;
+			}
+		}
+		if (numberOfObjects * objectLength > buffer.remaining()) {
+			throw new IOException("Binary representation of an information table is truncated.");
+		}
+		return numberOfObjects;
+	}
+
+	/**
+	 * Reads attribute.
+	 *
+	 * @param buffer buffer with binary representation of an information table
+	 * @return read attribute
+	 * @throws IOException when read attribute is not correct
+	 */
+	Attribute readAttribute(SegmentedBuffer buffer) throws IOException {
+		byte kind = buffer.get();
+		String name = readString(buffer);
+		boolean active = buffer.get() != 0;
+
+		if (kind == BinaryFormat.IDENTIFICATION_ATTRIBUTE) {
+			byte valueType = buffer.get();
+			if (valueType == BinaryFormat.UUID_IDENTIFICATION) {
+				return new IdentificationAttribute(name, active, new UUIDIdentificationField(UUIDIdentificationField.DEFAULT_VALUE));
+			} else if (valueType == BinaryFormat.TEXT_IDENTIFICATION) {
+				return new IdentificationAttribute(name, active, new TextIdentificationField(TextIdentificationField.DEFAULT_VALUE));
+			} else {
+				throw new IOException("Incorrect value type of identification attribute " + name + ".");
+			}
+		} else if (kind == BinaryFormat.EVALUATION_ATTRIBUTE) {
+			AttributeType type = AttributeType.valueOf(readString(buffer));
+			AttributePreferenceType preferenceType = AttributePreferenceType.valueOf(readString(buffer));
+			UnknownSimpleField missingValueType = readUnknownField(buffer.get());
+			if (missingValueType == null) {
+				throw new IOException("Incorrect missing value type of evaluation attribute " + name + ".");
+			}
+			EvaluationField valueType;
+			if (buffer.get(buffer.position()) == BinaryFormat.PAIR_VALUE) {
+				buffer.get();
+				SimpleField elementValueType = readSimpleValueType(preferenceType, buffer);
+				valueType = new PairField<SimpleField>(elementValueType, elementValueType.selfClone());
+			} else {
+				valueType = readSimpleValueType(preferenceType, buffer);
+			}
+			return new EvaluationAttribute(name, active, type, valueType, missingValueType, preferenceType);
+		} else {
+			throw new IOException("Incorrect kind of attribute " + name + ".");
+		}
+	}
+
+	/**
+	 * Reads simple value type of an evaluation attribute.
+	 *
+	 * @param preferenceType preference type of the attribute
+	 * @param buffer buffer with binary representation of an information table
+	 * @return read value type
+	 * @throws IOException when read value type is not correct
+	 */
+	SimpleField readSimpleValueType(AttributePreferenceType preferenceType, SegmentedBuffer buffer) throws IOException {
+		byte valueType = buffer.get();
+		switch (valueType) {
+		case BinaryFormat.INTEGER_VALUE:
+			return IntegerFieldFactory.getInstance().create(IntegerField.DEFAULT_VALUE, preferenceType);
+		case BinaryFormat.REAL_VALUE:
+			return RealFieldFactory.getInstance().create(RealField.DEFAULT_VALUE, preferenceType);
+		case BinaryFormat.ENUMERATION_VALUE:
+			String algorithm = readString(buffer);
+			String[] elements = new String[readCount(buffer)];
+			for (int i = 0; i < elements.length; i++) {
+				elements[i] = readString(buffer);
+			}
+			try {
+				return EnumerationFieldFactory.getInstance().create(new ElementList(elements, algorithm), EnumerationField.DEFAULT_VALUE, preferenceType);
+			} catch (NoSuchAlgorithmException exception) {
+				throw new IOException("Hash algorithm " + algorithm + " of element list is not available.");
+			}
+		default:
+			throw new IOException("Incorrect value type of evaluation attribute.");
+		}
+	}
+
+	/**
+	 * Reads column of identification fields of all objects.
+	 *
+	 * @param attribute identification attribute
+	 * @param attributeIndex index of the attribute
+	 * @param fields array of fields of all objects, in which read fields are set
+	 * @param buffer buffer with binary representation of an information table
+	 */
+	void readIdentificationColumn(IdentificationAttribute attribute, int attributeIndex, Field[][] fields, SegmentedBuffer buffer) {
+		if (attribute.getValueType() instanceof UUIDIdentificationField) {
+			for (int objectIndex = 0; objectIndex < fields.length; objectIndex++) {
+				fields[objectIndex][attributeIndex] = new UUIDIdentificationField(new UUID(buffer.getLong(), buffer.getLong()));
+			}
+		} else {
+			for (int objectIndex = 0; objectIndex < fields.length; objectIndex++) {
+				fields[objectIndex][attributeIndex] = new TextIdentificationField(readString(buffer));
+			}
+		}
+	}
+
+	/**
+	 * Reads column of evaluation fields of all objects.
+	 *
+	 * @param attribute evaluation attribute
+	 * @param attributeIndex index of the attribute
+	 * @param fields array of fields of all objects, in which read fields are set
+	 * @param buffer buffer with binary representation of an information table
+	 * @throws IOException when read column is not correct
+	 */
+	void readEvaluationColumn(EvaluationAttribute attribute, int attributeIndex, Field[][] fields, SegmentedBuffer buffer) throws IOException {
+		if (attribute.getValueType() instanceof PairField) {
+			PairField<?> valueType = (PairField<?>)attribute.getValueType();
+			SimpleField[] firstValues = readSimpleColumn(valueType.getFirstValue(), attribute.getPreferenceType(), fields.length, buffer);
+			SimpleField[] secondValues = readSimpleColumn(valueType.getSecondValue(), attribute.getPreferenceType(), fields.length, buffer);
+			for (int objectIndex = 0; objectIndex < fields.length; objectIndex++) {
+				fields[objectIndex][attributeIndex] = new PairField<SimpleField>(firstValues[objectIndex], secondValues[objectIndex]);
+			}
+		} else {
+			SimpleField[] values = readSimpleColumn(attribute.getValueType(), attribute.getPreferenceType(), fields.length, buffer);
+			for (int objectIndex = 0; objectIndex < fields.length; objectIndex++) {
+				fields[objectIndex][attributeIndex] = values[objectIndex];
+			}
+		}
+	}
+
+	/**
+	 * Reads column of simple evaluation fields of all objects.
+	 *
+	 * @param valueType simple value type of read fields
+	 * @param preferenceType preference type of read fields
+	 * @param numberOfObjects number of objects
+	 * @param buffer buffer with binary representation of an information table
+	 * @return read fields
+	 * @throws IOException when read column is not correct
+	 */
+	SimpleField[] readSimpleColumn(EvaluationField valueType, AttributePreferenceType preferenceType, int numberOfObjects, SegmentedBuffer buffer) throws IOException {
+		SimpleField[] values = new SimpleField[numberOfObjects];
+
+		if (buffer.get() != 0) { //column with unknown evaluations
+			for (int objectIndex = 0; objectIndex < numberOfObjects; objectIndex++) {
+				byte marker = buffer.get();
+				if (marker != BinaryFormat.KNOWN) {
+					values[objectIndex] = readUnknownField(marker);
+					if (values[objectIndex] == null) {
+						throw new IOException("Incorrect marker of unknown evaluation.");
+					}
+				}
+			}
+		}
+
+		if (valueType instanceof IntegerField) {
+			IntegerFieldCachingFactory factory = IntegerFieldCachingFactory.getInstance();
+			for (int objectIndex = 0; objectIndex < numberOfObjects; objectIndex++) {
+				int value = buffer.getInt();
+				if (values[objectIndex] == null) {
+					values[objectIndex] = factory.create(value, preferenceType, false);
+				}
+			}
+		} else if (valueType instanceof RealField) {
+			RealFieldCachingFactory factory = RealFieldCachingFactory.getInstance();
+			for (int objectIndex = 0; objectIndex < numberOfObjects; objectIndex++) {
+				double value = buffer.getDouble();
+				if (values[objectIndex] == null) {
+					values[objectIndex] = factory.create(value, preferenceType, false);
+				}
+			}
+		} else {
+			EnumerationFieldCachingFactory factory = EnumerationFieldCachingFactory.getInstance();
+			ElementList elementList = ((EnumerationField)valueType).getElementList();
+			for (int objectIndex = 0; objectIndex < numberOfObjects; objectIndex++) {
+				int value = buffer.getInt();
+				if (values[objectIndex] == null) {
+					if (value < 0 || value >= elementList.getSize()) {
+						throw new IOException("Index of enumeration evaluation is out of range: " + value + ".");
+					}
+					values[objectIndex] = factory.create(elementList, value, preferenceType, false);
+				}
+			}
+		}
+
+		return values;
+	}
+
+	/**
+	 * Gets unknown field represented by given marker.
+	 *
+	 * @param marker marker of an unknown field
+	 * @return unknown field represented by given marker, or {@code null} if given marker does not represent an unknown field
+	 */
+	UnknownSimpleField readUnknownField(byte marker) {
+		switch (marker) {
+		case BinaryFormat.MV15:
+			return UnknownSimpleFieldMV15.getInstance();
+		case BinaryFormat.MV2:
+			return UnknownSimpleFieldMV2.getInstance();
+		default:
+			return null;
+		}
+	}
+
+	/**
+	 * Reads non-negative number of elements.
+	 *
+	 * @param buffer buffer with binary representation of an information table
+	 * @return read number of elements
+	 * @throws IOException when read number is negative
+	 */
+	int readCount(SegmentedBuffer buffer) throws IOException {
+		int count = buffer.getInt();
+		if (count < 0) {
+			throw new IOException("Binary representation of an information table is corrupted: negative count.");
+		}
+		return count;
+	}
+
+	/**
+	 * Reads string written as the number of its bytes in UTF-8, followed by these bytes.
+	 *
+	 * @param buffer buffer with binary representation of an information table
+	 * @return read string
+	 */
+	String readString(SegmentedBuffer buffer) {
+		int length = buffer.getInt();
+		if (length < 0 || length > buffer.remaining()) {
+			throw new BufferUnderflowException();
+		}
+		byte[] bytes = new byte[length];
+		buffer.get(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+}
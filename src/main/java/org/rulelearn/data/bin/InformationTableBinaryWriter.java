@@ -0,0 +1,277 @@
+/**
+ * Copyright (C) Jerzy Błaszczyński, Marcin Szeląg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.rulelearn.data.bin;
+
+import static org.rulelearn.core.Precondition.notNull;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import org.rulelearn.core.InvalidTypeException;
+import org.rulelearn.data.Attribute;
+import org.rulelearn.data.EvaluationAttribute;
+import org.rulelearn.data.IdentificationAttribute;
+import org.rulelearn.data.InformationTable;
+import org.rulelearn.types.ElementList;
+import org.rulelearn.types.EnumerationField;
+import org.rulelearn.types.EvaluationField;
+import org.rulelearn.types.Field;
+import org.rulelearn.types.IntegerField;
+import org.rulelearn.types.PairField;
+import org.rulelearn.types.RealField;
+import org.rulelearn.types.SimpleField;
+import org.rulelearn.types.TextIdentificationField;
+import org.rulelearn.types.UUIDIdentificationField;
+import org.rulelearn.types.UnknownSimpleFieldMV15;
+import org.rulelearn.types.UnknownSimpleFieldMV2;
+
+/**
+ * Writer of information tables in binary format, described in {@link BinaryFormat}. Written information table can be quickly reopened,
+ * without parsing text, by {@link InformationTableBinaryReader}. Evaluations are written column by column, as primitive values.
+ *
+ * @author Jerzy Błaszczyński (<a href="mailto:jurek.blaszczynski@cs.put.poznan.pl">jurek.blaszczynski@cs.put.poznan.pl</a>)
+ * @author Marcin Szeląg (<a href="mailto:marcin.szelag@cs.put.poznan.pl">marcin.szelag@cs.put.poznan.pl</a>)
+ */
+public class InformationTableBinaryWriter {
+
+	/**
+	 * Writes given information table to file with given path.
+	 *
+	 * @param informationTable information table to be written
+	 * @param pathToFile path to the file
+	 * @throws NullPointerException if any of the parameters is {@code null}
+	 * @throws IOException when the file cannot be written
+	 * @throws InvalidTypeException if the type of any attribute or field of the information table is not supported by the binary format
+	 */
+	public void write(InformationTable informationTable, String pathToFile) throws IOException {
+		notNull(pathToFile, "Path to file for binary representation of information table is null.");
+		try (OutputStream outputStream = new FileOutputStream(pathToFile)) {
+			write(informationTable, outputStream);
+		}
+	}
+
+	/**
+	 * Writes given information table to given output stream. Given stream is flushed, but not closed.
+	 *
+	 * @param informationTable information table to be written
+	 * @param outputStream output stream
+	 * @throws NullPointerException if any of the parameters is {@code null}
+	 * @throws IOException when something goes wrong with the output stream
+	 * @throws InvalidTypeException if the type of any attribute or field of the information table is not supported by the binary format
+	 */
+	public void write(InformationTable informationTable, OutputStream outputStream) throws IOException {
+		notNull(informationTable, "Information table to be written in binary format is null.");
+		notNull(outputStream, "Output stream for binary representation of information table is null.");
+
+		DataOutputStream output = new DataOutputStream(new BufferedOutputStream(outputStream));
+		Attribute[] attributes = informationTable.getAttributes(true);
+		int numberOfObjects = informationTable.getNumberOfObjects();
+
+		output.writeInt(BinaryFormat.MAGIC_NUMBER);
+		output.writeInt(BinaryFormat.VERSION);
+
+		output.writeInt(attributes.length);
+		for (Attribute attribute : attributes) {
+			writeAttribute(attribute, output);
+		}
+
+		output.writeInt(numberOfObjects);
+		for (int attributeIndex = 0; attributeIndex < attributes.length; attributeIndex++) {
+			if (attributes[attributeIndex] instanceof IdentificationAttribute) {
+				writeIdentificationColumn(informationTable, attributeIndex, output);
+			} else {
+				EvaluationField valueType = ((EvaluationAttribute)attributes[attributeIndex]).getValueType();
+				if (valueType instanceof PairField) {
+					writeEvaluationColumn(informationTable, attributeIndex, ((PairField<?>)valueType).getFirstValue(), 1, output);
+					writeEvaluationColumn(informationTable, attributeIndex, ((PairField<?>)valueType).getSecondValue(), 2, output);
+				} else {
+					writeEvaluationColumn(informationTable, attributeIndex, valueType, 0, output);
+				}
+			}
+		}
+
+		output.flush();
+	}
+
+	/**
+	 * Writes given attribute.
+	 *
+	 * @param attribute attribute to be written
+	 * @param output data output stream
+	 * @throws IOException when something goes wrong with the output stream
+	 * @throws InvalidTypeException if the type of the attribute is not supported by the binary format
+	 */
+	void writeAttribute(Attribute attribute, DataOutputStream output) throws IOException {
+		if (attribute instanceof IdentificationAttribute) {
+			output.writeByte(BinaryFormat.IDENTIFICATION_ATTRIBUTE);
+			writeString(attribute.getName(), output);
+			output.writeBoolean(attribute.isActive());
+			if (((IdentificationAttribute)attribute).getValueType() instanceof UUIDIdentificationField) {
+				output.writeByte(BinaryFormat.UUID_IDENTIFICATION);
+			} else {
+				output.writeByte(BinaryFormat.TEXT_IDENTIFICATION);
+			}
+		} else if (attribute instanceof EvaluationAttribute) {
+			EvaluationAttribute evaluationAttribute = (EvaluationAttribute)attribute;
+			output.writeByte(BinaryFormat.EVALUATION_ATTRIBUTE);
+			writeString(attribute.getName(), output);
+			output.writeBoolean(attribute.isActive());
+			writeString(evaluationAttribute.getType().name(), output);
+			writeString(evaluationAttribute.getPreferenceType().name(), output);
+			output.writeByte(evaluationAttribute.getMissingValueType() instanceof UnknownSimpleFieldMV15 ? BinaryFormat.MV15 : BinaryFormat.MV2);
+			if (evaluationAttribute.getValueType() instanceof PairField) {
+				output.writeByte(BinaryFormat.PAIR_VALUE);
+				writeSimpleValueType(((PairField<?>)evaluationAttribute.getValueType()).getFirstValue(), output);
+			} else {
+				writeSimpleValueType(evaluationAttribute.getValueType(), output);
+			}
+		} else {
+			throw new InvalidTypeException("Attribute of type " + attribute.getClass().getSimpleName() + " cannot be written in binary format.");
+		}
+	}
+
+	/**
+	 * Writes given simple value type of an evaluation attribute.
+	 *
+	 * @param valueType value type to be written
+	 * @param output data output stream
+	 * @throws IOException when something goes wrong with the output stream
+	 * @throws InvalidTypeException if the value type is not supported by the binary format
+	 */
+	void writeSimpleValueType(EvaluationField valueType, DataOutputStream output) throws IOException {
+		if (valueType instanceof IntegerField) {
+			output.writeByte(BinaryFormat.INTEGER_VALUE);
+		} else if (valueType instanceof RealField) {
+			output.writeByte(BinaryFormat.REAL_VALUE);
+		} else if (valueType instanceof EnumerationField) {
+			ElementList elementList = ((EnumerationField)valueType).getElementList();
+			output.writeByte(BinaryFormat.ENUMERATION_VALUE);
+			writeString(elementList.getAlgorithm(), output);
+			output.writeInt(elementList.getSize());
+			for (int i = 0; i < elementList.getSize(); i++) {
+				writeString(elementList.getElement(i), output);
+			}
+		} else {
+			throw new InvalidTypeException("Value type " + valueType.getClass().getSimpleName() + " cannot be written in binary format.");
+		}
+	}
+
+	/**
+	 * Writes column of identification fields of all objects.
+	 *
+	 * @param informationTable written information table
+	 * @param attributeIndex index of an identification attribute
+	 * @param output data output stream
+	 * @throws IOException when something goes wrong with the output stream
+	 */
+	void writeIdentificationColumn(InformationTable informationTable, int attributeIndex, DataOutputStream output) throws IOException {
+		boolean uuid = ((IdentificationAttribute)informationTable.getAttribute(attributeIndex)).getValueType() instanceof UUIDIdentificationField;
+		Field field;
+
+		for (int objectIndex = 0; objectIndex < informationTable.getNumberOfObjects(); objectIndex++) {
+			field = informationTable.getField(objectIndex, attributeIndex);
+			if (uuid) {
+				UUID value = ((UUIDIdentificationField)field).getValue();
+				output.writeLong(value.getMostSignificantBits());
+				output.writeLong(value.getLeastSignificantBits());
+			} else {
+				writeString(((TextIdentificationField)field).getValue(), output);
+			}
+		}
+	}
+
+	/**
+	 * Writes column of simple evaluation fields of all objects, or column of first or second elements of pairs of evaluations of all objects.
+	 *
+	 * @param informationTable written information table
+	 * @param attributeIndex index of an evaluation attribute
+	 * @param valueType simple value type of written fields
+	 * @param pairElement zero if fields of the attribute are simple, one if first elements of pairs should be written, two if second elements of pairs should be written
+	 * @param output data output stream
+	 * @throws IOException when something goes wrong with the output stream
+	 * @throws InvalidTypeException if any field does not match given value type
+	 */
+	void writeEvaluationColumn(InformationTable informationTable, int attributeIndex, EvaluationField valueType, int pairElement, DataOutputStream output) throws IOException {
+		int numberOfObjects = informationTable.getNumberOfObjects();
+		SimpleField[] fields = new SimpleField[numberOfObjects];
+		boolean hasUnknownFields = false;
+		Field field;
+
+		for (int objectIndex = 0; objectIndex < numberOfObjects; objectIndex++) {
+			field = informationTable.getField(objectIndex, attributeIndex);
+			if (pairElement > 0) {
+				if (!(field instanceof PairField)) {
+					throw new InvalidTypeException("Field of a pair attribute is not a pair.");
+				}
+				field = pairElement == 1 ? ((PairField<?>)field).getFirstValue() : ((PairField<?>)field).getSecondValue();
+			}
+			if (field instanceof UnknownSimpleFieldMV15 || field instanceof UnknownSimpleFieldMV2) {
+				hasUnknownFields = true;
+			} else if (!(valueType instanceof IntegerField && field instanceof IntegerField || valueType instanceof RealField && field instanceof RealField
+					|| valueType instanceof EnumerationField && field instanceof EnumerationField)) {
+				throw new InvalidTypeException("Field of type " + field.getClass().getSimpleName() + " does not match value type of its attribute.");
+			}
+			fields[objectIndex] = (SimpleField)field;
+		}
+
+		output.writeBoolean(hasUnknownFields);
+		if (hasUnknownFields) {
+			for (SimpleField simpleField : fields) {
+				if (simpleField instanceof UnknownSimpleFieldMV15) {
+					output.writeByte(BinaryFormat.MV15);
+				} else if (simpleField instanceof UnknownSimpleFieldMV2) {
+					output.writeByte(BinaryFormat.MV2);
+				} else {
+					output.writeByte(BinaryFormat.KNOWN);
+				}
+			}
+		}
+
+		for (SimpleField simpleField : fields) {
+			if (simpleField instanceof IntegerField) {
+				output.writeInt(((IntegerField)simpleField).getValue());
+			} else if (simpleField instanceof RealField) {
+				output.writeDouble(((RealField)simpleField).getValue());
+			} else if (simpleField instanceof EnumerationField) {
+				output.writeInt(((EnumerationField)simpleField).getValue());
+			} else if (valueType instanceof RealField) { //unknown evaluation
+				output.writeDouble(0.0);
+			} else { //unknown evaluation
+				output.writeInt(0);
+			}
+		}
+	}
+
+	/**
+	 * Writes given string as the number of its bytes in UTF-8, followed by these bytes.
+	 *
+	 * @param value string to be written
+	 * @param output data output stream
+	 * @throws IOException when something goes wrong with the output stream
+	 */
+	void writeString(String value, DataOutputStream output) throws IOException {
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		output.writeInt(bytes.length);
+		output.write(bytes);
+	}
+
+}
@@ -0,0 +1,327 @@
+/**
+ * Copyright (C) Jerzy Błaszczyński, Marcin Szeląg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.rulelearn.data.bin;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import org.rulelearn.core.InvalidValueException;
+import org.rulelearn.data.Attribute;
+import org.rulelearn.data.AttributePreferenceType;
+import org.rulelearn.data.EvaluationAttribute;
+import org.rulelearn.data.IdentificationAttribute;
+import org.rulelearn.types.ElementList;
+import org.rulelearn.types.EnumerationField;
+import org.rulelearn.types.EnumerationFieldFactory;
+import org.rulelearn.types.EvaluationField;
+import org.rulelearn.types.Field;
+import org.rulelearn.types.IntegerField;
+import org.rulelearn.types.IntegerFieldFactory;
+import org.rulelearn.types.PairField;
+import org.rulelearn.types.RealField;
+import org.rulelearn.types.RealFieldFactory;
+import org.rulelearn.types.SimpleField;
+import org.rulelearn.types.TextIdentificationField;
+import org.rulelearn.types.UUIDIdentificationField;
+import org.rulelearn.types.UnknownSimpleFieldMV15;
+import org.rulelearn.types.UnknownSimpleFieldMV2;
+
+/**
+ * Column of fields of all objects, stored in a buffer with binary representation of an information table, described in {@link BinaryFormat}.
+ * Fields are not kept in memory, but created on demand from primitive values read at computed positions of the buffer.
+ * Reading uses absolute positions only, so a column can be read concurrently by many threads.
+ * Positions are {@code long} values, so a column can be stored at any position of a {@link SegmentedBuffer segmented buffer}, even larger than 2 GiB.
+ *
+ * @author Jerzy Błaszczyński (<a href="mailto:jurek.blaszczynski@cs.put.poznan.pl">jurek.blaszczynski@cs.put.poznan.pl</a>)
+ * @author Marcin Szeląg (<a href="mailto:marcin.szelag@cs.put.poznan.pl">marcin.szelag@cs.put.poznan.pl</a>)
+ */
+abstract class MappedColumn {
+
+	/**
+	 * Buffer with binary representation of an information table.
+	 */
+	final SegmentedBuffer buffer;
+
+	/**
+	 * Constructs this column.
+	 *
+	 * @param buffer buffer with binary representation of an information table
+	 */
+	MappedColumn(SegmentedBuffer buffer) {
+		this.buffer = buffer;
+	}
+
+	/**
+	 * Gets field of the object with given index, as stored in the buffer.
+	 *
+	 * @param objectIndex index of an object in the buffer
+	 * @return field of the object
+	 * @throws InvalidValueException if the buffer contains incorrect value at position corresponding to the object
+	 */
+	abstract Field getField(int objectIndex);
+
+	/**
+	 * Maps column of fields of given attribute, starting at current position of given buffer. After mapping, position of the buffer is just after the column.
+	 *
+	 * @param attribute attribute whose fields are stored in the column
+	 * @param numberOfObjects number of objects
+	 * @param buffer buffer with binary representation of an information table
+	 * @return mapped column
+	 * @throws IOException when the buffer is too short to contain the column
+	 */
+	static MappedColumn map(Attribute attribute, int numberOfObjects, SegmentedBuffer buffer) throws IOException {
+		if (attribute instanceof IdentificationAttribute) {
+			if (((IdentificationAttribute)attribute).getValueType() instanceof UUIDIdentificationField) {
+				return new UUIDColumn(buffer, skip(buffer, 16L * numberOfObjects));
+			} else {
+				long[] positions = new long[numberOfObjects];
+				for (int objectIndex = 0; objectIndex < numberOfObjects; objectIndex++) {
+					positions[objectIndex] = buffer.position();
+					if (buffer.remaining() < 4) {
+						throw new IOException("Binary representation of an information table is truncated.");
+					}
+					int length = buffer.getInt();
+					if (length < 0) {
+						throw new IOException("Binary representation of an information table is corrupted: negative count.");
+					}
+					skip(buffer, length);
+				}
+				return new TextColumn(buffer, positions);
+			}
+		} else {
+			EvaluationAttribute evaluationAttribute = (EvaluationAttribute)attribute;
+			if (evaluationAttribute.getValueType() instanceof PairField) {
+				PairField<?> valueType = (PairField<?>)evaluationAttribute.getValueType();
+				SimpleColumn firstValues = SimpleColumn.map(valueType.getFirstValue(), evaluationAttribute.getPreferenceType(), numberOfObjects, buffer);
+				SimpleColumn secondValues = SimpleColumn.map(valueType.getSecondValue(), evaluationAttribute.getPreferenceType(), numberOfObjects, buffer);
+				return new PairColumn(firstValues, secondValues);
+			} else {
+				return SimpleColumn.map(evaluationAttribute.getValueType(), evaluationAttribute.getPreferenceType(), numberOfObjects, buffer);
+			}
+		}
+	}
+
+	/**
+	 * Moves position of given buffer forward by given number of bytes.
+	 *
+	 * @param buffer buffer with binary representation of an information table
+	 * @param numberOfBytes number of skipped bytes
+	 * @return position of the buffer before skipping
+	 * @throws IOException when the buffer has less remaining bytes than the number of skipped bytes
+	 */
+	static long skip(SegmentedBuffer buffer, long numberOfBytes) throws IOException {
+		if (numberOfBytes > buffer.remaining()) {
+			throw new IOException("Binary representation of an information table is truncated.");
+		}
+		long position = buffer.position();
+		buffer.position(position + numberOfBytes);
+		return position;
+	}
+
+	/**
+	 * Column of UUID identifiers of objects.
+	 */
+	static final class UUIDColumn extends MappedColumn {
+
+		/**
+		 * Position of the first identifier in the buffer.
+		 */
+		private final long start;
+
+		/**
+		 * Constructs this column.
+		 *
+		 * @param buffer buffer with binary representation of an information table
+		 * @param start position of the first identifier in the buffer
+		 */
+		UUIDColumn(SegmentedBuffer buffer, long start) {
+			super(buffer);
+			this.start = start;
+		}
+
+		@Override
+		UUIDIdentificationField getField(int objectIndex) {
+			long position = this.start + 16L * objectIndex;
+			return new UUIDIdentificationField(new UUID(this.buffer.getLong(position), this.buffer.getLong(position + 8)));
+		}
+
+	}
+
+	/**
+	 * Column of text identifiers of objects. As texts have different lengths, their positions in the buffer are kept in memory.
+	 */
+	static final class TextColumn extends MappedColumn {
+
+		/**
+		 * Positions of subsequent identifiers in the buffer.
+		 */
+		private final long[] positions;
+
+		/**
+		 * Constructs this column.
+		 *
+		 * @param buffer buffer with binary representation of an information table
+		 * @param positions positions of subsequent identifiers in the buffer
+		 */
+		TextColumn(SegmentedBuffer buffer, long[] positions) {
+			super(buffer);
+			this.positions = positions;
+		}
+
+		@Override
+		TextIdentificationField getField(int objectIndex) {
+			long position = this.positions[objectIndex];
+			byte[] bytes = new byte[this.buffer.getInt(position)];
+			this.buffer.get(position + 4, bytes);
+			return new TextIdentificationField(new String(bytes, StandardCharsets.UTF_8));
+		}
+
+	}
+
+	/**
+	 * Column of simple evaluations of objects.
+	 */
+	static final class SimpleColumn extends MappedColumn {
+
+		/**
+		 * Position of the marker of the first evaluation in the buffer, or -1 if the column does not contain unknown evaluations.
+		 */
+		private final long markersStart;
+		/**
+		 * Position of the first evaluation in the buffer.
+		 */
+		private final long valuesStart;
+		/**
+		 * Value type of evaluations.
+		 */
+		private final EvaluationField valueType;
+		/**
+		 * Preference type of evaluations.
+		 */
+		private final AttributePreferenceType preferenceType;
+		/**
+		 * Evaluations corresponding to subsequent elements of the element list, if value type is an enumeration, or {@code null} otherwise.
+		 */
+		private final EnumerationField[] enumerationFields;
+
+		/**
+		 * Constructs this column.
+		 *
+		 * @param buffer buffer with binary representation of an information table
+		 * @param markersStart position of the marker of the first evaluation in the buffer, or -1 if the column does not contain unknown evaluations
+		 * @param valuesStart position of the first evaluation in the buffer
+		 * @param valueType value type of evaluations
+		 * @param preferenceType preference type of evaluations
+		 */
+		SimpleColumn(SegmentedBuffer buffer, long markersStart, long valuesStart, EvaluationField valueType, AttributePreferenceType preferenceType) {
+			super(buffer);
+			this.markersStart = markersStart;
+			this.valuesStart = valuesStart;
+			this.valueType = valueType;
+			this.preferenceType = preferenceType;
+
+			if (valueType instanceof EnumerationField) {
+				ElementList elementList = ((EnumerationField)valueType).getElementList();
+				this.enumerationFields = new EnumerationField[elementList.getSize()];
+				for (int i = 0; i < this.enumerationFields.length; i++) {
+					this.enumerationFields[i] = EnumerationFieldFactory.getInstance().create(elementList, i, preferenceType);
+				}
+			} else {
+				this.enumerationFields = null;
+			}
+		}
+
+		/**
+		 * Maps column of simple evaluations, starting at current position of given buffer. After mapping, position of the buffer is just after the column.
+		 *
+		 * @param valueType value type of evaluations
+		 * @param preferenceType preference type of evaluations
+		 * @param numberOfObjects number of objects
+		 * @param buffer buffer with binary representation of an information table
+		 * @return mapped column
+		 * @throws IOException when the buffer is too short to contain the column
+		 */
+		static SimpleColumn map(EvaluationField valueType, AttributePreferenceType preferenceType, int numberOfObjects, SegmentedBuffer buffer) throws IOException {
+			boolean hasUnknownEvaluations = buffer.get(skip(buffer, 1)) != 0;
+			long markersStart = hasUnknownEvaluations ? skip(buffer, numberOfObjects) : -1L;
+			long valuesStart = skip(buffer, (valueType instanceof RealField ? 8L : 4L) * numberOfObjects);
+			return new SimpleColumn(buffer, markersStart, valuesStart, valueType, preferenceType);
+		}
+
+		@Override
+		SimpleField getField(int objectIndex) {
+			if (this.markersStart >= 0) {
+				byte marker = this.buffer.get(this.markersStart + objectIndex);
+				if (marker == BinaryFormat.MV15) {
+					return UnknownSimpleFieldMV15.getInstance();
+				} else if (marker == BinaryFormat.MV2) {
+					return UnknownSimpleFieldMV2.getInstance();
+				} else if (marker != BinaryFormat.KNOWN) {
+					throw new InvalidValueException("Incorrect marker of unknown evaluation.");
+				}
+			}
+
+			if (this.valueType instanceof IntegerField) {
+				return IntegerFieldFactory.getInstance().create(this.buffer.getInt(this.valuesStart + 4L * objectIndex), this.preferenceType);
+			} else if (this.valueType instanceof RealField) {
+				return RealFieldFactory.getInstance().create(this.buffer.getDouble(this.valuesStart + 8L * objectIndex), this.preferenceType);
+			} else {
+				int value = this.buffer.getInt(this.valuesStart + 4L * objectIndex);
+				if (value < 0 || value >= this.enumerationFields.length) {
+					throw new InvalidValueException("Index of enumeration evaluation is out of range: " + value + ".");
+				}
+				return this.enumerationFields[value];
+			}
+		}
+
+	}
+
+	/**
+	 * Column of pairs of evaluations of objects, consisting of columns of first and second elements of pairs.
+	 */
+	static final class PairColumn extends MappedColumn {
+
+		/**
+		 * Column of first elements of pairs.
+		 */
+		private final SimpleColumn firstValues;
+		/**
+		 * Column of second elements of pairs.
+		 */
+		private final SimpleColumn secondValues;
+
+		/**
+		 * Constructs this column.
+		 *
+		 * @param firstValues column of first elements of pairs
+		 * @param secondValues column of second elements of pairs
+		 */
+		PairColumn(SimpleColumn firstValues, SimpleColumn secondValues) {
+			super(firstValues.buffer);
+			this.firstValues = firstValues;
+			this.secondValues = secondValues;
+		}
+
+		@Override
+		PairField<SimpleField> getField(int objectIndex) {
+			return new PairField<SimpleField>(this.firstValues.getField(objectIndex), this.secondValues.getField(objectIndex));
+		}
+
+	}
+
+}
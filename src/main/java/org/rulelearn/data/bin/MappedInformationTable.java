@@ -0,0 +1,111 @@
+/**
+ * Copyright (C) Jerzy Błaszczyński, Marcin Szeląg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.rulelearn.data.bin;
+
+import java.util.Collections;
+
+import org.rulelearn.data.Attribute;
+import org.rulelearn.data.Decision;
+import org.rulelearn.data.DecisionFactory;
+import org.rulelearn.data.EvaluationAttribute;
+import org.rulelearn.data.Index2IdMapper;
+import org.rulelearn.data.InformationTable;
+import org.rulelearn.data.UniqueIdGenerator;
+import org.rulelearn.types.EvaluationField;
+import org.rulelearn.types.Field;
+import org.rulelearn.types.IdentificationField;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+
+/**
+ * Information table whose evaluations on active condition attributes and on non-active/description attributes are stored in {@link MappedTable mapped tables}.
+ * Decisions and identifiers of objects, which are used by almost all calculations, are read into memory once, when the table is constructed.<br>
+ * <br>
+ * Selecting or discarding objects of this information table results in an information table sharing mapped columns with this table.
+ *
+ * @author Jerzy Błaszczyński (<a href="mailto:jurek.blaszczynski@cs.put.poznan.pl">jurek.blaszczynski@cs.put.poznan.pl</a>)
+ * @author Marcin Szeląg (<a href="mailto:marcin.szelag@cs.put.poznan.pl">marcin.szelag@cs.put.poznan.pl</a>)
+ */
+class MappedInformationTable extends InformationTable {
+
+	/**
+	 * Constructs this information table from given mapped columns.
+	 *
+	 * @param attributes all attributes of constructed information table
+	 * @param columns mapped columns of fields, one for each attribute
+	 * @param numberOfObjects number of objects
+	 */
+	MappedInformationTable(Attribute[] attributes, MappedColumn[] columns, int numberOfObjects) {
+		super(attributes, Collections.<Field[]>emptyList(), true); //splits attributes, without any objects
+		this.mapper = new Index2IdMapper(UniqueIdGenerator.getInstance().getUniqueIds(numberOfObjects), true);
+
+		IntArrayList activeConditionAttributeIndices = new IntArrayList();
+		IntArrayList activeDecisionAttributeIndices = new IntArrayList();
+		IntArrayList notActiveOrDescriptionAttributeIndices = new IntArrayList();
+		for (int i = 0; i < attributes.length; i++) {
+			if (this.attributeMap[i] > 0) {
+				activeConditionAttributeIndices.add(i);
+			} else if (this.attributeMap[i] < 0) {
+				notActiveOrDescriptionAttributeIndices.add(i);
+			} else if (i != this.activeIdentificationAttributeIndex) {
+				activeDecisionAttributeIndices.add(i);
+			}
+		}
+
+		if (this.activeConditionAttributeFields != null) {
+			EvaluationAttribute[] activeConditionAttributes = new EvaluationAttribute[activeConditionAttributeIndices.size()];
+			MappedColumn[] activeConditionColumns = new MappedColumn[activeConditionAttributes.length];
+			for (int j = 0; j < activeConditionAttributes.length; j++) {
+				activeConditionAttributes[j] = (EvaluationAttribute)attributes[activeConditionAttributeIndices.getInt(j)];
+				activeConditionColumns[j] = columns[activeConditionAttributeIndices.getInt(j)];
+			}
+			this.activeConditionAttributeFields = new MappedTable<EvaluationAttribute, EvaluationField>(activeConditionAttributes, activeConditionColumns, null,
+					numberOfObjects, new EvaluationField[0], this.mapper);
+		}
+
+		if (this.notActiveOrDescriptionAttributeFields != null) {
+			Attribute[] notActiveOrDescriptionAttributes = new Attribute[notActiveOrDescriptionAttributeIndices.size()];
+			MappedColumn[] notActiveOrDescriptionColumns = new MappedColumn[notActiveOrDescriptionAttributes.length];
+			for (int j = 0; j < notActiveOrDescriptionAttributes.length; j++) {
+				notActiveOrDescriptionAttributes[j] = attributes[notActiveOrDescriptionAttributeIndices.getInt(j)];
+				notActiveOrDescriptionColumns[j] = columns[notActiveOrDescriptionAttributeIndices.getInt(j)];
+			}
+			this.notActiveOrDescriptionAttributeFields = new MappedTable<Attribute, Field>(notActiveOrDescriptionAttributes, notActiveOrDescriptionColumns, null,
+					numberOfObjects, new Field[0], this.mapper);
+		}
+
+		if (this.decisions != null) {
+			int[] decisionAttributeIndices = activeDecisionAttributeIndices.toIntArray();
+			this.decisions = new Decision[numberOfObjects];
+			for (int i = 0; i < numberOfObjects; i++) {
+				EvaluationField[] evaluations = new EvaluationField[decisionAttributeIndices.length];
+				for (int j = 0; j < evaluations.length; j++) {
+					evaluations[j] = (EvaluationField)columns[decisionAttributeIndices[j]].getField(i);
+				}
+				this.decisions[i] = DecisionFactory.INSTANCE.create(evaluations, decisionAttributeIndices);
+			}
+		}
+
+		if (this.activeIdentificationAttributeFields != null) {
+			this.activeIdentificationAttributeFields = new IdentificationField[numberOfObjects];
+			for (int i = 0; i < numberOfObjects; i++) {
+				this.activeIdentificationAttributeFields[i] = (IdentificationField)columns[this.activeIdentificationAttributeIndex].getField(i);
+			}
+		}
+	}
+
+}
@@ -0,0 +1,168 @@
+/**
+ * Copyright (C) Jerzy Błaszczyński, Marcin Szeląg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.rulelearn.data.bin;
+
+import java.util.Arrays;
+
+import org.rulelearn.data.Attribute;
+import org.rulelearn.data.Index2IdMapper;
+import org.rulelearn.data.Table;
+import org.rulelearn.types.Field;
+
+/**
+ * Read-only table whose fields are stored in a memory-mapped file with binary representation of an information table, described in {@link BinaryFormat}.
+ * Fields are not kept in memory, but created on demand from primitive values read from the file, so the table can be larger than available heap.
+ * Pages of the file are loaded by the operating system when accessed, and are shared through the page cache by all processes mapping the same file.<br>
+ * <br>
+ * Selecting rows does not copy any fields - selected table only remembers indices of selected rows in the file.
+ * Fields returned by {@link #getField(int, int)} are equal to, but not necessarily the same as, fields returned for the same object and attribute before.
+ * Instances of this class are created by {@link InformationTableBinaryReader#map(String)}, which maps the file in segments, so it can be larger than 2 GiB.
+ *
+ * @author Jerzy Błaszczyński (<a href="mailto:jurek.blaszczynski@cs.put.poznan.pl">jurek.blaszczynski@cs.put.poznan.pl</a>)
+ * @author Marcin Szeląg (<a href="mailto:marcin.szelag@cs.put.poznan.pl">marcin.szelag@cs.put.poznan.pl</a>)
+ *
+ * @param <S> type of attributes
+ * @param <T> type of fields
+ */
+public class MappedTable<S extends Attribute, T extends Field> extends Table<S, T> {
+
+	/**
+	 * Mapped columns of fields, one for each attribute.
+	 */
+	private final MappedColumn[] columns;
+
+	/**
+	 * Indices of rows of the file corresponding to subsequent objects of this table, or {@code null} if objects of this table are all rows of the file, in the same order.
+	 */
+	private final int[] rows;
+
+	/**
+	 * Number of objects of this table.
+	 */
+	private final int numberOfObjects;
+
+	/**
+	 * Empty array of fields, used to create arrays of fields of correct type.
+	 */
+	private final T[] noFields;
+
+	/**
+	 * Constructs this table.
+	 *
+	 * @param attributes attributes corresponding to columns of this table
+	 * @param columns mapped columns of fields, one for each attribute
+	 * @param rows indices of rows of the file corresponding to subsequent objects of this table,
+	 *        or {@code null} if objects of this table are all rows of the file, in the same order
+	 * @param numberOfObjects number of objects of this table
+	 * @param noFields empty array of fields, used to create arrays of fields of correct type
+	 * @param mapper translator of object's index to unique object's id
+	 */
+	MappedTable(S[] attributes, MappedColumn[] columns, int[] rows, int numberOfObjects, T[] noFields, Index2IdMapper mapper) {
+		super(attributes, mapper, true);
+		this.columns = columns;
+		this.rows = rows;
+		this.numberOfObjects = numberOfObjects;
+		this.noFields = noFields;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public T getField(int objectIndex, int attributeIndex) {
+		return (T)this.columns[attributeIndex].getField(this.getRow(objectIndex));
+	}
+
+	/**
+	 * Gets fields of this table for the object identified by the given index. Returned array is always created anew,
+	 * so the value of the boolean flag does not matter.
+	 *
+	 * @param objectIndex index of an object (row of the table)
+	 * @param accelerateByReadOnlyResult ignored, as the result is always a new array
+	 * @return fields of this table corresponding to given index
+	 *
+	 * @throws IndexOutOfBoundsException if given object index does not correspond to any object for which this table stores fields
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public T[] getFields(int objectIndex, boolean accelerateByReadOnlyResult) {
+		int row = this.getRow(objectIndex);
+		T[] fields = Arrays.copyOf(this.noFields, this.columns.length);
+		for (int j = 0; j < fields.length; j++) {
+			fields[j] = (T)this.columns[j].getField(row);
+		}
+		return fields;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public MappedTable<S, T> select(int[] objectIndices) {
+		return this.select(objectIndices, false);
+	}
+
+	/**
+	 * Selects rows of this table that correspond to objects with given indices.
+	 * Returns new table concerning a subset of objects (rows), sharing mapped columns with this table.
+	 * As mapped tables are read-only, the value of the boolean flag does not matter.
+	 *
+	 * @param objectIndices indices of objects to select to new table (indices can repeat)
+	 * @param accelerateByReadOnlyResult ignored, as the result is always read-only
+	 * @return sub-table of this table, containing only rows corresponding to objects whose index is in the given array
+	 *
+	 * @throws NullPointerException if given array with object indices is {@code null}
+	 * @throws IndexOutOfBoundsException if any of the given indices does not match the number of considered objects
+	 */
+	@Override
+	public MappedTable<S, T> select(int[] objectIndices, boolean accelerateByReadOnlyResult) {
+		int[] newRows = new int[objectIndices.length];
+		int[] newObjectIndex2Id = new int[objectIndices.length]; //data for new mapper
+
+		for (int i = 0; i < objectIndices.length; i++) {
+			newRows[i] = this.getRow(objectIndices[i]);
+			newObjectIndex2Id[i] = this.mapper.getId(objectIndices[i]); //re-map object's id
+		}
+
+		return new MappedTable<S, T>(this.attributes, this.columns, newRows, objectIndices.length, this.noFields, new Index2IdMapper(newObjectIndex2Id, true));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int getNumberOfObjects() {
+		return this.numberOfObjects;
+	}
+
+	/**
+	 * Gets index of the row of the file corresponding to the object with given index.
+	 *
+	 * @param objectIndex index of an object of this table
+	 * @return index of the row of the file
+	 *
+	 * @throws IndexOutOfBoundsException if given object index does not correspond to any object of this table
+	 */
+	private int getRow(int objectIndex) {
+		if (objectIndex < 0 || objectIndex >= this.numberOfObjects) {
+			throw new IndexOutOfBoundsException("Object index is out of table range.");
+		}
+		return this.rows == null ? objectIndex : this.rows[objectIndex];
+	}
+
+}
@@ -0,0 +1,362 @@
+/**
+ * Copyright (C) Jerzy Błaszczyński, Marcin Szeląg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.rulelearn.data.bin;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * Read-only sequence of bytes addressed by {@code long} positions, stored in several byte buffers (segments), each covering a fixed-size range of positions.
+ * Thanks to that, a file larger than {@link Integer#MAX_VALUE} bytes (2 GiB) can be memory-mapped, although a single mapped buffer is limited to that size.
+ * Each segment additionally contains first {@link #OVERLAP} bytes of the next segment, so any primitive value can be read from a single segment.<br>
+ * <br>
+ * Absolute reads do not change any position, so they can be done concurrently by many threads. Relative reads, used when reading data sequentially,
+ * advance current position of this buffer, and throw {@link BufferUnderflowException} when there are not enough remaining bytes, like relative reads of {@link ByteBuffer}.
+ *
+ * @author Jerzy Błaszczyński (<a href="mailto:jurek.blaszczynski@cs.put.poznan.pl">jurek.blaszczynski@cs.put.poznan.pl</a>)
+ * @author Marcin Szeląg (<a href="mailto:marcin.szelag@cs.put.poznan.pl">marcin.szelag@cs.put.poznan.pl</a>)
+ */
+final class SegmentedBuffer {
+
+	/**
+	 * Binary logarithm of the number of positions covered by a segment of a mapped file (1 GiB).
+	 */
+	static final int SEGMENT_SHIFT = 30;
+
+	/**
+	 * Binary logarithm of the number of positions covered by the only segment of a wrapped byte buffer, larger than any position of a byte buffer.
+	 */
+	static final int SINGLE_SEGMENT_SHIFT = 31;
+
+	/**
+	 * Number of bytes of the next segment repeated at the end of each segment, equal to the size of the longest primitive value.
+	 */
+	static final int OVERLAP = 8;
+
+	/**
+	 * Subsequent segments, each starting at position being a multiple of the number of positions covered by a segment.
+	 */
+	private final ByteBuffer[] segments;
+
+	/**
+	 * Binary logarithm of the number of positions covered by a segment.
+	 */
+	private final int segmentShift;
+
+	/**
+	 * Mask used to get position in a segment.
+	 */
+	private final long segmentMask;
+
+	/**
+	 * Number of bytes of this buffer.
+	 */
+	private final long size;
+
+	/**
+	 * Current position of this buffer, used by relative reads.
+	 */
+	private long position = 0L;
+
+	/**
+	 * Constructs this buffer.
+	 *
+	 * @param segments subsequent segments, each starting at position being a multiple of 2<sup>segmentShift</sup>,
+	 *        and containing {@link #OVERLAP} bytes of the next segment (if there is one)
+	 * @param segmentShift binary logarithm of the number of positions covered by a segment
+	 * @param size number of bytes of this buffer
+	 */
+	private SegmentedBuffer(ByteBuffer[] segments, int segmentShift, long size) {
+		this.segments = segments;
+		this.segmentShift = segmentShift;
+		this.segmentMask = (1L << segmentShift) - 1L;
+		this.size = size;
+	}
+
+	/**
+	 * Maps whole file opened by given channel into memory, as subsequent segments covering {@link #SEGMENT_SHIFT 1 GiB} each.
+	 * Mapping remains valid after closing the channel.
+	 *
+	 * @param channel file channel
+	 * @return buffer with mapped contents of the file, starting at position 0
+	 * @throws IOException when the file cannot be mapped
+	 */
+	static SegmentedBuffer map(FileChannel channel) throws IOException {
+		return map(channel, SEGMENT_SHIFT);
+	}
+
+	/**
+	 * Maps whole file opened by given channel into memory, as subsequent segments covering 2<sup>segmentShift</sup> positions each.
+	 *
+	 * @param channel file channel
+	 * @param segmentShift binary logarithm of the number of positions covered by a segment, smaller than {@link #SINGLE_SEGMENT_SHIFT}
+	 * @return buffer with mapped contents of the file, starting at position 0
+	 * @throws IOException when the file cannot be mapped
+	 */
+	static SegmentedBuffer map(FileChannel channel, int segmentShift) throws IOException {
+		long size = channel.size();
+		ByteBuffer[] segments = new ByteBuffer[getNumberOfSegments(size, segmentShift)];
+		for (int i = 0; i < segments.length; i++) {
+			long start = (long)i << segmentShift;
+			segments[i] = channel.map(FileChannel.MapMode.READ_ONLY, start, getSegmentLength(start, size, segmentShift));
+		}
+		return new SegmentedBuffer(segments, segmentShift, size);
+	}
+
+	/**
+	 * Wraps remaining bytes of given buffer, so that its current position becomes position 0 of constructed buffer. Position of given buffer is not changed.
+	 *
+	 * @param buffer byte buffer
+	 * @return buffer consisting of a single segment sharing content with given buffer
+	 */
+	static SegmentedBuffer wrap(ByteBuffer buffer) {
+		return wrap(buffer, SINGLE_SEGMENT_SHIFT);
+	}
+
+	/**
+	 * Wraps remaining bytes of given buffer, split into segments covering 2<sup>segmentShift</sup> positions each. Position of given buffer is not changed.
+	 * Segments share content with given buffer.
+	 *
+	 * @param buffer byte buffer
+	 * @param segmentShift binary logarithm of the number of positions covered by a segment, not larger than {@link #SINGLE_SEGMENT_SHIFT}
+	 * @return buffer consisting of segments sharing content with given buffer
+	 */
+	static SegmentedBuffer wrap(ByteBuffer buffer, int segmentShift) {
+		long size = buffer.remaining();
+		ByteBuffer[] segments = new ByteBuffer[getNumberOfSegments(size, segmentShift)];
+		for (int i = 0; i < segments.length; i++) {
+			long start = (long)i << segmentShift;
+			ByteBuffer segment = buffer.duplicate();
+			segment.position(buffer.position() + (int)start);
+			segment.limit(segment.position() + (int)getSegmentLength(start, size, segmentShift));
+			segments[i] = segment.slice().order(buffer.order());
+		}
+		return new SegmentedBuffer(segments, segmentShift, size);
+	}
+
+	/**
+	 * Gets number of segments covering given number of positions.
+	 *
+	 * @param size number of positions
+	 * @param segmentShift binary logarithm of the number of positions covered by a segment
+	 * @return number of segments
+	 */
+	private static int getNumberOfSegments(long size, int segmentShift) {
+		return (int)((size + (1L << segmentShift) - 1L) >>> segmentShift);
+	}
+
+	/**
+	 * Gets number of bytes of the segment starting at given position, including bytes of the next segment repeated at its end.
+	 *
+	 * @param start first position covered by the segment
+	 * @param size number of positions of all segments
+	 * @param segmentShift binary logarithm of the number of positions covered by a segment
+	 * @return number of bytes of the segment
+	 */
+	private static long getSegmentLength(long start, long size, int segmentShift) {
+		return Math.min(size - start, (1L << segmentShift) + OVERLAP);
+	}
+
+	/**
+	 * Gets number of bytes of this buffer.
+	 *
+	 * @return number of bytes of this buffer
+	 */
+	long size() {
+		return this.size;
+	}
+
+	/**
+	 * Gets current position of this buffer.
+	 *
+	 * @return current position of this buffer
+	 */
+	long position() {
+		return this.position;
+	}
+
+	/**
+	 * Sets current position of this buffer.
+	 *
+	 * @param position new position, not larger than the size of this buffer
+	 * @throws IllegalArgumentException if given position is negative or larger than the size of this buffer
+	 */
+	void position(long position) {
+		if (position < 0L || position > this.size) {
+			throw new IllegalArgumentException("Position " + position + " is out of buffer range.");
+		}
+		this.position = position;
+	}
+
+	/**
+	 * Gets number of bytes between current position and the end of this buffer.
+	 *
+	 * @return number of remaining bytes
+	 */
+	long remaining() {
+		return this.size - this.position;
+	}
+
+	/**
+	 * Gets segment containing given position.
+	 *
+	 * @param position position in this buffer
+	 * @return segment containing given position
+	 * @throws IndexOutOfBoundsException if given position is out of buffer range
+	 */
+	private ByteBuffer getSegment(long position) {
+		if (position < 0L || position >= this.size) {
+			throw new IndexOutOfBoundsException("Position " + position + " is out of buffer range.");
+		}
+		return this.segments[(int)(position >>> this.segmentShift)];
+	}
+
+	/**
+	 * Reads byte at given position.
+	 *
+	 * @param position position in this buffer
+	 * @return read byte
+	 * @throws IndexOutOfBoundsException if given position is out of buffer range
+	 */
+	byte get(long position) {
+		return this.getSegment(position).get((int)(position & this.segmentMask));
+	}
+
+	/**
+	 * Reads {@code int} value starting at given position.
+	 *
+	 * @param position position in this buffer
+	 * @return read value
+	 * @throws IndexOutOfBoundsException if the value does not fit in this buffer
+	 */
+	int getInt(long position) {
+		return this.getSegment(position).getInt((int)(position & this.segmentMask));
+	}
+
+	/**
+	 * Reads {@code long} value starting at given position.
+	 *
+	 * @param position position in this buffer
+	 * @return read value
+	 * @throws IndexOutOfBoundsException if the value does not fit in this buffer
+	 */
+	long getLong(long position) {
+		return this.getSegment(position).getLong((int)(position & this.segmentMask));
+	}
+
+	/**
+	 * Reads {@code double} value starting at given position.
+	 *
+	 * @param position position in this buffer
+	 * @return read value
+	 * @throws IndexOutOfBoundsException if the value does not fit in this buffer
+	 */
+	double getDouble(long position) {
+		return this.getSegment(position).getDouble((int)(position & this.segmentMask));
+	}
+
+	/**
+	 * Reads bytes starting at given position into given array, possibly from many subsequent segments.
+	 *
+	 * @param position position in this buffer
+	 * @param bytes array filled with read bytes
+	 * @throws IndexOutOfBoundsException if read bytes do not fit in this buffer
+	 */
+	void get(long position, byte[] bytes) {
+		if (position < 0L || position + bytes.length > this.size) {
+			throw new IndexOutOfBoundsException("Bytes starting at position " + position + " are out of buffer range.");
+		}
+		int offset = 0;
+		while (offset < bytes.length) {
+			long current = position + offset;
+			ByteBuffer segment = this.segments[(int)(current >>> this.segmentShift)].duplicate(); //duplicate has its own position, so other threads are not affected
+			segment.position((int)(current & this.segmentMask));
+			int length = (int)Math.min(bytes.length - offset, (1L << this.segmentShift) - (current & this.segmentMask));
+			segment.get(bytes, offset, length);
+			offset += length;
+		}
+	}
+
+	/**
+	 * Verifies that given number of bytes remains in this buffer, and advances current position by that number.
+	 *
+	 * @param numberOfBytes number of read bytes
+	 * @return position before advancing
+	 * @throws BufferUnderflowException if there are less remaining bytes than the given number
+	 */
+	private long advance(long numberOfBytes) {
+		if (numberOfBytes > this.remaining()) {
+			throw new BufferUnderflowException();
+		}
+		long position = this.position;
+		this.position += numberOfBytes;
+		return position;
+	}
+
+	/**
+	 * Reads byte at current position, and advances the position.
+	 *
+	 * @return read byte
+	 * @throws BufferUnderflowException if there are no remaining bytes
+	 */
+	byte get() {
+		return this.get(this.advance(1));
+	}
+
+	/**
+	 * Reads {@code int} value at current position, and advances the position.
+	 *
+	 * @return read value
+	 * @throws BufferUnderflowException if there are not enough remaining bytes
+	 */
+	int getInt() {
+		return this.getInt(this.advance(4));
+	}
+
+	/**
+	 * Reads {@code long} value at current position, and advances the position.
+	 *
+	 * @return read value
+	 * @throws BufferUnderflowException if there are not enough remaining bytes
+	 */
+	long getLong() {
+		return this.getLong(this.advance(8));
+	}
+
+	/**
+	 * Reads {@code double} value at current position, and advances the position.
+	 *
+	 * @return read value
+	 * @throws BufferUnderflowException if there are not enough remaining bytes
+	 */
+	double getDouble() {
+		return this.getDouble(this.advance(8));
+	}
+
+	/**
+	 * Reads bytes at current position into given array, and advances the position.
+	 *
+	 * @param bytes array filled with read bytes
+	 * @throws BufferUnderflowException if there are not enough remaining bytes
+	 */
+	void get(byte[] bytes) {
+		this.get(this.advance(bytes.length), bytes);
+	}
+
+}
@@ -0,0 +1,738 @@
+/**
+ * Copyright (C) Jerzy Błaszczyński, Marcin Szeląg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.rulelearn.data.csv;
+
+import static org.rulelearn.core.Precondition.notNull;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import org.rulelearn.core.FieldParseException;
+import org.rulelearn.data.Attribute;
+import org.rulelearn.data.EvaluationAttribute;
+import org.rulelearn.data.IdentificationAttribute;
+import org.rulelearn.data.InformationTable;
+import org.rulelearn.data.InformationTableBuilder;
+import org.rulelearn.types.ElementList;
+import org.rulelearn.types.EnumerationField;
+import org.rulelearn.types.EnumerationFieldCachingFactory;
+import org.rulelearn.types.EvaluationField;
+import org.rulelearn.types.Field;
+import org.rulelearn.types.IntegerField;
+import org.rulelearn.types.IntegerFieldCachingFactory;
+import org.rulelearn.types.RealField;
+import org.rulelearn.types.RealFieldCachingFactory;
+import org.rulelearn.types.SimpleField;
+import org.rulelearn.types.TextIdentificationField;
+import org.rulelearn.types.UUIDIdentificationField;
+
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+
+/**
+ * Loader of objects stored in CSV format, dedicated to large files. Contrary to {@link ObjectBuilder} used by {@link InformationTableBuilder},
+ * this loader does not store textual descriptions of objects. It reads characters into a buffer, splits them into cells without regular expressions,
+ * and parses integer, real, and enumeration evaluations directly from characters, without constructing a {@link String} for each cell.
+ * Fields of each object are written at once to the array passed to the constructed information table, which does not copy that array
+ * (see {@link InformationTable#InformationTable(Attribute[], List, boolean)}).<br>
+ * <br>
+ * Loaded information table is the same as the one built by {@link InformationTableBuilder#safelyBuildFromCSVFile(String, String, boolean, char)}
+ * for the same settings. Cells may be enclosed in double quotes (then, a double quote inside a cell is written twice), leading and trailing white spaces
+ * of each cell are ignored, empty lines are skipped, and lines may be terminated by "\n", "\r\n", or "\r".
+ *
+ * @author Jerzy Błaszczyński (<a href="mailto:jurek.blaszczynski@cs.put.poznan.pl">jurek.blaszczynski@cs.put.poznan.pl</a>)
+ * @author Marcin Szeląg (<a href="mailto:marcin.szelag@cs.put.poznan.pl">marcin.szelag@cs.put.poznan.pl</a>)
+ */
+public class FastObjectLoader {
+
+	/**
+	 * Size of the buffer of characters read at once.
+	 */
+	static final int BUFFER_SIZE = 1 << 16;
+
+	/**
+	 * Greatest integer mantissa of a real number which, together with a power of ten not greater than {@link #MAX_EXACT_POWER_OF_TEN}, can be converted exactly
+	 * (i.e., with the same result as {@link Double#parseDouble(String)}) by a single floating-point division or multiplication.
+	 */
+	static final long MAX_EXACT_MANTISSA = (1L << 53) - 1;
+
+	/**
+	 * Greatest power of ten which is represented exactly as a double.
+	 */
+	static final int MAX_EXACT_POWER_OF_TEN = 22;
+
+	/**
+	 * Powers of ten from 10<sup>0</sup> to 10<sup>{@link #MAX_EXACT_POWER_OF_TEN}</sup>.
+	 */
+	static final double[] POWERS_OF_TEN = new double[MAX_EXACT_POWER_OF_TEN + 1];
+
+	static {
+		POWERS_OF_TEN[0] = 1.0;
+		for (int i = 1; i < POWERS_OF_TEN.length; i++) {
+			POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10.0;
+		}
+	}
+
+	/**
+	 * Kind of a column storing evaluations of an integer attribute.
+	 */
+	static final int INTEGER_COLUMN = 0;
+	/**
+	 * Kind of a column storing evaluations of a real attribute.
+	 */
+	static final int REAL_COLUMN = 1;
+	/**
+	 * Kind of a column storing evaluations of an enumeration attribute.
+	 */
+	static final int ENUMERATION_COLUMN = 2;
+	/**
+	 * Kind of a column storing evaluations of any other evaluation attribute (parsed using textual representation of each evaluation).
+	 */
+	static final int OTHER_EVALUATION_COLUMN = 3;
+	/**
+	 * Kind of a column storing identifiers.
+	 */
+	static final int IDENTIFICATION_COLUMN = 4;
+
+	/**
+	 * Cell is terminated by a separator.
+	 */
+	static final int SEPARATOR_TERMINATOR = 0;
+	/**
+	 * Cell is terminated by the end of a line.
+	 */
+	static final int END_OF_LINE_TERMINATOR = 1;
+	/**
+	 * Cell is terminated by the end of input.
+	 */
+	static final int END_OF_INPUT_TERMINATOR = 2;
+
+	/**
+	 * All attributes which describe objects.
+	 */
+	protected Attribute [] attributes = null;
+
+	/**
+	 * Encoding of text data in CSV files.
+	 */
+	protected String encoding = ObjectBuilder.DEFAULT_ENCODING;
+
+	/**
+	 * Indication of presence of a header in CSV files.
+	 */
+	boolean header = false;
+
+	/**
+	 * Representation of a separator of fields in CSV files.
+	 */
+	char separator = ObjectBuilder.DEFAULT_SEPARATOR;
+
+	/**
+	 * String representation of a missing value in CSV files.
+	 */
+	protected String missingValueString = ObjectBuilder.DEFAULT_MISSING_VALUE_STRING;
+
+	/**
+	 * Builder class for {@link FastObjectLoader}.
+	 *
+	 * @author Jerzy Błaszczyński (<a href="mailto:jurek.blaszczynski@cs.put.poznan.pl">jurek.blaszczynski@cs.put.poznan.pl</a>)
+	 * @author Marcin Szeląg (<a href="mailto:marcin.szelag@cs.put.poznan.pl">marcin.szelag@cs.put.poznan.pl</a>)
+	 */
+	public static class Builder {
+
+		/**
+		 * All attributes which describe objects.
+		 */
+		protected Attribute [] attributes = null;
+
+		/**
+		 * Encoding of text data in CSV files.
+		 */
+		protected String encoding = ObjectBuilder.DEFAULT_ENCODING;
+
+		/**
+		 * Indication of presence of a header in CSV files.
+		 */
+		boolean header = false;
+
+		/**
+		 * Representation of a separator of fields in CSV files.
+		 */
+		char separator = ObjectBuilder.DEFAULT_SEPARATOR;
+
+		/**
+		 * String representation of a missing value in CSV files.
+		 */
+		protected String missingValueString = ObjectBuilder.DEFAULT_MISSING_VALUE_STRING;
+
+		/**
+		 * Constructor initializing attributes.
+		 *
+		 * @param attributes array of attributes {@link Attribute} which describe loaded objects
+		 * @throws NullPointerException if all or some of the attributes describing data to be loaded have not been set
+		 */
+		public Builder (Attribute [] attributes) {
+			if (attributes != null) {
+				for (Attribute attribute : attributes) {
+					if (attribute == null) throw new NullPointerException("At least one attribute is not set.");
+				}
+				this.attributes = attributes;
+			}
+			else {
+				throw new NullPointerException("Attributes are not set.");
+			}
+		}
+
+		/**
+		 * Sets encoding of loaded CSV files.
+		 *
+		 * @param value string representation of encoding
+		 * @throws NullPointerException if encoding has not been set
+		 * @return this builder
+		 */
+		public Builder encoding (String value) {
+			notNull(value, "String representing encoding is null.");
+			this.encoding = value;
+			return this;
+		}
+
+		/**
+		 * Sets reading of header in loaded CSV files.
+		 *
+		 * @param value indication of header in loaded CSV file
+		 * @return this builder
+		 */
+		public Builder header (boolean value) {
+			this.header = value;
+			return this;
+		}
+
+		/**
+		 * Sets separator of fields in loaded CSV files.
+		 *
+		 * @param value separator
+		 * @return this builder
+		 */
+		public Builder separator (char value) {
+			this.separator = value;
+			return this;
+		}
+
+		/**
+		 * Sets representation of missing value in loaded CSV files.
+		 *
+		 * @param value string representation of missing value
+		 * @throws NullPointerException if representation of missing value has not been set
+		 * @return this builder
+		 */
+		public Builder missingValueString (String value) {
+			notNull(value, "String representing missing values is null.");
+			this.missingValueString = value;
+			return this;
+		}
+
+		/**
+		 * Builds a new object loader {@link FastObjectLoader}.
+		 *
+		 * @return a new object loader
+		 */
+		public FastObjectLoader build () {
+			return new FastObjectLoader(this);
+		}
+	}
+
+	/**
+	 * Constructor initializing all values according to what has been set in builder passed as parameter.
+	 *
+	 * @param builder builder of object loader
+	 */
+	private FastObjectLoader(Builder builder) {
+		this.attributes = builder.attributes;
+		this.encoding = builder.encoding;
+		this.header = builder.header;
+		this.separator = builder.separator;
+		this.missingValueString = builder.missingValueString;
+	}
+
+	/**
+	 * Loads objects from CSV file with given path, and constructs an information table {@link InformationTable} with these objects.
+	 *
+	 * @param pathToCSVFile path to CSV file with objects
+	 * @return information table {@link InformationTable} with loaded objects
+	 * @throws NullPointerException if given path is {@code null}
+	 * @throws IOException if the file cannot be read
+	 * @throws FieldParseException if any cell cannot be parsed as a value of the corresponding attribute
+	 * @throws IndexOutOfBoundsException if any line has different number of cells than the number of attributes
+	 */
+	public InformationTable load (String pathToCSVFile) throws IOException {
+		notNull(pathToCSVFile, "Path to CSV file is null.");
+		try (Reader reader = Files.newBufferedReader(Paths.get(pathToCSVFile), Charset.forName(this.encoding))) {
+			return load(reader);
+		}
+	}
+
+	/**
+	 * Loads objects from given reader {@link Reader}, and constructs an information table {@link InformationTable} with these objects.
+	 * Given reader is not closed by this method.
+	 *
+	 * @param reader a reader with content to be loaded
+	 * @return information table {@link InformationTable} with loaded objects
+	 * @throws NullPointerException if given reader is {@code null}
+	 * @throws IOException if the content cannot be read
+	 * @throws FieldParseException if any cell cannot be parsed as a value of the corresponding attribute
+	 * @throws IndexOutOfBoundsException if any line has different number of cells than the number of attributes
+	 */
+	public InformationTable load (Reader reader) throws IOException {
+		notNull(reader, "Reader is null.");
+
+		List<Field[]> listOfFields = new ObjectArrayList<Field[]>();
+		try {
+			new Loader(reader).load(listOfFields);
+		}
+		finally {
+			//clear volatile caches of all used evaluation field caching factories
+			for (Attribute attribute : this.attributes) {
+				if (attribute instanceof EvaluationAttribute) {
+					((EvaluationAttribute)attribute).getValueType().getCachingFactory().clearVolatileCache();
+				}
+			}
+		}
+		return new InformationTable(this.attributes, listOfFields, true);
+	}
+
+	/**
+	 * Single use loader of objects from a reader, storing the buffer of read characters and the current cell.
+	 */
+	private class Loader {
+
+		/**
+		 * Reader with loaded content.
+		 */
+		final Reader reader;
+
+		/**
+		 * Buffer of read characters.
+		 */
+		final char[] buffer = new char[BUFFER_SIZE];
+
+		/**
+		 * Position of the next character to be processed in {@link #buffer}.
+		 */
+		int position = 0;
+
+		/**
+		 * Number of characters read into {@link #buffer}.
+		 */
+		int limit = 0;
+
+		/**
+		 * Characters of the current cell, without leading and trailing white spaces and without enclosing quotes.
+		 */
+		char[] cell = new char[64];
+
+		/**
+		 * Number of characters of the current cell.
+		 */
+		int cellLength = 0;
+
+		/**
+		 * Tells if the current cell has been enclosed in quotes.
+		 */
+		boolean quotedCell = false;
+
+		/**
+		 * Number of the current line, used in error messages.
+		 */
+		int lineNumber = 1;
+
+		/**
+		 * Kinds of subsequent columns.
+		 */
+		final int[] columnKinds;
+
+		/**
+		 * Fields representing missing value, for subsequent columns; {@code null} if a missing value cannot be read for a column.
+		 */
+		final Field[] missingValueFields;
+
+		/**
+		 * Constructs this loader.
+		 *
+		 * @param reader reader with loaded content
+		 */
+		Loader(Reader reader) {
+			this.reader = reader;
+			this.columnKinds = new int[attributes.length];
+			this.missingValueFields = new Field[attributes.length];
+
+			for (int i = 0; i < attributes.length; i++) {
+				if (attributes[i] instanceof EvaluationAttribute) {
+					EvaluationAttribute attribute = (EvaluationAttribute)attributes[i];
+					EvaluationField valueType = attribute.getValueType();
+					if (valueType instanceof IntegerField) {
+						this.columnKinds[i] = INTEGER_COLUMN;
+					} else if (valueType instanceof RealField) {
+						this.columnKinds[i] = REAL_COLUMN;
+					} else if (valueType instanceof EnumerationField) {
+						this.columnKinds[i] = ENUMERATION_COLUMN;
+					} else {
+						this.columnKinds[i] = OTHER_EVALUATION_COLUMN;
+					}
+					if (valueType instanceof SimpleField) { //single missing value is of interest only for a simple field
+						this.missingValueFields[i] = valueType.getUnknownEvaluation(attribute.getMissingValueType());
+					}
+				} else {
+					this.columnKinds[i] = IDENTIFICATION_COLUMN;
+				}
+			}
+		}
+
+		/**
+		 * Loads all objects and adds their fields to given list.
+		 *
+		 * @param listOfFields list of fields of subsequent objects
+		 * @throws IOException if the content cannot be read
+		 */
+		void load(List<Field[]> listOfFields) throws IOException {
+			boolean skipHeader = header;
+			Field[] fields;
+			int column;
+			int terminator;
+
+			do {
+				terminator = this.readCell();
+				if (terminator != SEPARATOR_TERMINATOR && this.cellLength == 0 && !this.quotedCell) { //empty line
+					this.lineNumber++;
+					continue;
+				}
+
+				if (skipHeader) {
+					while (terminator == SEPARATOR_TERMINATOR) {
+						terminator = this.readCell();
+					}
+					skipHeader = false;
+				} else {
+					fields = new Field[attributes.length];
+					column = 0;
+					while (true) {
+						if (column >= attributes.length) {
+							throw new IndexOutOfBoundsException("Object in line " + this.lineNumber + " has more evaluations than the number of attributes declared.");
+						}
+						fields[column] = this.parseCell(column);
+						column++;
+						if (terminator != SEPARATOR_TERMINATOR) {
+							break;
+						}
+						terminator = this.readCell();
+					}
+					if (column != attributes.length) {
+						throw new IndexOutOfBoundsException("Object in line " + this.lineNumber + " has less evaluations than the number of attributes declared.");
+					}
+					listOfFields.add(fields);
+				}
+				this.lineNumber++;
+			} while (terminator != END_OF_INPUT_TERMINATOR);
+		}
+
+		/**
+		 * Gets next character, refilling the buffer if necessary.
+		 *
+		 * @return next character, or -1 if there are no more characters
+		 * @throws IOException if the content cannot be read
+		 */
+		int next() throws IOException {
+			if (this.position == this.limit) {
+				do {
+					this.limit = this.reader.read(this.buffer, 0, this.buffer.length);
+				} while (this.limit == 0);
+				this.position = 0;
+				if (this.limit < 0) {
+					this.limit = 0;
+					return -1;
+				}
+			}
+			return this.buffer[this.position++];
+		}
+
+		/**
+		 * Appends given character to the current cell.
+		 *
+		 * @param character character to append
+		 */
+		void append(int character) {
+			if (this.cellLength == this.cell.length) {
+				this.cell = Arrays.copyOf(this.cell, this.cell.length << 1);
+			}
+			this.cell[this.cellLength++] = (char)character;
+		}
+
+		/**
+		 * Tells if given character is a white space ignored at the beginning and at the end of a cell.
+		 *
+		 * @param character character to check
+		 * @return {@code true} if given character is an ignored white space, {@code false} otherwise
+		 */
+		boolean isWhiteSpace(int character) {
+			return character <= ' ' && character != separator && character != '\n' && character != '\r' && character >= 0;
+		}
+
+		/**
+		 * Reads next cell into {@link #cell}, and consumes its terminator.
+		 *
+		 * @return terminator of the cell - {@link FastObjectLoader#SEPARATOR_TERMINATOR}, {@link FastObjectLoader#END_OF_LINE_TERMINATOR},
+		 *         or {@link FastObjectLoader#END_OF_INPUT_TERMINATOR}
+		 * @throws IOException if the content cannot be read
+		 */
+		int readCell() throws IOException {
+			this.cellLength = 0;
+			this.quotedCell = false;
+			int character = this.next();
+
+			while (this.isWhiteSpace(character)) {
+				character = this.next();
+			}
+
+			if (character == '"') {
+				this.quotedCell = true;
+				while (true) {
+					character = this.next();
+					if (character < 0) {
+						break;
+					} else if (character == '"') {
+						character = this.next();
+						if (character != '"') { //closing quote
+							break;
+						}
+					} else if (character == '\n') {
+						this.lineNumber++;
+					}
+					this.append(character);
+				}
+				while (this.isWhiteSpace(character)) {
+					character = this.next();
+				}
+				while (character >= 0 && character != separator && character != '\n' && character != '\r') { //characters after closing quote are ignored
+					character = this.next();
+				}
+			} else {
+				while (character >= 0 && character != separator && character != '\n' && character != '\r') {
+					this.append(character);
+					character = this.next();
+				}
+				while (this.cellLength > 0 && this.isWhiteSpace(this.cell[this.cellLength - 1])) {
+					this.cellLength--;
+				}
+			}
+
+			if (character == separator) {
+				return SEPARATOR_TERMINATOR;
+			} else if (character < 0) {
+				return END_OF_INPUT_TERMINATOR;
+			} else {
+				if (character == '\r') {
+					if (this.position == this.limit && this.limit > 0) { //make sure the next character is available
+						character = this.next();
+						if (character != '\n' && character >= 0) {
+							this.position--;
+						}
+					} else if (this.position < this.limit && this.buffer[this.position] == '\n') {
+						this.position++;
+					}
+				}
+				return END_OF_LINE_TERMINATOR;
+			}
+		}
+
+		/**
+		 * Tells if the current cell represents a missing value.
+		 *
+		 * @return {@code true} if the current cell represents a missing value, {@code false} otherwise
+		 */
+		boolean isMissingValue() {
+			if (missingValueString == null || this.cellLength != missingValueString.length()) {
+				return false;
+			}
+			char cellCharacter;
+			char missingValueCharacter;
+			for (int i = 0; i < this.cellLength; i++) {
+				cellCharacter = this.cell[i];
+				missingValueCharacter = missingValueString.charAt(i);
+				if (cellCharacter != missingValueCharacter && Character.toUpperCase(cellCharacter) != Character.toUpperCase(missingValueCharacter) &&
+						Character.toLowerCase(cellCharacter) != Character.toLowerCase(missingValueCharacter)) { //the same as String.equalsIgnoreCase
+					return false;
+				}
+			}
+			return true;
+		}
+
+		/**
+		 * Parses the current cell as a field of given column.
+		 *
+		 * @param column index of a column (attribute)
+		 * @return parsed field
+		 * @throws FieldParseException if the current cell cannot be parsed as a value of the attribute
+		 */
+		Field parseCell(int column) {
+			boolean missingValue = this.isMissingValue();
+
+			if (this.columnKinds[column] == IDENTIFICATION_COLUMN) {
+				String identification = new String(this.cell, 0, this.cellLength);
+				if (((IdentificationAttribute)attributes[column]).getValueType() instanceof UUIDIdentificationField) {
+					try {
+						return missingValue ? new UUIDIdentificationField(UUIDIdentificationField.DEFAULT_VALUE) : new UUIDIdentificationField(UUID.fromString(identification));
+					} catch (IllegalArgumentException exception) {
+						throw new FieldParseException("Cannot parse given string as an UUID.");
+					}
+				} else {
+					return missingValue ? new TextIdentificationField(TextIdentificationField.DEFAULT_VALUE) : new TextIdentificationField(identification);
+				}
+			}
+
+			if (missingValue && this.missingValueFields[column] != null) {
+				return this.missingValueFields[column];
+			}
+
+			EvaluationAttribute attribute = (EvaluationAttribute)attributes[column];
+			switch (this.columnKinds[column]) {
+			case INTEGER_COLUMN:
+				long integerValue = this.parseInteger();
+				if (integerValue != Long.MIN_VALUE) {
+					return IntegerFieldCachingFactory.getInstance().create((int)integerValue, attribute.getPreferenceType(), false);
+				}
+				break;
+			case REAL_COLUMN:
+				double realValue = this.parseReal();
+				if (!Double.isNaN(realValue)) {
+					return RealFieldCachingFactory.getInstance().create(realValue, attribute.getPreferenceType(), false);
+				}
+				break;
+			case ENUMERATION_COLUMN:
+				ElementList elementList = ((EnumerationField)attribute.getValueType()).getElementList();
+				int index = this.findElement(elementList);
+				if (index != ElementList.DEFAULT_INDEX) {
+					return EnumerationFieldCachingFactory.getInstance().create(elementList, index, attribute.getPreferenceType(), false);
+				}
+				break;
+			default:
+				break;
+			}
+
+			//cell could not be parsed directly (in that case, parsing of textual representation should throw an exception), or it concerns other value type
+			return attribute.getValueType().getCachingFactory().createWithVolatileCache(new String(this.cell, 0, this.cellLength), attribute);
+		}
+
+		/**
+		 * Parses the current cell as an integer number, in the same way as {@link Integer#parseInt(String)}.
+		 *
+		 * @return parsed number, or {@link Long#MIN_VALUE} if the current cell does not represent an integer number
+		 */
+		long parseInteger() {
+			int i = 0;
+			boolean negative = false;
+			if (this.cellLength > 0 && (this.cell[0] == '-' || this.cell[0] == '+')) {
+				negative = this.cell[0] == '-';
+				i++;
+			}
+			if (i == this.cellLength || this.cellLength - i > 10) {
+				return Long.MIN_VALUE;
+			}
+			long value = 0;
+			char character;
+			for (; i < this.cellLength; i++) {
+				character = this.cell[i];
+				if (character < '0' || character > '9') {
+					return Long.MIN_VALUE;
+				}
+				value = value * 10 + (character - '0');
+			}
+			value = negative ? -value : value;
+			return value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE ? value : Long.MIN_VALUE;
+		}
+
+		/**
+		 * Parses the current cell as a real number written as decimal digits with an optional sign and an optional decimal point.
+		 * Returned value is the same as returned by {@link Double#parseDouble(String)}, as conversion is done by a single exact floating-point operation.
+		 *
+		 * @return parsed number, or {@link Double#NaN} if the current cell has different format, or it has too many significant digits to be converted exactly
+		 */
+		double parseReal() {
+			int i = 0;
+			boolean negative = false;
+			if (this.cellLength > 0 && (this.cell[0] == '-' || this.cell[0] == '+')) {
+				negative = this.cell[0] == '-';
+				i++;
+			}
+			long mantissa = 0;
+			int digits = 0;
+			int fractionDigits = -1; //no decimal point yet
+			char character;
+			for (; i < this.cellLength; i++) {
+				character = this.cell[i];
+				if (character >= '0' && character <= '9') {
+					mantissa = mantissa * 10 + (character - '0');
+					if (mantissa > MAX_EXACT_MANTISSA) {
+						return Double.NaN;
+					}
+					digits++;
+					if (fractionDigits >= 0) {
+						fractionDigits++;
+					}
+				} else if (character == '.' && fractionDigits < 0) {
+					fractionDigits = 0;
+				} else {
+					return Double.NaN;
+				}
+			}
+			if (digits == 0 || fractionDigits > MAX_EXACT_POWER_OF_TEN) {
+				return Double.NaN;
+			}
+			double value = fractionDigits > 0 ? mantissa / POWERS_OF_TEN[fractionDigits] : (double)mantissa;
+			return negative ? -value : value;
+		}
+
+		/**
+		 * Finds element of given list equal to the current cell.
+		 *
+		 * @param elementList list of elements of an enumeration attribute
+		 * @return index of the element equal to the current cell, or {@link ElementList#DEFAULT_INDEX} if there is no such element
+		 */
+		int findElement(ElementList elementList) {
+			String[] elements = elementList.getElements();
+			String element;
+			int i;
+			for (int index = 0; index < elements.length; index++) {
+				element = elements[index];
+				if (element.length() == this.cellLength) {
+					for (i = 0; i < this.cellLength && element.charAt(i) == this.cell[i]; i++) {
+						//compare next character
+					}
+					if (i == this.cellLength) {
+						return index;
+					}
+				}
+			}
+			return ElementList.DEFAULT_INDEX;
+		}
+
+	}
+
+}
@@ -25,6 +25,7 @@ import java.io.InputStreamReader;
 import java.io.Reader;
 import java.io.UnsupportedEncodingException;
 import java.util.List;
+import java.util.function.Consumer;
 
 import org.rulelearn.data.Attribute;
 
@@ -287,5 +288,41 @@ public class ObjectBuilder {
 		List<String[]> objects = rowProcessor.getRows();
 		return objects;
 	}
+	
+	/**
+	 * Reads description of subsequent objects from the supplied CSV reader, one by one, and passes each of them, as a {@link String} array, to the given consumer.
+	 * Contrary to {@link #getObjects(Reader)}, descriptions of all objects are never stored in memory at the same time.
+	 * 
+	 * @param reader a reader of the CSV file
+	 * @param objectConsumer consumer of {@link String} arrays representing description of subsequent objects on all attributes
+	 * @return number of read objects
+	 * @throws NullPointerException if any of the parameters is {@code null}
+	 */
+	public int processObjects(Reader reader, Consumer<String[]> objectConsumer) {
+		notNull(reader, "Reader of the CSV file is null.");
+		notNull(objectConsumer, "Consumer of objects read from the CSV file is null.");
+		
+		CsvParserSettings parserSettings = new CsvParserSettings();
+		parserSettings.setLineSeparatorDetectionEnabled(true);
+		parserSettings.setHeaderExtractionEnabled(this.header);
+		parserSettings.setIgnoreLeadingWhitespaces(true);
+		parserSettings.setIgnoreTrailingWhitespaces(true);
+		CsvFormat format = new CsvFormat();
+		format.setDelimiter(this.separator);
+		parserSettings.setFormat(format);
+		if (this.attributes != null) {
+			parserSettings.setMaxColumns(this.attributes.length);
+		}
+		CsvParser parser = new CsvParser(parserSettings);
+		
+		int count = 0;
+		String[] object;
+		parser.beginParsing(reader);
+		while ((object = parser.parseNext()) != null) {
+			objectConsumer.accept(object);
+			count++;
+		}
+		return count;
+	}
 
 }
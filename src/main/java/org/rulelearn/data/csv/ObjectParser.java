@@ -18,13 +18,35 @@ package org.rulelearn.data.csv;
 
 import static org.rulelearn.core.Precondition.notNull;
 
+import java.io.CharArrayReader;
+import java.io.EOFException;
+import java.io.IOException;
 import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Consumer;
 
+import org.rulelearn.core.InvalidValueException;
 import org.rulelearn.data.Attribute;
+import org.rulelearn.data.EvaluationAttribute;
 import org.rulelearn.data.InformationTable;
 import org.rulelearn.data.InformationTableBuilder;
 
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongList;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+
 /**
  * Parser of objects stored in CSV format.
  *
@@ -34,6 +56,28 @@ import org.rulelearn.data.InformationTableBuilder;
  */
 public class ObjectParser {
 	
+	/**
+	 * Minimal number of bytes in one chunk of a file parsed in parallel by {@link #parseObjects(FileChannel, ForkJoinPool)}.
+	 */
+	static final long MIN_BYTES_PER_CHUNK = 1 << 16;
+	
+	/**
+	 * Number of bytes in one chunk of a file parsed in parallel by {@link #parseObjects(FileChannel, ForkJoinPool)}, above which no more lines are added to the chunk,
+	 * limiting memory used by a task parsing the chunk.
+	 */
+	static final long MAX_BYTES_PER_CHUNK = 1 << 26;
+	
+	/**
+	 * Number of chunks of a file parsed in parallel by {@link #parseObjects(FileChannel, ForkJoinPool)} per one thread of a fork-join pool,
+	 * allowing to balance load of threads.
+	 */
+	static final int CHUNKS_PER_THREAD = 4;
+	
+	/**
+	 * Size of the buffer used to scan a file parsed in parallel by {@link #parseObjects(FileChannel, ForkJoinPool)} for bounds of chunks.
+	 */
+	static final int READ_BUFFER_SIZE = 1 << 16;
+	
 	/**
 	 * All attributes which describe objects.
 	 */
@@ -198,15 +242,384 @@ public class ObjectParser {
 		if (objectBuilder != null) {
 			objects = objectBuilder.getObjects(reader);
 			if (objects != null) {
-				// separator passed to InforamtionTableBuilder is irrelevant here
-				InformationTableBuilder informationTableBuilder  = new InformationTableBuilder(this.attributes, ",", 
-														new String [] {this.missingValueString}); 
-				for (int i = 0; i < objects.size(); i++) {
-					informationTableBuilder.addObject(objects.get(i));
-				}
-				informationTable = informationTableBuilder.build();
+				informationTable = buildInformationTable(objects);
 			}
 		}
 		return informationTable;
 	}
+	
+	/**
+	 * Parses content from reader {@link Reader} object by object, and passes parsed objects to the given consumer, in batches.
+	 * Each batch is an information table {@link InformationTable} with at most given number of subsequent objects.
+	 * Only objects from one batch are stored in memory at the same time, so arbitrarily long content can be parsed.
+	 * 
+	 * @param reader a reader with content to be parsed
+	 * @param batchSize maximal number of objects in one batch
+	 * @param batchConsumer consumer of subsequent batches of parsed objects
+	 * @return number of parsed objects
+	 * @throws NullPointerException when the provided reader or consumer is null
+	 * @throws InvalidValueException when given batch size is not positive
+	 */
+	public int parseObjects (Reader reader, int batchSize, Consumer<InformationTable> batchConsumer) {
+		notNull(reader, "Reader is null.");
+		notNull(batchConsumer, "Consumer of batches of parsed objects is null.");
+		if (batchSize <= 0) {
+			throw new InvalidValueException("Size of a batch of parsed objects must be positive.");
+		}
+		
+		ObjectBuilder objectBuilder = new ObjectBuilder.Builder().attributes(this.attributes).encoding(this.encoding).header(this.header).separator(this.separator).build();
+		List<String []> batch = new ObjectArrayList<String []>();
+		
+		int count = objectBuilder.processObjects(reader, object -> {
+			batch.add(object);
+			if (batch.size() == batchSize) {
+				batchConsumer.accept(buildInformationTable(batch));
+				batch.clear();
+			}
+		});
+		if (!batch.isEmpty()) {
+			batchConsumer.accept(buildInformationTable(batch));
+		}
+		return count;
+	}
+	
+	/**
+	 * Parses content from reader {@link Reader}, and constructs an information table {@link InformationTable} with parsed objects.
+	 * As content of a reader can only be read sequentially, this method is a sequential fallback of {@link #parseObjects(FileChannel, ForkJoinPool)},
+	 * equivalent to {@link #parseObjects(Reader)}, and given fork-join pool is not used.
+	 * 
+	 * @param reader a reader with content to be parsed
+	 * @param forkJoinPool fork-join pool, not used
+	 * @return information table {@link InformationTable} with parsed objects or {@code null} when the table cannot be constructed
+	 * @throws NullPointerException when the provided reader or fork-join pool is null
+	 */
+	public InformationTable parseObjects (Reader reader, ForkJoinPool forkJoinPool) {
+		notNull(forkJoinPool, "Fork-join pool used to parse objects is null.");
+		return parseObjects(reader);
+	}
+	
+	/**
+	 * Parses content of a file, opened by given file channel, in parallel, and constructs an information table {@link InformationTable} with parsed objects.
+	 * The file is first scanned byte by byte, to find bounds of line-aligned chunks (lines are never split inside quoted values). Then, chunks are parsed
+	 * on the given fork-join pool, each one read from the file, decoded and parsed by a separate task, using field caches of the thread parsing that chunk.
+	 * Hence, whole content is never kept in memory, and the file can be arbitrarily long.
+	 * Parsed objects are put into the resulting information table in the same order as in the file, so this table
+	 * is the same as the one constructed by {@link #parseObjects(Reader)} (including consecutive unique identifiers of objects).
+	 * Splitting by bytes requires that line terminators, quotes, and the separator are encoded as in ASCII, and are not part of any other character,
+	 * which holds for UTF-8 and single-byte encodings. For other encodings, content of the file is parsed sequentially.
+	 * 
+	 * @param channel file channel with content to be parsed; its position is not used
+	 * @param forkJoinPool fork-join pool used to parse chunks of content in parallel
+	 * @return information table {@link InformationTable} with parsed objects
+	 * @throws NullPointerException when the provided file channel or fork-join pool is null
+	 * @throws IOException when something goes wrong with the file channel, or when encoding of this parser is not supported
+	 */
+	public InformationTable parseObjects (FileChannel channel, ForkJoinPool forkJoinPool) throws IOException {
+		notNull(channel, "File channel is null.");
+		notNull(forkJoinPool, "Fork-join pool used to parse objects is null.");
+		
+		Charset charset = getCharset();
+		if (!isSplittableByBytes(charset)) {
+			channel.position(0L);
+			return parseObjects(Channels.newReader(channel, getDecoder(charset), -1));
+		}
+		long bytesPerChunk = Math.min(MAX_BYTES_PER_CHUNK, Math.max(MIN_BYTES_PER_CHUNK, channel.size() / (forkJoinPool.getParallelism() * CHUNKS_PER_THREAD) + 1));
+		return parseObjects(channel, charset, getChunkBounds(channel, bytesPerChunk, READ_BUFFER_SIZE), forkJoinPool);
+	}
+	
+	/**
+	 * Parses given chunks of a file, in parallel, and constructs an information table {@link InformationTable} with parsed objects.
+	 * 
+	 * @param channel file channel with content to be parsed
+	 * @param charset encoding of the file
+	 * @param chunkBounds bounds of subsequent chunks of the file, as returned by {@link #getChunkBounds(FileChannel, long, int)}
+	 * @param forkJoinPool fork-join pool used to parse chunks of content in parallel
+	 * @return information table {@link InformationTable} with parsed objects
+	 * @throws IOException when something goes wrong with the file channel
+	 */
+	InformationTable parseObjects (FileChannel channel, Charset charset, long[] chunkBounds, ForkJoinPool forkJoinPool) throws IOException {
+		InformationTableBuilder[] chunkBuilders = new InformationTableBuilder[chunkBounds.length - 1];
+		
+		if (chunkBuilders.length > 1) {
+			try {
+				forkJoinPool.invoke(new ChunkParsingTask(channel, charset, chunkBounds, chunkBuilders, 0, chunkBuilders.length));
+			}
+			catch (UncheckedIOException exception) {
+				throw exception.getCause();
+			}
+		}
+		else {
+			chunkBuilders[0] = parseChunk(channel, charset, chunkBounds[0], chunkBounds[1], this.header);
+		}
+		
+		// separator passed to InforamtionTableBuilder is irrelevant here
+		InformationTableBuilder informationTableBuilder  = new InformationTableBuilder(this.attributes, ",", new String [] {this.missingValueString});
+		for (InformationTableBuilder chunkBuilder : chunkBuilders) {
+			informationTableBuilder.addObjects(chunkBuilder);
+		}
+		return informationTableBuilder.build();
+	}
+	
+	/**
+	 * Gets encoding of parsed files.
+	 * 
+	 * @return encoding of parsed files
+	 * @throws IOException when encoding of this parser is not supported
+	 */
+	Charset getCharset () throws IOException {
+		try {
+			return Charset.forName(this.encoding);
+		}
+		catch (IllegalArgumentException exception) {
+			throw new IOException("Encoding " + this.encoding + " is not supported.");
+		}
+	}
+	
+	/**
+	 * Gets decoder of given encoding, replacing malformed input and unmappable characters, like {@link java.io.InputStreamReader}.
+	 * 
+	 * @param charset encoding of parsed files
+	 * @return decoder of given encoding
+	 */
+	CharsetDecoder getDecoder (Charset charset) {
+		return charset.newDecoder().onMalformedInput(CodingErrorAction.REPLACE).onUnmappableCharacter(CodingErrorAction.REPLACE);
+	}
+	
+	/**
+	 * Tells if content encoded with given encoding can be split into lines by bytes, i.e., if line terminators, quotes, and the separator
+	 * are encoded as single ASCII bytes, which are not part of encoding of any other character.
+	 * 
+	 * @param charset encoding of parsed files
+	 * @return {@code true} if content can be split by bytes, {@code false} otherwise
+	 */
+	boolean isSplittableByBytes (Charset charset) {
+		if (this.separator >= 0x80) {
+			return false;
+		}
+		if (charset.equals(StandardCharsets.UTF_8)) {
+			return true;
+		}
+		String specialCharacters = "\"\r\n" + this.separator;
+		return charset.canEncode() && charset.newEncoder().maxBytesPerChar() == 1.0f &&
+				Arrays.equals(specialCharacters.getBytes(charset), specialCharacters.getBytes(StandardCharsets.US_ASCII));
+	}
+	
+	/**
+	 * Splits content of a file, opened by given file channel, into line-aligned chunks having at least given number of bytes (except the last chunk).
+	 * A line terminator inside a quoted value does not end a line. A value is considered to be quoted if its first character,
+	 * not counting leading white spaces, is a quote. The file is read sequentially, in blocks of given size, using positional reads.
+	 * 
+	 * @param channel file channel with content to be split
+	 * @param bytesPerChunk minimal number of bytes in each chunk (except the last one)
+	 * @param readBufferSize number of bytes read at once
+	 * @return bounds of subsequent chunks; the i-th chunk starts at the i-th bound (inclusive), and ends at the (i+1)-th bound (exclusive)
+	 * @throws IOException when something goes wrong with the file channel
+	 */
+	long[] getChunkBounds (FileChannel channel, long bytesPerChunk, int readBufferSize) throws IOException {
+		LongList chunkBounds = new LongArrayList();
+		chunkBounds.add(0L);
+		long size = channel.size();
+		long nextChunkStart = bytesPerChunk;
+		long position = 0L;
+		boolean quoted = false;
+		boolean valueStart = true;
+		boolean closingQuote = false; //tells if the previous byte is a quote, which either ends a quoted value, or is escaped by the current byte
+		boolean carriageReturn = false; //tells if the previous byte is a carriage return, which ends a line, unless followed by a line feed
+		ByteBuffer buffer = ByteBuffer.allocate(readBufferSize);
+		int count;
+		byte character;
+		
+		while (position < size && (count = channel.read(buffer, position)) >= 0) {
+			for (int i = 0; i < count; i++, position++) {
+				character = buffer.get(i);
+				if (carriageReturn) {
+					carriageReturn = false;
+					if (character != '\n' && position >= nextChunkStart) {
+						chunkBounds.add(position);
+						nextChunkStart = position + bytesPerChunk;
+					}
+				}
+				if (closingQuote) {
+					closingQuote = false;
+					if (character == '"') { //escaped quote
+						continue;
+					}
+					quoted = false;
+				}
+				
+				if (quoted) {
+					if (character == '"') {
+						closingQuote = true;
+					}
+				}
+				else if (character == '\n') {
+					valueStart = true;
+					if (position + 1 >= nextChunkStart && position + 1 < size) {
+						chunkBounds.add(position + 1);
+						nextChunkStart = position + 1 + bytesPerChunk;
+					}
+				}
+				else if (character == '\r') {
+					valueStart = true;
+					carriageReturn = true;
+				}
+				else if (character == this.separator) {
+					valueStart = true;
+				}
+				else if (character == '"' && valueStart) {
+					quoted = true;
+				}
+				else if ((character & 0xFF) > ' ') {
+					valueStart = false;
+				}
+			}
+			buffer.clear();
+		}
+		
+		chunkBounds.add(position);
+		return chunkBounds.toLongArray();
+	}
+	
+	/**
+	 * Reads and decodes given chunk of a file.
+	 * 
+	 * @param channel file channel with parsed content
+	 * @param charset encoding of the file
+	 * @param fromPosition position of the first byte of the chunk (inclusive)
+	 * @param toPosition position of the last byte of the chunk (exclusive)
+	 * @return reader of decoded chunk
+	 * @throws IOException when something goes wrong with the file channel
+	 */
+	Reader getChunkReader (FileChannel channel, Charset charset, long fromPosition, long toPosition) throws IOException {
+		ByteBuffer bytes = ByteBuffer.allocate((int)(toPosition - fromPosition));
+		while (bytes.hasRemaining()) {
+			if (channel.read(bytes, fromPosition + bytes.position()) < 0) {
+				throw new EOFException("File ended before the end of a parsed chunk.");
+			}
+		}
+		bytes.flip();
+		CharBuffer characters = getDecoder(charset).decode(bytes);
+		return new CharArrayReader(characters.array(), characters.arrayOffset() + characters.position(), characters.remaining());
+	}
+	
+	/**
+	 * Parses objects from given chunk of a file. Clears volatile caches of evaluation field caching factories of the current thread afterwards.
+	 * 
+	 * @param channel file channel with parsed content
+	 * @param charset encoding of the file
+	 * @param fromPosition position of the first byte of the chunk (inclusive)
+	 * @param toPosition position of the last byte of the chunk (exclusive)
+	 * @param header tells if the chunk starts with a header
+	 * @return information table builder with parsed objects
+	 * @throws IOException when something goes wrong with the file channel
+	 */
+	InformationTableBuilder parseChunk (FileChannel channel, Charset charset, long fromPosition, long toPosition, boolean header) throws IOException {
+		ObjectBuilder objectBuilder = new ObjectBuilder.Builder().attributes(this.attributes).encoding(this.encoding).header(header).separator(this.separator).build();
+		List<String []> objects = objectBuilder.getObjects(getChunkReader(channel, charset, fromPosition, toPosition));
+		
+		// separator passed to InforamtionTableBuilder is irrelevant here
+		InformationTableBuilder informationTableBuilder  = new InformationTableBuilder(this.attributes, ",", new String [] {this.missingValueString});
+		try {
+			for (int i = 0; i < objects.size(); i++) {
+				informationTableBuilder.addObject(objects.get(i)); //uses volatile caches of the current thread
+			}
+		}
+		finally {
+			//clear volatile caches of all used evaluation field caching factories
+			for (int i = 0; i < this.attributes.length; i++) {
+				if (this.attributes[i] instanceof EvaluationAttribute) {
+					((EvaluationAttribute)this.attributes[i]).getValueType().getCachingFactory().clearVolatileCache();
+				}
+			}
+		}
+		return informationTableBuilder;
+	}
+	
+	/**
+	 * Task parsing a range of chunks of a file. Ranges with more than one chunk are split into halves.
+	 */
+	@SuppressWarnings("serial")
+	private class ChunkParsingTask extends RecursiveAction {
+		/**
+		 * File channel with parsed content.
+		 */
+		final FileChannel channel;
+		/**
+		 * Encoding of the file.
+		 */
+		final Charset charset;
+		/**
+		 * Bounds of all chunks of the file.
+		 */
+		final long[] chunkBounds;
+		/**
+		 * Builders with objects parsed from subsequent chunks, set by this task for the processed range of chunks.
+		 */
+		final InformationTableBuilder[] chunkBuilders;
+		/**
+		 * Index of the first chunk of the processed range (inclusive).
+		 */
+		final int fromChunkIndex;
+		/**
+		 * Index of the last chunk of the processed range (exclusive).
+		 */
+		final int toChunkIndex;
+		
+		/**
+		 * Constructs this task.
+		 * 
+		 * @param channel file channel with parsed content
+		 * @param charset encoding of the file
+		 * @param chunkBounds bounds of all chunks of the file
+		 * @param chunkBuilders builders with objects parsed from subsequent chunks
+		 * @param fromChunkIndex index of the first chunk of the processed range (inclusive)
+		 * @param toChunkIndex index of the last chunk of the processed range (exclusive)
+		 */
+		ChunkParsingTask(FileChannel channel, Charset charset, long[] chunkBounds, InformationTableBuilder[] chunkBuilders, int fromChunkIndex, int toChunkIndex) {
+			this.channel = channel;
+			this.charset = charset;
+			this.chunkBounds = chunkBounds;
+			this.chunkBuilders = chunkBuilders;
+			this.fromChunkIndex = fromChunkIndex;
+			this.toChunkIndex = toChunkIndex;
+		}
+		
+		/**
+		 * Parses chunks from the processed range.
+		 * 
+		 * @throws UncheckedIOException when something goes wrong with the file channel
+		 */
+		@Override
+		protected void compute() {
+			if (this.toChunkIndex - this.fromChunkIndex == 1) {
+				try {
+					this.chunkBuilders[this.fromChunkIndex] = parseChunk(this.channel, this.charset, this.chunkBounds[this.fromChunkIndex],
+							this.chunkBounds[this.fromChunkIndex + 1], header && this.fromChunkIndex == 0);
+				}
+				catch (IOException exception) {
+					throw new UncheckedIOException(exception);
+				}
+			}
+			else {
+				int middleChunkIndex = (this.fromChunkIndex + this.toChunkIndex) >>> 1;
+				invokeAll(new ChunkParsingTask(this.channel, this.charset, this.chunkBounds, this.chunkBuilders, this.fromChunkIndex, middleChunkIndex),
+						new ChunkParsingTask(this.channel, this.charset, this.chunkBounds, this.chunkBuilders, middleChunkIndex, this.toChunkIndex));
+			}
+		}
+	}
+	
+	/**
+	 * Constructs an information table {@link InformationTable} with given objects.
+	 * 
+	 * @param objects list of {@link String} arrays representing description of objects on all attributes
+	 * @return information table {@link InformationTable} with given objects
+	 */
+	InformationTable buildInformationTable (List<String []> objects) {
+		// separator passed to InforamtionTableBuilder is irrelevant here
+		InformationTableBuilder informationTableBuilder  = new InformationTableBuilder(this.attributes, ",", new String [] {this.missingValueString});
+		for (int i = 0; i < objects.size(); i++) {
+			informationTableBuilder.addObject(objects.get(i));
+		}
+		return informationTableBuilder.build();
+	}
 }
@@ -25,9 +25,12 @@ import org.rulelearn.data.Attribute;
 import org.rulelearn.data.EvaluationAttribute;
 import org.rulelearn.data.IdentificationAttribute;
 import org.rulelearn.data.InformationTable;
+import org.rulelearn.types.Field;
+import org.rulelearn.types.UnknownSimpleField;
 
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
+import com.google.gson.stream.JsonWriter;
 
 /**
  * Writes {@link Attribute attributes} and objects from {@link InformationTable} to JSON.
@@ -93,6 +96,9 @@ public class InformationTableWriter {
 	
 	/**
 	 * Writes objects from information table passed as parameter to JSON using writer passed as parameter.
+	 * Objects are streamed to the writer one by one, without building JSON tree of the whole information table in memory,
+	 * so memory used by this method does not depend on the number of objects. Written JSON is the same as the one produced by {@link InformationTableSerializer}.
+	 * Given writer is flushed, but not closed.
 	 * 
 	 * @param informationTable information table with objects to be written to JSON
 	 * @param writer writer used to write objects to JSON
@@ -102,7 +108,23 @@ public class InformationTableWriter {
 		notNull(informationTable, "Information table from which objects are to be written to JSON is null.");
 		notNull(writer, "Writer for objects from information table to JSON is null.");
 		
-		writer.write(gson.toJson(informationTable));
+		int numObjects = informationTable.getNumberOfObjects(), numAttributes = informationTable.getNumberOfAttributes();
+		Attribute[] attributes = informationTable.getAttributes(true);
+		JsonWriter jsonWriter = gson.newJsonWriter(writer); //takes pretty printing and escaping settings from gson
+		
+		jsonWriter.beginArray();
+		for (int i = 0; i < numObjects; i++) {
+			jsonWriter.beginObject();
+			for (int j = 0; j < numAttributes; j++) {
+				Field field = informationTable.getField(i, j);
+				if (!(field instanceof UnknownSimpleField)) {
+					jsonWriter.name(attributes[j].getName()).value(field.toString());
+				}
+			}
+			jsonWriter.endObject();
+		}
+		jsonWriter.endArray();
+		jsonWriter.flush(); //do not close jsonWriter, as it would close given writer
 	}
 
 }
@@ -18,10 +18,27 @@ package org.rulelearn.data.json;
 
 import static org.rulelearn.core.Precondition.notNull;
 
+import java.io.CharArrayReader;
+import java.io.EOFException;
 import java.io.IOException;
 import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Consumer;
 
+import org.rulelearn.core.InvalidValueException;
 import org.rulelearn.data.Attribute;
+import org.rulelearn.data.EvaluationAttribute;
 import org.rulelearn.data.InformationTable;
 import org.rulelearn.data.InformationTableBuilder;
 import org.rulelearn.data.csv.ObjectBuilder;
@@ -30,6 +47,10 @@ import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonParser;
 import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongList;
 
 /**
  * Parser of objects stored in JSON format.
@@ -40,6 +61,28 @@ import com.google.gson.stream.JsonReader;
  */
 public class ObjectParser {
 	
+	/**
+	 * Minimal number of bytes in one chunk of a file parsed in parallel by {@link #parseObjects(FileChannel, ForkJoinPool)}.
+	 */
+	static final long MIN_BYTES_PER_CHUNK = 1 << 16;
+	
+	/**
+	 * Number of bytes in one chunk of a file parsed in parallel by {@link #parseObjects(FileChannel, ForkJoinPool)}, above which no more elements are added to the chunk,
+	 * limiting memory used by a task parsing the chunk.
+	 */
+	static final long MAX_BYTES_PER_CHUNK = 1 << 26;
+	
+	/**
+	 * Number of chunks of a file parsed in parallel by {@link #parseObjects(FileChannel, ForkJoinPool)} per one thread of a fork-join pool,
+	 * allowing to balance load of threads.
+	 */
+	static final int CHUNKS_PER_THREAD = 4;
+	
+	/**
+	 * Size of the buffer used to scan a file parsed in parallel by {@link #parseObjects(FileChannel, ForkJoinPool)} for bounds of chunks.
+	 */
+	static final int READ_BUFFER_SIZE = 1 << 16;
+	
 	/**
 	 * All attributes which describe objects.
 	 */
@@ -173,6 +216,394 @@ public class ObjectParser {
 		return informationTable;
 	}
 	
+	/**
+	 * Parses content from reader {@link Reader} object by object, and passes parsed objects to the given consumer, in batches.
+	 * Each batch is an information table {@link InformationTable} with at most given number of subsequent objects.
+	 * Contrary to {@link #parseObjects(Reader)}, content is not parsed into a single JSON structure, and only objects from one batch
+	 * are stored in memory at the same time, so arbitrarily long content can be parsed.
+	 * 
+	 * @param reader a reader with content to be parsed
+	 * @param batchSize maximal number of objects in one batch
+	 * @param batchConsumer consumer of subsequent batches of parsed objects
+	 * @return number of parsed objects
+	 * @throws IOException when something goes wrong with {@link Reader}
+	 * @throws NullPointerException when the provided reader or consumer is null
+	 * @throws InvalidValueException when given batch size is not positive
+	 */
+	public int parseObjects (Reader reader, int batchSize, Consumer<InformationTable> batchConsumer) throws IOException {
+		notNull(reader, "Reader with content to be parsed is null.");
+		notNull(batchConsumer, "Consumer of batches of parsed objects is null.");
+		if (batchSize <= 0) {
+			throw new InvalidValueException("Size of a batch of parsed objects must be positive.");
+		}
+		
+		int count = 0;
+		InformationTableBuilder informationTableBuilder = null;
+		try (JsonReader jsonReader = new JsonReader(reader)) {
+			JsonParser jsonParser = new JsonParser();
+			JsonToken firstToken;
+			try {
+				firstToken = jsonReader.peek();
+			}
+			catch (EOFException exception) { // empty content
+				return count;
+			}
+			boolean array = (firstToken == JsonToken.BEGIN_ARRAY);
+			if (array) {
+				jsonReader.beginArray();
+			}
+			while (array ? jsonReader.hasNext() : (count == 0 && jsonReader.peek() != JsonToken.END_DOCUMENT)) {
+				JsonElement json = jsonParser.parse(jsonReader);
+				if (json.isJsonNull()) {
+					continue;
+				}
+				if (informationTableBuilder == null) {
+					informationTableBuilder = new InformationTableBuilder(this.attributes, new String [] {this.missingValueString});
+				}
+				informationTableBuilder.addObject(parseObject(json));
+				if (++count % batchSize == 0) {
+					batchConsumer.accept(informationTableBuilder.build());
+					informationTableBuilder = null;
+				}
+			}
+			if (array) {
+				jsonReader.endArray();
+			}
+		}
+		if (informationTableBuilder != null) {
+			batchConsumer.accept(informationTableBuilder.build());
+		}
+		
+		return count;
+	}
+	
+	/**
+	 * Parses content from reader {@link Reader}, and constructs an information table {@link InformationTable} with parsed objects.
+	 * As content of a reader can only be read sequentially, this method is a sequential fallback of {@link #parseObjects(FileChannel, ForkJoinPool)},
+	 * equivalent to {@link #parseObjects(Reader)}, and given fork-join pool is not used.
+	 * 
+	 * @param reader a reader with content to be parsed
+	 * @param forkJoinPool fork-join pool, not used
+	 * @return information table {@link InformationTable} with parsed objects
+	 * @throws NullPointerException when the provided reader or fork-join pool is null
+	 * @throws IOException when something goes wrong with {@link Reader}
+	 */
+	public InformationTable parseObjects (Reader reader, ForkJoinPool forkJoinPool) throws IOException {
+		notNull(forkJoinPool, "Fork-join pool used to parse objects is null.");
+		return parseObjects(reader);
+	}
+	
+	/**
+	 * Parses content of a file, opened by given file channel, in parallel, and constructs an information table {@link InformationTable} with parsed objects.
+	 * The file is first scanned byte by byte. If it contains an array, it is split into chunks of subsequent elements of that array, which are parsed
+	 * on the given fork-join pool, each chunk read from the file, decoded and parsed by a separate task, using field caches of the thread parsing that chunk.
+	 * Hence, whole content is never kept in memory, and the file can be arbitrarily long. Otherwise, content of the file is parsed by {@link #parseObjects(Reader)}.
+	 * Parsed objects are put into the resulting information table in the same order as in the file, so this table is the same as the one
+	 * constructed by {@link #parseObjects(Reader)} (including consecutive unique identifiers of objects).
+	 * Splitting by bytes requires that brackets, braces, quotes, commas, and backslashes are encoded as in ASCII, and are not part of any other character,
+	 * which holds for UTF-8 and single-byte encodings. For other encodings, content of the file is parsed sequentially.
+	 * 
+	 * @param channel file channel with content to be parsed; its position is not used
+	 * @param forkJoinPool fork-join pool used to parse chunks of content in parallel
+	 * @return information table {@link InformationTable} with parsed objects
+	 * @throws NullPointerException when the provided file channel or fork-join pool is null
+	 * @throws IOException when something goes wrong with the file channel, or when encoding of this parser is not supported
+	 */
+	public InformationTable parseObjects (FileChannel channel, ForkJoinPool forkJoinPool) throws IOException {
+		notNull(channel, "File channel is null.");
+		notNull(forkJoinPool, "Fork-join pool used to parse objects is null.");
+		
+		Charset charset = getCharset();
+		long[] chunkBounds = null;
+		if (isSplittableByBytes(charset)) {
+			long bytesPerChunk = Math.min(MAX_BYTES_PER_CHUNK, Math.max(MIN_BYTES_PER_CHUNK, channel.size() / (forkJoinPool.getParallelism() * CHUNKS_PER_THREAD) + 1));
+			chunkBounds = getChunkBounds(channel, bytesPerChunk, READ_BUFFER_SIZE);
+		}
+		if (chunkBounds == null) { //not an array, or not splittable
+			channel.position(0L);
+			return parseObjects(Channels.newReader(channel, getDecoder(charset), -1));
+		}
+		return parseObjects(channel, charset, chunkBounds, forkJoinPool);
+	}
+	
+	/**
+	 * Parses given chunks of elements of an array stored in a file, in parallel, and constructs an information table {@link InformationTable} with parsed objects.
+	 * 
+	 * @param channel file channel with content to be parsed
+	 * @param charset encoding of the file
+	 * @param chunkBounds bounds of subsequent chunks of the file, as returned by {@link #getChunkBounds(FileChannel, long, int)}
+	 * @param forkJoinPool fork-join pool used to parse chunks of content in parallel
+	 * @return information table {@link InformationTable} with parsed objects
+	 * @throws IOException when something goes wrong with the file channel
+	 */
+	InformationTable parseObjects (FileChannel channel, Charset charset, long[] chunkBounds, ForkJoinPool forkJoinPool) throws IOException {
+		InformationTableBuilder[] chunkBuilders = new InformationTableBuilder[chunkBounds.length >> 1];
+		
+		if (chunkBuilders.length > 1) {
+			try {
+				forkJoinPool.invoke(new ChunkParsingTask(channel, charset, chunkBounds, chunkBuilders, 0, chunkBuilders.length));
+			}
+			catch (UncheckedIOException exception) {
+				throw exception.getCause();
+			}
+		}
+		else {
+			chunkBuilders[0] = parseChunk(channel, charset, chunkBounds[0], chunkBounds[1]);
+		}
+		
+		InformationTableBuilder informationTableBuilder  = new InformationTableBuilder(this.attributes, new String [] {this.missingValueString});
+		for (InformationTableBuilder chunkBuilder : chunkBuilders) {
+			informationTableBuilder.addObjects(chunkBuilder);
+		}
+		return informationTableBuilder.build();
+	}
+	
+	/**
+	 * Gets encoding of parsed files.
+	 * 
+	 * @return encoding of parsed files
+	 * @throws IOException when encoding of this parser is not supported
+	 */
+	Charset getCharset () throws IOException {
+		try {
+			return Charset.forName(this.encoding);
+		}
+		catch (IllegalArgumentException exception) {
+			throw new IOException("Encoding " + this.encoding + " is not supported.");
+		}
+	}
+	
+	/**
+	 * Gets decoder of given encoding, replacing malformed input and unmappable characters, like {@link java.io.InputStreamReader}.
+	 * 
+	 * @param charset encoding of parsed files
+	 * @return decoder of given encoding
+	 */
+	CharsetDecoder getDecoder (Charset charset) {
+		return charset.newDecoder().onMalformedInput(CodingErrorAction.REPLACE).onUnmappableCharacter(CodingErrorAction.REPLACE);
+	}
+	
+	/**
+	 * Tells if content encoded with given encoding can be split into elements of an array by bytes, i.e., if brackets, braces, quotes, commas,
+	 * backslashes, and white spaces are encoded as single ASCII bytes, which are not part of encoding of any other character.
+	 * 
+	 * @param charset encoding of parsed files
+	 * @return {@code true} if content can be split by bytes, {@code false} otherwise
+	 */
+	boolean isSplittableByBytes (Charset charset) {
+		if (charset.equals(StandardCharsets.UTF_8)) {
+			return true;
+		}
+		String specialCharacters = "[]{}\",\\ \t\r\n";
+		return charset.canEncode() && charset.newEncoder().maxBytesPerChar() == 1.0f &&
+				Arrays.equals(specialCharacters.getBytes(charset), specialCharacters.getBytes(StandardCharsets.US_ASCII));
+	}
+	
+	/**
+	 * Splits content of a file, opened by given file channel, into chunks of subsequent elements of an array being the content, each having at least given number of bytes
+	 * (except the last chunk). The file is read sequentially, in blocks of given size, using positional reads.
+	 * 
+	 * @param channel file channel with content to be split
+	 * @param bytesPerChunk minimal number of bytes in each chunk (except the last one)
+	 * @param readBufferSize number of bytes read at once
+	 * @return bounds of subsequent chunks; the i-th chunk starts at the (2*i)-th bound (inclusive), and ends at the (2*i+1)-th bound (exclusive),
+	 *         and consists of elements of the array separated by commas; {@code null} if content of the file is not an array, or the array is not closed
+	 * @throws IOException when something goes wrong with the file channel
+	 */
+	long[] getChunkBounds (FileChannel channel, long bytesPerChunk, int readBufferSize) throws IOException {
+		LongList chunkBounds = new LongArrayList();
+		long size = channel.size();
+		long position = 0L;
+		long chunkStart = -1L; //position of the first byte of the current chunk, or -1 before the beginning of the array
+		int depth = 0;
+		boolean inString = false;
+		boolean escaped = false; //tells if the previous byte is a backslash inside a string
+		ByteBuffer buffer = ByteBuffer.allocate(readBufferSize);
+		int count;
+		byte character;
+		
+		while (position < size && (count = channel.read(buffer, position)) >= 0) {
+			for (int i = 0; i < count; i++, position++) {
+				character = buffer.get(i);
+				if (chunkStart < 0L) {
+					if (character == '[') {
+						depth = 1;
+						chunkStart = position + 1;
+					}
+					else if (!Character.isWhitespace(character)) {
+						return null;
+					}
+				}
+				else if (escaped) {
+					escaped = false;
+				}
+				else if (inString) {
+					if (character == '\\') {
+						escaped = true;
+					}
+					else if (character == '"') {
+						inString = false;
+					}
+				}
+				else if (character == '"') {
+					inString = true;
+				}
+				else if (character == '[' || character == '{') {
+					depth++;
+				}
+				else if (character == ']' || character == '}') {
+					if (--depth == 0) { //end of the array
+						chunkBounds.add(chunkStart);
+						chunkBounds.add(position);
+						return chunkBounds.toLongArray();
+					}
+				}
+				else if (character == ',' && depth == 1 && position - chunkStart >= bytesPerChunk) {
+					chunkBounds.add(chunkStart);
+					chunkBounds.add(position);
+					chunkStart = position + 1;
+				}
+			}
+			buffer.clear();
+		}
+		
+		return null;
+	}
+	
+	/**
+	 * Reads and decodes given chunk of a file, consisting of elements of an array separated by commas, and encloses it in brackets, so it is an array itself.
+	 * 
+	 * @param channel file channel with parsed content
+	 * @param charset encoding of the file
+	 * @param fromPosition position of the first byte of the chunk (inclusive)
+	 * @param toPosition position of the last byte of the chunk (exclusive)
+	 * @return reader of decoded chunk, enclosed in brackets
+	 * @throws IOException when something goes wrong with the file channel
+	 */
+	Reader getChunkReader (FileChannel channel, Charset charset, long fromPosition, long toPosition) throws IOException {
+		ByteBuffer bytes = ByteBuffer.allocate((int)(toPosition - fromPosition));
+		while (bytes.hasRemaining()) {
+			if (channel.read(bytes, fromPosition + bytes.position()) < 0) {
+				throw new EOFException("File ended before the end of a parsed chunk.");
+			}
+		}
+		bytes.flip();
+		
+		CharsetDecoder decoder = getDecoder(charset);
+		CharBuffer characters = CharBuffer.allocate((int)(bytes.remaining() * (double)decoder.maxCharsPerByte()) + 2);
+		characters.put('[');
+		decoder.decode(bytes, characters, true);
+		decoder.flush(characters);
+		characters.put(']');
+		return new CharArrayReader(characters.array(), 0, characters.position());
+	}
+	
+	/**
+	 * Parses objects from given chunk of a file. Clears volatile caches of evaluation field caching factories of the current thread afterwards.
+	 * 
+	 * @param channel file channel with parsed content
+	 * @param charset encoding of the file
+	 * @param fromPosition position of the first byte of the chunk (inclusive)
+	 * @param toPosition position of the last byte of the chunk (exclusive)
+	 * @return information table builder with parsed objects
+	 * @throws IOException when something goes wrong with the file channel, or the chunk is not correct JSON
+	 */
+	InformationTableBuilder parseChunk (FileChannel channel, Charset charset, long fromPosition, long toPosition) throws IOException {
+		InformationTableBuilder informationTableBuilder  = new InformationTableBuilder(this.attributes, new String [] {this.missingValueString});
+		
+		try (JsonReader jsonReader = new JsonReader(getChunkReader(channel, charset, fromPosition, toPosition))) {
+			JsonParser jsonParser = new JsonParser();
+			jsonReader.beginArray();
+			while (jsonReader.hasNext()) {
+				JsonElement json = jsonParser.parse(jsonReader);
+				informationTableBuilder.addObject(parseObject(json.getAsJsonObject())); //uses volatile caches of the current thread
+			}
+			jsonReader.endArray();
+		}
+		finally {
+			//clear volatile caches of all used evaluation field caching factories
+			for (int i = 0; i < this.attributes.length; i++) {
+				if (this.attributes[i] instanceof EvaluationAttribute) {
+					((EvaluationAttribute)this.attributes[i]).getValueType().getCachingFactory().clearVolatileCache();
+				}
+			}
+		}
+		return informationTableBuilder;
+	}
+	
+	/**
+	 * Task parsing a range of chunks of elements of an array stored in a file. Ranges with more than one chunk are split into halves.
+	 */
+	@SuppressWarnings("serial")
+	private class ChunkParsingTask extends RecursiveAction {
+		/**
+		 * File channel with parsed content.
+		 */
+		final FileChannel channel;
+		/**
+		 * Encoding of the file.
+		 */
+		final Charset charset;
+		/**
+		 * Bounds of all chunks of the file.
+		 */
+		final long[] chunkBounds;
+		/**
+		 * Builders with objects parsed from subsequent chunks, set by this task for the processed range of chunks.
+		 */
+		final InformationTableBuilder[] chunkBuilders;
+		/**
+		 * Index of the first chunk of the processed range (inclusive).
+		 */
+		final int fromChunkIndex;
+		/**
+		 * Index of the last chunk of the processed range (exclusive).
+		 */
+		final int toChunkIndex;
+		
+		/**
+		 * Constructs this task.
+		 * 
+		 * @param channel file channel with parsed content
+		 * @param charset encoding of the file
+		 * @param chunkBounds bounds of all chunks of the file
+		 * @param chunkBuilders builders with objects parsed from subsequent chunks
+		 * @param fromChunkIndex index of the first chunk of the processed range (inclusive)
+		 * @param toChunkIndex index of the last chunk of the processed range (exclusive)
+		 */
+		ChunkParsingTask(FileChannel channel, Charset charset, long[] chunkBounds, InformationTableBuilder[] chunkBuilders, int fromChunkIndex, int toChunkIndex) {
+			this.channel = channel;
+			this.charset = charset;
+			this.chunkBounds = chunkBounds;
+			this.chunkBuilders = chunkBuilders;
+			this.fromChunkIndex = fromChunkIndex;
+			this.toChunkIndex = toChunkIndex;
+		}
+		
+		/**
+		 * Parses chunks from the processed range.
+		 * 
+		 * @throws UncheckedIOException when something goes wrong with the file channel, or a chunk is not correct JSON
+		 */
+		@Override
+		protected void compute() {
+			if (this.toChunkIndex - this.fromChunkIndex == 1) {
+				try {
+					this.chunkBuilders[this.fromChunkIndex] = parseChunk(this.channel, this.charset, this.chunkBounds[this.fromChunkIndex << 1],
+							this.chunkBounds[(this.fromChunkIndex << 1) + 1]);
+				}
+				catch (IOException exception) {
+					throw new UncheckedIOException(exception);
+				}
+			}
+			else {
+				int middleChunkIndex = (this.fromChunkIndex + this.toChunkIndex) >>> 1;
+				invokeAll(new ChunkParsingTask(this.channel, this.charset, this.chunkBounds, this.chunkBuilders, this.fromChunkIndex, middleChunkIndex),
+						new ChunkParsingTask(this.channel, this.charset, this.chunkBounds, this.chunkBuilders, middleChunkIndex, this.toChunkIndex));
+			}
+		}
+	}
+	
 	/**
 	 * Parses content from reader {@link Reader} into JSON structure {@link JsonElement}.
 	 *  
@@ -0,0 +1,553 @@
+/**
+ * Copyright (C) Jerzy Błaszczyński, Marcin Szeląg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.rulelearn.dominance;
+
+import static org.rulelearn.core.Precondition.notNull;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import org.rulelearn.core.InvalidSizeException;
+import org.rulelearn.core.InvalidValueException;
+import org.rulelearn.core.ReadOnlyArrayReference;
+import org.rulelearn.core.ReadOnlyArrayReferenceLocation;
+import org.rulelearn.data.CumulativeDecisionDistribution;
+import org.rulelearn.data.Decision;
+import org.rulelearn.data.DecisionDistribution;
+import org.rulelearn.data.InformationTable;
+
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import it.unimi.dsi.fastutil.objects.ObjectArraySet;
+import it.unimi.dsi.fastutil.objects.ObjectSets;
+
+/**
+ * Compact storage of decision distributions in dominance cones originating in objects of an information table. Instead of four {@link DecisionDistribution}
+ * objects (maps) per object, this class stores, for each type of dominance cones, a single array of {@code n*m} integers, where {@code n} is the number of objects
+ * and {@code m} is the number of unique decisions in the information table. Each decision is identified by its position (ordinal id) among unique decisions;
+ * if decisions are totally ordered, these are positions in {@link InformationTable#getOrderedUniqueFullyDeterminedDecisions()}.
+ * For each object, the array stores {@code m} cumulative counts, such that i-th count is the number of objects in the dominance cone
+ * having decision with id at most equal to i.<br>
+ * <br>
+ * Decision distributions returned by getters of this class are views of these arrays, copied on write, so modifying a returned distribution
+ * does not change distributions stored in this object. If decisions are totally ordered, the views are
+ * {@link CumulativeDecisionDistribution cumulative decision distributions}, so counting objects with decisions at least (at most) as good as a given decision
+ * takes constant time.<br>
+ * <br>
+ * All four dominance cones originating in a given object are calculated in a single pass over all objects, using {@link EvaluationRanks primitive ranks} of evaluations,
+ * optionally in parallel.
+ *
+ * @author Jerzy Błaszczyński (<a href="mailto:jurek.blaszczynski@cs.put.poznan.pl">jurek.blaszczynski@cs.put.poznan.pl</a>)
+ * @author Marcin Szeląg (<a href="mailto:marcin.szelag@cs.put.poznan.pl">marcin.szelag@cs.put.poznan.pl</a>)
+ */
+public class CompactDominanceConesDecisionDistributions extends DominanceConesDecisionDistributions {
+
+	/**
+	 * Unique decisions of the information table, ordered from the worst to the best if they are totally ordered.
+	 */
+	protected Decision[] decisions;
+
+	/**
+	 * Maps decision to its position in {@link #decisions}; returns -1 for a decision not present in that array.
+	 */
+	protected Object2IntMap<Decision> decision2IndexMap;
+
+	/**
+	 * Tells if {@link #decisions} are totally ordered.
+	 */
+	protected boolean totallyOrdered;
+
+	/**
+	 * Cumulative counts of decisions in positive dominance cones w.r.t. (straight) dominance relation D, for subsequent objects.
+	 */
+	protected int[] positiveDConesCumulativeCounts;
+
+	/**
+	 * Cumulative counts of decisions in negative dominance cones w.r.t. (straight) dominance relation D, for subsequent objects.
+	 */
+	protected int[] negativeDConesCumulativeCounts;
+
+	/**
+	 * Cumulative counts of decisions in positive dominance cones w.r.t. (inverse) dominance relation InvD, for subsequent objects.
+	 */
+	protected int[] positiveInvDConesCumulativeCounts;
+
+	/**
+	 * Cumulative counts of decisions in negative dominance cones w.r.t. (inverse) dominance relation InvD, for subsequent objects.
+	 */
+	protected int[] negativeInvDConesCumulativeCounts;
+
+	/**
+	 * Constructs this object by calculating distribution of decisions in each dominance cone of every object, on a single thread.
+	 *
+	 * @param informationTable information table containing objects for which dominance cones should be processed
+	 * @throws NullPointerException if given information table is {@code null}, or does not store decision of some object
+	 * @throws InvalidSizeException if the number of objects multiplied by the number of unique decisions exceeds {@link Integer#MAX_VALUE}
+	 */
+	public CompactDominanceConesDecisionDistributions(InformationTable informationTable) {
+		super(notNull(informationTable, "Information table for calculation of dominance cones is null.").getNumberOfObjects());
+		int[] decisionIndices = this.initialize(informationTable);
+		EvaluationRanks evaluationRanks = new EvaluationRanks(informationTable);
+
+		for (int x = 0; x < this.numberOfObjects; x++) {
+			this.calculateCumulativeCounts(x, evaluationRanks, decisionIndices);
+		}
+	}
+
+	/**
+	 * Constructs this object by calculating distribution of decisions in each dominance cone of every object, in parallel.
+	 * Objects being the origins of dominance cones are split among tasks executed by the given fork-join pool.
+	 * Each task writes only counts concerning its own objects, so no synchronization is needed.
+	 *
+	 * @param informationTable information table containing objects for which dominance cones should be processed
+	 * @param forkJoinPool fork-join pool executing calculation tasks (e.g., {@link ForkJoinPool#commonPool()})
+	 * @throws NullPointerException if any of the parameters is {@code null}, or if given information table does not store decision of some object
+	 * @throws InvalidSizeException if the number of objects multiplied by the number of unique decisions exceeds {@link Integer#MAX_VALUE}
+	 */
+	public CompactDominanceConesDecisionDistributions(InformationTable informationTable, ForkJoinPool forkJoinPool) {
+		super(notNull(informationTable, "Information table for calculation of dominance cones is null.").getNumberOfObjects());
+		notNull(forkJoinPool, "Fork-join pool for calculation of dominance cones is null.");
+		int[] decisionIndices = this.initialize(informationTable);
+
+		forkJoinPool.invoke(new CumulativeCountsCalculationTask(0, this.numberOfObjects, new EvaluationRanks(informationTable), decisionIndices));
+	}
+
+	/**
+	 * Initializes unique decisions and arrays of cumulative counts.
+	 *
+	 * @param informationTable information table containing objects for which dominance cones should be processed
+	 * @return array with positions of decisions of subsequent objects in {@link #decisions}
+	 * @throws NullPointerException if given information table does not store decision of some object
+	 * @throws InvalidSizeException if the number of objects multiplied by the number of unique decisions exceeds {@link Integer#MAX_VALUE}
+	 */
+	int[] initialize(InformationTable informationTable) {
+		Decision[] orderedDecisions = CumulativeDecisionDistribution.getTotallyOrderedDecisions(informationTable);
+		this.totallyOrdered = orderedDecisions != null;
+		this.decision2IndexMap = new Object2IntOpenHashMap<Decision>();
+		this.decision2IndexMap.defaultReturnValue(-1);
+		int[] decisionIndices = new int[this.numberOfObjects];
+
+		if (this.totallyOrdered) {
+			this.decisions = orderedDecisions;
+			for (int i = 0; i < orderedDecisions.length; i++) {
+				this.decision2IndexMap.put(orderedDecisions[i], i);
+			}
+			for (int x = 0; x < this.numberOfObjects; x++) {
+				decisionIndices[x] = this.decision2IndexMap.getInt(informationTable.getDecision(x));
+			}
+		} else { //order of the first occurrence
+			ObjectArrayList<Decision> uniqueDecisions = new ObjectArrayList<Decision>();
+			Decision decision;
+			int decisionIndex;
+			for (int x = 0; x < this.numberOfObjects; x++) {
+				decision = notNull(informationTable.getDecision(x), "Decision of an object, for which dominance cones should be processed, is null.");
+				decisionIndex = this.decision2IndexMap.getInt(decision);
+				if (decisionIndex < 0) {
+					decisionIndex = uniqueDecisions.size();
+					uniqueDecisions.add(decision);
+					this.decision2IndexMap.put(decision, decisionIndex);
+				}
+				decisionIndices[x] = decisionIndex;
+			}
+			this.decisions = uniqueDecisions.toArray(new Decision[uniqueDecisions.size()]);
+		}
+
+		long size = (long)this.numberOfObjects * this.decisions.length;
+		if (size > Integer.MAX_VALUE) {
+			throw new InvalidSizeException("Too many objects and decisions to store decision distributions in dominance cones in a compact way.");
+		}
+		this.positiveDConesCumulativeCounts = new int[(int)size];
+		this.negativeDConesCumulativeCounts = new int[(int)size];
+		this.positiveInvDConesCumulativeCounts = new int[(int)size];
+		this.negativeInvDConesCumulativeCounts = new int[(int)size];
+
+		return decisionIndices;
+	}
+
+	/**
+	 * Calculates cumulative counts of decisions in all four dominance cones originating in object x, in a single pass over all objects.
+	 *
+	 * @param x index of an object being the origin of dominance cones
+	 * @param evaluationRanks primitive ranks of evaluations of all objects
+	 * @param decisionIndices positions of decisions of subsequent objects in {@link #decisions}
+	 */
+	void calculateCumulativeCounts(int x, EvaluationRanks evaluationRanks, int[] decisionIndices) {
+		int offset = x * this.decisions.length;
+
+		for (int y = 0; y < this.numberOfObjects; y++) { //object being candidate to dominance cones
+			if (evaluationRanks.dominates(y, x)) {// y D x
+				this.positiveDConesCumulativeCounts[offset + decisionIndices[y]]++;
+			}
+			if (evaluationRanks.dominates(x, y)) {// x D y
+				this.negativeDConesCumulativeCounts[offset + decisionIndices[y]]++;
+			}
+			if (evaluationRanks.isDominatedBy(x, y)) {// x InvD y
+				this.positiveInvDConesCumulativeCounts[offset + decisionIndices[y]]++;
+			}
+			if (evaluationRanks.isDominatedBy(y, x)) {// y InvD x
+				this.negativeInvDConesCumulativeCounts[offset + decisionIndices[y]]++;
+			}
+		}
+
+		for (int i = offset + 1; i < offset + this.decisions.length; i++) { //turn counts into cumulative counts
+			this.positiveDConesCumulativeCounts[i] += this.positiveDConesCumulativeCounts[i - 1];
+			this.negativeDConesCumulativeCounts[i] += this.negativeDConesCumulativeCounts[i - 1];
+			this.positiveInvDConesCumulativeCounts[i] += this.positiveInvDConesCumulativeCounts[i - 1];
+			this.negativeInvDConesCumulativeCounts[i] += this.negativeInvDConesCumulativeCounts[i - 1];
+		}
+	}
+
+	/**
+	 * Task calculating cumulative counts of decisions in dominance cones originating in a range of objects.
+	 * Ranges longer than {@link DominanceConesDecisionDistributions#OBJECTS_PER_TASK} are split into halves.
+	 */
+	@SuppressWarnings("serial")
+	private class CumulativeCountsCalculationTask extends RecursiveAction {
+		/**
+		 * Index of the first object of the processed range (inclusive).
+		 */
+		final int fromObjectIndex;
+		/**
+		 * Index of the last object of the processed range (exclusive).
+		 */
+		final int toObjectIndex;
+		/**
+		 * Primitive ranks of evaluations of all objects.
+		 */
+		final EvaluationRanks evaluationRanks;
+		/**
+		 * Positions of decisions of subsequent objects in {@link CompactDominanceConesDecisionDistributions#decisions}.
+		 */
+		final int[] decisionIndices;
+
+		/**
+		 * Constructs this task.
+		 *
+		 * @param fromObjectIndex index of the first object of the processed range (inclusive)
+		 * @param toObjectIndex index of the last object of the processed range (exclusive)
+		 * @param evaluationRanks primitive ranks of evaluations of all objects
+		 * @param decisionIndices positions of decisions of subsequent objects
+		 */
+		CumulativeCountsCalculationTask(int fromObjectIndex, int toObjectIndex, EvaluationRanks evaluationRanks, int[] decisionIndices) {
+			this.fromObjectIndex = fromObjectIndex;
+			this.toObjectIndex = toObjectIndex;
+			this.evaluationRanks = evaluationRanks;
+			this.decisionIndices = decisionIndices;
+		}
+
+		@Override
+		protected void compute() {
+			if (this.toObjectIndex - this.fromObjectIndex <= OBJECTS_PER_TASK) {
+				for (int x = this.fromObjectIndex; x < this.toObjectIndex; x++) { //object being in the origin of dominance cones
+					calculateCumulativeCounts(x, this.evaluationRanks, this.decisionIndices);
+				}
+			} else {
+				int middleObjectIndex = (this.fromObjectIndex + this.toObjectIndex) >>> 1;
+				invokeAll(new CumulativeCountsCalculationTask(this.fromObjectIndex, middleObjectIndex, this.evaluationRanks, this.decisionIndices),
+						new CumulativeCountsCalculationTask(middleObjectIndex, this.toObjectIndex, this.evaluationRanks, this.decisionIndices));
+			}
+		}
+	}
+
+	/**
+	 * Gets unique decisions of the information table, whose positions are used as decision ids. If {@link #isTotallyOrdered()} is {@code true},
+	 * these decisions are ordered from the worst to the best.
+	 *
+	 * @return unique decisions of the information table
+	 */
+	@ReadOnlyArrayReference(at = ReadOnlyArrayReferenceLocation.OUTPUT)
+	public Decision[] getDecisions() {
+		return this.decisions;
+	}
+
+	/**
+	 * Tells if unique decisions of the information table are totally ordered, and so decision distributions returned by this object
+	 * are {@link CumulativeDecisionDistribution cumulative decision distributions}.
+	 *
+	 * @return {@code true} if unique decisions of the information table are totally ordered, {@code false} otherwise
+	 */
+	public boolean isTotallyOrdered() {
+		return this.totallyOrdered;
+	}
+
+	/**
+	 * Gets read-only view of cumulative counts of decisions in a dominance cone originating in object x having given index.
+	 *
+	 * @param cumulativeCounts cumulative counts of decisions in dominance cones of one type
+	 * @param objectIndex index of an object x from an information table, considered to be the origin of dominance cone
+	 * @return view of decision distribution in dominance cone originating in object x having given index, copied on write
+	 * @throws IndexOutOfBoundsException if given object index is lower than zero or exceeds {code{@link #getNumberOfObjects()}-1}
+	 */
+	DecisionDistribution getDecisionDistribution(int[] cumulativeCounts, int objectIndex) {
+		if (objectIndex < 0 || objectIndex >= this.numberOfObjects) {
+			throw new IndexOutOfBoundsException("Index of an object being the origin of dominance cone is out of range: " + objectIndex + ".");
+		}
+
+		return this.totallyOrdered ?
+				new PackedCumulativeDecisionDistribution(this.decisions, this.decision2IndexMap, cumulativeCounts, objectIndex * this.decisions.length) :
+				new PackedDecisionDistribution(this.decisions, this.decision2IndexMap, cumulativeCounts, objectIndex * this.decisions.length);
+	}
+
+	/**
+	 * {@inheritDoc} Returned distribution is a view of counts stored in this object, copied on write.
+	 *
+	 * @param objectIndex {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws IndexOutOfBoundsException {@inheritDoc}
+	 */
+	@Override
+	public DecisionDistribution getPositiveDConeDecisionClassDistribution(int objectIndex) {
+		return this.getDecisionDistribution(this.positiveDConesCumulativeCounts, objectIndex);
+	}
+
+	/**
+	 * {@inheritDoc} Returned distribution is a view of counts stored in this object, copied on write.
+	 *
+	 * @param objectIndex {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws IndexOutOfBoundsException {@inheritDoc}
+	 */
+	@Override
+	public DecisionDistribution getNegativeDConeDecisionClassDistribution(int objectIndex) {
+		return this.getDecisionDistribution(this.negativeDConesCumulativeCounts, objectIndex);
+	}
+
+	/**
+	 * {@inheritDoc} Returned distribution is a view of counts stored in this object, copied on write.
+	 *
+	 * @param objectIndex {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws IndexOutOfBoundsException {@inheritDoc}
+	 */
+	@Override
+	public DecisionDistribution getPositiveInvDConeDecisionClassDistribution(int objectIndex) {
+		return this.getDecisionDistribution(this.positiveInvDConesCumulativeCounts, objectIndex);
+	}
+
+	/**
+	 * {@inheritDoc} Returned distribution is a view of counts stored in this object, copied on write.
+	 *
+	 * @param objectIndex {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws IndexOutOfBoundsException {@inheritDoc}
+	 */
+	@Override
+	public DecisionDistribution getNegativeInvDConeDecisionClassDistribution(int objectIndex) {
+		return this.getDecisionDistribution(this.negativeInvDConesCumulativeCounts, objectIndex);
+	}
+
+	/**
+	 * Gets set of decisions having positive count in given slice of cumulative counts.
+	 *
+	 * @param decisions unique decisions
+	 * @param cumulativeCounts cumulative counts of decisions
+	 * @param offset position of cumulative count of the first decision
+	 * @return unmodifiable set of decisions having positive count, iterating over decisions in the order of their ids
+	 */
+	static Set<Decision> getPresentDecisions(Decision[] decisions, int[] cumulativeCounts, int offset) {
+		ObjectArraySet<Decision> presentDecisions = new ObjectArraySet<Decision>(decisions.length);
+		int previousCumulativeCount = 0;
+
+		for (int i = 0; i < decisions.length; i++) {
+			if (cumulativeCounts[offset + i] > previousCumulativeCount) {
+				presentDecisions.add(decisions[i]);
+			}
+			previousCumulativeCount = cumulativeCounts[offset + i];
+		}
+
+		return ObjectSets.unmodifiable(presentDecisions);
+	}
+
+	/**
+	 * View of cumulative counts of totally ordered decisions in a dominance cone, stored in an array shared by many dominance cones.
+	 * The view is copied on write - when a count is increased for the first time, cumulative counts of this view are copied to a private array,
+	 * so the shared array is never modified.
+	 */
+	static class PackedCumulativeDecisionDistribution extends CumulativeDecisionDistribution {
+		/**
+		 * Cumulative counts of decisions in dominance cones of one type, or private cumulative counts of this distribution, if it has been modified.
+		 */
+		int[] packedCumulativeCounts;
+		/**
+		 * Position of cumulative count of the first decision in {@link #packedCumulativeCounts}.
+		 */
+		int offset;
+		/**
+		 * Tells if {@link #packedCumulativeCounts} is a private copy of cumulative counts of this distribution.
+		 */
+		boolean copied = false;
+
+		/**
+		 * Constructs this view.
+		 *
+		 * @param orderedDecisions decisions ordered from the worst to the best
+		 * @param decision2IndexMap map from decision to its position in given array of ordered decisions
+		 * @param packedCumulativeCounts cumulative counts of decisions in dominance cones of one type
+		 * @param offset position of cumulative count of the first decision in given array of cumulative counts
+		 */
+		PackedCumulativeDecisionDistribution(Decision[] orderedDecisions, Object2IntMap<Decision> decision2IndexMap, int[] packedCumulativeCounts, int offset) {
+			super(orderedDecisions, decision2IndexMap, null);
+			this.packedCumulativeCounts = packedCumulativeCounts;
+			this.offset = offset;
+		}
+
+		@Override
+		public int getCumulativeCount(int decisionIndex) {
+			if (decisionIndex < 0 || decisionIndex > this.orderedDecisions.length) {
+				throw new IndexOutOfBoundsException("Decision index is out of range: " + decisionIndex + ".");
+			}
+			return decisionIndex == 0 ? 0 : this.packedCumulativeCounts[this.offset + decisionIndex - 1];
+		}
+
+		@Override
+		public int getTotalCount() {
+			return this.getCumulativeCount(this.orderedDecisions.length);
+		}
+
+		@Override
+		public int getCount(Decision decision) {
+			int decisionIndex = this.decision2IndexMap.getInt(decision);
+			return decisionIndex >= 0 ? this.getCumulativeCount(decisionIndex + 1) - this.getCumulativeCount(decisionIndex) : 0;
+		}
+
+		@Override
+		public Set<Decision> getDecisions() {
+			Set<Decision> presentDecisions = this.presentDecisions;
+			if (presentDecisions == null) {
+				presentDecisions = getPresentDecisions(this.orderedDecisions, this.packedCumulativeCounts, this.offset);
+				this.presentDecisions = presentDecisions;
+			}
+			return presentDecisions;
+		}
+
+		/**
+		 * {@inheritDoc} Before the first increase, copies cumulative counts of this distribution from the shared array.
+		 *
+		 * @param decision {@inheritDoc}
+		 * @throws NullPointerException {@inheritDoc}
+		 * @throws InvalidValueException if given decision is not present among ordered decisions of this distribution
+		 */
+		@Override
+		public void increaseCount(Decision decision) {
+			notNull(decision, "Could not increase count of a null decision.");
+			int decisionIndex = this.decision2IndexMap.getInt(decision);
+			if (decisionIndex < 0) {
+				throw new InvalidValueException("Could not increase count of a decision not present among ordered decisions of cumulative decision distribution.");
+			}
+
+			if (!this.copied) {
+				this.packedCumulativeCounts = Arrays.copyOfRange(this.packedCumulativeCounts, this.offset, this.offset + this.orderedDecisions.length);
+				this.offset = 0;
+				this.copied = true;
+			}
+			for (int i = decisionIndex; i < this.orderedDecisions.length; i++) { //cumulative counts of given decision and all better decisions
+				this.packedCumulativeCounts[i]++;
+			}
+			this.presentDecisions = null;
+		}
+	}
+
+	/**
+	 * View of cumulative counts of (not totally ordered) decisions in a dominance cone, stored in an array shared by many dominance cones.
+	 * The view is copied on write - when a count is increased for the first time, counts of this view are copied to {@link #decision2CountMap},
+	 * which is then used by all methods, so the shared array is never modified.
+	 */
+	static class PackedDecisionDistribution extends DecisionDistribution {
+		/**
+		 * Unique decisions.
+		 */
+		final Decision[] decisions;
+		/**
+		 * Maps decision to its position in {@link #decisions}; returns -1 for a decision not present in that array.
+		 */
+		final Object2IntMap<Decision> decision2IndexMap;
+		/**
+		 * Cumulative counts of decisions in dominance cones of one type.
+		 */
+		final int[] packedCumulativeCounts;
+		/**
+		 * Position of cumulative count of the first decision in {@link #packedCumulativeCounts}.
+		 */
+		final int offset;
+
+		/**
+		 * Constructs this view.
+		 *
+		 * @param decisions unique decisions
+		 * @param decision2IndexMap map from decision to its position in given array of decisions
+		 * @param packedCumulativeCounts cumulative counts of decisions in dominance cones of one type
+		 * @param offset position of cumulative count of the first decision in given array of cumulative counts
+		 */
+		PackedDecisionDistribution(Decision[] decisions, Object2IntMap<Decision> decision2IndexMap, int[] packedCumulativeCounts, int offset) {
+			super(false);
+			this.decisions = decisions;
+			this.decision2IndexMap = decision2IndexMap;
+			this.packedCumulativeCounts = packedCumulativeCounts;
+			this.offset = offset;
+		}
+
+		@Override
+		public boolean isPresent(Decision decision) {
+			if (this.decision2CountMap != null) {
+				return super.isPresent(decision);
+			}
+			return this.getCount(decision) > 0;
+		}
+
+		@Override
+		public Set<Decision> getDecisions() {
+			if (this.decision2CountMap != null) {
+				return super.getDecisions();
+			}
+			return getPresentDecisions(this.decisions, this.packedCumulativeCounts, this.offset);
+		}
+
+		@Override
+		public int getCount(Decision decision) {
+			if (this.decision2CountMap != null) {
+				return super.getCount(decision);
+			}
+			int decisionIndex = this.decision2IndexMap.getInt(decision);
+			if (decisionIndex < 0) {
+				return 0;
+			}
+			return this.packedCumulativeCounts[this.offset + decisionIndex] - (decisionIndex > 0 ? this.packedCumulativeCounts[this.offset + decisionIndex - 1] : 0);
+		}
+
+		/**
+		 * {@inheritDoc} Before the first increase, copies counts of this distribution from the shared array to {@link #decision2CountMap}.
+		 *
+		 * @param decision {@inheritDoc}
+		 * @throws NullPointerException {@inheritDoc}
+		 */
+		@Override
+		public void increaseCount(Decision decision) {
+			if (this.decision2CountMap == null) {
+				Object2IntMap<Decision> decision2CountMap = new Object2IntOpenHashMap<Decision>();
+				for (Decision presentDecision : this.getDecisions()) {
+					decision2CountMap.put(presentDecision, this.getCount(presentDecision));
+				}
+				this.decision2CountMap = decision2CountMap;
+			}
+			super.increaseCount(decision);
+		}
+	}
+
+}
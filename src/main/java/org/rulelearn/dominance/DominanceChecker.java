@@ -19,6 +19,7 @@ package org.rulelearn.dominance;
 import static org.rulelearn.core.Precondition.notNull;
 import java.util.function.BiPredicate;
 import org.rulelearn.core.TernaryLogicValue;
+import org.rulelearn.data.ColumnarTable;
 import org.rulelearn.data.EvaluationAttribute;
 import org.rulelearn.data.InformationTable;
 import org.rulelearn.data.Table;
@@ -82,6 +83,17 @@ public final class DominanceChecker {
 	 * @throws IndexOutOfBoundsException if index {@code x} or {@code y} does not correspond to any object from the given information table
 	 */
 	public static boolean dominates(int x, int y, InformationTable informationTable) {
+		notNull(informationTable, "Information table for checking dominance is null.");
+		if (informationTable.getActiveConditionAttributeFields() instanceof ColumnarTable) {
+			ColumnarTable evaluations = (ColumnarTable)informationTable.getActiveConditionAttributeFields();
+			for (int i = 0; i < evaluations.getNumberOfAttributes(); i++) {
+				if (!evaluations.isAtLeastAsGoodAs(x, y, i)) {
+					return false;
+				}
+			}
+			return true;
+		}
+		
 		return isInRelationWith(x, y, informationTable,
 				(evaluation1, evaluation2) -> evaluation1.isAtLeastAsGoodAs(evaluation2) == TernaryLogicValue.TRUE);
 	}
@@ -100,6 +112,17 @@ public final class DominanceChecker {
 	 * @throws IndexOutOfBoundsException if index {@code x} or {@code y} does not correspond to any object from the given information table
 	 */
 	public static boolean isDominatedBy(int x, int y, InformationTable informationTable) {
+		notNull(informationTable, "Information table for checking dominance is null.");
+		if (informationTable.getActiveConditionAttributeFields() instanceof ColumnarTable) {
+			ColumnarTable evaluations = (ColumnarTable)informationTable.getActiveConditionAttributeFields();
+			for (int i = 0; i < evaluations.getNumberOfAttributes(); i++) {
+				if (!evaluations.isAtMostAsGoodAs(x, y, i)) {
+					return false;
+				}
+			}
+			return true;
+		}
+		
 		return isInRelationWith(x, y, informationTable,
 				(evaluation1, evaluation2) -> evaluation1.isAtMostAsGoodAs(evaluation2) == TernaryLogicValue.TRUE);
 	}
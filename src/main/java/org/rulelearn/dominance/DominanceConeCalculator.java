@@ -121,4 +121,52 @@ public enum DominanceConeCalculator {
 		return dominanceCone;
 	}
 
+	/**
+	 * Gets, for object having index x, set of indices of objects in its positive dominance cone w.r.t. (straight) dominance relation D,
+	 * using precomputed dominance index. Formally, D^+(x)={y \in U : y D x}.
+	 * 
+	 * @param x index of an object from the information table
+	 * @param dominanceIndex dominance index calculated for the information table containing object indexed by {@code x}
+	 * @return set of indices of objects in the positive dominance cone of the object indexed by x, calculated w.r.t. (straight) dominance relation D
+	 */
+	public IntSortedSet calculatePositiveDCone(int x, DominanceIndex dominanceIndex) {
+		return dominanceIndex.calculatePositiveDCone(x);
+	}
+	
+	/**
+	 * Gets, for object having index x, set of indices of objects in its negative dominance cone w.r.t. (straight) dominance relation D,
+	 * using precomputed dominance index. Formally, D^-(x)={y \in U : x D y}.
+	 * 
+	 * @param x index of an object from the information table
+	 * @param dominanceIndex dominance index calculated for the information table containing object indexed by {@code x}
+	 * @return set of indices of objects in the negative dominance cone of the object indexed by x, calculated w.r.t. (straight) dominance relation D
+	 */
+	public IntSortedSet calculateNegativeDCone(int x, DominanceIndex dominanceIndex) {
+		return dominanceIndex.calculateNegativeDCone(x);
+	}
+	
+	/**
+	 * Gets, for object having index x, set of indices of objects in its positive dominance cone w.r.t. (inverse) dominance relation InvD,
+	 * using precomputed dominance index. Formally, InvD^+(x)={y \in U : x InvD y}.
+	 * 
+	 * @param x index of an object from the information table
+	 * @param dominanceIndex dominance index calculated for the information table containing object indexed by {@code x}
+	 * @return set of indices of objects in the positive dominance cone of the object indexed by x, calculated w.r.t. (inverse) dominance relation InvD
+	 */
+	public IntSortedSet calculatePositiveInvDCone(int x, DominanceIndex dominanceIndex) {
+		return dominanceIndex.calculatePositiveInvDCone(x);
+	}
+	
+	/**
+	 * Gets, for object having index x, set of indices of objects in its negative dominance cone w.r.t. (inverse) dominance relation InvD,
+	 * using precomputed dominance index. Formally, InvD^-(x)={y \in U : y InvD x}.
+	 * 
+	 * @param x index of an object from the information table
+	 * @param dominanceIndex dominance index calculated for the information table containing object indexed by {@code x}
+	 * @return set of indices of objects in the negative dominance cone of the object indexed by x, calculated w.r.t. (inverse) dominance relation InvD
+	 */
+	public IntSortedSet calculateNegativeInvDCone(int x, DominanceIndex dominanceIndex) {
+		return dominanceIndex.calculateNegativeInvDCone(x);
+	}
+
 }
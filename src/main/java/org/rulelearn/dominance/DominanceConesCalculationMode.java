@@ -0,0 +1,51 @@
+/**
+ * Copyright (C) Jerzy Błaszczyński, Marcin Szeląg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.rulelearn.dominance;
+
+/**
+ * Mode of calculation of {@link DominanceConesDecisionDistributions decision distributions in dominance cones}.
+ *
+ * @author Jerzy Błaszczyński (<a href="mailto:jurek.blaszczynski@cs.put.poznan.pl">jurek.blaszczynski@cs.put.poznan.pl</a>)
+ * @author Marcin Szeląg (<a href="mailto:marcin.szelag@cs.put.poznan.pl">marcin.szelag@cs.put.poznan.pl</a>)
+ */
+public enum DominanceConesCalculationMode {
+	/**
+	 * Calculation mode in which each of the four types of dominance cones is calculated in a separate pass over all pairs of objects,
+	 * using {@link DominanceChecker}, on a single thread.
+	 */
+	SEQUENTIAL,
+	/**
+	 * Calculation mode in which dominance relations are first stored in a {@link DominanceIndex}, and then all dominance cones are read from that index.
+	 * The index is kept for later use (e.g., for calculation of positive regions of unions).
+	 */
+	DOMINANCE_INDEX,
+	/**
+	 * Calculation mode in which all four types of dominance cones originating in a given object are calculated in a single pass over the other objects,
+	 * using {@link EvaluationRanks}, and objects are processed in parallel on a fork-join pool.
+	 */
+	PARALLEL_SINGLE_PASS,
+	/**
+	 * Calculation mode like {@link #PARALLEL_SINGLE_PASS}, but in which decision distributions are stored in a compact way,
+	 * using a single array of cumulative counts per type of dominance cones - see {@link CompactDominanceConesDecisionDistributions}.
+	 */
+	COMPACT,
+	/**
+	 * Calculation mode in which each decision distribution is calculated when requested for the first time, and then kept in a cache
+	 * of bounded size - see {@link OnDemandDominanceConesDecisionDistributions}. Intended for information tables too large to store decision distributions in all dominance cones.
+	 */
+	ON_DEMAND
+}
@@ -16,6 +16,11 @@
 
 package org.rulelearn.dominance;
 
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import org.rulelearn.data.CumulativeDecisionDistribution;
+import org.rulelearn.data.Decision;
 import org.rulelearn.data.DecisionDistribution;
 import org.rulelearn.data.InformationTable;
 import static org.rulelearn.core.Precondition.notNull;
@@ -63,6 +68,32 @@ public class DominanceConesDecisionDistributions {
 	 */
 	protected int numberOfObjects;
 	
+	/**
+	 * Empty distribution of totally ordered decisions of the processed information table, used as a prototype of decision distributions in all dominance cones;
+	 * {@code null} if decisions of that table are not totally ordered, in which case decision distributions in dominance cones are backed by maps.
+	 */
+	protected CumulativeDecisionDistribution cumulativeDecisionDistributionPrototype;
+	
+	/**
+	 * Number of objects below which a range (block) of objects is not split further between tasks, when dominance cones are calculated in parallel.
+	 */
+	static final int OBJECTS_PER_TASK = 16;
+	
+	/**
+	 * Maximum number of blocks of objects per thread of a fork-join pool, when dominance cones are calculated in parallel.
+	 */
+	static final int BLOCKS_PER_THREAD = 4;
+	
+	/**
+	 * Constructs this object without calculating any decision distributions. Intended for subclasses that store (or calculate)
+	 * decision distributions in dominance cones in a different way, and thus override all methods using arrays of decision distributions.
+	 * 
+	 * @param numberOfObjects number of objects for which dominance cones are processed
+	 */
+	protected DominanceConesDecisionDistributions(int numberOfObjects) {
+		this.numberOfObjects = numberOfObjects;
+	}
+	
 	/**
 	 * Constructs this object by calculating distribution of decisions in each dominance cone of every object.
 	 * 
@@ -72,6 +103,7 @@ public class DominanceConesDecisionDistributions {
 	public DominanceConesDecisionDistributions(InformationTable informationTable) {
 		notNull(informationTable, "Information table for calculation of dominance cones is null.");
 		this.numberOfObjects = informationTable.getNumberOfObjects();
+		this.initializeCumulativeDecisionDistributionPrototype(informationTable);
 		
 		this.positiveDConesDecisionDistributions = new DecisionDistribution[this.numberOfObjects];
 		this.negativeDConesDecisionDistributions = new DecisionDistribution[this.numberOfObjects];
@@ -84,6 +116,261 @@ public class DominanceConesDecisionDistributions {
 		this.calculateNegativeInvDConesDecisionDistributions(informationTable);
 	}
 	
+	/**
+	 * Constructs this object by reading distribution of decisions in each dominance cone of every object from the given dominance index,
+	 * instead of checking dominance relation for each pair of objects.
+	 * 
+	 * @param informationTable information table containing objects for which dominance cones should be processed
+	 * @param dominanceIndex dominance index calculated for the given information table
+	 * @throws NullPointerException if any of the parameters is {@code null}
+	 */
+	public DominanceConesDecisionDistributions(InformationTable informationTable, DominanceIndex dominanceIndex) {
+		notNull(informationTable, "Information table for calculation of dominance cones is null.");
+		notNull(dominanceIndex, "Dominance index for calculation of dominance cones is null.");
+		this.numberOfObjects = informationTable.getNumberOfObjects();
+		this.initializeCumulativeDecisionDistributionPrototype(informationTable);
+		
+		this.positiveDConesDecisionDistributions = new DecisionDistribution[this.numberOfObjects];
+		this.negativeDConesDecisionDistributions = new DecisionDistribution[this.numberOfObjects];
+		this.positiveInvDConesDecisionDistributions = new DecisionDistribution[this.numberOfObjects];
+		this.negativeInvDConesDecisionDistributions = new DecisionDistribution[this.numberOfObjects];
+		
+		for (int x = 0; x < this.numberOfObjects; x++) {
+			this.positiveDConesDecisionDistributions[x] = this.newDecisionDistribution();
+			this.negativeDConesDecisionDistributions[x] = this.newDecisionDistribution();
+			this.positiveInvDConesDecisionDistributions[x] = this.newDecisionDistribution();
+			this.negativeInvDConesDecisionDistributions[x] = this.newDecisionDistribution();
+		}
+		
+		long[] dominanceRow;
+		long[] inverseDominanceRow;
+		
+		for (int x = 0; x < this.numberOfObjects; x++) {
+			dominanceRow = dominanceIndex.getDominanceRow(x);
+			inverseDominanceRow = dominanceIndex.getInverseDominanceRow(x);
+			
+			for (int y = 0; y < this.numberOfObjects; y++) {
+				if (DominanceIndex.isSet(dominanceRow, y)) { // x D y
+					this.negativeDConesDecisionDistributions[x].increaseCount(informationTable.getDecision(y)); //y \in D^-(x)
+					this.positiveDConesDecisionDistributions[y].increaseCount(informationTable.getDecision(x)); //x \in D^+(y)
+				}
+				if (DominanceIndex.isSet(inverseDominanceRow, y)) { // x InvD y
+					this.positiveInvDConesDecisionDistributions[x].increaseCount(informationTable.getDecision(y)); //y \in InvD^+(x)
+					this.negativeInvDConesDecisionDistributions[y].increaseCount(informationTable.getDecision(x)); //x \in InvD^-(y)
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Constructs this object by calculating distribution of decisions in each dominance cone of every object, in parallel.
+	 * Each unordered pair of objects is compared only once, using {@link EvaluationRanks#getRelations(int, int)}, and the result of the comparison
+	 * updates dominance cones of both objects. Objects are split into blocks, and pairs of blocks are processed in rounds scheduled like a round-robin tournament.
+	 * Tasks of one round, executed by the given fork-join pool, process disjoint pairs of blocks, and thus update decision distributions of disjoint sets of objects,
+	 * so no synchronization is needed.
+	 * 
+	 * @param informationTable information table containing objects for which dominance cones should be processed
+	 * @param forkJoinPool fork-join pool executing calculation tasks (e.g., {@link ForkJoinPool#commonPool()})
+	 * @throws NullPointerException if any of the parameters is {@code null}
+	 */
+	public DominanceConesDecisionDistributions(InformationTable informationTable, ForkJoinPool forkJoinPool) {
+		notNull(informationTable, "Information table for calculation of dominance cones is null.");
+		notNull(forkJoinPool, "Fork-join pool for calculation of dominance cones is null.");
+		this.numberOfObjects = informationTable.getNumberOfObjects();
+		this.initializeCumulativeDecisionDistributionPrototype(informationTable);
+		
+		this.positiveDConesDecisionDistributions = new DecisionDistribution[this.numberOfObjects];
+		this.negativeDConesDecisionDistributions = new DecisionDistribution[this.numberOfObjects];
+		this.positiveInvDConesDecisionDistributions = new DecisionDistribution[this.numberOfObjects];
+		this.negativeInvDConesDecisionDistributions = new DecisionDistribution[this.numberOfObjects];
+		
+		EvaluationRanks evaluationRanks = new EvaluationRanks(informationTable);
+		Decision[] decisions = new Decision[this.numberOfObjects];
+		for (int i = 0; i < this.numberOfObjects; i++) {
+			decisions[i] = informationTable.getDecision(i);
+			this.positiveDConesDecisionDistributions[i] = this.newDecisionDistribution();
+			this.negativeDConesDecisionDistributions[i] = this.newDecisionDistribution();
+			this.positiveInvDConesDecisionDistributions[i] = this.newDecisionDistribution();
+			this.negativeInvDConesDecisionDistributions[i] = this.newDecisionDistribution();
+		}
+		
+		//number of blocks is even, so each round of the tournament pairs all blocks
+		int numberOfBlocks = Math.min((this.numberOfObjects + OBJECTS_PER_TASK - 1) / OBJECTS_PER_TASK, BLOCKS_PER_THREAD * forkJoinPool.getParallelism());
+		numberOfBlocks += numberOfBlocks % 2;
+		if (numberOfBlocks == 0) {
+			return;
+		}
+		int[] blockBounds = new int[numberOfBlocks + 1];
+		for (int b = 0; b <= numberOfBlocks; b++) {
+			blockBounds[b] = (int)((long)this.numberOfObjects * b / numberOfBlocks);
+		}
+		
+		//first round: pairs of objects from the same block
+		BlockPairCalculationTask[] tasks = new BlockPairCalculationTask[numberOfBlocks];
+		for (int b = 0; b < numberOfBlocks; b++) {
+			tasks[b] = new BlockPairCalculationTask(blockBounds[b], blockBounds[b + 1], blockBounds[b], blockBounds[b + 1], evaluationRanks, decisions);
+		}
+		forkJoinPool.invoke(new RoundTask(tasks));
+		
+		//subsequent rounds: pairs of objects from different blocks (circle method - block numberOfBlocks - 1 is fixed, other blocks rotate)
+		int rotatingBlocks = numberOfBlocks - 1;
+		for (int round = 0; round < rotatingBlocks; round++) {
+			tasks = new BlockPairCalculationTask[numberOfBlocks / 2];
+			tasks[0] = new BlockPairCalculationTask(blockBounds[round], blockBounds[round + 1], blockBounds[rotatingBlocks], blockBounds[rotatingBlocks + 1], evaluationRanks, decisions);
+			for (int k = 1; k < tasks.length; k++) {
+				int firstBlock = (round + k) % rotatingBlocks;
+				int secondBlock = (round - k + rotatingBlocks) % rotatingBlocks;
+				tasks[k] = new BlockPairCalculationTask(blockBounds[firstBlock], blockBounds[firstBlock + 1], blockBounds[secondBlock], blockBounds[secondBlock + 1], evaluationRanks, decisions);
+			}
+			forkJoinPool.invoke(new RoundTask(tasks));
+		}
+	}
+	
+	/**
+	 * Initializes {@link #cumulativeDecisionDistributionPrototype}, if decisions of given information table are totally ordered.
+	 * 
+	 * @param informationTable information table containing objects for which dominance cones should be processed
+	 */
+	protected void initializeCumulativeDecisionDistributionPrototype(InformationTable informationTable) {
+		Decision[] orderedDecisions = CumulativeDecisionDistribution.getTotallyOrderedDecisions(informationTable);
+		this.cumulativeDecisionDistributionPrototype = orderedDecisions != null ? new CumulativeDecisionDistribution(orderedDecisions) : null;
+	}
+	
+	/**
+	 * Constructs new, empty decision distribution of a dominance cone. If decisions of the processed information table are totally ordered,
+	 * returns a {@link CumulativeDecisionDistribution}, allowing to count objects with decisions at least (at most) as good as a given decision in constant time.
+	 * Otherwise, returns a map-based {@link DecisionDistribution}.
+	 * 
+	 * @return new, empty decision distribution of a dominance cone
+	 */
+	protected DecisionDistribution newDecisionDistribution() {
+		return this.cumulativeDecisionDistributionPrototype != null ? this.cumulativeDecisionDistributionPrototype.newDistribution() : new DecisionDistribution();
+	}
+	
+	/**
+	 * Compares objects x and y once, and updates decision distributions in dominance cones of both objects.
+	 * 
+	 * @param x index of the first object
+	 * @param y index of the second object
+	 * @param evaluationRanks primitive ranks of evaluations of all objects
+	 * @param decisions decisions of all objects
+	 */
+	void updateDecisionDistributions(int x, int y, EvaluationRanks evaluationRanks, Decision[] decisions) {
+		int relations = evaluationRanks.getRelations(x, y);
+		
+		if ((relations & EvaluationRanks.Y_DOMINATES_X) != 0) { // y D x
+			this.positiveDConesDecisionDistributions[x].increaseCount(decisions[y]); //y \in D^+(x)
+			if (x != y) {
+				this.negativeDConesDecisionDistributions[y].increaseCount(decisions[x]); //x \in D^-(y)
+			}
+		}
+		if ((relations & EvaluationRanks.X_DOMINATES_Y) != 0) { // x D y
+			this.negativeDConesDecisionDistributions[x].increaseCount(decisions[y]); //y \in D^-(x)
+			if (x != y) {
+				this.positiveDConesDecisionDistributions[y].increaseCount(decisions[x]); //x \in D^+(y)
+			}
+		}
+		if ((relations & EvaluationRanks.X_IS_DOMINATED_BY_Y) != 0) { // x InvD y
+			this.positiveInvDConesDecisionDistributions[x].increaseCount(decisions[y]); //y \in InvD^+(x)
+			if (x != y) {
+				this.negativeInvDConesDecisionDistributions[y].increaseCount(decisions[x]); //x \in InvD^-(y)
+			}
+		}
+		if ((relations & EvaluationRanks.Y_IS_DOMINATED_BY_X) != 0) { // y InvD x
+			this.negativeInvDConesDecisionDistributions[x].increaseCount(decisions[y]); //y \in InvD^-(x)
+			if (x != y) {
+				this.positiveInvDConesDecisionDistributions[y].increaseCount(decisions[x]); //x \in InvD^+(y)
+			}
+		}
+	}
+	
+	/**
+	 * Task processing all pairs of objects such that the first object belongs to the first block and the second object belongs to the second block.
+	 * If both blocks are the same, each unordered pair of objects from that block (including pairs of the same object) is processed once.
+	 */
+	@SuppressWarnings("serial")
+	private class BlockPairCalculationTask extends RecursiveAction {
+		/**
+		 * Index of the first object of the first block (inclusive).
+		 */
+		final int fromFirstObjectIndex;
+		/**
+		 * Index of the last object of the first block (exclusive).
+		 */
+		final int toFirstObjectIndex;
+		/**
+		 * Index of the first object of the second block (inclusive).
+		 */
+		final int fromSecondObjectIndex;
+		/**
+		 * Index of the last object of the second block (exclusive).
+		 */
+		final int toSecondObjectIndex;
+		/**
+		 * Primitive ranks of evaluations of all objects.
+		 */
+		final EvaluationRanks evaluationRanks;
+		/**
+		 * Decisions of all objects.
+		 */
+		final Decision[] decisions;
+		
+		/**
+		 * Constructs this task.
+		 * 
+		 * @param fromFirstObjectIndex index of the first object of the first block (inclusive)
+		 * @param toFirstObjectIndex index of the last object of the first block (exclusive)
+		 * @param fromSecondObjectIndex index of the first object of the second block (inclusive)
+		 * @param toSecondObjectIndex index of the last object of the second block (exclusive)
+		 * @param evaluationRanks primitive ranks of evaluations of all objects
+		 * @param decisions decisions of all objects
+		 */
+		BlockPairCalculationTask(int fromFirstObjectIndex, int toFirstObjectIndex, int fromSecondObjectIndex, int toSecondObjectIndex,
+				EvaluationRanks evaluationRanks, Decision[] decisions) {
+			this.fromFirstObjectIndex = fromFirstObjectIndex;
+			this.toFirstObjectIndex = toFirstObjectIndex;
+			this.fromSecondObjectIndex = fromSecondObjectIndex;
+			this.toSecondObjectIndex = toSecondObjectIndex;
+			this.evaluationRanks = evaluationRanks;
+			this.decisions = decisions;
+		}
+		
+		@Override
+		protected void compute() {
+			boolean sameBlock = this.fromFirstObjectIndex == this.fromSecondObjectIndex;
+			for (int x = this.fromFirstObjectIndex; x < this.toFirstObjectIndex; x++) {
+				for (int y = sameBlock ? x : this.fromSecondObjectIndex; y < this.toSecondObjectIndex; y++) {
+					updateDecisionDistributions(x, y, this.evaluationRanks, this.decisions);
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Task executing all tasks of one round, processing disjoint pairs of blocks of objects.
+	 */
+	@SuppressWarnings("serial")
+	private static class RoundTask extends RecursiveAction {
+		/**
+		 * Tasks of the round.
+		 */
+		final BlockPairCalculationTask[] tasks;
+		
+		/**
+		 * Constructs this task.
+		 * 
+		 * @param tasks tasks of the round
+		 */
+		RoundTask(BlockPairCalculationTask[] tasks) {
+			this.tasks = tasks;
+		}
+		
+		@Override
+		protected void compute() {
+			invokeAll(this.tasks);
+		}
+	}
+	
 	/**
 	 * Gets number of objects for which decision distributions in dominance cones were calculated and stored.
 	 * 
@@ -102,7 +389,7 @@ public class DominanceConesDecisionDistributions {
 		int numberOfObjects = informationTable.getNumberOfObjects();
 		
 		for (int x = 0; x < numberOfObjects; x++) { //object being in the origin of dominance cone
-			this.positiveDConesDecisionDistributions[x] = new DecisionDistribution();
+			this.positiveDConesDecisionDistributions[x] = this.newDecisionDistribution();
 			
 			for (int y = 0; y < numberOfObjects; y++) { //object being candidate to dominance cone
 				if (DominanceChecker.dominates(y, x, informationTable)) {// y D x
@@ -121,7 +408,7 @@ public class DominanceConesDecisionDistributions {
 		int numberOfObjects = informationTable.getNumberOfObjects();
 		
 		for (int x = 0; x < numberOfObjects; x++) { //object being in the origin of dominance cone
-			this.negativeDConesDecisionDistributions[x] = new DecisionDistribution();
+			this.negativeDConesDecisionDistributions[x] = this.newDecisionDistribution();
 			
 			for (int y = 0; y < numberOfObjects; y++) { //object being candidate to dominance cone
 				if (DominanceChecker.dominates(x, y, informationTable)) {// x D y
@@ -140,7 +427,7 @@ public class DominanceConesDecisionDistributions {
 		int numberOfObjects = informationTable.getNumberOfObjects();
 		
 		for (int x = 0; x < numberOfObjects; x++) { //object being in the origin of dominance cone
-			this.positiveInvDConesDecisionDistributions[x] = new DecisionDistribution();
+			this.positiveInvDConesDecisionDistributions[x] = this.newDecisionDistribution();
 			
 			for (int y = 0; y < numberOfObjects; y++) { //object being candidate to dominance cone
 				if (DominanceChecker.isDominatedBy(x, y, informationTable)) {// x InvD y
@@ -159,7 +446,7 @@ public class DominanceConesDecisionDistributions {
 		int numberOfObjects = informationTable.getNumberOfObjects();
 		
 		for (int x = 0; x < numberOfObjects; x++) { //object being in the origin of dominance cone
-			this.negativeInvDConesDecisionDistributions[x] = new DecisionDistribution();
+			this.negativeInvDConesDecisionDistributions[x] = this.newDecisionDistribution();
 			
 			for (int y = 0; y < numberOfObjects; y++) { //object being candidate to dominance cone
 				if (DominanceChecker.isDominatedBy(y, x, informationTable)) {// y InvD x
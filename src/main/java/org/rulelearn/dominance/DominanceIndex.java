@@ -0,0 +1,299 @@
+/**
+ * Copyright (C) Jerzy Błaszczyński, Marcin Szeląg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.rulelearn.dominance;
+
+import static org.rulelearn.core.Precondition.notNull;
+
+import org.rulelearn.core.ReadOnlyArrayReference;
+import org.rulelearn.core.ReadOnlyArrayReferenceLocation;
+import org.rulelearn.data.InformationTable;
+
+import it.unimi.dsi.fastutil.ints.IntLinkedOpenHashSet;
+import it.unimi.dsi.fastutil.ints.IntSortedSet;
+
+/**
+ * Precomputed index of (straight) dominance relation D and (inverse) dominance relation InvD among objects of an information table.
+ * Both relations are calculated once, using {@link EvaluationRanks primitive ranks} of evaluations on active condition attributes,
+ * and stored as bitsets - one row of type {@code long[]} per object. Bit {@code y} of row {@code x} of relation D is set iff x D y,
+ * and bit {@code y} of row {@code x} of relation InvD is set iff x InvD y. Each relation is stored also transposed (column by column),
+ * so that bit {@code y} of column {@code x} of relation D is set iff y D x, and bit {@code y} of column {@code x} of relation InvD is set iff y InvD x.<br>
+ * <br>
+ * Once the index is built, each dominance cone is obtained by reading one row (or one column) of the respective relation,
+ * without comparing any evaluations. Rows and columns are exposed as bitsets, so that unions of dominance cones can be calculated word by word.
+ * The index takes approximately {@code n*n/2} bytes, where {@code n} is the number of objects.
+ *
+ * @author Jerzy Błaszczyński (<a href="mailto:jurek.blaszczynski@cs.put.poznan.pl">jurek.blaszczynski@cs.put.poznan.pl</a>)
+ * @author Marcin Szeląg (<a href="mailto:marcin.szelag@cs.put.poznan.pl">marcin.szelag@cs.put.poznan.pl</a>)
+ */
+public class DominanceIndex {
+
+	/**
+	 * Rows of (straight) dominance relation D; bit {@code y} of {@code dominanceRows[x]} is set iff x D y.
+	 */
+	protected long[][] dominanceRows;
+	/**
+	 * Rows of (inverse) dominance relation InvD; bit {@code y} of {@code inverseDominanceRows[x]} is set iff x InvD y.
+	 */
+	protected long[][] inverseDominanceRows;
+	/**
+	 * Columns of (straight) dominance relation D; bit {@code y} of {@code dominanceColumns[x]} is set iff y D x.
+	 */
+	protected long[][] dominanceColumns;
+	/**
+	 * Columns of (inverse) dominance relation InvD; bit {@code y} of {@code inverseDominanceColumns[x]} is set iff y InvD x.
+	 */
+	protected long[][] inverseDominanceColumns;
+
+	/**
+	 * Number of objects for which dominance relations are stored in this index.
+	 */
+	protected int numberOfObjects;
+
+	/**
+	 * Constructs this index by calculating (straight) and (inverse) dominance relations among all objects of the given information table.
+	 *
+	 * @param informationTable information table containing objects for which dominance relations should be calculated
+	 * @throws NullPointerException if given information table is {@code null}
+	 */
+	public DominanceIndex(InformationTable informationTable) {
+		this(new EvaluationRanks(notNull(informationTable, "Information table for calculation of dominance index is null.")));
+	}
+
+	/**
+	 * Constructs this index by calculating (straight) and (inverse) dominance relations among all objects whose evaluations have been encoded
+	 * in the given ranks.
+	 *
+	 * @param evaluationRanks primitive ranks of evaluations of objects on active condition attributes
+	 * @throws NullPointerException if given ranks are {@code null}
+	 */
+	public DominanceIndex(EvaluationRanks evaluationRanks) {
+		notNull(evaluationRanks, "Evaluation ranks for calculation of dominance index are null.");
+		this.numberOfObjects = evaluationRanks.getNumberOfObjects();
+
+		int numberOfWords = wordsFor(this.numberOfObjects);
+		this.dominanceRows = new long[this.numberOfObjects][numberOfWords];
+		this.inverseDominanceRows = new long[this.numberOfObjects][numberOfWords];
+		this.dominanceColumns = new long[this.numberOfObjects][numberOfWords];
+		this.inverseDominanceColumns = new long[this.numberOfObjects][numberOfWords];
+
+		for (int x = 0; x < this.numberOfObjects; x++) { //object being in the origin of dominance cone
+			calculateRows(x, evaluationRanks);
+		}
+	}
+
+	/**
+	 * Calculates row of (straight) dominance relation D and row of (inverse) dominance relation InvD for the object with given index,
+	 * and sets corresponding bits of columns of both relations.
+	 *
+	 * @param x index of an object
+	 * @param evaluationRanks primitive ranks of evaluations of objects on active condition attributes
+	 */
+	void calculateRows(int x, EvaluationRanks evaluationRanks) {
+		long[] dominanceRow = this.dominanceRows[x];
+		long[] inverseDominanceRow = this.inverseDominanceRows[x];
+		int columnWordIndex = x >>> 6;
+		long columnMask = 1L << x;
+
+		for (int y = 0; y < this.numberOfObjects; y++) { //object being candidate to dominance cone
+			if (evaluationRanks.dominates(x, y)) { // x D y
+				dominanceRow[y >>> 6] |= 1L << y;
+				this.dominanceColumns[y][columnWordIndex] |= columnMask;
+			}
+			if (evaluationRanks.isDominatedBy(x, y)) { // x InvD y
+				inverseDominanceRow[y >>> 6] |= 1L << y;
+				this.inverseDominanceColumns[y][columnWordIndex] |= columnMask;
+			}
+		}
+	}
+
+	/**
+	 * Gets number of {@code long} words needed to store given number of bits.
+	 *
+	 * @param numberOfBits number of bits
+	 * @return number of {@code long} words needed to store given number of bits
+	 */
+	static int wordsFor(int numberOfBits) {
+		return (numberOfBits + 63) >>> 6;
+	}
+
+	/**
+	 * Tells if bit with given index is set in the given bitset.
+	 *
+	 * @param bitset bitset stored as an array of {@code long} words
+	 * @param index index of a bit
+	 * @return {@code true} if the bit is set, {@code false} otherwise
+	 */
+	static boolean isSet(long[] bitset, int index) {
+		return (bitset[index >>> 6] & (1L << index)) != 0L;
+	}
+
+	/**
+	 * Gets number of objects for which dominance relations are stored in this index.
+	 *
+	 * @return number of objects for which dominance relations are stored in this index
+	 */
+	public int getNumberOfObjects() {
+		return this.numberOfObjects;
+	}
+
+	/**
+	 * Checks if the first given object ({@code x}) dominates the second given object ({@code y}).
+	 *
+	 * @param x index of the first object
+	 * @param y index of the second object
+	 * @return {@code true} if x D y, {@code false} otherwise
+	 *
+	 * @throws IndexOutOfBoundsException if index {@code x} or {@code y} does not correspond to any object for which this index stores dominance relations
+	 */
+	public boolean dominates(int x, int y) {
+		return isSet(this.dominanceRows[x], y);
+	}
+
+	/**
+	 * Checks if the first given object ({@code x}) is dominated by the second given object ({@code y}).
+	 *
+	 * @param x index of the first object
+	 * @param y index of the second object
+	 * @return {@code true} if x InvD y, {@code false} otherwise
+	 *
+	 * @throws IndexOutOfBoundsException if index {@code x} or {@code y} does not correspond to any object for which this index stores dominance relations
+	 */
+	public boolean isDominatedBy(int x, int y) {
+		return isSet(this.inverseDominanceRows[x], y);
+	}
+
+	/**
+	 * Gets row of (straight) dominance relation D for the object with given index, i.e., bitset of negative dominance cone D^-(x) = {y \in U : x D y}.
+	 * Bit {@code y} is stored in word {@code y >>> 6}, at position {@code y & 63}.
+	 *
+	 * @param x index of an object
+	 * @return row of (straight) dominance relation D for the object with given index
+	 *
+	 * @throws IndexOutOfBoundsException if index {@code x} does not correspond to any object for which this index stores dominance relations
+	 */
+	@ReadOnlyArrayReference(at = ReadOnlyArrayReferenceLocation.OUTPUT)
+	public long[] getDominanceRow(int x) {
+		return this.dominanceRows[x];
+	}
+
+	/**
+	 * Gets row of (inverse) dominance relation InvD for the object with given index, i.e., bitset of positive dominance cone InvD^+(x) = {y \in U : x InvD y}.
+	 * Bit {@code y} is stored in word {@code y >>> 6}, at position {@code y & 63}.
+	 *
+	 * @param x index of an object
+	 * @return row of (inverse) dominance relation InvD for the object with given index
+	 *
+	 * @throws IndexOutOfBoundsException if index {@code x} does not correspond to any object for which this index stores dominance relations
+	 */
+	@ReadOnlyArrayReference(at = ReadOnlyArrayReferenceLocation.OUTPUT)
+	public long[] getInverseDominanceRow(int x) {
+		return this.inverseDominanceRows[x];
+	}
+
+	/**
+	 * Gets column of (straight) dominance relation D for the object with given index, i.e., bitset of positive dominance cone D^+(x) = {y \in U : y D x}.
+	 * Bit {@code y} is stored in word {@code y >>> 6}, at position {@code y & 63}.
+	 *
+	 * @param x index of an object
+	 * @return column of (straight) dominance relation D for the object with given index
+	 *
+	 * @throws IndexOutOfBoundsException if index {@code x} does not correspond to any object for which this index stores dominance relations
+	 */
+	@ReadOnlyArrayReference(at = ReadOnlyArrayReferenceLocation.OUTPUT)
+	public long[] getDominanceColumn(int x) {
+		return this.dominanceColumns[x];
+	}
+
+	/**
+	 * Gets column of (inverse) dominance relation InvD for the object with given index, i.e., bitset of negative dominance cone InvD^-(x) = {y \in U : y InvD x}.
+	 * Bit {@code y} is stored in word {@code y >>> 6}, at position {@code y & 63}.
+	 *
+	 * @param x index of an object
+	 * @return column of (inverse) dominance relation InvD for the object with given index
+	 *
+	 * @throws IndexOutOfBoundsException if index {@code x} does not correspond to any object for which this index stores dominance relations
+	 */
+	@ReadOnlyArrayReference(at = ReadOnlyArrayReferenceLocation.OUTPUT)
+	public long[] getInverseDominanceColumn(int x) {
+		return this.inverseDominanceColumns[x];
+	}
+
+	/**
+	 * Calculates, for object having index x, set of indices of objects in its positive dominance cone w.r.t. (straight) dominance relation D.
+	 * Formally, D^+(x)={y \in U : y D x}.
+	 *
+	 * @param x index of an object
+	 * @return set of indices of objects in the positive dominance cone of the object indexed by x, calculated w.r.t. (straight) dominance relation D
+	 */
+	public IntSortedSet calculatePositiveDCone(int x) {
+		return toSet(this.dominanceColumns[x]);
+	}
+
+	/**
+	 * Calculates, for object having index x, set of indices of objects in its negative dominance cone w.r.t. (straight) dominance relation D.
+	 * Formally, D^-(x)={y \in U : x D y}.
+	 *
+	 * @param x index of an object
+	 * @return set of indices of objects in the negative dominance cone of the object indexed by x, calculated w.r.t. (straight) dominance relation D
+	 */
+	public IntSortedSet calculateNegativeDCone(int x) {
+		return toSet(this.dominanceRows[x]);
+	}
+
+	/**
+	 * Calculates, for object having index x, set of indices of objects in its positive dominance cone w.r.t. (inverse) dominance relation InvD.
+	 * Formally, InvD^+(x)={y \in U : x InvD y}.
+	 *
+	 * @param x index of an object
+	 * @return set of indices of objects in the positive dominance cone of the object indexed by x, calculated w.r.t. (inverse) dominance relation InvD
+	 */
+	public IntSortedSet calculatePositiveInvDCone(int x) {
+		return toSet(this.inverseDominanceRows[x]);
+	}
+
+	/**
+	 * Calculates, for object having index x, set of indices of objects in its negative dominance cone w.r.t. (inverse) dominance relation InvD.
+	 * Formally, InvD^-(x)={y \in U : y InvD x}.
+	 *
+	 * @param x index of an object
+	 * @return set of indices of objects in the negative dominance cone of the object indexed by x, calculated w.r.t. (inverse) dominance relation InvD
+	 */
+	public IntSortedSet calculateNegativeInvDCone(int x) {
+		return toSet(this.inverseDominanceColumns[x]);
+	}
+
+	/**
+	 * Gets indices of set bits of the given bitset, in ascending order.
+	 *
+	 * @param bitset bitset row or column of a relation
+	 * @return set of indices of set bits
+	 */
+	private IntSortedSet toSet(long[] bitset) {
+		IntSortedSet dominanceCone = new IntLinkedOpenHashSet();
+
+		for (int w = 0; w < bitset.length; w++) {
+			long word = bitset[w];
+			while (word != 0L) {
+				dominanceCone.add((w << 6) + Long.numberOfTrailingZeros(word));
+				word &= word - 1;
+			}
+		}
+
+		return dominanceCone;
+	}
+
+}
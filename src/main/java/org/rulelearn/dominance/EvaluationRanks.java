@@ -0,0 +1,362 @@
+/**
+ * Copyright (C) Jerzy Błaszczyński, Marcin Szeląg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.rulelearn.dominance;
+
+import static org.rulelearn.core.Precondition.notNull;
+
+import org.rulelearn.core.TernaryLogicValue;
+import org.rulelearn.data.AttributePreferenceType;
+import org.rulelearn.data.ColumnarTable;
+import org.rulelearn.data.EncodedColumn;
+import org.rulelearn.data.EvaluationAttribute;
+import org.rulelearn.data.InformationTable;
+import org.rulelearn.data.Table;
+import org.rulelearn.types.EvaluationField;
+import org.rulelearn.types.KnownSimpleField;
+import org.rulelearn.types.UnknownSimpleField;
+
+/**
+ * Primitive encoding of evaluations of objects from an information table on active condition attributes, used to verify dominance
+ * without comparing {@link EvaluationField} objects. Each active condition attribute is encoded as a column of integer ranks, such that:<br>
+ * - for a gain or cost type attribute, the better the evaluation, the higher its rank,<br>
+ * - for an attribute without preference type, equal evaluations have equal ranks,<br>
+ * - missing evaluations are encoded using negative codes, reflecting semantics of the respective {@link UnknownSimpleField}.<br>
+ * <br>
+ * An attribute can be encoded only if all its known evaluations are instances of the same subclass of {@link KnownSimpleField}
+ * and all its missing evaluations are instances of {@link UnknownSimpleField} that are equal when compared to any evaluation.
+ * Evaluations on any other attribute are kept as they are, and compared using {@link EvaluationField#isAtLeastAsGoodAs(org.rulelearn.types.Field)}
+ * and {@link EvaluationField#isAtMostAsGoodAs(org.rulelearn.types.Field)}, so the outcome of each check is the same as the outcome of
+ * the respective check performed by {@link DominanceChecker}.
+ *
+ * @author Jerzy Błaszczyński (<a href="mailto:jurek.blaszczynski@cs.put.poznan.pl">jurek.blaszczynski@cs.put.poznan.pl</a>)
+ * @author Marcin Szeląg (<a href="mailto:marcin.szelag@cs.put.poznan.pl">marcin.szelag@cs.put.poznan.pl</a>)
+ */
+public final class EvaluationRanks {
+
+	/**
+	 * Bit of the result of {@link #getRelations(int, int)} telling that the first object dominates the second one.
+	 */
+	public static final int X_DOMINATES_Y = 1;
+	/**
+	 * Bit of the result of {@link #getRelations(int, int)} telling that the second object dominates the first one.
+	 */
+	public static final int Y_DOMINATES_X = 2;
+	/**
+	 * Bit of the result of {@link #getRelations(int, int)} telling that the first object is dominated by the second one.
+	 */
+	public static final int X_IS_DOMINATED_BY_Y = 4;
+	/**
+	 * Bit of the result of {@link #getRelations(int, int)} telling that the second object is dominated by the first one.
+	 */
+	public static final int Y_IS_DOMINATED_BY_X = 8;
+
+	/**
+	 * Code of a missing evaluation that is in relation with any other evaluation, in both directions
+	 * (like {@link org.rulelearn.types.UnknownSimpleFieldMV2}).
+	 */
+	static final int MISSING_SYMMETRIC = -1;
+	/**
+	 * Code of a missing evaluation that is in relation with any other evaluation, but no known evaluation is in relation with it
+	 * (like {@link org.rulelearn.types.UnknownSimpleFieldMV15}).
+	 */
+	static final int MISSING_ASYMMETRIC = -2;
+
+	/**
+	 * Ranks of evaluations, indexed by attribute's index and object's index. Equals to {@code null} for an attribute that could not be encoded.
+	 */
+	int[][] ranks;
+	/**
+	 * Tells, for each attribute, if it has no preference type (in which case only equality of ranks is meaningful).
+	 */
+	boolean[] withoutPreferenceType;
+	/**
+	 * Original evaluations on attributes that could not be encoded, indexed by attribute's index and object's index.
+	 * Equals to {@code null} for an encoded attribute.
+	 */
+	EvaluationField[][] notEncodedEvaluations;
+
+	/**
+	 * Number of objects whose evaluations are encoded.
+	 */
+	int numberOfObjects;
+	/**
+	 * Number of encoded active condition attributes.
+	 */
+	int numberOfAttributes;
+
+	/**
+	 * Constructs this object by encoding evaluations of all objects from the given information table on active condition attributes.
+	 *
+	 * @param informationTable information table whose evaluations should be encoded
+	 * @throws NullPointerException if given information table is {@code null}
+	 */
+	public EvaluationRanks(InformationTable informationTable) {
+		notNull(informationTable, "Information table for encoding evaluations is null.");
+		this.numberOfObjects = informationTable.getNumberOfObjects();
+
+		Table<EvaluationAttribute, EvaluationField> evaluations = informationTable.getActiveConditionAttributeFields();
+		if (evaluations instanceof ColumnarTable) {
+			reuse((ColumnarTable)evaluations);
+			return;
+		}
+		
+		EvaluationField[][] rows = new EvaluationField[this.numberOfObjects][];
+		for (int i = 0; i < this.numberOfObjects; i++) {
+			rows[i] = evaluations.getFields(i);
+		}
+		this.numberOfAttributes = this.numberOfObjects > 0 ? rows[0].length : 0;
+
+		this.ranks = new int[this.numberOfAttributes][];
+		this.withoutPreferenceType = new boolean[this.numberOfAttributes];
+		this.notEncodedEvaluations = new EvaluationField[this.numberOfAttributes][];
+
+		EvaluationField[] column = new EvaluationField[this.numberOfObjects];
+		for (int j = 0; j < this.numberOfAttributes; j++) {
+			for (int i = 0; i < this.numberOfObjects; i++) {
+				column[i] = rows[i][j];
+			}
+			if (!encode(j, column)) {
+				this.notEncodedEvaluations[j] = column.clone();
+			}
+		}
+	}
+
+	/**
+	 * Sets ranks of evaluations using codes already stored in the given columnar table, so evaluations do not need to be sorted again.
+	 *
+	 * @param evaluations columnar table with evaluations on active condition attributes
+	 */
+	private void reuse(ColumnarTable evaluations) {
+		this.numberOfAttributes = evaluations.getNumberOfAttributes();
+		this.ranks = new int[this.numberOfAttributes][];
+		this.withoutPreferenceType = new boolean[this.numberOfAttributes];
+		this.notEncodedEvaluations = new EvaluationField[this.numberOfAttributes][];
+
+		for (int j = 0; j < this.numberOfAttributes; j++) {
+			if (evaluations.isEncoded(j)) {
+				int[] attributeRanks = new int[this.numberOfObjects];
+				int highestRank = evaluations.getNumberOfDistinctKnownEvaluations(j) - 1;
+				AttributePreferenceType preferenceType = evaluations.getPreferenceType(j);
+
+				for (int i = 0; i < this.numberOfObjects; i++) {
+					int code = evaluations.getCode(i, j);
+					if (code < 0) {
+						attributeRanks[i] = ((UnknownSimpleField)evaluations.getField(i, j)).equalWhenReverseComparedToAnyEvaluation() ? MISSING_SYMMETRIC : MISSING_ASYMMETRIC;
+					} else {
+						attributeRanks[i] = preferenceType == AttributePreferenceType.COST ? highestRank - code : code; //lower value is better for cost attribute
+					}
+				}
+				this.ranks[j] = attributeRanks;
+				this.withoutPreferenceType[j] = (preferenceType == AttributePreferenceType.NONE);
+			} else {
+				this.notEncodedEvaluations[j] = new EvaluationField[this.numberOfObjects];
+				for (int i = 0; i < this.numberOfObjects; i++) {
+					this.notEncodedEvaluations[j][i] = evaluations.getField(i, j);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Tries to encode given column of evaluations as ranks of the attribute with given index.
+	 *
+	 * @param attributeIndex index of an active condition attribute
+	 * @param column evaluations of subsequent objects on the attribute
+	 * @return {@code true} if evaluations have been encoded, {@code false} otherwise
+	 */
+	private boolean encode(int attributeIndex, EvaluationField[] column) {
+		EncodedColumn encodedColumn = EncodedColumn.encode(column);
+		if (encodedColumn == null) {
+			return false;
+		}
+
+		int[] codes = encodedColumn.getCodes();
+		UnknownSimpleField[] missingDictionary = encodedColumn.getMissingDictionary();
+		int highestRank = encodedColumn.getDictionary().length - 1;
+		AttributePreferenceType preferenceType = encodedColumn.getPreferenceType();
+		int[] attributeRanks = new int[codes.length];
+
+		for (int i = 0; i < codes.length; i++) {
+			if (codes[i] < 0) {
+				attributeRanks[i] = missingDictionary[-codes[i] - 1].equalWhenReverseComparedToAnyEvaluation() ? MISSING_SYMMETRIC : MISSING_ASYMMETRIC;
+			} else {
+				attributeRanks[i] = preferenceType == AttributePreferenceType.COST ? highestRank - codes[i] : codes[i]; //lower value is better for cost attribute
+			}
+		}
+
+		this.ranks[attributeIndex] = attributeRanks;
+		this.withoutPreferenceType[attributeIndex] = (preferenceType == AttributePreferenceType.NONE);
+		return true;
+	}
+
+	/**
+	 * Checks if evaluation of object {@code x} on the attribute with given index is at least as good as evaluation of object {@code y}.
+	 *
+	 * @param attributeIndex index of an active condition attribute
+	 * @param x index of the first object
+	 * @param y index of the second object
+	 * @return {@code true} if evaluation of object {@code x} is at least as good as evaluation of object {@code y}, {@code false} otherwise
+	 */
+	boolean isAtLeastAsGoodAs(int attributeIndex, int x, int y) {
+		int[] attributeRanks = this.ranks[attributeIndex];
+
+		if (attributeRanks == null) {
+			EvaluationField[] evaluations = this.notEncodedEvaluations[attributeIndex];
+			return evaluations[x].isAtLeastAsGoodAs(evaluations[y]) == TernaryLogicValue.TRUE;
+		}
+
+		int xRank = attributeRanks[x];
+		int yRank = attributeRanks[y];
+
+		if (xRank < 0) {
+			return true;
+		} else if (yRank < 0) {
+			return yRank == MISSING_SYMMETRIC;
+		} else {
+			return this.withoutPreferenceType[attributeIndex] ? xRank == yRank : xRank >= yRank;
+		}
+	}
+
+	/**
+	 * Checks if evaluation of object {@code x} on the attribute with given index is at most as good as evaluation of object {@code y}.
+	 *
+	 * @param attributeIndex index of an active condition attribute
+	 * @param x index of the first object
+	 * @param y index of the second object
+	 * @return {@code true} if evaluation of object {@code x} is at most as good as evaluation of object {@code y}, {@code false} otherwise
+	 */
+	boolean isAtMostAsGoodAs(int attributeIndex, int x, int y) {
+		int[] attributeRanks = this.ranks[attributeIndex];
+
+		if (attributeRanks == null) {
+			EvaluationField[] evaluations = this.notEncodedEvaluations[attributeIndex];
+			return evaluations[x].isAtMostAsGoodAs(evaluations[y]) == TernaryLogicValue.TRUE;
+		}
+
+		int xRank = attributeRanks[x];
+		int yRank = attributeRanks[y];
+
+		if (xRank < 0) {
+			return true;
+		} else if (yRank < 0) {
+			return yRank == MISSING_SYMMETRIC;
+		} else {
+			return this.withoutPreferenceType[attributeIndex] ? xRank == yRank : xRank <= yRank;
+		}
+	}
+
+	/**
+	 * Checks if the first given object ({@code x}) dominates the second given object ({@code y}) with respect to encoded attributes.
+	 * Gives the same result as {@link DominanceChecker#dominates(int, int, InformationTable)}.
+	 *
+	 * @param x index of the first object
+	 * @param y index of the second object
+	 * @return {@code true} if the first given object ({@code x}) dominates the second given object ({@code y}), {@code false} otherwise
+	 *
+	 * @throws IndexOutOfBoundsException if index {@code x} or {@code y} does not correspond to any encoded object
+	 */
+	public boolean dominates(int x, int y) {
+		for (int j = 0; j < this.numberOfAttributes; j++) {
+			if (!isAtLeastAsGoodAs(j, x, y)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Checks if the first given object ({@code x}) is dominated by the second given object ({@code y}) with respect to encoded attributes.
+	 * Gives the same result as {@link DominanceChecker#isDominatedBy(int, int, InformationTable)}.
+	 *
+	 * @param x index of the first object
+	 * @param y index of the second object
+	 * @return {@code true} if the first given object ({@code x}) is dominated by the second given object ({@code y}), {@code false} otherwise
+	 *
+	 * @throws IndexOutOfBoundsException if index {@code x} or {@code y} does not correspond to any encoded object
+	 */
+	public boolean isDominatedBy(int x, int y) {
+		for (int j = 0; j < this.numberOfAttributes; j++) {
+			if (!isAtMostAsGoodAs(j, x, y)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Checks, in a single pass over encoded attributes, all four relations between given objects, i.e., if
+	 * {@code x} dominates {@code y}, if {@code y} dominates {@code x}, if {@code x} is dominated by {@code y}, and if {@code y} is dominated by {@code x}.
+	 * These relations are not complementary, as missing values may be compared asymmetrically. The pass ends as soon as none of the relations can hold.
+	 *
+	 * @param x index of the first object
+	 * @param y index of the second object
+	 * @return bit mask composed of {@link #X_DOMINATES_Y}, {@link #Y_DOMINATES_X}, {@link #X_IS_DOMINATED_BY_Y}, and {@link #Y_IS_DOMINATED_BY_X},
+	 *         whose bits are set for relations that hold
+	 *
+	 * @throws IndexOutOfBoundsException if index {@code x} or {@code y} does not correspond to any encoded object
+	 */
+	public int getRelations(int x, int y) {
+		int relations = X_DOMINATES_Y | Y_DOMINATES_X | X_IS_DOMINATED_BY_Y | Y_IS_DOMINATED_BY_X;
+
+		for (int j = 0; j < this.numberOfAttributes && relations != 0; j++) {
+			if ((relations & X_DOMINATES_Y) != 0 && !isAtLeastAsGoodAs(j, x, y)) {
+				relations &= ~X_DOMINATES_Y;
+			}
+			if ((relations & Y_DOMINATES_X) != 0 && !isAtLeastAsGoodAs(j, y, x)) {
+				relations &= ~Y_DOMINATES_X;
+			}
+			if ((relations & X_IS_DOMINATED_BY_Y) != 0 && !isAtMostAsGoodAs(j, x, y)) {
+				relations &= ~X_IS_DOMINATED_BY_Y;
+			}
+			if ((relations & Y_IS_DOMINATED_BY_X) != 0 && !isAtMostAsGoodAs(j, y, x)) {
+				relations &= ~Y_IS_DOMINATED_BY_X;
+			}
+		}
+		return relations;
+	}
+
+	/**
+	 * Gets number of objects whose evaluations are encoded.
+	 *
+	 * @return number of objects whose evaluations are encoded
+	 */
+	public int getNumberOfObjects() {
+		return this.numberOfObjects;
+	}
+
+	/**
+	 * Gets number of active condition attributes.
+	 *
+	 * @return number of active condition attributes
+	 */
+	public int getNumberOfAttributes() {
+		return this.numberOfAttributes;
+	}
+
+	/**
+	 * Tells if evaluations on the active condition attribute with given index have been encoded as ranks.
+	 *
+	 * @param attributeIndex index of an active condition attribute
+	 * @return {@code true} if evaluations on the attribute have been encoded as ranks, {@code false} otherwise
+	 *
+	 * @throws IndexOutOfBoundsException if given index does not correspond to any active condition attribute
+	 */
+	public boolean isEncoded(int attributeIndex) {
+		return this.ranks[attributeIndex] != null;
+	}
+
+}
@@ -0,0 +1,259 @@
+/**
+ * Copyright (C) Jerzy Błaszczyński, Marcin Szeląg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.rulelearn.dominance;
+
+import static org.rulelearn.core.Precondition.notNull;
+
+import org.rulelearn.core.InvalidValueException;
+import org.rulelearn.data.Decision;
+import org.rulelearn.data.DecisionDistribution;
+import org.rulelearn.data.InformationTable;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectLinkedOpenHashMap;
+
+/**
+ * Decision distributions in dominance cones originating in objects of an information table, calculated on demand, i.e., when requested for the first time.
+ * At most a given number of recently used distributions is kept in a cache (with least-recently-used eviction policy). Therefore, memory used by this object
+ * is bounded, independently of the number of objects, at the cost of recalculating distributions evicted from the cache.
+ * This allows to approximate unions of decision classes for information tables too large to store decision distributions in all dominance cones.<br>
+ * <br>
+ * Each distribution is calculated in a single pass over all objects, using {@link EvaluationRanks primitive ranks} of evaluations.
+ * This class is thread-safe.
+ *
+ * @author Jerzy Błaszczyński (<a href="mailto:jurek.blaszczynski@cs.put.poznan.pl">jurek.blaszczynski@cs.put.poznan.pl</a>)
+ * @author Marcin Szeląg (<a href="mailto:marcin.szelag@cs.put.poznan.pl">marcin.szelag@cs.put.poznan.pl</a>)
+ */
+public class OnDemandDominanceConesDecisionDistributions extends DominanceConesDecisionDistributions {
+
+	/**
+	 * Default maximum number of decision distributions kept in the cache.
+	 */
+	public static final int DEFAULT_CACHE_CAPACITY = 1 << 16;
+
+	/**
+	 * Type of positive dominance cones w.r.t. (straight) dominance relation D.
+	 */
+	static final int POSITIVE_D_CONE = 0;
+	/**
+	 * Type of negative dominance cones w.r.t. (straight) dominance relation D.
+	 */
+	static final int NEGATIVE_D_CONE = 1;
+	/**
+	 * Type of positive dominance cones w.r.t. (inverse) dominance relation InvD.
+	 */
+	static final int POSITIVE_INV_D_CONE = 2;
+	/**
+	 * Type of negative dominance cones w.r.t. (inverse) dominance relation InvD.
+	 */
+	static final int NEGATIVE_INV_D_CONE = 3;
+
+	/**
+	 * Primitive ranks of evaluations of all objects.
+	 */
+	protected final EvaluationRanks evaluationRanks;
+
+	/**
+	 * Decisions of all objects.
+	 */
+	protected final Decision[] decisions;
+
+	/**
+	 * Maximum number of decision distributions kept in {@link #cache}.
+	 */
+	protected final int cacheCapacity;
+
+	/**
+	 * Cache of recently used decision distributions, ordered from the least to the most recently used one. Key of a distribution is composed of the index of an object
+	 * being the origin of dominance cone and the type of dominance cone. All accesses are synchronized on this cache.
+	 */
+	protected final Long2ObjectLinkedOpenHashMap<DecisionDistribution> cache;
+
+	/**
+	 * Constructs this object, without calculating any decision distribution, and with {@link #DEFAULT_CACHE_CAPACITY default cache capacity}.
+	 *
+	 * @param informationTable information table containing objects for which dominance cones should be processed
+	 * @throws NullPointerException if given information table is {@code null}
+	 */
+	public OnDemandDominanceConesDecisionDistributions(InformationTable informationTable) {
+		this(informationTable, DEFAULT_CACHE_CAPACITY);
+	}
+
+	/**
+	 * Constructs this object, without calculating any decision distribution.
+	 *
+	 * @param informationTable information table containing objects for which dominance cones should be processed
+	 * @param cacheCapacity maximum number of decision distributions kept in the cache
+	 * @throws NullPointerException if given information table is {@code null}
+	 * @throws InvalidValueException if given cache capacity is lower than one
+	 */
+	public OnDemandDominanceConesDecisionDistributions(InformationTable informationTable, int cacheCapacity) {
+		super(notNull(informationTable, "Information table for calculation of dominance cones is null.").getNumberOfObjects());
+		if (cacheCapacity < 1) {
+			throw new InvalidValueException("Capacity of the cache of decision distributions in dominance cones should be positive.");
+		}
+		this.initializeCumulativeDecisionDistributionPrototype(informationTable);
+		this.evaluationRanks = new EvaluationRanks(informationTable);
+		this.decisions = new Decision[this.numberOfObjects];
+		for (int i = 0; i < this.numberOfObjects; i++) {
+			this.decisions[i] = informationTable.getDecision(i);
+		}
+		this.cacheCapacity = cacheCapacity;
+		this.cache = new Long2ObjectLinkedOpenHashMap<DecisionDistribution>();
+	}
+
+	/**
+	 * Gets maximum number of decision distributions kept in the cache.
+	 *
+	 * @return maximum number of decision distributions kept in the cache
+	 */
+	public int getCacheCapacity() {
+		return this.cacheCapacity;
+	}
+
+	/**
+	 * Gets current number of decision distributions kept in the cache.
+	 *
+	 * @return current number of decision distributions kept in the cache
+	 */
+	public int getCacheSize() {
+		synchronized (this.cache) {
+			return this.cache.size();
+		}
+	}
+
+	/**
+	 * Gets decision distribution in dominance cone of given type, originating in object x having given index. Takes the distribution from the cache,
+	 * or calculates it and puts it into the cache, evicting the least recently used distribution if the cache is full.
+	 * Distribution is calculated outside synchronized block, so concurrent requests concerning different dominance cones do not block each other.
+	 *
+	 * @param objectIndex index of an object x from an information table, considered to be the origin of dominance cone
+	 * @param coneType type of dominance cone
+	 * @return decision distribution in dominance cone of given type, originating in object x having given index
+	 * @throws IndexOutOfBoundsException if given object index is lower than zero or exceeds {code{@link #getNumberOfObjects()}-1}
+	 */
+	DecisionDistribution getDecisionDistribution(int objectIndex, int coneType) {
+		if (objectIndex < 0 || objectIndex >= this.numberOfObjects) {
+			throw new IndexOutOfBoundsException("Index of an object being the origin of dominance cone is out of range: " + objectIndex + ".");
+		}
+		long key = ((long)objectIndex << 2) | coneType;
+		DecisionDistribution decisionDistribution;
+
+		synchronized (this.cache) {
+			decisionDistribution = this.cache.getAndMoveToLast(key);
+		}
+		if (decisionDistribution != null) {
+			return decisionDistribution;
+		}
+
+		decisionDistribution = this.calculateDecisionDistribution(objectIndex, coneType);
+
+		synchronized (this.cache) {
+			DecisionDistribution cachedDecisionDistribution = this.cache.getAndMoveToLast(key);
+			if (cachedDecisionDistribution != null) { //calculated concurrently by another thread
+				return cachedDecisionDistribution;
+			}
+			this.cache.putAndMoveToLast(key, decisionDistribution);
+			if (this.cache.size() > this.cacheCapacity) {
+				this.cache.removeFirst();
+			}
+		}
+
+		return decisionDistribution;
+	}
+
+	/**
+	 * Calculates decision distribution in dominance cone of given type, originating in object x, in a single pass over all objects.
+	 *
+	 * @param x index of an object being the origin of dominance cone
+	 * @param coneType type of dominance cone
+	 * @return calculated decision distribution
+	 */
+	DecisionDistribution calculateDecisionDistribution(int x, int coneType) {
+		DecisionDistribution decisionDistribution = this.newDecisionDistribution();
+		boolean inCone;
+
+		for (int y = 0; y < this.numberOfObjects; y++) { //object being candidate to dominance cone
+			switch (coneType) {
+			case POSITIVE_D_CONE:
+				inCone = this.evaluationRanks.dominates(y, x); // y D x
+				break;
+			case NEGATIVE_D_CONE:
+				inCone = this.evaluationRanks.dominates(x, y); // x D y
+				break;
+			case POSITIVE_INV_D_CONE:
+				inCone = this.evaluationRanks.isDominatedBy(x, y); // x InvD y
+				break;
+			default: //NEGATIVE_INV_D_CONE
+				inCone = this.evaluationRanks.isDominatedBy(y, x); // y InvD x
+			}
+			if (inCone) {
+				decisionDistribution.increaseCount(this.decisions[y]);
+			}
+		}
+
+		return decisionDistribution;
+	}
+
+	/**
+	 * {@inheritDoc} Returned distribution is calculated on demand, or taken from the cache. It should not be modified.
+	 *
+	 * @param objectIndex {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws IndexOutOfBoundsException {@inheritDoc}
+	 */
+	@Override
+	public DecisionDistribution getPositiveDConeDecisionClassDistribution(int objectIndex) {
+		return this.getDecisionDistribution(objectIndex, POSITIVE_D_CONE);
+	}
+
+	/**
+	 * {@inheritDoc} Returned distribution is calculated on demand, or taken from the cache. It should not be modified.
+	 *
+	 * @param objectIndex {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws IndexOutOfBoundsException {@inheritDoc}
+	 */
+	@Override
+	public DecisionDistribution getNegativeDConeDecisionClassDistribution(int objectIndex) {
+		return this.getDecisionDistribution(objectIndex, NEGATIVE_D_CONE);
+	}
+
+	/**
+	 * {@inheritDoc} Returned distribution is calculated on demand, or taken from the cache. It should not be modified.
+	 *
+	 * @param objectIndex {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws IndexOutOfBoundsException {@inheritDoc}
+	 */
+	@Override
+	public DecisionDistribution getPositiveInvDConeDecisionClassDistribution(int objectIndex) {
+		return this.getDecisionDistribution(objectIndex, POSITIVE_INV_D_CONE);
+	}
+
+	/**
+	 * {@inheritDoc} Returned distribution is calculated on demand, or taken from the cache. It should not be modified.
+	 *
+	 * @param objectIndex {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws IndexOutOfBoundsException {@inheritDoc}
+	 */
+	@Override
+	public DecisionDistribution getNegativeInvDConeDecisionClassDistribution(int objectIndex) {
+		return this.getDecisionDistribution(objectIndex, NEGATIVE_INV_D_CONE);
+	}
+
+}
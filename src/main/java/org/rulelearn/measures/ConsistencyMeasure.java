@@ -16,8 +16,13 @@
 
 package org.rulelearn.measures;
 
+import static org.rulelearn.core.Precondition.notNull;
+
 import org.rulelearn.approximations.ApproximatedSet;
 
+import it.unimi.dsi.fastutil.ints.IntIterator;
+import it.unimi.dsi.fastutil.ints.IntSortedSet;
+
 /**
  * Contract for all classes representing consistency measures, measuring consistency of an object with respect to an {@link ApproximatedSet approximated set}.
  * 
@@ -37,6 +42,42 @@ public interface ConsistencyMeasure<T extends ApproximatedSet> extends Measure {
 	 */
 	public double calculateConsistency(int objectIndex, T set);
 	
+	/**
+	 * Calculates consistency of each object belonging to the given set of objects.
+	 * 
+	 * @param set approximated set of objects
+	 * @return array whose subsequent entries are consistencies of subsequent objects returned by the iterator of {@link ApproximatedSet#getObjects()}
+	 * @throws NullPointerException if given set is {@code null}
+	 */
+	public default double[] calculateConsistencies(T set) {
+		IntSortedSet objects = notNull(set, "Set of objects whose consistency should be calculated is null.").getObjects();
+		double[] consistencies = new double[objects.size()];
+		IntIterator iterator = objects.iterator();
+		
+		for (int i = 0; i < consistencies.length; i++) {
+			consistencies[i] = calculateConsistency(iterator.nextInt(), set);
+		}
+		return consistencies;
+	}
+	
+	/**
+	 * Calculates consistency of each object belonging to each of the given sets of objects.
+	 * Implementing classes may override this method to share calculations among given sets.
+	 * 
+	 * @param sets approximated sets of objects
+	 * @return array whose subsequent entries are arrays returned by {@link #calculateConsistencies(ApproximatedSet)} for subsequent sets
+	 * @throws NullPointerException if given array or any of given sets is {@code null}
+	 */
+	public default double[][] calculateConsistencies(T[] sets) {
+		notNull(sets, "Array of sets of objects whose consistency should be calculated is null.");
+		double[][] consistencies = new double[sets.length][];
+		
+		for (int i = 0; i < sets.length; i++) {
+			consistencies[i] = calculateConsistencies(sets[i]);
+		}
+		return consistencies;
+	}
+	
 	/**
 	 * Calculates consistency of the given object with respect to the given set of objects and checks whether a given threshold is reached.
 	 * 
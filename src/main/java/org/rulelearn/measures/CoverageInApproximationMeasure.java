@@ -88,10 +88,7 @@ public class CoverageInApproximationMeasure implements GainTypeMeasure, Monotoni
 		notNull(ruleConditions, "Rule conditions for which evaluation is made are null.");
 		
 		if (condition != null) {
-			IntList coveredObjects = ruleConditions.getIndicesOfCoveredObjectsWithCondition(condition);
-			IntSet approximationObjects = ruleConditions.getIndicesOfApproximationObjects();
-			
-			return getNumberOfElementsFromListInSet(coveredObjects, approximationObjects);
+			return ruleConditions.getNumberOfCoveredApproximationObjectsWithCondition(condition);
 		}
 		else {
 			return Double.MIN_VALUE; 
@@ -88,8 +88,7 @@ public class CoverageOutsideApproximatedSetMeasure implements CostTypeMeasure, M
 		notNull(ruleConditions, "Rule conditions for which evaluation is made are null.");
 		
 		if (condition != null) {
-			return calculateConsistency(ruleConditions.getIndicesOfCoveredObjectsWithCondition(condition),
-					ruleConditions.getIndicesOfPositiveObjects(), ruleConditions.getIndicesOfNeutralObjects());
+			return ruleConditions.getNumberOfCoveredNegativeObjectsWithCondition(condition);
 		}
 		else {
 			return Double.MAX_VALUE; 
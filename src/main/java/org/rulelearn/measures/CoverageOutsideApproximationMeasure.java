@@ -89,11 +89,7 @@ public class CoverageOutsideApproximationMeasure implements CostTypeMeasure, Rul
 		notNull(ruleConditions, "Rule conditions for which evaluation is made are null.");
 		
 		if (condition != null) {
-			IntList coveredObjects = ruleConditions.getIndicesOfCoveredObjectsWithCondition(condition);
-			IntSet approximationObjects = ruleConditions.getIndicesOfApproximationObjects();
-			IntSet neutralObjects = ruleConditions.getIndicesOfNeutralObjects();
-			
-			return getNumberOfElementsFromListNotPresentInSets(coveredObjects, approximationObjects, neutralObjects);
+			return ruleConditions.getNumberOfCoveredObjectsOutsideApproximationWithCondition(condition);
 		}
 		else {
 			return Double.MAX_VALUE; 
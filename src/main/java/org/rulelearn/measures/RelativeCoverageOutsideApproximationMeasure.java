@@ -89,8 +89,8 @@ public class RelativeCoverageOutsideApproximationMeasure implements CostTypeMeas
 		notNull(ruleConditions, "Rule conditions for which evaluation is made are null.");
 		
 		if (condition != null) {
-			return calculateConsistency(ruleConditions.getIndicesOfCoveredObjectsWithCondition(condition),
-					ruleConditions.getIndicesOfApproximationObjects(), ruleConditions.getIndicesOfPositiveObjects(), ruleConditions.getIndicesOfNeutralObjects(),
+			return calculateConsistency(ruleConditions.getNumberOfCoveredObjectsOutsideApproximationWithCondition(condition),
+					ruleConditions.getIndicesOfPositiveObjects(), ruleConditions.getIndicesOfNeutralObjects(),
 					ruleConditions.getLearningInformationTable().getNumberOfObjects());
 		}
 		else {
@@ -130,8 +130,21 @@ public class RelativeCoverageOutsideApproximationMeasure implements CostTypeMeas
 	 * @return value of relative coverage outside approximation measure
 	 */
 	private double calculateConsistency(IntList coveredObjects, IntSet approximationObjects, IntSet positiveObjects, IntSet neutralObjects, int allObjectsCount) {
-		int negativeCoverage = getNumberOfElementsFromListNotPresentInSets(coveredObjects, approximationObjects, neutralObjects);
-		
+		return calculateConsistency(getNumberOfElementsFromListNotPresentInSets(coveredObjects, approximationObjects, neutralObjects),
+				positiveObjects, neutralObjects, allObjectsCount);
+	}
+	
+	/**
+	 * Calculates value of this measure for already known number of covered objects from outside of approximation, avoiding division by zero.
+	 * 
+	 * @param negativeCoverage number of covered objects from outside of approximation that are not neutral
+	 * @param positiveObjects set of positive objects
+	 * @param neutralObjects set of neutral objects
+	 * @param allObjectsCount number of all objects
+	 * 
+	 * @return value of this measure
+	 */
+	private double calculateConsistency(int negativeCoverage, IntSet positiveObjects, IntSet neutralObjects, int allObjectsCount) {
 		if (negativeCoverage == 0) { //no negative object is covered
 			return 0.0;
 		} else {
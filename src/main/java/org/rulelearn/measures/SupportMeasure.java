@@ -86,10 +86,7 @@ public class SupportMeasure implements GainTypeMeasure, MonotonicConditionAdditi
 		notNull(ruleConditions, "Rule conditions for which evaluation is made are null.");
 		
 		if (condition != null) {
-			IntList coveredObjects = ruleConditions.getIndicesOfCoveredObjectsWithCondition(condition);
-			IntSet positiveObjects = ruleConditions.getIndicesOfPositiveObjects();
-			
-			return getNumberOfElementsFromListInSet(coveredObjects, positiveObjects);
+			return ruleConditions.getNumberOfCoveredPositiveObjectsWithCondition(condition);
 		}
 		else {
 			return Double.MIN_VALUE; 
@@ -19,9 +19,16 @@ package org.rulelearn.measures.dominance;
 import static org.rulelearn.core.OperationsOnCollections.getNumberOfElementsFromListNotPresentInSets;
 import static org.rulelearn.core.Precondition.notNull;
 
+import java.util.Arrays;
+
 import org.rulelearn.approximations.Union;
 import org.rulelearn.approximations.Union.UnionType;
+import org.rulelearn.approximations.UnionWithSingleLimitingDecision;
+import org.rulelearn.core.InvalidValueException;
+import org.rulelearn.data.CumulativeDecisionDistribution;
 import org.rulelearn.data.Decision;
+import org.rulelearn.data.DecisionDistribution;
+import org.rulelearn.data.InformationTableWithDecisionDistributions;
 import org.rulelearn.dominance.DominanceConesDecisionDistributions;
 import org.rulelearn.measures.ConsistencyMeasure;
 import org.rulelearn.measures.CostTypeMeasure;
@@ -34,8 +41,14 @@ import org.rulelearn.rules.RuleCoverageInformation;
 import org.rulelearn.rules.RuleEvaluator;
 import org.rulelearn.types.EvaluationField;
 
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntArrays;
+import it.unimi.dsi.fastutil.ints.IntIterator;
 import it.unimi.dsi.fastutil.ints.IntList;
 import it.unimi.dsi.fastutil.ints.IntSet;
+import it.unimi.dsi.fastutil.ints.IntSortedSet;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
 
 /**
  * Epsilon consistency measure defined with respect to union of decision classes in Błaszczyński, J., Greco, S., Słowiński, R., Szeląg, M.: 
@@ -84,39 +97,221 @@ public class EpsilonConsistencyMeasure implements CostTypeMeasure, ConsistencyMe
 	@Override
 	public double calculateConsistency(int objectIndex, Union union) {
 		DominanceConesDecisionDistributions dominanceCDD = union.getInformationTable().getDominanceConesDecisionDistributions();
-		int negativeCount = 0;
+		DecisionDistribution coneDecisionDistribution = null;
+		int negativeCount = -1;
 		
 		if (union.getUnionType() == UnionType.AT_LEAST) {
-			for (Decision decision : dominanceCDD.getPositiveInvDConeDecisionClassDistribution(objectIndex).getDecisions()) {
-				// check how many objects in a positive inverted dominance cone based on the object are not concordant with the union (i.e., not in the union and not uncomparable) 
-				if (union.isDecisionNegative(decision)) {
-					negativeCount += dominanceCDD.getPositiveInvDConeDecisionClassDistribution(objectIndex).getCount(decision);
-				}
-			}
-		
+			coneDecisionDistribution = dominanceCDD.getPositiveInvDConeDecisionClassDistribution(objectIndex);
 		}
 		else if (union.getUnionType() == UnionType.AT_MOST) {
-			for (Decision decision : dominanceCDD.getNegativeDConeDecisionClassDistribution(objectIndex).getDecisions()) {
-				// check how many objects in a negative dominance cone based on the object are not concordant with the union (i.e., not in the union and not uncomparable) 
-				if (union.isDecisionNegative(decision)) {
-					negativeCount += dominanceCDD.getNegativeDConeDecisionClassDistribution(objectIndex).getCount(decision);
+			coneDecisionDistribution = dominanceCDD.getNegativeDConeDecisionClassDistribution(objectIndex);
+		}
+		
+		if (coneDecisionDistribution instanceof CumulativeDecisionDistribution && union instanceof UnionWithSingleLimitingDecision) { //constant time
+			negativeCount = ((UnionWithSingleLimitingDecision)union).getNegativeCount((CumulativeDecisionDistribution)coneDecisionDistribution);
+		}
+		
+		if (negativeCount < 0) {
+			negativeCount = 0;
+			if (coneDecisionDistribution != null) {
+				for (Decision decision : coneDecisionDistribution.getDecisions()) {
+					// check how many objects in a dominance cone based on the object are not concordant with the union (i.e., not in the union and not uncomparable) 
+					if (union.isDecisionNegative(decision)) {
+						negativeCount += coneDecisionDistribution.getCount(decision);
+					}
 				}
 			}
 		}
 		
-		if (negativeCount == 0) { //no negative object is covered
+		return calculateConsistency(negativeCount, union.getComplementarySetSize());
+	}
+	
+	/**
+	 * Calculates value of epsilon consistency for already known number of negative objects in a dominance cone, avoiding division by zero.
+	 * 
+	 * @param negativeCount number of negative objects in a dominance cone
+	 * @param complementarySetSize size of the complement of the union
+	 * @return value of epsilon consistency
+	 */
+	private double calculateConsistency(int negativeCount, int complementarySetSize) {
+		if (negativeCount == 0 || complementarySetSize == 0) { //no negative object is covered or prevent division by zero
 			return 0;
 		} else {
+			return ((double)negativeCount) / ((double)complementarySetSize);
+		}
+	}
+	
+	/**
+	 * Calculates value of epsilon consistency of each object belonging to the given union of decision classes.
+	 * Only objects of the union are considered, and consistency of each of them is calculated by {@link #calculateConsistency(int, Union)},
+	 * which takes constant time for a {@link UnionWithSingleLimitingDecision union with single limiting decision} and cumulative decision distributions
+	 * of dominance cones. In order to calculate consistencies for many unions at once, use {@link #calculateConsistencies(Union[])}.
+	 * 
+	 * @param union approximated union
+	 * @return array whose subsequent entries are epsilon consistencies of subsequent objects returned by the iterator of {@link Union#getObjects()}
+	 * @throws NullPointerException if given union is {@code null}
+	 */
+	@Override
+	public double[] calculateConsistencies(Union union) {
+		return ConsistencyMeasure.super.calculateConsistencies(notNull(union, "Union whose objects' consistency should be calculated is null."));
+	}
+	
+	/**
+	 * Calculates value of epsilon consistency of each object belonging to each of the given unions of decision classes, all defined for the same information table.<br>
+	 * <br>
+	 * Instead of checking each decision from each dominance cone against each union, decisions are first indexed, and each union is translated to the set of indices
+	 * of its negative decisions. Then, for each type of unions, the number of objects having each decision is calculated once for the dominance cone of each object,
+	 * and stored as cumulative counts over decisions ordered so that decisions negative for more unions come first. If negative decisions of each union
+	 * form a prefix of that order (which is the case for nested unions, like unions with single limiting decision and totally ordered decisions),
+	 * the number of negative objects in a dominance cone is read in constant time. Therefore, all unions together cost O(n&middot;m) instead of O(n&middot;m&sup2;),
+	 * where n is the number of objects and m is the number of decisions. Otherwise, each negative decision of a union is considered separately.
+	 * 
+	 * @param unions approximated unions
+	 * @return array whose subsequent entries are arrays of epsilon consistencies of subsequent objects returned by the iterator of {@link Union#getObjects()}
+	 *         for subsequent unions
+	 * @throws NullPointerException if given array or any of given unions is {@code null}
+	 * @throws InvalidValueException if given unions concern different information tables
+	 */
+	@Override
+	public double[][] calculateConsistencies(Union[] unions) {
+		notNull(unions, "Array of unions whose objects' consistency should be calculated is null.");
+		double[][] consistencies = new double[unions.length][];
+		if (unions.length == 0) {
+			return consistencies;
+		}
+		
+		InformationTableWithDecisionDistributions informationTable = notNull(unions[0], "Union whose objects' consistency should be calculated is null.").getInformationTable();
+		for (Union union : unions) {
+			if (notNull(union, "Union whose objects' consistency should be calculated is null.").getInformationTable() != informationTable) {
+				throw new InvalidValueException("Unions whose objects' consistency should be calculated concern different information tables.");
+			}
+		}
+		
+		Decision[] decisions = informationTable.getDecisionDistribution().getDecisions().toArray(new Decision[0]);
+		calculateConsistencies(unions, UnionType.AT_LEAST, decisions, consistencies);
+		calculateConsistencies(unions, UnionType.AT_MOST, decisions, consistencies);
+		
+		return consistencies;
+	}
+	
+	/**
+	 * Calculates value of epsilon consistency of each object belonging to each of the given unions that is of given type.
+	 * See {@link #calculateConsistencies(Union[])}.
+	 * 
+	 * @param unions approximated unions, concerning the same information table
+	 * @param unionType type of considered unions
+	 * @param decisions all decisions present in the information table
+	 * @param consistencies array whose entries concerning unions of given type are set by this method
+	 */
+	private void calculateConsistencies(Union[] unions, UnionType unionType, Decision[] decisions, double[][] consistencies) {
+		IntList unionIndices = new IntArrayList();
+		for (int i = 0; i < unions.length; i++) {
+			if (unions[i].getUnionType() == unionType) {
+				unionIndices.add(i);
+			}
+		}
+		if (unionIndices.isEmpty()) {
+			return;
+		}
+		
+		//find negative decisions of each union, and order decisions so that decisions negative for more unions come first
+		int decisionsCount = decisions.length;
+		boolean[][] negativeDecisions = new boolean[unionIndices.size()][decisionsCount];
+		int[] negativeUnionsCounts = new int[decisionsCount];
+		for (int u = 0; u < negativeDecisions.length; u++) {
+			for (int d = 0; d < decisionsCount; d++) {
+				if (unions[unionIndices.getInt(u)].isDecisionNegative(decisions[d])) {
+					negativeDecisions[u][d] = true;
+					negativeUnionsCounts[d]++;
+				}
+			}
+		}
+		int[] order = new int[decisionsCount];
+		for (int d = 0; d < decisionsCount; d++) {
+			order[d] = d;
+		}
+		IntArrays.mergeSort(order, (d1, d2) -> Integer.compare(negativeUnionsCounts[d2], negativeUnionsCounts[d1]));
+		Object2IntMap<Decision> decision2Rank = new Object2IntOpenHashMap<Decision>(decisionsCount);
+		for (int r = 0; r < decisionsCount; r++) {
+			decision2Rank.put(decisions[order[r]], r);
+		}
+		
+		//calculate cumulative counts of decisions in dominance cones of all objects belonging to any of the unions
+		DominanceConesDecisionDistributions dominanceCDD = unions[unionIndices.getInt(0)].getInformationTable().getDominanceConesDecisionDistributions();
+		int objectsCount = dominanceCDD.getNumberOfObjects();
+		boolean[] unionsObjects = new boolean[objectsCount];
+		for (int u = 0; u < negativeDecisions.length; u++) {
+			IntIterator iterator = unions[unionIndices.getInt(u)].getObjects().iterator();
+			while (iterator.hasNext()) {
+				unionsObjects[iterator.nextInt()] = true;
+			}
+		}
+		int width = decisionsCount + 1;
+		int[] cumulativeCounts = new int[objectsCount * width];
+		DecisionDistribution coneDecisionDistribution;
+		int offset;
+		for (int i = 0; i < objectsCount; i++) {
+			if (!unionsObjects[i]) {
+				continue;
+			}
+			coneDecisionDistribution = unionType == UnionType.AT_LEAST ? dominanceCDD.getPositiveInvDConeDecisionClassDistribution(i) :
+				dominanceCDD.getNegativeDConeDecisionClassDistribution(i);
+			offset = i * width;
+			for (Decision decision : coneDecisionDistribution.getDecisions()) {
+				cumulativeCounts[offset + decision2Rank.getInt(decision) + 1] += coneDecisionDistribution.getCount(decision);
+			}
+			for (int r = 1; r < width; r++) {
+				cumulativeCounts[offset + r] += cumulativeCounts[offset + r - 1];
+			}
+		}
+		
+		//read numbers of negative objects in dominance cones of objects of each union
+		for (int u = 0; u < negativeDecisions.length; u++) {
+			Union union = unions[unionIndices.getInt(u)];
+			int[] negativeRanks = getNegativeRanks(negativeDecisions[u], decision2Rank, decisions);
+			boolean prefix = negativeRanks.length == 0 || negativeRanks[negativeRanks.length - 1] == negativeRanks.length - 1;
 			int complementarySetSize = union.getComplementarySetSize();
+			IntSortedSet objects = union.getObjects();
+			double[] unionConsistencies = new double[objects.size()];
+			IntIterator iterator = objects.iterator();
+			int negativeCount;
 			
-			if (complementarySetSize == 0) { //prevent division by zero
-				return 0;
-			} else {
-				return ((double)negativeCount) / ((double)complementarySetSize);
+			for (int k = 0; k < unionConsistencies.length; k++) {
+				offset = iterator.nextInt() * width;
+				if (prefix) {
+					negativeCount = cumulativeCounts[offset + negativeRanks.length];
+				} else {
+					negativeCount = 0;
+					for (int rank : negativeRanks) {
+						negativeCount += cumulativeCounts[offset + rank + 1] - cumulativeCounts[offset + rank];
+					}
+				}
+				unionConsistencies[k] = calculateConsistency(negativeCount, complementarySetSize);
 			}
+			consistencies[unionIndices.getInt(u)] = unionConsistencies;
 		}
 	}
 	
+	/**
+	 * Gets sorted ranks of negative decisions of a union.
+	 * 
+	 * @param negativeDecisions array telling, for each decision, if it is negative with respect to a union
+	 * @param decision2Rank map from decision to its rank
+	 * @param decisions all decisions
+	 * @return sorted ranks of negative decisions
+	 */
+	private int[] getNegativeRanks(boolean[] negativeDecisions, Object2IntMap<Decision> decision2Rank, Decision[] decisions) {
+		IntList negativeRanks = new IntArrayList();
+		for (int d = 0; d < negativeDecisions.length; d++) {
+			if (negativeDecisions[d]) {
+				negativeRanks.add(decision2Rank.getInt(decisions[d]));
+			}
+		}
+		int[] ranks = negativeRanks.toIntArray();
+		Arrays.sort(ranks);
+		return ranks;
+	}
+	
 	/** 
 	 * {@inheritDoc}
 	 * 
@@ -148,7 +343,7 @@ public class EpsilonConsistencyMeasure implements CostTypeMeasure, ConsistencyMe
 		notNull(ruleConditions, "Rule conditions for which evaluation is made are null.");
 		
 		if (condition != null) {
-			return calculateConsistency(ruleConditions.getIndicesOfCoveredObjectsWithCondition(condition),
+			return calculateConsistency(ruleConditions.getNumberOfCoveredNegativeObjectsWithCondition(condition),
 					ruleConditions.getIndicesOfPositiveObjects(), ruleConditions.getIndicesOfNeutralObjects(),
 					ruleConditions.getLearningInformationTable().getNumberOfObjects());
 		}
@@ -172,7 +367,7 @@ public class EpsilonConsistencyMeasure implements CostTypeMeasure, ConsistencyMe
 	public double evaluateWithoutCondition(RuleConditions ruleConditions, int conditionIndex) {
 		notNull(ruleConditions, "Rule conditions for which evaluation is made are null.");
 		
-		return calculateConsistency(ruleConditions.getIndicesOfCoveredObjectsWithoutCondition(conditionIndex),
+		return calculateConsistency(ruleConditions.getNumberOfCoveredNegativeObjectsWithoutCondition(conditionIndex),
 				ruleConditions.getIndicesOfPositiveObjects(), ruleConditions.getIndicesOfNeutralObjects(),
 				ruleConditions.getLearningInformationTable().getNumberOfObjects());
 	}
@@ -205,8 +400,21 @@ public class EpsilonConsistencyMeasure implements CostTypeMeasure, ConsistencyMe
 	 * @return value of epsilon measure
 	 */
 	double calculateConsistency(IntList coveredObjects, IntSet positiveObjects, IntSet neutralObjects, int allObjectsCount) {
-		int negativeCoverage = getNumberOfElementsFromListNotPresentInSets(coveredObjects, positiveObjects, neutralObjects);
-		
+		return calculateConsistency(getNumberOfElementsFromListNotPresentInSets(coveredObjects, positiveObjects, neutralObjects),
+				positiveObjects, neutralObjects, allObjectsCount);
+	}
+	
+	/**
+	 * Calculates value of epsilon measure for already known number of covered negative objects, avoiding division by zero.
+	 * 
+	 * @param negativeCoverage number of negative objects covered by rule conditions
+	 * @param positiveObjects set of positive objects
+	 * @param neutralObjects set of neutral objects
+	 * @param allObjectsCount number of all objects
+	 * 
+	 * @return value of epsilon measure
+	 */
+	double calculateConsistency(int negativeCoverage, IntSet positiveObjects, IntSet neutralObjects, int allObjectsCount) {
 		if (negativeCoverage == 0) { //no negative object is covered
 			return 0.0;
 		} else {
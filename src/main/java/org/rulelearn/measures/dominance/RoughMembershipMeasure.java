@@ -18,8 +18,11 @@ package org.rulelearn.measures.dominance;
 
 import org.rulelearn.approximations.Union;
 import org.rulelearn.approximations.Union.UnionType;
+import org.rulelearn.approximations.UnionWithSingleLimitingDecision;
 import org.rulelearn.core.OperationsOnCollections;
+import org.rulelearn.data.CumulativeDecisionDistribution;
 import org.rulelearn.data.Decision;
+import org.rulelearn.data.DecisionDistribution;
 import org.rulelearn.dominance.DominanceConesDecisionDistributions;
 import org.rulelearn.measures.ConsistencyMeasure;
 import org.rulelearn.measures.GainTypeMeasure;
@@ -70,6 +73,18 @@ public class RoughMembershipMeasure implements GainTypeMeasure, ConsistencyMeasu
 		DominanceConesDecisionDistributions dominanceCDD = union.getInformationTable().getDominanceConesDecisionDistributions();
 		int count = 0, positiveCount = 0, delta = 0;
 		
+		if (union instanceof UnionWithSingleLimitingDecision) { //constant time for totally ordered decisions (there are no neutral objects then)
+			DecisionDistribution coneDecisionDistribution = union.getUnionType() == UnionType.AT_LEAST ?
+					dominanceCDD.getPositiveInvDConeDecisionClassDistribution(objectIndex) : dominanceCDD.getNegativeDConeDecisionClassDistribution(objectIndex);
+			if (coneDecisionDistribution instanceof CumulativeDecisionDistribution) {
+				int negativeCount = ((UnionWithSingleLimitingDecision)union).getNegativeCount((CumulativeDecisionDistribution)coneDecisionDistribution);
+				if (negativeCount >= 0) {
+					count = ((CumulativeDecisionDistribution)coneDecisionDistribution).getTotalCount();
+					return (((double)(count - negativeCount)) / count);
+				}
+			}
+		}
+		
 		if (union.getUnionType() == UnionType.AT_LEAST) {
 			for (Decision decision : dominanceCDD.getPositiveInvDConeDecisionClassDistribution(objectIndex).getDecisions()) {
 				delta = dominanceCDD.getPositiveInvDConeDecisionClassDistribution(objectIndex).getCount(decision);
@@ -23,6 +23,9 @@ import it.unimi.dsi.fastutil.ints.IntList;
 
 /**
  * Pruner for rule conditions that analyzes conditions according to the order of attributes in the learning information table {@link InformationTable}.
+ * Verification whether a condition can be dropped relies on {@link RuleConditions} keeping, for each object, the number of conditions not covering that object.
+ * Hence, coverage of rule conditions without a condition differs from current coverage only by objects not covered by that condition alone,
+ * and it is not necessary to check all objects against all remaining conditions.
  *
  * @author Jerzy Błaszczyński (<a href="mailto:jurek.blaszczynski@cs.put.poznan.pl">jurek.blaszczynski@cs.put.poznan.pl</a>)
  * @author Marcin Szeląg (<a href="mailto:marcin.szelag@cs.put.poznan.pl">marcin.szelag@cs.put.poznan.pl</a>)
@@ -18,11 +18,16 @@ package org.rulelearn.rules;
 
 import static org.rulelearn.core.Precondition.notNull;
 
+import org.rulelearn.core.IntCompressedSortedList;
 import org.rulelearn.core.OperationsOnCollections;
 import org.rulelearn.measures.SupportMeasure;
 import org.rulelearn.measures.dominance.EpsilonConsistencyMeasure;
 import org.rulelearn.measures.dominance.RoughMembershipMeasure;
 
+import it.unimi.dsi.fastutil.ints.IntIterator;
+import it.unimi.dsi.fastutil.ints.IntList;
+import it.unimi.dsi.fastutil.ints.IntSet;
+
 /**
  * Characteristics of a decision rule, calculated using rule coverage information {@link RuleCoverageInformation}. This class extends {@link RuleCharacteristics}
  * by ensuring that if any characteristic is not stored explicitly, it will be calculated on demand.
@@ -81,8 +86,6 @@ public class ComputableRuleCharacteristics extends RuleCharacteristics {
 		return ruleEvaluator.evaluate(this.ruleCoverageInformation);
 	}
 	
-	//TODO: use additional supplementary fields: positiveNotCoveredObjectsCount, negativeNotCoveredObjectsCount
-	
 	/**
 	 * Gets coverage information concerning considered decision rule.
 	 * 
@@ -195,7 +198,7 @@ public class ComputableRuleCharacteristics extends RuleCharacteristics {
 	@Override
 	public double getEpsilonPrime() {
 		if (epsilonPrime == UNKNOWN_DOUBLE_VALUE) {
-			//TODO: calculate measure
+			epsilonPrime = calculateEpsilonPrime(getNegativeCoverage(), this.ruleCoverageInformation.getIndicesOfPositiveObjects().size());
 		}
 		return epsilonPrime;
 	}
@@ -208,7 +211,7 @@ public class ComputableRuleCharacteristics extends RuleCharacteristics {
 	@Override
 	public double getFConfirmation() {
 		if (fConfirmation == UNKNOWN_DOUBLE_VALUE) {
-			//TODO: calculate measure
+			fConfirmation = calculateFConfirmation(getSupport(), getPositiveNotCoveredObjectsCount(), getNegativeCoverage(), getNegativeNotCoveredObjectsCount());
 		}
 		return fConfirmation;
 	}
@@ -221,7 +224,7 @@ public class ComputableRuleCharacteristics extends RuleCharacteristics {
 	@Override
 	public double getAConfirmation() {
 		if (aConfirmation == UNKNOWN_DOUBLE_VALUE) {
-			//TODO: calculate measure
+			aConfirmation = calculateAConfirmation(getSupport(), getPositiveNotCoveredObjectsCount(), getNegativeCoverage(), getNegativeNotCoveredObjectsCount());
 		}
 		return aConfirmation;
 	}
@@ -234,7 +237,7 @@ public class ComputableRuleCharacteristics extends RuleCharacteristics {
 	@Override
 	public double getZConfirmation() {
 		if (zConfirmation == UNKNOWN_DOUBLE_VALUE) {
-			//TODO: calculate measure
+			zConfirmation = calculateZConfirmation(getSupport(), getPositiveNotCoveredObjectsCount(), getNegativeCoverage(), getNegativeNotCoveredObjectsCount());
 		}
 		return zConfirmation;
 	}
@@ -247,7 +250,7 @@ public class ComputableRuleCharacteristics extends RuleCharacteristics {
 	@Override
 	public double getLConfirmation() {
 		if (lConfirmation == UNKNOWN_DOUBLE_VALUE) {
-			//TODO: calculate measure
+			lConfirmation = calculateLConfirmation(getSupport(), getPositiveNotCoveredObjectsCount(), getNegativeCoverage(), getNegativeNotCoveredObjectsCount());
 		}
 		return lConfirmation;
 	}
@@ -260,7 +263,7 @@ public class ComputableRuleCharacteristics extends RuleCharacteristics {
 	@Override
 	public double getC1Confirmation() {
 		if (c1Confirmation == UNKNOWN_DOUBLE_VALUE) {
-			//TODO: calculate measure
+			c1Confirmation = calculateC1Confirmation(getSupport(), getPositiveNotCoveredObjectsCount(), getNegativeCoverage(), getNegativeNotCoveredObjectsCount(), this.alpha, this.beta);
 		}
 		return c1Confirmation;
 	}
@@ -273,16 +276,265 @@ public class ComputableRuleCharacteristics extends RuleCharacteristics {
 	@Override
 	public double getSConfirmation() {
 		if (sConfirmation == UNKNOWN_DOUBLE_VALUE) {
-			//TODO: calculate measure
+			sConfirmation = calculateSConfirmation(getSupport(), getPositiveNotCoveredObjectsCount(), getNegativeCoverage(), getNegativeNotCoveredObjectsCount());
 		}
 		return sConfirmation;
 	}
 	
+	/**
+	 * Gets number of all objects from the information table which are not covered by the rule but match rule's decision part.
+	 * 
+	 * @return number of positive objects not covered by the rule
+	 */
+	int getPositiveNotCoveredObjectsCount() {
+		if (positiveNotCoveredObjectsCount == UNKNOWN_INT_VALUE) {
+			positiveNotCoveredObjectsCount = this.ruleCoverageInformation.getIndicesOfPositiveObjects().size() - getSupport();
+		}
+		return positiveNotCoveredObjectsCount;
+	}
+	
+	/**
+	 * Gets number of all objects from the information table which are not covered by the rule and do not match rule's decision part.
+	 * 
+	 * @return number of negative objects not covered by the rule
+	 */
+	int getNegativeNotCoveredObjectsCount() {
+		if (negativeNotCoveredObjectsCount == UNKNOWN_INT_VALUE) {
+			negativeNotCoveredObjectsCount = this.ruleCoverageInformation.getAllObjectsCount() - this.ruleCoverageInformation.getIndicesOfPositiveObjects().size()
+					- this.ruleCoverageInformation.getIndicesOfNeutralObjects().size() - getNegativeCoverage();
+		}
+		return negativeNotCoveredObjectsCount;
+	}
+	
+	/**
+	 * Calculates, in a single pass over objects covered by the rule (or word by word, if these objects are stored in an {@link IntCompressedSortedList}),
+	 * the numbers of covered positive, neutral, and negative objects,
+	 * and derives from these numbers all characteristics that are still unknown, i.e., support, strength, confidence, coverage factor, coverage,
+	 * negative coverage, $\epsilon$, $\epsilon'$, and confirmation measures $f$, $a$, $z$, $l$, $c<sub>1</sub>$, and $s$. Values of these characteristics
+	 * are the same as calculated by respective getters, but each getter scans covered objects separately.
+	 */
+	void calculateCoverageCountsCharacteristics() {
+		IntList coveredObjects = this.ruleCoverageInformation.getIndicesOfCoveredObjects();
+		IntSet positiveObjects = this.ruleCoverageInformation.getIndicesOfPositiveObjects();
+		IntSet neutralObjects = this.ruleCoverageInformation.getIndicesOfNeutralObjects();
+		int allObjectsCount = this.ruleCoverageInformation.getAllObjectsCount();
+		
+		int coveredPositiveObjectsCount = 0;
+		int coveredNeutralObjectsCount = 0;
+		int coveredNegativeObjectsCount = 0;
+		boolean positive;
+		boolean neutral;
+		
+		if (coveredObjects instanceof IntCompressedSortedList) { //count word by word
+			IntCompressedSortedList compressedCoveredObjects = (IntCompressedSortedList)coveredObjects;
+			coveredPositiveObjectsCount = compressedCoveredObjects.countElementsIn(positiveObjects);
+			coveredNeutralObjectsCount = compressedCoveredObjects.countElementsIn(neutralObjects);
+			coveredNegativeObjectsCount = coveredObjects.size() - compressedCoveredObjects.countElementsIn(positiveObjects, neutralObjects);
+		} else {
+			IntIterator iterator = coveredObjects.iterator();
+			int objectIndex;
+			while (iterator.hasNext()) {
+				objectIndex = iterator.nextInt();
+				positive = positiveObjects.contains(objectIndex);
+				neutral = neutralObjects.contains(objectIndex);
+				if (positive) {
+					coveredPositiveObjectsCount++;
+				}
+				if (neutral) {
+					coveredNeutralObjectsCount++;
+				}
+				if (!positive && !neutral) {
+					coveredNegativeObjectsCount++;
+				}
+			}
+		}
+		int negativeObjectsCount = allObjectsCount - positiveObjects.size() - neutralObjects.size();
+		
+		if (support == UNKNOWN_INT_VALUE) {
+			support = coveredPositiveObjectsCount;
+		}
+		if (coverage == UNKNOWN_INT_VALUE) {
+			coverage = coveredObjects.size();
+		}
+		if (negativeCoverage == UNKNOWN_INT_VALUE) {
+			negativeCoverage = coveredNegativeObjectsCount;
+		}
+		if (strength == UNKNOWN_DOUBLE_VALUE) {
+			strength = ((double)support) / ((double)allObjectsCount);
+		}
+		if (coverageFactor == UNKNOWN_DOUBLE_VALUE) {
+			coverageFactor = ((double)support) / ((double)positiveObjects.size());
+		}
+		if (confidence == UNKNOWN_DOUBLE_VALUE) { //the same as RoughMembershipMeasure
+			int notNeutralCoveredObjectsCount = coveredObjects.size() - coveredNeutralObjectsCount;
+			confidence = notNeutralCoveredObjectsCount > 0 ? ((double)coveredPositiveObjectsCount) / ((double)notNeutralCoveredObjectsCount) : 0.0;
+		}
+		if (epsilon == UNKNOWN_DOUBLE_VALUE) { //the same as EpsilonConsistencyMeasure
+			epsilon = coveredNegativeObjectsCount == 0 || negativeObjectsCount == 0 ? 0.0 : ((double)coveredNegativeObjectsCount) / ((double)negativeObjectsCount);
+		}
+		if (positiveNotCoveredObjectsCount == UNKNOWN_INT_VALUE) {
+			positiveNotCoveredObjectsCount = positiveObjects.size() - coveredPositiveObjectsCount;
+		}
+		if (negativeNotCoveredObjectsCount == UNKNOWN_INT_VALUE) {
+			negativeNotCoveredObjectsCount = negativeObjectsCount - coveredNegativeObjectsCount;
+		}
+		
+		int notCoveredPositiveObjectsCount = positiveObjects.size() - coveredPositiveObjectsCount;
+		int notCoveredNegativeObjectsCount = negativeObjectsCount - coveredNegativeObjectsCount;
+		if (epsilonPrime == UNKNOWN_DOUBLE_VALUE) {
+			epsilonPrime = calculateEpsilonPrime(coveredNegativeObjectsCount, positiveObjects.size());
+		}
+		if (fConfirmation == UNKNOWN_DOUBLE_VALUE) {
+			fConfirmation = calculateFConfirmation(coveredPositiveObjectsCount, notCoveredPositiveObjectsCount, coveredNegativeObjectsCount, notCoveredNegativeObjectsCount);
+		}
+		if (aConfirmation == UNKNOWN_DOUBLE_VALUE) {
+			aConfirmation = calculateAConfirmation(coveredPositiveObjectsCount, notCoveredPositiveObjectsCount, coveredNegativeObjectsCount, notCoveredNegativeObjectsCount);
+		}
+		if (zConfirmation == UNKNOWN_DOUBLE_VALUE) {
+			zConfirmation = calculateZConfirmation(coveredPositiveObjectsCount, notCoveredPositiveObjectsCount, coveredNegativeObjectsCount, notCoveredNegativeObjectsCount);
+		}
+		if (lConfirmation == UNKNOWN_DOUBLE_VALUE) {
+			lConfirmation = calculateLConfirmation(coveredPositiveObjectsCount, notCoveredPositiveObjectsCount, coveredNegativeObjectsCount, notCoveredNegativeObjectsCount);
+		}
+		if (c1Confirmation == UNKNOWN_DOUBLE_VALUE) {
+			c1Confirmation = calculateC1Confirmation(coveredPositiveObjectsCount, notCoveredPositiveObjectsCount, coveredNegativeObjectsCount, notCoveredNegativeObjectsCount,
+					this.alpha, this.beta);
+		}
+		if (sConfirmation == UNKNOWN_DOUBLE_VALUE) {
+			sConfirmation = calculateSConfirmation(coveredPositiveObjectsCount, notCoveredPositiveObjectsCount, coveredNegativeObjectsCount, notCoveredNegativeObjectsCount);
+		}
+	}
+	
+	//in all methods below, a, b, c, and d denote, respectively, the numbers of covered positive objects, not covered positive objects,
+	//covered negative objects, and not covered negative objects (neutral objects are not taken into account);
+	//if a measure is undefined, as its denominator is zero, it is assumed to be zero, i.e., neutral
+	
+	/**
+	 * Calculates rule consistency measure $\epsilon'$, being the ratio of the number of covered negative objects and the number of positive objects.
+	 * 
+	 * @param c number of covered negative objects
+	 * @param positiveObjectsCount number of positive objects
+	 * @return value of rule consistency measure $\epsilon'$
+	 */
+	static double calculateEpsilonPrime(int c, int positiveObjectsCount) {
+		return c == 0 || positiveObjectsCount == 0 ? 0.0 : ((double)c) / ((double)positiveObjectsCount);
+	}
+	
+	/**
+	 * Calculates rule confirmation measure $f = (P(E|H) - P(E|\neg H)) / (P(E|H) + P(E|\neg H)) = (ad - bc) / (ad + bc + 2ac)$.
+	 * 
+	 * @param a number of covered positive objects
+	 * @param b number of not covered positive objects
+	 * @param c number of covered negative objects
+	 * @param d number of not covered negative objects
+	 * @return value of rule confirmation measure $f$
+	 */
+	static double calculateFConfirmation(int a, int b, int c, int d) {
+		double denominator = (double)a * d + (double)b * c + 2.0 * a * c;
+		return denominator == 0.0 ? 0.0 : ((double)a * d - (double)b * c) / denominator;
+	}
+	
+	/**
+	 * Calculates rule confirmation measure $a$, equal to $(ad - bc) / ((a + b)(b + d))$ in case of confirmation ($ad &gt; bc$),
+	 * and to $(ad - bc) / ((a + b)(a + c))$ in case of disconfirmation ($ad &lt; bc$).
+	 * 
+	 * @param a number of covered positive objects
+	 * @param b number of not covered positive objects
+	 * @param c number of covered negative objects
+	 * @param d number of not covered negative objects
+	 * @return value of rule confirmation measure $a$
+	 */
+	static double calculateAConfirmation(int a, int b, int c, int d) {
+		double difference = (double)a * d - (double)b * c;
+		if (difference == 0.0) {
+			return 0.0;
+		}
+		return difference / (difference > 0.0 ? (double)(a + b) * (b + d) : (double)(a + b) * (a + c));
+	}
+	
+	/**
+	 * Calculates rule confirmation measure $z$, equal to $(ad - bc) / ((a + c)(c + d))$ in case of confirmation ($ad &gt; bc$),
+	 * and to $(ad - bc) / ((a + b)(a + c))$ in case of disconfirmation ($ad &lt; bc$).
+	 * 
+	 * @param a number of covered positive objects
+	 * @param b number of not covered positive objects
+	 * @param c number of covered negative objects
+	 * @param d number of not covered negative objects
+	 * @return value of rule confirmation measure $z$
+	 */
+	static double calculateZConfirmation(int a, int b, int c, int d) {
+		double difference = (double)a * d - (double)b * c;
+		if (difference == 0.0) {
+			return 0.0;
+		}
+		return difference / (difference > 0.0 ? (double)(a + c) * (c + d) : (double)(a + b) * (a + c));
+	}
+	
+	/**
+	 * Calculates rule confirmation measure $l = \log(P(E|H) / P(E|\neg H)) = \log(a(c + d) / (c(a + b)))$.
+	 * If no negative object is covered, but some positive object is covered, the measure is positively infinite. As positive infinity also denotes
+	 * an unknown characteristic, such value is not remembered, and it is calculated anew (in constant time) by each call to {@link #getLConfirmation()}.
+	 * 
+	 * @param a number of covered positive objects
+	 * @param b number of not covered positive objects
+	 * @param c number of covered negative objects
+	 * @param d number of not covered negative objects
+	 * @return value of rule confirmation measure $l$
+	 */
+	static double calculateLConfirmation(int a, int b, int c, int d) {
+		double difference = (double)a * d - (double)b * c;
+		if (difference == 0.0) {
+			return 0.0;
+		}
+		return Math.log(((double)a * (c + d)) / ((double)c * (a + b)));
+	}
+	
+	/**
+	 * Calculates rule confirmation measure $c<sub>1</sub>$, equal to $\alpha + \beta A$ in case of confirmation and $c = 0$,
+	 * to $\alpha Z$ in case of confirmation and $c &gt; 0$, to $\alpha Z$ in case of disconfirmation and $a &gt; 0$,
+	 * and to $-\alpha + \beta A$ in case of disconfirmation and $a = 0$, where $A$ and $Z$ are values of confirmation measures $a$ and $z$, respectively.
+	 * 
+	 * @param a number of covered positive objects
+	 * @param b number of not covered positive objects
+	 * @param c number of covered negative objects
+	 * @param d number of not covered negative objects
+	 * @param alpha parameter $\alpha$ of the measure
+	 * @param beta parameter $\beta$ of the measure
+	 * @return value of rule confirmation measure $c<sub>1</sub>$
+	 */
+	static double calculateC1Confirmation(int a, int b, int c, int d, double alpha, double beta) {
+		double difference = (double)a * d - (double)b * c;
+		if (difference == 0.0) {
+			return 0.0;
+		}
+		if (difference > 0.0) {
+			return c == 0 ? alpha + beta * calculateAConfirmation(a, b, c, d) : alpha * calculateZConfirmation(a, b, c, d);
+		}
+		else {
+			return a > 0 ? alpha * calculateZConfirmation(a, b, c, d) : -alpha + beta * calculateAConfirmation(a, b, c, d);
+		}
+	}
+	
+	/**
+	 * Calculates rule confirmation measure $s = P(H|E) - P(H|\neg E) = a / (a + c) - b / (b + d)$.
+	 * 
+	 * @param a number of covered positive objects
+	 * @param b number of not covered positive objects
+	 * @param c number of covered negative objects
+	 * @param d number of not covered negative objects
+	 * @return value of rule confirmation measure $s$
+	 */
+	static double calculateSConfirmation(int a, int b, int c, int d) {
+		return (a + c == 0 ? 0.0 : ((double)a) / ((double)(a + c))) - (b + d == 0 ? 0.0 : ((double)b) / ((double)(b + d)));
+	}
+	
 	/**
 	 * Enforces that values of all rule characteristics are calculated instantly and remembered, so each subsequent call to any getter
-	 * will return requested characteristic at once, without additional calculations.
+	 * will return requested characteristic at once, without additional calculations. All characteristics depend only on the numbers of covered
+	 * positive, neutral, and negative objects, so they are calculated together, in a single pass over objects covered by the rule.
 	 */
 	public void calculateAllCharacteristics() {
+		this.calculateCoverageCountsCharacteristics();
 		this.getAConfirmation();
 		this.getC1Confirmation();
 		this.getConfidence();
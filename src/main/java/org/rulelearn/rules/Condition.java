@@ -23,6 +23,7 @@ import java.util.Objects;
 import org.rulelearn.core.InvalidValueException;
 import org.rulelearn.core.TernaryLogicValue;
 import org.rulelearn.data.AttributeWithContext;
+import org.rulelearn.data.ColumnarTable;
 import org.rulelearn.data.EvaluationAttributeWithContext;
 import org.rulelearn.data.InformationTable;
 import org.rulelearn.types.CompositeField;
@@ -101,6 +102,51 @@ public abstract class Condition<T extends EvaluationField> {
     	return this.satisfiedBy((T)informationTable.getField(objectIndex, this.attributeWithContext.getAttributeIndex()));
     }
     
+    /**
+     * Clears bits of these objects from given bitset, which do not satisfy this condition. If evaluations on active condition attributes of the given information table
+     * are stored in a {@link ColumnarTable}, this condition is checked at most once for each distinct evaluation on its attribute,
+     * and other objects are processed by comparing primitive codes of their evaluations.
+     * 
+     * @param objectsBitset bitset of objects from the given information table, stored as an array of {@code long} words
+     *        (object with index {@code i} corresponds to bit {@code i % 64} of word {@code i / 64}); only objects whose bits are set are checked
+     * @param informationTable information table containing the objects to check
+     * 
+     * @throws NullPointerException if any of the parameters is {@code null}
+     * @throws IndexOutOfBoundsException if a bit set in given bitset does not correspond to any object in the given information table
+     */
+    @SuppressWarnings("unchecked")
+    public void retainSatisfyingObjects(long[] objectsBitset, InformationTable informationTable) {
+    	notNull(objectsBitset, "Bitset of objects to check against condition is null.");
+    	notNull(informationTable, "Information table for checking condition is null.");
+    	int attributeIndex = this.attributeWithContext.getAttributeIndex();
+    	
+    	if (informationTable.getActiveConditionAttributeFields() instanceof ColumnarTable) {
+    		int localAttributeIndex = informationTable.translateGlobalAttributeIndex2LocalActiveConditionAttributeIndex(attributeIndex);
+    		if (localAttributeIndex >= 0) {
+    			((ColumnarTable)informationTable.getActiveConditionAttributeFields()).retainObjectsSatisfying(localAttributeIndex,
+    					evaluation -> this.satisfiedBy((T)evaluation), objectsBitset);
+    			return;
+    		}
+    	}
+    	
+    	long word;
+    	long remainingBits;
+    	int objectIndex;
+    	
+    	for (int wordIndex = 0; wordIndex < objectsBitset.length; wordIndex++) {
+    		word = objectsBitset[wordIndex];
+    		remainingBits = word;
+    		while (remainingBits != 0L) {
+    			objectIndex = (wordIndex << 6) + Long.numberOfTrailingZeros(remainingBits);
+    			if (!this.satisfiedBy(objectIndex, informationTable)) {
+    				word &= ~(1L << objectIndex);
+    			}
+    			remainingBits &= remainingBits - 1; //clear lowest set bit
+    		}
+    		objectsBitset[wordIndex] = word;
+    	}
+    }
+    
     /**
 	 * Gets text representation of this condition.
 	 * 
@@ -0,0 +1,461 @@
+/**
+ * Copyright (C) Jerzy Błaszczyński, Marcin Szeląg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.rulelearn.rules;
+
+import static org.rulelearn.core.Precondition.notNull;
+
+import org.rulelearn.data.InformationTable;
+import org.rulelearn.types.EvaluationField;
+import org.rulelearn.types.KnownSimpleField;
+import org.rulelearn.types.RealField;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntArrays;
+import it.unimi.dsi.fastutil.ints.IntList;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import it.unimi.dsi.fastutil.objects.ObjectList;
+
+/**
+ * Index of decision rules from a {@link RuleSet rule set}, allowing to find all rules covering an object without checking each rule separately.<br>
+ * <br>
+ * Elementary conditions of all rules are grouped by attribute, relation (&gt;=, &lt;=, =), and type of limiting evaluation. Within each group, conditions are sorted
+ * by their limiting evaluations. Then, for a given object, rules whose conditions from a group are not satisfied by the object's evaluation are identified
+ * by a binary search in the sorted array of limiting evaluations, and removed from a bitset of covering rules. Conditions whose limiting evaluation is not
+ * a {@link KnownSimpleField}, as well as conditions checked against an evaluation of another type than their limiting evaluation (e.g., a missing value),
+ * are checked directly, using {@link Condition#satisfiedBy(EvaluationField)}. Therefore, rules found by this index are always the same as rules
+ * for which {@link Rule#covers(int, InformationTable)} returns {@code true}. Instances of subclasses of {@link Rule}, whose coverage need not follow from their conditions,
+ * are not indexed, but checked directly, using {@link Rule#covers(int, InformationTable)}.<br>
+ * <br>
+ * This index is immutable, so it can be used concurrently by multiple threads.
+ *
+ * @author Jerzy Błaszczyński (<a href="mailto:jurek.blaszczynski@cs.put.poznan.pl">jurek.blaszczynski@cs.put.poznan.pl</a>)
+ * @author Marcin Szeląg (<a href="mailto:marcin.szelag@cs.put.poznan.pl">marcin.szelag@cs.put.poznan.pl</a>)
+ */
+public class CoveringRulesIndex {
+
+	/**
+	 * Relation between limiting evaluation of an indexed condition and an evaluation satisfying that condition.
+	 */
+	enum Relation {
+		/**
+		 * Condition is satisfied by evaluations at least as good as its limiting evaluation.
+		 */
+		AT_LEAST,
+		/**
+		 * Condition is satisfied by evaluations at most as good as its limiting evaluation.
+		 */
+		AT_MOST,
+		/**
+		 * Condition is satisfied by evaluations equal to its limiting evaluation.
+		 */
+		EQUAL
+	}
+
+	/**
+	 * Group of conditions concerning the same attribute, reflecting the same relation, and having limiting evaluations of the same type,
+	 * sorted by limiting evaluations.
+	 */
+	static final class ConditionsGroup {
+		/**
+		 * Index of the attribute for which conditions from this group are defined.
+		 */
+		final int attributeIndex;
+		/**
+		 * Relation reflected by conditions from this group.
+		 */
+		final Relation relation;
+		/**
+		 * Type of limiting evaluations of conditions from this group.
+		 */
+		final Class<?> evaluationType;
+		/**
+		 * Conditions from this group, sorted by limiting evaluations.
+		 */
+		Condition<EvaluationField>[] conditions;
+		/**
+		 * Limiting evaluations of subsequent conditions.
+		 */
+		KnownSimpleField[] limitingEvaluations;
+		/**
+		 * Indices of rules containing subsequent conditions.
+		 */
+		int[] ruleIndices;
+
+		/**
+		 * Conditions added to this group before it is sorted.
+		 */
+		ObjectList<Condition<EvaluationField>> conditionsList = new ObjectArrayList<Condition<EvaluationField>>();
+		/**
+		 * Indices of rules containing conditions added to this group before it is sorted.
+		 */
+		IntList ruleIndicesList = new IntArrayList();
+
+		/**
+		 * Constructs this group.
+		 *
+		 * @param attributeIndex index of the attribute for which conditions from this group are defined
+		 * @param relation relation reflected by conditions from this group
+		 * @param evaluationType type of limiting evaluations of conditions from this group
+		 */
+		ConditionsGroup(int attributeIndex, Relation relation, Class<?> evaluationType) {
+			this.attributeIndex = attributeIndex;
+			this.relation = relation;
+			this.evaluationType = evaluationType;
+		}
+
+		/**
+		 * Sorts conditions added to this group by their limiting evaluations (and then by indices of rules).
+		 */
+		@SuppressWarnings("unchecked")
+		void sort() {
+			int size = this.conditionsList.size();
+			int[] order = new int[size];
+			for (int i = 0; i < size; i++) {
+				order[i] = i;
+			}
+			IntArrays.mergeSort(order, (i, j) -> ((KnownSimpleField)this.conditionsList.get(i).getLimitingEvaluation()).compareTo(
+					(KnownSimpleField)this.conditionsList.get(j).getLimitingEvaluation()));
+
+			this.conditions = (Condition<EvaluationField>[])new Condition<?>[size];
+			this.limitingEvaluations = new KnownSimpleField[size];
+			this.ruleIndices = new int[size];
+			for (int i = 0; i < size; i++) {
+				this.conditions[i] = this.conditionsList.get(order[i]);
+				this.limitingEvaluations[i] = (KnownSimpleField)this.conditions[i].getLimitingEvaluation();
+				this.ruleIndices[i] = this.ruleIndicesList.getInt(order[i]);
+			}
+			this.conditionsList = null;
+			this.ruleIndicesList = null;
+		}
+
+		/**
+		 * Removes from given bitset of rules all rules containing a condition from this group that is not satisfied by given evaluation.
+		 *
+		 * @param evaluation evaluation of an object on the attribute for which conditions from this group are defined
+		 * @param coveringRules bitset of rules, where bit {@code i} of word {@code i / 64} corresponds to the rule with index {@code i}
+		 */
+		void removeNotSatisfiedRules(EvaluationField evaluation, long[] coveringRules) {
+			int size = this.ruleIndices.length;
+
+			if (evaluation.getClass() == this.evaluationType && isIndexable(evaluation)) {
+				KnownSimpleField knownEvaluation = (KnownSimpleField)evaluation;
+				int from = findFirstNotSmaller(knownEvaluation); //first condition with limiting evaluation >= given evaluation
+				int to = findFirstGreater(knownEvaluation, from); //first condition with limiting evaluation > given evaluation
+
+				if (this.relation != Relation.AT_LEAST) { //conditions with limiting evaluations < given evaluation are not satisfied
+					clearRules(0, from, coveringRules);
+				}
+				if (this.relation != Relation.AT_MOST) { //conditions with limiting evaluations > given evaluation are not satisfied
+					clearRules(to, size, coveringRules);
+				}
+			} else { //given evaluation cannot be compared using sorted limiting evaluations (e.g., it is a missing value)
+				for (int i = 0; i < size; i++) {
+					if (isSet(coveringRules, this.ruleIndices[i]) && !this.conditions[i].satisfiedBy(evaluation)) {
+						clear(coveringRules, this.ruleIndices[i]);
+					}
+				}
+			}
+		}
+
+		/**
+		 * Finds position of the first limiting evaluation that is not smaller than given evaluation.
+		 *
+		 * @param evaluation considered evaluation
+		 * @return position of the first limiting evaluation that is not smaller than given evaluation,
+		 *         or the number of conditions in this group, if there is no such limiting evaluation
+		 */
+		int findFirstNotSmaller(KnownSimpleField evaluation) {
+			int low = 0;
+			int high = this.limitingEvaluations.length;
+			while (low < high) {
+				int middle = (low + high) >>> 1;
+				if (this.limitingEvaluations[middle].compareTo(evaluation) < 0) {
+					low = middle + 1;
+				} else {
+					high = middle;
+				}
+			}
+			return low;
+		}
+
+		/**
+		 * Finds position of the first limiting evaluation that is greater than given evaluation, starting from given position.
+		 *
+		 * @param evaluation considered evaluation
+		 * @param from position from which search starts
+		 * @return position of the first limiting evaluation that is greater than given evaluation,
+		 *         or the number of conditions in this group, if there is no such limiting evaluation
+		 */
+		int findFirstGreater(KnownSimpleField evaluation, int from) {
+			int low = from;
+			int high = this.limitingEvaluations.length;
+			while (low < high) {
+				int middle = (low + high) >>> 1;
+				if (this.limitingEvaluations[middle].compareTo(evaluation) <= 0) {
+					low = middle + 1;
+				} else {
+					high = middle;
+				}
+			}
+			return low;
+		}
+
+		/**
+		 * Removes from given bitset of rules all rules containing conditions from given range of positions.
+		 *
+		 * @param from first position (inclusive)
+		 * @param to last position (exclusive)
+		 * @param coveringRules bitset of rules
+		 */
+		void clearRules(int from, int to, long[] coveringRules) {
+			for (int i = from; i < to; i++) {
+				clear(coveringRules, this.ruleIndices[i]);
+			}
+		}
+	}
+
+	/**
+	 * Rule set for which this index has been built.
+	 */
+	RuleSet ruleSet;
+
+	/**
+	 * Groups of indexed conditions.
+	 */
+	ConditionsGroup[] conditionsGroups;
+
+	/**
+	 * Indices of rules having conditions that are not indexed, i.e., conditions that need to be checked directly.
+	 */
+	int[] rulesWithNotIndexedConditions;
+
+	/**
+	 * Not indexed conditions of subsequent rules whose indices are stored in {@link #rulesWithNotIndexedConditions}.
+	 */
+	Condition<EvaluationField>[][] notIndexedConditions;
+
+	/**
+	 * Indices of rules that are not indexed, i.e., rules whose coverage needs to be checked directly, using {@link Rule#covers(int, InformationTable)}.
+	 */
+	int[] notIndexedRules;
+
+	/**
+	 * Number of 64-bit words of a bitset of rules.
+	 */
+	int numberOfWords;
+
+	/**
+	 * Constructs this index for given rule set.
+	 *
+	 * @param ruleSet rule set to be indexed
+	 * @throws NullPointerException if given rule set is {@code null}
+	 */
+	@SuppressWarnings("unchecked")
+	public CoveringRulesIndex(RuleSet ruleSet) {
+		this.ruleSet = notNull(ruleSet, "Rule set to be indexed is null.");
+		this.numberOfWords = (ruleSet.size() + 63) >>> 6;
+
+		ObjectList<ConditionsGroup> groups = new ObjectArrayList<ConditionsGroup>();
+		IntList rulesWithNotIndexedConditions = new IntArrayList();
+		ObjectList<Condition<EvaluationField>[]> notIndexedConditions = new ObjectArrayList<Condition<EvaluationField>[]>();
+		ObjectList<Condition<EvaluationField>> notIndexedRuleConditions = new ObjectArrayList<Condition<EvaluationField>>();
+		IntList notIndexedRules = new IntArrayList();
+
+		for (int ruleIndex = 0; ruleIndex < ruleSet.size(); ruleIndex++) {
+			Rule rule = ruleSet.getRule(ruleIndex);
+			if (rule.getClass() != Rule.class) { //subclass of rule can override covering, so its conditions cannot be used
+				notIndexedRules.add(ruleIndex);
+				continue;
+			}
+			notIndexedRuleConditions.clear();
+			for (Condition<EvaluationField> condition : rule.getConditions(true)) {
+				Relation relation = getRelation(condition);
+				if (relation != null && isIndexable(condition.getLimitingEvaluation())) {
+					ConditionsGroup group = getConditionsGroup(groups, condition.getAttributeWithContext().getAttributeIndex(), relation,
+							condition.getLimitingEvaluation().getClass());
+					group.conditionsList.add(condition);
+					group.ruleIndicesList.add(ruleIndex);
+				} else {
+					notIndexedRuleConditions.add(condition);
+				}
+			}
+			if (!notIndexedRuleConditions.isEmpty()) {
+				rulesWithNotIndexedConditions.add(ruleIndex);
+				notIndexedConditions.add(notIndexedRuleConditions.toArray((Condition<EvaluationField>[])new Condition<?>[notIndexedRuleConditions.size()]));
+			}
+		}
+
+		this.conditionsGroups = groups.toArray(new ConditionsGroup[groups.size()]);
+		for (ConditionsGroup group : this.conditionsGroups) {
+			group.sort();
+		}
+		this.rulesWithNotIndexedConditions = rulesWithNotIndexedConditions.toIntArray();
+		this.notIndexedConditions = notIndexedConditions.toArray((Condition<EvaluationField>[][])new Condition<?>[notIndexedConditions.size()][]);
+		this.notIndexedRules = notIndexedRules.toIntArray();
+	}
+
+	/**
+	 * Gets relation reflected by given condition, if that condition can be indexed.
+	 *
+	 * @param condition considered condition
+	 * @return relation reflected by given condition, or {@code null} if given condition cannot be indexed
+	 */
+	static Relation getRelation(Condition<?> condition) {
+		Class<?> conditionType = condition.getClass();
+		if (conditionType == ConditionAtLeastThresholdVSObject.class || conditionType == ConditionAtLeastObjectVSThreshold.class) {
+			return Relation.AT_LEAST;
+		} else if (conditionType == ConditionAtMostThresholdVSObject.class || conditionType == ConditionAtMostObjectVSThreshold.class) {
+			return Relation.AT_MOST;
+		} else if (conditionType == ConditionEqualThresholdVSObject.class || conditionType == ConditionEqualObjectVSThreshold.class) {
+			return Relation.EQUAL;
+		} else {
+			return null;
+		}
+	}
+
+	/**
+	 * Tells if given evaluation can be compared with limiting evaluations of indexed conditions using their natural order.
+	 * This is the case for each {@link KnownSimpleField} except a {@link RealField} whose value is not a number.
+	 *
+	 * @param evaluation considered evaluation
+	 * @return {@code true} if given evaluation can be compared with limiting evaluations of indexed conditions, {@code false} otherwise
+	 */
+	static boolean isIndexable(EvaluationField evaluation) {
+		return evaluation instanceof KnownSimpleField && !(evaluation instanceof RealField && Double.isNaN(((RealField)evaluation).getValue()));
+	}
+
+	/**
+	 * Gets group of conditions with given properties from given list, adding new group to that list if there is no such group yet.
+	 *
+	 * @param groups list of groups
+	 * @param attributeIndex index of an attribute
+	 * @param relation relation
+	 * @param evaluationType type of limiting evaluations
+	 * @return group of conditions with given properties
+	 */
+	static ConditionsGroup getConditionsGroup(ObjectList<ConditionsGroup> groups, int attributeIndex, Relation relation, Class<?> evaluationType) {
+		for (ConditionsGroup group : groups) {
+			if (group.attributeIndex == attributeIndex && group.relation == relation && group.evaluationType == evaluationType) {
+				return group;
+			}
+		}
+		ConditionsGroup group = new ConditionsGroup(attributeIndex, relation, evaluationType);
+		groups.add(group);
+		return group;
+	}
+
+	/**
+	 * Gets the rule set for which this index has been built.
+	 *
+	 * @return the rule set for which this index has been built
+	 */
+	public RuleSet getRuleSet() {
+		return this.ruleSet;
+	}
+
+	/**
+	 * Gets indices of all rules from indexed rule set that cover an object from an information table.
+	 *
+	 * @param objectIndex index of an object in the given information table
+	 * @param informationTable information table containing object with given index
+	 * @return list of indices of rules covering considered object, in ascending order
+	 *
+	 * @throws IndexOutOfBoundsException see {@link Rule#covers(int, InformationTable)}
+	 * @throws NullPointerException see {@link Rule#covers(int, InformationTable)}
+	 */
+	public IntList getCoveringRules(int objectIndex, InformationTable informationTable) {
+		IntList coveringRules = new IntArrayList();
+		getCoveringRules(objectIndex, informationTable, coveringRules);
+		return coveringRules;
+	}
+
+	/**
+	 * Gets indices of all rules from indexed rule set that cover an object from an information table, and stores them in given list.
+	 * Given list is cleared first, so it can be reused for subsequent objects.
+	 *
+	 * @param objectIndex index of an object in the given information table
+	 * @param informationTable information table containing object with given index
+	 * @param coveringRules list to which indices of rules covering considered object are stored, in ascending order
+	 *
+	 * @throws IndexOutOfBoundsException see {@link Rule#covers(int, InformationTable)}
+	 * @throws NullPointerException see {@link Rule#covers(int, InformationTable)}
+	 * @throws NullPointerException if given list is {@code null}
+	 */
+	public void getCoveringRules(int objectIndex, InformationTable informationTable, IntList coveringRules) {
+		notNull(informationTable, "Information table containing object to be covered is null.");
+		coveringRules.clear();
+
+		long[] coveringRulesBitset = new long[this.numberOfWords];
+		int numberOfRules = this.ruleSet.size();
+		for (int i = 0; i < this.numberOfWords; i++) {
+			coveringRulesBitset[i] = -1L;
+		}
+		if ((numberOfRules & 63) != 0) {
+			coveringRulesBitset[this.numberOfWords - 1] = (1L << (numberOfRules & 63)) - 1;
+		}
+
+		for (ConditionsGroup group : this.conditionsGroups) {
+			group.removeNotSatisfiedRules((EvaluationField)informationTable.getField(objectIndex, group.attributeIndex), coveringRulesBitset);
+		}
+		for (int i = 0; i < this.rulesWithNotIndexedConditions.length; i++) {
+			int ruleIndex = this.rulesWithNotIndexedConditions[i];
+			if (isSet(coveringRulesBitset, ruleIndex)) {
+				for (Condition<EvaluationField> condition : this.notIndexedConditions[i]) {
+					if (!condition.satisfiedBy(objectIndex, informationTable)) {
+						clear(coveringRulesBitset, ruleIndex);
+						break;
+					}
+				}
+			}
+		}
+		for (int ruleIndex : this.notIndexedRules) {
+			if (!this.ruleSet.getRule(ruleIndex).covers(objectIndex, informationTable)) {
+				clear(coveringRulesBitset, ruleIndex);
+			}
+		}
+
+		for (int i = 0; i < this.numberOfWords; i++) {
+			long word = coveringRulesBitset[i];
+			while (word != 0) {
+				coveringRules.add((i << 6) + Long.numberOfTrailingZeros(word));
+				word &= word - 1;
+			}
+		}
+	}
+
+	/**
+	 * Tells if bit corresponding to given rule is set in given bitset.
+	 *
+	 * @param bitset bitset of rules
+	 * @param ruleIndex index of a rule
+	 * @return {@code true} if bit corresponding to given rule is set, {@code false} otherwise
+	 */
+	static boolean isSet(long[] bitset, int ruleIndex) {
+		return (bitset[ruleIndex >>> 6] & (1L << ruleIndex)) != 0;
+	}
+
+	/**
+	 * Clears bit corresponding to given rule in given bitset.
+	 *
+	 * @param bitset bitset of rules
+	 * @param ruleIndex index of a rule
+	 */
+	static void clear(long[] bitset, int ruleIndex) {
+		bitset[ruleIndex >>> 6] &= ~(1L << ruleIndex);
+	}
+
+}
@@ -109,18 +109,7 @@ public class EvaluationAndCoverageStoppingConditionChecker implements RuleInduct
 		if (!conditionRemovalEvaluator.evaluationSatisfiesThresholdWithoutCondition(ruleConditions, evaluationThreshold, conditionIndex)) {
 			return false;
 		} else {
-			IntSet indicesOfObjectsThatCanBeCovered = ruleConditions.getIndicesOfObjectsThatCanBeCovered();
-			IntList indicesOfCoveredObjects = ruleConditions.getIndicesOfCoveredObjectsWithoutCondition(conditionIndex);
-			int coveredObjectIndex = 0;
-			int coveredObjectsCount = indicesOfCoveredObjects.size();
-			
-			while (coveredObjectIndex < coveredObjectsCount) {
-				if (!indicesOfObjectsThatCanBeCovered.contains(indicesOfCoveredObjects.getInt(coveredObjectIndex++))) {
-					return false;
-				}
-			}
-			
-			return true;
+			return ruleConditions.coversOnlyObjectsThatCanBeCoveredWithoutCondition(conditionIndex);
 		}
 	}
 
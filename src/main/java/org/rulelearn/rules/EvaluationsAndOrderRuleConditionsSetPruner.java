@@ -22,13 +22,9 @@ import org.rulelearn.core.InvalidValueException;
 import org.rulelearn.core.Precondition;
 import org.rulelearn.measures.Measure.MeasureType;
 
-import it.unimi.dsi.fastutil.ints.Int2IntMap;
-import it.unimi.dsi.fastutil.ints.Int2IntOpenHashMap;
 import it.unimi.dsi.fastutil.ints.IntArrayList;
 import it.unimi.dsi.fastutil.ints.IntList;
-import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
 import it.unimi.dsi.fastutil.ints.IntSet;
-import it.unimi.dsi.fastutil.objects.ObjectArrayList;
 
 /**
  * Prunes lists of rule conditions {@link RuleConditions} using rule conditions evaluators {@link RuleConditionsEvaluator}.
@@ -41,49 +37,137 @@ import it.unimi.dsi.fastutil.objects.ObjectArrayList;
  * considered lexicographically.
  * In case of a tie between two or more rule conditions, with respect to all rule conditions evaluators, rule conditions with
  * the smallest index on the list of rule conditions are selected.
- * Then, selected rule conditions are pruned (removed), the list of rule conditions that can be removed is updated, and the whole procedure repeats.
+ * Then, selected rule conditions are pruned (removed), the list of rule conditions that can be removed is updated, and the whole procedure repeats.<br>
+ * <br>
+ * Coverage of observed objects (i.e., objects that need to be kept covered) by each rule conditions is stored as a compressed bitset,
+ * consisting only of non-zero 64-bit words, and for each observed object the number of rule conditions covering that object is counted.
+ * Therefore, checking if given rule conditions can be removed requires a single pass over the words of their compressed bitset.
+ * Evaluations of rule conditions are calculated lazily and cached in a primitive array.
  *
  * @author Jerzy Błaszczyński (<a href="mailto:jurek.blaszczynski@cs.put.poznan.pl">jurek.blaszczynski@cs.put.poznan.pl</a>)
  * @author Marcin Szeląg (<a href="mailto:marcin.szelag@cs.put.poznan.pl">marcin.szelag@cs.put.poznan.pl</a>)
  */
 public class EvaluationsAndOrderRuleConditionsSetPruner extends AbstractRuleConditionsSetPrunerWithEvaluators {
 	
-	//stores index of rule conditions, rule conditions, and their evaluations
-	final class IndexedRuleConditionsWithEvaluations {
+	//stores state of pruning of a single list of rule conditions
+	final class PruningState {
+		List<RuleConditions> rules;
+		
+		//compressed coverage bitsets of rules, restricted to observed objects; for i-th rule, ruleToWords[i][j] is the word with index ruleToWordIndices[i][j]
+		int[][] ruleToWordIndices;
+		long[][] ruleToWords;
+		
+		int[] observedObjectToRuleCount; //number of not removed rules covering each observed object
+		long[] observedObjectsCoveredOnceBitset; //bitset of observed objects covered by exactly one not removed rule
+		
+		//cached evaluations of rules; j-th evaluation of i-th rule is stored at position i * ruleConditionsEvaluators.length + j
 		double[] evaluations;
-		int validEvaluationsCount;
-		int index; //concerns entire list of pruned rules
-		RuleConditions ruleConditions;
+		int[] validEvaluationsCounts;
 		
-		//constructor; initializes fields taking into account the number of evaluations
-		IndexedRuleConditionsWithEvaluations(int index, RuleConditions ruleConditions) {
-			evaluations = new double[ruleConditionsEvaluators.length];
-			validEvaluationsCount = 0;
-			this.index = index;
-			this.ruleConditions = ruleConditions;
+		//constructor; calculates compressed coverage bitsets of rules and counts of rules covering each observed object
+		PruningState(List<RuleConditions> rules, IntSet observedObjects) {
+			this.rules = rules;
+			int ruleCount = rules.size();
+			
+			int maxObservedObject = -1;
+			for (int observedObject : observedObjects) {
+				maxObservedObject = Math.max(maxObservedObject, observedObject);
+			}
+			long[] observedObjectsBitset = new long[(maxObservedObject + 64) >>> 6];
+			for (int observedObject : observedObjects) {
+				observedObjectsBitset[observedObject >>> 6] |= 1L << observedObject;
+			}
+			
+			this.ruleToWordIndices = new int[ruleCount][];
+			this.ruleToWords = new long[ruleCount][];
+			this.observedObjectToRuleCount = new int[maxObservedObject + 1];
+			this.observedObjectsCoveredOnceBitset = new long[observedObjectsBitset.length];
+			
+			IntList wordIndices = new IntArrayList(); //auxiliary list reused for each rule
+			long[] coveredObjectsBitset;
+			long word;
+			
+			for (int ruleIndex = 0; ruleIndex < ruleCount; ruleIndex++) {
+				coveredObjectsBitset = rules.get(ruleIndex).coveredObjectsBitset;
+				wordIndices.clear();
+				for (int wordIndex = 0; wordIndex < Math.min(coveredObjectsBitset.length, observedObjectsBitset.length); wordIndex++) {
+					if ((coveredObjectsBitset[wordIndex] & observedObjectsBitset[wordIndex]) != 0L) {
+						wordIndices.add(wordIndex);
+					}
+				}
+				this.ruleToWordIndices[ruleIndex] = wordIndices.toIntArray();
+				this.ruleToWords[ruleIndex] = new long[wordIndices.size()];
+				for (int i = 0; i < this.ruleToWords[ruleIndex].length; i++) {
+					word = coveredObjectsBitset[wordIndices.getInt(i)] & observedObjectsBitset[wordIndices.getInt(i)];
+					this.ruleToWords[ruleIndex][i] = word;
+					while (word != 0L) {
+						this.observedObjectToRuleCount[(wordIndices.getInt(i) << 6) + Long.numberOfTrailingZeros(word)]++;
+						word &= word - 1; //clear lowest set bit
+					}
+				}
+			}
+			
+			for (int observedObject : observedObjects) {
+				if (this.observedObjectToRuleCount[observedObject] == 0) {
+					throw new InvalidValueException("Rule conditions do not jointly cover all objects that need to be kept covered.");
+				}
+				if (this.observedObjectToRuleCount[observedObject] == 1) {
+					this.observedObjectsCoveredOnceBitset[observedObject >>> 6] |= 1L << observedObject;
+				}
+			}
+			
+			this.evaluations = new double[ruleCount * ruleConditionsEvaluators.length];
+			this.validEvaluationsCounts = new int[ruleCount];
 		}
 		
-		//retrieves stored evaluation, possibly first calculating it
-		//assumes that evaluations are always calculated in order
-		double getEvaluation(int evaluationIndex) {
-			if (evaluationIndex < validEvaluationsCount) {
-				return evaluations[evaluationIndex];
-			}
-			if (evaluationIndex == validEvaluationsCount) {
-				evaluations[evaluationIndex] = ruleConditionsEvaluators[evaluationIndex].evaluate(ruleConditions);
-				validEvaluationsCount++;
-				return evaluations[evaluationIndex];
-			} else { //not subsequent evaluation is retrieved
-				throw new InvalidValueException("Not subsequent evaluation of rule conditions is being retrieved.");
+		//tells if rule with given index can be removed, i.e., if it does not cover any observed object covered by just one rule
+		boolean isRemovable(int rule) {
+			int[] wordIndices = this.ruleToWordIndices[rule];
+			long[] words = this.ruleToWords[rule];
+			
+			for (int i = 0; i < words.length; i++) {
+				if ((words[i] & this.observedObjectsCoveredOnceBitset[wordIndices[i]]) != 0L) {
+					return false;
+				}
 			}
+			return true;
 		}
 		
-		int getIndex() {
-			return this.index;
+		//decreases counts of rules covering observed objects covered by given removed rule;
+		//returns true if at least one observed object became covered by just one rule
+		boolean remove(int rule) {
+			int[] wordIndices = this.ruleToWordIndices[rule];
+			long[] words = this.ruleToWords[rule];
+			boolean observedObjectCoveredOnceAdded = false;
+			int observedObject;
+			long word;
+			
+			for (int i = 0; i < words.length; i++) {
+				word = words[i];
+				while (word != 0L) {
+					observedObject = (wordIndices[i] << 6) + Long.numberOfTrailingZeros(word);
+					if (--this.observedObjectToRuleCount[observedObject] == 1) {
+						this.observedObjectsCoveredOnceBitset[wordIndices[i]] |= 1L << observedObject;
+						observedObjectCoveredOnceAdded = true;
+					}
+					word &= word - 1; //clear lowest set bit
+				}
+			}
+			this.ruleToWordIndices[rule] = null; //free memory
+			this.ruleToWords[rule] = null;
+			
+			return observedObjectCoveredOnceAdded;
 		}
 		
-		RuleConditions getRuleConditions() {
-			return this.ruleConditions;
+		//retrieves stored evaluation, possibly first calculating it (together with all preceding evaluations)
+		double getEvaluation(int rule, int evaluationIndex) {
+			int offset = rule * ruleConditionsEvaluators.length;
+			while (this.validEvaluationsCounts[rule] <= evaluationIndex) {
+				this.evaluations[offset + this.validEvaluationsCounts[rule]] =
+						ruleConditionsEvaluators[this.validEvaluationsCounts[rule]].evaluate(this.rules.get(rule));
+				this.validEvaluationsCounts[rule]++;
+			}
+			return this.evaluations[offset + evaluationIndex];
 		}
 	}
 
@@ -115,119 +199,62 @@ public class EvaluationsAndOrderRuleConditionsSetPruner extends AbstractRuleCond
 		
 		//Inner naming convention: "rule" is used instead of "ruleConditions" and "index" is dropped, e.g., "object" is used instead of "objectIndex"
 		
-		//----- <auxiliary-variables>
-		IntSet observedObjects = indicesOfObjectsToKeepCovered; //assume new name for objects that need to be covered
-		List<RuleConditions> rules = ruleConditionsList; //assume new name for the list of rule conditions
-		int ruleCount;
-		//===== </auxiliary-variables>
-		
-		//----- <main-variables>
-		//informs which observed objects are covered by particular rules;
-		//e.g., if rules.get(i).getIndicesOfCoveredObjects() == (1, 5, 9, 12) and observedObjects == {1, 3, 5, 7}, then objectsObservedByRules.get(i) == {1, 5}
-		List<IntSet> ruleToObservedObjects = new ObjectArrayList<IntSet>(rules.size()); //when being filled, effectively indices of observed objects covered by rule are put from list to hash set
-		Int2IntMap observedObjectToRuleCount = new Int2IntOpenHashMap(observedObjects.size()); //maps index of observed object to count of rules covering that object
-		IntList observedObjectsCoveredOnce = new IntArrayList(); //list of indices of observed objects that are covered by just one rule
-		//===== </main-variables>
+		PruningState state = new PruningState(ruleConditionsList, indicesOfObjectsToKeepCovered); //validates coverage of observed objects
+		int ruleCount = ruleConditionsList.size();
 		
-		//----- <initialization>
-		for (int ruleIndex = 0; ruleIndex < rules.size(); ruleIndex++) {
-			ruleToObservedObjects.add(new IntOpenHashSet()); // initialize with an empty (hash) set
-		}
-		for (int observedObject : observedObjects) {
-			ruleCount = 0;
-			for (int ruleIndex = 0; ruleIndex < rules.size(); ruleIndex++) {
-				if (rules.get(ruleIndex).covers(observedObject)) { //TODO: make this check efficient (as rule conditions already know indices of covered objects)
-					observedObjectToRuleCount.put(observedObject, ++ruleCount); //increases rule count!
-					ruleToObservedObjects.get(ruleIndex).add(observedObject); //remember that currently considered rule covers currently considered observed object
-				}
-			}
-			if (ruleCount == 1) { //current observed object is covered by just one rule
-				observedObjectsCoveredOnce.add(observedObject);
+		//determine rules that may be removed (i.e., do not cover observed objects that are covered only once), in ascending order of their indices
+		IntList removableRules = new IntArrayList();
+		for (int rule = 0; rule < ruleCount; rule++) {
+			if (state.isRemovable(rule)) {
+				removableRules.add(rule);
 			}
 		}
-		//===== </initialization>
-		
-		//----- <validation>
-		if (observedObjectToRuleCount.size() != observedObjects.size()) {
-			throw new InvalidValueException("Rule conditions do not jointly cover all objects that need to be kept covered.");
-		}
-		//===== </validation>
-		
-		//determine rules that may be removed (i.e., do not cover observed objects that are covered only once)
-		List<IndexedRuleConditionsWithEvaluations> removableRules = findRemovableRules(ruleToObservedObjects, observedObjectsCoveredOnce, rules);
 		
 		//prune redundant rules?
 		if (removableRules.size() > 0) { //there is at least one rule that can be removed
+			boolean[] rulesToRemove = new boolean[ruleCount]; //indicates rules that should be removed at the end of this method
 			int worstRemovableRule; //auxiliary variable
-			IntList rulesToRemove = new IntArrayList(); //list of indices of rules that should be removed at the end of this method (sorted in ascending order)
 			
 			while (removableRules.size() > 0) {
-				worstRemovableRule = removeWorstRemovableRule(removableRules);
-				updateState(ruleToObservedObjects, observedObjectToRuleCount, observedObjectsCoveredOnce, worstRemovableRule);
-				retainRemovableRules(removableRules, ruleToObservedObjects, observedObjectsCoveredOnce); //check if remaining rules are still removable, and reduce list if necessary 
-				updateRulesToRemove(rulesToRemove, worstRemovableRule); //remember index of removed rule to remove that rule at the end of this method
+				worstRemovableRule = removeWorstRemovableRule(removableRules, state);
+				if (state.remove(worstRemovableRule)) { //some observed object became covered by just one rule
+					retainRemovableRules(removableRules, state); //check if remaining rules are still removable, and reduce list if necessary
+				}
+				rulesToRemove[worstRemovableRule] = true; //remember index of removed rule to remove that rule at the end of this method
 			} //while
 			
-			for (int i = rulesToRemove.size() - 1; i >= 0; i--) { //removed (prune) redundant rules, starting from the greatest index on the list
-				ruleConditionsList.remove(rulesToRemove.getInt(i));
-			}
-			
-			return ruleConditionsList; //return pruned rules
-		} else {
-			return ruleConditionsList; //return original rules (no rule could be removed)
-		}
-	}
-	
-	//constructs list or IndexedRuleConditionsWithEvaluations objects using rules that can be removed
-	List<IndexedRuleConditionsWithEvaluations> findRemovableRules(List<IntSet> ruleToObservedObjects, IntList observedObjectsCoveredOnce, List<RuleConditions> rules) {
-		List<IndexedRuleConditionsWithEvaluations> indexedRemovableRulesWithEvaluations = new ObjectArrayList<>();
-		
-		boolean ruleIsRemovable; //auxiliary variable
-		IntSet observedObjects;
-		int ruleCount = rules.size();
-
-		for (int ruleIndex = 0; ruleIndex < ruleCount; ruleIndex++) {
-			ruleIsRemovable = true;
-			observedObjects = ruleToObservedObjects.get(ruleIndex);
-			for (int observedObjectCoveredOnce : observedObjectsCoveredOnce) {
-				if (observedObjects.contains(observedObjectCoveredOnce)) { //only current rule covers some observed object
-					ruleIsRemovable = false;
-					break;
+			for (int rule = ruleCount - 1; rule >= 0; rule--) { //removed (prune) redundant rules, starting from the greatest index on the list
+				if (rulesToRemove[rule]) {
+					ruleConditionsList.remove(rule);
 				}
 			}
-			if (ruleIsRemovable) {
-				indexedRemovableRulesWithEvaluations.add(new IndexedRuleConditionsWithEvaluations(ruleIndex, rules.get(ruleIndex)));
-			}
 		}
-
-		return indexedRemovableRulesWithEvaluations;
+		
+		return ruleConditionsList; //return pruned rules or original rules (if no rule could be removed)
 	}
 	
 	//updates given list in place and returns the index of the worst removable rule (this index concerns list of all rules, not just given list)
 	//if there is more than one worst removable rule, removes the first of them on the list
-	int removeWorstRemovableRule(List<IndexedRuleConditionsWithEvaluations> removableRules) {
+	int removeWorstRemovableRule(IntList removableRules, PruningState state) {
 		int worstRemovableRulePosition = 0;
-		IndexedRuleConditionsWithEvaluations worstRemovableRule = removableRules.get(worstRemovableRulePosition);
 		
 		for (int i = 1; i < removableRules.size(); i++) {
-			if (isWorseRemovableRule(removableRules.get(i), worstRemovableRule)) {
-				worstRemovableRule = removableRules.get(i);
+			if (isWorseRemovableRule(removableRules.getInt(i), removableRules.getInt(worstRemovableRulePosition), state)) {
 				worstRemovableRulePosition = i;
 			}
 		}
-		removableRules.remove(worstRemovableRulePosition);
 		
-		return worstRemovableRule.getIndex();
+		return removableRules.removeInt(worstRemovableRulePosition);
 	}
 	
 	//tests if given removable rule is worse than given worst removable rule found so far 
-	boolean isWorseRemovableRule(IndexedRuleConditionsWithEvaluations removableRule, IndexedRuleConditionsWithEvaluations worstRemovableRule) {
+	boolean isWorseRemovableRule(int removableRule, int worstRemovableRule, PruningState state) {
 		double evaluation;
 		double worstEvaluation;
 		
 		for (int i = 0; i < ruleConditionsEvaluators.length; i++) {
-			evaluation = removableRule.getEvaluation(i);
-			worstEvaluation = worstRemovableRule.getEvaluation(i);
+			evaluation = state.getEvaluation(removableRule, i);
+			worstEvaluation = state.getEvaluation(worstRemovableRule, i);
 			
 			//TODO: refactor using RuleConditionsEvaluator.confront
 			if (evaluation < worstEvaluation) {
@@ -249,50 +276,19 @@ public class EvaluationsAndOrderRuleConditionsSetPruner extends AbstractRuleCond
 		
 		return false; //removable rule is equal w.r.t. each evaluator
 	}
-		
-	//updates passed objects in place
-	void updateState(List<IntSet> ruleToObservedObjects, Int2IntMap observedObjectToRuleCount, IntList observedObjectsCoveredOnce, int worstRemovableRule) {
-		int ruleCount;
-		//update observedObjectToRuleCount - decrease count for each object covered by removed rule
-		for (int observedObject : ruleToObservedObjects.get(worstRemovableRule)) {
-			ruleCount = observedObjectToRuleCount.get(observedObject);
-			observedObjectToRuleCount.put(observedObject, --ruleCount); //#2#
-			if (ruleCount == 1) {
-				observedObjectsCoveredOnce.add(observedObject); //#3#
-			}
-		}
-		ruleToObservedObjects.set(worstRemovableRule, null); //drop set of object indices (to free memory) //#1#
-	}
 	
-	//updates removableRules in place, retaining only those still removable
-	void retainRemovableRules(List<IndexedRuleConditionsWithEvaluations> removableRules, List<IntSet> ruleToObservedObjects, IntList observedObjectsCoveredOnce) {
-		IntSet observedObjects;
+	//updates removableRules in place, retaining only those still removable (and preserving their order)
+	void retainRemovableRules(IntList removableRules, PruningState state) {
+		int retainedCount = 0;
+		int rule;
 		
-		for (int i = removableRules.size() - 1; i >= 0; i--) { //iterate from the end of the list
-			observedObjects = ruleToObservedObjects.get(removableRules.get(i).getIndex());
-			
-			for (int observedObjectCoveredOnce : observedObjectsCoveredOnce) {
-				if (observedObjects.contains(observedObjectCoveredOnce)) { //only current rule covers some observed object
-					removableRules.remove(i); //TODO: try more efficient implementation?
-					break;
-				}
-			}
-		}
-	}
-	
-	//updates rules to remove in place, keeping ascending order of indices
-	void updateRulesToRemove(IntList rulesToRemove, int rule) { //TODO: extract to type (+ quick-sort-type insert) 
-		boolean inserted = false;
-		for (int i = 0; i < rulesToRemove.size(); i++) {
-			if (rule < rulesToRemove.getInt(i)) {
-				rulesToRemove.add(i, rule); //insert into proper list position
-				inserted = true;
-				break;
+		for (int i = 0; i < removableRules.size(); i++) {
+			rule = removableRules.getInt(i);
+			if (state.isRemovable(rule)) {
+				removableRules.set(retainedCount++, rule);
 			}
 		}
-		if (!inserted) {
-			rulesToRemove.add(rule); //append at the end of the list
-		}
+		removableRules.size(retainedCount);
 	}
 
 }
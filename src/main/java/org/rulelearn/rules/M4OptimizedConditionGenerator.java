@@ -16,6 +16,9 @@
 
 package org.rulelearn.rules;
 
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
 import org.rulelearn.core.InvalidSizeException;
 import org.rulelearn.core.InvalidValueException;
 import org.rulelearn.core.Precondition;
@@ -23,6 +26,7 @@ import org.rulelearn.data.AttributePreferenceType;
 import org.rulelearn.data.EvaluationAttribute;
 import org.rulelearn.data.EvaluationAttributeWithContext;
 import org.rulelearn.data.InformationTable;
+import org.rulelearn.data.SortedEvaluationsIndex;
 import org.rulelearn.data.Table;
 import org.rulelearn.measures.Measure.MeasureType;
 import org.rulelearn.rules.MonotonicConditionAdditionEvaluator.MonotonicityType;
@@ -218,6 +222,71 @@ public class M4OptimizedConditionGenerator extends AbstractConditionGeneratorWit
 	 */
 	int firstMonotonicityTypeEvaluatorsCount;
 	
+	/**
+	 * Maximal number of active condition attributes scanned sequentially by a single task, when attributes are scanned in parallel.
+	 */
+	static final int ATTRIBUTES_PER_TASK = 4;
+	
+	/**
+	 * Fork-join pool used to scan active condition attributes in parallel. Equals to {@code null} if attributes are scanned sequentially.
+	 */
+	ForkJoinPool forkJoinPool = null;
+	
+	/**
+	 * Index of ranks of evaluations on active condition attributes of a learning information table. Used (instead of comparing evaluations)
+	 * when searching for conditions concerning rule conditions built for that very information table. Equals to {@code null} if no index is used.
+	 */
+	SortedEvaluationsIndex sortedEvaluationsIndex = null;
+	
+	/**
+	 * Task searching for the best condition among conditions concerning a range of active condition attributes.
+	 * Uses its own best and candidate conditions, so it does not share any mutable state with other tasks.
+	 * Best conditions found by subtasks are merged in the order of attributes, so that a condition concerning an attribute with lower index
+	 * wins a tie - just like when attributes are scanned sequentially.
+	 *
+	 * @author Jerzy Błaszczyński (<a href="mailto:jurek.blaszczynski@cs.put.poznan.pl">jurek.blaszczynski@cs.put.poznan.pl</a>)
+	 * @author Marcin Szeląg (<a href="mailto:marcin.szelag@cs.put.poznan.pl">marcin.szelag@cs.put.poznan.pl</a>)
+	 */
+	@SuppressWarnings("serial")
+	final class BestConditionSearchTask extends RecursiveTask<ConditionWithEvaluations> {
+		final IntList consideredObjects;
+		final RuleConditions ruleConditions;
+		final int fromLocalActiveConditionAttributeIndex;
+		final int toLocalActiveConditionAttributeIndex;
+		
+		BestConditionSearchTask(IntList consideredObjects, RuleConditions ruleConditions, int fromLocalActiveConditionAttributeIndex, int toLocalActiveConditionAttributeIndex) {
+			this.consideredObjects = consideredObjects;
+			this.ruleConditions = ruleConditions;
+			this.fromLocalActiveConditionAttributeIndex = fromLocalActiveConditionAttributeIndex;
+			this.toLocalActiveConditionAttributeIndex = toLocalActiveConditionAttributeIndex;
+		}
+		
+		@Override
+		protected ConditionWithEvaluations compute() {
+			if (toLocalActiveConditionAttributeIndex - fromLocalActiveConditionAttributeIndex <= ATTRIBUTES_PER_TASK) {
+				ConditionWithEvaluations bestConditionWithEvaluations = new ConditionWithEvaluations(ruleConditions);
+				searchForBestCondition(consideredObjects, ruleConditions, fromLocalActiveConditionAttributeIndex, toLocalActiveConditionAttributeIndex,
+						bestConditionWithEvaluations, new ConditionWithEvaluations(ruleConditions));
+				return bestConditionWithEvaluations;
+			} else {
+				int middleLocalActiveConditionAttributeIndex = (fromLocalActiveConditionAttributeIndex + toLocalActiveConditionAttributeIndex) >>> 1;
+				BestConditionSearchTask lowerAttributesTask = new BestConditionSearchTask(consideredObjects, ruleConditions, fromLocalActiveConditionAttributeIndex, middleLocalActiveConditionAttributeIndex);
+				BestConditionSearchTask higherAttributesTask = new BestConditionSearchTask(consideredObjects, ruleConditions, middleLocalActiveConditionAttributeIndex, toLocalActiveConditionAttributeIndex);
+				higherAttributesTask.fork();
+				ConditionWithEvaluations lowerAttributesBestCondition = lowerAttributesTask.compute();
+				ConditionWithEvaluations higherAttributesBestCondition = higherAttributesTask.join();
+				
+				//condition concerning attribute with higher index has to be strictly better to win
+				if (higherAttributesBestCondition.condition != null && (lowerAttributesBestCondition.condition == null ||
+						compareCandidateAndBestCondition(higherAttributesBestCondition, lowerAttributesBestCondition, conditionAdditionEvaluators.length) == ConditionComparisonResult.CANDIDATE_CONDITION_IS_BETTER)) {
+					return higherAttributesBestCondition;
+				} else {
+					return lowerAttributesBestCondition;
+				}
+			}
+		}
+	}
+	
 	/**
 	 * Constructor for this condition generator. Stores given monotonic condition addition evaluators for use in {@link #getBestCondition(IntList, RuleConditions)}.
 	 * 
@@ -257,9 +326,71 @@ public class M4OptimizedConditionGenerator extends AbstractConditionGeneratorWit
 		}
 	}
 	
+	/**
+	 * Constructor for this condition generator, scanning active condition attributes in parallel, using given fork-join pool.
+	 * Stores given monotonic condition addition evaluators for use in {@link #getBestCondition(IntList, RuleConditions)}.
+	 * Conditions returned by {@link #getBestCondition(IntList, RuleConditions)} are the same as if attributes were scanned sequentially.
+	 * 
+	 * @param conditionAdditionEvaluators array with monotonic condition addition evaluators used lexicographically
+	 * @param forkJoinPool fork-join pool used to scan active condition attributes in parallel
+	 * 
+	 * @throws NullPointerException if given array or any of its elements is {@code null}, or if given fork-join pool is {@code null}
+	 * @throws NullPointerException if type of any condition addition evaluator is {@code null}
+	 * @throws NullPointerException if monotonicity type of any condition addition evaluator is {@code null}
+	 * @throws InvalidSizeException if given array is empty
+	 * @throws InvalidValueException if more than one switch of monotonicity type occurred when iterating from the first to the last of given monotonic condition addition evaluators
+	 */
+	public M4OptimizedConditionGenerator(MonotonicConditionAdditionEvaluator[] conditionAdditionEvaluators, ForkJoinPool forkJoinPool) {
+		this(conditionAdditionEvaluators);
+		this.forkJoinPool = Precondition.notNull(forkJoinPool, "Fork-join pool used by m4-optimized condition generator is null.");
+	}
+	
+	/**
+	 * Constructor for this condition generator, using given index of sorted evaluations whenever searching for conditions to be added to rule conditions
+	 * built for the information table for which that index has been built. Such index can be built once, and then shared by all rule conditions builders
+	 * employing this generator, e.g., during one run of {@link VCDomLEM}.
+	 * Stores given monotonic condition addition evaluators for use in {@link #getBestCondition(IntList, RuleConditions)}.
+	 * Conditions returned by {@link #getBestCondition(IntList, RuleConditions)} are the same as if no index was used.
+	 * 
+	 * @param conditionAdditionEvaluators array with monotonic condition addition evaluators used lexicographically
+	 * @param sortedEvaluationsIndex index of ranks of evaluations on active condition attributes of a learning information table
+	 * 
+	 * @throws NullPointerException if given array or any of its elements is {@code null}, or if given index is {@code null}
+	 * @throws NullPointerException if type of any condition addition evaluator is {@code null}
+	 * @throws NullPointerException if monotonicity type of any condition addition evaluator is {@code null}
+	 * @throws InvalidSizeException if given array is empty
+	 * @throws InvalidValueException if more than one switch of monotonicity type occurred when iterating from the first to the last of given monotonic condition addition evaluators
+	 */
+	public M4OptimizedConditionGenerator(MonotonicConditionAdditionEvaluator[] conditionAdditionEvaluators, SortedEvaluationsIndex sortedEvaluationsIndex) {
+		this(conditionAdditionEvaluators);
+		this.sortedEvaluationsIndex = Precondition.notNull(sortedEvaluationsIndex, "Sorted evaluations index used by m4-optimized condition generator is null.");
+	}
+	
+	/**
+	 * Constructor for this condition generator, scanning active condition attributes in parallel, using given fork-join pool,
+	 * and using given index of sorted evaluations whenever searching for conditions to be added to rule conditions
+	 * built for the information table for which that index has been built.
+	 * Stores given monotonic condition addition evaluators for use in {@link #getBestCondition(IntList, RuleConditions)}.
+	 * Conditions returned by {@link #getBestCondition(IntList, RuleConditions)} are the same as if attributes were scanned sequentially, and no index was used.
+	 * 
+	 * @param conditionAdditionEvaluators array with monotonic condition addition evaluators used lexicographically
+	 * @param forkJoinPool fork-join pool used to scan active condition attributes in parallel
+	 * @param sortedEvaluationsIndex index of ranks of evaluations on active condition attributes of a learning information table
+	 * 
+	 * @throws NullPointerException if given array or any of its elements is {@code null}, or if given fork-join pool or index is {@code null}
+	 * @throws NullPointerException if type of any condition addition evaluator is {@code null}
+	 * @throws NullPointerException if monotonicity type of any condition addition evaluator is {@code null}
+	 * @throws InvalidSizeException if given array is empty
+	 * @throws InvalidValueException if more than one switch of monotonicity type occurred when iterating from the first to the last of given monotonic condition addition evaluators
+	 */
+	public M4OptimizedConditionGenerator(MonotonicConditionAdditionEvaluator[] conditionAdditionEvaluators, ForkJoinPool forkJoinPool, SortedEvaluationsIndex sortedEvaluationsIndex) {
+		this(conditionAdditionEvaluators, forkJoinPool);
+		this.sortedEvaluationsIndex = Precondition.notNull(sortedEvaluationsIndex, "Sorted evaluations index used by m4-optimized condition generator is null.");
+	}
+	
 	/**
 	 * {@inheritDoc}
-	 * During search for the best condition, scans all active condition attributes. For each such an attribute (for one column of considered learning information able),
+	 * During search for the best condition, scans all active condition attributes (in parallel, if this generator has been constructed with a fork-join pool). For each such an attribute (for one column of considered learning information able),
 	 * optimizes scanning of values of considered objects by skipping not relevant values.
 	 * During scanning of values in one column, elementary conditions are lexicographically evaluated by the condition addition evaluators that are set in constructor.
 	 * Moreover, it is assumed that evaluations of elementary conditions are monotonically dependent on the preference order of an attribute.
@@ -277,33 +408,48 @@ public class M4OptimizedConditionGenerator extends AbstractConditionGeneratorWit
 		Precondition.notNull(consideredObjects, "List of objects considered in m4-optimized condition generator is null.");
 		Precondition.notNull(ruleConditions, "Rule conditions considered in m4-optimized condition generator are null.");
 		
-		ConditionWithEvaluations bestConditionWithEvaluations = new ConditionWithEvaluations(ruleConditions);
-		ConditionWithEvaluations candidateConditionWithEvaluations = new ConditionWithEvaluations(ruleConditions);
+		int activeConditionAttributesCount = ruleConditions.getLearningInformationTable().getActiveConditionAttributeFields().getNumberOfAttributes();
+		ConditionWithEvaluations bestConditionWithEvaluations;
+		
+		if (this.forkJoinPool != null && activeConditionAttributesCount > ATTRIBUTES_PER_TASK) {
+			bestConditionWithEvaluations = this.forkJoinPool.invoke(new BestConditionSearchTask(consideredObjects, ruleConditions, 0, activeConditionAttributesCount));
+		} else {
+			bestConditionWithEvaluations = new ConditionWithEvaluations(ruleConditions);
+			searchForBestCondition(consideredObjects, ruleConditions, 0, activeConditionAttributesCount, bestConditionWithEvaluations, new ConditionWithEvaluations(ruleConditions));
+		}
 		
+		if (bestConditionWithEvaluations.condition == null) {
+			throw new ElementaryConditionNotFoundException("Could not find any new elementary conditon to be added to constructed rule conditions: "+ruleConditions);
+		} else {
+			return bestConditionWithEvaluations.condition;
+		}
+	}
+	
+	//can update bestConditionWithEvaluations; scans active condition attributes with local indices from the given range
+	void searchForBestCondition(IntList consideredObjects, RuleConditions ruleConditions, int fromLocalActiveConditionAttributeIndex, int toLocalActiveConditionAttributeIndex,
+			ConditionWithEvaluations bestConditionWithEvaluations, ConditionWithEvaluations candidateConditionWithEvaluations) {
 		InformationTable learningInformationTable = ruleConditions.getLearningInformationTable();
 		EvaluationAttribute[] activeConditionAttributes = learningInformationTable.getActiveConditionAttributeFields().getAttributes(true);
+		SortedEvaluationsIndex usedSortedEvaluationsIndex = (this.sortedEvaluationsIndex != null && this.sortedEvaluationsIndex.getInformationTable() == learningInformationTable) ?
+				this.sortedEvaluationsIndex : null; //index can be used only for the information table it has been built for
 		
 		int globalAttributeIndex;
 		
 		//go through active condition attributes
-		for (int localActiveConditionAttributeIndex = 0; localActiveConditionAttributeIndex < activeConditionAttributes.length; localActiveConditionAttributeIndex++) {
+		for (int localActiveConditionAttributeIndex = fromLocalActiveConditionAttributeIndex; localActiveConditionAttributeIndex < toLocalActiveConditionAttributeIndex; localActiveConditionAttributeIndex++) {
 			globalAttributeIndex = learningInformationTable.translateLocalActiveConditionAttributeIndex2GlobalAttributeIndex(localActiveConditionAttributeIndex);
 			//current attribute should be considered
 			if (!ruleConditions.containsConditionForAttribute(globalAttributeIndex)) { //this should be safe for all attributes that do not have weak order in their value set
 				//optimization is possible for current attribute - it is a criterion whose evaluations can be linearly ordered
 				if (activeConditionAttributes[localActiveConditionAttributeIndex].getPreferenceType() != AttributePreferenceType.NONE && activeConditionAttributes[localActiveConditionAttributeIndex].getValueType() instanceof SimpleField) { //or KnownSimpleField
-					searchForBestConditionForOptimizableAttribute(consideredObjects, ruleConditions, localActiveConditionAttributeIndex, globalAttributeIndex, bestConditionWithEvaluations, candidateConditionWithEvaluations); //check criterion, possibly updating bestCondition
+					searchForBestConditionForOptimizableAttribute(consideredObjects, ruleConditions,
+							(usedSortedEvaluationsIndex != null && usedSortedEvaluationsIndex.isIndexed(localActiveConditionAttributeIndex)) ? usedSortedEvaluationsIndex : null, //compare ranks instead of evaluations, if possible
+							localActiveConditionAttributeIndex, globalAttributeIndex, bestConditionWithEvaluations, candidateConditionWithEvaluations); //check criterion, possibly updating bestCondition
 				} else { //proceed without optimization
 					searchForBestConditionForNonOptimizableAttribute(consideredObjects, ruleConditions, localActiveConditionAttributeIndex, globalAttributeIndex, bestConditionWithEvaluations, candidateConditionWithEvaluations); //check criterion, possibly updating bestCondition
 				}
 			} //if
 		} //for
-		
-		if (bestConditionWithEvaluations.condition == null) {
-			throw new ElementaryConditionNotFoundException("Could not find any new elementary conditon to be added to constructed rule conditions: "+ruleConditions);
-		} else {
-			return bestConditionWithEvaluations.condition;
-		}
 	}
 	
 	/**
@@ -329,8 +475,9 @@ public class M4OptimizedConditionGenerator extends AbstractConditionGeneratorWit
 		}
 	}
 	
-	//can update bestConditionWithEvaluations
-	void searchForBestConditionForOptimizableAttribute(IntList consideredObjects, RuleConditions ruleConditions, int localActiveConditionAttributeIndex, int globalAttributeIndex,
+	//can update bestConditionWithEvaluations; if given index is not null, compares ranks of evaluations taken from that index instead of evaluations,
+	//and checks less extreme limiting evaluations in sorted order, each distinct evaluation of considered objects once
+	void searchForBestConditionForOptimizableAttribute(IntList consideredObjects, RuleConditions ruleConditions, SortedEvaluationsIndex index, int localActiveConditionAttributeIndex, int globalAttributeIndex,
 			ConditionWithEvaluations bestConditionWithEvaluations, ConditionWithEvaluations candidateConditionWithEvaluations) {
 		MonotonicityType firstEvaluatorMonotonicityType = ((MonotonicConditionAdditionEvaluator[])this.conditionAdditionEvaluators)[0].getMonotonictyType(); //casting should work, as constructor parameter is of type MonotonicConditionAdditionEvaluator[])
 		
@@ -340,49 +487,60 @@ public class M4OptimizedConditionGenerator extends AbstractConditionGeneratorWit
 		EvaluationField objectEvaluation;
 		KnownSimpleField extremeLimitingEvaluation = null; //least/most (depending on the type of the first condition addition evaluator) restrictive limiting evaluation found so far
 		KnownSimpleField candidateLimitingEvaluation; //current limiting evaluation to be compared with the extreme one
-		ConditionLimitingEvaluationInterval conditionLimitingEvaluationInterval;
+		ConditionLimitingEvaluationInterval conditionLimitingEvaluationInterval = null;
 		Condition<EvaluationField> candidateCondition = null;
 
 		int consideredObjectsCount = consideredObjects.size();
 		int consideredObjectsSuccessfullIndex = -1; //index of consideredObjects corresponding to the first non-missing evaluation
-		int compareToMultiplier;
+		
+		//calculate multiplier used to compare two evaluations on the considered attribute; it takes into account both rule's semantics and attribute's preference type
+		int compareToMultiplier = calculateCompareToMultiplier(activeConditionAttribute, ruleConditions);
+		
+		int objectRank;
+		int extremeLimitingRank = SortedEvaluationsIndex.MISSING_EVALUATION_RANK; //rank of extreme limiting evaluation, if index is used
+		int rankStep = 0; //change of rank when moving from more to less extreme limiting evaluation, if index is used
+		boolean[] consideredRanks = null; //tells, for each rank of a distinct evaluation, if any considered object has evaluation with that rank, if index is used
 		
 		ConditionComparisonResult candidateVSBestConditionComparisonResult;
 		boolean checkLessExtremeEvaluations;
 		
 		boolean missingValueConditionTested = shouldSkipMissingValue(activeConditionAttribute, ruleConditions.getRuleType());
 		
-		//establish if there is at least one non-missing evaluation for considered criterion, among considered objects
-		for (int i = 0; i < consideredObjectsCount; i++) {
-			objectEvaluation = data.getField(consideredObjects.getInt(i), localActiveConditionAttributeIndex);
-			if (objectEvaluation instanceof KnownSimpleField) { //non-missing evaluation found
-				extremeLimitingEvaluation = (KnownSimpleField)objectEvaluation;
-				consideredObjectsSuccessfullIndex = i; //remember last considered index, so next search can start from the following index
-				break;
-			} else {
-				if (!missingValueConditionTested) {
-					testBestCondition(ruleConditions, activeConditionAttribute, objectEvaluation, globalAttributeIndex, bestConditionWithEvaluations, candidateConditionWithEvaluations); //update best condition, if necessary
-					missingValueConditionTested = true;
+		if (index != null) {
+			//mark ranks of evaluations of considered objects
+			consideredRanks = new boolean[index.getNumberOfDistinctEvaluations(localActiveConditionAttributeIndex)];
+			for (int consideredObjectIndex : consideredObjects) {
+				objectRank = index.getRank(consideredObjectIndex, localActiveConditionAttributeIndex);
+				if (objectRank != SortedEvaluationsIndex.MISSING_EVALUATION_RANK) {
+					consideredRanks[objectRank] = true;
+				} else {
+					if (!missingValueConditionTested) {
+						testBestCondition(ruleConditions, activeConditionAttribute, data.getField(consideredObjectIndex, localActiveConditionAttributeIndex), globalAttributeIndex,
+								bestConditionWithEvaluations, candidateConditionWithEvaluations); //update best condition, if necessary
+						missingValueConditionTested = true;
+					}
 				}
 			}
-		}
-		
-		if (consideredObjectsSuccessfullIndex >= 0) {
-			conditionLimitingEvaluationInterval = (firstEvaluatorMonotonicityType == MonotonicityType.IMPROVES_WITH_NUMBER_OF_COVERED_OBJECTS ? new GeneralizingConditionLimitingEvaluationInterval() : new RestrictingConditionLimitingEvaluationInterval());
 			
-			//first, calculate multiplier used to compare two evaluations on the considered attribute; it takes into account both rule's semantics and attribute's preference type
-			compareToMultiplier = calculateCompareToMultiplier(activeConditionAttribute, ruleConditions); 
+			//if compareToMultiplier is positive, higher rank corresponds to more restrictive limiting evaluation
+			rankStep = (firstEvaluatorMonotonicityType == MonotonicityType.IMPROVES_WITH_NUMBER_OF_COVERED_OBJECTS ? compareToMultiplier : -compareToMultiplier);
 			
-			//second, iterate through all considered objects to calculate least/most restrictive limiting evaluation of a condition
-			//taking into account rule's semantics and attribute's preference type
-			for (int i = consideredObjectsSuccessfullIndex + 1; i < consideredObjectsCount; i++) { //continue loop at next index
+			//least/most restrictive limiting evaluation is the first marked one when sweeping ranks from the most/least restrictive end
+			for (int rank = (rankStep > 0 ? 0 : consideredRanks.length - 1); rank >= 0 && rank < consideredRanks.length; rank += rankStep) {
+				if (consideredRanks[rank]) {
+					extremeLimitingRank = rank;
+					extremeLimitingEvaluation = index.getDistinctEvaluation(localActiveConditionAttributeIndex, rank);
+					break;
+				}
+			}
+		} else {
+			//establish if there is at least one non-missing evaluation for considered criterion, among considered objects
+			for (int i = 0; i < consideredObjectsCount; i++) {
 				objectEvaluation = data.getField(consideredObjects.getInt(i), localActiveConditionAttributeIndex);
 				if (objectEvaluation instanceof KnownSimpleField) { //non-missing evaluation found
-					candidateLimitingEvaluation = (KnownSimpleField)objectEvaluation;
-					
-					if (conditionLimitingEvaluationInterval.isMoreExtremeEvaluation(candidateLimitingEvaluation, extremeLimitingEvaluation, compareToMultiplier)) {
-						extremeLimitingEvaluation = candidateLimitingEvaluation;
-					}
+					extremeLimitingEvaluation = (KnownSimpleField)objectEvaluation;
+					consideredObjectsSuccessfullIndex = i; //remember last considered index, so next search can start from the following index
+					break;
 				} else {
 					if (!missingValueConditionTested) {
 						testBestCondition(ruleConditions, activeConditionAttribute, objectEvaluation, globalAttributeIndex, bestConditionWithEvaluations, candidateConditionWithEvaluations); //update best condition, if necessary
@@ -391,9 +549,33 @@ public class M4OptimizedConditionGenerator extends AbstractConditionGeneratorWit
 				}
 			}
 			
-			//initialize limits
-			conditionLimitingEvaluationInterval.initialize(extremeLimitingEvaluation, null);
-			
+			if (consideredObjectsSuccessfullIndex >= 0) {
+				conditionLimitingEvaluationInterval = (firstEvaluatorMonotonicityType == MonotonicityType.IMPROVES_WITH_NUMBER_OF_COVERED_OBJECTS ? new GeneralizingConditionLimitingEvaluationInterval() : new RestrictingConditionLimitingEvaluationInterval());
+				
+				//iterate through all considered objects to calculate least/most restrictive limiting evaluation of a condition
+				//taking into account rule's semantics and attribute's preference type
+				for (int i = consideredObjectsSuccessfullIndex + 1; i < consideredObjectsCount; i++) { //continue loop at next index
+					objectEvaluation = data.getField(consideredObjects.getInt(i), localActiveConditionAttributeIndex);
+					if (objectEvaluation instanceof KnownSimpleField) { //non-missing evaluation found
+						candidateLimitingEvaluation = (KnownSimpleField)objectEvaluation;
+						
+						if (conditionLimitingEvaluationInterval.isMoreExtremeEvaluation(candidateLimitingEvaluation, extremeLimitingEvaluation, compareToMultiplier)) {
+							extremeLimitingEvaluation = candidateLimitingEvaluation;
+						}
+					} else {
+						if (!missingValueConditionTested) {
+							testBestCondition(ruleConditions, activeConditionAttribute, objectEvaluation, globalAttributeIndex, bestConditionWithEvaluations, candidateConditionWithEvaluations); //update best condition, if necessary
+							missingValueConditionTested = true;
+						}
+					}
+				}
+				
+				//initialize limits
+				conditionLimitingEvaluationInterval.initialize(extremeLimitingEvaluation, null);
+			}
+		}
+		
+		if (extremeLimitingEvaluation != null) {
 			//at this point, least/most restrictive limiting evaluation among considered objects, for considered criterion, has been calculated, so one can construct candidate condition employing that limiting evaluation
 			candidateCondition = constructCondition(ruleConditions.getRuleType(), ruleConditions.getRuleSemantics(), activeConditionAttribute, extremeLimitingEvaluation, globalAttributeIndex);
 			candidateConditionWithEvaluations.setCondition(candidateCondition); //set extreme condition
@@ -420,21 +602,31 @@ public class M4OptimizedConditionGenerator extends AbstractConditionGeneratorWit
 			}
 			
 			if (checkLessExtremeEvaluations) {
-				for (int consideredObjectIndex : consideredObjects) {
-					objectEvaluation = data.getField(consideredObjectIndex, localActiveConditionAttributeIndex);
-					
-					if (objectEvaluation instanceof KnownSimpleField) { //non-missing evaluation found
-						candidateLimitingEvaluation = (KnownSimpleField)objectEvaluation;
-						
-						//check if current evaluation is strictly inside current range of interest
-						if (conditionLimitingEvaluationInterval.includes(candidateLimitingEvaluation, compareToMultiplier)) {
-							conditionLimitingEvaluationInterval.update(
-									testBestCondition(ruleConditions, activeConditionAttribute, candidateLimitingEvaluation, globalAttributeIndex, bestConditionWithEvaluations, candidateConditionWithEvaluations), //update best condition, if necessary
-									candidateLimitingEvaluation); //update interval
+				if (index != null) {
+					//sweep less and less extreme limiting evaluations; once a condition is worse w.r.t. the first evaluator(s), so are all the conditions with less extreme limiting evaluations
+					for (int rank = extremeLimitingRank + rankStep; rank >= 0 && rank < consideredRanks.length; rank += rankStep) {
+						if (consideredRanks[rank] && testBestCondition(ruleConditions, activeConditionAttribute, index.getDistinctEvaluation(localActiveConditionAttributeIndex, rank), globalAttributeIndex,
+								bestConditionWithEvaluations, candidateConditionWithEvaluations) == ConditionComparisonResult.CANDIDATE_CONDITION_IS_WORSE_WRT_FIRST_EVALUATORS) { //update best condition, if necessary
+							break;
 						}
-					} //if
-					//at this point it is not necessary to handle missing value, as it had to be already handled above
-				} //for
+					}
+				} else {
+					for (int consideredObjectIndex : consideredObjects) {
+						objectEvaluation = data.getField(consideredObjectIndex, localActiveConditionAttributeIndex);
+						
+						if (objectEvaluation instanceof KnownSimpleField) { //non-missing evaluation found
+							candidateLimitingEvaluation = (KnownSimpleField)objectEvaluation;
+							
+							//check if current evaluation is strictly inside current range of interest
+							if (conditionLimitingEvaluationInterval.includes(candidateLimitingEvaluation, compareToMultiplier)) {
+								conditionLimitingEvaluationInterval.update(
+										testBestCondition(ruleConditions, activeConditionAttribute, candidateLimitingEvaluation, globalAttributeIndex, bestConditionWithEvaluations, candidateConditionWithEvaluations), //update best condition, if necessary
+										candidateLimitingEvaluation); //update interval
+							}
+						} //if
+						//at this point it is not necessary to handle missing value, as it had to be already handled above
+					} //for
+				}
 			} //if
 		} //if
 	}
@@ -499,15 +499,9 @@ public class RuleCharacteristics {
 	 * In order to forget stored value of this rule confirmation measure, one can invoke this method with {@link #UNKNOWN_DOUBLE_VALUE}.
 	 * 
 	 * @param lConfirmation value of rule confirmation measure $l$ calculated for a decision rule in the context of an information table
-	 * @throws InvalidValueException if given value of rule confirmation measure 'l' is greater than 1
 	 */
 	public void setLConfirmation(double lConfirmation) {
-		if (lConfirmation != UNKNOWN_DOUBLE_VALUE) { //do validation
-			if (lConfirmation > 1) {
-				throw new InvalidValueException("Value of rule confirmation measure 'l' cannot exceed 1.");
-			}
-		}
-		this.lConfirmation = lConfirmation;
+		this.lConfirmation = lConfirmation; //no additional validation possible, as logarithm of likelihood ratio is unbounded
 	}
 
 	/**
@@ -18,12 +18,15 @@ package org.rulelearn.rules;
 
 import static org.rulelearn.core.Precondition.notNull;
 
+import java.util.Arrays;
 import java.util.List;
 
 import org.rulelearn.approximations.ApproximatedSet;
+import org.rulelearn.core.IntBitsetSortedSet;
 import org.rulelearn.core.InvalidTypeException;
 import org.rulelearn.core.Precondition;
 import org.rulelearn.core.TernaryLogicValue;
+import org.rulelearn.data.ColumnarTable;
 import org.rulelearn.data.InformationTable;
 import org.rulelearn.types.CompositeField;
 import org.rulelearn.types.EvaluationField;
@@ -104,6 +107,78 @@ public class RuleConditions {
 	 * This field is initialized with all zeros.
 	 */
 	int[] notCoveringConditionsCounts;
+	
+	/**
+	 * Bitset of objects from learning information table covered by these rule conditions. Bit {@code objectIndex} (stored in word {@code objectIndex >>> 6})
+	 * is set iff {@code notCoveringConditionsCounts[objectIndex] == 0}.
+	 */
+	long[] coveredObjectsBitset;
+	
+	/**
+	 * Bitset of objects from learning information table not covered by exactly one condition of these rule conditions. Bit {@code objectIndex}
+	 * is set iff {@code notCoveringConditionsCounts[objectIndex] == 1}. Such objects become covered when the only condition that does not cover them is dropped.
+	 */
+	long[] notCoveredOnceObjectsBitset;
+	
+	/**
+	 * Coverage bitsets of subsequent conditions from {@link #conditions}. Bit {@code objectIndex} of the bitset of a condition is set iff that condition
+	 * is satisfied by the object with that index.
+	 */
+	ObjectList<long[]> conditionsCoverageBitsets;
+	
+	/**
+	 * Pool of coverage bitsets of already removed conditions, reused when subsequent conditions are added.
+	 */
+	ObjectList<long[]> coverageBitsetsPool;
+	
+	/**
+	 * Bitsets of positive, approximation, neutral objects, and objects that can be covered. Calculated on first use, and published at once,
+	 * so counting methods can be safely invoked concurrently (e.g., during parallel scan of attributes when generating the best condition).
+	 */
+	volatile ObjectSetsBitsets objectSetsBitsets;
+	
+	/**
+	 * Immutable holder of bitsets of positive, approximation, neutral objects, and objects that can be covered.
+	 */
+	static final class ObjectSetsBitsets {
+		/**
+		 * Bitset of {@link RuleConditions#indicesOfPositiveObjects positive objects}.
+		 */
+		final long[] positiveObjectsBitset;
+		/**
+		 * Bitset of {@link RuleConditions#indicesOfApproximationObjects approximation objects}.
+		 */
+		final long[] approximationObjectsBitset;
+		/**
+		 * Bitset of {@link RuleConditions#indicesOfNeutralObjects neutral objects}.
+		 */
+		final long[] neutralObjectsBitset;
+		/**
+		 * Bitset of {@link RuleConditions#indicesOfObjectsThatCanBeCovered objects that can be covered}.
+		 */
+		final long[] objectsThatCanBeCoveredBitset;
+		
+		/**
+		 * Constructs this holder, calculating bitsets of objects of given rule conditions.
+		 * 
+		 * @param ruleConditions rule conditions whose sets of objects are translated to bitsets
+		 */
+		ObjectSetsBitsets(RuleConditions ruleConditions) {
+			int objectsCount = ruleConditions.learningInformationTable.getNumberOfObjects();
+			
+			this.positiveObjectsBitset = toBitset(ruleConditions.indicesOfPositiveObjects, objectsCount);
+			this.approximationObjectsBitset = toBitset(ruleConditions.indicesOfApproximationObjects, objectsCount);
+			this.neutralObjectsBitset = toBitset(ruleConditions.indicesOfNeutralObjects, objectsCount);
+			this.objectsThatCanBeCoveredBitset = toBitset(ruleConditions.indicesOfObjectsThatCanBeCovered, objectsCount);
+		}
+	}
+	
+	/**
+	 * Bitset of indices of attributes involved in at least one of elementary conditions from {@link #conditions}. Bit {@code attributeIndex}
+	 * (stored in word {@code attributeIndex >>> 6}) is set iff {@link #attributeIndex2ConditionIndices} contains given attribute index.
+	 * Grows when a condition for an attribute with a greater index is added.
+	 */
+	long[] attributesBitset = new long[1];
 
 	/**
 	 * Type of constructed decision rule. See {@link RuleType}.
@@ -135,13 +210,24 @@ public class RuleConditions {
 		 */
 		public int next() {
 			int objectsCount = learningInformationTable.getNumberOfObjects();
-			for (int i = lastCoveredObjectIndex + 1; i < objectsCount; i++) {
-				if (covers(i)) {
-					lastCoveredObjectIndex = i;
-					return lastCoveredObjectIndex;
+			int objectIndex = lastCoveredObjectIndex + 1;
+			
+			if (objectIndex >= objectsCount) {
+				return -1;
+			}
+			
+			int wordIndex = objectIndex >>> 6;
+			long word = coveredObjectsBitset[wordIndex] & (-1L << objectIndex); //skip bits of already returned objects
+			
+			while (word == 0L) {
+				if (++wordIndex == coveredObjectsBitset.length) {
+					return -1;
 				}
+				word = coveredObjectsBitset[wordIndex];
 			}
-			return -1;
+			
+			lastCoveredObjectIndex = (wordIndex << 6) + Long.numberOfTrailingZeros(word);
+			return lastCoveredObjectIndex;
 		}
 	}
 	
@@ -158,6 +244,80 @@ public class RuleConditions {
 		}
 	}
 	
+	/**
+	 * Initializes {@link #coveredObjectsBitset} (all objects are covered), and collections of coverage bitsets of conditions.
+	 * Assumes that {@link #learningInformationTable} is already set.
+	 */
+	private void initializeBitsets() {
+		int objectsCount = this.learningInformationTable.getNumberOfObjects();
+		
+		this.coveredObjectsBitset = new long[(objectsCount + 63) >>> 6];
+		for (int objectIndex = 0; objectIndex < objectsCount; objectIndex++) {
+			this.coveredObjectsBitset[objectIndex >>> 6] |= 1L << objectIndex;
+		}
+		
+		this.notCoveredOnceObjectsBitset = new long[this.coveredObjectsBitset.length];
+		
+		this.conditionsCoverageBitsets = new ObjectArrayList<long[]>();
+		this.coverageBitsetsPool = new ObjectArrayList<long[]>();
+	}
+	
+	/**
+	 * Gets bitsets of positive, approximation, neutral objects, and objects that can be covered, calculating them if they have not been calculated yet.
+	 * If several threads calculate bitsets at the same time, each of them gets complete and equal bitsets.
+	 * 
+	 * @return bitsets of positive, approximation, neutral objects, and objects that can be covered
+	 */
+	private ObjectSetsBitsets getObjectSetsBitsets() {
+		ObjectSetsBitsets objectSetsBitsets = this.objectSetsBitsets;
+		if (objectSetsBitsets == null) {
+			objectSetsBitsets = new ObjectSetsBitsets(this);
+			this.objectSetsBitsets = objectSetsBitsets;
+		}
+		return objectSetsBitsets;
+	}
+	
+	/**
+	 * Translates given set of object indices to a bitset. Skips indices that do not correspond to any object from the learning information table.
+	 * If given set is an {@link IntBitsetSortedSet} containing only such indices, its bitset is reused, whenever possible without copying,
+	 * so returned bitset must not be modified.
+	 * 
+	 * @param indicesOfObjects set of indices of objects
+	 * @param objectsCount number of objects in the learning information table
+	 * @return bitset of given objects
+	 */
+	private static long[] toBitset(IntSet indicesOfObjects, int objectsCount) {
+		int wordsCount = (objectsCount + 63) >>> 6;
+		
+		if (indicesOfObjects instanceof IntBitsetSortedSet) {
+			IntBitsetSortedSet bitsetSortedSet = (IntBitsetSortedSet)indicesOfObjects;
+			if (bitsetSortedSet.isEmpty() || bitsetSortedSet.lastInt() < objectsCount) {
+				return bitsetSortedSet.getBitset(wordsCount);
+			}
+		}
+		
+		long[] bitset = new long[wordsCount];
+		
+		for (int objectIndex : indicesOfObjects) {
+			if (objectIndex >= 0 && objectIndex < objectsCount) {
+				bitset[objectIndex >>> 6] |= 1L << objectIndex;
+			}
+		}
+		
+		return bitset;
+	}
+	
+	/**
+	 * Tells if bit with given index is set in the given bitset.
+	 * 
+	 * @param bitset bitset stored as an array of {@code long} words
+	 * @param index index of a bit
+	 * @return {@code true} if the bit is set, {@code false} otherwise
+	 */
+	private static boolean isSet(long[] bitset, int index) {
+		return (bitset[index >>> 6] & (1L << index)) != 0L;
+	}
+	
 	/**
 	 * Checks if these rule conditions cover the object from the learning information table having given index.
 	 * 
@@ -166,14 +326,11 @@ public class RuleConditions {
 	 * 
 	 * @throws IndexOutOfBoundsException if given object index does not correspond to any object in the learning information table
 	 */
-	public boolean covers(int objectIndex) { //TODO: try to optimize response using indicesOfCoveredObjects (if changed to hash set)
-		int conditionsCount = this.conditions.size();
-		for (int i = conditionsCount - 1; i >= 0; i--) { //go from the latest (newest) conditions
-			if (!this.conditions.get(i).satisfiedBy(objectIndex, this.learningInformationTable)) {
-				return false;
-			}
+	public boolean covers(int objectIndex) {
+		if (objectIndex < 0 || objectIndex >= this.notCoveringConditionsCounts.length) {
+			throw new IndexOutOfBoundsException("Object index is out of learning information table range.");
 		}
-		return true;
+		return isSet(this.coveredObjectsBitset, objectIndex);
 	}
 	
 	/**
@@ -264,6 +421,7 @@ public class RuleConditions {
 		}
 		
 		initializeNotCoveringConditionsCounts();
+		initializeBitsets();
 		
 		this.ruleType = notNull(ruleType, "Rule type is null.");
 		this.ruleSemantics = notNull(ruleSemantics, "Rule semantics is null.");
@@ -343,8 +501,13 @@ public class RuleConditions {
 		}
 		this.attributeIndex2ConditionIndices.get(attributeIndex).add(addedConditionIndex);
 		
-		updateCoveredObjectsWithCondition(this.indicesOfCoveredObjects, condition);
-		updateNotCoveringConditionsCountsWithCondition(condition);
+		if ((attributeIndex >>> 6) >= this.attributesBitset.length) {
+			this.attributesBitset = Arrays.copyOf(this.attributesBitset, (attributeIndex >>> 6) + 1);
+		}
+		this.attributesBitset[attributeIndex >>> 6] |= 1L << attributeIndex;
+		
+		updateNotCoveringConditionsCountsWithCondition(condition); //also updates coverage bitsets
+		retainCoveredObjects(this.indicesOfCoveredObjects);
 		
 		return addedConditionIndex;
 	}
@@ -421,6 +584,200 @@ public class RuleConditions {
 		return indicesOfCoveredObjects;
 	}
 	
+	/**
+	 * Gets number of objects covered by these rule conditions assuming addition of given condition.
+	 * Contrary to {@link #getIndicesOfCoveredObjectsWithCondition(Condition)}, does not create any list of covered objects.
+	 * 
+	 * @param condition condition that can be added to these rule conditions
+	 * @return number of objects covered by these rule conditions assuming addition of given condition
+	 * 
+	 * @throws NullPointerException if given condition is {@code null}
+	 */
+	public int getNumberOfCoveredObjectsWithCondition(Condition<? extends EvaluationField> condition) {
+		return countCoveredObjectsWithCondition(notNull(condition, "Condition is null."), null, null, null);
+	}
+	
+	/**
+	 * Gets number of {@link #getIndicesOfPositiveObjects() positive objects} covered by these rule conditions assuming addition of given condition.
+	 * 
+	 * @param condition condition that can be added to these rule conditions
+	 * @return number of positive objects covered by these rule conditions assuming addition of given condition
+	 * 
+	 * @throws NullPointerException if given condition is {@code null}
+	 */
+	public int getNumberOfCoveredPositiveObjectsWithCondition(Condition<? extends EvaluationField> condition) {
+		notNull(condition, "Condition is null.");
+		return countCoveredObjectsWithCondition(condition, getObjectSetsBitsets().positiveObjectsBitset, null, null);
+	}
+	
+	/**
+	 * Gets number of {@link #getIndicesOfApproximationObjects() approximation objects} covered by these rule conditions assuming addition of given condition.
+	 * 
+	 * @param condition condition that can be added to these rule conditions
+	 * @return number of approximation objects covered by these rule conditions assuming addition of given condition
+	 * 
+	 * @throws NullPointerException if given condition is {@code null}
+	 */
+	public int getNumberOfCoveredApproximationObjectsWithCondition(Condition<? extends EvaluationField> condition) {
+		notNull(condition, "Condition is null.");
+		return countCoveredObjectsWithCondition(condition, getObjectSetsBitsets().approximationObjectsBitset, null, null);
+	}
+	
+	/**
+	 * Gets number of objects covered by these rule conditions assuming addition of given condition, that are neither {@link #getIndicesOfPositiveObjects() positive}
+	 * nor {@link #getIndicesOfNeutralObjects() neutral} (i.e., number of covered negative objects).
+	 * 
+	 * @param condition condition that can be added to these rule conditions
+	 * @return number of negative objects covered by these rule conditions assuming addition of given condition
+	 * 
+	 * @throws NullPointerException if given condition is {@code null}
+	 */
+	public int getNumberOfCoveredNegativeObjectsWithCondition(Condition<? extends EvaluationField> condition) {
+		notNull(condition, "Condition is null.");
+		ObjectSetsBitsets objectSetsBitsets = getObjectSetsBitsets();
+		return countCoveredObjectsWithCondition(condition, null, objectSetsBitsets.positiveObjectsBitset, objectSetsBitsets.neutralObjectsBitset);
+	}
+	
+	/**
+	 * Gets number of objects covered by these rule conditions assuming addition of given condition, that neither belong to {@link #getIndicesOfApproximationObjects() approximation}
+	 * nor are {@link #getIndicesOfNeutralObjects() neutral}.
+	 * 
+	 * @param condition condition that can be added to these rule conditions
+	 * @return number of covered objects from outside of approximation that are not neutral, assuming addition of given condition
+	 * 
+	 * @throws NullPointerException if given condition is {@code null}
+	 */
+	public int getNumberOfCoveredObjectsOutsideApproximationWithCondition(Condition<? extends EvaluationField> condition) {
+		notNull(condition, "Condition is null.");
+		ObjectSetsBitsets objectSetsBitsets = getObjectSetsBitsets();
+		return countCoveredObjectsWithCondition(condition, null, objectSetsBitsets.approximationObjectsBitset, objectSetsBitsets.neutralObjectsBitset);
+	}
+	
+	/**
+	 * Gets number of objects covered by these rule conditions if condition with given index is dropped, that are neither {@link #getIndicesOfPositiveObjects() positive}
+	 * nor {@link #getIndicesOfNeutralObjects() neutral} (i.e., number of covered negative objects).
+	 * Contrary to {@link #getIndicesOfCoveredObjectsWithoutCondition(int)}, does not create any list of covered objects.
+	 * 
+	 * @param conditionIndex index of condition in these rule conditions that is considered to be removed
+	 * @return number of negative objects covered by these rule conditions if condition with given index is dropped
+	 * 
+	 * @throws IndexOutOfBoundsException if given condition index is less than zero or too big concerning number of stored conditions
+	 */
+	public int getNumberOfCoveredNegativeObjectsWithoutCondition(int conditionIndex) {
+		this.getCondition(conditionIndex); //validates given index of condition
+		ObjectSetsBitsets objectSetsBitsets = getObjectSetsBitsets();
+		return countCoveredObjectsWithoutCondition(conditionIndex, objectSetsBitsets.positiveObjectsBitset, objectSetsBitsets.neutralObjectsBitset);
+	}
+	
+	/**
+	 * Tells if all objects covered by these rule conditions if condition with given index is dropped belong to {@link #getIndicesOfObjectsThatCanBeCovered() objects that can be covered}.
+	 * 
+	 * @param conditionIndex index of condition in these rule conditions that is considered to be removed
+	 * @return {@code true} if these rule conditions without condition with given index cover only objects that can be covered, {@code false} otherwise
+	 * 
+	 * @throws IndexOutOfBoundsException if given condition index is less than zero or too big concerning number of stored conditions
+	 */
+	public boolean coversOnlyObjectsThatCanBeCoveredWithoutCondition(int conditionIndex) {
+		this.getCondition(conditionIndex); //validates given index of condition
+		return countCoveredObjectsWithoutCondition(conditionIndex, getObjectSetsBitsets().objectsThatCanBeCoveredBitset, null) == 0;
+	}
+	
+	/**
+	 * Counts objects covered by these rule conditions if condition with given index is dropped, that do not belong to any of given excluded objects.
+	 * Objects covered after dropping the condition are the objects covered now plus the objects not covered only by that condition,
+	 * so counting requires only word-wise operations on bitsets.
+	 * 
+	 * @param conditionIndex index of condition considered to be removed from these rule conditions
+	 * @param excludedObjectsBitset1 bitset of objects that cannot be counted; can be {@code null}
+	 * @param excludedObjectsBitset2 bitset of other objects that cannot be counted; can be {@code null}
+	 * @return number of counted objects
+	 */
+	private int countCoveredObjectsWithoutCondition(int conditionIndex, long[] excludedObjectsBitset1, long[] excludedObjectsBitset2) {
+		long[] conditionCoverageBitset = this.conditionsCoverageBitsets.get(conditionIndex);
+		int count = 0;
+		long word;
+		
+		for (int wordIndex = 0; wordIndex < this.coveredObjectsBitset.length; wordIndex++) {
+			word = this.coveredObjectsBitset[wordIndex] | (this.notCoveredOnceObjectsBitset[wordIndex] & ~conditionCoverageBitset[wordIndex]);
+			if (excludedObjectsBitset1 != null) {
+				word &= ~excludedObjectsBitset1[wordIndex];
+			}
+			if (excludedObjectsBitset2 != null) {
+				word &= ~excludedObjectsBitset2[wordIndex];
+			}
+			count += Long.bitCount(word);
+		}
+		
+		return count;
+	}
+	
+	/**
+	 * Counts objects covered by these rule conditions and satisfying given condition, that belong to given included objects and do not belong to any of given excluded objects.
+	 * Candidate objects are calculated by word-wise operations on bitsets, then only candidates are checked against given condition, and remaining ones are counted
+	 * using {@link Long#bitCount(long)}. Does not modify any field, so can be invoked concurrently.
+	 * 
+	 * @param condition condition that can be added to these rule conditions
+	 * @param includedObjectsBitset bitset of objects that can be counted; {@code null} if all objects can be counted
+	 * @param excludedObjectsBitset1 bitset of objects that cannot be counted; can be {@code null}
+	 * @param excludedObjectsBitset2 bitset of other objects that cannot be counted; can be {@code null}
+	 * @return number of counted objects
+	 */
+	private int countCoveredObjectsWithCondition(Condition<? extends EvaluationField> condition, long[] includedObjectsBitset, long[] excludedObjectsBitset1, long[] excludedObjectsBitset2) {
+		long[] candidatesBitset = new long[this.coveredObjectsBitset.length]; //local, so concurrent invocations do not interfere
+		long word;
+		
+		for (int wordIndex = 0; wordIndex < candidatesBitset.length; wordIndex++) {
+			word = this.coveredObjectsBitset[wordIndex];
+			if (includedObjectsBitset != null) {
+				word &= includedObjectsBitset[wordIndex];
+			}
+			if (excludedObjectsBitset1 != null) {
+				word &= ~excludedObjectsBitset1[wordIndex];
+			}
+			if (excludedObjectsBitset2 != null) {
+				word &= ~excludedObjectsBitset2[wordIndex];
+			}
+			candidatesBitset[wordIndex] = word;
+		}
+		
+		retainObjectsSatisfyingCondition(condition, candidatesBitset);
+		
+		int count = 0;
+		for (int wordIndex = 0; wordIndex < candidatesBitset.length; wordIndex++) {
+			count += Long.bitCount(candidatesBitset[wordIndex]);
+		}
+		
+		return count;
+	}
+	
+	/**
+	 * Clears bits of these objects from given bitset, which do not satisfy given condition. If evaluations of the learning information table are stored
+	 * in a {@link ColumnarTable}, uses {@link Condition#retainSatisfyingObjects(long[], InformationTable)}, comparing primitive codes of evaluations.
+	 * Otherwise, checks each object whose bit is set using {@link Condition#satisfiedBy(int, InformationTable)}.
+	 * 
+	 * @param condition condition checked against objects
+	 * @param objectsBitset bitset of objects to check
+	 */
+	private void retainObjectsSatisfyingCondition(Condition<? extends EvaluationField> condition, long[] objectsBitset) {
+		if (this.learningInformationTable.getActiveConditionAttributeFields() instanceof ColumnarTable) {
+			condition.retainSatisfyingObjects(objectsBitset, this.learningInformationTable);
+		} else {
+			long remainingBits;
+			int objectIndex;
+			
+			for (int wordIndex = 0; wordIndex < objectsBitset.length; wordIndex++) {
+				remainingBits = objectsBitset[wordIndex];
+				while (remainingBits != 0L) {
+					objectIndex = (wordIndex << 6) + Long.numberOfTrailingZeros(remainingBits);
+					if (!condition.satisfiedBy(objectIndex, this.learningInformationTable)) {
+						objectsBitset[wordIndex] &= ~(1L << objectIndex);
+					}
+					remainingBits &= remainingBits - 1; //clear lowest set bit
+				}
+			}
+		}
+	}
+	
 	/**
 	 * Updates given set of indices of objects covered by these rule conditions assuming addition of given condition.
 	 * 
@@ -439,23 +796,68 @@ public class RuleConditions {
 		indicesOfCoveredObjects.removeAll(nonCoveredObjects);
 	}
 	
+	/**
+	 * Removes from given list of object indices these objects which are not covered by these rule conditions, according to {@link #coveredObjectsBitset}.
+	 * Preserves the order of remaining indices.
+	 * 
+	 * @param indicesOfCoveredObjects list of indices of objects to filter
+	 */
+	private void retainCoveredObjects(IntList indicesOfCoveredObjects) {
+		int size = indicesOfCoveredObjects.size();
+		int retainedCount = 0;
+		int objectIndex;
+		
+		for (int i = 0; i < size; i++) {
+			objectIndex = indicesOfCoveredObjects.getInt(i);
+			if (isSet(this.coveredObjectsBitset, objectIndex)) {
+				indicesOfCoveredObjects.set(retainedCount++, objectIndex);
+			}
+		}
+		
+		indicesOfCoveredObjects.size(retainedCount);
+	}
+	
 	/**
 	 * Updates counts of not covering conditions {@link #notCoveringConditionsCounts} in view of adding given condition.
 	 * Assumes that {@link #learningInformationTable} and {@link #notCoveringConditionsCounts} are already set.
 	 */
 	private void updateNotCoveringConditionsCountsWithCondition(Condition<? extends EvaluationField> condition) {
 		int objectsCount = this.learningInformationTable.getNumberOfObjects();
+		long[] conditionCoverageBitset;
+		
+		if (this.coverageBitsetsPool.isEmpty()) {
+			conditionCoverageBitset = new long[this.coveredObjectsBitset.length];
+		} else {
+			conditionCoverageBitset = this.coverageBitsetsPool.remove(this.coverageBitsetsPool.size() - 1); //reuse bitset of a removed condition
+			Arrays.fill(conditionCoverageBitset, 0L);
+		}
+		
+		for (int objectIndex = 0; objectIndex < objectsCount; objectIndex++) {
+			conditionCoverageBitset[objectIndex >>> 6] |= 1L << objectIndex;
+		}
+		retainObjectsSatisfyingCondition(condition, conditionCoverageBitset); //check all objects
 		
 		for (int objectIndex = 0; objectIndex < objectsCount; objectIndex++) { //iterate over all objects to see which are not covered by the given condition
-			if (!condition.satisfiedBy(objectIndex, this.learningInformationTable)) { //condition eliminates given object
+			if (!isSet(conditionCoverageBitset, objectIndex)) { //condition eliminates given object
 				this.notCoveringConditionsCounts[objectIndex] = this.notCoveringConditionsCounts[objectIndex] + 1; //increase counter for considered object
+				if (this.notCoveringConditionsCounts[objectIndex] == 1) {
+					this.notCoveredOnceObjectsBitset[objectIndex >>> 6] |= 1L << objectIndex;
+				} else if (this.notCoveringConditionsCounts[objectIndex] == 2) {
+					this.notCoveredOnceObjectsBitset[objectIndex >>> 6] &= ~(1L << objectIndex);
+				}
 			}
 		}
+		
+		for (int wordIndex = 0; wordIndex < conditionCoverageBitset.length; wordIndex++) {
+			this.coveredObjectsBitset[wordIndex] &= conditionCoverageBitset[wordIndex];
+		}
+		this.conditionsCoverageBitsets.add(conditionCoverageBitset);
 	}
 	
 	/**
 	 * Updates given set of indices of objects covered by these rule conditions, and optionally (depending on the flag) also array with counts of conditions not covering particular objects,<br>
-	 * assuming removal of condition with given index.
+	 * assuming removal of condition with given index. Only objects not covered by that condition are visited, and they are found using word-wise operations on bitsets.
+	 * If counts are not updated, visited objects are only those not covered by that condition alone (see {@link #notCoveredOnceObjectsBitset}).
 	 * 
 	 * @param indicesOfCoveredObjects indices of objects covered by these rule conditions;
 	 *        this parameter is modified to reflect the situation
@@ -469,34 +871,40 @@ public class RuleConditions {
 	private void updateCoveredObjectsWithoutCondition(IntList indicesOfCoveredObjects, int conditionIndex, boolean updateNotCoveringConditionsCounts) {
 		Precondition.notNull(indicesOfCoveredObjects, "Indices of covered objects are null.");
 		
-		Condition<EvaluationField> condition = this.getCondition(conditionIndex); //validates given index of condition
+		this.getCondition(conditionIndex); //validates given index of condition
+		long[] conditionCoverageBitset = this.conditionsCoverageBitsets.get(conditionIndex); //tells which objects are not eliminated by the dropped condition
 		int numberOfObjects = this.notCoveringConditionsCounts.length;
+		long word;
+		int objectIndex;
+		int count;
 		
-		if (updateNotCoveringConditionsCounts) {
-			int count;
-			//update this.notCoveringConditionsCounts and given indicesOfCoveredObjects
-			for (int objectIndex = 0; objectIndex < numberOfObjects; objectIndex++) {
-				count = this.notCoveringConditionsCounts[objectIndex];
-				if (count > 0) { //something can change
-					if (!condition.satisfiedBy(objectIndex, this.learningInformationTable)) { //dropped condition eliminated current object
-						this.notCoveringConditionsCounts[objectIndex] = --count;
-						if (count == 0) {
-							indicesOfCoveredObjects.add(objectIndex); //can break order of indices
-						}
-					}
-				}
+		for (int wordIndex = 0; wordIndex < conditionCoverageBitset.length; wordIndex++) {
+			if (updateNotCoveringConditionsCounts) {
+				word = ~conditionCoverageBitset[wordIndex]; //objects eliminated by the dropped condition (and padding bits of the last word)
+			} else {
+				word = this.notCoveredOnceObjectsBitset[wordIndex] & ~conditionCoverageBitset[wordIndex]; //objects eliminated only by the dropped condition
 			}
-		} else {
-			//update only given indicesOfCoveredObjects
-			for (int objectIndex = 0; objectIndex < numberOfObjects; objectIndex++) {
-				if (this.notCoveringConditionsCounts[objectIndex] == 1) { //something can change
-					if (!condition.satisfiedBy(objectIndex, this.learningInformationTable)) { //dropped condition eliminated current object
+			
+			while (word != 0L) {
+				objectIndex = (wordIndex << 6) + Long.numberOfTrailingZeros(word);
+				if (objectIndex >= numberOfObjects) { //padding bit
+					break;
+				}
+				if (updateNotCoveringConditionsCounts) {
+					this.notCoveringConditionsCounts[objectIndex] = count = this.notCoveringConditionsCounts[objectIndex] - 1;
+					if (count == 0) {
 						indicesOfCoveredObjects.add(objectIndex); //can break order of indices
+						this.coveredObjectsBitset[objectIndex >>> 6] |= 1L << objectIndex;
+						this.notCoveredOnceObjectsBitset[objectIndex >>> 6] &= ~(1L << objectIndex);
+					} else if (count == 1) {
+						this.notCoveredOnceObjectsBitset[objectIndex >>> 6] |= 1L << objectIndex;
 					}
+				} else {
+					indicesOfCoveredObjects.add(objectIndex); //can break order of indices
 				}
+				word &= word - 1; //clear lowest set bit
 			}
 		}
-		
 	}
 	
 	/**
@@ -510,6 +918,7 @@ public class RuleConditions {
 		listOfConditionIndices.rem(removedConditionIndex); //iterates through the list (it usually contains 1 element, at maximum 2 elements, so the cost is negligible)
 		if (listOfConditionIndices.isEmpty()) {
 			this.attributeIndex2ConditionIndices.remove(attributeIndex); //remove the mapping from attribute's index to a list of condition indices
+			this.attributesBitset[attributeIndex >>> 6] &= ~(1L << attributeIndex);
 		}
 		
 		int position;
@@ -538,6 +947,7 @@ public class RuleConditions {
 		this.updateCoveredObjectsWithoutCondition(this.indicesOfCoveredObjects, conditionIndex, true);
 		//...and only then remove that condition
 		this.conditions.remove(conditionIndex);
+		this.coverageBitsetsPool.add(this.conditionsCoverageBitsets.remove(conditionIndex)); //coverage bitset can be reused by next added condition
 		
 		//remove condition index from the map and decrement remaining indices greater than removed index!
 		this.updateAttributeIndex2ConditionIndices(attributeIndex, conditionIndex);
@@ -623,6 +1033,28 @@ public class RuleConditions {
 		return this.attributeIndex2ConditionIndices.containsKey(attributeIndex);
 	}
 	
+	/**
+	 * Tells if each attribute involved in at least one of elementary conditions of these rule conditions is also involved in at least one
+	 * of elementary conditions of the other rule conditions. Compares bitsets of attribute indices, so the cost does not depend on the number of conditions.
+	 * This is a necessary condition for the other rule conditions to be {@link #isLessOrEquallyGeneralAs(RuleConditions) less or equally general} as these rule conditions.
+	 * 
+	 * @param otherRuleConditions other rule conditions that these rule conditions should be compared with
+	 * @return {@code true} if the set of attributes involved in these rule conditions is a subset of the set of attributes involved in the other rule conditions,
+	 *         {@code false} otherwise
+	 * @throws NullPointerException if the other conditions are {@code null}
+	 */
+	public boolean hasConditionsOnlyForAttributesOf(RuleConditions otherRuleConditions) {
+		long[] otherAttributesBitset = notNull(otherRuleConditions, "Other rule conditions are null.").attributesBitset;
+		
+		for (int wordIndex = 0; wordIndex < this.attributesBitset.length; wordIndex++) {
+			if ((this.attributesBitset[wordIndex] & ~(wordIndex < otherAttributesBitset.length ? otherAttributesBitset[wordIndex] : 0L)) != 0L) {
+				return false;
+			}
+		}
+		
+		return true;
+	}
+	
 	/**
 	 * Gets coverage information concerning induced decision rule.
 	 * 
@@ -663,7 +1095,10 @@ public class RuleConditions {
 	 * @throws NullPointerException if the other conditions are {@code null}
 	 */
 	public boolean isLessOrEquallyGeneralAs(RuleConditions otherRuleConditions) {
-		List<Condition<EvaluationField>> otherConditionsList = notNull(otherRuleConditions, "Other rule conditions are null.").getConditions();
+		if (!notNull(otherRuleConditions, "Other rule conditions are null.").hasConditionsOnlyForAttributesOf(this)) {
+			return false; //some attribute is involved in the other rule conditions but not in these rule conditions
+		}
+		List<Condition<EvaluationField>> otherConditionsList = otherRuleConditions.getConditions();
 		
 		int otherAttributeIndex;
 		IntList conditionIndices;
@@ -16,6 +16,7 @@
 
 package org.rulelearn.rules;
 
+import org.rulelearn.core.IntCompressedSortedList;
 import org.rulelearn.core.InvalidValueException;
 import org.rulelearn.core.Precondition;
 
@@ -27,6 +28,10 @@ import it.unimi.dsi.fastutil.ints.IntSet;
  * set of objects neutral with respect to the rule, set of objects covered by the rule, and number of all objects
  * in the information table that was used to induce the rule. If considered rule happens to cover some neutral objects,
  * it should have no influence on any rule's characteristics.
+ * <br>
+ * Indices of covered objects are copied into an immutable {@link IntCompressedSortedList}, if they are strictly increasing (which is the case for rules
+ * induced by {@link VCDomLEM}). Then, memory used by this object is proportional to the actual coverage of the rule, and the numbers of covered positive
+ * and neutral objects can be calculated word by word (see {@link IntCompressedSortedList#countElementsIn(IntSet...)}).
  *
  * @author Jerzy Błaszczyński (<a href="mailto:jurek.blaszczynski@cs.put.poznan.pl">jurek.blaszczynski@cs.put.poznan.pl</a>)
  * @author Marcin Szeląg (<a href="mailto:marcin.szelag@cs.put.poznan.pl">marcin.szelag@cs.put.poznan.pl</a>)
@@ -50,7 +55,8 @@ public class RuleCoverageInformation {
 	IntSet indicesOfNeutralObjects;
 	
 	/**
-	 * Indices of objects from rule's learning information table that are covered by the rule.
+	 * Indices of objects from rule's learning information table that are covered by the rule. Stored as an {@link IntCompressedSortedList}
+	 * whenever given indices are strictly increasing.
 	 */
 	IntList indicesOfCoveredObjects;
 	
@@ -67,7 +73,8 @@ public class RuleCoverageInformation {
 	 * @param indicesOfNeutralObjects indices of all neutral objects from rule's learning information (decision) table, i.e., objects such that their decision
 	 *        is neither positive nor negative with respect to the considered approximated set
 	 *        for the approximated set used to induce the rule
-	 * @param indicesOfCoveredObjects indices of all objects from rule's learning information table that are covered by the rule
+	 * @param indicesOfCoveredObjects indices of all objects from rule's learning information table that are covered by the rule;
+	 *        if these indices are strictly increasing, they are copied into an {@link IntCompressedSortedList}
 	 * @param allObjectsCount number of all objects in rule's learning information table
 	 * 
 	 * @throws NullPointerException if any of the parameters is {@code null}
@@ -77,7 +84,9 @@ public class RuleCoverageInformation {
 		super();
 		this.indicesOfPositiveObjects = Precondition.notNull(indicesOfPositiveObjects, "Positive objects are null.");
 		this.indicesOfNeutralObjects = Precondition.notNull(indicesOfNeutralObjects, "Neutral objects are null.");
-		this.indicesOfCoveredObjects = Precondition.notNull(indicesOfCoveredObjects, "Covered objects are null.");
+		Precondition.notNull(indicesOfCoveredObjects, "Covered objects are null.");
+		this.indicesOfCoveredObjects = IntCompressedSortedList.isCompressible(indicesOfCoveredObjects) ?
+				new IntCompressedSortedList(indicesOfCoveredObjects) : indicesOfCoveredObjects;
 		this.allObjectsCount = Precondition.nonNegative(allObjectsCount, "Number of objects is less than zero.");
 	}
 
@@ -104,6 +113,7 @@ public class RuleCoverageInformation {
 
 	/**
 	 * Gets indices of all objects from rule's learning information table that are covered by the rule.
+	 * If these indices are strictly increasing, returned list is an immutable {@link IntCompressedSortedList}.
 	 * 
 	 * @return indices of all objects from rule's learning information table that are covered by the rule
 	 */
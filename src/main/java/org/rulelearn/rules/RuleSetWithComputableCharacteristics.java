@@ -18,6 +18,9 @@ package org.rulelearn.rules;
 
 import static org.rulelearn.core.Precondition.notNull;
 
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
 import org.rulelearn.core.InvalidSizeException;
 import org.rulelearn.core.ReadOnlyArrayReference;
 import org.rulelearn.core.ReadOnlyArrayReferenceLocation;
@@ -31,6 +34,11 @@ import org.rulelearn.core.ReadOnlyArrayReferenceLocation;
  */
 public class RuleSetWithComputableCharacteristics extends RuleSetWithCharacteristics {
 	
+	/**
+	 * Maximum number of rules whose characteristics are calculated by a single task, when characteristics are calculated in parallel.
+	 */
+	static final int RULES_PER_TASK = 64;
+	
 	/**
 	 * Array with rule coverage information for each decision rule stored in this rule set.
 	 */
@@ -93,7 +101,9 @@ public class RuleSetWithComputableCharacteristics extends RuleSetWithCharacteris
 	}
 	
 	/**
-	 * Ensures that all values of all rule characteristics are calculated.
+	 * Ensures that all values of all rule characteristics are calculated. Characteristics of each rule depending only on the numbers of covered
+	 * positive, neutral, and negative objects are calculated in a single pass over objects covered by that rule
+	 * (see {@link ComputableRuleCharacteristics#calculateAllCharacteristics()}).
 	 */
 	public void calculateAllCharacteristics() {
 		for (int i = 0; i < rules.length; i++) {
@@ -101,4 +111,75 @@ public class RuleSetWithComputableCharacteristics extends RuleSetWithCharacteris
 		}
 	}
 	
+	/**
+	 * Ensures that all values of all rule characteristics are calculated. Characteristics of different rules are calculated in parallel, using given fork-join pool.
+	 * Calculated values are the same as calculated by {@link #calculateAllCharacteristics()}.
+	 * 
+	 * @param forkJoinPool fork-join pool used to calculate characteristics of rules in parallel
+	 * @throws NullPointerException if given fork-join pool is {@code null}
+	 */
+	public void calculateAllCharacteristics(ForkJoinPool forkJoinPool) {
+		notNull(forkJoinPool, "Fork-join pool used to calculate rule characteristics is null.");
+		
+		for (int i = 0; i < rules.length; i++) { //create characteristics of all rules before they are shared with other threads
+			getRuleCharacteristics(i);
+		}
+		if (rules.length > RULES_PER_TASK) {
+			forkJoinPool.invoke(new CharacteristicsCalculationTask(0, rules.length));
+		} else {
+			calculateAllCharacteristics(0, rules.length);
+		}
+	}
+	
+	/**
+	 * Ensures that all values of characteristics of rules from given range are calculated. Assumes that these characteristics have already been created.
+	 * 
+	 * @param fromRuleIndex index of the first rule (inclusive)
+	 * @param toRuleIndex index of the last rule (exclusive)
+	 */
+	void calculateAllCharacteristics(int fromRuleIndex, int toRuleIndex) {
+		for (int i = fromRuleIndex; i < toRuleIndex; i++) {
+			((ComputableRuleCharacteristics)this.ruleCharacteristics[i]).calculateAllCharacteristics();
+		}
+	}
+	
+	/**
+	 * Task calculating characteristics of a range of rules. Ranges longer than {@link RuleSetWithComputableCharacteristics#RULES_PER_TASK} are split into halves.
+	 */
+	@SuppressWarnings("serial")
+	private class CharacteristicsCalculationTask extends RecursiveAction {
+		/**
+		 * Index of the first rule of the processed range (inclusive).
+		 */
+		final int fromRuleIndex;
+		/**
+		 * Index of the last rule of the processed range (exclusive).
+		 */
+		final int toRuleIndex;
+		
+		/**
+		 * Constructs this task.
+		 * 
+		 * @param fromRuleIndex index of the first rule of the processed range (inclusive)
+		 * @param toRuleIndex index of the last rule of the processed range (exclusive)
+		 */
+		CharacteristicsCalculationTask(int fromRuleIndex, int toRuleIndex) {
+			this.fromRuleIndex = fromRuleIndex;
+			this.toRuleIndex = toRuleIndex;
+		}
+		
+		/**
+		 * Calculates characteristics of rules from the processed range.
+		 */
+		@Override
+		protected void compute() {
+			if (this.toRuleIndex - this.fromRuleIndex <= RULES_PER_TASK) {
+				calculateAllCharacteristics(this.fromRuleIndex, this.toRuleIndex);
+			} else {
+				int middleRuleIndex = (this.fromRuleIndex + this.toRuleIndex) >>> 1;
+				invokeAll(new CharacteristicsCalculationTask(this.fromRuleIndex, middleRuleIndex), new CharacteristicsCalculationTask(middleRuleIndex, this.toRuleIndex));
+			}
+		}
+	}
+	
 }
@@ -22,7 +22,12 @@ import org.rulelearn.approximations.ApproximatedSet;
 import org.rulelearn.core.Precondition;
 
 /**
- * Rule minimality checker that involves comparison of decision rules with respect to a single rule conditions evaluator {@link RuleConditionsEvaluator}.
+ * Rule minimality checker that involves comparison of decision rules with respect to a single rule conditions evaluator {@link RuleConditionsEvaluator}.<br>
+ * <br>
+ * Before comparing a tested rule with a prior rule, this checker compares bitsets of attributes involved in conditions of both rules
+ * (see {@link RuleConditions#hasConditionsOnlyForAttributesOf(RuleConditions)}), which rejects most of the prior rules without inspecting their conditions.
+ * Moreover, inclusion of approximated sets is verified once for each run of consecutive prior rules concerning the same approximated set.
+ * Returned verdicts are the same as the ones obtained by comparing the tested rule with each prior rule in turn.
  *
  * @author Jerzy Błaszczyński (<a href="mailto:jurek.blaszczynski@cs.put.poznan.pl">jurek.blaszczynski@cs.put.poznan.pl</a>)
  * @author Marcin Szeląg (<a href="mailto:marcin.szelag@cs.put.poznan.pl">marcin.szelag@cs.put.poznan.pl</a>)
@@ -59,13 +64,27 @@ public class SingleEvaluationRuleMinimalityChecker extends RuleMinimalityChecker
 		RuleConditions priorRuleConditions;
 		ApproximatedSet priorApproximatedSet;
 		
+		ApproximatedSet lastPriorApproximatedSet = null; //approximated set of the last prior rule for which inclusion has been verified
+		boolean lastPriorApproximatedSetIncluded = false; //tells if the tested approximated set includes lastPriorApproximatedSet
+		
 		boolean ruleIsMinimal = true;
 		
 		for (RuleConditionsWithApproximatedSet priorRule : ruleSet) {
 			priorRuleConditions = priorRule.getRuleConditions();
+			
+			//cheap test on bitsets of attributes - if prior rule conditions involve an attribute not involved in tested rule conditions, then tested rule conditions cannot be less or equally general
+			if (!priorRuleConditions.hasConditionsOnlyForAttributesOf(ruleConditions)) {
+				continue;
+			}
+			
+			//prior rules for the same approximated set are stored consecutively, so inclusion is verified once for each run of such rules
 			priorApproximatedSet = priorRule.getApproximatedSet();
+			if (priorApproximatedSet != lastPriorApproximatedSet) {
+				lastPriorApproximatedSet = priorApproximatedSet;
+				lastPriorApproximatedSetIncluded = approximatedSet.includes(priorApproximatedSet);
+			}
 			
-			if (approximatedSet.includes(priorApproximatedSet)) { //tested rule is less or equally specific w.r.t. decision part (and thus, its conclusion is not more precise)
+			if (lastPriorApproximatedSetIncluded) { //tested rule is less or equally specific w.r.t. decision part (and thus, its conclusion is not more precise)
 				if (ruleConditions.isLessOrEquallyGeneralAs(priorRuleConditions)) { //tested rule is less or equally general w.r.t. condition part
 					if (ruleConditionsEvaluators[0].confront(ruleConditions, priorRuleConditions) <= 0) { //tested rule is not better w.r.t. considered rule conditions evaluator
 						ruleIsMinimal = false; //tested rule is not minimal
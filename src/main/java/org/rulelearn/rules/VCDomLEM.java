@@ -17,8 +17,12 @@
 package org.rulelearn.rules;
 
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 import org.rulelearn.approximations.ApproximatedSet;
+import org.rulelearn.core.IntBitsetSortedSet;
 import org.rulelearn.core.InvalidValueException;
 import org.rulelearn.core.Precondition;
 import org.rulelearn.types.UnknownSimpleFieldMV2;
@@ -27,7 +31,6 @@ import it.unimi.dsi.fastutil.ints.IntArrayList;
 import it.unimi.dsi.fastutil.ints.IntList;
 import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
 import it.unimi.dsi.fastutil.ints.IntSet;
-import it.unimi.dsi.fastutil.ints.IntSets;
 import it.unimi.dsi.fastutil.ints.IntSortedSet;
 import it.unimi.dsi.fastutil.objects.ObjectArrayList;
 
@@ -163,8 +166,6 @@ public class VCDomLEM {
 	public RuleSetWithComputableCharacteristics generateRules() {	
 		List<RuleConditionsWithApproximatedSet> minimalRuleConditionsWithApproximatedSets = new ObjectArrayList<RuleConditionsWithApproximatedSet>(); //rule conditions for approximated sets considered so far
 		List<RuleConditions> approximatedSetRuleConditions; //rule conditions for current approximated set
-		List<RuleConditionsWithApproximatedSet> verifiedRuleConditionsWithApproximatedSet; //minimal rule conditions for current approximated set
-		RuleConditionsWithApproximatedSet ruleConditionsWithApproximatedSet;
 		
 		int approximatedSetsCount = approximatedSetProvider.getCount(); //supplementary variable
 		ApproximatedSet approximatedSet; //supplementary variable
@@ -175,18 +176,117 @@ public class VCDomLEM {
 			approximatedSet = approximatedSetProvider.getApproximatedSet(i);
 			
 			approximatedSetRuleConditions = calculateApproximatedSetRuleConditions(ruleInducerComponents, approximatedSet); //get set of rule conditions for single approximated set
+			addMinimalRuleConditions(minimalRuleConditionsWithApproximatedSets, approximatedSetRuleConditions, ruleInducerComponents, approximatedSet);
+		}
+		
+		return buildRuleSet(minimalRuleConditionsWithApproximatedSets);
+	}
+	
+	/**
+	 * Generates a minimal set of decision rules by VC-DomLEM algorithm, calculating rule conditions for all considered approximated sets concurrently,
+	 * using given executor service. Then, minimality of rule conditions is verified sequentially, in the order of approximated sets,
+	 * so the result is the same as the one returned by {@link #generateRules()}.<br>
+	 * <br>
+	 * Approximated sets, their approximations, and sets of objects that can be covered by rule conditions are calculated in the calling thread,
+	 * before rule conditions are calculated concurrently. Given executor service is not shut down by this method.
+	 * 
+	 * @param executorService executor service used to calculate rule conditions for subsequent approximated sets
+	 * @return set of induced decision rules with computable characteristics {@link RuleSetWithComputableCharacteristics}
+	 * 
+	 * @throws NullPointerException if given executor service is {@code null}
+	 * @throws IllegalStateException if calculation of rule conditions has been interrupted
+	 */
+	public RuleSetWithComputableCharacteristics generateRules(ExecutorService executorService) {
+		Precondition.notNull(executorService, "VC-DomLEM's executor service is null.");
+		
+		int approximatedSetsCount = approximatedSetProvider.getCount(); //supplementary variable
+		RuleInducerComponents[] ruleInducerComponentsArray = new RuleInducerComponents[approximatedSetsCount];
+		ApproximatedSet[] approximatedSets = new ApproximatedSet[approximatedSetsCount];
+		List<Future<List<RuleConditions>>> futures = new ObjectArrayList<Future<List<RuleConditions>>>(approximatedSetsCount);
+		
+		for (int i = 0; i < approximatedSetsCount; i++) {
+			final RuleInducerComponents ruleInducerComponents = ruleInducerComponentsArray[i] = ruleInducerComponentsProvider.provide(i);
+			final ApproximatedSet approximatedSet = approximatedSets[i] = approximatedSetProvider.getApproximatedSet(i);
 			
-			verifiedRuleConditionsWithApproximatedSet = new ObjectArrayList<RuleConditionsWithApproximatedSet>();
-			for (RuleConditions ruleConditions : approximatedSetRuleConditions) { //verify minimality of each rule conditions
-				ruleConditionsWithApproximatedSet = new RuleConditionsWithApproximatedSet(ruleConditions, approximatedSet); 
-				if (ruleInducerComponents.getRuleMinimalityChecker().check(minimalRuleConditionsWithApproximatedSets, ruleConditionsWithApproximatedSet)) {
-					verifiedRuleConditionsWithApproximatedSet.add(ruleConditionsWithApproximatedSet);
-				}
-			}
+			//calculate lazily initialized data of approximated set before it is shared with other threads
+			final IntSortedSet indicesOfApproximationObjects = getIndicesOfApproximationObjects(ruleInducerComponents, approximatedSet);
+			final IntSet indicesOfObjectsThatCanBeCovered = getIndicesOfObjectsThatCanBeCovered(ruleInducerComponents, approximatedSet, indicesOfApproximationObjects);
+			approximatedSet.getObjects();
+			approximatedSet.getNeutralObjects();
 			
-			minimalRuleConditionsWithApproximatedSets.addAll(verifiedRuleConditionsWithApproximatedSet);
+			futures.add(executorService.submit(
+					() -> calculateApproximatedSetRuleConditions(ruleInducerComponents, approximatedSet, indicesOfApproximationObjects, indicesOfObjectsThatCanBeCovered)));
 		}
 		
+		List<RuleConditionsWithApproximatedSet> minimalRuleConditionsWithApproximatedSets = new ObjectArrayList<RuleConditionsWithApproximatedSet>(); //rule conditions for approximated sets considered so far
+		
+		try {
+			for (int i = 0; i < approximatedSetsCount; i++) {
+				addMinimalRuleConditions(minimalRuleConditionsWithApproximatedSets, futures.get(i).get(), ruleInducerComponentsArray[i], approximatedSets[i]);
+			}
+		}
+		catch (InterruptedException exception) {
+			cancel(futures);
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Calculation of rule conditions by VC-DomLEM has been interrupted.", exception);
+		}
+		catch (ExecutionException exception) {
+			cancel(futures);
+			Throwable cause = exception.getCause();
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException)cause;
+			} else if (cause instanceof Error) {
+				throw (Error)cause;
+			} else {
+				throw new IllegalStateException(cause);
+			}
+		}
+		
+		return buildRuleSet(minimalRuleConditionsWithApproximatedSets);
+	}
+	
+	/**
+	 * Cancels all given tasks that have not completed yet.
+	 * 
+	 * @param futures tasks to cancel
+	 */
+	private void cancel(List<Future<List<RuleConditions>>> futures) {
+		for (Future<List<RuleConditions>> future : futures) {
+			future.cancel(true);
+		}
+	}
+	
+	/**
+	 * Verifies minimality of each of the given rule conditions generated for an approximated set, with respect to rule conditions accepted so far,
+	 * and adds minimal rule conditions to the list of accepted rule conditions.
+	 * 
+	 * @param minimalRuleConditionsWithApproximatedSets list of rule conditions accepted for approximated sets considered so far
+	 * @param approximatedSetRuleConditions rule conditions generated for given approximated set
+	 * @param ruleInducerComponents {@link RuleInducerComponents rule inducer components} used for given approximated set
+	 * @param approximatedSet considered {@link ApproximatedSet approximated set}
+	 */
+	private void addMinimalRuleConditions(List<RuleConditionsWithApproximatedSet> minimalRuleConditionsWithApproximatedSets, List<RuleConditions> approximatedSetRuleConditions,
+			RuleInducerComponents ruleInducerComponents, ApproximatedSet approximatedSet) {
+		List<RuleConditionsWithApproximatedSet> verifiedRuleConditionsWithApproximatedSet = new ObjectArrayList<RuleConditionsWithApproximatedSet>(); //minimal rule conditions for current approximated set
+		RuleConditionsWithApproximatedSet ruleConditionsWithApproximatedSet;
+		
+		for (RuleConditions ruleConditions : approximatedSetRuleConditions) { //verify minimality of each rule conditions
+			ruleConditionsWithApproximatedSet = new RuleConditionsWithApproximatedSet(ruleConditions, approximatedSet); 
+			if (ruleInducerComponents.getRuleMinimalityChecker().check(minimalRuleConditionsWithApproximatedSets, ruleConditionsWithApproximatedSet)) {
+				verifiedRuleConditionsWithApproximatedSet.add(ruleConditionsWithApproximatedSet);
+			}
+		}
+		
+		minimalRuleConditionsWithApproximatedSets.addAll(verifiedRuleConditionsWithApproximatedSet);
+	}
+	
+	/**
+	 * Builds set of decision rules from given minimal rule conditions.
+	 * 
+	 * @param minimalRuleConditionsWithApproximatedSets minimal rule conditions, each with approximated set for which it has been generated
+	 * @return set of decision rules with computable characteristics {@link RuleSetWithComputableCharacteristics}
+	 */
+	private RuleSetWithComputableCharacteristics buildRuleSet(List<RuleConditionsWithApproximatedSet> minimalRuleConditionsWithApproximatedSets) {
 		Rule[] rules = new Rule[minimalRuleConditionsWithApproximatedSets.size()];
 		RuleCoverageInformation[] ruleCoverageInformationArray = new RuleCoverageInformation[minimalRuleConditionsWithApproximatedSets.size()];
 		int ruleIndex = 0;
@@ -212,14 +312,23 @@ public class VCDomLEM {
 	 * @return list of {@link RuleConditions rule conditions} generated for considered components and approximated set
 	 */
 	private List<RuleConditions> calculateApproximatedSetRuleConditions(RuleInducerComponents ruleInducerComponents, ApproximatedSet approximatedSet) {
-		List<RuleConditions> approximatedSetRuleConditions = new ObjectArrayList<RuleConditions>(); //the result
-		
-		IntSortedSet indicesOfApproximationObjects = null; //set of objects that need to be covered (each object by at least one rule conditions)
+		IntSortedSet indicesOfApproximationObjects = getIndicesOfApproximationObjects(ruleInducerComponents, approximatedSet); //set of objects that need to be covered (each object by at least one rule conditions)
+		IntSet indicesOfObjectsThatCanBeCovered = getIndicesOfObjectsThatCanBeCovered(ruleInducerComponents, approximatedSet, indicesOfApproximationObjects); //indices of objects that are allowed to be covered
 		
-		RuleType ruleType = ruleInducerComponents.getRuleType();
-		AllowedNegativeObjectsType allowedCoveredNegativeObjectsType = ruleInducerComponents.getAllowedNegativeObjectsType();
+		return calculateApproximatedSetRuleConditions(ruleInducerComponents, approximatedSet, indicesOfApproximationObjects, indicesOfObjectsThatCanBeCovered);
+	}
+	
+	/**
+	 * Gets indices of objects from the approximation of given approximated set that need to be covered by rule conditions (each object by at least one rule conditions).
+	 * 
+	 * @param ruleInducerComponents {@link RuleInducerComponents rule inducer components} determining type of induced rules
+	 * @param approximatedSet considered {@link ApproximatedSet approximated set}
+	 * @return indices of objects from the lower approximation, upper approximation, or boundary of given approximated set, depending on the type of induced rules
+	 */
+	private IntSortedSet getIndicesOfApproximationObjects(RuleInducerComponents ruleInducerComponents, ApproximatedSet approximatedSet) {
+		IntSortedSet indicesOfApproximationObjects = null;
 		
-		switch (ruleType) {
+		switch (ruleInducerComponents.getRuleType()) {
 		case CERTAIN:
 			indicesOfApproximationObjects = approximatedSet.getLowerApproximation();
 			break;
@@ -231,28 +340,42 @@ public class VCDomLEM {
 			break;
 		}
 		
+		return indicesOfApproximationObjects;
+	}
+	
+	/**
+	 * Gets indices of objects that are allowed to be covered by rule conditions generated for given approximated set.
+	 * 
+	 * @param ruleInducerComponents {@link RuleInducerComponents rule inducer components} determining type of induced rules and type of negative objects allowed to be covered
+	 * @param approximatedSet considered {@link ApproximatedSet approximated set}
+	 * @param indicesOfApproximationObjects indices of objects from the approximation of given approximated set, as returned by {@link #getIndicesOfApproximationObjects(RuleInducerComponents, ApproximatedSet)}
+	 * @return immutable set of indices of objects that are allowed to be covered
+	 * 
+	 * @throws InvalidValueException if type of negative objects allowed to be covered is not properly set, or if approximate rules are considered
+	 */
+	private IntSet getIndicesOfObjectsThatCanBeCovered(RuleInducerComponents ruleInducerComponents, ApproximatedSet approximatedSet, IntSortedSet indicesOfApproximationObjects) {
 		IntSet indicesOfObjectsThatCanBeCovered = null; //indices of objects that are allowed to be covered
+		
+		RuleType ruleType = ruleInducerComponents.getRuleType();
+		AllowedNegativeObjectsType allowedCoveredNegativeObjectsType = ruleInducerComponents.getAllowedNegativeObjectsType();
+		
 		if (ruleType == RuleType.CERTAIN) {
 			switch (allowedCoveredNegativeObjectsType) {
 			case POSITIVE_REGION:
-				indicesOfObjectsThatCanBeCovered = new IntOpenHashSet(approximatedSet.size());
-				indicesOfObjectsThatCanBeCovered.addAll(approximatedSet.getObjects()); //positive objects
-				indicesOfObjectsThatCanBeCovered.addAll(approximatedSet.getPositiveRegion()); //positive objects from lower approximation (again) + negative objects in their dominance cones
-				indicesOfObjectsThatCanBeCovered.addAll(approximatedSet.getNeutralObjects());
+				indicesOfObjectsThatCanBeCovered = IntBitsetSortedSet.union(
+						approximatedSet.getObjects(), //positive objects
+						approximatedSet.getPositiveRegion(), //positive objects from lower approximation (again) + negative objects in their dominance cones
+						approximatedSet.getNeutralObjects());
 				break;
 			case POSITIVE_AND_BOUNDARY_REGIONS:
-				indicesOfObjectsThatCanBeCovered = new IntOpenHashSet(approximatedSet.size());
-				indicesOfObjectsThatCanBeCovered.addAll(approximatedSet.getObjects()); //positive objects
-				indicesOfObjectsThatCanBeCovered.addAll(approximatedSet.getPositiveRegion()); //positive objects from lower approximation (again) + negative objects in their dominance cones
-				indicesOfObjectsThatCanBeCovered.addAll(approximatedSet.getBoundaryRegion());
-				indicesOfObjectsThatCanBeCovered.addAll(approximatedSet.getNeutralObjects());
+				indicesOfObjectsThatCanBeCovered = IntBitsetSortedSet.union(
+						approximatedSet.getObjects(), //positive objects
+						approximatedSet.getPositiveRegion(), //positive objects from lower approximation (again) + negative objects in their dominance cones
+						approximatedSet.getBoundaryRegion(),
+						approximatedSet.getNeutralObjects());
 				break;
 			case ANY_REGION:
-				int numberOfObjects = approximatedSet.getInformationTable().getNumberOfObjects();
-				indicesOfObjectsThatCanBeCovered = new IntOpenHashSet(numberOfObjects);
-				for (int i = 0; i < numberOfObjects; i++) {
-					indicesOfObjectsThatCanBeCovered.add(i);
-				}
+				indicesOfObjectsThatCanBeCovered = IntBitsetSortedSet.interval(0, approximatedSet.getInformationTable().getNumberOfObjects());
 				break;
 			default:
 				throw new InvalidValueException("Type of negative objects allowed to be covered by certain rules is not properly set.");
@@ -263,14 +386,30 @@ public class VCDomLEM {
 					throw new InvalidValueException("Type of negative objects allowed to be covered by possible rules is not properly set.");
 				}
 				
-				indicesOfObjectsThatCanBeCovered = new IntOpenHashSet(indicesOfApproximationObjects.size());
-				indicesOfObjectsThatCanBeCovered.addAll(indicesOfApproximationObjects);
-				indicesOfObjectsThatCanBeCovered.addAll(approximatedSet.getNeutralObjects());
+				indicesOfObjectsThatCanBeCovered = IntBitsetSortedSet.union(indicesOfApproximationObjects, approximatedSet.getNeutralObjects());
 			} else {
 				throw new InvalidValueException("Approximate rules are not supported in VC-DomLEM algorithm.");
 			}
 		}
 		
+		return indicesOfObjectsThatCanBeCovered;
+	}
+	
+	/**
+	 * Generates a set of rule conditions for a single approximated set, covering given objects from the approximation of that set.
+	 *  
+	 * @param ruleInducerComponents {@link RuleInducerComponents rule inducer components} determining set of rule conditions induced for the given approximated set
+	 * @param approximatedSet considered {@link ApproximatedSet approximated set}
+	 * @param indicesOfApproximationObjects indices of objects that need to be covered (each object by at least one rule conditions)
+	 * @param indicesOfObjectsThatCanBeCovered immutable set of indices of objects that are allowed to be covered, passed to rule conditions without copying
+	 *        
+	 * @return list of {@link RuleConditions rule conditions} generated for considered components and approximated set
+	 */
+	private List<RuleConditions> calculateApproximatedSetRuleConditions(RuleInducerComponents ruleInducerComponents, ApproximatedSet approximatedSet,
+			IntSortedSet indicesOfApproximationObjects, IntSet indicesOfObjectsThatCanBeCovered) {
+		List<RuleConditions> approximatedSetRuleConditions = new ObjectArrayList<RuleConditions>(); //the result
+		RuleType ruleType = ruleInducerComponents.getRuleType();
+		
 		IntList setB = new IntArrayList(indicesOfApproximationObjects); //lower/upper approximation objects not already covered by rule conditions induced so far (set B from algorithm description)
 		RuleConditions ruleConditions;
 		RuleConditionsBuilder ruleConditionsBuilder;
@@ -281,7 +420,7 @@ public class VCDomLEM {
 			
 			ruleConditionsBuilder = new RuleConditionsBuilder(
 					indicesOfConsideredObjects, approximatedSet.getInformationTable(),
-					approximatedSet.getObjects(), indicesOfApproximationObjects, IntSets.unmodifiable(indicesOfObjectsThatCanBeCovered), approximatedSet.getNeutralObjects(),
+					approximatedSet.getObjects(), indicesOfApproximationObjects, indicesOfObjectsThatCanBeCovered, approximatedSet.getNeutralObjects(),
 					ruleType, approximatedSetRuleDecisionsProvider.getRuleSemantics(approximatedSet),
 					ruleInducerComponents.getConditionGenerator(), ruleInducerComponents.getRuleInductionStoppingConditionChecker(), ruleInducerComponents.getConditionSeparator());
 			ruleConditions = ruleConditionsBuilder.build(); //build rule conditions
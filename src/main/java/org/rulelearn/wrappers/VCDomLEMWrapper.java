@@ -17,6 +17,7 @@
 package org.rulelearn.wrappers;
 
 import org.rulelearn.approximations.ClassicalDominanceBasedRoughSetCalculator;
+import org.rulelearn.approximations.ConsistencyProfileCache;
 import org.rulelearn.approximations.Union;
 import org.rulelearn.approximations.Unions;
 import org.rulelearn.approximations.UnionsWithSingleLimitingDecision;
@@ -133,6 +134,50 @@ public class VCDomLEMWrapper implements VariableConsistencyRuleInducerWrapper {
 	public RuleSet induceRules(InformationTable informationTable, double consistencyThreshold) {
 		Precondition.notNull(informationTable, "Information table for VC-DomLEM wrapper employing consistency threshold is null.");
 		
+		return induceRules(new InformationTableWithDecisionDistributions(informationTable, true),
+				new VCDominanceBasedRoughSetCalculator(new ConsistencyProfileCache(EpsilonConsistencyMeasure.getInstance()), consistencyThreshold));
+	}
+	
+	/**
+	 * Induces rules for each of given consistency thresholds, like {@link #induceRules(InformationTable, double)}, but reusing calculations
+	 * that do not depend on the threshold. Information table with decision distributions (including dominance cones and their decision distributions)
+	 * is built only once, and consistency of each object with respect to each union of decision classes is calculated only once,
+	 * and then stored in a {@link ConsistencyProfileCache cache of consistency profiles} shared by all considered thresholds.
+	 * 
+	 * @param informationTable information table with learning data
+	 * @param consistencyThresholds consistency thresholds, each used both for calculating lower approximations and for deciding whether rule conditions can be accepted
+	 * @return array of sets of rules, one for each given threshold
+	 * 
+	 * @throws NullPointerException if any of the parameters is {@code null}
+	 */
+	public RuleSet[] induceRules(InformationTable informationTable, double[] consistencyThresholds) {
+		Precondition.notNull(informationTable, "Information table for VC-DomLEM wrapper employing consistency thresholds is null.");
+		Precondition.notNull(consistencyThresholds, "Consistency thresholds for VC-DomLEM wrapper are null.");
+		
+		InformationTableWithDecisionDistributions informationTableWithDecisionDistributions = new InformationTableWithDecisionDistributions(informationTable, true);
+		ConsistencyProfileCache consistencyProfileCache = new ConsistencyProfileCache(EpsilonConsistencyMeasure.getInstance());
+		RuleSet[] ruleSets = new RuleSet[consistencyThresholds.length];
+		
+		for (int i = 0; i < consistencyThresholds.length; i++) {
+			ruleSets[i] = induceRules(informationTableWithDecisionDistributions, new VCDominanceBasedRoughSetCalculator(consistencyProfileCache, consistencyThresholds[i]));
+		}
+		
+		return ruleSets;
+	}
+	
+	/**
+	 * Induces rules using given information table with decision distributions and given rough set calculator, whose consistency threshold
+	 * is used also for deciding whether rule conditions can be accepted.
+	 * Consistency profiles of all upward and downward unions are calculated together, before inducing any rule,
+	 * and stored in the cache of consistency profiles used by given calculator.
+	 * 
+	 * @param informationTable information table with learning data
+	 * @param roughSetCalculator rough set calculator used to calculate approximations of unions of decision classes
+	 * @return set of induced rules
+	 */
+	private RuleSet induceRules(InformationTableWithDecisionDistributions informationTable, VCDominanceBasedRoughSetCalculator roughSetCalculator) {
+		double consistencyThreshold = roughSetCalculator.getLowerApproximationConsistencyThreshold();
+		
 		final RuleInductionStoppingConditionChecker stoppingConditionChecker = 
 				new EvaluationAndCoverageStoppingConditionChecker(EpsilonConsistencyMeasure.getInstance(), EpsilonConsistencyMeasure.getInstance(), consistencyThreshold);
 		
@@ -141,8 +186,14 @@ public class VCDomLEMWrapper implements VariableConsistencyRuleInducerWrapper {
 				ruleConditionsPruner(new AttributeOrderRuleConditionsPruner(stoppingConditionChecker)).
 				build();
 		
-		Unions unions = new UnionsWithSingleLimitingDecision(new InformationTableWithDecisionDistributions(informationTable, true), 
-								   new VCDominanceBasedRoughSetCalculator(EpsilonConsistencyMeasure.getInstance(), consistencyThreshold));
+		Unions unions = new UnionsWithSingleLimitingDecision(informationTable, roughSetCalculator);
+		Union[] upwardUnions = unions.getUpwardUnions(true);
+		Union[] downwardUnions = unions.getDownwardUnions(true);
+		Union[] allUnions = new Union[upwardUnions.length + downwardUnions.length];
+		System.arraycopy(upwardUnions, 0, allUnions, 0, upwardUnions.length);
+		System.arraycopy(downwardUnions, 0, allUnions, upwardUnions.length, downwardUnions.length);
+		roughSetCalculator.calculateConsistencyProfiles(allUnions);
+		
 		ApproximatedSetProvider unionAtLeastProvider = new UnionProvider(Union.UnionType.AT_LEAST, unions);
 		ApproximatedSetProvider unionAtMostProvider = new UnionProvider(Union.UnionType.AT_MOST, unions);
 		ApproximatedSetRuleDecisionsProvider unionRuleDecisionsProvider = new UnionWithSingleLimitingDecisionRuleDecisionsProvider();
@@ -0,0 +1,108 @@
+/**
+ * Copyright (C) Jerzy Błaszczyński, Marcin Szeląg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.rulelearn.approximations;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.rulelearn.core.IntBitsetSortedSet;
+import org.rulelearn.data.InformationTableBuilder;
+import org.rulelearn.data.InformationTableWithDecisionDistributions;
+import org.rulelearn.measures.ConsistencyMeasure;
+import org.rulelearn.measures.Measure.MeasureType;
+import org.rulelearn.measures.dominance.EpsilonConsistencyMeasure;
+
+/**
+ * Tests for {@link ConsistencyProfile} and {@link ConsistencyProfileCache}.
+ *
+ * @author Jerzy Błaszczyński (<a href="mailto:jurek.blaszczynski@cs.put.poznan.pl">jurek.blaszczynski@cs.put.poznan.pl</a>)
+ * @author Marcin Szeląg (<a href="mailto:marcin.szelag@cs.put.poznan.pl">marcin.szelag@cs.put.poznan.pl</a>)
+ */
+class ConsistencyProfileTest {
+
+	/**
+	 * Test for {@link ConsistencyProfile#getObjectsReachingThreshold(double)}, checking, for all unions of decision classes built for "windsor" data set,
+	 * that lower approximations read from consistency profiles are the same as lower approximations calculated separately for each threshold.
+	 *
+	 * @throws IOException if data cannot be loaded
+	 */
+	@Test
+	void testGetObjectsReachingThreshold() throws IOException {
+		InformationTableWithDecisionDistributions informationTable = new InformationTableWithDecisionDistributions(
+				InformationTableBuilder.buildFromCSVFile("src/test/resources/data/csv/windsor.json", "src/test/resources/data/csv/windsor.csv", false, '\t'), true);
+		Unions unions = new UnionsWithSingleLimitingDecision(informationTable, new VCDominanceBasedRoughSetCalculator(EpsilonConsistencyMeasure.getInstance(), 0.0));
+		ConsistencyProfileCache consistencyProfileCache = new ConsistencyProfileCache(EpsilonConsistencyMeasure.getInstance());
+		double[] thresholds = {0.0, 0.01, 0.05, 0.1, 0.25, 1.0};
+
+		for (Union[] unionsOfOneType : new Union[][] {unions.getUpwardUnions(), unions.getDownwardUnions()}) {
+			for (Union union : unionsOfOneType) {
+				ConsistencyProfile consistencyProfile = consistencyProfileCache.getProfile(union);
+				assertSame(consistencyProfile, consistencyProfileCache.getProfile(union));
+
+				for (double threshold : thresholds) {
+					assertEquals(new VCDominanceBasedRoughSetCalculator(EpsilonConsistencyMeasure.getInstance(), threshold).calculateLowerApproximation(union),
+							consistencyProfile.getObjectsReachingThreshold(threshold));
+				}
+			}
+		}
+		assertEquals(unions.getUpwardUnions().length + unions.getDownwardUnions().length, consistencyProfileCache.size());
+
+		ConsistencyProfileCache otherConsistencyProfileCache = new ConsistencyProfileCache(EpsilonConsistencyMeasure.getInstance());
+		ConsistencyProfile[] consistencyProfiles = otherConsistencyProfileCache.getProfiles(unions.getUpwardUnions());
+		for (int i = 0; i < consistencyProfiles.length; i++) {
+			assertArrayEquals(consistencyProfileCache.getProfile(unions.getUpwardUnions()[i]).getObjectIndices(), consistencyProfiles[i].getObjectIndices());
+			assertArrayEquals(consistencyProfileCache.getProfile(unions.getUpwardUnions()[i]).getConsistencies(), consistencyProfiles[i].getConsistencies());
+			assertSame(consistencyProfiles[i], otherConsistencyProfileCache.getProfile(unions.getUpwardUnions()[i]));
+		}
+
+		Unions otherUnions = new UnionsWithSingleLimitingDecision(informationTable, new VCDominanceBasedRoughSetCalculator(EpsilonConsistencyMeasure.getInstance(), 0.1));
+		assertSame(consistencyProfileCache.getProfile(unions.getUpwardUnions()[0]), consistencyProfileCache.getProfile(otherUnions.getUpwardUnions()[0]));
+	}
+
+	/**
+	 * Test for {@link ConsistencyProfile#ConsistencyProfile(Union, ConsistencyMeasure)}, checking order of objects for a gain-type measure.
+	 */
+	@Test
+	@SuppressWarnings("unchecked")
+	void testConsistencyProfileGain() {
+		Union union = Mockito.mock(Union.class);
+		Mockito.when(union.getObjects()).thenReturn(new IntBitsetSortedSet(new int[] {1, 3, 4}));
+		ConsistencyMeasure<Union> consistencyMeasure = Mockito.mock(ConsistencyMeasure.class);
+		Mockito.when(consistencyMeasure.getType()).thenReturn(MeasureType.GAIN);
+		Mockito.when(consistencyMeasure.calculateConsistency(1, union)).thenReturn(0.5);
+		Mockito.when(consistencyMeasure.calculateConsistency(3, union)).thenReturn(0.9);
+		Mockito.when(consistencyMeasure.calculateConsistency(4, union)).thenReturn(0.5);
+		Mockito.when(consistencyMeasure.calculateConsistencies(union)).thenCallRealMethod();
+
+		ConsistencyProfile consistencyProfile = new ConsistencyProfile(union, consistencyMeasure);
+		assertEquals(MeasureType.GAIN, consistencyProfile.getMeasureType());
+		assertArrayEquals(new int[] {3, 1, 4}, consistencyProfile.getObjectIndices());
+		assertEquals(1, consistencyProfile.getNumberOfObjectsReachingThreshold(0.6));
+		assertEquals(3, consistencyProfile.getNumberOfObjectsReachingThreshold(0.5));
+		assertEquals(0, consistencyProfile.getNumberOfObjectsReachingThreshold(0.95));
+
+		assertThrows(NullPointerException.class, () -> new ConsistencyProfile(null, consistencyMeasure));
+		assertThrows(NullPointerException.class, () -> new ConsistencyProfile(union, null));
+	}
+
+}
@@ -19,11 +19,18 @@ package org.rulelearn.approximations;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
@@ -36,13 +43,17 @@ import org.rulelearn.data.Attribute;
 import org.rulelearn.data.AttributePreferenceType;
 import org.rulelearn.data.AttributeType;
 import org.rulelearn.data.CompositeDecision;
+import org.rulelearn.data.CumulativeDecisionDistribution;
 import org.rulelearn.data.Decision;
+import org.rulelearn.data.DecisionDistribution;
 import org.rulelearn.data.EvaluationAttribute;
 import org.rulelearn.data.IdentificationAttribute;
 import org.rulelearn.data.InformationTable;
+import org.rulelearn.data.InformationTableBuilder;
 import org.rulelearn.data.InformationTableWithDecisionDistributions;
 import org.rulelearn.data.SimpleDecision;
 import org.rulelearn.data.Table;
+import org.rulelearn.measures.dominance.EpsilonConsistencyMeasure;
 import org.rulelearn.types.EvaluationField;
 import org.rulelearn.types.IntegerField;
 import org.rulelearn.types.IntegerFieldFactory;
@@ -1883,4 +1894,126 @@ class UnionWithSingleLimitingDecisionTest {
 		assertEquals(union.toString(), "at-most(dec1=10,dec2=11)");
 	}
 
+	/**
+	 * Gets approximations, regions, and complementary union of given union.
+	 * 
+	 * @param union considered union
+	 * @return array with lower approximation, upper approximation, boundary, positive region, negative region, boundary region, and complementary union
+	 */
+	private Object[] getApproximationsAndRegions(Union union) {
+		return new Object[] {union.getLowerApproximation(), union.getUpperApproximation(), union.getBoundary(),
+				union.getPositiveRegion(), union.getNegativeRegion(), union.getBoundaryRegion(), union.getComplementaryUnion()};
+	}
+	
+	/**
+	 * Test for concurrent first access to approximations, regions, and complementary union of a union built for "windsor" data set.
+	 * Checks that all threads get the same memoized instances, equal to the ones calculated by a single thread.
+	 * 
+	 * @throws Exception if data cannot be loaded or any of the threads fails
+	 */
+	@Test
+	void testConcurrentFirstAccess() throws Exception {
+		InformationTableWithDecisionDistributions informationTable = new InformationTableWithDecisionDistributions(
+				InformationTableBuilder.buildFromCSVFile("src/test/resources/data/csv/windsor.json", "src/test/resources/data/csv/windsor.csv", false, '\t'), true);
+		DominanceBasedRoughSetCalculator roughSetCalculator = new VCDominanceBasedRoughSetCalculator(EpsilonConsistencyMeasure.getInstance(), 0.1);
+		Decision limitingDecision = new UnionsWithSingleLimitingDecision(informationTable, roughSetCalculator).getLimitingDecisions()[1];
+		
+		UnionWithSingleLimitingDecision union = new UnionWithSingleLimitingDecision(UnionType.AT_LEAST, limitingDecision, informationTable, roughSetCalculator);
+		Object[] expectedResults = getApproximationsAndRegions(
+				new UnionWithSingleLimitingDecision(UnionType.AT_LEAST, limitingDecision, informationTable, roughSetCalculator));
+		
+		int threadsCount = 8;
+		CountDownLatch startSignal = new CountDownLatch(1);
+		ExecutorService executorService = Executors.newFixedThreadPool(threadsCount);
+		List<Future<Object[]>> futures = new ArrayList<Future<Object[]>>();
+		Callable<Object[]> task = () -> {
+			startSignal.await();
+			return getApproximationsAndRegions(union);
+		};
+		
+		try {
+			for (int i = 0; i < threadsCount; i++) {
+				futures.add(executorService.submit(task));
+			}
+			startSignal.countDown();
+			
+			Object[] firstResults = futures.get(0).get();
+			for (int i = 0; i < expectedResults.length - 1; i++) {
+				assertEquals(expectedResults[i], firstResults[i]);
+			}
+			assertSame(union, ((Union)firstResults[expectedResults.length - 1]).getComplementaryUnion());
+			
+			for (Future<Object[]> future : futures) {
+				Object[] results = future.get();
+				for (int i = 0; i < results.length; i++) {
+					assertSame(firstResults[i], results[i]);
+				}
+			}
+		}
+		finally {
+			executorService.shutdownNow();
+		}
+	}
+	
+	/**
+	 * Test for {@link UnionWithSingleLimitingDecision#getNegativeCount(CumulativeDecisionDistribution)}, checking, for all unions (and their complementary unions)
+	 * built for "windsor" data set, that the number of negative objects in dominance cones is the same as the one obtained by checking each decision.
+	 * 
+	 * @throws IOException if data cannot be loaded
+	 */
+	@Test
+	void testGetNegativeCount() throws IOException {
+		InformationTableWithDecisionDistributions informationTable = new InformationTableWithDecisionDistributions(
+				InformationTableBuilder.safelyBuildFromCSVFile("src/test/resources/data/csv/windsor.json", "src/test/resources/data/csv/windsor.csv", false, '\t'), true);
+		Unions unions = new UnionsWithSingleLimitingDecision(informationTable, new ClassicalDominanceBasedRoughSetCalculator());
+		
+		for (Union[] unionsOfOneType : new Union[][] {unions.getUpwardUnions(), unions.getDownwardUnions()}) {
+			for (Union union : unionsOfOneType) {
+				for (UnionWithSingleLimitingDecision testedUnion : new UnionWithSingleLimitingDecision[] {(UnionWithSingleLimitingDecision)union,
+						((UnionWithSingleLimitingDecision)union).getComplementaryUnion()}) {
+					for (int x = 0; x < informationTable.getNumberOfObjects(); x++) {
+						DecisionDistribution coneDecisionDistribution = informationTable.getDominanceConesDecisionDistributions().getPositiveInvDConeDecisionClassDistribution(x);
+						int expectedNegativeCount = 0;
+						for (Decision decision : coneDecisionDistribution.getDecisions()) {
+							if (testedUnion.isDecisionNegative(decision)) {
+								expectedNegativeCount += coneDecisionDistribution.getCount(decision);
+							}
+						}
+						assertEquals(expectedNegativeCount, testedUnion.getNegativeCount((CumulativeDecisionDistribution)coneDecisionDistribution));
+					}
+				}
+			}
+		}
+		
+		assertEquals(-1, ((UnionWithSingleLimitingDecision)unions.getUpwardUnions()[0]).getNegativeCount(new CumulativeDecisionDistribution(new Decision[0])));
+	}
+
+	/**
+	 * Test method for {@link Union#calculatePositiveRegion(IntSortedSet)}, checking, for all unions built for "windsor" data set with missing values,
+	 * that positive regions calculated using dominance index are the same as positive regions calculated without that index.
+	 * 
+	 * @throws IOException if data cannot be loaded
+	 */
+	@Test
+	void testCalculatePositiveRegion05() throws IOException {
+		InformationTable informationTable = InformationTableBuilder.safelyBuildFromCSVFile("src/test/resources/data/csv/windsor.json", "src/test/resources/data/csv/windsor-mv.csv", false, '\t');
+		InformationTableWithDecisionDistributions withoutIndex = new InformationTableWithDecisionDistributions(informationTable, false, false);
+		InformationTableWithDecisionDistributions withIndex = new InformationTableWithDecisionDistributions(informationTable, false, true);
+		Unions unionsWithoutIndex = new UnionsWithSingleLimitingDecision(withoutIndex, new ClassicalDominanceBasedRoughSetCalculator());
+		Unions unionsWithIndex = new UnionsWithSingleLimitingDecision(withIndex, new ClassicalDominanceBasedRoughSetCalculator());
+		
+		Union[][] expectedUnionsOfBothTypes = new Union[][] {unionsWithoutIndex.getUpwardUnions(), unionsWithoutIndex.getDownwardUnions()};
+		Union[][] unionsOfBothTypes = new Union[][] {unionsWithIndex.getUpwardUnions(), unionsWithIndex.getDownwardUnions()};
+		
+		for (int t = 0; t < unionsOfBothTypes.length; t++) {
+			assertEquals(expectedUnionsOfBothTypes[t].length, unionsOfBothTypes[t].length);
+			for (int i = 0; i < unionsOfBothTypes[t].length; i++) {
+				Union expectedUnion = expectedUnionsOfBothTypes[t][i];
+				Union union = unionsOfBothTypes[t][i];
+				assertEquals(expectedUnion.getLowerApproximation(), union.getLowerApproximation());
+				assertEquals(expectedUnion.calculatePositiveRegion(expectedUnion.getLowerApproximation()), union.calculatePositiveRegion(union.getLowerApproximation()));
+			}
+		}
+	}
+
 }
@@ -24,7 +24,9 @@ import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.rulelearn.data.InformationTableWithDecisionDistributions;
+import org.rulelearn.core.IntBitsetSortedSet;
 import org.rulelearn.measures.ConsistencyMeasure;
+import org.rulelearn.measures.Measure.MeasureType;
 
 import it.unimi.dsi.fastutil.ints.IntBidirectionalIterator;
 import it.unimi.dsi.fastutil.ints.IntSortedSet;
@@ -198,4 +200,71 @@ class VCDominanceBasedRoughSetCalculatorTest {
 		assertTrue(upperApproximationIndices.contains(1));
 		assertTrue(upperApproximationIndices.contains(2));
 	}
+	/**
+	 * Test for method {@link org.rulelearn.approximations.VCDominanceBasedRoughSetCalculator#calculateLowerApproximations(Union, double[])},
+	 * and for calculation of lower approximation using a {@link ConsistencyProfileCache cache of consistency profiles}.
+	 */
+	@Test
+	void testCalculateLowerApproximations() {
+		when(this.unionMock.getObjects()).thenReturn(new IntBitsetSortedSet(new int[] {0, 2, 5, 7}));
+		when(this.unionMock.getUnionType()).thenReturn(Union.UnionType.AT_MOST);
+		when(this.unionMock.getNeutralObjects()).thenReturn(new IntBitsetSortedSet(new int[0]));
+		when(this.lowerApproximationConsistencyMeasureMock.getType()).thenReturn(MeasureType.COST);
+		when(this.lowerApproximationConsistencyMeasureMock.calculateConsistency(0, this.unionMock)).thenReturn(0.2);
+		when(this.lowerApproximationConsistencyMeasureMock.calculateConsistency(2, this.unionMock)).thenReturn(0.0);
+		when(this.lowerApproximationConsistencyMeasureMock.calculateConsistency(5, this.unionMock)).thenReturn(0.1);
+		when(this.lowerApproximationConsistencyMeasureMock.calculateConsistency(7, this.unionMock)).thenReturn(Double.NaN);
+		when(this.lowerApproximationConsistencyMeasureMock.calculateConsistencies(this.unionMock)).thenCallRealMethod();
+		
+		IntSortedSet[] lowerApproximations = vcDRSAcalculator.calculateLowerApproximations(this.unionMock, new double[] {-0.1, 0.0, 0.1, 0.15, 1.0});
+		assertEquals(new IntBitsetSortedSet(new int[0]), lowerApproximations[0]);
+		assertEquals(new IntBitsetSortedSet(new int[] {2}), lowerApproximations[1]);
+		assertEquals(new IntBitsetSortedSet(new int[] {2, 5}), lowerApproximations[2]);
+		assertEquals(new IntBitsetSortedSet(new int[] {2, 5}), lowerApproximations[3]);
+		assertEquals(new IntBitsetSortedSet(new int[] {0, 2, 5}), lowerApproximations[4]);
+		verify(this.lowerApproximationConsistencyMeasureMock, times(1)).calculateConsistency(0, this.unionMock);
+		
+		ConsistencyProfileCache consistencyProfileCache = new ConsistencyProfileCache(this.lowerApproximationConsistencyMeasureMock);
+		assertEquals(new IntBitsetSortedSet(new int[] {2, 5}), new VCDominanceBasedRoughSetCalculator(consistencyProfileCache, 0.1).calculateLowerApproximation(this.unionMock));
+		assertEquals(new IntBitsetSortedSet(new int[] {2}), new VCDominanceBasedRoughSetCalculator(consistencyProfileCache, 0.05).calculateLowerApproximation(this.unionMock));
+		assertEquals(1, consistencyProfileCache.size());
+		verify(this.lowerApproximationConsistencyMeasureMock, times(2)).calculateConsistency(0, this.unionMock); //once by the sweep, once by the cache
+		
+		assertThrows(NullPointerException.class, () -> new VCDominanceBasedRoughSetCalculator((ConsistencyProfileCache)null, 0.1));
+	}
+	
+	/**
+	 * Test for method {@link org.rulelearn.approximations.VCDominanceBasedRoughSetCalculator#calculateConsistencyProfiles(Union[])},
+	 * with and without a {@link ConsistencyProfileCache cache of consistency profiles}.
+	 */
+	@Test
+	void testCalculateConsistencyProfiles() {
+		when(this.unionMock.getObjects()).thenReturn(new IntBitsetSortedSet(new int[] {0, 2}));
+		when(this.complementaryUnionMock.getObjects()).thenReturn(new IntBitsetSortedSet(new int[] {1}));
+		when(this.unionMock.getUnionType()).thenReturn(Union.UnionType.AT_MOST);
+		when(this.complementaryUnionMock.getUnionType()).thenReturn(Union.UnionType.AT_LEAST);
+		when(this.unionMock.getNeutralObjects()).thenReturn(new IntBitsetSortedSet(new int[0]));
+		when(this.complementaryUnionMock.getNeutralObjects()).thenReturn(new IntBitsetSortedSet(new int[0]));
+		when(this.lowerApproximationConsistencyMeasureMock.getType()).thenReturn(MeasureType.COST);
+		Union[] unions = new Union[] {this.unionMock, this.complementaryUnionMock};
+		when(this.lowerApproximationConsistencyMeasureMock.calculateConsistencies(unions)).thenReturn(new double[][] {{0.2, 0.0}, {0.1}});
+		
+		ConsistencyProfile[] consistencyProfiles = vcDRSAcalculator.calculateConsistencyProfiles(unions);
+		assertEquals(2, consistencyProfiles.length);
+		assertArrayEquals(new int[] {2, 0}, consistencyProfiles[0].getObjectIndices());
+		assertArrayEquals(new double[] {0.0, 0.2}, consistencyProfiles[0].getConsistencies());
+		assertArrayEquals(new int[] {1}, consistencyProfiles[1].getObjectIndices());
+		assertArrayEquals(new double[] {0.1}, consistencyProfiles[1].getConsistencies());
+		
+		ConsistencyProfileCache consistencyProfileCache = new ConsistencyProfileCache(this.lowerApproximationConsistencyMeasureMock);
+		VCDominanceBasedRoughSetCalculator calculator = new VCDominanceBasedRoughSetCalculator(consistencyProfileCache, 0.1);
+		calculator.calculateConsistencyProfiles(unions);
+		assertEquals(2, consistencyProfileCache.size());
+		assertEquals(new IntBitsetSortedSet(new int[] {2}), calculator.calculateLowerApproximation(this.unionMock));
+		verify(this.lowerApproximationConsistencyMeasureMock, times(2)).calculateConsistencies(unions);
+		verify(this.lowerApproximationConsistencyMeasureMock, never()).calculateConsistency(anyInt(), any(Union.class));
+		
+		assertThrows(NullPointerException.class, () -> vcDRSAcalculator.calculateConsistencyProfiles(null));
+	}
+	
 }
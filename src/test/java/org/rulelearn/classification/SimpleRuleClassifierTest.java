@@ -17,6 +17,8 @@
 package org.rulelearn.classification;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.fail;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.when;
@@ -28,6 +30,7 @@ import java.io.FileReader;
 import java.io.IOException;
 import java.security.NoSuchAlgorithmException;
 import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
 
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
@@ -38,11 +41,13 @@ import org.rulelearn.data.AttributeType;
 import org.rulelearn.data.EvaluationAttribute;
 import org.rulelearn.data.EvaluationAttributeWithContext;
 import org.rulelearn.data.InformationTable;
+import org.rulelearn.data.InformationTableBuilder;
 import org.rulelearn.data.SimpleDecision;
 import org.rulelearn.data.json.AttributeParser;
 import org.rulelearn.data.json.ObjectParser;
 import org.rulelearn.rules.ConditionAtLeast;
 import org.rulelearn.rules.ConditionAtMost;
+import org.rulelearn.rules.CoveringRulesIndex;
 import org.rulelearn.rules.Rule;
 import org.rulelearn.rules.RuleSet;
 import org.rulelearn.rules.ruleml.RuleParser;
@@ -50,6 +55,7 @@ import org.rulelearn.types.ElementList;
 import org.rulelearn.types.EnumerationField;
 import org.rulelearn.types.EnumerationFieldFactory;
 import org.rulelearn.types.UnknownSimpleFieldMV2;
+import org.rulelearn.wrappers.VCDomLEMWrapper;
 
 /**
  * Tests for {@link SimpleRuleClassifier}.
@@ -234,6 +240,72 @@ class SimpleRuleClassifierTest {
 				results[3].getSuggestedDecision());
 	}
 	
+	/**
+	 * Gets "windsor" information table.
+	 * 
+	 * @return "windsor" information table
+	 */
+	private InformationTable getInformationTableWindsor() {
+		InformationTable informationTable = null;
+		try {
+			informationTable = InformationTableBuilder.buildFromCSVFile("src/test/resources/data/csv/windsor.json", "src/test/resources/data/csv/windsor.csv", false, '\t');
+		}
+		catch (IOException exception) {
+			fail(exception.toString());
+		}
+		return informationTable;
+	}
+	
+	/**
+	 * Test for {@link SimpleRuleClassifier#classifyAll(InformationTable)}, checking that results obtained using {@link CoveringRulesIndex}
+	 * are the same as results of {@link SimpleRuleClassifier#classify(int, InformationTable)}.
+	 */
+	@Test
+	void testClassifyAllWithCoveringRulesIndex() {
+		InformationTable informationTable = getInformationTableWindsor();
+		RuleSet ruleSet = new VCDomLEMWrapper().induceRules(informationTable, 0.1);
+		SimpleRuleClassifier classifier = new SimpleRuleClassifier(ruleSet, new SimpleClassificationResult((SimpleDecision)informationTable.getDecision(0)));
+		
+		SimpleClassificationResult[] results = classifier.classifyAll(informationTable);
+		assertEquals(informationTable.getNumberOfObjects(), results.length);
+		for (int i = 0; i < results.length; i++) {
+			assertEquals(classifier.classify(i, informationTable).getSuggestedDecision(), results[i].getSuggestedDecision());
+		}
+		assertSame(ruleSet, classifier.getCoveringRulesIndex().getRuleSet());
+		assertSame(classifier.getCoveringRulesIndex(), classifier.getCoveringRulesIndex());
+	}
+	
+	/**
+	 * Test for {@link SimpleRuleClassifier#classifyAll(InformationTable)}, for a classifier classifying objects in parallel.
+	 */
+	@Test
+	void testClassifyAllInParallel() {
+		InformationTable informationTable = getInformationTableWindsor();
+		RuleSet ruleSet = new VCDomLEMWrapper().induceRules(informationTable, 0.1);
+		SimpleClassificationResult defaultClassificationResult = new SimpleClassificationResult((SimpleDecision)informationTable.getDecision(0));
+		
+		SimpleClassificationResult[] expectedResults = new SimpleRuleClassifier(ruleSet, defaultClassificationResult, false).classifyAll(informationTable);
+		ForkJoinPool forkJoinPool = new ForkJoinPool(4);
+		try {
+			SimpleClassificationResult[] results = new SimpleRuleClassifier(ruleSet, defaultClassificationResult, forkJoinPool).classifyAll(informationTable);
+			assertEquals(expectedResults.length, results.length);
+			for (int i = 0; i < results.length; i++) {
+				assertEquals(expectedResults[i].getSuggestedDecision(), results[i].getSuggestedDecision());
+			}
+		} finally {
+			forkJoinPool.shutdown();
+		}
+	}
+	
+	/**
+	 * Test for {@link SimpleRuleClassifier#SimpleRuleClassifier(RuleSet, SimpleClassificationResult, ForkJoinPool)}, for {@code null} fork-join pool.
+	 */
+	@Test
+	void testConstructorNullForkJoinPool() {
+		this.setUpForTestWithGainTypeDecisionAttribute(AttributePreferenceType.GAIN);
+		assertThrows(NullPointerException.class, () -> new SimpleRuleClassifier(this.ruleSetMock, this.classifier.getDefaultClassificationResult(), (ForkJoinPool)null));
+	}
+	
 	/**
 	 * Tests parsing RuleML file and using rules to classify objects loaded from JSON.
 	 */
@@ -0,0 +1,171 @@
+/**
+ * Copyright (C) Jerzy Błaszczyński, Marcin Szeląg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.rulelearn.classification;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.io.FileReader;
+import java.io.IOException;
+
+import org.junit.jupiter.api.Test;
+import org.rulelearn.core.InvalidValueException;
+import org.rulelearn.data.Attribute;
+import org.rulelearn.data.AttributePreferenceType;
+import org.rulelearn.data.InformationTable;
+import org.rulelearn.data.SimpleDecision;
+import org.rulelearn.data.csv.ObjectParser;
+import org.rulelearn.data.json.AttributeParser;
+import org.rulelearn.rules.Rule;
+import org.rulelearn.rules.RuleSet;
+import org.rulelearn.types.IntegerFieldFactory;
+import org.rulelearn.wrappers.VCDomLEMWrapper;
+
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import it.unimi.dsi.fastutil.objects.ObjectList;
+
+/**
+ * Tests for {@link StreamingSimpleClassifier}.
+ *
+ * @author Jerzy Błaszczyński (<a href="mailto:jurek.blaszczynski@cs.put.poznan.pl">jurek.blaszczynski@cs.put.poznan.pl</a>)
+ * @author Marcin Szeląg (<a href="mailto:marcin.szelag@cs.put.poznan.pl">marcin.szelag@cs.put.poznan.pl</a>)
+ */
+class StreamingSimpleClassifierTest {
+
+	/**
+	 * Parses attributes from given JSON file.
+	 *
+	 * @param path path to JSON file with attributes
+	 * @return parsed attributes
+	 */
+	private Attribute[] getAttributes(String path) {
+		Attribute[] attributes = null;
+		try (FileReader attributesReader = new FileReader(path)) {
+			attributes = new AttributeParser().parseAttributes(attributesReader);
+		}
+		catch (IOException exception) {
+			fail(exception.toString());
+		}
+		return attributes;
+	}
+
+	/**
+	 * Checks that given classification results, received by a sink, are the same as the results of classification of all objects from given information table.
+	 *
+	 * @param classifier classifier
+	 * @param informationTable information table with all objects
+	 * @param objectIndices indices of objects received by a sink
+	 * @param classificationResults classification results received by a sink
+	 */
+	private void assertClassificationResults(SimpleClassifier classifier, InformationTable informationTable, ObjectList<Integer> objectIndices,
+			ObjectList<SimpleClassificationResult> classificationResults) {
+		SimpleClassificationResult[] expectedClassificationResults = classifier.classifyAll(informationTable);
+
+		assertEquals(expectedClassificationResults.length, classificationResults.size());
+		for (int i = 0; i < expectedClassificationResults.length; i++) {
+			assertEquals(i, objectIndices.get(i).intValue());
+			assertEquals(expectedClassificationResults[i].getSuggestedDecision(), classificationResults.get(i).getSuggestedDecision());
+		}
+	}
+
+	/**
+	 * Test for {@link StreamingSimpleClassifier#classify(java.io.Reader, ObjectParser, SimpleClassificationResultSink)}.
+	 */
+	@Test
+	void testClassifyCSV() {
+		Attribute[] attributes = getAttributes("src/test/resources/data/csv/windsor.json");
+		ObjectParser objectParser = new ObjectParser.Builder(attributes).header(false).separator('\t').build();
+		InformationTable informationTable = null;
+		try (FileReader objectsReader = new FileReader("src/test/resources/data/csv/windsor.csv")) {
+			informationTable = objectParser.parseObjects(objectsReader);
+		}
+		catch (IOException exception) {
+			fail(exception.toString());
+		}
+		SimpleRuleClassifier classifier = new SimpleRuleClassifier(new VCDomLEMWrapper().induceRules(informationTable),
+				new SimpleClassificationResult((SimpleDecision)informationTable.getDecision(0)));
+		StreamingSimpleClassifier streamingClassifier = new StreamingSimpleClassifier(classifier, 100);
+		ObjectList<Integer> objectIndices = new ObjectArrayList<Integer>();
+		ObjectList<SimpleClassificationResult> classificationResults = new ObjectArrayList<SimpleClassificationResult>();
+
+		try (FileReader objectsReader = new FileReader("src/test/resources/data/csv/windsor-mv.csv")) {
+			assertEquals(546, streamingClassifier.classify(objectsReader, objectParser, (objectIndex, classificationResult) -> {
+				objectIndices.add(objectIndex);
+				classificationResults.add(classificationResult);
+			}));
+		}
+		catch (IOException exception) {
+			fail(exception.toString());
+		}
+		try (FileReader objectsReader = new FileReader("src/test/resources/data/csv/windsor-mv.csv")) {
+			assertClassificationResults(classifier, objectParser.parseObjects(objectsReader), objectIndices, classificationResults);
+		}
+		catch (IOException exception) {
+			fail(exception.toString());
+		}
+	}
+
+	/**
+	 * Test for {@link StreamingSimpleClassifier#classify(java.io.Reader, org.rulelearn.data.json.ObjectParser, SimpleClassificationResultSink)}.
+	 */
+	@Test
+	void testClassifyJSON() {
+		Attribute[] attributes = getAttributes("src/test/resources/data/json/metadata-prioritisation.json");
+		org.rulelearn.data.json.ObjectParser objectParser = new org.rulelearn.data.json.ObjectParser.Builder(attributes).build();
+		InformationTable informationTable = null;
+		try (FileReader objectsReader = new FileReader("src/test/resources/data/json/learning-set-prioritisation-2019-02-27.json")) {
+			informationTable = objectParser.parseObjects(objectsReader);
+		}
+		catch (IOException exception) {
+			fail(exception.toString());
+		}
+		SimpleRuleClassifier classifier = new SimpleRuleClassifier(new VCDomLEMWrapper().induceRules(informationTable),
+				new SimpleClassificationResult((SimpleDecision)informationTable.getDecision(0)));
+		StreamingSimpleClassifier streamingClassifier = new StreamingSimpleClassifier(classifier, 7);
+		ObjectList<Integer> objectIndices = new ObjectArrayList<Integer>();
+		ObjectList<SimpleClassificationResult> classificationResults = new ObjectArrayList<SimpleClassificationResult>();
+
+		try (FileReader objectsReader = new FileReader("src/test/resources/data/json/learning-set-prioritisation-2019-02-27.json")) {
+			assertEquals(50, streamingClassifier.classify(objectsReader, objectParser, (objectIndex, classificationResult) -> {
+				objectIndices.add(objectIndex);
+				classificationResults.add(classificationResult);
+			}));
+		}
+		catch (IOException exception) {
+			fail(exception.toString());
+		}
+		assertClassificationResults(classifier, informationTable, objectIndices, classificationResults);
+	}
+
+	/**
+	 * Test for {@link StreamingSimpleClassifier#StreamingSimpleClassifier(SimpleClassifier, int)}.
+	 */
+	@Test
+	void testStreamingSimpleClassifier() {
+		SimpleClassifier classifier = new SimpleRuleClassifier(new RuleSet(new Rule[0]),
+				new SimpleClassificationResult(new SimpleDecision(IntegerFieldFactory.getInstance().create(1, AttributePreferenceType.GAIN), 0)));
+		StreamingSimpleClassifier streamingClassifier = new StreamingSimpleClassifier(classifier);
+
+		assertSame(classifier, streamingClassifier.getClassifier());
+		assertEquals(StreamingSimpleClassifier.DEFAULT_BATCH_SIZE, streamingClassifier.getBatchSize());
+		assertThrows(NullPointerException.class, () -> new StreamingSimpleClassifier(null));
+		assertThrows(InvalidValueException.class, () -> new StreamingSimpleClassifier(classifier, 0));
+	}
+
+}
@@ -0,0 +1,169 @@
+/**
+ * Copyright (C) Jerzy Błaszczyński, Marcin Szeląg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.rulelearn.core;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.NoSuchElementException;
+
+import org.junit.jupiter.api.Test;
+
+import it.unimi.dsi.fastutil.ints.IntBidirectionalIterator;
+import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
+import it.unimi.dsi.fastutil.ints.IntSet;
+
+/**
+ * Tests for {@link IntBitsetSortedSet}.
+ *
+ * @author Jerzy Błaszczyński (<a href="mailto:jurek.blaszczynski@cs.put.poznan.pl">jurek.blaszczynski@cs.put.poznan.pl</a>)
+ * @author Marcin Szeląg (<a href="mailto:marcin.szelag@cs.put.poznan.pl">marcin.szelag@cs.put.poznan.pl</a>)
+ */
+class IntBitsetSortedSetTest {
+
+	/**
+	 * Test for {@link IntBitsetSortedSet#IntBitsetSortedSet(int[])}, checking that elements are sorted, duplicates are ignored,
+	 * and that the set is consistent with its bitset.
+	 */
+	@Test
+	void testIntBitsetSortedSet() {
+		IntBitsetSortedSet set = new IntBitsetSortedSet(new int[] {70, 3, 0, 64, 3, 127});
+
+		assertArrayEquals(new int[] {0, 3, 64, 70, 127}, set.getSortedElements());
+		assertArrayEquals(new long[] {(1L << 0) | (1L << 3), (1L << 0) | (1L << 6) | (1L << 63)}, set.getBitset());
+		assertEquals(5, set.size());
+		assertEquals(0, set.firstInt());
+		assertEquals(127, set.lastInt());
+		assertTrue(set.contains(64));
+		assertFalse(set.contains(65));
+		assertFalse(set.contains(128));
+		assertFalse(set.contains(-1));
+
+		assertThrows(NullPointerException.class, () -> new IntBitsetSortedSet((int[])null));
+		assertThrows(InvalidValueException.class, () -> new IntBitsetSortedSet(new int[] {1, -1}));
+	}
+
+	/**
+	 * Test for {@link IntBitsetSortedSet#equals(Object)} and {@link IntBitsetSortedSet#hashCode()}, comparing with a hash set.
+	 */
+	@Test
+	void testEqualsAndHashCode() {
+		IntSet hashSet = new IntOpenHashSet(new int[] {5, 100, 64});
+		IntBitsetSortedSet set = new IntBitsetSortedSet(hashSet);
+
+		assertEquals(hashSet, set);
+		assertEquals(set, hashSet);
+		assertEquals(hashSet.hashCode(), set.hashCode());
+		assertEquals(new IntBitsetSortedSet(new int[] {100, 5, 64}), set);
+		assertFalse(set.equals(new IntBitsetSortedSet(new int[] {5, 64})));
+	}
+
+	/**
+	 * Test for {@link IntBitsetSortedSet#iterator()} and {@link IntBitsetSortedSet#iterator(int)}.
+	 */
+	@Test
+	void testIterator() {
+		IntBitsetSortedSet set = new IntBitsetSortedSet(new int[] {2, 4, 6});
+		IntBidirectionalIterator iterator = set.iterator(4);
+
+		assertTrue(iterator.hasNext());
+		assertEquals(6, iterator.nextInt());
+		assertFalse(iterator.hasNext());
+		assertThrows(NoSuchElementException.class, () -> iterator.nextInt());
+		assertEquals(6, iterator.previousInt());
+		assertEquals(4, iterator.previousInt());
+		assertEquals(2, iterator.previousInt());
+		assertFalse(iterator.hasPrevious());
+
+		assertEquals(4, set.iterator(3).nextInt());
+		assertEquals(2, set.iterator().nextInt());
+		assertThrows(UnsupportedOperationException.class, () -> {
+			IntBidirectionalIterator removingIterator = set.iterator();
+			removingIterator.nextInt();
+			removingIterator.remove();
+		});
+	}
+
+	/**
+	 * Test for {@link IntBitsetSortedSet#subSet(int, int)}, {@link IntBitsetSortedSet#headSet(int)}, and {@link IntBitsetSortedSet#tailSet(int)}.
+	 */
+	@Test
+	void testSubSets() {
+		IntBitsetSortedSet set = new IntBitsetSortedSet(new int[] {1, 3, 5, 7});
+
+		assertArrayEquals(new int[] {3, 5}, set.subSet(2, 7).getSortedElements());
+		assertArrayEquals(new int[] {1, 3}, set.headSet(5).getSortedElements());
+		assertArrayEquals(new int[] {5, 7}, set.tailSet(5).getSortedElements());
+		assertSame(set, set.tailSet(0));
+		assertTrue(set.subSet(6, 2).isEmpty());
+	}
+
+	/**
+	 * Test for modifying methods of {@link IntBitsetSortedSet}, and for methods concerning the first and the last element of an empty set.
+	 */
+	@Test
+	void testImmutability() {
+		IntBitsetSortedSet set = new IntBitsetSortedSet(new int[] {1});
+
+		assertThrows(UnsupportedOperationException.class, () -> set.add(2));
+		assertThrows(UnsupportedOperationException.class, () -> set.remove(1));
+		assertThrows(UnsupportedOperationException.class, () -> set.clear());
+		assertThrows(UnsupportedOperationException.class, () -> set.addAll(new IntOpenHashSet(new int[] {2})));
+
+		IntBitsetSortedSet emptySet = new IntBitsetSortedSet(new int[0]);
+		assertThrows(NoSuchElementException.class, () -> emptySet.firstInt());
+		assertThrows(NoSuchElementException.class, () -> emptySet.lastInt());
+	}
+
+	/**
+	 * Test for {@link IntBitsetSortedSet#fromBitset(long[])}, {@link IntBitsetSortedSet#of(it.unimi.dsi.fastutil.ints.IntCollection)},
+	 * {@link IntBitsetSortedSet#union(it.unimi.dsi.fastutil.ints.IntCollection...)}, and {@link IntBitsetSortedSet#interval(int, int)}.
+	 */
+	@Test
+	void testFactoryMethods() {
+		IntBitsetSortedSet set = IntBitsetSortedSet.fromBitset(new long[] {0b1010L, 0L, 0L});
+		assertArrayEquals(new int[] {1, 3}, set.getSortedElements());
+		assertEquals(1, set.getBitset().length); //trailing empty words are dropped
+		assertSame(set, IntBitsetSortedSet.of(set));
+
+		IntBitsetSortedSet union = IntBitsetSortedSet.union(set, new IntOpenHashSet(new int[] {2, 65}), new IntBitsetSortedSet(new int[0]));
+		assertArrayEquals(new int[] {1, 2, 3, 65}, union.getSortedElements());
+
+		assertArrayEquals(new int[] {62, 63, 64}, IntBitsetSortedSet.interval(62, 65).getSortedElements());
+		assertTrue(IntBitsetSortedSet.interval(3, 3).isEmpty());
+		assertThrows(InvalidValueException.class, () -> IntBitsetSortedSet.interval(-1, 3));
+	}
+
+	/**
+	 * Test for {@link IntBitsetSortedSet#getBitset(int)} and {@link IntBitsetSortedSet#getWord(int)}.
+	 */
+	@Test
+	void testGetBitset() {
+		IntBitsetSortedSet set = new IntBitsetSortedSet(new int[] {1, 64});
+
+		assertSame(set.getBitset(), set.getBitset(2));
+		assertArrayEquals(new long[] {2L, 1L, 0L}, set.getBitset(3));
+		assertThrows(InvalidValueException.class, () -> set.getBitset(1));
+		assertEquals(1L, set.getWord(1));
+		assertEquals(0L, set.getWord(5));
+	}
+
+}
@@ -0,0 +1,193 @@
+/**
+ * Copyright (C) Jerzy Błaszczyński, Marcin Szeląg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.rulelearn.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
+import it.unimi.dsi.fastutil.ints.IntListIterator;
+import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
+import it.unimi.dsi.fastutil.ints.IntSet;
+
+/**
+ * Tests for {@link IntCompressedSortedList}.
+ *
+ * @author Jerzy Błaszczyński (<a href="mailto:jurek.blaszczynski@cs.put.poznan.pl">jurek.blaszczynski@cs.put.poznan.pl</a>)
+ * @author Marcin Szeląg (<a href="mailto:marcin.szelag@cs.put.poznan.pl">marcin.szelag@cs.put.poznan.pl</a>)
+ */
+class IntCompressedSortedListTest {
+
+	/**
+	 * Gets list with sparse elements of the first chunk, dense elements of the second chunk, and runs of consecutive elements in the third chunk.
+	 *
+	 * @return list of strictly increasing elements
+	 */
+	private IntList getElements() {
+		IntList elements = new IntArrayList();
+		for (int i = 0; i < 65536; i += 97) { //sparse
+			elements.add(i);
+		}
+		Random random = new Random(0L);
+		for (int i = 65536; i < 2 * 65536; i++) { //dense, with many short runs
+			if (random.nextInt(4) != 0) {
+				elements.add(i);
+			}
+		}
+		for (int i = 3 * 65536; i < 3 * 65536 + 30000; i++) { //two runs
+			if (i != 3 * 65536 + 1000) {
+				elements.add(i);
+			}
+		}
+		elements.add(Integer.MAX_VALUE);
+		return elements;
+	}
+
+	/**
+	 * Test for {@link IntCompressedSortedList#IntCompressedSortedList(IntList)}, checking types of containers and that the list is equal to the compressed one.
+	 */
+	@Test
+	void testIntCompressedSortedList() {
+		IntList elements = this.getElements();
+		IntCompressedSortedList list = new IntCompressedSortedList(elements);
+
+		assertEquals(4, list.containers.length);
+		assertTrue(list.containers[0] instanceof IntCompressedSortedList.ArrayContainer);
+		assertTrue(list.containers[1] instanceof IntCompressedSortedList.BitsetContainer);
+		assertTrue(list.containers[2] instanceof IntCompressedSortedList.RunContainer);
+		assertTrue(list.containers[3] instanceof IntCompressedSortedList.ArrayContainer);
+
+		assertEquals(elements.size(), list.size());
+		assertEquals(elements, list);
+		assertEquals(list, elements);
+		assertEquals(elements.hashCode(), list.hashCode());
+		for (int i = 0; i < elements.size(); i += 7) {
+			assertEquals(elements.getInt(i), list.getInt(i));
+		}
+		assertEquals(Integer.MAX_VALUE, list.getInt(list.size() - 1));
+
+		assertEquals(0, new IntCompressedSortedList(new IntArrayList()).size());
+		assertThrows(NullPointerException.class, () -> new IntCompressedSortedList(null));
+		assertThrows(InvalidValueException.class, () -> new IntCompressedSortedList(new IntArrayList(new int[] {1, 1})));
+		assertThrows(InvalidValueException.class, () -> new IntCompressedSortedList(new IntArrayList(new int[] {-1, 1})));
+		assertThrows(IndexOutOfBoundsException.class, () -> list.getInt(list.size()));
+		assertThrows(UnsupportedOperationException.class, () -> list.add(0));
+		assertThrows(UnsupportedOperationException.class, () -> list.removeInt(0));
+	}
+
+	/**
+	 * Test for {@link IntCompressedSortedList#isCompressible(IntList)}.
+	 */
+	@Test
+	void testIsCompressible() {
+		assertTrue(IntCompressedSortedList.isCompressible(new IntArrayList()));
+		assertTrue(IntCompressedSortedList.isCompressible(new IntArrayList(new int[] {0, 5, 70000})));
+		assertFalse(IntCompressedSortedList.isCompressible(new IntArrayList(new int[] {0, 5, 5})));
+		assertFalse(IntCompressedSortedList.isCompressible(new IntArrayList(new int[] {5, 0})));
+		assertFalse(IntCompressedSortedList.isCompressible(new IntArrayList(new int[] {-2, 0})));
+	}
+
+	/**
+	 * Test for {@link IntCompressedSortedList#contains(int)}.
+	 */
+	@Test
+	void testContains() {
+		IntList elements = this.getElements();
+		IntSet elementsSet = new IntOpenHashSet(elements);
+		IntCompressedSortedList list = new IntCompressedSortedList(elements);
+
+		for (int i = 0; i < 4 * 65536; i++) {
+			assertEquals(elementsSet.contains(i), list.contains(i));
+		}
+		assertTrue(list.contains(Integer.MAX_VALUE));
+		assertFalse(list.contains(-1));
+	}
+
+	/**
+	 * Test for {@link IntCompressedSortedList#listIterator(int)}, checking iteration in both directions.
+	 */
+	@Test
+	void testListIterator() {
+		IntList elements = this.getElements();
+		IntCompressedSortedList list = new IntCompressedSortedList(elements);
+		IntListIterator iterator = list.listIterator(list.size());
+
+		for (int i = elements.size() - 1; i >= 0; i--) {
+			assertEquals(elements.getInt(i), iterator.previousInt());
+		}
+		assertThrows(NoSuchElementException.class, () -> iterator.previousInt());
+		assertEquals(elements.getInt(0), iterator.nextInt());
+		assertEquals(elements.getInt(1), iterator.nextInt());
+		assertEquals(elements.getInt(1), iterator.previousInt());
+		assertEquals(1, iterator.nextIndex());
+
+		IntListIterator middleIterator = list.listIterator(1000);
+		assertEquals(elements.getInt(1000), middleIterator.nextInt());
+		assertThrows(IndexOutOfBoundsException.class, () -> list.listIterator(list.size() + 1));
+	}
+
+	/**
+	 * Test for {@link IntCompressedSortedList#countElementsIn(IntSet...)}, comparing counts calculated word by word for bitset sorted sets
+	 * with counts calculated for hash sets.
+	 */
+	@Test
+	void testCountElementsIn() {
+		IntList elements = this.getElements();
+		IntCompressedSortedList list = new IntCompressedSortedList(elements);
+		Random random = new Random(1L);
+		IntSet set1 = new IntOpenHashSet();
+		IntSet set2 = new IntOpenHashSet();
+		for (int i = 0; i < 4 * 65536; i++) {
+			if (random.nextInt(3) == 0) {
+				set1.add(i);
+			} else if (random.nextInt(5) == 0) {
+				set2.add(i);
+			}
+		}
+
+		int expectedCount1 = 0;
+		int expectedCount12 = 0;
+		for (int element : elements) {
+			if (set1.contains(element)) {
+				expectedCount1++;
+			}
+			if (set1.contains(element) || set2.contains(element)) {
+				expectedCount12++;
+			}
+		}
+		IntBitsetSortedSet bitsetSet1 = new IntBitsetSortedSet(set1);
+		IntBitsetSortedSet bitsetSet2 = new IntBitsetSortedSet(set2);
+
+		assertEquals(expectedCount1, list.countElementsIn(set1));
+		assertEquals(expectedCount1, list.countElementsIn(bitsetSet1));
+		assertEquals(expectedCount12, list.countElementsIn(set1, set2));
+		assertEquals(expectedCount12, list.countElementsIn(bitsetSet1, bitsetSet2));
+		assertEquals(expectedCount12, list.countElementsIn(bitsetSet1, set2));
+		assertEquals(0, list.countElementsIn());
+		assertEquals(expectedCount1, OperationsOnCollections.getNumberOfElementsFromListInSet(list, bitsetSet1));
+		assertEquals(elements.size() - expectedCount12, OperationsOnCollections.getNumberOfElementsFromListNotPresentInSets(list, bitsetSet1, bitsetSet2));
+	}
+
+}
@@ -0,0 +1,187 @@
+/**
+ * Copyright (C) Jerzy Błaszczyński, Marcin Szeląg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.rulelearn.data;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.io.IOException;
+
+import org.junit.jupiter.api.Test;
+import org.rulelearn.core.InvalidTypeException;
+import org.rulelearn.core.TernaryLogicValue;
+import org.rulelearn.core.UnknownValueException;
+import org.rulelearn.dominance.DominanceChecker;
+import org.rulelearn.dominance.DominanceIndex;
+import org.rulelearn.types.EnumerationField;
+import org.rulelearn.types.EvaluationField;
+import org.rulelearn.types.RealField;
+import org.rulelearn.types.UnknownSimpleField;
+
+/**
+ * Tests for {@link ColumnarTable}.
+ *
+ * @author Jerzy Błaszczyński (<a href="mailto:jurek.blaszczynski@cs.put.poznan.pl">jurek.blaszczynski@cs.put.poznan.pl</a>)
+ * @author Marcin Szeląg (<a href="mailto:marcin.szelag@cs.put.poznan.pl">marcin.szelag@cs.put.poznan.pl</a>)
+ */
+class ColumnarTableTest {
+
+	/**
+	 * Gets "windsor" information table with missing values.
+	 *
+	 * @return "windsor" information table with missing values
+	 */
+	private InformationTable getInformationTable() {
+		InformationTable informationTable = null;
+		try {
+			informationTable = InformationTableBuilder.buildFromCSVFile("src/test/resources/data/csv/windsor.json", "src/test/resources/data/csv/windsor-mv.csv", false, '\t');
+		}
+		catch (IOException exception) {
+			fail(exception.toString());
+		}
+		return informationTable;
+	}
+
+	/**
+	 * Test for {@link ColumnarTable#getField(int, int)} and {@link ColumnarTable#getFields(int, boolean)}.
+	 */
+	@Test
+	void testGetField() {
+		Table<EvaluationAttribute, EvaluationField> table = getInformationTable().getActiveConditionAttributeFields();
+		ColumnarTable columnarTable = new ColumnarTable(table);
+
+		assertEquals(table.getNumberOfObjects(), columnarTable.getNumberOfObjects());
+		assertEquals(table.getNumberOfAttributes(), columnarTable.getNumberOfAttributes());
+		for (int i = 0; i < table.getNumberOfObjects(); i++) {
+			assertArrayEquals(table.getFields(i), columnarTable.getFields(i));
+			for (int j = 0; j < table.getNumberOfAttributes(); j++) {
+				assertEquals(table.getField(i, j), columnarTable.getField(i, j));
+				assertTrue(columnarTable.isEncoded(j));
+				assertEquals(table.getField(i, j) instanceof UnknownSimpleField, columnarTable.isMissing(i, j));
+			}
+		}
+	}
+
+	/**
+	 * Test for {@link ColumnarTable#getRealValue(int, int)} and {@link ColumnarTable#getIntValue(int, int)}.
+	 */
+	@Test
+	void testGetValue() {
+		Table<EvaluationAttribute, EvaluationField> table = getInformationTable().getActiveConditionAttributeFields();
+		ColumnarTable columnarTable = new ColumnarTable(table);
+
+		assertEquals(((RealField)table.getField(1, 0)).getValue(), columnarTable.getRealValue(1, 0));
+		assertEquals(((EnumerationField)table.getField(1, 1)).getValue(), columnarTable.getIntValue(1, 1));
+		assertThrows(InvalidTypeException.class, () -> columnarTable.getIntValue(1, 0));
+		assertThrows(InvalidTypeException.class, () -> columnarTable.getRealValue(1, 1));
+		assertThrows(UnknownValueException.class, () -> columnarTable.getRealValue(0, 0));
+	}
+
+	/**
+	 * Test for {@link ColumnarTable#isAtLeastAsGoodAs(int, int, int)} and {@link ColumnarTable#isAtMostAsGoodAs(int, int, int)}.
+	 */
+	@Test
+	void testIsAtLeastAndAtMostAsGoodAs() {
+		Table<EvaluationAttribute, EvaluationField> table = getInformationTable().getActiveConditionAttributeFields();
+		ColumnarTable columnarTable = new ColumnarTable(table);
+
+		for (int x = 0; x < table.getNumberOfObjects(); x++) {
+			for (int y = 0; y < table.getNumberOfObjects(); y++) {
+				for (int j = 0; j < table.getNumberOfAttributes(); j++) {
+					assertEquals(table.getField(x, j).isAtLeastAsGoodAs(table.getField(y, j)) == TernaryLogicValue.TRUE, columnarTable.isAtLeastAsGoodAs(x, y, j));
+					assertEquals(table.getField(x, j).isAtMostAsGoodAs(table.getField(y, j)) == TernaryLogicValue.TRUE, columnarTable.isAtMostAsGoodAs(x, y, j));
+				}
+			}
+		}
+	}
+
+	/**
+	 * Test for {@link ColumnarTable#retainObjectsSatisfying(int, java.util.function.Predicate, long[])}.
+	 */
+	@Test
+	void testRetainObjectsSatisfying() {
+		Table<EvaluationAttribute, EvaluationField> table = getInformationTable().getActiveConditionAttributeFields();
+		ColumnarTable columnarTable = new ColumnarTable(table);
+		int numberOfObjects = table.getNumberOfObjects();
+
+		for (int j = 0; j < table.getNumberOfAttributes(); j++) {
+			EvaluationField limit = table.getField(7, j);
+			long[] objectsBitset = new long[(numberOfObjects + 63) >>> 6];
+			for (int i = 0; i < numberOfObjects; i += 2) { //only objects with even indices are checked
+				objectsBitset[i >>> 6] |= 1L << i;
+			}
+			columnarTable.retainObjectsSatisfying(j, evaluation -> evaluation.isAtLeastAsGoodAs(limit) == TernaryLogicValue.TRUE, objectsBitset);
+
+			for (int i = 0; i < numberOfObjects; i++) {
+				boolean expected = i % 2 == 0 && table.getField(i, j).isAtLeastAsGoodAs(limit) == TernaryLogicValue.TRUE;
+				assertEquals(expected, (objectsBitset[i >>> 6] & (1L << i)) != 0L);
+			}
+		}
+	}
+
+	/**
+	 * Test for {@link ColumnarTable#select(int[], boolean)}.
+	 */
+	@Test
+	void testSelect() {
+		Table<EvaluationAttribute, EvaluationField> table = getInformationTable().getActiveConditionAttributeFields();
+		ColumnarTable columnarTable = new ColumnarTable(table);
+		int[] objectIndices = new int[] {5, 0, 3, 3, 100};
+
+		Table<EvaluationAttribute, EvaluationField> selected = table.select(objectIndices);
+		ColumnarTable columnarSelected = columnarTable.select(objectIndices);
+
+		assertEquals(objectIndices.length, columnarSelected.getNumberOfObjects());
+		for (int i = 0; i < objectIndices.length; i++) {
+			assertEquals(selected.getIndex2IdMapper().getId(i), columnarSelected.getIndex2IdMapper().getId(i));
+			assertArrayEquals(selected.getFields(i), columnarSelected.getFields(i));
+		}
+		assertThrows(IndexOutOfBoundsException.class, () -> columnarTable.select(new int[] {table.getNumberOfObjects()}));
+	}
+
+	/**
+	 * Test for {@link InformationTable#toColumnar()}, concerning dominance checks.
+	 */
+	@Test
+	void testToColumnar() {
+		InformationTable informationTable = getInformationTable();
+		InformationTable columnarInformationTable = informationTable.toColumnar();
+
+		assertTrue(columnarInformationTable.getActiveConditionAttributeFields() instanceof ColumnarTable);
+		assertFalse(informationTable.getActiveConditionAttributeFields() instanceof ColumnarTable);
+		assertSame(columnarInformationTable, columnarInformationTable.toColumnar());
+
+		DominanceIndex dominanceIndex = new DominanceIndex(columnarInformationTable);
+		for (int x = 0; x < informationTable.getNumberOfObjects(); x++) {
+			assertEquals(informationTable.getDecision(x), columnarInformationTable.getDecision(x));
+			for (int y = 0; y < informationTable.getNumberOfObjects(); y++) {
+				boolean dominates = DominanceChecker.dominates(x, y, informationTable);
+				boolean isDominatedBy = DominanceChecker.isDominatedBy(x, y, informationTable);
+				assertEquals(dominates, DominanceChecker.dominates(x, y, columnarInformationTable));
+				assertEquals(isDominatedBy, DominanceChecker.isDominatedBy(x, y, columnarInformationTable));
+				assertEquals(dominates, dominanceIndex.dominates(x, y));
+				assertEquals(isDominatedBy, dominanceIndex.isDominatedBy(x, y));
+			}
+		}
+	}
+
+}
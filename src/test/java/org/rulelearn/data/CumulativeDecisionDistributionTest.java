@@ -0,0 +1,136 @@
+/**
+ * Copyright (C) Jerzy Błaszczyński, Marcin Szeląg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.rulelearn.data;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.rulelearn.core.InvalidValueException;
+import org.rulelearn.dominance.DominanceConesDecisionDistributions;
+import org.rulelearn.types.IntegerFieldFactory;
+
+/**
+ * Tests for {@link CumulativeDecisionDistribution}.
+ *
+ * @author Jerzy Błaszczyński (<a href="mailto:jurek.blaszczynski@cs.put.poznan.pl">jurek.blaszczynski@cs.put.poznan.pl</a>)
+ * @author Marcin Szeląg (<a href="mailto:marcin.szelag@cs.put.poznan.pl">marcin.szelag@cs.put.poznan.pl</a>)
+ */
+class CumulativeDecisionDistributionTest {
+
+	/**
+	 * Constructs simple decision concerning gain-type attribute with index 2.
+	 * 
+	 * @param value value of the decision
+	 * @return constructed decision
+	 */
+	private Decision decision(int value) {
+		return new SimpleDecision(IntegerFieldFactory.getInstance().create(value, AttributePreferenceType.GAIN), 2);
+	}
+	
+	/**
+	 * Test for {@link CumulativeDecisionDistribution#getCumulativeCount(int)}, {@link CumulativeDecisionDistribution#getDecisions()},
+	 * and {@link CumulativeDecisionDistribution#equals(Object)}, comparing with a map-based distribution.
+	 */
+	@Test
+	void testGetCumulativeCount() {
+		Decision[] orderedDecisions = {decision(0), decision(1), decision(2)};
+		CumulativeDecisionDistribution cumulativeDistribution = new CumulativeDecisionDistribution(orderedDecisions).newDistribution();
+		DecisionDistribution distribution = new DecisionDistribution();
+		
+		for (int value : new int[] {2, 0, 2, 2}) {
+			cumulativeDistribution.increaseCount(decision(value));
+			distribution.increaseCount(decision(value));
+		}
+		
+		assertSame(orderedDecisions, cumulativeDistribution.getOrderedDecisions());
+		assertEquals(1, cumulativeDistribution.getDecisionIndex(decision(1)));
+		assertEquals(-1, cumulativeDistribution.getDecisionIndex(decision(5)));
+		assertEquals(0, cumulativeDistribution.getCumulativeCount(0));
+		assertEquals(1, cumulativeDistribution.getCumulativeCount(1));
+		assertEquals(1, cumulativeDistribution.getCumulativeCount(2));
+		assertEquals(4, cumulativeDistribution.getTotalCount());
+		assertEquals(3, cumulativeDistribution.getCount(decision(2)));
+		assertEquals(0, cumulativeDistribution.getCount(decision(1)));
+		assertEquals(0, cumulativeDistribution.getCount(null));
+		assertFalse(cumulativeDistribution.isPresent(decision(1)));
+		assertArrayEquals(new Decision[] {decision(0), decision(2)}, cumulativeDistribution.getDecisions().toArray(new Decision[0]));
+		
+		assertEquals(distribution, cumulativeDistribution);
+		assertEquals(cumulativeDistribution, distribution);
+		assertEquals(distribution.hashCode(), cumulativeDistribution.hashCode());
+		
+		cumulativeDistribution.increaseCount(decision(1)); //cumulative counts and decisions should be recalculated
+		assertEquals(2, cumulativeDistribution.getCumulativeCount(2));
+		assertEquals(3, cumulativeDistribution.getDecisions().size());
+		assertFalse(distribution.equals(cumulativeDistribution));
+		
+		assertThrows(InvalidValueException.class, () -> cumulativeDistribution.increaseCount(decision(5)));
+		assertThrows(NullPointerException.class, () -> cumulativeDistribution.increaseCount(null));
+		assertThrows(InvalidValueException.class, () -> new CumulativeDecisionDistribution(new Decision[] {decision(0), decision(0)}));
+		assertThrows(NullPointerException.class, () -> new CumulativeDecisionDistribution((Decision[])null));
+	}
+	
+	/**
+	 * Test for {@link CumulativeDecisionDistribution#getTotallyOrderedDecisions(InformationTable)}, and for automatic use of cumulative
+	 * distributions by {@link DominanceConesDecisionDistributions}.
+	 * 
+	 * @throws IOException if data cannot be loaded
+	 */
+	@Test
+	void testGetTotallyOrderedDecisions() throws IOException {
+		InformationTable informationTable = InformationTableBuilder.buildFromCSVFile("src/test/resources/data/csv/windsor.json", "src/test/resources/data/csv/windsor.csv", false, '\t');
+		Decision[] orderedDecisions = CumulativeDecisionDistribution.getTotallyOrderedDecisions(informationTable);
+		assertNotNull(orderedDecisions);
+		assertArrayEquals(informationTable.getOrderedUniqueFullyDeterminedDecisions(), orderedDecisions);
+		
+		DominanceConesDecisionDistributions dominanceCDD = new DominanceConesDecisionDistributions(informationTable);
+		for (int x = 0; x < informationTable.getNumberOfObjects(); x++) {
+			assertTrue(dominanceCDD.getPositiveInvDConeDecisionClassDistribution(x) instanceof CumulativeDecisionDistribution);
+			DecisionDistribution expected = new DecisionDistribution();
+			for (Decision decision : dominanceCDD.getPositiveInvDConeDecisionClassDistribution(x).getDecisions()) {
+				for (int i = 0; i < dominanceCDD.getPositiveInvDConeDecisionClassDistribution(x).getCount(decision); i++) {
+					expected.increaseCount(decision);
+				}
+			}
+			assertEquals(expected, dominanceCDD.getPositiveInvDConeDecisionClassDistribution(x));
+		}
+		
+		InformationTable informationTableMock = Mockito.mock(InformationTable.class);
+		assertNull(CumulativeDecisionDistribution.getTotallyOrderedDecisions(informationTableMock)); //no decisions
+		
+		Mockito.when(informationTableMock.getDecisions(true)).thenReturn(new Decision[] {decision(1), decision(0)});
+		Mockito.when(informationTableMock.getOrderedUniqueFullyDeterminedDecisions()).thenReturn(new Decision[] {decision(0), decision(1)});
+		assertEquals(2, CumulativeDecisionDistribution.getTotallyOrderedDecisions(informationTableMock).length);
+		
+		Decision incomparableDecision = Mockito.mock(Decision.class);
+		Mockito.when(incomparableDecision.hasNoMissingEvaluation()).thenReturn(true);
+		Mockito.when(informationTableMock.getDecisions(true)).thenReturn(new Decision[] {decision(1), incomparableDecision});
+		Mockito.when(informationTableMock.getOrderedUniqueFullyDeterminedDecisions()).thenReturn(new Decision[] {decision(1), incomparableDecision});
+		assertNull(CumulativeDecisionDistribution.getTotallyOrderedDecisions(informationTableMock));
+	}
+
+}
@@ -18,14 +18,22 @@ package org.rulelearn.data;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.fail;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.rulelearn.core.InvalidValueException;
+import org.rulelearn.dominance.CompactDominanceConesDecisionDistributions;
+import org.rulelearn.dominance.DominanceConesCalculationMode;
+import org.rulelearn.dominance.DominanceConesDecisionDistributions;
+import org.rulelearn.dominance.OnDemandDominanceConesDecisionDistributions;
 import org.rulelearn.types.EvaluationField;
 import org.rulelearn.types.Field;
 import org.rulelearn.types.IntegerField;
@@ -282,4 +290,96 @@ class InformationTableWithDecisionDistributionsTest {
 		assertEquals(informationTable.getDecisionDistribution().getCount(decision), 1);
 	}
 
+	/**
+	 * Test method for {@link InformationTableWithDecisionDistributions#InformationTableWithDecisionDistributions(InformationTable, boolean, boolean)}.
+	 */
+	@Test
+	void testInformationTableWithDecisionDistributionsInformationTableBooleanBoolean() {
+		List<Field[]> listOfFields = new ArrayList<>();
+		listOfFields.add(new Field[] {
+				IntegerFieldFactory.getInstance().create(0, AttributePreferenceType.GAIN),
+				IntegerFieldFactory.getInstance().create(1, AttributePreferenceType.GAIN)});
+		listOfFields.add(new Field[] {
+				IntegerFieldFactory.getInstance().create(2, AttributePreferenceType.GAIN),
+				IntegerFieldFactory.getInstance().create(2, AttributePreferenceType.GAIN)});
+		listOfFields.add(new Field[] {
+				UnknownSimpleFieldMV2.getInstance(),
+				IntegerFieldFactory.getInstance().create(1, AttributePreferenceType.GAIN)});
+		
+		EvaluationAttribute conditionAttributeMock = Mockito.mock(EvaluationAttribute.class);
+		Mockito.when(conditionAttributeMock.getType()).thenReturn(AttributeType.CONDITION);
+		Mockito.when(conditionAttributeMock.isActive()).thenReturn(true);
+		
+		EvaluationAttribute decisionAttributeMock = Mockito.mock(EvaluationAttribute.class);
+		Mockito.when(decisionAttributeMock.getType()).thenReturn(AttributeType.DECISION);
+		Mockito.when(decisionAttributeMock.isActive()).thenReturn(true);
+		
+		InformationTable informationTable = new InformationTable(new Attribute[] {conditionAttributeMock, decisionAttributeMock}, listOfFields);
+		InformationTableWithDecisionDistributions withoutIndex = new InformationTableWithDecisionDistributions(informationTable, false, false);
+		InformationTableWithDecisionDistributions withIndex = new InformationTableWithDecisionDistributions(informationTable, false, true);
+		
+		assertNull(withoutIndex.getDominanceIndex());
+		assertNotNull(withIndex.getDominanceIndex());
+		
+		for (int i = 0; i < informationTable.getNumberOfObjects(); i++) {
+			assertEquals(withoutIndex.getDominanceConesDecisionDistributions().getPositiveDConeDecisionClassDistribution(i),
+					withIndex.getDominanceConesDecisionDistributions().getPositiveDConeDecisionClassDistribution(i));
+			assertEquals(withoutIndex.getDominanceConesDecisionDistributions().getNegativeDConeDecisionClassDistribution(i),
+					withIndex.getDominanceConesDecisionDistributions().getNegativeDConeDecisionClassDistribution(i));
+			assertEquals(withoutIndex.getDominanceConesDecisionDistributions().getPositiveInvDConeDecisionClassDistribution(i),
+					withIndex.getDominanceConesDecisionDistributions().getPositiveInvDConeDecisionClassDistribution(i));
+			assertEquals(withoutIndex.getDominanceConesDecisionDistributions().getNegativeInvDConeDecisionClassDistribution(i),
+					withIndex.getDominanceConesDecisionDistributions().getNegativeInvDConeDecisionClassDistribution(i));
+		}
+	}
+	
+	/**
+	 * Test method for {@link InformationTableWithDecisionDistributions#InformationTableWithDecisionDistributions(InformationTable, boolean, DominanceConesCalculationMode)},
+	 * checking that {@link DominanceConesCalculationMode#COMPACT} and {@link DominanceConesCalculationMode#ON_DEMAND} modes yield the same decision distributions
+	 * in dominance cones as {@link DominanceConesCalculationMode#SEQUENTIAL} mode.
+	 * 
+	 * @throws IOException if data cannot be loaded
+	 */
+	@Test
+	void testInformationTableWithDecisionDistributionsCalculationModes() throws IOException {
+		InformationTable informationTable = InformationTableBuilder.buildFromCSVFile("src/test/resources/data/csv/windsor.json", "src/test/resources/data/csv/windsor.csv", false, '\t');
+		DominanceConesDecisionDistributions expected = new InformationTableWithDecisionDistributions(informationTable, true, DominanceConesCalculationMode.SEQUENTIAL)
+				.getDominanceConesDecisionDistributions();
+		
+		for (DominanceConesCalculationMode mode : new DominanceConesCalculationMode[] {DominanceConesCalculationMode.COMPACT, DominanceConesCalculationMode.ON_DEMAND}) {
+			DominanceConesDecisionDistributions actual = new InformationTableWithDecisionDistributions(informationTable, true, mode).getDominanceConesDecisionDistributions();
+			assertTrue(mode == DominanceConesCalculationMode.COMPACT ? actual instanceof CompactDominanceConesDecisionDistributions :
+				actual instanceof OnDemandDominanceConesDecisionDistributions);
+			for (int i = 0; i < informationTable.getNumberOfObjects(); i++) {
+				assertEquals(expected.getPositiveDConeDecisionClassDistribution(i), actual.getPositiveDConeDecisionClassDistribution(i));
+				assertEquals(expected.getNegativeDConeDecisionClassDistribution(i), actual.getNegativeDConeDecisionClassDistribution(i));
+				assertEquals(expected.getPositiveInvDConeDecisionClassDistribution(i), actual.getPositiveInvDConeDecisionClassDistribution(i));
+				assertEquals(expected.getNegativeInvDConeDecisionClassDistribution(i), actual.getNegativeInvDConeDecisionClassDistribution(i));
+			}
+		}
+	}
+	
+	/**
+	 * Test method for {@link InformationTableWithDecisionDistributions#InformationTableWithDecisionDistributions(InformationTable, boolean, DominanceConesCalculationMode, int)},
+	 * checking that capacity of the cache of decision distributions is passed in {@link DominanceConesCalculationMode#ON_DEMAND} mode.
+	 * 
+	 * @throws IOException if data cannot be loaded
+	 */
+	@Test
+	void testInformationTableWithDecisionDistributionsOnDemandCacheCapacity() throws IOException {
+		InformationTable informationTable = InformationTableBuilder.buildFromCSVFile("src/test/resources/data/csv/windsor.json", "src/test/resources/data/csv/windsor.csv", false, '\t');
+		
+		OnDemandDominanceConesDecisionDistributions distributions = (OnDemandDominanceConesDecisionDistributions)new InformationTableWithDecisionDistributions(
+				informationTable, true, DominanceConesCalculationMode.ON_DEMAND, 10).getDominanceConesDecisionDistributions();
+		assertEquals(10, distributions.getCacheCapacity());
+		for (int i = 0; i < 20; i++) {
+			distributions.getPositiveDConeDecisionClassDistribution(i);
+		}
+		assertEquals(10, distributions.getCacheSize());
+		
+		assertEquals(OnDemandDominanceConesDecisionDistributions.DEFAULT_CACHE_CAPACITY, ((OnDemandDominanceConesDecisionDistributions)new InformationTableWithDecisionDistributions(
+				informationTable, true, DominanceConesCalculationMode.ON_DEMAND).getDominanceConesDecisionDistributions()).getCacheCapacity());
+		assertThrows(InvalidValueException.class, () -> new InformationTableWithDecisionDistributions(informationTable, true, DominanceConesCalculationMode.ON_DEMAND, 0));
+	}
+	
 }
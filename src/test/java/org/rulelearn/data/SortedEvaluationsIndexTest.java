@@ -0,0 +1,131 @@
+/**
+ * Copyright (C) Jerzy Błaszczyński, Marcin Szeląg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.rulelearn.data;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.io.IOException;
+
+import org.junit.jupiter.api.Test;
+import org.rulelearn.types.EvaluationField;
+import org.rulelearn.types.KnownSimpleField;
+import org.rulelearn.types.UnknownSimpleField;
+
+/**
+ * Tests for {@link SortedEvaluationsIndex}.
+ *
+ * @author Jerzy Błaszczyński (<a href="mailto:jurek.blaszczynski@cs.put.poznan.pl">jurek.blaszczynski@cs.put.poznan.pl</a>)
+ * @author Marcin Szeląg (<a href="mailto:marcin.szelag@cs.put.poznan.pl">marcin.szelag@cs.put.poznan.pl</a>)
+ */
+class SortedEvaluationsIndexTest {
+
+	/**
+	 * Gets "windsor" information table with missing values.
+	 *
+	 * @return "windsor" information table with missing values
+	 */
+	private InformationTable getInformationTable() {
+		InformationTable informationTable = null;
+		try {
+			informationTable = InformationTableBuilder.buildFromCSVFile("src/test/resources/data/csv/windsor.json", "src/test/resources/data/csv/windsor-mv.csv", false, '\t');
+		}
+		catch (IOException exception) {
+			fail(exception.toString());
+		}
+		return informationTable;
+	}
+
+	/**
+	 * Checks that ranks stored in given index are consistent with evaluations of objects from given table.
+	 *
+	 * @param table table with evaluations
+	 * @param index index built for that table
+	 */
+	private void assertConsistent(Table<EvaluationAttribute, EvaluationField> table, SortedEvaluationsIndex index) {
+		for (int j = 0; j < table.getNumberOfAttributes(); j++) {
+			assertTrue(index.isIndexed(j));
+			boolean[] usedRanks = new boolean[index.getNumberOfDistinctEvaluations(j)];
+
+			for (int x = 0; x < table.getNumberOfObjects(); x++) {
+				EvaluationField evaluationX = table.getField(x, j);
+				if (evaluationX instanceof UnknownSimpleField) {
+					assertEquals(SortedEvaluationsIndex.MISSING_EVALUATION_RANK, index.getRank(x, j));
+					continue;
+				}
+
+				int rankX = index.getRank(x, j);
+				assertEquals(evaluationX, index.getDistinctEvaluation(j, rankX));
+				usedRanks[rankX] = true;
+				for (int y = 0; y < table.getNumberOfObjects(); y++) {
+					EvaluationField evaluationY = table.getField(y, j);
+					if (evaluationY instanceof KnownSimpleField) {
+						assertEquals(Integer.signum(((KnownSimpleField)evaluationX).compareTo((KnownSimpleField)evaluationY)), Integer.signum(rankX - index.getRank(y, j)));
+					}
+				}
+			}
+
+			for (int rank = 0; rank < usedRanks.length; rank++) { //each distinct evaluation is an evaluation of some object
+				assertTrue(usedRanks[rank]);
+			}
+		}
+	}
+
+	/**
+	 * Test for {@link SortedEvaluationsIndex#SortedEvaluationsIndex(InformationTable)}.
+	 */
+	@Test
+	void testSortedEvaluationsIndex() {
+		InformationTable informationTable = getInformationTable();
+		SortedEvaluationsIndex index = new SortedEvaluationsIndex(informationTable);
+
+		assertSame(informationTable, index.getInformationTable());
+		assertEquals(informationTable.getActiveConditionAttributeFields().getNumberOfAttributes(), index.getNumberOfAttributes());
+		assertConsistent(informationTable.getActiveConditionAttributeFields(), index);
+	}
+
+	/**
+	 * Test for {@link SortedEvaluationsIndex#SortedEvaluationsIndex(InformationTable)}, for an information table storing evaluations in a {@link ColumnarTable}.
+	 */
+	@Test
+	void testSortedEvaluationsIndexColumnar() {
+		InformationTable informationTable = getInformationTable();
+		InformationTable columnarInformationTable = informationTable.toColumnar();
+		SortedEvaluationsIndex index = new SortedEvaluationsIndex(columnarInformationTable);
+		SortedEvaluationsIndex expectedIndex = new SortedEvaluationsIndex(informationTable);
+
+		assertConsistent(columnarInformationTable.getActiveConditionAttributeFields(), index);
+		for (int j = 0; j < index.getNumberOfAttributes(); j++) {
+			assertEquals(expectedIndex.getNumberOfDistinctEvaluations(j), index.getNumberOfDistinctEvaluations(j));
+			for (int x = 0; x < informationTable.getNumberOfObjects(); x++) {
+				assertEquals(expectedIndex.getRank(x, j), index.getRank(x, j));
+			}
+		}
+	}
+
+	/**
+	 * Test for {@link SortedEvaluationsIndex#SortedEvaluationsIndex(InformationTable)}, for {@code null} information table.
+	 */
+	@Test
+	void testSortedEvaluationsIndexNull() {
+		assertThrows(NullPointerException.class, () -> new SortedEvaluationsIndex(null));
+	}
+
+}
@@ -0,0 +1,308 @@
+/**
+ * Copyright (C) Jerzy Błaszczyński, Marcin Szeląg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.rulelearn.data.bin;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.rulelearn.core.InvalidTypeException;
+import org.rulelearn.data.Attribute;
+import org.rulelearn.data.AttributePreferenceType;
+import org.rulelearn.data.AttributeType;
+import org.rulelearn.data.EvaluationAttribute;
+import org.rulelearn.data.IdentificationAttribute;
+import org.rulelearn.data.InformationTable;
+import org.rulelearn.data.InformationTableBuilder;
+import org.rulelearn.types.ElementList;
+import org.rulelearn.types.EnumerationField;
+import org.rulelearn.types.EnumerationFieldFactory;
+import org.rulelearn.types.Field;
+import org.rulelearn.types.IntegerField;
+import org.rulelearn.types.IntegerFieldFactory;
+import org.rulelearn.types.PairField;
+import org.rulelearn.types.RealFieldFactory;
+import org.rulelearn.types.SimpleField;
+import org.rulelearn.types.TextIdentificationField;
+import org.rulelearn.types.UUIDIdentificationField;
+import org.rulelearn.types.UnknownSimpleFieldMV15;
+import org.rulelearn.types.UnknownSimpleFieldMV2;
+
+/**
+ * Tests for {@link InformationTableBinaryReader} and {@link InformationTableBinaryWriter}.
+ *
+ * @author Jerzy Błaszczyński (<a href="mailto:jurek.blaszczynski@cs.put.poznan.pl">jurek.blaszczynski@cs.put.poznan.pl</a>)
+ * @author Marcin Szeląg (<a href="mailto:marcin.szelag@cs.put.poznan.pl">marcin.szelag@cs.put.poznan.pl</a>)
+ */
+class InformationTableBinaryReaderTest {
+
+	/**
+	 * Gets information table with attributes of all value types supported by the binary format, with known and unknown evaluations.
+	 *
+	 * @return information table
+	 */
+	private InformationTable getInformationTable() {
+		ElementList elementList = null;
+		try {
+			elementList = new ElementList(new String[] {"bad", "medium", "good"});
+		} catch (NoSuchAlgorithmException exception) {
+			throw new AssertionError(exception);
+		}
+		EnumerationField enumerationValueType = EnumerationFieldFactory.getInstance().create(elementList, 0, AttributePreferenceType.GAIN);
+		IntegerField integerValueType = IntegerFieldFactory.getInstance().create(0, AttributePreferenceType.COST);
+
+		Attribute[] attributes = new Attribute[] {
+				new IdentificationAttribute("uuid", true, new UUIDIdentificationField(UUIDIdentificationField.DEFAULT_VALUE)),
+				new IdentificationAttribute("name", false, new TextIdentificationField(TextIdentificationField.DEFAULT_VALUE)),
+				new EvaluationAttribute("int", true, AttributeType.CONDITION, integerValueType, new UnknownSimpleFieldMV15(), AttributePreferenceType.COST),
+				new EvaluationAttribute("real", false, AttributeType.DESCRIPTION,
+						RealFieldFactory.getInstance().create(0.0, AttributePreferenceType.NONE), new UnknownSimpleFieldMV2(), AttributePreferenceType.NONE),
+				new EvaluationAttribute("pair", true, AttributeType.CONDITION,
+						new PairField<IntegerField>(integerValueType, integerValueType), new UnknownSimpleFieldMV2(), AttributePreferenceType.COST),
+				new EvaluationAttribute("dec", true, AttributeType.DECISION, enumerationValueType, new UnknownSimpleFieldMV2(), AttributePreferenceType.GAIN)
+		};
+
+		List<Field[]> fields = Arrays.asList(
+				new Field[] {new UUIDIdentificationField(UUID.randomUUID()), new TextIdentificationField("żółw"),
+						IntegerFieldFactory.getInstance().create(-5, AttributePreferenceType.COST), RealFieldFactory.getInstance().create(2.5, AttributePreferenceType.NONE),
+						new PairField<SimpleField>(IntegerFieldFactory.getInstance().create(1, AttributePreferenceType.COST), IntegerFieldFactory.getInstance().create(3, AttributePreferenceType.COST)),
+						EnumerationFieldFactory.getInstance().create(elementList, 2, AttributePreferenceType.GAIN)},
+				new Field[] {new UUIDIdentificationField(UUID.randomUUID()), new TextIdentificationField("b"),
+						new UnknownSimpleFieldMV15(), new UnknownSimpleFieldMV2(),
+						new PairField<SimpleField>(new UnknownSimpleFieldMV2(), IntegerFieldFactory.getInstance().create(Integer.MAX_VALUE, AttributePreferenceType.COST)),
+						EnumerationFieldFactory.getInstance().create(elementList, 0, AttributePreferenceType.GAIN)},
+				new Field[] {new UUIDIdentificationField(UUID.randomUUID()), new TextIdentificationField(""),
+						IntegerFieldFactory.getInstance().create(7, AttributePreferenceType.COST), RealFieldFactory.getInstance().create(-0.125, AttributePreferenceType.NONE),
+						new PairField<SimpleField>(IntegerFieldFactory.getInstance().create(2, AttributePreferenceType.COST), IntegerFieldFactory.getInstance().create(2, AttributePreferenceType.COST)),
+						new UnknownSimpleFieldMV2()});
+
+		return new InformationTable(attributes, fields);
+	}
+
+	/**
+	 * Asserts that given information tables have equal attributes and fields of all objects.
+	 *
+	 * @param expected expected information table
+	 * @param actual actual information table
+	 */
+	private void assertInformationTablesEqual(InformationTable expected, InformationTable actual) {
+		assertEquals(expected.getNumberOfAttributes(), actual.getNumberOfAttributes());
+		for (int j = 0; j < expected.getNumberOfAttributes(); j++) {
+			assertEquals(expected.getAttribute(j), actual.getAttribute(j));
+		}
+		assertEquals(expected.getNumberOfObjects(), actual.getNumberOfObjects());
+		for (int i = 0; i < expected.getNumberOfObjects(); i++) {
+			for (int j = 0; j < expected.getNumberOfAttributes(); j++) {
+				assertEquals(expected.getField(i, j), actual.getField(i, j));
+			}
+			assertEquals(expected.getDecision(i), actual.getDecision(i));
+		}
+	}
+
+	/**
+	 * Test method for {@link InformationTableBinaryReader#read(java.io.InputStream)}, reading information table written
+	 * by {@link InformationTableBinaryWriter#write(InformationTable, java.io.OutputStream)}.
+	 *
+	 * @throws IOException if information table cannot be written or read
+	 */
+	@Test
+	void testReadInputStream() throws IOException {
+		InformationTable informationTable = this.getInformationTable();
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		new InformationTableBinaryWriter().write(informationTable, outputStream);
+
+		InformationTable readInformationTable = new InformationTableBinaryReader().read(new ByteArrayInputStream(outputStream.toByteArray()));
+		assertInformationTablesEqual(informationTable, readInformationTable);
+	}
+
+	/**
+	 * Test method for {@link InformationTableBinaryReader#read(String)}, reading memory-mapped file written by {@link InformationTableBinaryWriter#write(InformationTable, String)}.
+	 *
+	 * @throws IOException if information table cannot be written or read
+	 */
+	@Test
+	void testReadFile() throws IOException {
+		File file = File.createTempFile("windsor-mv", ".bin");
+		file.deleteOnExit();
+		InformationTable informationTable = InformationTableBuilder.safelyBuildFromCSVFile("src/test/resources/data/csv/windsor.json", "src/test/resources/data/csv/windsor-mv.csv", false, '\t');
+		new InformationTableBinaryWriter().write(informationTable, file.getPath());
+
+		assertInformationTablesEqual(informationTable, new InformationTableBinaryReader().read(file.getPath()));
+		file.delete();
+	}
+
+	/**
+	 * Test method for {@link InformationTableBinaryReader#map(ByteBuffer)}.
+	 *
+	 * @throws IOException if information table cannot be written or mapped
+	 */
+	@Test
+	void testMapByteBuffer() throws IOException {
+		InformationTable informationTable = this.getInformationTable();
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		new InformationTableBinaryWriter().write(informationTable, outputStream);
+		ByteBuffer buffer = ByteBuffer.wrap(outputStream.toByteArray());
+
+		InformationTable mappedInformationTable = new InformationTableBinaryReader().map(buffer);
+		assertEquals(0, buffer.position());
+		assertTrue(mappedInformationTable.getActiveConditionAttributeFields() instanceof MappedTable);
+		assertTrue(mappedInformationTable.getNotActiveOrDescriptionAttributeFields() instanceof MappedTable);
+		assertInformationTablesEqual(informationTable, mappedInformationTable);
+		assertArrayEquals(informationTable.getIdentifiers(), mappedInformationTable.getIdentifiers());
+		assertInformationTablesEqual(informationTable.select(new int[] {2, 0, 2}), mappedInformationTable.select(new int[] {2, 0, 2}));
+		assertInformationTablesEqual(informationTable.discard(new int[] {1}), mappedInformationTable.discard(new int[] {1}));
+		assertTrue(mappedInformationTable.discard(new int[] {1}).getActiveConditionAttributeFields() instanceof MappedTable);
+	}
+
+	/**
+	 * Test method for {@link InformationTableBinaryReader#map(String)}.
+	 *
+	 * @throws IOException if information table cannot be written or mapped
+	 */
+	@Test
+	void testMapFile() throws IOException {
+		File file = File.createTempFile("windsor-mv", ".bin");
+		file.deleteOnExit();
+		InformationTable informationTable = InformationTableBuilder.safelyBuildFromCSVFile("src/test/resources/data/csv/windsor.json", "src/test/resources/data/csv/windsor-mv.csv", false, '\t');
+		new InformationTableBinaryWriter().write(informationTable, file.getPath());
+
+		InformationTable mappedInformationTable = new InformationTableBinaryReader().map(file.getPath());
+		assertInformationTablesEqual(informationTable, mappedInformationTable);
+		int[] objectIndices = new int[] {5, 100, 3, 5};
+		assertInformationTablesEqual(informationTable.select(objectIndices), mappedInformationTable.select(objectIndices));
+		assertInformationTablesEqual(informationTable.discard(objectIndices), mappedInformationTable.discard(objectIndices));
+	}
+
+	/**
+	 * Test method for {@link InformationTableBinaryReader#map(ByteBuffer)}, checking incorrect content.
+	 *
+	 * @throws IOException if information table cannot be written
+	 */
+	@Test
+	void testMapIncorrectContent() throws IOException {
+		InformationTableBinaryReader reader = new InformationTableBinaryReader();
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		new InformationTableBinaryWriter().write(this.getInformationTable(), outputStream);
+		byte[] content = outputStream.toByteArray();
+
+		assertThrows(IOException.class, () -> {reader.map(ByteBuffer.wrap(Arrays.copyOf(content, content.length - 1)));});
+		assertThrows(IOException.class, () -> {reader.map(ByteBuffer.wrap(new byte[] {'[', ']'}));});
+		assertThrows(IOException.class, () -> {reader.map(ByteBuffer.wrap(this.getContentWithTooManyObjects(content)));});
+		assertThrows(NullPointerException.class, () -> {reader.map((ByteBuffer)null);});
+	}
+
+	/**
+	 * Test method for {@link InformationTableBinaryReader#read(SegmentedBuffer)} and {@link InformationTableBinaryReader#map(SegmentedBuffer)},
+	 * reading a file mapped in segments much shorter than attributes, identifiers and columns of evaluations, so that they span many segments.
+	 *
+	 * @throws IOException if information table cannot be written or mapped
+	 */
+	@Test
+	void testReadAndMapFileInSegments() throws IOException {
+		File file = File.createTempFile("windsor-mv", ".bin");
+		file.deleteOnExit();
+		InformationTable informationTable = InformationTableBuilder.safelyBuildFromCSVFile("src/test/resources/data/csv/windsor.json", "src/test/resources/data/csv/windsor-mv.csv", false, '\t');
+		new InformationTableBinaryWriter().write(informationTable, file.getPath());
+
+		try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+			assertInformationTablesEqual(informationTable, new InformationTableBinaryReader().read(SegmentedBuffer.map(channel, 4)));
+			InformationTable mappedInformationTable = new InformationTableBinaryReader().map(SegmentedBuffer.map(channel, 5));
+			assertInformationTablesEqual(informationTable, mappedInformationTable);
+			int[] objectIndices = new int[] {5, 100, 3, 5};
+			assertInformationTablesEqual(informationTable.select(objectIndices), mappedInformationTable.select(objectIndices));
+		}
+	}
+
+	/**
+	 * Test method for {@link InformationTableBinaryReader#map(SegmentedBuffer)}, mapping information table with text identifiers in segments.
+	 *
+	 * @throws IOException if information table cannot be written or mapped
+	 */
+	@Test
+	void testMapTextIdentifiersInSegments() throws IOException {
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		InformationTable informationTable = this.getInformationTable();
+		new InformationTableBinaryWriter().write(informationTable, outputStream);
+
+		assertInformationTablesEqual(informationTable, new InformationTableBinaryReader().map(SegmentedBuffer.wrap(ByteBuffer.wrap(outputStream.toByteArray()), 3)));
+	}
+
+	/**
+	 * Gets copy of given binary representation of an information table, declaring much more objects than there are in the representation.
+	 *
+	 * @param content binary representation of an information table
+	 * @return copy of given content, with changed number of objects
+	 * @throws IOException if attributes cannot be read from given content
+	 */
+	private byte[] getContentWithTooManyObjects(byte[] content) throws IOException {
+		ByteBuffer buffer = ByteBuffer.wrap(content.clone());
+		SegmentedBuffer segmentedBuffer = SegmentedBuffer.wrap(buffer);
+		new InformationTableBinaryReader().readAttributes(segmentedBuffer);
+		buffer.putInt((int)segmentedBuffer.position(), Integer.MAX_VALUE);
+		return buffer.array();
+	}
+
+	/**
+	 * Test method for {@link InformationTableBinaryReader#read(ByteBuffer)}, checking incorrect content.
+	 *
+	 * @throws IOException if information table cannot be written
+	 */
+	@Test
+	void testReadIncorrectContent() throws IOException {
+		InformationTableBinaryReader reader = new InformationTableBinaryReader();
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		new InformationTableBinaryWriter().write(this.getInformationTable(), outputStream);
+		byte[] content = outputStream.toByteArray();
+
+		assertThrows(IOException.class, () -> {reader.read(ByteBuffer.wrap(Arrays.copyOf(content, content.length - 1)));});
+		assertThrows(IOException.class, () -> {reader.read(ByteBuffer.wrap(new byte[] {'[', ']'}));});
+		assertThrows(IOException.class, () -> {reader.read(ByteBuffer.wrap(this.getContentWithTooManyObjects(content)));});
+		byte[] newerVersionContent = content.clone();
+		newerVersionContent[7] = (byte)(BinaryFormat.VERSION + 1);
+		assertThrows(IOException.class, () -> {reader.read(ByteBuffer.wrap(newerVersionContent));});
+		assertThrows(NullPointerException.class, () -> {reader.read((ByteBuffer)null);});
+	}
+
+	/**
+	 * Test method for {@link InformationTableBinaryWriter#write(InformationTable, java.io.OutputStream)}, checking field not matching value type of its attribute.
+	 */
+	@Test
+	void testWriteIncorrectField() {
+		Attribute[] attributes = new Attribute[] {new EvaluationAttribute("int", true, AttributeType.CONDITION,
+				IntegerFieldFactory.getInstance().create(0, AttributePreferenceType.GAIN), new UnknownSimpleFieldMV2(), AttributePreferenceType.GAIN)};
+		List<Field[]> fields = Arrays.asList(new Field[][] {{RealFieldFactory.getInstance().create(1.0, AttributePreferenceType.GAIN)}});
+		InformationTable informationTable = new InformationTable(attributes, fields);
+
+		assertThrows(InvalidTypeException.class, () -> {new InformationTableBinaryWriter().write(informationTable, new ByteArrayOutputStream());});
+		assertThrows(NullPointerException.class, () -> {new InformationTableBinaryWriter().write(null, new ByteArrayOutputStream());});
+	}
+
+}
@@ -0,0 +1,105 @@
+/**
+ * Copyright (C) Jerzy Błaszczyński, Marcin Szeląg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.rulelearn.data.bin;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.rulelearn.data.EvaluationAttribute;
+import org.rulelearn.data.InformationTable;
+import org.rulelearn.data.InformationTableBuilder;
+import org.rulelearn.data.Table;
+import org.rulelearn.types.EvaluationField;
+
+/**
+ * Tests for {@link MappedTable}.
+ *
+ * @author Jerzy Błaszczyński (<a href="mailto:jurek.blaszczynski@cs.put.poznan.pl">jurek.blaszczynski@cs.put.poznan.pl</a>)
+ * @author Marcin Szeląg (<a href="mailto:marcin.szelag@cs.put.poznan.pl">marcin.szelag@cs.put.poznan.pl</a>)
+ */
+class MappedTableTest {
+
+	private Table<EvaluationAttribute, EvaluationField> table;
+	private MappedTable<EvaluationAttribute, EvaluationField> mappedTable;
+
+	/**
+	 * Sets up tested tables, with active condition attributes of an information table read from CSV file, and of the same information table mapped from its binary representation.
+	 *
+	 * @throws IOException if information table cannot be written or mapped
+	 */
+	@BeforeEach
+	void setUp() throws IOException {
+		InformationTable informationTable = InformationTableBuilder.safelyBuildFromCSVFile("src/test/resources/data/csv/windsor.json", "src/test/resources/data/csv/windsor-mv.csv", false, '\t');
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		new InformationTableBinaryWriter().write(informationTable, outputStream);
+
+		this.table = informationTable.getActiveConditionAttributeFields();
+		this.mappedTable = (MappedTable<EvaluationAttribute, EvaluationField>)new InformationTableBinaryReader().map(ByteBuffer.wrap(outputStream.toByteArray())).getActiveConditionAttributeFields();
+	}
+
+	/**
+	 * Test method for {@link MappedTable#getField(int, int)}.
+	 */
+	@Test
+	void testGetField() {
+		assertEquals(this.table.getNumberOfObjects(), this.mappedTable.getNumberOfObjects());
+		assertEquals(this.table.getNumberOfAttributes(), this.mappedTable.getNumberOfAttributes());
+		for (int i = 0; i < this.table.getNumberOfObjects(); i++) {
+			for (int j = 0; j < this.table.getNumberOfAttributes(); j++) {
+				assertEquals(this.table.getField(i, j), this.mappedTable.getField(i, j));
+			}
+		}
+		assertThrows(IndexOutOfBoundsException.class, () -> {this.mappedTable.getField(this.mappedTable.getNumberOfObjects(), 0);});
+		assertThrows(IndexOutOfBoundsException.class, () -> {this.mappedTable.getField(-1, 0);});
+	}
+
+	/**
+	 * Test method for {@link MappedTable#getFields(int, boolean)}.
+	 */
+	@Test
+	void testGetFields() {
+		assertArrayEquals(this.table.getFields(7), this.mappedTable.getFields(7));
+		assertEquals(EvaluationField[].class, this.mappedTable.getFields(7, true).getClass());
+	}
+
+	/**
+	 * Test method for {@link MappedTable#select(int[])}.
+	 */
+	@Test
+	void testSelect() {
+		int[] objectIndices = new int[] {10, 2, 10, 545};
+		MappedTable<EvaluationAttribute, EvaluationField> selectedTable = this.mappedTable.select(objectIndices);
+		MappedTable<EvaluationAttribute, EvaluationField> reselectedTable = selectedTable.select(new int[] {3, 0});
+
+		assertEquals(objectIndices.length, selectedTable.getNumberOfObjects());
+		for (int i = 0; i < objectIndices.length; i++) {
+			assertArrayEquals(this.table.getFields(objectIndices[i]), selectedTable.getFields(i));
+			assertEquals(this.mappedTable.getIndex2IdMapper().getId(objectIndices[i]), selectedTable.getIndex2IdMapper().getId(i));
+		}
+		assertArrayEquals(this.table.getFields(545), reselectedTable.getFields(0));
+		assertArrayEquals(this.table.getFields(10), reselectedTable.getFields(1));
+		assertThrows(IndexOutOfBoundsException.class, () -> {this.mappedTable.select(new int[] {this.mappedTable.getNumberOfObjects()});});
+	}
+
+}
@@ -0,0 +1,112 @@
+/**
+ * Copyright (C) Jerzy Błaszczyński, Marcin Szeląg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.rulelearn.data.bin;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link SegmentedBuffer}.
+ *
+ * @author Jerzy Błaszczyński (<a href="mailto:jurek.blaszczynski@cs.put.poznan.pl">jurek.blaszczynski@cs.put.poznan.pl</a>)
+ * @author Marcin Szeląg (<a href="mailto:marcin.szelag@cs.put.poznan.pl">marcin.szelag@cs.put.poznan.pl</a>)
+ */
+class SegmentedBufferTest {
+
+	/**
+	 * Gets content with 3 bytes, followed by an {@code int}, a {@code long}, a {@code double}, and bytes 0, 1, ..., 19.
+	 *
+	 * @return content of a buffer
+	 */
+	private ByteBuffer getContent() {
+		ByteBuffer content = ByteBuffer.allocate(3 + 4 + 8 + 8 + 20);
+		content.put((byte)1).put((byte)2).put((byte)3).putInt(-123456789).putLong(Long.MIN_VALUE + 7L).putDouble(-0.125);
+		for (int i = 0; i < 20; i++) {
+			content.put((byte)i);
+		}
+		content.flip();
+		return content;
+	}
+
+	/**
+	 * Test method for relative reads of {@link SegmentedBuffer}, with values crossing boundaries of segments.
+	 */
+	@Test
+	void testRelativeReads() {
+		for (int segmentShift = 2; segmentShift <= SegmentedBuffer.SINGLE_SEGMENT_SHIFT; segmentShift++) {
+			SegmentedBuffer buffer = SegmentedBuffer.wrap(this.getContent(), segmentShift);
+			assertEquals(43L, buffer.size());
+			assertEquals(1, buffer.get());
+			assertEquals(2, buffer.get());
+			assertEquals(3, buffer.get());
+			assertEquals(-123456789, buffer.getInt());
+			assertEquals(Long.MIN_VALUE + 7L, buffer.getLong());
+			assertEquals(-0.125, buffer.getDouble());
+			byte[] bytes = new byte[19];
+			buffer.get(bytes);
+			for (int i = 0; i < bytes.length; i++) {
+				assertEquals(i, bytes[i]);
+			}
+			assertEquals(1L, buffer.remaining());
+			assertThrows(BufferUnderflowException.class, () -> {buffer.getInt();});
+			assertEquals(19, buffer.get());
+			assertThrows(BufferUnderflowException.class, () -> {buffer.get();});
+		}
+	}
+
+	/**
+	 * Test method for absolute reads of {@link SegmentedBuffer}, with values crossing boundaries of segments.
+	 */
+	@Test
+	void testAbsoluteReads() {
+		for (int segmentShift = 2; segmentShift <= SegmentedBuffer.SINGLE_SEGMENT_SHIFT; segmentShift++) {
+			SegmentedBuffer buffer = SegmentedBuffer.wrap(this.getContent(), segmentShift);
+			assertEquals(-0.125, buffer.getDouble(15L));
+			assertEquals(Long.MIN_VALUE + 7L, buffer.getLong(7L));
+			assertEquals(-123456789, buffer.getInt(3L));
+			assertEquals(3, buffer.get(2L));
+			byte[] bytes = new byte[15];
+			buffer.get(28L, bytes);
+			assertArrayEquals(new byte[] {5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16, 17, 18, 19}, bytes);
+			assertEquals(0L, buffer.position());
+			assertThrows(IndexOutOfBoundsException.class, () -> {buffer.get(43L);});
+			assertThrows(IndexOutOfBoundsException.class, () -> {buffer.getInt(40L);});
+			assertThrows(IndexOutOfBoundsException.class, () -> {buffer.get(29L, new byte[15]);});
+		}
+	}
+
+	/**
+	 * Test method for {@link SegmentedBuffer#wrap(ByteBuffer)}, checking that wrapped buffer starts at current position of given buffer.
+	 */
+	@Test
+	void testWrap() {
+		ByteBuffer content = this.getContent();
+		content.position(3);
+		SegmentedBuffer buffer = SegmentedBuffer.wrap(content);
+		assertEquals(40L, buffer.size());
+		assertEquals(-123456789, buffer.getInt());
+		assertEquals(3, content.position());
+		assertThrows(IllegalArgumentException.class, () -> {buffer.position(41L);});
+	}
+
+}
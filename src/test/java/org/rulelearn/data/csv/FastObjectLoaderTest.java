@@ -0,0 +1,190 @@
+/**
+ * Copyright (C) Jerzy Błaszczyński, Marcin Szeląg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.rulelearn.data.csv;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.security.NoSuchAlgorithmException;
+
+import org.junit.jupiter.api.Test;
+import org.rulelearn.core.FieldParseException;
+import org.rulelearn.data.Attribute;
+import org.rulelearn.data.AttributePreferenceType;
+import org.rulelearn.data.AttributeType;
+import org.rulelearn.data.EvaluationAttribute;
+import org.rulelearn.data.IdentificationAttribute;
+import org.rulelearn.data.InformationTable;
+import org.rulelearn.data.InformationTableBuilder;
+import org.rulelearn.types.ElementList;
+import org.rulelearn.types.EnumerationField;
+import org.rulelearn.types.EnumerationFieldFactory;
+import org.rulelearn.types.IntegerFieldFactory;
+import org.rulelearn.types.RealFieldFactory;
+import org.rulelearn.types.TextIdentificationField;
+import org.rulelearn.types.UnknownSimpleFieldMV2;
+
+/**
+ * Tests for {@link FastObjectLoader}.
+ *
+ * @author Jerzy Błaszczyński (<a href="mailto:jurek.blaszczynski@cs.put.poznan.pl">jurek.blaszczynski@cs.put.poznan.pl</a>)
+ * @author Marcin Szeląg (<a href="mailto:marcin.szelag@cs.put.poznan.pl">marcin.szelag@cs.put.poznan.pl</a>)
+ */
+class FastObjectLoaderTest {
+
+	/**
+	 * Gets attributes: identification attribute, integer gain attribute, real cost attribute, and enumeration attribute without preference type.
+	 *
+	 * @return array of attributes
+	 */
+	private Attribute[] getAttributes() {
+		ElementList elementList = null;
+		try {
+			elementList = new ElementList(new String[] {"low", "medium", "high"});
+		} catch (NoSuchAlgorithmException exception) {
+			throw new AssertionError(exception);
+		}
+		return new Attribute[] {
+				new IdentificationAttribute("id", true, new TextIdentificationField(TextIdentificationField.DEFAULT_VALUE)),
+				new EvaluationAttribute("i", true, AttributeType.CONDITION,
+						IntegerFieldFactory.getInstance().create(0, AttributePreferenceType.GAIN), new UnknownSimpleFieldMV2(), AttributePreferenceType.GAIN),
+				new EvaluationAttribute("r", true, AttributeType.CONDITION,
+						RealFieldFactory.getInstance().create(0.0, AttributePreferenceType.COST), new UnknownSimpleFieldMV2(), AttributePreferenceType.COST),
+				new EvaluationAttribute("e", true, AttributeType.DESCRIPTION,
+						EnumerationFieldFactory.getInstance().create(elementList, 0, AttributePreferenceType.NONE), new UnknownSimpleFieldMV2(), AttributePreferenceType.NONE)
+		};
+	}
+
+	/**
+	 * Asserts that given information tables have equal fields of all objects.
+	 *
+	 * @param expected expected information table
+	 * @param actual actual information table
+	 */
+	private void assertFieldsEqual(InformationTable expected, InformationTable actual) {
+		assertEquals(expected.getNumberOfObjects(), actual.getNumberOfObjects());
+		assertEquals(expected.getNumberOfAttributes(), actual.getNumberOfAttributes());
+		for (int i = 0; i < expected.getNumberOfObjects(); i++) {
+			for (int j = 0; j < expected.getNumberOfAttributes(); j++) {
+				assertEquals(expected.getField(i, j), actual.getField(i, j));
+			}
+		}
+	}
+
+	/**
+	 * Test method for {@link FastObjectLoader.Builder#Builder(Attribute[])} and setters of the builder.
+	 */
+	@Test
+	void testConstructionOfFastObjectLoader() {
+		assertThrows(NullPointerException.class, () -> {new FastObjectLoader.Builder(null).build();});
+		assertThrows(NullPointerException.class, () -> {new FastObjectLoader.Builder(new Attribute[1]).build();});
+		assertThrows(NullPointerException.class, () -> {new FastObjectLoader.Builder(this.getAttributes()).encoding(null).build();});
+		assertThrows(NullPointerException.class, () -> {new FastObjectLoader.Builder(this.getAttributes()).missingValueString(null).build();});
+		assertThrows(NullPointerException.class, () -> {new FastObjectLoader.Builder(this.getAttributes()).build().load((String)null);});
+		assertNotNull(new FastObjectLoader.Builder(this.getAttributes()).encoding("UTF-8").header(true).separator(';').missingValueString("na").build());
+	}
+
+	/**
+	 * Test method for {@link InformationTableBuilder#fastBuildFromCSVFile(String, String, boolean, char)}, comparing loaded information tables with the ones
+	 * built by {@link InformationTableBuilder#safelyBuildFromCSVFile(String, String, boolean, char)}.
+	 *
+	 * @throws IOException if test data cannot be read
+	 */
+	@Test
+	void testFastBuildFromCSVFile() throws IOException {
+		for (String csvFile : new String[] {"src/test/resources/data/csv/windsor.csv", "src/test/resources/data/csv/windsor-mv.csv"}) {
+			InformationTable expected = InformationTableBuilder.safelyBuildFromCSVFile("src/test/resources/data/csv/windsor.json", csvFile, false, '\t');
+			InformationTable actual = InformationTableBuilder.fastBuildFromCSVFile("src/test/resources/data/csv/windsor.json", csvFile, false, '\t');
+			assertFieldsEqual(expected, actual);
+		}
+	}
+
+	/**
+	 * Test method for {@link FastObjectLoader#load(java.io.Reader)}, checking header, quotes, white spaces, empty lines, line terminators, and missing values.
+	 *
+	 * @throws IOException if test data cannot be read
+	 */
+	@Test
+	void testLoad() throws IOException {
+		Attribute[] attributes = this.getAttributes();
+		String content = "id,i,r,e\r\n" +
+				" a , 1, 2.5 ,low\r\n" +
+				"\n" +
+				"\"b,\"\"x\"\"\",+7,-0.0,\"high\"\r" +
+				"c,?,0.1234567890123456789012345,?\n" +
+				"?,-2147483648,1e3,medium\n" +
+				"d,3,.5,medium";
+		InformationTable informationTable = new FastObjectLoader.Builder(attributes).header(true).missingValueString("?").build().load(new StringReader(content));
+
+		assertEquals(5, informationTable.getNumberOfObjects());
+		assertEquals(new TextIdentificationField("a"), informationTable.getField(0, 0));
+		assertEquals(new TextIdentificationField("b,\"x\""), informationTable.getField(1, 0));
+		assertEquals(new TextIdentificationField(TextIdentificationField.DEFAULT_VALUE), informationTable.getField(3, 0));
+		assertEquals(IntegerFieldFactory.getInstance().create(1, AttributePreferenceType.GAIN), informationTable.getField(0, 1));
+		assertEquals(IntegerFieldFactory.getInstance().create(7, AttributePreferenceType.GAIN), informationTable.getField(1, 1));
+		assertEquals(new UnknownSimpleFieldMV2(), informationTable.getField(2, 1));
+		assertEquals(IntegerFieldFactory.getInstance().create(Integer.MIN_VALUE, AttributePreferenceType.GAIN), informationTable.getField(3, 1));
+		assertEquals(RealFieldFactory.getInstance().create(2.5, AttributePreferenceType.COST), informationTable.getField(0, 2));
+		assertEquals(RealFieldFactory.getInstance().create(-0.0, AttributePreferenceType.COST), informationTable.getField(1, 2));
+		assertEquals(RealFieldFactory.getInstance().create(Double.parseDouble("0.1234567890123456789012345"), AttributePreferenceType.COST), informationTable.getField(2, 2));
+		assertEquals(RealFieldFactory.getInstance().create(1000.0, AttributePreferenceType.COST), informationTable.getField(3, 2));
+		assertEquals(RealFieldFactory.getInstance().create(0.5, AttributePreferenceType.COST), informationTable.getField(4, 2));
+		assertEquals(new UnknownSimpleFieldMV2(), informationTable.getField(2, 3));
+		assertEquals(((EvaluationAttribute)attributes[3]).getValueType(), informationTable.getField(0, 3));
+		assertEquals(EnumerationFieldFactory.getInstance().create(
+				((EnumerationField)((EvaluationAttribute)attributes[3]).getValueType()).getElementList(), 2, AttributePreferenceType.NONE), informationTable.getField(1, 3));
+	}
+
+	/**
+	 * Test method for {@link FastObjectLoader#load(java.io.Reader)}, checking that the same real numbers are loaded as the ones parsed by {@link Double#parseDouble(String)}.
+	 *
+	 * @throws IOException if test data cannot be read
+	 */
+	@Test
+	void testLoadRealNumbers() throws IOException {
+		Attribute[] attributes = this.getAttributes();
+		String[] values = {"0", "0.1", "0.3", "-1.7976931348623157", "9007199254740991", "9007199254740993", "123456.789012", "0.000000000000000000001", "5850.0", "-12.", "3.14159265358979"};
+		StringBuilder content = new StringBuilder();
+		for (String value : values) {
+			content.append("x,0,").append(value).append(",low\n");
+		}
+		InformationTable informationTable = new FastObjectLoader.Builder(attributes).build().load(new StringReader(content.toString()));
+
+		for (int i = 0; i < values.length; i++) {
+			assertEquals(RealFieldFactory.getInstance().create(Double.parseDouble(values[i]), AttributePreferenceType.COST), informationTable.getField(i, 2));
+		}
+	}
+
+	/**
+	 * Test method for {@link FastObjectLoader#load(java.io.Reader)}, checking incorrect content.
+	 */
+	@Test
+	void testLoadIncorrectContent() {
+		FastObjectLoader loader = new FastObjectLoader.Builder(this.getAttributes()).build();
+
+		assertThrows(IndexOutOfBoundsException.class, () -> {loader.load(new StringReader("a,1,2.0,low,x\n"));});
+		assertThrows(IndexOutOfBoundsException.class, () -> {loader.load(new StringReader("a,1,2.0,low\nb,1,2.0\n"));});
+		assertThrows(FieldParseException.class, () -> {loader.load(new StringReader("a,1.5,2.0,low\n"));});
+		assertThrows(FieldParseException.class, () -> {loader.load(new StringReader("a,2147483648,2.0,low\n"));});
+		assertThrows(FieldParseException.class, () -> {loader.load(new StringReader("a,1,2..0,low\n"));});
+		assertThrows(FieldParseException.class, () -> {loader.load(new StringReader("a,1,2.0,very high\n"));});
+	}
+
+}
@@ -16,15 +16,29 @@
 
 package org.rulelearn.data.csv;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
+import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.FileReader;
 import java.io.IOException;
+import java.io.StringReader;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 
 import org.junit.jupiter.api.Test;
+import org.rulelearn.core.InvalidValueException;
 import org.rulelearn.data.Attribute;
 import org.rulelearn.data.AttributePreferenceType;
 import org.rulelearn.data.AttributeType;
@@ -181,4 +195,162 @@ class ObjectParserTest {
 		}
 	}
 
+	/**
+	 * Test method for {@link ObjectParser#parseObjects(java.io.Reader, int, java.util.function.Consumer)}.
+	 */
+	@Test
+	void testParseObjectsInBatches() {
+		Attribute [] attributes = null;
+		
+		AttributeParser attributeParser = new AttributeParser();
+		try (FileReader attributesReader = new FileReader("src/test/resources/data/csv/windsor.json")) {
+			attributes = attributeParser.parseAttributes(attributesReader);
+		}
+		catch (IOException ex) {
+			fail(ex.toString());
+		}
+		ObjectParser objectParser = new ObjectParser.Builder(attributes).header(false).separator('\t').build();
+		InformationTable informationTable = null;
+		List<InformationTable> batches = new ArrayList<InformationTable>();
+		
+		try (FileReader objectsReader = new FileReader("src/test/resources/data/csv/windsor-mv.csv")) {
+			informationTable = objectParser.parseObjects(objectsReader);
+		}
+		catch (IOException ex) {
+			fail(ex.toString());
+		}
+		try (FileReader objectsReader = new FileReader("src/test/resources/data/csv/windsor-mv.csv")) {
+			assertEquals(546, objectParser.parseObjects(objectsReader, 100, batches::add));
+		}
+		catch (IOException ex) {
+			fail(ex.toString());
+		}
+		
+		assertEquals(6, batches.size());
+		int objectIndex = 0;
+		for (InformationTable batch : batches) {
+			assertEquals(objectIndex < 500 ? 100 : 46, batch.getNumberOfObjects());
+			for (int i = 0; i < batch.getNumberOfObjects(); i++, objectIndex++) {
+				for (int j = 0; j < attributes.length; j++) {
+					assertEquals(informationTable.getField(objectIndex, j), batch.getField(i, j));
+				}
+			}
+		}
+		
+		assertThrows(InvalidValueException.class, () -> {objectParser.parseObjects(new StringReader(""), 0, batches::add);});
+		assertThrows(NullPointerException.class, () -> {objectParser.parseObjects(new StringReader(""), 1, null);});
+	}
+
+	/**
+	 * Test method for {@link ObjectParser#parseObjects(FileChannel, ForkJoinPool)} and {@link ObjectParser#parseObjects(java.io.Reader, ForkJoinPool)},
+	 * checking that objects parsed from chunks are the same, and are in the same order, as objects parsed by {@link ObjectParser#parseObjects(java.io.Reader)}.
+	 */
+	@Test
+	void testParseObjectsForkJoinPool() {
+		Attribute [] attributes = null;
+		
+		AttributeParser attributeParser = new AttributeParser();
+		try (FileReader attributesReader = new FileReader("src/test/resources/data/csv/windsor.json")) {
+			attributes = attributeParser.parseAttributes(attributesReader);
+		}
+		catch (IOException ex) {
+			fail(ex.toString());
+		}
+		ObjectParser objectParser = new ObjectParser.Builder(attributes).header(false).separator('\t').build();
+		InformationTable informationTable = null;
+		InformationTable parallelInformationTable = null;
+		InformationTable chunkedInformationTable = null;
+		InformationTable sequentialInformationTable = null;
+		
+		try (FileReader objectsReader = new FileReader("src/test/resources/data/csv/windsor-mv.csv")) {
+			informationTable = objectParser.parseObjects(objectsReader);
+		}
+		catch (IOException ex) {
+			fail(ex.toString());
+		}
+		try (FileReader objectsReader = new FileReader("src/test/resources/data/csv/windsor-mv.csv")) {
+			sequentialInformationTable = objectParser.parseObjects(objectsReader, ForkJoinPool.commonPool());
+		}
+		catch (IOException ex) {
+			fail(ex.toString());
+		}
+		try (FileChannel channel = FileChannel.open(Paths.get("src/test/resources/data/csv/windsor-mv.csv"), StandardOpenOption.READ)) {
+			parallelInformationTable = objectParser.parseObjects(channel, ForkJoinPool.commonPool());
+			long[] chunkBounds = objectParser.getChunkBounds(channel, 1000, ObjectParser.READ_BUFFER_SIZE);
+			assertTrue(chunkBounds.length > 2);
+			assertEquals(channel.size(), chunkBounds[chunkBounds.length - 1]);
+			ForkJoinPool forkJoinPool = new ForkJoinPool(4);
+			try {
+				chunkedInformationTable = objectParser.parseObjects(channel, StandardCharsets.UTF_8, chunkBounds, forkJoinPool);
+			}
+			finally {
+				forkJoinPool.shutdown();
+			}
+		}
+		catch (IOException ex) {
+			fail(ex.toString());
+		}
+		
+		for (InformationTable parsedInformationTable : new InformationTable[] {parallelInformationTable, chunkedInformationTable, sequentialInformationTable}) {
+			assertEquals(546, parsedInformationTable.getNumberOfObjects());
+			for (int i = 0; i < parsedInformationTable.getNumberOfObjects(); i++) {
+				for (int j = 0; j < attributes.length; j++) {
+					assertEquals(informationTable.getField(i, j), parsedInformationTable.getField(i, j));
+				}
+				if (i > 0) {
+					assertEquals(parsedInformationTable.getIndex2IdMapper().getId(i - 1) + 1, parsedInformationTable.getIndex2IdMapper().getId(i));
+				}
+			}
+		}
+		
+		assertThrows(NullPointerException.class, () -> {objectParser.parseObjects(new StringReader(""), null);});
+		assertThrows(NullPointerException.class, () -> {objectParser.parseObjects((FileChannel)null, ForkJoinPool.commonPool());});
+	}
+	
+	/**
+	 * Test method for {@link ObjectParser#parseObjects(FileChannel, ForkJoinPool)}, parsing a file with a header, encoded in UTF-16, which is parsed sequentially.
+	 * 
+	 * @throws IOException if temporary file cannot be written or read
+	 */
+	@Test
+	void testParseObjectsForkJoinPoolNotSplittableByBytes() throws IOException {
+		Attribute [] attributes = {new EvaluationAttribute("a", true, AttributeType.CONDITION,
+				IntegerFieldFactory.getInstance().create(0, AttributePreferenceType.GAIN), new UnknownSimpleFieldMV2(), AttributePreferenceType.GAIN)};
+		ObjectParser objectParser = new ObjectParser.Builder(attributes).header(true).encoding("UTF-16").build();
+		File file = File.createTempFile("utf16", ".csv");
+		file.deleteOnExit();
+		Files.write(file.toPath(), "a\n1\n2\n3\n".getBytes(StandardCharsets.UTF_16));
+		
+		assertTrue(objectParser.isSplittableByBytes(StandardCharsets.UTF_8));
+		assertTrue(objectParser.isSplittableByBytes(StandardCharsets.ISO_8859_1));
+		assertFalse(objectParser.isSplittableByBytes(StandardCharsets.UTF_16));
+		try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+			InformationTable informationTable = objectParser.parseObjects(channel, ForkJoinPool.commonPool());
+			assertEquals(3, informationTable.getNumberOfObjects());
+			assertEquals(IntegerFieldFactory.getInstance().create(3, AttributePreferenceType.GAIN), informationTable.getField(2, 0));
+		}
+	}
+	
+	/**
+	 * Test method for {@link ObjectParser#getChunkBounds(FileChannel, long, int)}, checking that chunks are aligned to lines, and do not split quoted values,
+	 * also when special characters are split between read blocks.
+	 * 
+	 * @throws IOException if temporary file cannot be written or read
+	 */
+	@Test
+	void testGetChunkBounds() throws IOException {
+		ObjectParser objectParser = new ObjectParser.Builder(new Attribute[0]).separator(',').build();
+		File file = File.createTempFile("chunks", ".csv");
+		file.deleteOnExit();
+		Files.write(file.toPath(), "a,b\n\"c\nd\",e\r\nf,\"g\"\"\n\"\rh\"i,\nj\n".getBytes(StandardCharsets.UTF_8));
+		
+		try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+			for (int readBufferSize : new int[] {1, 2, 3, 5, ObjectParser.READ_BUFFER_SIZE}) {
+				assertArrayEquals(new long[] {0, 4, 13, 22, 27, 29}, objectParser.getChunkBounds(channel, 1, readBufferSize));
+				assertArrayEquals(new long[] {0, 13, 22, 27, 29}, objectParser.getChunkBounds(channel, 5, readBufferSize));
+				assertArrayEquals(new long[] {0, 29}, objectParser.getChunkBounds(channel, 100, readBufferSize));
+			}
+		}
+	}
+
 }
@@ -22,10 +22,12 @@ import java.io.FileNotFoundException;
 import java.io.FileReader;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.io.StringWriter;
 
 import org.junit.jupiter.api.Test;
 import org.rulelearn.data.Attribute;
 import org.rulelearn.data.InformationTable;
+import org.rulelearn.data.InformationTableBuilder;
 import org.rulelearn.data.csv.ObjectParser;
 
 /**
@@ -144,4 +146,27 @@ class InformationTableWriterTest {
 		}
 	}
 
+	/**
+	 * Test method for {@link InformationTableWriter#writeObjects(InformationTable, java.io.Writer)}, checking that streamed JSON
+	 * is the same as JSON produced by {@link InformationTableSerializer}.
+	 * 
+	 * @throws IOException when objects cannot be read or written
+	 */
+	@Test
+	void testWriteObjects() throws IOException {
+		InformationTable informationTable = InformationTableBuilder.safelyBuildFromCSVFile("src/test/resources/data/csv/windsor.json", "src/test/resources/data/csv/windsor-mv.csv", false, '\t');
+		
+		for (boolean setPrettyPrinting : new boolean[] {true, false}) {
+			InformationTableWriter informationTableWriter = new InformationTableWriter(setPrettyPrinting);
+			StringWriter stringWriter = new StringWriter();
+			informationTableWriter.writeObjects(informationTable, stringWriter);
+			assertEquals(informationTableWriter.gson.toJson(informationTable), stringWriter.toString());
+		}
+		
+		StringWriter stringWriter = new StringWriter();
+		new InformationTableWriter(false).writeObjects(informationTable.select(new int[0]), stringWriter);
+		assertEquals("[]", stringWriter.toString());
+		assertThrows(NullPointerException.class, () -> {new InformationTableWriter().writeObjects(null, new StringWriter());});
+	}
+
 }
@@ -16,16 +16,29 @@
 
 package org.rulelearn.data.json;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
+import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.FileReader;
 import java.io.IOException;
+import java.io.StringReader;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 
 import org.junit.jupiter.api.Test;
+import org.rulelearn.core.InvalidValueException;
 import org.rulelearn.data.Attribute;
 import org.rulelearn.data.AttributePreferenceType;
 import org.rulelearn.data.AttributeType;
@@ -212,4 +225,171 @@ class ObjectParserTest {
 		}
 	}
 
+	/**
+	 * Test method for {@link ObjectParser#parseObjects(java.io.Reader, int, java.util.function.Consumer)}.
+	 */
+	@Test
+	void testParseObjectsInBatches() {
+		Attribute [] attributes = null;
+		try (FileReader attributeReader = new FileReader("src/test/resources/data/json/metadata-prioritisation.json")) {
+			attributes = new AttributeParser().parseAttributes(attributeReader);
+		}
+		catch (IOException ex) {
+			fail(ex.toString());
+		}
+		ObjectParser objectParser = new ObjectParser.Builder(attributes).build();
+		InformationTable informationTable = null;
+		List<InformationTable> batches = new ArrayList<InformationTable>();
+		
+		try (FileReader objectReader = new FileReader("src/test/resources/data/json/learning-set-prioritisation-2019-02-27.json")) {
+			informationTable = objectParser.parseObjects(objectReader);
+		}
+		catch (IOException ex) {
+			fail(ex.toString());
+		}
+		try (FileReader objectReader = new FileReader("src/test/resources/data/json/learning-set-prioritisation-2019-02-27.json")) {
+			assertEquals(50, objectParser.parseObjects(objectReader, 7, batches::add));
+		}
+		catch (IOException ex) {
+			fail(ex.toString());
+		}
+		
+		assertEquals(8, batches.size());
+		int objectIndex = 0;
+		for (InformationTable batch : batches) {
+			assertEquals(objectIndex < 49 ? 7 : 1, batch.getNumberOfObjects());
+			for (int i = 0; i < batch.getNumberOfObjects(); i++, objectIndex++) {
+				for (int j = 0; j < attributes.length; j++) {
+					assertEquals(informationTable.getField(objectIndex, j), batch.getField(i, j));
+				}
+			}
+		}
+		
+		try {
+			batches.clear();
+			assertEquals(0, objectParser.parseObjects(new StringReader(""), 7, batches::add));
+			assertEquals(0, objectParser.parseObjects(new StringReader("[]"), 7, batches::add));
+			assertEquals(0, batches.size());
+		}
+		catch (IOException ex) {
+			fail(ex.toString());
+		}
+		assertThrows(InvalidValueException.class, () -> {objectParser.parseObjects(new StringReader("[]"), 0, batches::add);});
+	}
+
+	/**
+	 * Test method for {@link ObjectParser#parseObjects(FileChannel, ForkJoinPool)} and {@link ObjectParser#parseObjects(java.io.Reader, ForkJoinPool)},
+	 * checking that objects parsed from chunks are the same, and are in the same order, as objects parsed by {@link ObjectParser#parseObjects(java.io.Reader)}.
+	 */
+	@Test
+	void testParseObjectsForkJoinPool() {
+		Attribute [] attributes = null;
+		try (FileReader attributeReader = new FileReader("src/test/resources/data/json/metadata-prioritisation.json")) {
+			attributes = new AttributeParser().parseAttributes(attributeReader);
+		}
+		catch (IOException ex) {
+			fail(ex.toString());
+		}
+		ObjectParser objectParser = new ObjectParser.Builder(attributes).build();
+		InformationTable informationTable = null;
+		InformationTable parallelInformationTable = null;
+		InformationTable chunkedInformationTable = null;
+		InformationTable sequentialInformationTable = null;
+		
+		try (FileReader objectReader = new FileReader("src/test/resources/data/json/learning-set-prioritisation-2019-02-27.json")) {
+			informationTable = objectParser.parseObjects(objectReader);
+		}
+		catch (IOException ex) {
+			fail(ex.toString());
+		}
+		try (FileReader objectReader = new FileReader("src/test/resources/data/json/learning-set-prioritisation-2019-02-27.json")) {
+			sequentialInformationTable = objectParser.parseObjects(objectReader, ForkJoinPool.commonPool());
+		}
+		catch (IOException ex) {
+			fail(ex.toString());
+		}
+		try (FileChannel channel = FileChannel.open(Paths.get("src/test/resources/data/json/learning-set-prioritisation-2019-02-27.json"), StandardOpenOption.READ)) {
+			parallelInformationTable = objectParser.parseObjects(channel, ForkJoinPool.commonPool());
+			long[] chunkBounds = objectParser.getChunkBounds(channel, 1000, ObjectParser.READ_BUFFER_SIZE);
+			assertTrue(chunkBounds.length > 4);
+			ForkJoinPool forkJoinPool = new ForkJoinPool(4);
+			try {
+				chunkedInformationTable = objectParser.parseObjects(channel, StandardCharsets.UTF_8, chunkBounds, forkJoinPool);
+			}
+			finally {
+				forkJoinPool.shutdown();
+			}
+		}
+		catch (IOException ex) {
+			fail(ex.toString());
+		}
+		
+		for (InformationTable parsedInformationTable : new InformationTable[] {parallelInformationTable, chunkedInformationTable, sequentialInformationTable}) {
+			assertEquals(50, parsedInformationTable.getNumberOfObjects());
+			for (int i = 0; i < parsedInformationTable.getNumberOfObjects(); i++) {
+				for (int j = 0; j < attributes.length; j++) {
+					assertEquals(informationTable.getField(i, j), parsedInformationTable.getField(i, j));
+				}
+				if (i > 0) {
+					assertEquals(parsedInformationTable.getIndex2IdMapper().getId(i - 1) + 1, parsedInformationTable.getIndex2IdMapper().getId(i));
+				}
+			}
+		}
+		
+		assertThrows(NullPointerException.class, () -> {objectParser.parseObjects(new StringReader("[]"), null);});
+		assertThrows(NullPointerException.class, () -> {objectParser.parseObjects((FileChannel)null, ForkJoinPool.commonPool());});
+	}
+	
+	/**
+	 * Test method for {@link ObjectParser#parseObjects(FileChannel, ForkJoinPool)}, parsing an empty array, and a single object, which is parsed sequentially.
+	 * 
+	 * @throws IOException if temporary file cannot be written or read
+	 */
+	@Test
+	void testParseObjectsForkJoinPoolNotArray() throws IOException {
+		Attribute [] attributes = null;
+		try (FileReader attributeReader = new FileReader("src/test/resources/data/json/metadata-prioritisation.json")) {
+			attributes = new AttributeParser().parseAttributes(attributeReader);
+		}
+		ObjectParser objectParser = new ObjectParser.Builder(attributes).build();
+		File file = File.createTempFile("objects", ".json");
+		file.deleteOnExit();
+		
+		Files.write(file.toPath(), " [ ] ".getBytes(StandardCharsets.UTF_8));
+		try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+			assertEquals(0, objectParser.parseObjects(channel, ForkJoinPool.commonPool()).getNumberOfObjects());
+		}
+		Files.write(file.toPath(), "{\"ID\":\"43187598-6984-4904-95a6-fcd9fa18a78b\"}".getBytes(StandardCharsets.UTF_8));
+		try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+			assertEquals(1, objectParser.parseObjects(channel, ForkJoinPool.commonPool()).getNumberOfObjects());
+		}
+	}
+	
+	/**
+	 * Test method for {@link ObjectParser#getChunkBounds(FileChannel, long, int)}, also when escaped characters are split between read blocks.
+	 * 
+	 * @throws IOException if temporary file cannot be written or read
+	 */
+	@Test
+	void testGetChunkBounds() throws IOException {
+		ObjectParser objectParser = new ObjectParser.Builder(new Attribute[0]).build();
+		File file = File.createTempFile("chunks", ".json");
+		file.deleteOnExit();
+		
+		Files.write(file.toPath(), "[{\"a\":\"],\\\"\"},{\"b\":[1,{}]},{}]".getBytes(StandardCharsets.UTF_8));
+		try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+			for (int readBufferSize : new int[] {1, 2, 3, 5, ObjectParser.READ_BUFFER_SIZE}) {
+				assertArrayEquals(new long[] {1, 13, 14, 26, 27, 29}, objectParser.getChunkBounds(channel, 1, readBufferSize));
+				assertArrayEquals(new long[] {1, 26, 27, 29}, objectParser.getChunkBounds(channel, 13, readBufferSize));
+				assertArrayEquals(new long[] {1, 29}, objectParser.getChunkBounds(channel, 100, readBufferSize));
+			}
+		}
+		for (String content : new String[] {"{\"a\":1}", "[{\"a\":1}"}) {
+			Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+			try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+				assertNull(objectParser.getChunkBounds(channel, 1, 2));
+			}
+		}
+	}
+
 }
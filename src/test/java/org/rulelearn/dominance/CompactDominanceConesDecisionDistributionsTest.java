@@ -0,0 +1,152 @@
+/**
+ * Copyright (C) Jerzy Błaszczyński, Marcin Szeląg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.rulelearn.dominance;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Test;
+import org.rulelearn.data.Attribute;
+import org.rulelearn.data.AttributePreferenceType;
+import org.rulelearn.data.AttributeType;
+import org.rulelearn.data.CumulativeDecisionDistribution;
+import org.rulelearn.data.DecisionDistribution;
+import org.rulelearn.data.EvaluationAttribute;
+import org.rulelearn.data.InformationTable;
+import org.rulelearn.data.InformationTableBuilder;
+import org.rulelearn.types.Field;
+import org.rulelearn.types.IntegerField;
+import org.rulelearn.types.IntegerFieldFactory;
+import org.rulelearn.types.UnknownSimpleFieldMV2;
+
+/**
+ * Tests for {@link CompactDominanceConesDecisionDistributions}.
+ *
+ * @author Jerzy Błaszczyński (<a href="mailto:jurek.blaszczynski@cs.put.poznan.pl">jurek.blaszczynski@cs.put.poznan.pl</a>)
+ * @author Marcin Szeląg (<a href="mailto:marcin.szelag@cs.put.poznan.pl">marcin.szelag@cs.put.poznan.pl</a>)
+ */
+class CompactDominanceConesDecisionDistributionsTest {
+
+	/**
+	 * Checks that given decision distributions in dominance cones are equal.
+	 * 
+	 * @param expected expected decision distributions
+	 * @param actual actual decision distributions
+	 */
+	static void assertDistributionsEqual(DominanceConesDecisionDistributions expected, DominanceConesDecisionDistributions actual) {
+		assertEquals(expected.getNumberOfObjects(), actual.getNumberOfObjects());
+		for (int x = 0; x < expected.getNumberOfObjects(); x++) {
+			assertEquals(expected.getPositiveDConeDecisionClassDistribution(x), actual.getPositiveDConeDecisionClassDistribution(x));
+			assertEquals(expected.getNegativeDConeDecisionClassDistribution(x), actual.getNegativeDConeDecisionClassDistribution(x));
+			assertEquals(expected.getPositiveInvDConeDecisionClassDistribution(x), actual.getPositiveInvDConeDecisionClassDistribution(x));
+			assertEquals(expected.getNegativeInvDConeDecisionClassDistribution(x), actual.getNegativeInvDConeDecisionClassDistribution(x));
+		}
+	}
+	
+	/**
+	 * Test for {@link CompactDominanceConesDecisionDistributions#CompactDominanceConesDecisionDistributions(InformationTable)}
+	 * and {@link CompactDominanceConesDecisionDistributions#CompactDominanceConesDecisionDistributions(InformationTable, ForkJoinPool)},
+	 * concerning "windsor" data set with missing values, whose decisions are totally ordered.
+	 * 
+	 * @throws IOException if data cannot be loaded
+	 */
+	@Test
+	void testCompactDominanceConesDecisionDistributions01() throws IOException {
+		InformationTable informationTable = InformationTableBuilder.buildFromCSVFile("src/test/resources/data/csv/windsor.json", "src/test/resources/data/csv/windsor-mv.csv", false, '\t');
+		DominanceConesDecisionDistributions expected = new DominanceConesDecisionDistributions(informationTable);
+		CompactDominanceConesDecisionDistributions actual = new CompactDominanceConesDecisionDistributions(informationTable);
+		
+		assertTrue(actual.isTotallyOrdered());
+		assertEquals(4, actual.getDecisions().length);
+		assertDistributionsEqual(expected, actual);
+		ForkJoinPool forkJoinPool = new ForkJoinPool(4);
+		try {
+			assertDistributionsEqual(expected, new CompactDominanceConesDecisionDistributions(informationTable, forkJoinPool));
+		} finally {
+			forkJoinPool.shutdown();
+		}
+		
+		CumulativeDecisionDistribution distribution = (CumulativeDecisionDistribution)actual.getPositiveInvDConeDecisionClassDistribution(0);
+		int total = 0;
+		for (int i = 0; i < distribution.getOrderedDecisions().length; i++) {
+			assertEquals(total, distribution.getCumulativeCount(i));
+			total += distribution.getCount(distribution.getOrderedDecisions()[i]);
+		}
+		assertEquals(total, distribution.getTotalCount());
+		
+		//distribution is copied on write, so counts stored in the compact way are not modified
+		int count = distribution.getCount(informationTable.getDecision(0));
+		distribution.increaseCount(informationTable.getDecision(0));
+		assertEquals(count + 1, distribution.getCount(informationTable.getDecision(0)));
+		assertEquals(total + 1, distribution.getTotalCount());
+		assertEquals(count, actual.getPositiveInvDConeDecisionClassDistribution(0).getCount(informationTable.getDecision(0)));
+		assertEquals(expected.getPositiveInvDConeDecisionClassDistribution(0), actual.getPositiveInvDConeDecisionClassDistribution(0));
+		assertThrows(IndexOutOfBoundsException.class, () -> distribution.getCumulativeCount(-1));
+		assertThrows(IndexOutOfBoundsException.class, () -> actual.getNegativeDConeDecisionClassDistribution(informationTable.getNumberOfObjects()));
+		assertThrows(NullPointerException.class, () -> new CompactDominanceConesDecisionDistributions(null));
+		assertThrows(NullPointerException.class, () -> new CompactDominanceConesDecisionDistributions(informationTable, null));
+	}
+	
+	/**
+	 * Test for {@link CompactDominanceConesDecisionDistributions#CompactDominanceConesDecisionDistributions(InformationTable)},
+	 * concerning decisions that are not totally ordered.
+	 */
+	@Test
+	void testCompactDominanceConesDecisionDistributions02() {
+		List<Field[]> listOfFields = new ArrayList<>();
+		int[][] values = {{0, 2}, {1, 0}, {2, 1}, {1, 2}, {2, 0}};
+		for (int[] objectValues : values) {
+			listOfFields.add(new Field[] {
+					IntegerFieldFactory.getInstance().create(objectValues[0], AttributePreferenceType.GAIN),
+					IntegerFieldFactory.getInstance().create(objectValues[1], AttributePreferenceType.NONE)});
+		}
+		InformationTable informationTable = new InformationTable(new Attribute[] {
+				new EvaluationAttribute("a0", true, AttributeType.CONDITION,
+						IntegerFieldFactory.getInstance().create(IntegerField.DEFAULT_VALUE, AttributePreferenceType.GAIN), UnknownSimpleFieldMV2.getInstance(), AttributePreferenceType.GAIN),
+				new EvaluationAttribute("d", true, AttributeType.DECISION,
+						IntegerFieldFactory.getInstance().create(IntegerField.DEFAULT_VALUE, AttributePreferenceType.NONE), UnknownSimpleFieldMV2.getInstance(), AttributePreferenceType.NONE)},
+				listOfFields);
+		CompactDominanceConesDecisionDistributions actual = new CompactDominanceConesDecisionDistributions(informationTable);
+		
+		assertFalse(actual.isTotallyOrdered());
+		assertEquals(3, actual.getDecisions().length);
+		assertFalse(actual.getPositiveDConeDecisionClassDistribution(0) instanceof CumulativeDecisionDistribution);
+		assertDistributionsEqual(new DominanceConesDecisionDistributions(informationTable), actual);
+		assertEquals(2, actual.getPositiveDConeDecisionClassDistribution(1).getCount(informationTable.getDecision(4))); //objects 2 and 4 dominate object 1
+		
+		//distribution is copied on write, so counts stored in the compact way are not modified
+		DecisionDistribution distribution = actual.getPositiveDConeDecisionClassDistribution(1);
+		distribution.increaseCount(informationTable.getDecision(4));
+		assertEquals(3, distribution.getCount(informationTable.getDecision(4)));
+		assertEquals(1, distribution.getCount(informationTable.getDecision(0))); //object 3
+		assertEquals(2, actual.getPositiveDConeDecisionClassDistribution(1).getCount(informationTable.getDecision(4)));
+		
+		distribution = actual.getPositiveDConeDecisionClassDistribution(4); //objects 2 and 4 dominate object 4, and none of them has decision of object 3
+		assertFalse(distribution.isPresent(informationTable.getDecision(3)));
+		distribution.increaseCount(informationTable.getDecision(3));
+		assertTrue(distribution.isPresent(informationTable.getDecision(3)));
+		assertFalse(actual.getPositiveDConeDecisionClassDistribution(4).isPresent(informationTable.getDecision(3)));
+	}
+
+}
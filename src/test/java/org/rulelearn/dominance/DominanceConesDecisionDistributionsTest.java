@@ -18,8 +18,10 @@ package org.rulelearn.dominance;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
@@ -27,6 +29,7 @@ import org.rulelearn.data.AttributePreferenceType;
 import org.rulelearn.data.DecisionDistribution;
 import org.rulelearn.data.EvaluationAttribute;
 import org.rulelearn.data.InformationTable;
+import org.rulelearn.data.InformationTableBuilder;
 import org.rulelearn.data.SimpleDecision;
 import org.rulelearn.data.Table;
 import org.rulelearn.types.EvaluationField;
@@ -529,4 +532,49 @@ class DominanceConesDecisionDistributionsTest {
 		assertEquals(decisionDistribution, expectedDecisionDistribution);
 	}
 	
+	/**
+	 * Test method for {@link DominanceConesDecisionDistributions#DominanceConesDecisionDistributions(InformationTable, ForkJoinPool)}.
+	 */
+	@Test
+	void testDominanceConesDecisionDistributionsParallel01() {
+		InformationTable informationTableMock = getTestInformationTableMock();
+		DominanceConesDecisionDistributions expected = new DominanceConesDecisionDistributions(informationTableMock);
+		DominanceConesDecisionDistributions actual = new DominanceConesDecisionDistributions(informationTableMock, ForkJoinPool.commonPool());
+		
+		assertEquals(expected.getNumberOfObjects(), actual.getNumberOfObjects());
+		for (int x = 0; x < expected.getNumberOfObjects(); x++) {
+			assertEquals(expected.getPositiveDConeDecisionClassDistribution(x), actual.getPositiveDConeDecisionClassDistribution(x));
+			assertEquals(expected.getNegativeDConeDecisionClassDistribution(x), actual.getNegativeDConeDecisionClassDistribution(x));
+			assertEquals(expected.getPositiveInvDConeDecisionClassDistribution(x), actual.getPositiveInvDConeDecisionClassDistribution(x));
+			assertEquals(expected.getNegativeInvDConeDecisionClassDistribution(x), actual.getNegativeInvDConeDecisionClassDistribution(x));
+		}
+	}
+	
+	/**
+	 * Test method for {@link DominanceConesDecisionDistributions#DominanceConesDecisionDistributions(InformationTable, ForkJoinPool)},
+	 * concerning "windsor" data set with missing values, processed by several tasks.
+	 */
+	@Test
+	void testDominanceConesDecisionDistributionsParallel02() {
+		ForkJoinPool forkJoinPool = new ForkJoinPool(4);
+		try {
+			InformationTable informationTable = InformationTableBuilder.buildFromCSVFile("src/test/resources/data/csv/windsor.json", "src/test/resources/data/csv/windsor-mv.csv", false, '\t');
+			DominanceConesDecisionDistributions expected = new DominanceConesDecisionDistributions(informationTable);
+			DominanceConesDecisionDistributions actual = new DominanceConesDecisionDistributions(informationTable, forkJoinPool);
+			
+			for (int x = 0; x < informationTable.getNumberOfObjects(); x++) {
+				assertEquals(expected.getPositiveDConeDecisionClassDistribution(x), actual.getPositiveDConeDecisionClassDistribution(x));
+				assertEquals(expected.getNegativeDConeDecisionClassDistribution(x), actual.getNegativeDConeDecisionClassDistribution(x));
+				assertEquals(expected.getPositiveInvDConeDecisionClassDistribution(x), actual.getPositiveInvDConeDecisionClassDistribution(x));
+				assertEquals(expected.getNegativeInvDConeDecisionClassDistribution(x), actual.getNegativeInvDConeDecisionClassDistribution(x));
+			}
+		}
+		catch (IOException exception) {
+			fail(exception.toString());
+		}
+		finally {
+			forkJoinPool.shutdown();
+		}
+	}
+	
 }
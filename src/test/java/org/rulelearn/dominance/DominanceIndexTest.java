@@ -0,0 +1,214 @@
+/**
+ * Copyright (C) Jerzy Błaszczyński, Marcin Szeląg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.rulelearn.dominance;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.rulelearn.data.AttributePreferenceType;
+import org.rulelearn.data.EvaluationAttribute;
+import org.rulelearn.data.InformationTable;
+import org.rulelearn.data.InformationTableBuilder;
+import org.rulelearn.data.Table;
+import org.rulelearn.types.EvaluationField;
+import org.rulelearn.types.IntegerField;
+import org.rulelearn.types.IntegerFieldFactory;
+import org.rulelearn.types.UnknownSimpleFieldMV15;
+import org.rulelearn.types.UnknownSimpleFieldMV2;
+
+/**
+ * Tests for {@link DominanceIndex} and {@link EvaluationRanks}.
+ *
+ * @author Jerzy Błaszczyński (<a href="mailto:jurek.blaszczynski@cs.put.poznan.pl">jurek.blaszczynski@cs.put.poznan.pl</a>)
+ * @author Marcin Szeląg (<a href="mailto:marcin.szelag@cs.put.poznan.pl">marcin.szelag@cs.put.poznan.pl</a>)
+ */
+class DominanceIndexTest {
+
+	/**
+	 * Supplementary method for creating {@link IntegerField} instances.
+	 *
+	 * @param value value passed to {@link IntegerFieldFactory#create(int, AttributePreferenceType)} method.
+	 * @param preferenceType preference type passed to {@link IntegerFieldFactory#create(int, AttributePreferenceType)} method.
+	 * @return created {@link IntegerField} instance.
+	 */
+	private IntegerField intField(int value, AttributePreferenceType preferenceType) {
+		return IntegerFieldFactory.getInstance().create(value, preferenceType);
+	}
+
+	/**
+	 * Creates a mock of an {@link InformationTable}.
+	 *
+	 * @param evaluationsList list with arrays of evaluations such that each array stores subsequent evaluations of a single object of an information table
+	 * @return mock of an {@link InformationTable} corresponding to given evaluations
+	 */
+	private InformationTable createInformationTableMock(List<EvaluationField[]> evaluationsList) {
+		@SuppressWarnings("unchecked")
+		Table<EvaluationAttribute, EvaluationField> evaluations = (Table<EvaluationAttribute, EvaluationField>)Mockito.mock(Table.class);
+
+		for (int i = 0; i < evaluationsList.size(); i++) {
+			Mockito.when(evaluations.getFields(i)).thenReturn(evaluationsList.get(i));
+		}
+
+		InformationTable informationTableMock = Mockito.mock(InformationTable.class);
+		Mockito.when(informationTableMock.getNumberOfObjects()).thenReturn(evaluationsList.size());
+		Mockito.when(informationTableMock.getActiveConditionAttributeFields()).thenReturn(evaluations);
+
+		return informationTableMock;
+	}
+
+	/**
+	 * Gets mock of an information table with gain, cost and no preference type attributes, and missing values of both types.
+	 *
+	 * @return mock of an information table
+	 */
+	private InformationTable getInformationTableMock() {
+		List<EvaluationField[]> evaluationsList = new ArrayList<EvaluationField[]>();
+
+		evaluationsList.add(new EvaluationField[] {intField(2, AttributePreferenceType.GAIN), intField(5, AttributePreferenceType.COST), intField(1, AttributePreferenceType.NONE)});
+		evaluationsList.add(new EvaluationField[] {intField(3, AttributePreferenceType.GAIN), intField(4, AttributePreferenceType.COST), intField(1, AttributePreferenceType.NONE)});
+		evaluationsList.add(new EvaluationField[] {intField(3, AttributePreferenceType.GAIN), intField(6, AttributePreferenceType.COST), intField(2, AttributePreferenceType.NONE)});
+		evaluationsList.add(new EvaluationField[] {UnknownSimpleFieldMV2.getInstance(), intField(4, AttributePreferenceType.COST), intField(1, AttributePreferenceType.NONE)});
+		evaluationsList.add(new EvaluationField[] {intField(1, AttributePreferenceType.GAIN), UnknownSimpleFieldMV15.getInstance(), intField(1, AttributePreferenceType.NONE)});
+		evaluationsList.add(new EvaluationField[] {intField(2, AttributePreferenceType.GAIN), intField(5, AttributePreferenceType.COST), UnknownSimpleFieldMV15.getInstance()});
+		evaluationsList.add(new EvaluationField[] {UnknownSimpleFieldMV15.getInstance(), UnknownSimpleFieldMV2.getInstance(), intField(2, AttributePreferenceType.NONE)});
+
+		return createInformationTableMock(evaluationsList);
+	}
+
+	/**
+	 * Asserts that given dominance index gives the same results as {@link DominanceChecker} and {@link DominanceConeCalculator}, for each pair of objects.
+	 *
+	 * @param dominanceIndex tested dominance index
+	 * @param informationTable information table for which dominance index has been calculated
+	 */
+	private void assertConsistentWithDominanceChecker(DominanceIndex dominanceIndex, InformationTable informationTable) {
+		int numberOfObjects = informationTable.getNumberOfObjects();
+		assertEquals(numberOfObjects, dominanceIndex.getNumberOfObjects());
+
+		for (int x = 0; x < numberOfObjects; x++) {
+			for (int y = 0; y < numberOfObjects; y++) {
+				assertEquals(DominanceChecker.dominates(x, y, informationTable), dominanceIndex.dominates(x, y));
+				assertEquals(DominanceChecker.isDominatedBy(x, y, informationTable), dominanceIndex.isDominatedBy(x, y));
+				assertEquals(DominanceChecker.dominates(y, x, informationTable), DominanceIndex.isSet(dominanceIndex.getDominanceColumn(x), y));
+				assertEquals(DominanceChecker.isDominatedBy(y, x, informationTable), DominanceIndex.isSet(dominanceIndex.getInverseDominanceColumn(x), y));
+			}
+			assertEquals(DominanceConeCalculator.INSTANCE.calculatePositiveDCone(x, informationTable), dominanceIndex.calculatePositiveDCone(x));
+			assertEquals(DominanceConeCalculator.INSTANCE.calculateNegativeDCone(x, informationTable), dominanceIndex.calculateNegativeDCone(x));
+			assertEquals(DominanceConeCalculator.INSTANCE.calculatePositiveInvDCone(x, informationTable), dominanceIndex.calculatePositiveInvDCone(x));
+			assertEquals(DominanceConeCalculator.INSTANCE.calculateNegativeInvDCone(x, informationTable), dominanceIndex.calculateNegativeInvDCone(x));
+		}
+	}
+
+	/**
+	 * Test for {@link EvaluationRanks#EvaluationRanks(InformationTable)}.
+	 */
+	@Test
+	void testEvaluationRanks() {
+		EvaluationRanks evaluationRanks = new EvaluationRanks(getInformationTableMock());
+		assertEquals(7, evaluationRanks.getNumberOfObjects());
+		assertEquals(3, evaluationRanks.getNumberOfAttributes());
+		assertTrue(evaluationRanks.isEncoded(0));
+		assertTrue(evaluationRanks.isEncoded(1));
+		assertTrue(evaluationRanks.isEncoded(2));
+	}
+
+	/**
+	 * Test for {@link EvaluationRanks#getRelations(int, int)}, concerning an information table with missing values.
+	 */
+	@Test
+	void testGetRelations() {
+		EvaluationRanks evaluationRanks = new EvaluationRanks(getInformationTableMock());
+		for (int x = 0; x < evaluationRanks.getNumberOfObjects(); x++) {
+			for (int y = 0; y < evaluationRanks.getNumberOfObjects(); y++) {
+				int relations = evaluationRanks.getRelations(x, y);
+				assertEquals(evaluationRanks.dominates(x, y), (relations & EvaluationRanks.X_DOMINATES_Y) != 0);
+				assertEquals(evaluationRanks.dominates(y, x), (relations & EvaluationRanks.Y_DOMINATES_X) != 0);
+				assertEquals(evaluationRanks.isDominatedBy(x, y), (relations & EvaluationRanks.X_IS_DOMINATED_BY_Y) != 0);
+				assertEquals(evaluationRanks.isDominatedBy(y, x), (relations & EvaluationRanks.Y_IS_DOMINATED_BY_X) != 0);
+			}
+		}
+	}
+
+	/**
+	 * Test for {@link EvaluationRanks#EvaluationRanks(InformationTable)}, concerning attribute with evaluations of different types.
+	 */
+	@Test
+	void testEvaluationRanksNotEncoded() {
+		List<EvaluationField[]> evaluationsList = new ArrayList<EvaluationField[]>();
+		evaluationsList.add(new EvaluationField[] {intField(2, AttributePreferenceType.GAIN)});
+		evaluationsList.add(new EvaluationField[] {intField(3, AttributePreferenceType.COST)});
+		InformationTable informationTable = createInformationTableMock(evaluationsList);
+
+		EvaluationRanks evaluationRanks = new EvaluationRanks(informationTable);
+		assertFalse(evaluationRanks.isEncoded(0));
+		assertConsistentWithDominanceChecker(new DominanceIndex(evaluationRanks), informationTable);
+	}
+
+	/**
+	 * Test for {@link DominanceIndex#DominanceIndex(InformationTable)}, concerning an information table with missing values.
+	 */
+	@Test
+	void testDominanceIndex01() {
+		InformationTable informationTable = getInformationTableMock();
+		assertConsistentWithDominanceChecker(new DominanceIndex(informationTable), informationTable);
+	}
+
+	/**
+	 * Test for {@link DominanceIndex#DominanceIndex(InformationTable)}, concerning "windsor" data set with missing values.
+	 */
+	@Test
+	void testDominanceIndex02() {
+		try {
+			InformationTable informationTable = InformationTableBuilder.buildFromCSVFile("src/test/resources/data/csv/windsor.json", "src/test/resources/data/csv/windsor-mv.csv", false, '\t');
+			assertConsistentWithDominanceChecker(new DominanceIndex(informationTable), informationTable);
+		}
+		catch (IOException exception) {
+			fail(exception.toString());
+		}
+	}
+
+	/**
+	 * Test for {@link DominanceConesDecisionDistributions#DominanceConesDecisionDistributions(InformationTable, DominanceIndex)}.
+	 */
+	@Test
+	void testDominanceConesDecisionDistributions() {
+		try {
+			InformationTable informationTable = InformationTableBuilder.buildFromCSVFile("src/test/resources/data/csv/windsor.json", "src/test/resources/data/csv/windsor-mv.csv", false, '\t');
+			DominanceConesDecisionDistributions expected = new DominanceConesDecisionDistributions(informationTable);
+			DominanceConesDecisionDistributions actual = new DominanceConesDecisionDistributions(informationTable, new DominanceIndex(informationTable));
+
+			for (int x = 0; x < informationTable.getNumberOfObjects(); x++) {
+				assertEquals(expected.getPositiveDConeDecisionClassDistribution(x), actual.getPositiveDConeDecisionClassDistribution(x));
+				assertEquals(expected.getNegativeDConeDecisionClassDistribution(x), actual.getNegativeDConeDecisionClassDistribution(x));
+				assertEquals(expected.getPositiveInvDConeDecisionClassDistribution(x), actual.getPositiveInvDConeDecisionClassDistribution(x));
+				assertEquals(expected.getNegativeInvDConeDecisionClassDistribution(x), actual.getNegativeInvDConeDecisionClassDistribution(x));
+			}
+		}
+		catch (IOException exception) {
+			fail(exception.toString());
+		}
+	}
+
+}
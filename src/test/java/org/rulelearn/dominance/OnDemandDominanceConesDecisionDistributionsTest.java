@@ -0,0 +1,87 @@
+/**
+ * Copyright (C) Jerzy Błaszczyński, Marcin Szeląg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.rulelearn.dominance;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+
+import org.junit.jupiter.api.Test;
+import org.rulelearn.core.InvalidValueException;
+import org.rulelearn.data.CumulativeDecisionDistribution;
+import org.rulelearn.data.DecisionDistribution;
+import org.rulelearn.data.InformationTable;
+import org.rulelearn.data.InformationTableBuilder;
+
+/**
+ * Tests for {@link OnDemandDominanceConesDecisionDistributions}.
+ *
+ * @author Jerzy Błaszczyński (<a href="mailto:jurek.blaszczynski@cs.put.poznan.pl">jurek.blaszczynski@cs.put.poznan.pl</a>)
+ * @author Marcin Szeląg (<a href="mailto:marcin.szelag@cs.put.poznan.pl">marcin.szelag@cs.put.poznan.pl</a>)
+ */
+class OnDemandDominanceConesDecisionDistributionsTest {
+
+	/**
+	 * Test for {@link OnDemandDominanceConesDecisionDistributions#OnDemandDominanceConesDecisionDistributions(InformationTable, int)},
+	 * concerning "windsor" data set with missing values, checking that distributions calculated on demand are correct,
+	 * and that the number of cached distributions does not exceed the capacity of the cache.
+	 * 
+	 * @throws IOException if data cannot be loaded
+	 */
+	@Test
+	void testOnDemandDominanceConesDecisionDistributions() throws IOException {
+		InformationTable informationTable = InformationTableBuilder.buildFromCSVFile("src/test/resources/data/csv/windsor.json", "src/test/resources/data/csv/windsor-mv.csv", false, '\t');
+		OnDemandDominanceConesDecisionDistributions actual = new OnDemandDominanceConesDecisionDistributions(informationTable, 10);
+		
+		CompactDominanceConesDecisionDistributionsTest.assertDistributionsEqual(new DominanceConesDecisionDistributions(informationTable), actual);
+		assertEquals(10, actual.getCacheSize());
+		assertEquals(10, actual.getCacheCapacity());
+		assertTrue(actual.getPositiveDConeDecisionClassDistribution(0) instanceof CumulativeDecisionDistribution);
+		assertThrows(IndexOutOfBoundsException.class, () -> actual.getPositiveDConeDecisionClassDistribution(-1));
+	}
+	
+	/**
+	 * Test for least-recently-used eviction of distributions from the cache of {@link OnDemandDominanceConesDecisionDistributions}.
+	 * 
+	 * @throws IOException if data cannot be loaded
+	 */
+	@Test
+	void testCacheEviction() throws IOException {
+		InformationTable informationTable = InformationTableBuilder.buildFromCSVFile("src/test/resources/data/csv/windsor.json", "src/test/resources/data/csv/windsor.csv", false, '\t');
+		OnDemandDominanceConesDecisionDistributions actual = new OnDemandDominanceConesDecisionDistributions(informationTable, 3);
+		
+		DecisionDistribution first = actual.getPositiveInvDConeDecisionClassDistribution(0);
+		DecisionDistribution second = actual.getNegativeDConeDecisionClassDistribution(0); //the same object, different type of dominance cone
+		assertSame(first, actual.getPositiveInvDConeDecisionClassDistribution(0)); //becomes the most recently used one
+		actual.getPositiveInvDConeDecisionClassDistribution(1);
+		actual.getPositiveInvDConeDecisionClassDistribution(2); //evicts the least recently used one
+		
+		assertEquals(3, actual.getCacheSize());
+		assertSame(first, actual.getPositiveInvDConeDecisionClassDistribution(0));
+		DecisionDistribution recalculated = actual.getNegativeDConeDecisionClassDistribution(0);
+		assertNotSame(second, recalculated);
+		assertEquals(second, recalculated);
+		
+		assertThrows(InvalidValueException.class, () -> new OnDemandDominanceConesDecisionDistributions(informationTable, 0));
+		assertThrows(NullPointerException.class, () -> new OnDemandDominanceConesDecisionDistributions(null));
+	}
+
+}
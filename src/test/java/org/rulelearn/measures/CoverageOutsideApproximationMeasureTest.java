@@ -54,12 +54,14 @@ class CoverageOutsideApproximationMeasureTest {
 		
 		when(this.ruleConditionsMock1.getIndicesOfCoveredObjects()).thenReturn(new IntArrayList(new int [] {0, 1, 2, 3, 4, 5, 10}));
 		when(this.ruleConditionsMock1.getIndicesOfCoveredObjectsWithCondition(this.conditionMock)).thenReturn(new IntArrayList(new int [] {0, 1, 2, 3, 4}));
+		when(this.ruleConditionsMock1.getNumberOfCoveredObjectsOutsideApproximationWithCondition(this.conditionMock)).thenReturn(0);
 		when(this.ruleConditionsMock1.getIndicesOfCoveredObjectsWithoutCondition(0)).thenReturn(new IntArrayList(new int [] {0, 1, 2, 3, 4, 5, 10, 11}));
 		when(this.ruleConditionsMock1.getIndicesOfApproximationObjects()).thenReturn(new IntLinkedOpenHashSet(new int [] {0, 1, 2, 3, 4, 5,6, 7, 8, 9}));
 		when(this.ruleConditionsMock1.getIndicesOfNeutralObjects()).thenReturn(new IntLinkedOpenHashSet());
 		
 		when(this.ruleConditionsMock2.getIndicesOfCoveredObjects()).thenReturn(new IntArrayList(new int [] {0, 1, 3, 4, 6, 7, 9, 11, 13, 14}));
 		when(this.ruleConditionsMock2.getIndicesOfCoveredObjectsWithCondition(this.conditionMock)).thenReturn(new IntArrayList(new int [] {0, 1, 3, 7, 9, 11, 14}));
+		when(this.ruleConditionsMock2.getNumberOfCoveredObjectsOutsideApproximationWithCondition(this.conditionMock)).thenReturn(3); //3, 9, 11
 		when(this.ruleConditionsMock2.getIndicesOfCoveredObjectsWithoutCondition(0)).thenReturn(new IntArrayList(new int [] {0, 1, 3, 4, 6, 7, 9, 10, 11, 12, 13, 14, 15}));
 		when(this.ruleConditionsMock2.getIndicesOfApproximationObjects()).thenReturn(new IntLinkedOpenHashSet(new int [] {0, 2, 4, 5, 7, 8, 12}));
 		when(this.ruleConditionsMock2.getIndicesOfNeutralObjects()).thenReturn(new IntLinkedOpenHashSet(new int [] {1, 6, 10, 14}));
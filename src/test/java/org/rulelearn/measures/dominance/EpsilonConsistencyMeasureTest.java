@@ -16,9 +16,13 @@
 
 package org.rulelearn.measures.dominance;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.when;
 
+import java.io.IOException;
 import java.util.Iterator;
 import java.util.Set;
 
@@ -27,10 +31,15 @@ import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.rulelearn.approximations.Union;
+import org.rulelearn.approximations.Unions;
+import org.rulelearn.approximations.UnionsWithSingleLimitingDecision;
+import org.rulelearn.approximations.VCDominanceBasedRoughSetCalculator;
 import org.rulelearn.approximations.Union.UnionType;
+import org.rulelearn.core.InvalidValueException;
 import org.rulelearn.data.Decision;
 import org.rulelearn.data.DecisionDistribution;
 import org.rulelearn.data.InformationTable;
+import org.rulelearn.data.InformationTableBuilder;
 import org.rulelearn.data.InformationTableWithDecisionDistributions;
 import org.rulelearn.dominance.DominanceConesDecisionDistributions;
 import org.rulelearn.measures.Measure;
@@ -41,6 +50,7 @@ import org.rulelearn.rules.RuleCoverageInformation;
 import org.rulelearn.types.EvaluationField;
 
 import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntIterator;
 import it.unimi.dsi.fastutil.ints.IntLinkedOpenHashSet;
 
 /**
@@ -138,7 +148,9 @@ class EpsilonConsistencyMeasureTest {
 		// mock evaluation for a rule condition
 		when(this.ruleConditionsMock.getIndicesOfCoveredObjects()).thenReturn(new IntArrayList(new int [] {0, 1, 2, 3, 4, 5}));
 		when(this.ruleConditionsMock.getIndicesOfCoveredObjectsWithCondition(this.conditionMock)).thenReturn(new IntArrayList(new int [] {0, 1, 2, 3, 4}));
+		when(this.ruleConditionsMock.getNumberOfCoveredNegativeObjectsWithCondition(this.conditionMock)).thenReturn(0);
 		when(this.ruleConditionsMock.getIndicesOfCoveredObjectsWithoutCondition(0)).thenReturn(new IntArrayList(new int [] {4, 5}));
+		when(this.ruleConditionsMock.getNumberOfCoveredNegativeObjectsWithoutCondition(0)).thenReturn(1);
 		when(this.ruleConditionsMock.getIndicesOfPositiveObjects()).thenReturn(new IntLinkedOpenHashSet(new int [] {0, 1, 2, 3, 4}));
 		when(this.ruleConditionsMock.getLearningInformationTable()).thenReturn(this.informationTableMock1);
 		when(this.informationTableMock1.getNumberOfObjects()).thenReturn(10);
@@ -231,4 +243,45 @@ class EpsilonConsistencyMeasureTest {
 		assertEquals(MonotonicConditionAdditionEvaluator.MonotonicityType.DETERIORATES_WITH_NUMBER_OF_COVERED_OBJECTS, 
 				this.measure.getMonotonictyType());
 	}
+	
+	/**
+	 * Test for methods {@link EpsilonConsistencyMeasure#calculateConsistencies(Union)} and {@link EpsilonConsistencyMeasure#calculateConsistencies(Union[])},
+	 * checking, for all unions of decision classes built for "windsor" data set, that consistencies calculated together
+	 * are the same as consistencies calculated separately for each object.
+	 * 
+	 * @throws IOException if data cannot be loaded
+	 */
+	@Test
+	void testCalculateConsistencies() throws IOException {
+		InformationTableWithDecisionDistributions informationTable = new InformationTableWithDecisionDistributions(
+				InformationTableBuilder.buildFromCSVFile("src/test/resources/data/csv/windsor.json", "src/test/resources/data/csv/windsor.csv", false, '\t'), true);
+		Unions unions = new UnionsWithSingleLimitingDecision(informationTable, new VCDominanceBasedRoughSetCalculator(EpsilonConsistencyMeasure.getInstance(), 0.0));
+		Union[] allUnions = new Union[unions.getUpwardUnions().length + unions.getDownwardUnions().length];
+		System.arraycopy(unions.getUpwardUnions(), 0, allUnions, 0, unions.getUpwardUnions().length);
+		System.arraycopy(unions.getDownwardUnions(), 0, allUnions, unions.getUpwardUnions().length, unions.getDownwardUnions().length);
+		
+		double[][] consistencies = this.measure.calculateConsistencies(allUnions);
+		assertEquals(allUnions.length, consistencies.length);
+		for (int i = 0; i < allUnions.length; i++) {
+			IntIterator iterator = allUnions[i].getObjects().iterator();
+			for (int k = 0; k < consistencies[i].length; k++) {
+				assertEquals(this.measure.calculateConsistency(iterator.nextInt(), allUnions[i]), consistencies[i][k]);
+			}
+			assertFalse(iterator.hasNext());
+			assertArrayEquals(consistencies[i], this.measure.calculateConsistencies(allUnions[i]));
+		}
+		
+		//non-nested unions
+		Union[] reversedUnions = {allUnions[1], allUnions[0], allUnions[2]};
+		double[][] reversedConsistencies = this.measure.calculateConsistencies(reversedUnions);
+		assertArrayEquals(consistencies[1], reversedConsistencies[0]);
+		assertArrayEquals(consistencies[0], reversedConsistencies[1]);
+		assertArrayEquals(consistencies[2], reversedConsistencies[2]);
+		
+		assertThrows(NullPointerException.class, () -> this.measure.calculateConsistencies((Union[])null));
+		assertThrows(NullPointerException.class, () -> this.measure.calculateConsistencies((Union)null));
+		InformationTableWithDecisionDistributions otherInformationTable = new InformationTableWithDecisionDistributions(informationTable, true);
+		Unions otherUnions = new UnionsWithSingleLimitingDecision(otherInformationTable, new VCDominanceBasedRoughSetCalculator(EpsilonConsistencyMeasure.getInstance(), 0.0));
+		assertThrows(InvalidValueException.class, () -> this.measure.calculateConsistencies(new Union[] {allUnions[0], otherUnions.getUpwardUnions()[0]}));
+	}
 }
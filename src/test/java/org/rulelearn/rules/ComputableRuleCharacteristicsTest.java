@@ -170,7 +170,8 @@ class ComputableRuleCharacteristicsTest {
 	 */
 	@Test
 	void testGetEpsilonPrime() {
-		//TODO: implement test
+		assertEquals(2.0 / 6.0, computableRuleCharacteristics01.getEpsilonPrime());
+		assertEquals(4.0 / 8.0, computableRuleCharacteristics02.getEpsilonPrime());
 	}
 
 	/**
@@ -178,7 +179,8 @@ class ComputableRuleCharacteristicsTest {
 	 */
 	@Test
 	void testGetFConfirmation() {
-		//TODO: implement test
+		assertEquals(4.0 / 28.0, computableRuleCharacteristics01.getFConfirmation(), 1e-12);
+		assertEquals(4.0 / 68.0, computableRuleCharacteristics02.getFConfirmation(), 1e-12);
 	}
 
 	/**
@@ -186,7 +188,8 @@ class ComputableRuleCharacteristicsTest {
 	 */
 	@Test
 	void testGetAConfirmation() {
-		//TODO: implement test
+		assertEquals(4.0 / 24.0, computableRuleCharacteristics01.getAConfirmation(), 1e-12);
+		assertEquals(4.0 / 32.0, computableRuleCharacteristics02.getAConfirmation(), 1e-12);
 	}
 
 	/**
@@ -194,7 +197,8 @@ class ComputableRuleCharacteristicsTest {
 	 */
 	@Test
 	void testGetZConfirmation() {
-		//TODO: implement test
+		assertEquals(4.0 / 24.0, computableRuleCharacteristics01.getZConfirmation(), 1e-12);
+		assertEquals(4.0 / 60.0, computableRuleCharacteristics02.getZConfirmation(), 1e-12);
 	}
 
 	/**
@@ -202,7 +206,8 @@ class ComputableRuleCharacteristicsTest {
 	 */
 	@Test
 	void testGetLConfirmation() {
-		//TODO: implement test
+		assertEquals(Math.log(16.0 / 12.0), computableRuleCharacteristics01.getLConfirmation(), 1e-12);
+		assertEquals(Math.log(36.0 / 32.0), computableRuleCharacteristics02.getLConfirmation(), 1e-12);
 	}
 
 	/**
@@ -210,7 +215,14 @@ class ComputableRuleCharacteristicsTest {
 	 */
 	@Test
 	void testGetC1Confirmation() {
-		//TODO: implement test
+		assertEquals(0.5 * 4.0 / 24.0, computableRuleCharacteristics01.getC1Confirmation(), 1e-12);
+		assertEquals(0.5 * 4.0 / 60.0, computableRuleCharacteristics02.getC1Confirmation(), 1e-12);
+		
+		//rule covering one of two positive objects, and none of two negative objects
+		ComputableRuleCharacteristics characteristics = new ComputableRuleCharacteristics(
+				new RuleCoverageInformation(new IntLinkedOpenHashSet(new int[] {0, 1}), new IntLinkedOpenHashSet(), new IntArrayList(new int[] {0}), 4));
+		assertEquals(0.5 + 0.5 * 2.0 / 6.0, characteristics.getC1Confirmation(), 1e-12);
+		assertEquals(Double.POSITIVE_INFINITY, characteristics.getLConfirmation());
 	}
 
 	/**
@@ -218,7 +230,8 @@ class ComputableRuleCharacteristicsTest {
 	 */
 	@Test
 	void testGetSConfirmation() {
-		//TODO: implement test
+		assertEquals(4.0 / 6.0 - 2.0 / 4.0, computableRuleCharacteristics01.getSConfirmation(), 1e-12);
+		assertEquals(6.0 / 10.0 - 2.0 / 4.0, computableRuleCharacteristics02.getSConfirmation(), 1e-12);
 	}
 
 	/**
@@ -247,5 +260,52 @@ class ComputableRuleCharacteristicsTest {
 			//exception is correctly thrown => do nothing
 		}
 	}
+	
+	/**
+	 * Test method for {@link ComputableRuleCharacteristics#calculateAllCharacteristics()}, checking that characteristics calculated together
+	 * from the numbers of covered objects are the same as characteristics calculated by subsequent getters.
+	 */
+	@Test
+	void testCalculateAllCharacteristics() {
+		for (ComputableRuleCharacteristics expected : new ComputableRuleCharacteristics[] {computableRuleCharacteristics01, computableRuleCharacteristics02}) {
+			ComputableRuleCharacteristics characteristics = new ComputableRuleCharacteristics(expected.getRuleCoverageInformation());
+			characteristics.calculateAllCharacteristics();
+			
+			assertEquals(expected.getSupport(), characteristics.support);
+			assertEquals(expected.getStrength(), characteristics.strength);
+			assertEquals(expected.getConfidence(), characteristics.confidence);
+			assertEquals(expected.getCoverageFactor(), characteristics.coverageFactor);
+			assertEquals(expected.getCoverage(), characteristics.coverage);
+			assertEquals(expected.getNegativeCoverage(), characteristics.negativeCoverage);
+			assertEquals(expected.getEpsilon(), characteristics.epsilon);
+			assertEquals(expected.getEpsilonPrime(), characteristics.epsilonPrime);
+			assertEquals(expected.getFConfirmation(), characteristics.fConfirmation);
+			assertEquals(expected.getAConfirmation(), characteristics.aConfirmation);
+			assertEquals(expected.getZConfirmation(), characteristics.zConfirmation);
+			assertEquals(expected.getLConfirmation(), characteristics.lConfirmation);
+			assertEquals(expected.getC1Confirmation(), characteristics.c1Confirmation);
+			assertEquals(expected.getSConfirmation(), characteristics.sConfirmation);
+		}
+		
+		ComputableRuleCharacteristics characteristics = new ComputableRuleCharacteristics(computableRuleCharacteristics01.getRuleCoverageInformation());
+		characteristics.calculateAllCharacteristics();
+		assertEquals(2, characteristics.positiveNotCoveredObjectsCount);
+		assertEquals(2, characteristics.negativeNotCoveredObjectsCount);
+	}
+	
+	/**
+	 * Test method for {@link ComputableRuleCharacteristics#calculateAllCharacteristics()}, checking that pre-stored characteristics are not overwritten.
+	 */
+	@Test
+	void testCalculateAllCharacteristicsPreStored() {
+		ComputableRuleCharacteristics characteristics = new ComputableRuleCharacteristics(computableRuleCharacteristics02.getRuleCoverageInformation());
+		characteristics.setSupport(100);
+		characteristics.setEpsilon(0.5);
+		characteristics.calculateAllCharacteristics();
+		
+		assertEquals(100, characteristics.getSupport());
+		assertEquals(0.5, characteristics.getEpsilon());
+		assertEquals(100.0 / 18.0, characteristics.getStrength());
+	}
 
 }
@@ -21,13 +21,18 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
+import java.io.IOException;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.rulelearn.core.TernaryLogicValue;
 import org.rulelearn.data.AttributePreferenceType;
+import org.rulelearn.data.ColumnarTable;
+import org.rulelearn.data.EvaluationAttribute;
 import org.rulelearn.data.EvaluationAttributeWithContext;
 import org.rulelearn.data.InformationTable;
+import org.rulelearn.data.InformationTableBuilder;
 import org.rulelearn.types.EvaluationField;
 import org.rulelearn.types.IntegerFieldFactory;
 import org.rulelearn.types.PairField;
@@ -202,6 +207,37 @@ class ConditionTest {
 		assertTrue(condition.isDecomposable());
 	}
 	
+	/**
+	 * Test method for {@link org.rulelearn.rules.Condition#retainSatisfyingObjects(long[], InformationTable)}, concerning information tables
+	 * with and without evaluations stored in a {@link ColumnarTable}.
+	 * 
+	 * @throws IOException if information table cannot be read
+	 */
+	@Test
+	void testRetainSatisfyingObjects() throws IOException {
+		InformationTable informationTable = InformationTableBuilder.safelyBuildFromCSVFile("src/test/resources/data/csv/windsor.json", "src/test/resources/data/csv/windsor-mv.csv", false, '\t');
+		InformationTable columnarInformationTable = informationTable.toColumnar();
+		int numberOfObjects = informationTable.getNumberOfObjects();
+		int attributeIndex = informationTable.translateLocalActiveConditionAttributeIndex2GlobalAttributeIndex(1);
+		EvaluationAttributeWithContext attributeWithContext = new EvaluationAttributeWithContext((EvaluationAttribute)informationTable.getAttribute(attributeIndex), attributeIndex);
+		Condition<EvaluationField> condition = new ConditionAtLeastThresholdVSObject<EvaluationField>(attributeWithContext, (EvaluationField)informationTable.getField(10, attributeIndex));
+		
+		long[] objectsBitset = new long[(numberOfObjects + 63) >>> 6];
+		long[] columnarObjectsBitset = new long[objectsBitset.length];
+		for (int objectIndex = 1; objectIndex < numberOfObjects; objectIndex += 3) { //only some objects are checked
+			objectsBitset[objectIndex >>> 6] |= 1L << objectIndex;
+			columnarObjectsBitset[objectIndex >>> 6] |= 1L << objectIndex;
+		}
+		condition.retainSatisfyingObjects(objectsBitset, informationTable);
+		condition.retainSatisfyingObjects(columnarObjectsBitset, columnarInformationTable);
+		
+		for (int objectIndex = 0; objectIndex < numberOfObjects; objectIndex++) {
+			boolean expected = objectIndex % 3 == 1 && condition.satisfiedBy(objectIndex, informationTable);
+			assertEquals(expected, (objectsBitset[objectIndex >>> 6] & (1L << objectIndex)) != 0L);
+			assertEquals(expected, (columnarObjectsBitset[objectIndex >>> 6] & (1L << objectIndex)) != 0L);
+		}
+	}
+	
 	/**
 	 * Test method for {@link org.rulelearn.rules.Condition#hashCode()}.
 	 */
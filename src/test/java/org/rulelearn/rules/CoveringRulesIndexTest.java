@@ -0,0 +1,179 @@
+/**
+ * Copyright (C) Jerzy Błaszczyński, Marcin Szeląg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.rulelearn.rules;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.rulelearn.data.InformationTable;
+import org.rulelearn.data.InformationTableBuilder;
+import org.rulelearn.types.EvaluationField;
+import org.rulelearn.wrappers.PossibleVCDomLEMWrapper;
+import org.rulelearn.wrappers.VCDomLEMWrapper;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+
+/**
+ * Tests for {@link CoveringRulesIndex}.
+ *
+ * @author Jerzy Błaszczyński (<a href="mailto:jurek.blaszczynski@cs.put.poznan.pl">jurek.blaszczynski@cs.put.poznan.pl</a>)
+ * @author Marcin Szeląg (<a href="mailto:marcin.szelag@cs.put.poznan.pl">marcin.szelag@cs.put.poznan.pl</a>)
+ */
+class CoveringRulesIndexTest {
+
+	/**
+	 * Gets "windsor" information table.
+	 *
+	 * @param dataPath path to CSV file with objects
+	 * @return "windsor" information table
+	 */
+	private InformationTable getInformationTable(String dataPath) {
+		InformationTable informationTable = null;
+		try {
+			informationTable = InformationTableBuilder.buildFromCSVFile("src/test/resources/data/csv/windsor.json", dataPath, false, '\t');
+		}
+		catch (IOException exception) {
+			fail(exception.toString());
+		}
+		return informationTable;
+	}
+
+	/**
+	 * Checks that rules found by given index are the same as rules covering subsequent objects from given information table.
+	 *
+	 * @param index tested index
+	 * @param informationTable information table with objects
+	 */
+	private void assertCoveringRules(CoveringRulesIndex index, InformationTable informationTable) {
+		RuleSet ruleSet = index.getRuleSet();
+		IntList coveringRules = new IntArrayList();
+
+		for (int objectIndex = 0; objectIndex < informationTable.getNumberOfObjects(); objectIndex++) {
+			IntList expectedCoveringRules = new IntArrayList();
+			for (int ruleIndex = 0; ruleIndex < ruleSet.size(); ruleIndex++) {
+				if (ruleSet.getRule(ruleIndex).covers(objectIndex, informationTable)) {
+					expectedCoveringRules.add(ruleIndex);
+				}
+			}
+			assertEquals(expectedCoveringRules, index.getCoveringRules(objectIndex, informationTable));
+			index.getCoveringRules(objectIndex, informationTable, coveringRules);
+			assertEquals(expectedCoveringRules, coveringRules);
+		}
+	}
+
+	/**
+	 * Test for {@link CoveringRulesIndex#getCoveringRules(int, InformationTable)}, for certain rules induced from "windsor" data set.
+	 */
+	@Test
+	void testGetCoveringRulesCertainRules() {
+		InformationTable informationTable = getInformationTable("src/test/resources/data/csv/windsor.csv");
+		RuleSet ruleSet = new VCDomLEMWrapper().induceRules(informationTable, 0.1);
+		CoveringRulesIndex index = new CoveringRulesIndex(ruleSet);
+
+		assertSame(ruleSet, index.getRuleSet());
+		assertTrue(ruleSet.size() > 64); //bitset of rules consists of more than one word
+		assertCoveringRules(index, informationTable);
+	}
+
+	/**
+	 * Test for {@link CoveringRulesIndex#getCoveringRules(int, InformationTable)}, for possible rules induced from "windsor" data set.
+	 */
+	@Test
+	void testGetCoveringRulesPossibleRules() {
+		InformationTable informationTable = getInformationTable("src/test/resources/data/csv/windsor.csv");
+		assertCoveringRules(new CoveringRulesIndex(new PossibleVCDomLEMWrapper().induceRules(informationTable)), informationTable);
+	}
+
+	/**
+	 * Test for {@link CoveringRulesIndex#getCoveringRules(int, InformationTable)}, for objects having missing values.
+	 */
+	@Test
+	void testGetCoveringRulesMissingValues() {
+		InformationTable informationTable = getInformationTable("src/test/resources/data/csv/windsor.csv");
+		CoveringRulesIndex index = new CoveringRulesIndex(new VCDomLEMWrapper().induceRules(informationTable));
+
+		assertCoveringRules(index, getInformationTable("src/test/resources/data/csv/windsor-mv.csv"));
+		assertCoveringRules(index, getInformationTable("src/test/resources/data/csv/windsor-mv.csv").toColumnar());
+	}
+
+	/**
+	 * Test for {@link CoveringRulesIndex#getCoveringRules(int, InformationTable)}, for rules having conditions that cannot be indexed.
+	 */
+	@Test
+	@SuppressWarnings("unchecked")
+	void testGetCoveringRulesNotIndexedConditions() {
+		InformationTable informationTable = getInformationTable("src/test/resources/data/csv/windsor.csv");
+		RuleSet ruleSet = new VCDomLEMWrapper().induceRules(informationTable);
+		Rule[] rules = new Rule[ruleSet.size()];
+
+		for (int i = 0; i < rules.length; i++) {
+			Rule rule = ruleSet.getRule(i);
+			List<Condition<EvaluationField>> conditions = new ObjectArrayList<Condition<EvaluationField>>(rule.getConditions());
+			Condition<EvaluationField> notIndexedCondition = mock(Condition.class); //satisfied by objects with even indices only
+			when(notIndexedCondition.satisfiedBy(anyInt(), same(informationTable))).thenAnswer(invocation -> ((Integer)invocation.getArgument(0)) % 2 == 0);
+			conditions.add(notIndexedCondition);
+			rules[i] = i % 3 == 0 ? new Rule(rule.getType(), conditions, rule.getDecision()) : rule;
+		}
+
+		assertCoveringRules(new CoveringRulesIndex(new RuleSet(rules)), informationTable);
+	}
+
+	/**
+	 * Test for {@link CoveringRulesIndex#getCoveringRules(int, InformationTable)}, for rules whose coverage does not follow from their conditions
+	 * (mocked rules without conditions), which are checked directly.
+	 */
+	@Test
+	void testGetCoveringRulesNotIndexedRules() {
+		InformationTable informationTable = getInformationTable("src/test/resources/data/csv/windsor.csv");
+		RuleSet ruleSet = new VCDomLEMWrapper().induceRules(informationTable);
+		Rule[] rules = new Rule[ruleSet.size()];
+
+		for (int i = 0; i < rules.length; i++) {
+			if (i % 3 == 0) {
+				Rule notIndexedRule = mock(Rule.class); //covers objects with even indices only
+				when(notIndexedRule.covers(anyInt(), same(informationTable))).thenAnswer(invocation -> ((Integer)invocation.getArgument(0)) % 2 == 0);
+				rules[i] = notIndexedRule;
+			} else {
+				rules[i] = ruleSet.getRule(i);
+			}
+		}
+
+		assertCoveringRules(new CoveringRulesIndex(new RuleSet(rules)), informationTable);
+	}
+
+	/**
+	 * Test for {@link CoveringRulesIndex#CoveringRulesIndex(RuleSet)}, for {@code null} rule set.
+	 */
+	@Test
+	void testCoveringRulesIndexNull() {
+		assertThrows(NullPointerException.class, () -> new CoveringRulesIndex(null));
+	}
+
+}
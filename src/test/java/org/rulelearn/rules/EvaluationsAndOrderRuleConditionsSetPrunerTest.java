@@ -0,0 +1,164 @@
+/**
+ * Copyright (C) Jerzy Błaszczyński, Marcin Szeląg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.rulelearn.rules;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.rulelearn.core.InvalidValueException;
+import org.rulelearn.data.EvaluationAttributeWithContext;
+import org.rulelearn.data.InformationTable;
+import org.rulelearn.measures.Measure.MeasureType;
+import org.rulelearn.types.EvaluationField;
+
+import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
+import it.unimi.dsi.fastutil.ints.IntSet;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+
+/**
+ * Tests for {@link EvaluationsAndOrderRuleConditionsSetPruner}.
+ *
+ * @author Jerzy Błaszczyński (<a href="mailto:jurek.blaszczynski@cs.put.poznan.pl">jurek.blaszczynski@cs.put.poznan.pl</a>)
+ * @author Marcin Szeląg (<a href="mailto:marcin.szelag@cs.put.poznan.pl">marcin.szelag@cs.put.poznan.pl</a>)
+ */
+class EvaluationsAndOrderRuleConditionsSetPrunerTest {
+
+	/**
+	 * Creates rule conditions with a single mocked condition satisfied by objects with given indices.
+	 *
+	 * @param informationTable learning information table
+	 * @param indicesOfCoveredObjects indices of objects covered by created rule conditions
+	 * @return rule conditions covering given objects
+	 */
+	@SuppressWarnings("unchecked")
+	private RuleConditions createRuleConditions(InformationTable informationTable, int[] indicesOfCoveredObjects) {
+		EvaluationAttributeWithContext attributeWithContext = Mockito.mock(EvaluationAttributeWithContext.class);
+		Mockito.when(attributeWithContext.getAttributeIndex()).thenReturn(0);
+		Condition<EvaluationField> condition = Mockito.mock(ConditionAtLeastThresholdVSObject.class);
+		Mockito.when(condition.getAttributeWithContext()).thenReturn(attributeWithContext);
+		for (int objectIndex : indicesOfCoveredObjects) {
+			Mockito.when(condition.satisfiedBy(objectIndex, informationTable)).thenReturn(true);
+		}
+
+		IntSet emptySet = new IntOpenHashSet();
+		RuleConditions ruleConditions = new RuleConditions(informationTable, emptySet, emptySet, emptySet, RuleType.CERTAIN, RuleSemantics.AT_LEAST);
+		ruleConditions.addCondition(condition);
+		return ruleConditions;
+	}
+
+	/**
+	 * Creates mock of a rule conditions evaluator of given type, returning given evaluations of subsequent rule conditions.
+	 *
+	 * @param type type of the evaluator
+	 * @param rules evaluated rule conditions
+	 * @param evaluations evaluations of subsequent rule conditions
+	 * @return mock of a rule conditions evaluator
+	 */
+	private RuleConditionsEvaluator mockEvaluator(MeasureType type, List<RuleConditions> rules, double[] evaluations) {
+		RuleConditionsEvaluator evaluator = Mockito.mock(RuleConditionsEvaluator.class);
+		Mockito.when(evaluator.getType()).thenReturn(type);
+		for (int i = 0; i < evaluations.length; i++) {
+			Mockito.when(evaluator.evaluate(rules.get(i))).thenReturn(evaluations[i]);
+		}
+		return evaluator;
+	}
+
+	/**
+	 * Creates rule conditions used in tests. Observed objects 0, 1, 2, 65, and 66 are covered by, respectively: (r0, r1), (r0, r1, r4), (r0, r2, r4), (r0, r2), (r2, r3).
+	 *
+	 * @return list of rule conditions
+	 */
+	private List<RuleConditions> createRules() {
+		InformationTable informationTable = Mockito.mock(InformationTable.class);
+		Mockito.when(informationTable.getNumberOfObjects()).thenReturn(70); //more than one 64-bit word
+
+		List<RuleConditions> rules = new ObjectArrayList<RuleConditions>();
+		rules.add(createRuleConditions(informationTable, new int[] {0, 1, 2, 65, 3}));
+		rules.add(createRuleConditions(informationTable, new int[] {0, 1}));
+		rules.add(createRuleConditions(informationTable, new int[] {2, 65, 66, 67}));
+		rules.add(createRuleConditions(informationTable, new int[] {66}));
+		rules.add(createRuleConditions(informationTable, new int[] {1, 2, 4}));
+		return rules;
+	}
+
+	/**
+	 * Test for {@link EvaluationsAndOrderRuleConditionsSetPruner#prune(List, IntSet)}, for a gain-type evaluator. Rule r4 is removed first,
+	 * then r1 (tie with r3, resolved by order), and finally r3; rules r0 and r2 are necessary to keep all observed objects covered.
+	 */
+	@Test
+	void testPruneGain() {
+		List<RuleConditions> rules = createRules();
+		List<RuleConditions> expectedRules = new ObjectArrayList<RuleConditions>(new RuleConditions[] {rules.get(0), rules.get(2)});
+		RuleConditionsEvaluator evaluator = mockEvaluator(MeasureType.GAIN, rules, new double[] {0.9, 0.5, 0.8, 0.5, 0.3});
+
+		List<RuleConditions> prunedRules = new EvaluationsAndOrderRuleConditionsSetPruner(new RuleConditionsEvaluator[] {evaluator}).prune(rules,
+				new IntOpenHashSet(new int[] {0, 1, 2, 65, 66}));
+		assertSame(rules, prunedRules);
+		assertEquals(expectedRules, prunedRules);
+	}
+
+	/**
+	 * Test for {@link EvaluationsAndOrderRuleConditionsSetPruner#prune(List, IntSet)}, for a cost-type evaluator followed by a gain-type evaluator,
+	 * considered lexicographically. Rule r0 is removed first, then r4 (tie with r3 w.r.t. the first evaluator, resolved by the second evaluator),
+	 * and finally r3; rules r1 and r2 are necessary to keep all observed objects covered.
+	 */
+	@Test
+	void testPruneCostAndGain() {
+		List<RuleConditions> rules = createRules();
+		List<RuleConditions> expectedRules = new ObjectArrayList<RuleConditions>(new RuleConditions[] {rules.get(1), rules.get(2)});
+		RuleConditionsEvaluator costEvaluator = mockEvaluator(MeasureType.COST, rules, new double[] {0.9, 0.5, 0.1, 0.5, 0.5});
+		RuleConditionsEvaluator gainEvaluator = mockEvaluator(MeasureType.GAIN, rules, new double[] {0.0, 0.4, 0.0, 0.2, 0.0});
+
+		assertEquals(expectedRules, new EvaluationsAndOrderRuleConditionsSetPruner(new RuleConditionsEvaluator[] {costEvaluator, gainEvaluator}).prune(rules,
+				new IntOpenHashSet(new int[] {0, 1, 2, 65, 66})));
+	}
+
+	/**
+	 * Test for {@link EvaluationsAndOrderRuleConditionsSetPruner#prune(List, IntSet)}, for rules that cannot be removed.
+	 */
+	@Test
+	void testPruneNoRemovableRules() {
+		List<RuleConditions> allRules = createRules();
+		List<RuleConditions> rules = new ObjectArrayList<RuleConditions>(new RuleConditions[] {allRules.get(0), allRules.get(2)});
+		List<RuleConditions> expectedRules = new ObjectArrayList<RuleConditions>(rules);
+		RuleConditionsEvaluator evaluator = mockEvaluator(MeasureType.GAIN, rules, new double[] {0.9, 0.8});
+
+		assertEquals(expectedRules, new EvaluationsAndOrderRuleConditionsSetPruner(new RuleConditionsEvaluator[] {evaluator}).prune(rules,
+				new IntOpenHashSet(new int[] {3, 2, 67}))); //object 3 covered only by r0, object 67 covered only by r2
+		Mockito.verify(evaluator, Mockito.never()).evaluate(Mockito.any());
+	}
+
+	/**
+	 * Test for {@link EvaluationsAndOrderRuleConditionsSetPruner#prune(List, IntSet)}, for observed objects not covered by any rule.
+	 */
+	@Test
+	void testPruneNotCoveredObjects() {
+		List<RuleConditions> rules = createRules();
+		EvaluationsAndOrderRuleConditionsSetPruner pruner = new EvaluationsAndOrderRuleConditionsSetPruner(new RuleConditionsEvaluator[] {
+				mockEvaluator(MeasureType.GAIN, rules, new double[] {0.9, 0.5, 0.8, 0.5, 0.3})});
+
+		assertThrows(InvalidValueException.class, () -> pruner.prune(rules, new IntOpenHashSet(new int[] {0, 5})));
+		assertThrows(NullPointerException.class, () -> pruner.prune(null, new IntOpenHashSet()));
+		assertThrows(NullPointerException.class, () -> pruner.prune(rules, null));
+	}
+
+}
@@ -1044,12 +1044,8 @@ class RuleCharacteristicsTest {
 	 */
 	@Test
 	void testSetLConfirmation01() {
-		try {
-			ruleCharacteristics.setLConfirmation(1.001);
-			fail("Should not set invalid lConfirmation.");
-		} catch (InvalidValueException exception) {
-			//exception is correctly thrown => do nothing
-		}
+		ruleCharacteristics.setLConfirmation(1.001); //logarithm of likelihood ratio is unbounded
+		assertEquals(1.001, ruleCharacteristics.getLConfirmation());
 	}
 	
 	/**
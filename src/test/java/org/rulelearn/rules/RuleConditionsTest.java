@@ -22,20 +22,29 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
+import java.io.IOException;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.rulelearn.data.AttributePreferenceType;
+import org.rulelearn.data.ColumnarTable;
+import org.rulelearn.data.EvaluationAttribute;
 import org.rulelearn.data.EvaluationAttributeWithContext;
 import org.rulelearn.data.InformationTable;
+import org.rulelearn.data.InformationTableBuilder;
 import org.rulelearn.types.EvaluationField;
 import org.rulelearn.types.IntegerField;
 import org.rulelearn.types.IntegerFieldFactory;
 import org.rulelearn.types.RealField;
 import org.rulelearn.types.RealFieldFactory;
 
+import it.unimi.dsi.fastutil.ints.IntArrayList;
 import it.unimi.dsi.fastutil.ints.IntList;
+import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
 import it.unimi.dsi.fastutil.ints.IntSet;
 import it.unimi.dsi.fastutil.ints.IntSets;
 
@@ -639,5 +648,251 @@ class RuleConditionsTest {
 		assertFalse(ruleConditions.containsCondition(condition2)); //!
 		assertTrue(ruleConditions.containsCondition(condition3));
 	}
-
+	
+	/**
+	 * Creates mock of a condition for given attribute, satisfied by objects with given indices.
+	 * 
+	 * @param attributeIndex index of attribute of created condition
+	 * @param informationTable learning information table
+	 * @param indicesOfSatisfyingObjects indices of objects satisfying created condition
+	 * @return mock of a condition
+	 */
+	@SuppressWarnings("unchecked")
+	private Condition<EvaluationField> mockCondition(int attributeIndex, InformationTable informationTable, int[] indicesOfSatisfyingObjects) {
+		EvaluationAttributeWithContext attributeWithContext = Mockito.mock(EvaluationAttributeWithContext.class);
+		Mockito.when(attributeWithContext.getAttributeIndex()).thenReturn(attributeIndex);
+		Condition<EvaluationField> condition = Mockito.mock(ConditionAtLeastThresholdVSObject.class);
+		Mockito.when(condition.getAttributeWithContext()).thenReturn(attributeWithContext);
+		for (int objectIndex : indicesOfSatisfyingObjects) {
+			Mockito.when(condition.satisfiedBy(objectIndex, informationTable)).thenReturn(true);
+		}
+		return condition;
+	}
+	
+	/**
+	 * Test method for {@link RuleConditions#covers(int)}, {@link RuleConditions#getIndicesOfCoveredObjects()},
+	 * {@link RuleConditions#getIndicesOfCoveredObjectsWithoutCondition(int)}, and methods counting covered objects assuming addition of a condition,
+	 * checking that coverage bitsets are correctly updated when conditions are added and removed.
+	 */
+	@Test
+	void testCoverageTracking() {
+		InformationTable informationTable = Mockito.mock(InformationTable.class);
+		Mockito.when(informationTable.getNumberOfObjects()).thenReturn(70); //more than one 64-bit word
+		
+		IntSet indicesOfPositiveObjects = new IntOpenHashSet(new int[] {0, 1, 2, 3, 4, 65, 66});
+		IntSet indicesOfApproximationObjects = new IntOpenHashSet(new int[] {0, 1, 2, 3, 65});
+		IntSet indicesOfNeutralObjects = new IntOpenHashSet(new int[] {5, 67});
+		
+		RuleConditions ruleConditions = new RuleConditions(informationTable, indicesOfPositiveObjects, indicesOfApproximationObjects, indicesOfPositiveObjects,
+				indicesOfNeutralObjects, RuleType.CERTAIN, RuleSemantics.AT_LEAST);
+		
+		Condition<EvaluationField> condition0 = mockCondition(0, informationTable, new int[] {0, 1, 2, 3, 5, 6, 7, 64, 65, 66, 67, 69});
+		Condition<EvaluationField> condition1 = mockCondition(1, informationTable, new int[] {0, 2, 3, 4, 5, 7, 65, 66, 67, 68});
+		Condition<EvaluationField> condition2 = mockCondition(2, informationTable, new int[] {0, 2, 5, 6, 7, 8, 65, 67});
+		
+		assertTrue(ruleConditions.covers(69));
+		assertEquals(ruleConditions.getNumberOfCoveredObjectsWithCondition(condition0), 12);
+		
+		ruleConditions.addCondition(condition0);
+		assertEquals(ruleConditions.getIndicesOfCoveredObjects(), new IntArrayList(new int[] {0, 1, 2, 3, 5, 6, 7, 64, 65, 66, 67, 69}));
+		assertTrue(ruleConditions.covers(64));
+		assertFalse(ruleConditions.covers(4));
+		assertFalse(ruleConditions.covers(68));
+		
+		assertEquals(ruleConditions.getNumberOfCoveredObjectsWithCondition(condition1), 8); //0, 2, 3, 5, 7, 65, 66, 67
+		assertEquals(ruleConditions.getNumberOfCoveredPositiveObjectsWithCondition(condition1), 5); //0, 2, 3, 65, 66
+		assertEquals(ruleConditions.getNumberOfCoveredApproximationObjectsWithCondition(condition1), 4); //0, 2, 3, 65
+		assertEquals(ruleConditions.getNumberOfCoveredNegativeObjectsWithCondition(condition1), 1); //7
+		assertEquals(ruleConditions.getNumberOfCoveredObjectsOutsideApproximationWithCondition(condition1), 2); //7, 66
+		
+		ruleConditions.addCondition(condition1);
+		ruleConditions.addCondition(condition2);
+		assertEquals(ruleConditions.getIndicesOfCoveredObjects(), new IntArrayList(new int[] {0, 2, 5, 7, 65, 67}));
+		
+		IntList coveredObjects = new IntArrayList(ruleConditions.getIndicesOfCoveredObjectsWithoutCondition(1));
+		coveredObjects.sort(null);
+		assertEquals(coveredObjects, new IntArrayList(new int[] {0, 2, 5, 6, 7, 65, 67}));
+		
+		ruleConditions.removeCondition(0);
+		IntList coveredObjects2 = new IntArrayList(ruleConditions.getIndicesOfCoveredObjects());
+		coveredObjects2.sort(null);
+		assertEquals(coveredObjects2, new IntArrayList(new int[] {0, 2, 5, 7, 65, 67}));
+		assertFalse(ruleConditions.covers(3));
+		
+		ruleConditions.removeCondition(1); //removes condition2
+		IntList coveredObjects3 = new IntArrayList(ruleConditions.getIndicesOfCoveredObjects());
+		coveredObjects3.sort(null);
+		assertEquals(coveredObjects3, new IntArrayList(new int[] {0, 2, 3, 4, 5, 7, 65, 66, 67, 68}));
+		assertTrue(ruleConditions.covers(68));
+		
+		ruleConditions.addCondition(condition0); //reuses coverage bitset of one of removed conditions
+		assertEquals(ruleConditions.getNumberOfCoveredObjectsWithCondition(condition2), 6); //0, 2, 5, 7, 65, 67
+		IntList coveredObjects4 = new IntArrayList(ruleConditions.getIndicesOfCoveredObjects());
+		coveredObjects4.sort(null);
+		assertEquals(coveredObjects4, new IntArrayList(new int[] {0, 2, 3, 5, 7, 65, 66, 67}));
+		assertFalse(ruleConditions.covers(68));
+		assertFalse(ruleConditions.covers(4));
+	}
+	
+	/**
+	 * Test method for {@link RuleConditions#hasConditionsOnlyForAttributesOf(RuleConditions)}, checking that bitsets of attributes
+	 * are correctly updated when conditions are added and removed.
+	 */
+	@Test
+	void testHasConditionsOnlyForAttributesOf() {
+		InformationTable informationTable = Mockito.mock(InformationTable.class);
+		IntSet indicesOfPositiveObjects = new IntOpenHashSet();
+		
+		RuleConditions ruleConditions = new RuleConditions(informationTable, indicesOfPositiveObjects, indicesOfPositiveObjects, indicesOfPositiveObjects, RuleType.CERTAIN, RuleSemantics.AT_LEAST);
+		RuleConditions otherRuleConditions = new RuleConditions(informationTable, indicesOfPositiveObjects, indicesOfPositiveObjects, indicesOfPositiveObjects, RuleType.CERTAIN, RuleSemantics.AT_LEAST);
+		
+		assertTrue(ruleConditions.hasConditionsOnlyForAttributesOf(otherRuleConditions)); //both empty
+		
+		ruleConditions.addCondition(mockCondition(1, informationTable, new int[0]));
+		ruleConditions.addCondition(mockCondition(70, informationTable, new int[0])); //attribute index from the second 64-bit word
+		assertFalse(ruleConditions.hasConditionsOnlyForAttributesOf(otherRuleConditions));
+		assertTrue(otherRuleConditions.hasConditionsOnlyForAttributesOf(ruleConditions));
+		
+		otherRuleConditions.addCondition(mockCondition(1, informationTable, new int[0]));
+		otherRuleConditions.addCondition(mockCondition(2, informationTable, new int[0]));
+		assertFalse(ruleConditions.hasConditionsOnlyForAttributesOf(otherRuleConditions)); //attribute 70 missing in other rule conditions
+		assertFalse(otherRuleConditions.hasConditionsOnlyForAttributesOf(ruleConditions)); //attribute 2 missing in rule conditions
+		
+		ruleConditions.addCondition(mockCondition(70, informationTable, new int[0])); //second condition for attribute 70
+		ruleConditions.removeCondition(1);
+		assertFalse(ruleConditions.hasConditionsOnlyForAttributesOf(otherRuleConditions)); //attribute 70 still involved
+		ruleConditions.removeCondition(1);
+		assertTrue(ruleConditions.hasConditionsOnlyForAttributesOf(otherRuleConditions));
+		assertFalse(otherRuleConditions.hasConditionsOnlyForAttributesOf(ruleConditions));
+		
+		otherRuleConditions.removeCondition(1);
+		assertTrue(otherRuleConditions.hasConditionsOnlyForAttributesOf(ruleConditions));
+		assertThrows(NullPointerException.class, () -> ruleConditions.hasConditionsOnlyForAttributesOf(null));
+	}
+	
+	/**
+	 * Test method for {@link RuleConditions#getIndicesOfCoveredObjectsWithoutCondition(int)}, {@link RuleConditions#getNumberOfCoveredNegativeObjectsWithoutCondition(int)},
+	 * and {@link RuleConditions#coversOnlyObjectsThatCanBeCoveredWithoutCondition(int)}, checking that counts of conditions not covering objects
+	 * are correctly updated when conditions are added and removed.
+	 */
+	@Test
+	void testCoverageWithoutCondition() {
+		InformationTable informationTable = Mockito.mock(InformationTable.class);
+		Mockito.when(informationTable.getNumberOfObjects()).thenReturn(70); //more than one 64-bit word
+		
+		IntSet indicesOfPositiveObjects = new IntOpenHashSet(new int[] {0, 1, 2, 3, 65});
+		IntSet indicesOfObjectsThatCanBeCovered = new IntOpenHashSet(new int[] {0, 1, 2, 3, 4, 5, 65, 66, 67});
+		IntSet indicesOfNeutralObjects = new IntOpenHashSet(new int[] {5});
+		
+		RuleConditions ruleConditions = new RuleConditions(informationTable, indicesOfPositiveObjects, indicesOfPositiveObjects, indicesOfObjectsThatCanBeCovered,
+				indicesOfNeutralObjects, RuleType.CERTAIN, RuleSemantics.AT_LEAST);
+		
+		ruleConditions.addCondition(mockCondition(0, informationTable, new int[] {0, 1, 2, 3, 4, 5, 6, 65, 66, 67}));
+		ruleConditions.addCondition(mockCondition(1, informationTable, new int[] {0, 1, 2, 3, 5, 65, 66, 68}));
+		ruleConditions.addCondition(mockCondition(2, informationTable, new int[] {0, 1, 2, 3, 4, 5, 65, 67, 68}));
+		//covered: 0, 1, 2, 3, 5, 65; object 4 not covered only by condition 1, 66 only by condition 2, 67 only by condition 1, 68 only by condition 0
+		
+		IntList coveredObjects = new IntArrayList(ruleConditions.getIndicesOfCoveredObjectsWithoutCondition(1));
+		coveredObjects.sort(null);
+		assertEquals(coveredObjects, new IntArrayList(new int[] {0, 1, 2, 3, 4, 5, 65, 67}));
+		assertEquals(ruleConditions.getNumberOfCoveredNegativeObjectsWithoutCondition(1), 2); //4, 67
+		assertEquals(ruleConditions.getNumberOfCoveredNegativeObjectsWithoutCondition(2), 1); //66
+		assertTrue(ruleConditions.coversOnlyObjectsThatCanBeCoveredWithoutCondition(1));
+		assertFalse(ruleConditions.coversOnlyObjectsThatCanBeCoveredWithoutCondition(0)); //68
+		
+		ruleConditions.removeCondition(1);
+		//covered: 0, 1, 2, 3, 4, 5, 65, 67; object 6 not covered only by condition 2 (formerly 2 conditions), 66 only by condition 1, 68 only by condition 0
+		assertEquals(ruleConditions.getNumberOfCoveredNegativeObjectsWithoutCondition(0), 3); //4, 67, 68
+		assertEquals(ruleConditions.getNumberOfCoveredNegativeObjectsWithoutCondition(1), 4); //4, 6, 66, 67
+		IntList coveredObjects2 = new IntArrayList(ruleConditions.getIndicesOfCoveredObjectsWithoutCondition(1));
+		coveredObjects2.sort(null);
+		assertEquals(coveredObjects2, new IntArrayList(new int[] {0, 1, 2, 3, 4, 5, 6, 65, 66, 67}));
+		assertFalse(ruleConditions.coversOnlyObjectsThatCanBeCoveredWithoutCondition(1)); //6
+		
+		ruleConditions.removeCondition(1);
+		assertEquals(ruleConditions.getNumberOfCoveredNegativeObjectsWithoutCondition(0), 64); //all objects except positive and neutral ones
+		assertThrows(IndexOutOfBoundsException.class, () -> ruleConditions.getNumberOfCoveredNegativeObjectsWithoutCondition(1));
+	}
+	
+	/**
+	 * Test method for {@link RuleConditions#addCondition(Condition)} and {@link RuleConditions#getIndicesOfCoveredObjectsWithoutCondition(int)},
+	 * checking that coverage is the same for learning information table with and without evaluations stored in a {@link ColumnarTable}.
+	 * 
+	 * @throws IOException if information table cannot be read
+	 */
+	@Test
+	void testCoverageTrackingOnColumnarInformationTable() throws IOException {
+		InformationTable informationTable = InformationTableBuilder.safelyBuildFromCSVFile("src/test/resources/data/csv/windsor.json", "src/test/resources/data/csv/windsor-mv.csv", false, '\t');
+		InformationTable columnarInformationTable = informationTable.toColumnar();
+		IntSet indicesOfPositiveObjects = new IntOpenHashSet(new int[] {0, 10, 20, 100, 200});
+		
+		RuleConditions ruleConditions = new RuleConditions(informationTable, indicesOfPositiveObjects, indicesOfPositiveObjects, indicesOfPositiveObjects,
+				IntSets.EMPTY_SET, RuleType.CERTAIN, RuleSemantics.AT_LEAST);
+		RuleConditions columnarRuleConditions = new RuleConditions(columnarInformationTable, indicesOfPositiveObjects, indicesOfPositiveObjects, indicesOfPositiveObjects,
+				IntSets.EMPTY_SET, RuleType.CERTAIN, RuleSemantics.AT_LEAST);
+		
+		for (int localAttributeIndex = 0; localAttributeIndex < 3; localAttributeIndex++) {
+			int attributeIndex = informationTable.translateLocalActiveConditionAttributeIndex2GlobalAttributeIndex(localAttributeIndex);
+			EvaluationAttributeWithContext attributeWithContext = new EvaluationAttributeWithContext((EvaluationAttribute)informationTable.getAttribute(attributeIndex), attributeIndex);
+			Condition<EvaluationField> condition = new ConditionAtLeastThresholdVSObject<EvaluationField>(attributeWithContext, (EvaluationField)informationTable.getField(20, attributeIndex));
+			ruleConditions.addCondition(condition);
+			columnarRuleConditions.addCondition(condition);
+			assertEquals(ruleConditions.getIndicesOfCoveredObjects(), columnarRuleConditions.getIndicesOfCoveredObjects());
+		}
+		
+		for (int conditionIndex = 0; conditionIndex < 3; conditionIndex++) {
+			assertEquals(ruleConditions.getIndicesOfCoveredObjectsWithoutCondition(conditionIndex), columnarRuleConditions.getIndicesOfCoveredObjectsWithoutCondition(conditionIndex));
+		}
+	}
+	
+	/**
+	 * Test method for methods counting covered objects assuming addition of a condition, checking that counts are the same for learning information table
+	 * with and without evaluations stored in a {@link ColumnarTable}, also when counting methods are invoked concurrently.
+	 * 
+	 * @throws IOException if information table cannot be read
+	 */
+	@Test
+	void testCountingWithConditionOnColumnarInformationTable() throws IOException {
+		InformationTable informationTable = InformationTableBuilder.safelyBuildFromCSVFile("src/test/resources/data/csv/windsor.json", "src/test/resources/data/csv/windsor-mv.csv", false, '\t');
+		IntSet indicesOfPositiveObjects = new IntOpenHashSet(new int[] {0, 10, 20, 100, 200, 300});
+		IntSet indicesOfApproximationObjects = new IntOpenHashSet(new int[] {0, 10, 20, 100});
+		IntSet indicesOfNeutralObjects = new IntOpenHashSet(new int[] {1, 2, 3});
+		
+		RuleConditions ruleConditions = new RuleConditions(informationTable, indicesOfPositiveObjects, indicesOfApproximationObjects, indicesOfPositiveObjects,
+				indicesOfNeutralObjects, RuleType.CERTAIN, RuleSemantics.AT_LEAST);
+		RuleConditions columnarRuleConditions = new RuleConditions(informationTable.toColumnar(), indicesOfPositiveObjects, indicesOfApproximationObjects, indicesOfPositiveObjects,
+				indicesOfNeutralObjects, RuleType.CERTAIN, RuleSemantics.AT_LEAST);
+		
+		int attributeIndex = informationTable.translateLocalActiveConditionAttributeIndex2GlobalAttributeIndex(0);
+		EvaluationAttributeWithContext attributeWithContext = new EvaluationAttributeWithContext((EvaluationAttribute)informationTable.getAttribute(attributeIndex), attributeIndex);
+		Condition<EvaluationField> condition = new ConditionAtLeastThresholdVSObject<EvaluationField>(attributeWithContext, (EvaluationField)informationTable.getField(300, attributeIndex));
+		ruleConditions.addCondition(condition);
+		columnarRuleConditions.addCondition(condition);
+		
+		int candidateAttributesCount = 5;
+		ForkJoinPool forkJoinPool = new ForkJoinPool(4);
+		try {
+			forkJoinPool.submit(() -> IntStream.range(1, 1 + candidateAttributesCount).parallel().forEach(localAttributeIndex -> {
+				int candidateAttributeIndex = informationTable.translateLocalActiveConditionAttributeIndex2GlobalAttributeIndex(localAttributeIndex);
+				Condition<EvaluationField> candidateCondition = new ConditionAtLeastThresholdVSObject<EvaluationField>(
+						new EvaluationAttributeWithContext((EvaluationAttribute)informationTable.getAttribute(candidateAttributeIndex), candidateAttributeIndex),
+						(EvaluationField)informationTable.getField(100, candidateAttributeIndex));
+				
+				assertEquals(ruleConditions.getNumberOfCoveredObjectsWithCondition(candidateCondition), columnarRuleConditions.getNumberOfCoveredObjectsWithCondition(candidateCondition));
+				assertEquals(ruleConditions.getNumberOfCoveredPositiveObjectsWithCondition(candidateCondition), columnarRuleConditions.getNumberOfCoveredPositiveObjectsWithCondition(candidateCondition));
+				assertEquals(ruleConditions.getNumberOfCoveredApproximationObjectsWithCondition(candidateCondition), columnarRuleConditions.getNumberOfCoveredApproximationObjectsWithCondition(candidateCondition));
+				assertEquals(ruleConditions.getNumberOfCoveredNegativeObjectsWithCondition(candidateCondition), columnarRuleConditions.getNumberOfCoveredNegativeObjectsWithCondition(candidateCondition));
+				assertEquals(ruleConditions.getNumberOfCoveredObjectsOutsideApproximationWithCondition(candidateCondition),
+						columnarRuleConditions.getNumberOfCoveredObjectsOutsideApproximationWithCondition(candidateCondition));
+				
+				IntList coveredObjects = ruleConditions.getIndicesOfCoveredObjectsWithCondition(candidateCondition);
+				assertEquals(coveredObjects.size(), ruleConditions.getNumberOfCoveredObjectsWithCondition(candidateCondition));
+			})).get();
+		} catch (InterruptedException | ExecutionException exception) {
+			fail(exception.toString());
+		} finally {
+			forkJoinPool.shutdown();
+		}
+	}
+	
 }
@@ -16,14 +16,24 @@
 
 package org.rulelearn.rules;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.rulelearn.core.InvalidSizeException;
 
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
+import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
+import it.unimi.dsi.fastutil.ints.IntSet;
+
 /**
  * Tests for {@link RuleSetWithComputableCharacteristics}.
  *
@@ -190,5 +200,70 @@ class RuleSetWithComputableCharacteristicsTest {
 		assertTrue(computableRuleCharacteristics == ruleSetWithComputableCharacteristics.getRuleCharacteristics(1)); //test if existing object is returned
 		
 	}
+	
+	/**
+	 * Test method for {@link RuleSetWithComputableCharacteristics#calculateAllCharacteristics(ForkJoinPool)}, checking that characteristics
+	 * calculated in parallel are the same as characteristics calculated lazily by their getters.
+	 */
+	@Test
+	void testCalculateAllCharacteristicsForkJoinPool() {
+		int rulesCount = 4 * RuleSetWithComputableCharacteristics.RULES_PER_TASK + 1;
+		int allObjectsCount = 50;
+		Random random = new Random(0L);
+		Rule[] rules = new Rule[rulesCount];
+		RuleCoverageInformation[] ruleCoverageInformationArray = new RuleCoverageInformation[rulesCount];
+		
+		for (int i = 0; i < rulesCount; i++) {
+			IntSet indicesOfPositiveObjects = new IntOpenHashSet();
+			IntSet indicesOfNeutralObjects = new IntOpenHashSet();
+			IntList indicesOfCoveredObjects = new IntArrayList();
+			for (int j = 0; j < allObjectsCount; j++) {
+				switch (random.nextInt(3)) {
+				case 0:
+					indicesOfPositiveObjects.add(j);
+					break;
+				case 1:
+					indicesOfNeutralObjects.add(j);
+					break;
+				default:
+					break; //negative object
+				}
+				if (random.nextBoolean()) {
+					indicesOfCoveredObjects.add(j);
+				}
+			}
+			rules[i] = Mockito.mock(Rule.class);
+			ruleCoverageInformationArray[i] = new RuleCoverageInformation(indicesOfPositiveObjects, indicesOfNeutralObjects, indicesOfCoveredObjects, allObjectsCount);
+		}
+		
+		RuleSetWithComputableCharacteristics ruleSet = new RuleSetWithComputableCharacteristics(rules, ruleCoverageInformationArray);
+		ForkJoinPool forkJoinPool = new ForkJoinPool(4);
+		try {
+			ruleSet.calculateAllCharacteristics(forkJoinPool);
+		} finally {
+			forkJoinPool.shutdown();
+		}
+		
+		for (int i = 0; i < rulesCount; i++) {
+			//each characteristic is calculated lazily by its own getter, on characteristics not calculated before
+			ComputableRuleCharacteristics actual = ruleSet.getRuleCharacteristics(i);
+			assertEquals(new ComputableRuleCharacteristics(ruleCoverageInformationArray[i]).getSupport(), actual.support);
+			assertEquals(new ComputableRuleCharacteristics(ruleCoverageInformationArray[i]).getStrength(), actual.strength);
+			assertEquals(new ComputableRuleCharacteristics(ruleCoverageInformationArray[i]).getConfidence(), actual.confidence);
+			assertEquals(new ComputableRuleCharacteristics(ruleCoverageInformationArray[i]).getCoverageFactor(), actual.coverageFactor);
+			assertEquals(new ComputableRuleCharacteristics(ruleCoverageInformationArray[i]).getCoverage(), actual.coverage);
+			assertEquals(new ComputableRuleCharacteristics(ruleCoverageInformationArray[i]).getNegativeCoverage(), actual.negativeCoverage);
+			assertEquals(new ComputableRuleCharacteristics(ruleCoverageInformationArray[i]).getEpsilon(), actual.epsilon);
+			assertEquals(new ComputableRuleCharacteristics(ruleCoverageInformationArray[i]).getEpsilonPrime(), actual.epsilonPrime);
+			assertEquals(new ComputableRuleCharacteristics(ruleCoverageInformationArray[i]).getFConfirmation(), actual.fConfirmation);
+			assertEquals(new ComputableRuleCharacteristics(ruleCoverageInformationArray[i]).getAConfirmation(), actual.aConfirmation);
+			assertEquals(new ComputableRuleCharacteristics(ruleCoverageInformationArray[i]).getZConfirmation(), actual.zConfirmation);
+			assertEquals(new ComputableRuleCharacteristics(ruleCoverageInformationArray[i]).getLConfirmation(), actual.lConfirmation);
+			assertEquals(new ComputableRuleCharacteristics(ruleCoverageInformationArray[i]).getC1Confirmation(), actual.c1Confirmation);
+			assertEquals(new ComputableRuleCharacteristics(ruleCoverageInformationArray[i]).getSConfirmation(), actual.sConfirmation);
+		}
+		
+		assertThrows(NullPointerException.class, () -> ruleSet.calculateAllCharacteristics(null));
+	}
 
 }
@@ -0,0 +1,126 @@
+/**
+ * Copyright (C) Jerzy Błaszczyński, Marcin Szeląg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.rulelearn.rules;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.rulelearn.approximations.Union;
+import org.rulelearn.approximations.Unions;
+import org.rulelearn.approximations.UnionsWithSingleLimitingDecision;
+import org.rulelearn.approximations.VCDominanceBasedRoughSetCalculator;
+import org.rulelearn.data.InformationTable;
+import org.rulelearn.data.InformationTableBuilder;
+import org.rulelearn.data.InformationTableWithDecisionDistributions;
+import org.rulelearn.measures.dominance.EpsilonConsistencyMeasure;
+
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+
+/**
+ * Tests for {@link SingleEvaluationRuleMinimalityChecker}.
+ *
+ * @author Jerzy Błaszczyński (<a href="mailto:jurek.blaszczynski@cs.put.poznan.pl">jurek.blaszczynski@cs.put.poznan.pl</a>)
+ * @author Marcin Szeląg (<a href="mailto:marcin.szelag@cs.put.poznan.pl">marcin.szelag@cs.put.poznan.pl</a>)
+ */
+class SingleEvaluationRuleMinimalityCheckerTest {
+
+	/**
+	 * Checks minimality of given rule by comparing it with each prior rule in turn, without any prefiltering.
+	 *
+	 * @param ruleSet prior rules
+	 * @param rule tested rule
+	 * @param ruleConditionsEvaluator rule conditions evaluator used to evaluate compared decision rules
+	 * @return {@code true} if tested rule is minimal, {@code false} otherwise
+	 */
+	private boolean checkLinearly(List<RuleConditionsWithApproximatedSet> ruleSet, RuleConditionsWithApproximatedSet rule, RuleConditionsEvaluator ruleConditionsEvaluator) {
+		for (RuleConditionsWithApproximatedSet priorRule : ruleSet) {
+			if (rule.getApproximatedSet().includes(priorRule.getApproximatedSet()) &&
+					rule.getRuleConditions().isLessOrEquallyGeneralAs(priorRule.getRuleConditions()) &&
+					ruleConditionsEvaluator.confront(rule.getRuleConditions(), priorRule.getRuleConditions()) <= 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Test for {@link SingleEvaluationRuleMinimalityChecker#check(List, RuleConditionsWithApproximatedSet)}, checking that verdicts concerning rules induced
+	 * by VC-DomLEM algorithm from "windsor" data set are the same as verdicts obtained by comparing each tested rule with each prior rule in turn.
+	 */
+	@Test
+	void testCheckSameVerdictsAsLinearScan() {
+		InformationTable informationTable = null;
+		try {
+			informationTable = InformationTableBuilder.buildFromCSVFile("src/test/resources/data/csv/windsor.json", "src/test/resources/data/csv/windsor.csv", false, '\t');
+		}
+		catch (IOException exception) {
+			fail(exception.toString());
+		}
+
+		RuleConditionsEvaluator ruleConditionsEvaluator = EpsilonConsistencyMeasure.getInstance();
+		int[] counts = {0, 0}; //number of checks, number of rules found to be not minimal
+
+		RuleMinimalityChecker ruleMinimalityChecker = new SingleEvaluationRuleMinimalityChecker(ruleConditionsEvaluator) {
+			@Override
+			public boolean check(List<RuleConditionsWithApproximatedSet> ruleSet, RuleConditionsWithApproximatedSet rule) {
+				boolean ruleIsMinimal = super.check(ruleSet, rule);
+				assertEquals(checkLinearly(ruleSet, rule, ruleConditionsEvaluator), ruleIsMinimal);
+				counts[0]++;
+				if (!ruleIsMinimal) {
+					counts[1]++;
+				}
+				return ruleIsMinimal;
+			}
+		};
+
+		double consistencyThreshold = 0.1;
+		RuleInductionStoppingConditionChecker stoppingConditionChecker =
+				new EvaluationAndCoverageStoppingConditionChecker(EpsilonConsistencyMeasure.getInstance(), EpsilonConsistencyMeasure.getInstance(), consistencyThreshold);
+		RuleInducerComponents ruleInducerComponents = new CertainRuleInducerComponents.Builder().
+				ruleInductionStoppingConditionChecker(stoppingConditionChecker).
+				ruleConditionsPruner(new AttributeOrderRuleConditionsPruner(stoppingConditionChecker)).
+				ruleConditionsSetPruner(new DummyRuleConditionsSetPruner()). //keep redundant rules, so more rules are verified
+				ruleMinimalityChecker(ruleMinimalityChecker).
+				build();
+		Unions unions = new UnionsWithSingleLimitingDecision(new InformationTableWithDecisionDistributions(informationTable, true),
+				new VCDominanceBasedRoughSetCalculator(EpsilonConsistencyMeasure.getInstance(), consistencyThreshold));
+
+		new VCDomLEM(ruleInducerComponents, new UnionProvider(Union.UnionType.AT_LEAST, unions), new UnionWithSingleLimitingDecisionRuleDecisionsProvider()).generateRules();
+		new VCDomLEM(ruleInducerComponents, new UnionProvider(Union.UnionType.AT_MOST, unions), new UnionWithSingleLimitingDecisionRuleDecisionsProvider()).generateRules();
+
+		assertTrue(counts[0] > 0);
+		assertTrue(counts[1] > 0);
+	}
+
+	/**
+	 * Test for {@link SingleEvaluationRuleMinimalityChecker#check(List, RuleConditionsWithApproximatedSet)}, for {@code null} parameters.
+	 */
+	@Test
+	void testCheckNull() {
+		SingleEvaluationRuleMinimalityChecker ruleMinimalityChecker = new SingleEvaluationRuleMinimalityChecker(EpsilonConsistencyMeasure.getInstance());
+
+		assertThrows(NullPointerException.class, () -> ruleMinimalityChecker.check(null, null));
+		assertThrows(NullPointerException.class, () -> ruleMinimalityChecker.check(new ObjectArrayList<RuleConditionsWithApproximatedSet>(), null));
+	}
+
+}
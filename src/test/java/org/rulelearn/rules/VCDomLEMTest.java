@@ -24,6 +24,9 @@ import java.io.FileNotFoundException;
 import java.io.FileReader;
 import java.io.IOException;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
 
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
@@ -42,10 +45,12 @@ import org.rulelearn.data.IdentificationAttribute;
 import org.rulelearn.data.InformationTable;
 import org.rulelearn.data.InformationTableTestConfiguration;
 import org.rulelearn.data.InformationTableWithDecisionDistributions;
+import org.rulelearn.data.SortedEvaluationsIndex;
 import org.rulelearn.data.csv.ObjectParser;
 import org.rulelearn.data.json.AttributeParser;
 import org.rulelearn.measures.SupportMeasure;
 import org.rulelearn.measures.dominance.EpsilonConsistencyMeasure;
+import org.rulelearn.types.EvaluationField;
 import org.rulelearn.types.IntegerField;
 import org.rulelearn.types.IntegerFieldFactory;
 import org.rulelearn.types.RealField;
@@ -4077,4 +4082,163 @@ class VCDomLEMTest {
 				.toString();
 	}
 
+	/**
+	 * Tests if {@link VCDomLEM#generateRules(ExecutorService)} generates the same rules as {@link VCDomLEM#generateRules()},
+	 * for upward and downward unions of "windsor" data set using VC-DRSA.
+	 */
+	@Test
+	@Tag("integration")
+	public void testWindsorUnionsCertainRulesVCDRSAParallel() {
+		InformationTableWithDecisionDistributions informationTable = getInformationTableWindsor("src/test/resources/data/csv/windsor.json", "src/test/resources/data/csv/windsor.csv");
+		
+		double consistencyThreshold = 0.1;
+		RuleInductionStoppingConditionChecker stoppingConditionChecker =
+				new EvaluationAndCoverageStoppingConditionChecker(EpsilonConsistencyMeasure.getInstance(), EpsilonConsistencyMeasure.getInstance(), consistencyThreshold);
+		RuleInducerComponents ruleInducerComponents = new CertainRuleInducerComponents.Builder().
+				ruleInductionStoppingConditionChecker(stoppingConditionChecker).
+				ruleConditionsPruner(new AttributeOrderRuleConditionsPruner(stoppingConditionChecker)).
+				build();
+		ApproximatedSetRuleDecisionsProvider approximatedSetRuleDecisionsProvider = new UnionWithSingleLimitingDecisionRuleDecisionsProvider();
+		ExecutorService executorService = Executors.newFixedThreadPool(4);
+		
+		try {
+			for (UnionType unionType : new UnionType[] {UnionType.AT_LEAST, UnionType.AT_MOST}) {
+				RuleSetWithComputableCharacteristics expectedRuleSet = new VCDomLEM(ruleInducerComponents, new UnionProvider(unionType,
+						new UnionsWithSingleLimitingDecision(informationTable, new VCDominanceBasedRoughSetCalculator(EpsilonConsistencyMeasure.getInstance(), consistencyThreshold))),
+						approximatedSetRuleDecisionsProvider).generateRules();
+				RuleSetWithComputableCharacteristics ruleSet = new VCDomLEM(ruleInducerComponents, new UnionProvider(unionType,
+						new UnionsWithSingleLimitingDecision(informationTable, new VCDominanceBasedRoughSetCalculator(EpsilonConsistencyMeasure.getInstance(), consistencyThreshold))),
+						approximatedSetRuleDecisionsProvider).generateRules(executorService);
+				
+				assertEquals(expectedRuleSet.size(), ruleSet.size());
+				for (int i = 0; i < ruleSet.size(); i++) {
+					assertEquals(expectedRuleSet.getRule(i).toString(), ruleSet.getRule(i).toString());
+					assertEquals(expectedRuleSet.getRuleCharacteristics(i).getSupport(), ruleSet.getRuleCharacteristics(i).getSupport());
+					assertEquals(expectedRuleSet.getRuleCharacteristics(i).getConfidence(), ruleSet.getRuleCharacteristics(i).getConfidence());
+				}
+			}
+		}
+		finally {
+			executorService.shutdown();
+		}
+	}
+
+	/**
+	 * Tests if {@link M4OptimizedConditionGenerator} scanning attributes in parallel gives the same rules as {@link M4OptimizedConditionGenerator}
+	 * scanning attributes sequentially, for upward and downward unions of "windsor" data set using VC-DRSA.
+	 */
+	@Test
+	@Tag("integration")
+	public void testWindsorUnionsCertainRulesVCDRSAParallelConditionGenerator() {
+		InformationTableWithDecisionDistributions informationTable = getInformationTableWindsor("src/test/resources/data/csv/windsor.json", "src/test/resources/data/csv/windsor.csv");
+		
+		double consistencyThreshold = 0.1;
+		RuleInductionStoppingConditionChecker stoppingConditionChecker =
+				new EvaluationAndCoverageStoppingConditionChecker(EpsilonConsistencyMeasure.getInstance(), EpsilonConsistencyMeasure.getInstance(), consistencyThreshold);
+		MonotonicConditionAdditionEvaluator[] conditionAdditionEvaluators = {EpsilonConsistencyMeasure.getInstance(), SupportMeasure.getInstance()};
+		ForkJoinPool forkJoinPool = new ForkJoinPool(4);
+		
+		RuleInducerComponents ruleInducerComponents = new CertainRuleInducerComponents.Builder().
+				ruleInductionStoppingConditionChecker(stoppingConditionChecker).
+				conditionGenerator(new M4OptimizedConditionGenerator(conditionAdditionEvaluators)).
+				build();
+		RuleInducerComponents parallelRuleInducerComponents = new CertainRuleInducerComponents.Builder().
+				ruleInductionStoppingConditionChecker(stoppingConditionChecker).
+				conditionGenerator(new M4OptimizedConditionGenerator(conditionAdditionEvaluators, forkJoinPool)).
+				build();
+		ApproximatedSetRuleDecisionsProvider approximatedSetRuleDecisionsProvider = new UnionWithSingleLimitingDecisionRuleDecisionsProvider();
+		UnionsWithSingleLimitingDecision unions = new UnionsWithSingleLimitingDecision(informationTable,
+				new VCDominanceBasedRoughSetCalculator(EpsilonConsistencyMeasure.getInstance(), consistencyThreshold));
+		
+		try {
+			for (UnionType unionType : new UnionType[] {UnionType.AT_LEAST, UnionType.AT_MOST}) {
+				RuleSet expectedRuleSet = new VCDomLEM(ruleInducerComponents, new UnionProvider(unionType, unions), approximatedSetRuleDecisionsProvider).generateRules();
+				RuleSet ruleSet = new VCDomLEM(parallelRuleInducerComponents, new UnionProvider(unionType, unions), approximatedSetRuleDecisionsProvider).generateRules();
+				
+				assertEquals(expectedRuleSet.size(), ruleSet.size());
+				for (int i = 0; i < ruleSet.size(); i++) {
+					assertEquals(expectedRuleSet.getRule(i).toString(), ruleSet.getRule(i).toString());
+				}
+			}
+		}
+		finally {
+			forkJoinPool.shutdown();
+		}
+	}
+	
+	/**
+	 * Tests that {@link M4OptimizedConditionGenerator} using {@link SortedEvaluationsIndex} built for the learning information table
+	 * yields the same certain and possible rules as the generator comparing evaluations, on data without and with missing values.
+	 */
+	@Test
+	public void testWindsorUnionsRulesVCDRSASortedEvaluationsIndex() {
+		double consistencyThreshold = 0.1;
+		RuleInductionStoppingConditionChecker stoppingConditionChecker =
+				new EvaluationAndCoverageStoppingConditionChecker(EpsilonConsistencyMeasure.getInstance(), EpsilonConsistencyMeasure.getInstance(), consistencyThreshold);
+		MonotonicConditionAdditionEvaluator[] certainConditionAdditionEvaluators = {EpsilonConsistencyMeasure.getInstance(), SupportMeasure.getInstance()};
+		MonotonicConditionAdditionEvaluator[] possibleConditionAdditionEvaluators = (MonotonicConditionAdditionEvaluator[])PossibleRuleInducerComponents.DEFAULT_CONDITION_ADDITION_EVALUATORS;
+		ApproximatedSetRuleDecisionsProvider approximatedSetRuleDecisionsProvider = new UnionWithSingleLimitingDecisionRuleDecisionsProvider();
+		
+		for (String dataPath : new String[] {"src/test/resources/data/csv/windsor.csv", "src/test/resources/data/csv/windsor-mv.csv"}) {
+			InformationTableWithDecisionDistributions informationTable = getInformationTableWindsor("src/test/resources/data/csv/windsor.json", dataPath);
+			SortedEvaluationsIndex sortedEvaluationsIndex = new SortedEvaluationsIndex(informationTable);
+			UnionsWithSingleLimitingDecision[] unions = { //possible rules are induced from classical upper approximations
+					new UnionsWithSingleLimitingDecision(informationTable, new VCDominanceBasedRoughSetCalculator(EpsilonConsistencyMeasure.getInstance(), consistencyThreshold)),
+					new UnionsWithSingleLimitingDecision(informationTable, new ClassicalDominanceBasedRoughSetCalculator())};
+			
+			RuleInducerComponents[] ruleInducerComponents = {
+					new CertainRuleInducerComponents.Builder().ruleInductionStoppingConditionChecker(stoppingConditionChecker).
+						conditionGenerator(new M4OptimizedConditionGenerator(certainConditionAdditionEvaluators)).build(),
+					new PossibleRuleInducerComponents.Builder().
+						conditionGenerator(new M4OptimizedConditionGenerator(possibleConditionAdditionEvaluators)).build()};
+			RuleInducerComponents[] indexedRuleInducerComponents = {
+					new CertainRuleInducerComponents.Builder().ruleInductionStoppingConditionChecker(stoppingConditionChecker).
+						conditionGenerator(new M4OptimizedConditionGenerator(certainConditionAdditionEvaluators, sortedEvaluationsIndex)).build(),
+					new PossibleRuleInducerComponents.Builder().
+						conditionGenerator(new M4OptimizedConditionGenerator(possibleConditionAdditionEvaluators, sortedEvaluationsIndex)).build()};
+			
+			int componentsCount = dataPath.endsWith("-mv.csv") ? 1 : ruleInducerComponents.length; //default possible rule inducer components cannot induce rules from data with missing values
+			
+			for (int k = 0; k < componentsCount; k++) {
+				for (UnionType unionType : new UnionType[] {UnionType.AT_LEAST, UnionType.AT_MOST}) {
+					RuleSet expectedRuleSet = new VCDomLEM(ruleInducerComponents[k], new UnionProvider(unionType, unions[k]), approximatedSetRuleDecisionsProvider).generateRules();
+					RuleSet ruleSet = new VCDomLEM(indexedRuleInducerComponents[k], new UnionProvider(unionType, unions[k]), approximatedSetRuleDecisionsProvider).generateRules();
+					
+					assertEquals(expectedRuleSet.size(), ruleSet.size());
+					for (int i = 0; i < ruleSet.size(); i++) {
+						assertEquals(expectedRuleSet.getRule(i).toString(), ruleSet.getRule(i).toString());
+					}
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Tests that {@link M4OptimizedConditionGenerator} using {@link SortedEvaluationsIndex} returns the same best conditions as the generator comparing evaluations,
+	 * when the first condition addition evaluator improves with the number of covered objects (i.e., when limiting evaluations are generalized).
+	 */
+	@Test
+	public void testWindsorUnionsBestConditionSortedEvaluationsIndexGeneralizing() {
+		InformationTableWithDecisionDistributions informationTable = getInformationTableWindsor("src/test/resources/data/csv/windsor.json", "src/test/resources/data/csv/windsor-mv.csv");
+		SortedEvaluationsIndex sortedEvaluationsIndex = new SortedEvaluationsIndex(informationTable);
+		UnionsWithSingleLimitingDecision unions = new UnionsWithSingleLimitingDecision(informationTable, new ClassicalDominanceBasedRoughSetCalculator());
+		MonotonicConditionAdditionEvaluator[] conditionAdditionEvaluators = {SupportMeasure.getInstance(), EpsilonConsistencyMeasure.getInstance()};
+		
+		M4OptimizedConditionGenerator conditionGenerator = new M4OptimizedConditionGenerator(conditionAdditionEvaluators);
+		M4OptimizedConditionGenerator indexedConditionGenerator = new M4OptimizedConditionGenerator(conditionAdditionEvaluators, sortedEvaluationsIndex);
+		
+		for (Union union : unions.getUpwardUnions()) {
+			RuleConditions ruleConditions = new RuleConditions(informationTable, union.getObjects(), union.getLowerApproximation(), union.getUpperApproximation(), union.getNeutralObjects(),
+					RuleType.CERTAIN, RuleSemantics.AT_LEAST);
+			IntList consideredObjects = new IntArrayList(union.getLowerApproximation());
+			
+			for (int i = 0; i < 3 && !consideredObjects.isEmpty(); i++) {
+				Condition<EvaluationField> expectedCondition = conditionGenerator.getBestCondition(consideredObjects, ruleConditions);
+				assertEquals(expectedCondition, indexedConditionGenerator.getBestCondition(consideredObjects, ruleConditions));
+				ruleConditions.addCondition(expectedCondition);
+				consideredObjects.removeIf((java.util.function.IntPredicate)objectIndex -> !ruleConditions.covers(objectIndex));
+			}
+		}
+	}
+
 }
@@ -32,6 +32,7 @@ import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.rulelearn.data.Attribute;
 import org.rulelearn.data.InformationTable;
+import org.rulelearn.data.InformationTableBuilder;
 import org.rulelearn.data.json.AttributeParser;
 import org.rulelearn.rules.RuleSet;
 import org.rulelearn.rules.RuleSetWithCharacteristics;
@@ -169,4 +170,33 @@ class VCDomLEMWrapperTest {
 		}
 	}
 
+	/**
+	 * Test for {@link VCDomLEMWrapper#induceRules(InformationTable, double[])}, checking that rules induced for subsequent thresholds
+	 * are the same as rules induced separately for each threshold by {@link VCDomLEMWrapper#induceRules(InformationTable, double)}.
+	 */
+	@Test
+	@Tag("integration")
+	void testInduceRulesForThresholds() {
+		InformationTable informationTable = null;
+		try {
+			informationTable = InformationTableBuilder.buildFromCSVFile("src/test/resources/data/csv/windsor.json", "src/test/resources/data/csv/windsor.csv", false, '\t');
+		}
+		catch (IOException exception) {
+			fail(exception.toString());
+		}
+		
+		double[] consistencyThresholds = {0.0, 0.05, 0.1, 0.2};
+		VCDomLEMWrapper vcDomLEMWrapper = new VCDomLEMWrapper();
+		RuleSet[] ruleSets = vcDomLEMWrapper.induceRules(informationTable, consistencyThresholds);
+		
+		assertEquals(consistencyThresholds.length, ruleSets.length);
+		for (int i = 0; i < consistencyThresholds.length; i++) {
+			RuleSet expectedRuleSet = vcDomLEMWrapper.induceRules(informationTable, consistencyThresholds[i]);
+			assertEquals(expectedRuleSet.size(), ruleSets[i].size());
+			for (int j = 0; j < expectedRuleSet.size(); j++) {
+				assertEquals(expectedRuleSet.getRule(j).toString(), ruleSets[i].getRule(j).toString());
+			}
+		}
+	}
+
 }